@@ -0,0 +1,122 @@
+#!/usr/bin/env bash
+# jmh-compare.sh — flag JMH throughput regressions against a stored baseline.
+#
+# Usage:
+#   ./gradlew jmh
+#   scripts/jmh-compare.sh                                    # build/reports/jmh/results.json vs baseline
+#   scripts/jmh-compare.sh --threshold 5
+#   scripts/jmh-compare.sh --baseline old.json --results new.json
+#   scripts/jmh-compare.sh --update-baseline                  # accept the current results
+#
+# Benchmarks are matched on name + @Param values. For throughput (thrpt) results
+# a lower score is worse; for time-per-op modes (avgt, sample, ss) a higher score
+# is worse. Any benchmark that got worse by more than --threshold percent
+# (default 10) is reported as a REGRESSION. Benchmarks present on only one side
+# are listed but never fail the run.
+#
+# Baselines are machine-specific: record one on the same host (and JDK) you
+# compare on. See docs/runbook.md § "Microbenchmarks".
+#
+# Exits 0 if nothing regressed, 1 on any regression, 2 on usage errors.
+#
+# Requirements: bash, python3.
+
+set -euo pipefail
+
+# ── configuration ────────────────────────────────────────────────────────────
+BASELINE="docs/benchmarks/jmh-baseline.json"
+RESULTS="build/reports/jmh/results.json"
+THRESHOLD=10
+UPDATE=0
+
+usage() {
+    cat >&2 <<'USAGE'
+Usage: scripts/jmh-compare.sh [--baseline FILE] [--results FILE] [--threshold PCT] [--update-baseline]
+  --baseline FILE     stored baseline (default docs/benchmarks/jmh-baseline.json)
+  --results FILE      fresh `./gradlew jmh` output (default build/reports/jmh/results.json)
+  --threshold PCT     allowed slowdown in percent before failing (default 10)
+  --update-baseline   copy the results over the baseline instead of comparing
+USAGE
+}
+
+while [[ $# -gt 0 ]]; do
+    case "$1" in
+        --baseline)        BASELINE="${2:-}"; shift 2 ;;
+        --results)         RESULTS="${2:-}"; shift 2 ;;
+        --threshold)       THRESHOLD="${2:-}"; shift 2 ;;
+        --update-baseline) UPDATE=1; shift ;;
+        -h|--help)         usage; exit 0 ;;
+        *)                 echo "Unknown argument: $1" >&2; usage; exit 2 ;;
+    esac
+done
+
+if [[ ! -f "$RESULTS" ]]; then
+    echo "No JMH results at $RESULTS — run ./gradlew jmh first." >&2
+    exit 2
+fi
+
+if [[ "$UPDATE" -eq 1 ]]; then
+    mkdir -p "$(dirname "$BASELINE")"
+    cp "$RESULTS" "$BASELINE"
+    echo "Baseline updated: $BASELINE"
+    exit 0
+fi
+
+if [[ ! -f "$BASELINE" ]]; then
+    echo "No baseline at $BASELINE — record one with --update-baseline." >&2
+    exit 2
+fi
+
+# ── comparison ───────────────────────────────────────────────────────────────
+python3 - "$BASELINE" "$RESULTS" "$THRESHOLD" <<'PY'
+import json
+import sys
+
+baseline_path, results_path, threshold = sys.argv[1], sys.argv[2], float(sys.argv[3])
+
+
+def load(path):
+    scores = {}
+    with open(path, encoding="utf-8") as handle:
+        for run in json.load(handle):
+            params = run.get("params") or {}
+            key = run["benchmark"] + "".join(
+                f" {name}={params[name]}" for name in sorted(params))
+            metric = run["primaryMetric"]
+            scores[key] = (run["mode"], metric["score"], metric["scoreUnit"])
+    return scores
+
+
+baseline = load(baseline_path)
+results = load(results_path)
+regressions = 0
+
+print(f"{'benchmark':<90} {'baseline':>14} {'current':>14} {'change':>9}")
+for key in sorted(results):
+    mode, score, unit = results[key]
+    if key not in baseline:
+        print(f"{key:<90} {'-':>14} {score:>14.3f} {'new':>9}")
+        continue
+    base_mode, base_score, base_unit = baseline[key]
+    if base_mode != mode or base_unit != unit:
+        print(f"{key:<90} {'-':>14} {score:>14.3f} {'n/a':>9}  (mode/unit changed: {base_mode} {base_unit})")
+        continue
+    if base_score == 0:
+        continue
+    change = (score - base_score) / base_score * 100.0
+    # Throughput: higher is better. Every other JMH mode reports time per operation.
+    slowdown = -change if mode == "thrpt" else change
+    flag = ""
+    if slowdown > threshold:
+        flag = "  REGRESSION"
+        regressions += 1
+    print(f"{key:<90} {base_score:>14.3f} {score:>14.3f} {change:>+8.1f}%{flag} {unit}")
+
+for key in sorted(set(baseline) - set(results)):
+    print(f"{key:<90} {baseline[key][1]:>14.3f} {'-':>14} {'missing':>9}")
+
+if regressions:
+    print(f"\nFAIL: {regressions} benchmark(s) regressed by more than {threshold:g}%")
+    sys.exit(1)
+print(f"\nPASS: no benchmark regressed by more than {threshold:g}%")
+PY
@@ -0,0 +1,76 @@
+package io.taanielo.jmud.bootstrap;
+
+import java.time.Duration;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.taanielo.jmud.core.authentication.Password;
+import io.taanielo.jmud.core.authentication.User;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.server.socket.DefaultClientPool;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+/**
+ * Shared JMH fixture: the full {@link GameContext} built from {@code data/} exactly as the server
+ * boots it, once per fork. The tick scheduler is never started, so benchmarks drive the tick-loop
+ * collaborators directly on the benchmark thread.
+ *
+ * <p>The {@code jmh} Gradle task runs in {@code build/jmh/work}, a fresh copy of {@code data/} and
+ * {@code effects/}, so the relative paths resolve to the real content while everything the context
+ * writes ({@code logs/}, {@code players/}, auction and world-state saves) lands in the copy.
+ */
+@State(Scope.Benchmark)
+public class GameContextState {
+
+    private GameContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = GameContext.create(new DefaultClientPool());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.persistenceQueue().flush(Duration.ofSeconds(5));
+        context.persistenceQueue().close();
+        context.auditService().shutdown(Duration.ofSeconds(5));
+    }
+
+    /**
+     * Returns the booted game context.
+     */
+    public GameContext context() {
+        return context;
+    }
+
+    /**
+     * Saves {@code player} to the context's player repository, so lookups by name find it as they
+     * would an online player's, and returns it.
+     *
+     * @param player the player to save
+     * @return the saved player
+     */
+    public Player save(Player player) {
+        try {
+            context.playerRepository().savePlayer(player);
+        } catch (RepositoryException e) {
+            throw new IllegalStateException("Failed to save benchmark player: " + e.getMessage(), e);
+        }
+        return player;
+    }
+
+    /**
+     * Creates a fresh level-1 player that is never saved, for benchmarks that need an actor.
+     *
+     * @param name the player's username
+     * @return a new in-memory player
+     */
+    public static Player player(String name) {
+        return Player.of(User.of(Username.of(name), Password.hash("bench", 1000)), "prompt");
+    }
+}
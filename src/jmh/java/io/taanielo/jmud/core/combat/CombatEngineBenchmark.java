@@ -0,0 +1,52 @@
+package io.taanielo.jmud.core.combat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.taanielo.jmud.bootstrap.GameContextState;
+import io.taanielo.jmud.core.effects.EffectRepositoryException;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+/**
+ * One player-versus-player swing through the production {@link CombatEngine} wired from
+ * {@code data/}: attack lookup, modifier and armour resolution, the hit/crit/parry rolls, and
+ * message rendering.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CombatEngineBenchmark {
+
+    private static final AttackId ATTACK = AttackId.of("attack.iron-sword");
+
+    private CombatEngine combatEngine;
+    private Player attacker;
+    private Player target;
+
+    @Setup(Level.Trial)
+    public void setUp(GameContextState world) {
+        combatEngine = world.context().combatEngine();
+        attacker = GameContextState.player("benchattacker");
+        target = GameContextState.player("benchtarget");
+    }
+
+    @Benchmark
+    public CombatResult resolve() throws RepositoryException, EffectRepositoryException {
+        return combatEngine.resolve(attacker, target, ATTACK);
+    }
+}
@@ -0,0 +1,96 @@
+package io.taanielo.jmud.core.content.repository.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.taanielo.jmud.core.ability.repository.json.JsonAbilityRepository;
+import io.taanielo.jmud.core.combat.repository.json.JsonAttackRepository;
+import io.taanielo.jmud.core.effects.repository.json.JsonEffectRepository;
+import io.taanielo.jmud.core.mob.repository.json.JsonMobTemplateRepository;
+import io.taanielo.jmud.core.quest.repository.json.JsonQuestRepository;
+import io.taanielo.jmud.core.reload.PreparedItemReload;
+import io.taanielo.jmud.core.world.repository.json.JsonItemRepository;
+import io.taanielo.jmud.core.world.repository.json.JsonRoomRepository;
+
+/**
+ * Compares loading the packed part of the world — items, rooms, mobs, attacks, skills, quests and
+ * effects — from the JSON files ({@code json}) with loading it from a compiled content pack
+ * ({@code pack}). Each operation is one cold load as the server does it at start-up: choose the
+ * source (for {@code pack}: stat every source file, map the pack and verify its checksum), then read
+ * every document through the repositories, sequentially so the numbers show work rather than
+ * parallelism.
+ *
+ * <p>Only the ratio between {@code json} and {@code pack} within one run means anything: both
+ * depend on the JVM and on whether the files are already in the page cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContentPackBootBenchmark {
+
+    private static final List<Path> DIRECTORIES = List.of(
+        Path.of("data", "items"),
+        Path.of("data", "rooms"),
+        Path.of("data", "mobs"),
+        Path.of("data", "attacks"),
+        Path.of("data", "skills"),
+        Path.of("data", "quests"),
+        Path.of("effects"));
+
+    @Param({"json", "pack"})
+    public String source;
+
+    private Path packPath;
+
+    @Setup
+    public void setUp() throws IOException {
+        packPath = Files.createTempFile("jmud-content-", ".pack");
+        ContentPack.compile(DIRECTORIES, packPath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(packPath);
+    }
+
+    @Benchmark
+    public int load() throws Exception {
+        JsonDocumentSource documents = JsonDocumentSource.FILES;
+        if ("pack".equals(source)) {
+            ContentPackSource packSource = new ContentPackSource(packPath, DIRECTORIES);
+            if (!packSource.select()) {
+                throw new IllegalStateException("Content pack " + packPath + " was not selected");
+            }
+            documents = packSource;
+        }
+        Path data = Path.of("data");
+        JsonItemRepository items = new JsonItemRepository(data, documents);
+        PreparedItemReload preparedItems = items.prepareItems();
+        return preparedItems.count()
+            + new JsonRoomRepository(items, data, documents).prepareRooms(preparedItems::find).count()
+            + new JsonMobTemplateRepository(data, documents).findAll().size()
+            + new JsonAttackRepository(data, documents).prepareDefinitions().count()
+            + new JsonAbilityRepository(data, documents).findAll().size()
+            + new JsonQuestRepository(data, documents).findAll().size()
+            + new JsonEffectRepository(Path.of("."), documents).prepareDefinitions().count();
+    }
+}
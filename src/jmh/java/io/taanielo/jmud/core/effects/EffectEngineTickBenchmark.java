@@ -0,0 +1,59 @@
+package io.taanielo.jmud.core.effects;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.taanielo.jmud.bootstrap.GameContextState;
+import io.taanielo.jmud.core.player.Player;
+
+/**
+ * One {@link EffectEngine#tick} of a player carrying a buff, a haste, and a poison from
+ * {@code effects/}. The effects are given durations far longer than an iteration so every
+ * invocation ticks the same three effects down and none expires mid-measurement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EffectEngineTickBenchmark {
+
+    private static final List<EffectId> EFFECTS =
+        List.of(EffectId.of("bless"), EffectId.of("haste"), EffectId.of("poison"));
+    private static final EffectMessageSink DISCARD = _ -> { };
+
+    private EffectEngine effectEngine;
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp(GameContextState world) {
+        effectEngine = world.context().effectEngine();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetEffects() {
+        player = GameContextState.player("benchaffected");
+        for (EffectId id : EFFECTS) {
+            player.addEffect(EffectInstance.of(id, Integer.MAX_VALUE));
+        }
+    }
+
+    @Benchmark
+    public Player tick() throws EffectRepositoryException {
+        effectEngine.tick(player, DISCARD);
+        return player;
+    }
+}
@@ -0,0 +1,95 @@
+package io.taanielo.jmud.core.messaging;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.taanielo.jmud.core.authentication.Username;
+
+/**
+ * {@link MessageRenderer#render} of a typical combat line (the iron-sword hit from
+ * {@code data/attacks}) for each audience channel.
+ *
+ * <p>{@code combatRound*} render all three channels of one hit to strings: through
+ * {@link MessageRenderer#render}, as the server does, and through the chained {@link String#replace}
+ * calls the renderer used before templates were compiled. Run with {@code -Pjmh.prof=gc} and compare
+ * {@code gc.alloc.rate.norm} (bytes per operation) to see the allocation difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageRendererBenchmark {
+
+    private static final MessageSpec SELF = new MessageSpec(MessagePhase.ATTACK_HIT, MessageChannel.SELF,
+        "You slash {target} with your iron sword. Your strike {verb} them!");
+    private static final MessageSpec TARGET = new MessageSpec(MessagePhase.ATTACK_HIT, MessageChannel.TARGET,
+        "{source} slashes you with an iron sword. The blows {verb} you!");
+    private static final MessageSpec ROOM = new MessageSpec(MessagePhase.ATTACK_HIT, MessageChannel.ROOM,
+        "{source} slashes {target} with an iron sword.");
+    private static final MessageSpec[] COMBAT_ROUND = {SELF, TARGET, ROOM};
+    private static final MessageContext CONTEXT = new MessageContext(
+        Username.of("aria"), Username.of("brom"), "Aria", "Brom", null, null, null, 7, "mauls", "maul");
+
+    private final MessageRenderer renderer = new MessageRenderer();
+
+    @Benchmark
+    public String renderSelf() {
+        return renderer.render(SELF, CONTEXT);
+    }
+
+    @Benchmark
+    public String renderTarget() {
+        return renderer.render(TARGET, CONTEXT);
+    }
+
+    @Benchmark
+    public String renderRoom() {
+        return renderer.render(ROOM, CONTEXT);
+    }
+
+    @Benchmark
+    public void combatRoundCompiled(Blackhole blackhole) {
+        for (MessageSpec spec : COMBAT_ROUND) {
+            blackhole.consume(renderer.render(spec, CONTEXT));
+        }
+    }
+
+    @Benchmark
+    public void combatRoundReplaceChain(Blackhole blackhole) {
+        blackhole.consume(replaceChain(SELF, CONTEXT));
+        blackhole.consume(replaceChain(TARGET, CONTEXT));
+        blackhole.consume(replaceChain(ROOM, CONTEXT));
+    }
+
+    /** The renderer's former implementation, kept as the allocation baseline. */
+    private static String replaceChain(MessageSpec spec, MessageContext context) {
+        String verb = spec.channel() == MessageChannel.TARGET
+            ? context.verbSecondPerson()
+            : context.verbThirdPerson();
+        return spec.text()
+            .replace("{source}", valueOf(context.sourceName()))
+            .replace("{target}", valueOf(context.targetName()))
+            .replace("{name}", valueOf(context.targetName()))
+            .replace("{item}", valueOf(context.itemName()))
+            .replace("{effect}", valueOf(context.effectName()))
+            .replace("{ability}", valueOf(context.abilityName()))
+            .replace("{verb}", valueOf(verb))
+            .replace("{damage}", context.damage() == null ? "" : String.valueOf(context.damage()));
+    }
+
+    private static String valueOf(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,118 @@
+package io.taanielo.jmud.core.mob;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jspecify.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.combat.AttackId;
+import io.taanielo.jmud.core.effects.ControlType;
+import io.taanielo.jmud.core.world.RoomId;
+
+/**
+ * Heap footprint of one {@link MobInstance}: run with {@code -Pjmh.prof=gc} and read
+ * {@code gc.alloc.rate.norm}, the bytes allocated per operation. Each operation builds exactly the
+ * objects a live mob keeps, so that figure is the bytes each spawn adds to the heap.
+ *
+ * <p>{@code spawn} is an idle world mob; {@code spawnEngaged} is one fighting a single player. The
+ * figures depend on the JVM and its object layout (compressed oops, object header size), so compare
+ * runs made on the project toolchain rather than quoting fixed numbers.
+ *
+ * <p>{@code legacySpawn} and {@code legacySpawnEngaged} build {@link LegacyMobLayout}, a copy of the
+ * fields {@code MobInstance} held before it moved to primitive, tick-confined state (a random
+ * {@link UUID}, a concurrent engaged-player set and one atomic per counter or reference). They are
+ * the "before" half of the comparison, measured in the same run as the current layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MobInstanceFootprintBenchmark {
+
+    private static final Username PLAYER = Username.of("benchplayer");
+
+    private final MobTemplate template = new MobTemplate(
+        MobId.of("mob.benchgoblin"), "Goblin", 100, AttackId.of("attack.basic"), null, true,
+        List.of(), RoomId.of("benchroom"), 1, 10, 5, null, List.of(), false);
+
+    @Benchmark
+    public MobInstance spawn() {
+        return new MobInstance(template);
+    }
+
+    @Benchmark
+    public MobInstance spawnEngaged() {
+        MobInstance mob = new MobInstance(template);
+        mob.engage(PLAYER);
+        return mob;
+    }
+
+    @Benchmark
+    public LegacyMobLayout legacySpawn() {
+        return new LegacyMobLayout(template);
+    }
+
+    @Benchmark
+    public LegacyMobLayout legacySpawnEngaged() {
+        LegacyMobLayout mob = new LegacyMobLayout(template);
+        mob.engagedPlayers.add(PLAYER);
+        return mob;
+    }
+
+    /**
+     * The per-mob state of {@code MobInstance} before its compact layout, field for field, kept only
+     * so its footprint can be measured. A world mob left the companion and ownership fields null.
+     * The fields are package-private so the unused-field check accepts a class nothing reads.
+     */
+    public static final class LegacyMobLayout {
+        final UUID instanceId = UUID.randomUUID();
+        final MobTemplate template;
+        final AtomicInteger hp;
+        final int maxHp;
+        final @Nullable CompanionScaling companionScaling = null;
+        final Set<Username> engagedPlayers = ConcurrentHashMap.newKeySet();
+        final AtomicBoolean specialAbilityUsed = new AtomicBoolean(false);
+        final AtomicReference<Username> taunter = new AtomicReference<>();
+        final AtomicInteger tauntTicksRemaining = new AtomicInteger(0);
+        final AtomicInteger telegraphTicksRemaining = new AtomicInteger(0);
+        final AtomicReference<AttackId> telegraphAttackId = new AtomicReference<>();
+        final AtomicReference<Username> telegraphTarget = new AtomicReference<>();
+        final AtomicInteger enrageDecisions = new AtomicInteger(0);
+        final AtomicBoolean enraged = new AtomicBoolean(false);
+        final AtomicBoolean reinforcementTriggered = new AtomicBoolean(false);
+        final AtomicReference<ControlType> control = new AtomicReference<>();
+        final AtomicInteger controlTicksRemaining = new AtomicInteger(0);
+        volatile RoomId currentRoomId;
+        final @Nullable Username summoner = null;
+        final AtomicInteger summonTicksRemaining = new AtomicInteger(0);
+        final @Nullable Username owner = null;
+        volatile @Nullable String customName;
+        volatile @Nullable String customDescription;
+        volatile @Nullable MobRoomIndex roomIndex;
+
+        LegacyMobLayout(MobTemplate template) {
+            this.template = template;
+            this.maxHp = template.maxHp();
+            this.hp = new AtomicInteger(maxHp);
+            this.currentRoomId = template.spawnRoomId();
+        }
+    }
+}
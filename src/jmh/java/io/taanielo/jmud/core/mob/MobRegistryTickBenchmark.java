@@ -0,0 +1,73 @@
+package io.taanielo.jmud.core.mob;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.taanielo.jmud.bootstrap.GameContextState;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerVitals;
+import io.taanielo.jmud.core.world.RoomId;
+import io.taanielo.jmud.core.world.RoomService;
+
+/**
+ * One {@link MobRegistry#tick()} over every mob spawned from {@code data/mobs}.
+ *
+ * <p>{@code idle} measures an empty world. {@code occupied} parks one saved player in every mob spawn
+ * room, so every mob is an AI candidate each tick and aggressive mobs resolve real attacks against a
+ * target they load from the player repository. The players get an HP pool no run can exhaust, so
+ * every iteration measures fighting rather than mobs skipping a dead target.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MobRegistryTickBenchmark {
+
+    private static final int BENCH_HP = 1_000_000_000;
+
+    @Param({"idle", "occupied"})
+    public String occupancy;
+
+    private MobRegistry mobRegistry;
+
+    @Setup(Level.Trial)
+    public void setUp(GameContextState world) {
+        mobRegistry = world.context().mobRegistry();
+        if (!"occupied".equals(occupancy)) {
+            return;
+        }
+        RoomService roomService = world.context().roomService();
+        Set<RoomId> spawnRooms = new LinkedHashSet<>();
+        for (MobInstance mob : mobRegistry.allInstances()) {
+            spawnRooms.add(mob.template().spawnRoomId());
+        }
+        int index = 0;
+        for (RoomId roomId : spawnRooms) {
+            Player player = GameContextState.player(String.format(Locale.ROOT, "benchplayer%d", index++));
+            player = world.save(player.withVitals(new PlayerVitals(BENCH_HP, BENCH_HP, 100, 100, 100, 100)));
+            roomService.movePlayerTo(player.getUsername(), roomId);
+        }
+    }
+
+    @Benchmark
+    public void tick() {
+        mobRegistry.tick();
+    }
+}
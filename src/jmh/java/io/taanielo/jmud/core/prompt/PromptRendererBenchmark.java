@@ -0,0 +1,50 @@
+package io.taanielo.jmud.core.prompt;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.taanielo.jmud.bootstrap.GameContextState;
+import io.taanielo.jmud.core.player.Player;
+
+/**
+ * {@link PromptRenderer#render} of the prompt sent after every command and tick, plain and
+ * ANSI-coloured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PromptRendererBenchmark {
+
+    private static final String FORMAT = "[%h/%Hhp %m/%Mmn %vmv %xxp] {partyHp}> ";
+
+    @Param({"false", "true"})
+    public boolean colorize;
+
+    private final PromptRenderer renderer = new PromptRenderer();
+    private Player player;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        player = GameContextState.player("benchprompt");
+    }
+
+    @Benchmark
+    public String render() {
+        return renderer.render(FORMAT, player, "Brom 80%", colorize);
+    }
+}
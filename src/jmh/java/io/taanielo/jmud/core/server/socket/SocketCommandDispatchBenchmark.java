@@ -0,0 +1,106 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares resolving a typed line by asking every registered command ({@code fullScan}, how
+ * {@link SocketCommandDispatcher} used to work) with the first-token {@link SocketCommandIndex}
+ * ({@code indexed}).
+ *
+ * <p>The registry holds the real movement, KILL, and CAST handlers padded with first-token commands
+ * shaped like the rest of the command set, up to {@value #COMMAND_COUNT} commands in total.
+ *
+ * <p>Run with {@code ./gradlew jmh -Pjmh.includes=SocketCommandDispatch} and read {@code fullScan}
+ * against {@code indexed} for each input; the absolute microseconds vary with the JVM and machine.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SocketCommandDispatchBenchmark {
+
+    private static final int COMMAND_COUNT = 160;
+
+    @Param({"n", "k rat", "cast 'magic missile' goblin"})
+    public String input;
+
+    private SocketCommandRegistry registry;
+    private SocketCommandIndex index;
+
+    @Setup
+    public void setUp() {
+        registry = new SocketCommandRegistry();
+        new MoveCommand(registry);
+        new KillCommand(registry);
+        new CastCommand(registry);
+        for (int i = registry.commands().size(); i < COMMAND_COUNT; i++) {
+            registry.register(new FirstTokenCommand(String.format(Locale.ROOT, "CMD%03d", i)));
+        }
+        index = registry.index();
+    }
+
+    @Benchmark
+    public List<SocketCommandMatch> fullScan() {
+        List<SocketCommandMatch> matches = new ArrayList<>();
+        for (SocketCommandHandler command : registry.commands()) {
+            command.match(input).ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public List<SocketCommandMatch> indexed() {
+        List<SocketCommandMatch> matches = new ArrayList<>();
+        for (SocketCommandHandler command : index.candidates(SocketCommandParsing.firstToken(input))) {
+            command.match(input).ifPresent(matches::add);
+        }
+        return matches;
+    }
+
+    /** Matches one first token the way most socket commands do. */
+    private static final class FirstTokenCommand implements SocketCommandHandler {
+        private final String token;
+
+        private FirstTokenCommand(String token) {
+            this.token = token;
+        }
+
+        @Override
+        public String name() {
+            return token.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public Set<String> firstTokens() {
+            return Set.of(token);
+        }
+
+        @Override
+        public Optional<SocketCommandMatch> match(String input) {
+            String[] parts = SocketCommandParsing.splitInput(input);
+            if (!token.equals(parts[0])) {
+                return Optional.empty();
+            }
+            return Optional.of(new SocketCommandMatch(this, context -> context.writeLineWithPrompt(parts[1])));
+        }
+    }
+}
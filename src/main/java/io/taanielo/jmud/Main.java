@@ -1,14 +1,20 @@
 package io.taanielo.jmud;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import lombok.extern.slf4j.Slf4j;
 
 import io.taanielo.jmud.bootstrap.DataValidator;
 import io.taanielo.jmud.bootstrap.GameContext;
+import io.taanielo.jmud.bootstrap.StartupSettings;
+import io.taanielo.jmud.core.content.repository.json.ContentPack;
+import io.taanielo.jmud.core.persistence.PersistenceSettings;
 import io.taanielo.jmud.core.server.ClientPool;
 import io.taanielo.jmud.core.server.Server;
 import io.taanielo.jmud.core.server.socket.DefaultClientPool;
@@ -18,14 +24,23 @@ import io.taanielo.jmud.core.server.ssh.SshServer;
 import io.taanielo.jmud.core.server.websocket.StaticHttpContent;
 import io.taanielo.jmud.core.server.websocket.WebSocketServer;
 import io.taanielo.jmud.core.server.websocket.WsOriginPolicy;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
 
 @Slf4j
 public class Main {
 
+    private static final Duration AUCTION_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+
     public static void main(String[] args) {
         if (hasFlag(args, "--validate-data")) {
             System.exit(runDataValidation());
         }
+        if (hasFlag(args, "--migrate-players")) {
+            System.exit(runPlayerMigration());
+        }
+        if (hasFlag(args, "--compile-content")) {
+            System.exit(runContentCompilation());
+        }
 
         boolean telnetEnabled = resolveBoolean(args, "--telnet-enabled", "JMUD_TELNET_ENABLED", true);
         String telnetHost = resolveHost(args, "--telnet-host", "JMUD_TELNET_HOST", "127.0.0.1");
@@ -64,6 +79,8 @@ public class Main {
             context.persistenceQueue(),
             context.auditService()
         );
+        shutdownCoordinator.addStoreStep(
+            "flush auction ledger", () -> context.auctionService().shutdown(AUCTION_FLUSH_TIMEOUT));
         // Install the shutdown sequence into the late-bound handle so the wizard SHUTDOWN command
         // (registered inside GameContext, before the coordinator exists) can trigger it.
         context.shutdownHandle().install(shutdownCoordinator::shutdown);
@@ -227,8 +244,11 @@ public class Main {
      */
     private static int runDataValidation() {
         log.info("Running data validation …");
+        long started = System.nanoTime();
         DataValidator validator = new DataValidator();
         DataValidator.ValidationReport report = validator.validate(Path.of("data"), Path.of("players"));
+        log.info("Parsed {} data file(s) in {} ms", report.totalFiles(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
 
         for (DataValidator.DomainResult domain : report.domains()) {
             if (domain.clean()) {
@@ -260,11 +280,57 @@ public class Main {
             return 1;
         }
 
-        System.out.printf("%nData validation PASSED: %d file(s) across %d domain(s)%n",
-            report.totalFiles(), report.domains().size());
+        System.out.printf("%nData validation PASSED: %d file(s) across %d domain(s) in %d ms%n",
+            report.totalFiles(), report.domains().size(),
+            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
         return 0;
     }
 
+    /**
+     * Runs the player-migration mode: copies every player in the JSON {@code players/} directory into
+     * the single-file store at {@code jmud.persistence.player_store_path}. The server must not be
+     * running.
+     *
+     * @return {@code 0} when every player was copied, {@code 1} otherwise
+     */
+    private static int runPlayerMigration() {
+        Path storePath = PersistenceSettings.playerStorePath();
+        log.info("Migrating players from players/ into {} …", storePath);
+        try {
+            int migrated = GameContext.migratePlayersToStore(storePath);
+            System.out.printf("Migrated %d player(s) into %s%n", migrated, storePath);
+            return 0;
+        } catch (RepositoryException e) {
+            System.out.printf("Player migration FAILED: %s%n", e.getMessage());
+            log.error("Player migration failed", e);
+            return 1;
+        }
+    }
+
+    /**
+     * Runs the content-compilation mode: packs the static JSON content into the content pack at
+     * {@code jmud.startup.content_pack}, which the server then loads while it is newer than the
+     * files. Safe to run while the server is up; the next RELOAD picks the new pack up.
+     *
+     * @return {@code 0} when the pack was written, {@code 1} otherwise
+     */
+    private static int runContentCompilation() {
+        Path packPath = StartupSettings.contentPack().orElse(Path.of(StartupSettings.DEFAULT_CONTENT_PACK));
+        log.info("Compiling content into {} …", packPath);
+        long started = System.nanoTime();
+        try {
+            ContentPack.Compiled compiled = GameContext.compileContentPack(packPath);
+            System.out.printf("Compiled %d document(s), %d distinct string(s), into %s (%d bytes) in %d ms%n",
+                compiled.documents(), compiled.strings(), packPath, compiled.bytes(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            return 0;
+        } catch (IOException e) {
+            System.out.printf("Content compilation FAILED: %s%n", e.getMessage());
+            log.error("Content compilation failed", e);
+            return 1;
+        }
+    }
+
     /**
      * Prints the outcome of one whole-world cross-reference check (issue #529 area consistency,
      * issue #530 content completeness): an {@code [OK]} line when clean, or one {@code [FAIL]} line
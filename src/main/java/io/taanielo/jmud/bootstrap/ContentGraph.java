@@ -0,0 +1,78 @@
+package io.taanielo.jmud.bootstrap;
+
+import java.util.List;
+
+import io.taanielo.jmud.core.ability.repository.AbilityRepository;
+import io.taanielo.jmud.core.craft.RecipeRepository;
+import io.taanielo.jmud.core.creation.NewbieKitRepository;
+import io.taanielo.jmud.core.faction.FactionRepository;
+import io.taanielo.jmud.core.gathering.ResourceNodeRepository;
+import io.taanielo.jmud.core.mob.MobTemplate;
+import io.taanielo.jmud.core.mob.MobTemplateRepository;
+import io.taanielo.jmud.core.quest.QuestRepository;
+import io.taanielo.jmud.core.salvage.SalvageTierRepository;
+import io.taanielo.jmud.core.shop.ShopRepository;
+import io.taanielo.jmud.core.world.repository.ItemSetRepository;
+
+/**
+ * The game content read by more than one consumer, loaded once at start-up and handed to the
+ * services and to both consistency checkers, instead of each of them constructing and parsing its
+ * own copy (AGENTS.md §3.3).
+ *
+ * <p>{@link GameContext} fills it on a {@link ContentLoader}, one task per data directory, so the
+ * directories are parsed in parallel. Each repository keeps what it read, so later {@code findAll}
+ * calls are answered from memory. Mob templates are the exception: their repository does not cache,
+ * because RELOAD re-reads it, so the parsed list is kept here as {@link #mobTemplates()} for the mob
+ * registry to spawn from.
+ *
+ * @param mobTemplateRepository         mob templates, re-read on RELOAD
+ * @param mobTemplates                  the mob templates read at start-up
+ * @param abilityRepository             abilities
+ * @param shopRepository                shops
+ * @param questRepository               quest templates
+ * @param recipeRepository              blacksmith recipes
+ * @param alchemyRecipeRepository       alchemy recipes
+ * @param cookingRecipeRepository       cooking recipes
+ * @param leatherworkingRecipeRepository leatherworking recipes
+ * @param jewelcraftingRecipeRepository jewelcrafting recipes
+ * @param tailoringRecipeRepository     tailoring recipes
+ * @param resourceNodeRepository        gathering nodes
+ * @param newbieKitRepository           the new-character starting kit
+ * @param salvageTierRepository         salvage yields
+ * @param factionRepository             factions
+ * @param itemSetRepository             item sets
+ */
+record ContentGraph(
+    MobTemplateRepository mobTemplateRepository,
+    List<MobTemplate> mobTemplates,
+    AbilityRepository abilityRepository,
+    ShopRepository shopRepository,
+    QuestRepository questRepository,
+    RecipeRepository recipeRepository,
+    RecipeRepository alchemyRecipeRepository,
+    RecipeRepository cookingRecipeRepository,
+    RecipeRepository leatherworkingRecipeRepository,
+    RecipeRepository jewelcraftingRecipeRepository,
+    RecipeRepository tailoringRecipeRepository,
+    ResourceNodeRepository resourceNodeRepository,
+    NewbieKitRepository newbieKitRepository,
+    SalvageTierRepository salvageTierRepository,
+    FactionRepository factionRepository,
+    ItemSetRepository itemSetRepository
+) {
+
+    /**
+     * Returns every profession's recipe repository, blacksmith first.
+     *
+     * @return the six recipe repositories
+     */
+    List<RecipeRepository> recipeRepositories() {
+        return List.of(
+            recipeRepository,
+            alchemyRecipeRepository,
+            cookingRecipeRepository,
+            leatherworkingRecipeRepository,
+            jewelcraftingRecipeRepository,
+            tailoringRecipeRepository);
+    }
+}
@@ -0,0 +1,90 @@
+package io.taanielo.jmud.bootstrap;
+
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A bounded pool that reads game content in parallel at start-up: {@link GameContext} submits one
+ * task per data directory and {@linkplain #await(Future) awaits} the results once its own work is done.
+ * Closing the loader waits for any task still running and stops the threads.
+ */
+final class ContentLoader implements AutoCloseable {
+
+    private final ExecutorService pool;
+
+    /**
+     * Creates a loader.
+     *
+     * @param threads most tasks run at once; must be positive
+     */
+    ContentLoader(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Loader threads must be positive");
+        }
+        this.pool = Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("content-loader-", 0).factory());
+    }
+
+    /**
+     * Queues one read.
+     *
+     * @param task the read; may throw any repository exception
+     * @return the pending result
+     */
+    <T> Future<T> submit(Task<T> task) {
+        Objects.requireNonNull(task, "Task is required");
+        return pool.submit(task::run);
+    }
+
+    /**
+     * Performs the first read of a repository, which fills its cache, and returns the repository so
+     * the warmed instance can be shared.
+     *
+     * @param repository the repository to read
+     * @param read       the read that fills its cache, e.g. {@code findAll}
+     * @return {@code repository}
+     * @throws E whatever {@code read} throws
+     */
+    static <R, E extends Exception> R warmed(R repository, Read<R, E> read) throws E {
+        read.run(repository);
+        return repository;
+    }
+
+    /**
+     * Waits for a queued read.
+     *
+     * @param future the pending result
+     * @return the result
+     * @throws IllegalStateException if the read failed or the wait was interrupted
+     */
+    static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading content", e);
+        } catch (ExecutionException e) {
+            Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+            throw new IllegalStateException("Failed to load content: " + cause.getMessage(), cause);
+        }
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    /** A content read that may throw a checked repository exception. */
+    @FunctionalInterface
+    interface Task<T> {
+        T run() throws Exception;
+    }
+
+    /** The first read of a repository. */
+    @FunctionalInterface
+    interface Read<R, E extends Exception> {
+        void run(R repository) throws E;
+    }
+}
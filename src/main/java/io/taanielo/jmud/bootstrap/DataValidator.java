@@ -5,7 +5,12 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import io.taanielo.jmud.core.world.repository.json.JsonDataFileValidator;
 
@@ -17,7 +22,9 @@ import io.taanielo.jmud.core.world.repository.json.JsonDataFileValidator;
  * file using the same Jackson configuration as the production repositories, and
  * collects the outcome per domain. On success each domain reports a file count;
  * on failure the broken file path and parse error are recorded, and scanning
- * continues so that <em>all</em> broken files are reported in one pass.
+ * continues so that <em>all</em> broken files are reported in one pass. Files
+ * are parsed in parallel on a bounded pool; the report lists domains and
+ * errors in the same order as a sequential scan would.
  *
  * <p>This class belongs in the composition root (bootstrap) because it
  * orchestrates multiple repository-layer parsers, mirroring the role of
@@ -79,10 +86,27 @@ public final class DataValidator {
     );
 
     private final JsonDataFileValidator fileValidator;
+    private final int threads;
 
-    /** Creates a validator using the project-standard JSON parser configuration. */
+    /**
+     * Creates a validator using the project-standard JSON parser configuration, parsing on
+     * {@link StartupSettings#loaderThreads()} threads.
+     */
     public DataValidator() {
+        this(StartupSettings.loaderThreads());
+    }
+
+    /**
+     * Creates a validator using the project-standard JSON parser configuration.
+     *
+     * @param threads most files parsed at once; must be positive
+     */
+    public DataValidator(int threads) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("Validator threads must be positive");
+        }
         this.fileValidator = new JsonDataFileValidator();
+        this.threads = threads;
     }
 
     /**
@@ -95,22 +119,30 @@ public final class DataValidator {
     public ValidationReport validate(Path dataRoot, Path playersRoot) {
         List<DomainResult> results = new ArrayList<>();
 
-        for (String domain : DATA_DOMAINS) {
-            Path dir = dataRoot.resolve(domain);
-            results.add(validateDirectory(domain, dir));
+        // Every file of every domain is queued before any result is awaited, so a small domain
+        // never leaves the pool idle.
+        try (ExecutorService pool =
+                 Executors.newFixedThreadPool(threads, Thread.ofPlatform().name("data-validator-", 0).factory())) {
+            List<PendingDomain> pending = new ArrayList<>();
+            for (String domain : DATA_DOMAINS) {
+                Path dir = dataRoot.resolve(domain);
+                pending.add(submitDirectory(domain, dir, pool));
+            }
+            pending.add(submitDirectory("players", playersRoot, pool));
+
+            for (PendingDomain domain : pending) {
+                results.add(domain.await());
+            }
         }
 
-        results.add(validateDirectory("players", playersRoot));
-
         return new ValidationReport(List.copyOf(results));
     }
 
-    private DomainResult validateDirectory(String domain, Path dir) {
+    private PendingDomain submitDirectory(String domain, Path dir, ExecutorService pool) {
         if (!Files.exists(dir) || !Files.isDirectory(dir)) {
-            return new DomainResult(domain, 0, List.of());
+            return new PendingDomain(domain, List.of(), List.of(), List.of());
         }
 
-        List<FileError> errors = new ArrayList<>();
         List<Path> jsonFiles;
 
         try (var stream = Files.list(dir)) {
@@ -118,15 +150,54 @@ public final class DataValidator {
                 .filter(p -> p.toString().endsWith(".json"))
                 .toList();
         } catch (IOException e) {
-            errors.add(new FileError(dir.toString(), "Failed to list directory: " + e));
-            return new DomainResult(domain, 0, List.copyOf(errors));
+            FileError error = new FileError(dir.toString(), "Failed to list directory: " + e);
+            return new PendingDomain(domain, List.of(), List.of(), List.of(error));
         }
 
+        List<Future<Optional<String>>> outcomes = new ArrayList<>(jsonFiles.size());
         for (Path file : jsonFiles) {
-            Optional<String> error = fileValidator.validate(file);
-            error.ifPresent(msg -> errors.add(new FileError(file.toAbsolutePath().toString(), msg)));
+            outcomes.add(pool.submit(() -> fileValidator.validate(file)));
+        }
+        return new PendingDomain(domain, jsonFiles, outcomes, List.of());
+    }
+
+    /**
+     * One domain whose files have been queued for parsing.
+     *
+     * @param domain        human-readable domain name
+     * @param files         the {@code .json} files queued, in listing order
+     * @param outcomes      each file's parse outcome, in the same order
+     * @param listingErrors the error from listing the directory, if that failed
+     */
+    private record PendingDomain(
+        String domain,
+        List<Path> files,
+        List<Future<Optional<String>>> outcomes,
+        List<FileError> listingErrors
+    ) {
+        /** Waits for every file of the domain and collects the errors in listing order. */
+        DomainResult await() {
+            if (!listingErrors.isEmpty()) {
+                return new DomainResult(domain, 0, listingErrors);
+            }
+            List<FileError> errors = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                String path = files.get(i).toAbsolutePath().toString();
+                outcome(outcomes.get(i)).ifPresent(msg -> errors.add(new FileError(path, msg)));
+            }
+            return new DomainResult(domain, files.size(), List.copyOf(errors));
         }
 
-        return new DomainResult(domain, jsonFiles.size(), List.copyOf(errors));
+        private static Optional<String> outcome(Future<Optional<String>> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.of("Validation interrupted");
+            } catch (ExecutionException e) {
+                Throwable cause = Objects.requireNonNullElse(e.getCause(), e);
+                return Optional.of("Validation failed: " + cause);
+            }
+        }
     }
 }
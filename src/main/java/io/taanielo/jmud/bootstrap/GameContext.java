@@ -1,5 +1,6 @@
 package io.taanielo.jmud.bootstrap;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Clock;
 import java.time.Instant;
@@ -7,10 +8,12 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Future;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import org.jspecify.annotations.Nullable;
 
 import io.taanielo.jmud.core.ability.AbilityCostResolver;
@@ -18,6 +21,7 @@ import io.taanielo.jmud.core.ability.AbilityRegistry;
 import io.taanielo.jmud.core.ability.AbilityTargetResolver;
 import io.taanielo.jmud.core.ability.BasicAbilityCostResolver;
 import io.taanielo.jmud.core.ability.RoomAbilityTargetResolver;
+import io.taanielo.jmud.core.ability.repository.AbilityRepository;
 import io.taanielo.jmud.core.ability.repository.AbilityRepositoryException;
 import io.taanielo.jmud.core.ability.repository.json.JsonAbilityRepository;
 import io.taanielo.jmud.core.achievement.AchievementRepositoryException;
@@ -30,7 +34,7 @@ import io.taanielo.jmud.core.auction.AuctionRepository;
 import io.taanielo.jmud.core.auction.AuctionRepositoryException;
 import io.taanielo.jmud.core.auction.AuctionService;
 import io.taanielo.jmud.core.auction.repository.json.JsonAuctionHouseRepository;
-import io.taanielo.jmud.core.auction.repository.json.JsonAuctionRepository;
+import io.taanielo.jmud.core.auction.repository.json.JournaledAuctionRepository;
 import io.taanielo.jmud.core.audit.AuditService;
 import io.taanielo.jmud.core.authentication.AuthenticationLimiter;
 import io.taanielo.jmud.core.authentication.AuthenticationPolicy;
@@ -58,6 +62,7 @@ import io.taanielo.jmud.core.combat.CombatAttributeBonusResolver;
 import io.taanielo.jmud.core.combat.CombatEngine;
 import io.taanielo.jmud.core.combat.CombatModifierResolver;
 import io.taanielo.jmud.core.combat.CombatRandom;
+import io.taanielo.jmud.core.combat.DerivedStatsCache;
 import io.taanielo.jmud.core.combat.EquipmentArmorResolver;
 import io.taanielo.jmud.core.combat.EquipmentResistanceResolver;
 import io.taanielo.jmud.core.combat.OffhandAttackResolver;
@@ -76,6 +81,9 @@ import io.taanielo.jmud.core.combat.repository.AttackRepository;
 import io.taanielo.jmud.core.combat.repository.json.JsonAttackRepository;
 import io.taanielo.jmud.core.config.GameConfig;
 import io.taanielo.jmud.core.content.ContentCompletenessChecker;
+import io.taanielo.jmud.core.content.repository.json.ContentPack;
+import io.taanielo.jmud.core.content.repository.json.ContentPackSource;
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 import io.taanielo.jmud.core.craft.CrafterProfile;
 import io.taanielo.jmud.core.craft.CraftingService;
 import io.taanielo.jmud.core.craft.Recipe;
@@ -87,9 +95,11 @@ import io.taanielo.jmud.core.creation.NewPlayerHints;
 import io.taanielo.jmud.core.creation.NewPlayerHintsException;
 import io.taanielo.jmud.core.creation.NewbieKit;
 import io.taanielo.jmud.core.creation.NewbieKitException;
+import io.taanielo.jmud.core.creation.NewbieKitRepository;
 import io.taanielo.jmud.core.creation.NewbieKitService;
 import io.taanielo.jmud.core.creation.json.JsonNewPlayerHintsRepository;
 import io.taanielo.jmud.core.creation.json.JsonNewbieKitRepository;
+import io.taanielo.jmud.core.diagnostics.FlightRecordingService;
 import io.taanielo.jmud.core.dialogue.DialogueRepositoryException;
 import io.taanielo.jmud.core.dialogue.DialogueService;
 import io.taanielo.jmud.core.dialogue.repository.json.JsonDialogueRepository;
@@ -101,11 +111,13 @@ import io.taanielo.jmud.core.enchant.EnchantRecipe;
 import io.taanielo.jmud.core.enchant.EnchantRecipeRepositoryException;
 import io.taanielo.jmud.core.enchant.EnchantingService;
 import io.taanielo.jmud.core.enchant.repository.json.JsonEnchantRecipeRepository;
+import io.taanielo.jmud.core.faction.FactionRepository;
 import io.taanielo.jmud.core.faction.FactionRepositoryException;
 import io.taanielo.jmud.core.faction.ReputationService;
 import io.taanielo.jmud.core.faction.repository.json.JsonFactionRepository;
 import io.taanielo.jmud.core.gathering.ResourceGatheringService;
 import io.taanielo.jmud.core.gathering.ResourceNode;
+import io.taanielo.jmud.core.gathering.ResourceNodeRepository;
 import io.taanielo.jmud.core.gathering.ResourceNodeRespawnTicker;
 import io.taanielo.jmud.core.gathering.repository.json.JsonResourceNodeRepository;
 import io.taanielo.jmud.core.guild.GuildInterestStateRepository;
@@ -122,6 +134,8 @@ import io.taanielo.jmud.core.guild.repository.json.JsonGuildQuestPoolRepository;
 import io.taanielo.jmud.core.guild.repository.json.JsonGuildRepository;
 import io.taanielo.jmud.core.healing.HealingBaseResolver;
 import io.taanielo.jmud.core.healing.HealingEngine;
+import io.taanielo.jmud.core.leaderboard.LeaderboardGuildRepository;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
 import io.taanielo.jmud.core.mentor.MentorRankException;
 import io.taanielo.jmud.core.mentor.MentorRankLadder;
 import io.taanielo.jmud.core.mentor.MentorService;
@@ -132,6 +146,8 @@ import io.taanielo.jmud.core.messaging.MessageBroadcasterImpl;
 import io.taanielo.jmud.core.messaging.PlainTextMessage;
 import io.taanielo.jmud.core.messaging.TellService;
 import io.taanielo.jmud.core.mob.MobRegistry;
+import io.taanielo.jmud.core.mob.MobTemplate;
+import io.taanielo.jmud.core.mob.MobTemplateRepository;
 import io.taanielo.jmud.core.mob.WorldBossAnnouncer;
 import io.taanielo.jmud.core.mob.WorldEventScheduler;
 import io.taanielo.jmud.core.mob.WorldEventSettings;
@@ -141,6 +157,7 @@ import io.taanielo.jmud.core.notes.NotesService;
 import io.taanielo.jmud.core.notes.repository.json.JsonNotesRepository;
 import io.taanielo.jmud.core.party.PartyService;
 import io.taanielo.jmud.core.persistence.PersistenceQueue;
+import io.taanielo.jmud.core.persistence.PersistenceSettings;
 import io.taanielo.jmud.core.player.ArenaEventTicker;
 import io.taanielo.jmud.core.player.DeathSettings;
 import io.taanielo.jmud.core.player.DuelService;
@@ -151,6 +168,8 @@ import io.taanielo.jmud.core.player.LevelUpService;
 import io.taanielo.jmud.core.player.OnlinePlayersSupplier;
 import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.player.store.PlayerStoreMigration;
+import io.taanielo.jmud.core.player.store.StorePlayerRepository;
 import io.taanielo.jmud.core.quest.CompositeQuestRepository;
 import io.taanielo.jmud.core.quest.DailyQuestPool;
 import io.taanielo.jmud.core.quest.DailyQuestRotationTicker;
@@ -167,17 +186,24 @@ import io.taanielo.jmud.core.reload.ItemContentReloader;
 import io.taanielo.jmud.core.reload.RoomContentReloader;
 import io.taanielo.jmud.core.salvage.SalvageService;
 import io.taanielo.jmud.core.salvage.SalvageTier;
+import io.taanielo.jmud.core.salvage.SalvageTierRepository;
 import io.taanielo.jmud.core.salvage.SalvageTierRepositoryException;
 import io.taanielo.jmud.core.salvage.repository.json.JsonSalvageTierRepository;
+import io.taanielo.jmud.core.server.Client;
 import io.taanielo.jmud.core.server.ClientPool;
+import io.taanielo.jmud.core.server.connection.OutboundQueueFactory;
+import io.taanielo.jmud.core.server.connection.OutboundSettings;
+import io.taanielo.jmud.core.server.connection.TickOutputCoalescer;
+import io.taanielo.jmud.core.server.socket.CommandLatencyMetrics;
 import io.taanielo.jmud.core.server.socket.LinkdeadTimeoutTicker;
 import io.taanielo.jmud.core.server.socket.PlayerSession;
+import io.taanielo.jmud.core.server.socket.PlayerDirectory;
 import io.taanielo.jmud.core.server.socket.PlayerSessionRegistry;
 import io.taanielo.jmud.core.server.socket.ShutdownHandle;
 import io.taanielo.jmud.core.server.socket.SocketCommandRegistry;
+import io.taanielo.jmud.core.server.socket.TelnetCompressionMetrics;
 import io.taanielo.jmud.core.server.socket.WizardPolicy;
 import io.taanielo.jmud.core.shop.ShopRepository;
-import io.taanielo.jmud.core.shop.ShopRepositoryException;
 import io.taanielo.jmud.core.shop.ShopService;
 import io.taanielo.jmud.core.shop.repository.json.JsonShopRepository;
 import io.taanielo.jmud.core.social.MarriageService;
@@ -213,6 +239,8 @@ import io.taanielo.jmud.core.world.RoomService;
 import io.taanielo.jmud.core.world.WorldClock;
 import io.taanielo.jmud.core.world.WorldClockSettings;
 import io.taanielo.jmud.core.world.area.AreaConsistencyChecker;
+import io.taanielo.jmud.core.world.area.AreaDormancyService;
+import io.taanielo.jmud.core.world.area.AreaDormancySettings;
 import io.taanielo.jmud.core.world.area.AreaMapService;
 import io.taanielo.jmud.core.world.area.AreaRepository;
 import io.taanielo.jmud.core.world.area.AreaWaypointService;
@@ -228,8 +256,8 @@ import io.taanielo.jmud.core.world.repository.RoomCatalog;
 import io.taanielo.jmud.core.world.repository.RoomRepository;
 import io.taanielo.jmud.core.world.repository.json.JsonAffixRepository;
 import io.taanielo.jmud.core.world.repository.json.JsonDiscoveredExitsRepository;
-import io.taanielo.jmud.core.world.repository.json.JsonItemRepository;
 import io.taanielo.jmud.core.world.repository.json.JsonItemSetRepository;
+import io.taanielo.jmud.core.world.repository.json.JsonItemRepository;
 import io.taanielo.jmud.core.world.repository.json.JsonRoomRepository;
 
 /**
@@ -253,6 +281,7 @@ public record GameContext(
     EffectRepository effectRepository,
     EffectEngine effectEngine,
     CombatEngine combatEngine,
+    DerivedStatsCache derivedStatsCache,
     CombatRandom worldRandom,
     EncumbranceService encumbranceService,
     HealingEngine healingEngine,
@@ -311,9 +340,24 @@ public record GameContext(
     CorpseLocatorService corpseLocatorService,
     AreaConsistencyChecker areaConsistencyChecker,
     ContentCompletenessChecker contentCompletenessChecker,
-    ShutdownHandle shutdownHandle
+    ShutdownHandle shutdownHandle,
+    OutboundQueueFactory outboundQueueFactory,
+    TickOutputCoalescer tickOutputCoalescer,
+    CommandLatencyMetrics commandLatencyMetrics,
+    PlayerDirectory playerDirectory,
+    TelnetCompressionMetrics telnetCompressionMetrics
 ) {
 
+    /** The data directories packed by {@code --compile-content}, as the repositories resolve them. */
+    private static final List<Path> CONTENT_PACK_DIRECTORIES = List.of(
+        Path.of("data", "items"),
+        Path.of("data", "rooms"),
+        Path.of("data", "mobs"),
+        Path.of("data", "attacks"),
+        Path.of("data", "skills"),
+        Path.of("data", "quests"),
+        Path.of("effects"));
+
     /**
      * Builds a fully wired context for the socket server.
      *
@@ -323,22 +367,35 @@ public record GameContext(
     public static GameContext create(ClientPool clientPool) {
         GameConfig config = GameConfig.load();
         GameMetrics gameMetrics = GameMetrics.create(config);
+        StartupTimings startupTimings = new StartupTimings(gameMetrics.registry());
 
         UserRegistry userRegistry = createUserRegistry();
         AuthenticationPolicy authenticationPolicy = AuthenticationPolicy.fromConfig(config);
         AuthenticationLimiter authenticationLimiter =
             new AuthenticationLimiter(authenticationPolicy, Clock.systemUTC(), gameMetrics.registry());
-        PlayerRepository playerRepository = new JsonPlayerRepository();
+        PlayerRepository playerRepository = createPlayerRepository();
 
         // Shared repository instances: each Json*Repository is constructed exactly once here
         // and passed to every consumer (AGENTS.md §3.3), instead of every consumer building
         // its own copy.
-        ItemRepository itemRepository = createItemRepository();
-        JsonAttackRepository attackRepository = createAttackRepository();
+        // The static content is read from the compiled content pack while it is newer than the JSON
+        // files, and from the files otherwise; RELOAD re-selects, so a recompiled pack is swapped in.
+        Optional<ContentPackSource> contentPack = startupTimings.time("pack", GameContext::selectContentPack);
+        JsonDocumentSource documents = contentPack.<JsonDocumentSource>map(pack -> pack).orElse(JsonDocumentSource.FILES);
+        ItemRepository itemRepository = createItemRepository(documents);
+        JsonAttackRepository attackRepository = createAttackRepository(documents);
+        JsonEffectRepository effectRepository = createEffectRepository(documents);
         JsonRaceRepository raceRepository = createRaceRepository();
         JsonClassRepository classRepository = createClassRepository();
 
-        RoomRepository roomRepository = createRoomRepository(itemRepository);
+        RoomRepository roomRepository = createRoomRepository(itemRepository, documents);
+        // Load items, rooms, effects and attacks eagerly (prepared in parallel) before anything can look
+        // one up, so tick-thread lookups are answered from in-memory snapshots and never read a file on
+        // a cache miss (AGENTS.md §5). RELOAD later swaps the same snapshots via contentReloadService.
+        // Meanwhile the rest of the shared content — mobs, abilities, shops, quests, recipes and the
+        // other catalogues — is parsed once on a bounded pool and handed to every consumer below.
+        ContentGraph content = startupTimings.time("content", () -> loadSharedContent(
+            documents, () -> loadContent(itemRepository, roomRepository, effectRepository, attackRepository)));
         RoomItemService roomItemService = new RoomItemService();
         DiscoveredExitsRepository discoveredExitsRepository = new JsonDiscoveredExitsRepository();
         PlayerLocationService playerLocationService =
@@ -346,16 +403,21 @@ public record GameContext(
         RoomService roomService = new RoomService(
             playerLocationService, roomItemService, new RoomRenderer(), roomRepository);
         MapService mapService = new MapService(roomRepository);
-        AreaRepository areaRepository = createAreaRepository();
+        AreaRepository areaRepository = startupTimings.time("areas", GameContext::createAreaRepository);
         AreaMapService areaMapService = new AreaMapService(areaRepository);
         AreaWaypointService areaWaypointService = new AreaWaypointService(areaRepository);
-        AreaConsistencyChecker areaConsistencyChecker =
-            createAreaConsistencyChecker(areaRepository, roomRepository, itemRepository);
         MessageBroadcaster messageBroadcaster = new MessageBroadcasterImpl(clientPool, roomService);
 
         TickRegistry tickRegistry = new TickRegistry();
         TickClock tickClock = new TickClock();
         tickRegistry.register(tickClock);
+        // Area dormancy is registered right after the clock so every system that consults it (resource
+        // and mob respawns, mob wandering) sees this tick's wake/sleep decision. Null when disabled.
+        AreaDormancyService areaDormancyService =
+            createAreaDormancyService(areaRepository, roomService, gameMetrics.registry());
+        if (areaDormancyService != null) {
+            tickRegistry.register(areaDormancyService);
+        }
         tickRegistry.register(new CorpseDecayTicker(
             roomItemService,
             java.time.Duration.ofSeconds(DeathSettings.corpseDecaySeconds())
@@ -369,15 +431,20 @@ public record GameContext(
         // start() so the tick thread only reads an already-set reference.
         TickMetricsService tickMetricsService = new TickMetricsService(TickSettings.metricsRetention());
         tickScheduler.setMetricsService(tickMetricsService);
+        CommandLatencyMetrics commandLatencyMetrics = new CommandLatencyMetrics(gameMetrics.registry());
+        TickOutputCoalescer tickOutputCoalescer = new TickOutputCoalescer(gameMetrics.registry());
+        if (OutboundSettings.coalesceTickOutput()) {
+            tickScheduler.addPhaseListener(tickOutputCoalescer);
+        }
 
-        AbilityRegistry abilityRegistry = loadAbilities();
-        AuditService auditService = AuditService.create(tickClock::currentTick);
-        PersistenceQueue persistenceQueue = new PersistenceQueue(playerRepository, auditService, gameMetrics.registry());
+        AbilityRegistry abilityRegistry = loadAbilities(content.abilityRepository());
+        AuditService auditService = AuditService.create(tickClock::currentTick, gameMetrics.registry());
+        PersistenceQueue persistenceQueue = new PersistenceQueue(playerRepository, auditService, gameMetrics.registry(),
+            PersistenceSettings.writers(), PersistenceSettings.maxBatch());
 
-        EffectRepository effectRepository = createEffectRepository();
         EffectEngine effectEngine = new EffectEngine(effectRepository);
 
-        ItemSetRepository itemSetRepository = createItemSetRepository();
+        ItemSetRepository itemSetRepository = content.itemSetRepository();
         SetBonusResolver setBonusResolver = new SetBonusResolver(itemRepository, itemSetRepository);
         EquipmentArmorResolver equipmentArmorResolver = new EquipmentArmorResolver(itemRepository, setBonusResolver);
         EquipmentResistanceResolver equipmentResistanceResolver = new EquipmentResistanceResolver(itemRepository);
@@ -411,9 +478,14 @@ public record GameContext(
         // condition wording.
         CombatFlavor combatFlavor = createCombatFlavor();
         DamageVerbTable damageVerbTable = combatFlavor.damageVerbs();
+        // Armour, racial attack bonus and resistances are snapshotted per player and recomputed only
+        // when equipment, level, race or class change, so every hit (PvP and PvE) reads them in O(1)
+        // instead of walking equipment through the item repository. RELOAD invalidates it below.
+        DerivedStatsCache derivedStatsCache = new DerivedStatsCache(
+            equipmentArmorResolver, raceArmorBonusResolver, classArmorBonusResolver,
+            raceAttackBonusResolver, equipmentResistanceResolver);
         CombatEngine combatEngine = createCombatEngine(
-                effectRepository, raceArmorBonusResolver, raceAttackBonusResolver, classArmorBonusResolver,
-                equipmentArmorResolver, equipmentResistanceResolver, shieldBlockResolver,
+                effectRepository, derivedStatsCache, shieldBlockResolver,
                 combatAttributeBonusResolver, attackRepository,
                 tickClock::currentTick, effectEngine, seededRng, worldSeed, damageVerbTable, parryResolver);
 
@@ -487,13 +559,15 @@ public record GameContext(
         AffixRepository affixRepository = new JsonAffixRepository();
         ItemAffixService itemAffixService = new ItemAffixService(affixRepository);
 
-        CraftingService craftingService = createCraftingService(itemRepository);
-        CraftingService alchemyService = createAlchemyService(itemRepository);
-        CraftingService cookingService = createCookingService(itemRepository);
-        CraftingService leatherworkingService = createLeatherworkingService(itemRepository);
-        CraftingService jewelerService = createJewelerService(itemRepository);
-        CraftingService tailorService = createTailorService(itemRepository);
-        SalvageService salvageService = createSalvageService(itemRepository);
+        CraftingService craftingService = createCraftingService(itemRepository, content.recipeRepository());
+        CraftingService alchemyService = createAlchemyService(itemRepository, content.alchemyRecipeRepository());
+        CraftingService cookingService = createCookingService(itemRepository, content.cookingRecipeRepository());
+        CraftingService leatherworkingService =
+            createLeatherworkingService(itemRepository, content.leatherworkingRecipeRepository());
+        CraftingService jewelerService =
+            createJewelerService(itemRepository, content.jewelcraftingRecipeRepository());
+        CraftingService tailorService = createTailorService(itemRepository, content.tailoringRecipeRepository());
+        SalvageService salvageService = createSalvageService(itemRepository, content.salvageTierRepository());
         EnchantingService enchantingService =
             createEnchantingService(itemRepository, affixRepository, itemAffixService);
 
@@ -502,10 +576,10 @@ public record GameContext(
         // mob respawns make. The respawn ticker drives node availability off tick counts, not the
         // wall clock.
         ResourceGatheringService resourceGatheringService =
-            createResourceGatheringService(itemRepository);
-        tickRegistry.register(new ResourceNodeRespawnTicker(resourceGatheringService));
+            createResourceGatheringService(itemRepository, content.resourceNodeRepository());
+        tickRegistry.register(new ResourceNodeRespawnTicker(resourceGatheringService, areaDormancyService));
 
-        ReputationService reputationService = createReputationService();
+        ReputationService reputationService = createReputationService(content.factionRepository());
         AchievementService achievementService = createAchievementService();
 
         // Party and guild services are created before the mob registry initialises so the world-boss
@@ -517,58 +591,60 @@ public record GameContext(
         // The Mentors' Guild rank ladder (issue #752) — milestone titles and the shared mentor XP perk
         // — is data-driven content loaded once here (AGENTS.md §11).
         MentorService mentorService = new MentorService(createMentorRankLadder());
-        // The guild repository is shared: GuildService owns the authoritative in-memory copy, while the
-        // read-only RANK GUILDS command re-reads every persisted guild off the reader thread (like RANK
-        // over players), so both are wired from the one repository instance (AGENTS.md §3.3, §5).
-        GuildRepository guildRepository = createGuildRepository();
+        // RANK reads materialized leaderboards: seeded once here from every persisted player and guild,
+        // then kept current by the save paths — the persistence queue reports each player snapshot it
+        // accepts and the guild repository decorator each guild write — so RANK never re-reads every
+        // persisted record (AGENTS.md §5).
+        LeaderboardService leaderboards = new LeaderboardService();
+        GuildRepository guildRepository = new LeaderboardGuildRepository(createGuildRepository(), leaderboards);
         GuildService guildService = createGuildService(guildRepository);
+        startupTimings.time("leaderboards",
+            () -> leaderboards.seed(allPlayers(playerRepository), guildService.allGuilds()));
+        persistenceQueue.addSaveListener(leaderboards::recordPlayer);
         // Ephemeral tracker of the last private-message sender per player, backing REPLY (issue #462).
         TellService tellService = new TellService();
 
         PlayerEventBus playerEventBus = new PlayerEventBus();
         MobRegistry mobRegistry = createMobRegistry(
-                playerEventBus, roomService, playerRepository, persistenceQueue, itemRepository, attackRepository, worldRandom);
-        if (mobRegistry != null) {
-            mobRegistry.setLevelUpService(levelUpService);
-            mobRegistry.setEffectEngine(effectEngine);
-            mobRegistry.setWorldClock(worldClock);
-            mobRegistry.setItemDurabilityService(itemDurabilityService);
-            mobRegistry.setReputationService(reputationService);
-            mobRegistry.setAchievementService(achievementService);
-            mobRegistry.setPartyService(partyService);
-            mobRegistry.setMentorService(mentorService);
-            mobRegistry.setEncumbranceService(encumbranceService);
-            mobRegistry.setCombatAttributeBonusResolver(combatAttributeBonusResolver);
-            mobRegistry.setEquipmentResistanceResolver(equipmentResistanceResolver);
-            // Share the same armour/shield resolver instances the CombatEngine (PvP) uses, so PvE
-            // hit/block resolution mirrors duels without constructing duplicate repository-backed
-            // resolvers (see architecture-review-and-improvement-plan.md D4).
-            mobRegistry.setEquipmentArmorResolver(equipmentArmorResolver);
-            mobRegistry.setClassArmorBonusResolver(classArmorBonusResolver);
-            mobRegistry.setRaceArmorBonusResolver(raceArmorBonusResolver);
-            mobRegistry.setShieldBlockResolver(shieldBlockResolver);
-            // Parry (issue #639): a player may parry a mob's melee swing and riposte the mob, using the
-            // same resolver the PvP CombatEngine uses. The mirror case (issue #645) — a defensively
-            // trained mob parrying the player's own melee swing — is a data-authored trait on the mob
-            // template (parry_chance), resolved inside MobRegistry with no resolver wiring here.
-            mobRegistry.setParryResolver(parryResolver);
-            mobRegistry.setDamageVerbTable(damageVerbTable);
-            mobRegistry.setTargetConditionTable(combatFlavor.conditions());
-            WorldBossAnnouncer worldBossAnnouncer =
-                new WorldBossAnnouncer(messageBroadcaster, roomService, guildService, partyService);
-            mobRegistry.setWorldBossAnnouncer(worldBossAnnouncer);
-            mobRegistry.init();
-            tickRegistry.register(mobRegistry);
-            // Timed world events: on a randomized interval a rare-elite mob is torn into a fixed room
-            // in an eligible zone and announced server-wide, staying killable for a bounded window
-            // before it fades away unkilled. Reuses the mob registry for placement/removal and the
-            // world-boss announcer for the spawn/timeout broadcasts (AGENTS.md §3.3, §5).
-            tickRegistry.register(new WorldEventScheduler(
-                mobRegistry, worldBossAnnouncer, worldRandom,
-                WorldEventSettings.minIntervalTicks(),
-                WorldEventSettings.maxIntervalTicks(),
-                WorldEventSettings.windowTicks()));
-        }
+                playerEventBus, roomService, playerRepository, persistenceQueue, itemRepository, attackRepository, worldRandom,
+                content.mobTemplateRepository());
+        mobRegistry.setLevelUpService(levelUpService);
+        mobRegistry.setEffectEngine(effectEngine);
+        mobRegistry.setWorldClock(worldClock);
+        mobRegistry.setAreaDormancy(areaDormancyService);
+        mobRegistry.setItemDurabilityService(itemDurabilityService);
+        mobRegistry.setReputationService(reputationService);
+        mobRegistry.setAchievementService(achievementService);
+        mobRegistry.setPartyService(partyService);
+        mobRegistry.setMentorService(mentorService);
+        mobRegistry.setEncumbranceService(encumbranceService);
+        mobRegistry.setCombatAttributeBonusResolver(combatAttributeBonusResolver);
+        // Share the same derived-stats cache and shield resolver the CombatEngine (PvP) uses, so PvE
+        // hit/block/resistance resolution mirrors duels without constructing duplicate
+        // repository-backed resolvers (see architecture-review-and-improvement-plan.md D4).
+        mobRegistry.setDerivedStatsCache(derivedStatsCache);
+        mobRegistry.setShieldBlockResolver(shieldBlockResolver);
+        // Parry (issue #639): a player may parry a mob's melee swing and riposte the mob, using the
+        // same resolver the PvP CombatEngine uses. The mirror case (issue #645) — a defensively
+        // trained mob parrying the player's own melee swing — is a data-authored trait on the mob
+        // template (parry_chance), resolved inside MobRegistry with no resolver wiring here.
+        mobRegistry.setParryResolver(parryResolver);
+        mobRegistry.setDamageVerbTable(damageVerbTable);
+        mobRegistry.setTargetConditionTable(combatFlavor.conditions());
+        WorldBossAnnouncer worldBossAnnouncer =
+            new WorldBossAnnouncer(messageBroadcaster, roomService, guildService, partyService);
+        mobRegistry.setWorldBossAnnouncer(worldBossAnnouncer);
+        startupTimings.time("mobs", () -> mobRegistry.init(content.mobTemplates()));
+        tickRegistry.register(mobRegistry);
+        // Timed world events: on a randomized interval a rare-elite mob is torn into a fixed room
+        // in an eligible zone and announced server-wide, staying killable for a bounded window
+        // before it fades away unkilled. Reuses the mob registry for placement/removal and the
+        // world-boss announcer for the spawn/timeout broadcasts (AGENTS.md §3.3, §5).
+        tickRegistry.register(new WorldEventScheduler(
+            mobRegistry, worldBossAnnouncer, worldRandom,
+            WorldEventSettings.minIntervalTicks(),
+            WorldEventSettings.maxIntervalTicks(),
+            WorldEventSettings.windowTicks()));
 
         // Hot-reload of JSON content (issue #349): the JSON item/room repositories and the mob
         // registry read+validate their files off the tick thread; the dispatcher applies the atomic
@@ -578,25 +654,41 @@ public record GameContext(
             (ItemContentReloader) itemRepository,
             (RoomContentReloader) roomRepository,
             mobRegistry,
-            itemRepository::findById);
+            itemRepository::findById,
+            List.of(effectRepository, attackRepository));
+        contentReloadService.addCommitListener(derivedStatsCache::invalidateAll);
+        if (areaDormancyService != null) {
+            // A reload can add rooms or rewire exits, so the dormancy radius walks must be redone.
+            contentReloadService.addCommitListener(() -> reloadAreaDormancy(areaDormancyService, areaRepository));
+        }
+        contentPack.ifPresent(pack -> contentReloadService.addPrepareListener(pack::select));
         TickThreadDispatcher tickThreadDispatcher = new TickThreadDispatcher(tickRegistry);
+        // Tracks live sessions by username, including linkdead ones (issue #343). Cross-player lookups
+        // go through the player directory, which answers online players from it and offline ones from
+        // a save-coherent cache, loading misses off the tick thread (AGENTS.md §5).
+        PlayerSessionRegistry playerSessionRegistry = new PlayerSessionRegistry();
+        PlayerDirectory playerDirectory = new PlayerDirectory(
+            playerSessionRegistry, playerRepository, persistenceQueue, tickThreadDispatcher,
+            PersistenceSettings.offlineCacheSize());
+        persistenceQueue.addSaveListener(playerDirectory::recordSave);
 
         // Built after mobRegistry so the wizard SPAWN/PURGE commands can be wired to it.
         SocketCommandRegistry commandRegistry = SocketCommandRegistry.createDefault(
             equipmentArmorResolver, raceArmorBonusResolver, classArmorBonusResolver, characterAttributesResolver,
             setBonusResolver, classRepository, abilityRegistry,
-            playerRepository, guildRepository, roomService, tellService, messageBroadcaster, reputationService,
+            playerRepository, leaderboards, roomService, tellService, messageBroadcaster, reputationService,
             weatherEngine,
-            tickMetricsService, wizardPolicy, playerLocationService, mobRegistry, shutdownHandle,
-            contentReloadService, tickThreadDispatcher);
+            tickMetricsService, commandLatencyMetrics, wizardPolicy, playerLocationService, mobRegistry,
+            shutdownHandle, contentReloadService, tickThreadDispatcher, new FlightRecordingService(), playerDirectory);
 
         CharacterCreationService characterCreationService =
             new CharacterCreationService(raceRepository, classRepository, abilityRegistry);
-        NewbieKitService newbieKitService = new NewbieKitService(createNewbieKit(), itemRepository);
+        NewbieKitService newbieKitService =
+            new NewbieKitService(createNewbieKit(content.newbieKitRepository()), itemRepository);
         NewPlayerHints newPlayerHints = createNewPlayerHints();
-        ShopService shopService = createShopService(itemRepository, reputationService);
+        ShopService shopService = createShopService(itemRepository, reputationService, content.shopRepository());
         BankService bankService = createBankService();
-        QuestRepository baseQuestRepository = createQuestRepository();
+        QuestRepository baseQuestRepository = content.questRepository();
         QuestItemRewardService questItemRewardService =
             new QuestItemRewardService(itemRepository, encumbranceService);
         QuestReputationRewardService questReputationRewardService =
@@ -615,21 +707,19 @@ public record GameContext(
         // mob-death hook); completion pays the guild treasury and announces on the [Guild] channel.
         GuildQuestService guildQuestService =
             new GuildQuestService(guildService, createGuildQuestPool(), messageBroadcaster);
-        if (mobRegistry != null) {
-            QuestKillService questKillService = new QuestKillService(questRepository);
-            questKillService.setLevelUpService(levelUpService);
-            mobRegistry.setQuestKillService(questKillService);
-            mobRegistry.setGuildQuestService(guildQuestService);
-        }
+        QuestKillService questKillService = new QuestKillService(questRepository);
+        questKillService.setLevelUpService(levelUpService);
+        mobRegistry.setQuestKillService(questKillService);
+        mobRegistry.setGuildQuestService(guildQuestService);
         // Player-funded mob bounties (issue #749): a persisted, in-memory-cached ledger of gold staked
         // on mob types, paid to whoever next kills the type (split across their party like a gold drop)
         // and announced server-wide. The payout hook runs on the tick thread from the same mob-death
         // path as quest/guild-quest crediting (AGENTS.md §5); GameContext is the only place the
         // repository and service are constructed (AGENTS.md §3.3).
-        BountyService bountyService = createBountyService(messageBroadcaster);
-        if (mobRegistry != null) {
-            mobRegistry.setBountyService(bountyService);
-        }
+        // Bounty POST resolves its target against the registry's in-memory templates, which RELOAD
+        // replaces, instead of re-reading every mob file per post.
+        BountyService bountyService = createBountyService(messageBroadcaster, mobRegistry::templates);
+        mobRegistry.setBountyService(bountyService);
         tickRegistry.register(
             new DailyQuestRotationTicker(worldClock, dailyQuestService, messageBroadcaster));
         tickRegistry.register(new GuildQuestRotationTicker(worldClock, guildQuestService));
@@ -686,9 +776,8 @@ public record GameContext(
 
         NotesService notesService = new NotesService(createNotesRepository(), Clock.systemUTC());
 
-        // Tracks live sessions by username (including linkdead ones) and ages out sessions whose
-        // connection dropped and were not reclaimed within the grace period (issue #343).
-        PlayerSessionRegistry playerSessionRegistry = new PlayerSessionRegistry();
+        // Ages out sessions whose connection dropped and were not reclaimed within the grace period
+        // (issue #343).
         tickRegistry.register(new LinkdeadTimeoutTicker(playerSessionRegistry));
 
         // Environmental hazards (issue #759): each tick, every player standing in a room that declares
@@ -714,7 +803,7 @@ public record GameContext(
         tickRegistry.register(new AuctionExpiryTicker(
             auctionService,
             tickClock::currentTick,
-            seller -> resolveAuctionSeller(seller, playerSessionRegistry, playerRepository),
+            playerDirectory::resolveNow,
             updated -> persistAuctionSeller(updated, playerSessionRegistry, persistenceQueue)));
 
         // Bounty expiry (issue #757): a posted bounty unclaimed past jmud.bounty.expiry_ticks is
@@ -726,13 +815,22 @@ public record GameContext(
             bountyService,
             tickClock::currentTick,
             () -> bountyExpiryTicks,
-            poster -> resolveAuctionSeller(poster, playerSessionRegistry, playerRepository),
+            playerDirectory::resolveNow,
             updated -> persistAuctionSeller(updated, playerSessionRegistry, persistenceQueue)));
 
         gameMetrics.bindGlobalGauges(tickRegistry, clientPool);
-
-        ContentCompletenessChecker contentCompletenessChecker =
-            createContentCompletenessChecker(roomRepository, itemRepository, classRepository, attackRepository);
+        // Every transport writes through a bounded per-connection outbound queue drained by its own
+        // virtual thread, so a client on a saturated link can never stall the tick thread that
+        // broadcasts to it (AGENTS.md §5). Shared here so all connections report into one set of meters.
+        OutboundQueueFactory outboundQueueFactory =
+            OutboundQueueFactory.fromSettings(gameMetrics.registry(), tickOutputCoalescer);
+
+        // Both checkers read the content already loaded above rather than parsing their own copies.
+        AreaConsistencyChecker areaConsistencyChecker = createAreaConsistencyChecker(
+            areaRepository, roomRepository, itemRepository, content.shopRepository(), mobRegistry::templates);
+        ContentCompletenessChecker contentCompletenessChecker = createContentCompletenessChecker(
+            roomRepository, itemRepository, classRepository, attackRepository, content, mobRegistry::templates);
+        startupTimings.finish();
 
         return new GameContext(
             userRegistry,
@@ -751,6 +849,7 @@ public record GameContext(
             effectRepository,
             effectEngine,
             combatEngine,
+            derivedStatsCache,
             worldRandom,
             encumbranceService,
             healingEngine,
@@ -809,7 +908,12 @@ public record GameContext(
             corpseLocatorService,
             areaConsistencyChecker,
             contentCompletenessChecker,
-            shutdownHandle
+            shutdownHandle,
+            outboundQueueFactory,
+            tickOutputCoalescer,
+            commandLatencyMetrics,
+            playerDirectory,
+            new TelnetCompressionMetrics(gameMetrics.registry())
         );
     }
 
@@ -820,7 +924,7 @@ public record GameContext(
      * @param username    the participant to inspect
      * @param clientPool  the connected client pool
      * @param roomService resolves player locations
-     * @param mobRegistry combat tracker (may be {@code null} in minimal boots)
+     * @param mobRegistry combat tracker
      * @param duelService duel tracker
      * @return the participant's current status, or {@link TradeParticipantStatus#OFFLINE}
      */
@@ -828,20 +932,17 @@ public record GameContext(
         Username username,
         ClientPool clientPool,
         RoomService roomService,
-        @Nullable MobRegistry mobRegistry,
+        MobRegistry mobRegistry,
         DuelService duelService
     ) {
-        @Nullable Player player = clientPool.inWorld().stream()
-            .flatMap(client -> client.currentPlayer().stream())
-            .filter(candidate -> candidate.getUsername().equals(username))
-            .findFirst()
+        @Nullable Player player = clientPool.findInWorld(username)
+            .flatMap(Client::currentPlayer)
             .orElse(null);
         if (player == null) {
             return TradeParticipantStatus.OFFLINE;
         }
         @Nullable RoomId room = roomService.findPlayerLocation(username).orElse(null);
-        boolean inCombat = (mobRegistry != null && mobRegistry.isInCombat(username))
-            || duelService.isDueling(username);
+        boolean inCombat = mobRegistry.isInCombat(username) || duelService.isDueling(username);
         return new TradeParticipantStatus(true, room, player.isDead(), inCombat);
     }
 
@@ -853,6 +954,55 @@ public record GameContext(
         return new JsonFerryRepository();
     }
 
+    /**
+     * Compiles the static content read at start-up — items, rooms, mobs, attacks, skills, quests
+     * and effects — into a content pack, for the {@code --compile-content} startup mode.
+     *
+     * @param target the pack file to write
+     * @return what was written
+     * @throws IOException if a data file cannot be parsed or the pack cannot be written
+     */
+    public static ContentPack.Compiled compileContentPack(Path target) throws IOException {
+        return ContentPack.compile(CONTENT_PACK_DIRECTORIES, target);
+    }
+
+    /**
+     * Creates the content pack source when packs are enabled and selects the pack if it is current.
+     */
+    private static Optional<ContentPackSource> selectContentPack() {
+        Optional<ContentPackSource> source = StartupSettings.contentPack()
+            .map(path -> new ContentPackSource(path, CONTENT_PACK_DIRECTORIES));
+        source.ifPresent(ContentPackSource::select);
+        return source;
+    }
+
+    /**
+     * Copies every player in the JSON {@code players/} directory into the single-file store at
+     * {@code storePath}, for the {@code --migrate-players} startup mode.
+     *
+     * @param storePath the store to create or update
+     * @return the number of players copied
+     * @throws RepositoryException if the store cannot be opened or a player cannot be written
+     */
+    public static int migratePlayersToStore(Path storePath) throws RepositoryException {
+        try (StorePlayerRepository store = new StorePlayerRepository(storePath, true)) {
+            return PlayerStoreMigration.migrate(new JsonPlayerRepository(Path.of(".")), store);
+        }
+    }
+
+    private static PlayerRepository createPlayerRepository() {
+        return switch (PersistenceSettings.playerStore()) {
+            case JSON -> new JsonPlayerRepository(Path.of("."), PersistenceSettings.fsync());
+            case SINGLE_FILE -> {
+                try {
+                    yield new StorePlayerRepository(PersistenceSettings.playerStorePath(), PersistenceSettings.fsync());
+                } catch (RepositoryException e) {
+                    throw new IllegalStateException("Failed to initialize player store: " + e.getMessage(), e);
+                }
+            }
+        };
+    }
+
     private static UserRegistry createUserRegistry() {
         try {
             return new JsonUserRegistry();
@@ -861,9 +1011,9 @@ public record GameContext(
         }
     }
 
-    private static RoomRepository createRoomRepository(ItemRepository itemRepository) {
+    private static RoomRepository createRoomRepository(ItemRepository itemRepository, JsonDocumentSource documents) {
         try {
-            return new JsonRoomRepository(itemRepository);
+            return new JsonRoomRepository(itemRepository, Path.of("data"), documents);
         } catch (RepositoryException e) {
             throw new IllegalStateException("Failed to initialize room repository: " + e.getMessage(), e);
         }
@@ -883,53 +1033,77 @@ public record GameContext(
         }
     }
 
-    private static AreaConsistencyChecker createAreaConsistencyChecker(
-        AreaRepository areaRepository, RoomRepository roomRepository, ItemRepository itemRepository) {
+    private static @Nullable AreaDormancyService createAreaDormancyService(
+        AreaRepository areaRepository, RoomService roomService, MeterRegistry meterRegistry) {
+        if (!AreaDormancySettings.enabled()) {
+            return null;
+        }
         try {
-            return new AreaConsistencyChecker(
-                areaRepository,
-                (RoomCatalog) roomRepository,
-                new JsonShopRepository(),
-                new JsonMobTemplateRepository(),
-                itemRepository);
-        } catch (ShopRepositoryException | RepositoryException e) {
-            throw new IllegalStateException(
-                "Failed to initialize area consistency checker: " + e.getMessage(), e);
+            return new AreaDormancyService(
+                areaRepository.findAll(),
+                roomService::occupiedRooms,
+                roomService::getExits,
+                AreaDormancySettings.radiusRooms(),
+                AreaDormancySettings.idleTicks(),
+                meterRegistry);
+        } catch (RepositoryException e) {
+            throw new IllegalStateException("Failed to initialize area dormancy: " + e.getMessage(), e);
+        }
+    }
+
+    /** Every readable persisted player; a damaged save is logged and left off the boards. */
+    private static List<Player> allPlayers(PlayerRepository playerRepository) {
+        try {
+            return playerRepository.findAllReadable();
+        } catch (RepositoryException e) {
+            throw new IllegalStateException("Failed to seed the leaderboards: " + e.getMessage(), e);
+        }
+    }
+
+    private static void reloadAreaDormancy(AreaDormancyService areaDormancyService, AreaRepository areaRepository) {
+        try {
+            areaDormancyService.reload(areaRepository.findAll());
+        } catch (RepositoryException e) {
+            throw new IllegalStateException("Failed to reload area dormancy: " + e.getMessage(), e);
         }
     }
 
+    private static AreaConsistencyChecker createAreaConsistencyChecker(
+        AreaRepository areaRepository,
+        RoomRepository roomRepository,
+        ItemRepository itemRepository,
+        ShopRepository shopRepository,
+        MobTemplateRepository mobTemplateRepository) {
+        return new AreaConsistencyChecker(
+            areaRepository,
+            (RoomCatalog) roomRepository,
+            shopRepository,
+            mobTemplateRepository,
+            itemRepository);
+    }
+
     private static ContentCompletenessChecker createContentCompletenessChecker(
         RoomRepository roomRepository,
         ItemRepository itemRepository,
         ClassRepository classRepository,
-        AttackRepository attackRepository) {
-        try {
-            return new ContentCompletenessChecker(
-                new JsonMobTemplateRepository(),
-                (RoomCatalog) roomRepository,
-                (ItemCatalog) itemRepository,
-                attackRepository,
-                new JsonAbilityRepository(),
-                classRepository,
-                new JsonShopRepository(),
-                new JsonQuestRepository(),
-                List.<RecipeRepository>of(
-                    new JsonRecipeRepository(),
-                    new JsonRecipeRepository(Path.of("data"), "recipes/alchemy"),
-                    new JsonRecipeRepository(Path.of("data"), "recipes/cooking"),
-                    new JsonRecipeRepository(Path.of("data"), "recipes/leatherworking"),
-                    new JsonRecipeRepository(Path.of("data"), "recipes/jewelcrafting"),
-                    new JsonRecipeRepository(Path.of("data"), "recipes/tailoring")),
-                new JsonResourceNodeRepository(),
-                new JsonNewbieKitRepository(),
-                new JsonSalvageTierRepository(),
-                new JsonFactionRepository(),
-                new JsonItemSetRepository());
-        } catch (RepositoryException | ShopRepositoryException | RecipeRepositoryException
-            | FactionRepositoryException | AbilityRepositoryException | QuestRepositoryException e) {
-            throw new IllegalStateException(
-                "Failed to initialize content completeness checker: " + e.getMessage(), e);
-        }
+        AttackRepository attackRepository,
+        ContentGraph content,
+        MobTemplateRepository mobTemplateRepository) {
+        return new ContentCompletenessChecker(
+            mobTemplateRepository,
+            (RoomCatalog) roomRepository,
+            (ItemCatalog) itemRepository,
+            attackRepository,
+            content.abilityRepository(),
+            classRepository,
+            content.shopRepository(),
+            content.questRepository(),
+            content.recipeRepositories(),
+            content.resourceNodeRepository(),
+            content.newbieKitRepository(),
+            content.salvageTierRepository(),
+            content.factionRepository(),
+            content.itemSetRepository());
     }
 
     private static MobRegistry createMobRegistry(
@@ -939,40 +1113,120 @@ public record GameContext(
         PersistenceQueue persistenceQueue,
         ItemRepository itemRepository,
         JsonAttackRepository attackRepository,
-        CombatRandom worldRandom
+        CombatRandom worldRandom,
+        MobTemplateRepository templateRepo
     ) {
+        return new MobRegistry(
+            templateRepo, itemRepository, attackRepository, roomService, playerRepository,
+            persistenceQueue, playerEventBus, worldRandom);
+    }
+
+    private static BountyService createBountyService(
+        MessageBroadcaster messageBroadcaster, MobTemplateRepository mobTemplateRepository) {
+        return new BountyService(
+            new JsonBountyRepository(), mobTemplateRepository, messageBroadcaster,
+            BountySettings.maxOpenPerPlayer());
+    }
+
+    private static AbilityRegistry loadAbilities(AbilityRepository abilityRepository) {
         try {
-            JsonMobTemplateRepository templateRepo = new JsonMobTemplateRepository();
-            return new MobRegistry(
-                templateRepo, itemRepository, attackRepository, roomService, playerRepository,
-                persistenceQueue, playerEventBus, worldRandom);
-        } catch (RepositoryException e) {
-            throw new IllegalStateException("Failed to initialize mob registry: " + e.getMessage(), e);
+            return new AbilityRegistry(abilityRepository.findAll());
+        } catch (AbilityRepositoryException e) {
+            throw new IllegalStateException("Failed to load abilities: " + e.getMessage(), e);
         }
     }
 
-    private static BountyService createBountyService(MessageBroadcaster messageBroadcaster) {
+    private static void loadContent(
+        ItemRepository itemRepository,
+        RoomRepository roomRepository,
+        JsonEffectRepository effectRepository,
+        JsonAttackRepository attackRepository
+    ) {
         try {
-            return new BountyService(
-                new JsonBountyRepository(), new JsonMobTemplateRepository(), messageBroadcaster,
-                BountySettings.maxOpenPerPlayer());
+            new ContentReloadService(
+                (ItemContentReloader) itemRepository,
+                (RoomContentReloader) roomRepository,
+                null,
+                itemRepository::findById,
+                List.of(effectRepository, attackRepository)).prepare().commit();
         } catch (RepositoryException e) {
-            throw new IllegalStateException(
-                "Failed to initialize bounty service: " + e.getMessage(), e);
+            throw new IllegalStateException("Failed to load content: " + e.getMessage(), e);
         }
     }
 
-    private static AbilityRegistry loadAbilities() {
-        try {
-            return new AbilityRegistry(new JsonAbilityRepository().findAll());
-        } catch (AbilityRepositoryException e) {
-            throw new IllegalStateException("Failed to load abilities: " + e.getMessage(), e);
+    /**
+     * Constructs every repository of the {@link ContentGraph} and reads it on a bounded
+     * {@link ContentLoader}, one task per data directory, while {@code alongside} runs on the calling
+     * thread.
+     */
+    private static ContentGraph loadSharedContent(JsonDocumentSource documents, Runnable alongside) {
+        try (ContentLoader loader = new ContentLoader(StartupSettings.loaderThreads())) {
+            // One task builds and reads the mob repository: its templates are kept beside it (see
+            // ContentGraph), and no loader thread ever blocks on another task.
+            Future<MobContent> mobs = loader.submit(() -> {
+                JsonMobTemplateRepository repository = new JsonMobTemplateRepository(Path.of("data"), documents);
+                return new MobContent(repository, repository.findAll());
+            });
+            Future<AbilityRepository> abilities = loader.submit(
+                () -> ContentLoader.warmed(
+                    new JsonAbilityRepository(Path.of("data"), documents), AbilityRepository::findAll));
+            Future<ShopRepository> shops = loader.submit(
+                () -> ContentLoader.warmed(new JsonShopRepository(), ShopRepository::findAll));
+            Future<QuestRepository> quests = loader.submit(
+                () -> ContentLoader.warmed(
+                    new JsonQuestRepository(Path.of("data"), documents), QuestRepository::findAll));
+            Future<RecipeRepository> recipes = loader.submit(
+                () -> ContentLoader.warmed(new JsonRecipeRepository(), RecipeRepository::findAll));
+            Future<RecipeRepository> alchemy = loader.submit(() -> loadRecipes("recipes/alchemy"));
+            Future<RecipeRepository> cooking = loader.submit(() -> loadRecipes("recipes/cooking"));
+            Future<RecipeRepository> leatherworking = loader.submit(() -> loadRecipes("recipes/leatherworking"));
+            Future<RecipeRepository> jewelcrafting = loader.submit(() -> loadRecipes("recipes/jewelcrafting"));
+            Future<RecipeRepository> tailoring = loader.submit(() -> loadRecipes("recipes/tailoring"));
+            Future<ResourceNodeRepository> resourceNodes = loader.submit(
+                () -> ContentLoader.warmed(new JsonResourceNodeRepository(), ResourceNodeRepository::findAll));
+            Future<NewbieKitRepository> newbieKit = loader.submit(
+                () -> ContentLoader.warmed(new JsonNewbieKitRepository(), NewbieKitRepository::load));
+            Future<SalvageTierRepository> salvageTiers = loader.submit(
+                () -> ContentLoader.warmed(new JsonSalvageTierRepository(), SalvageTierRepository::findAll));
+            // Factions are read by the constructor.
+            Future<FactionRepository> factions = loader.submit(JsonFactionRepository::new);
+            Future<ItemSetRepository> itemSets = loader.submit(
+                () -> ContentLoader.warmed(new JsonItemSetRepository(), ItemSetRepository::findAll));
+
+            alongside.run();
+
+            MobContent mobContent = ContentLoader.await(mobs);
+            return new ContentGraph(
+                mobContent.repository(),
+                mobContent.templates(),
+                ContentLoader.await(abilities),
+                ContentLoader.await(shops),
+                ContentLoader.await(quests),
+                ContentLoader.await(recipes),
+                ContentLoader.await(alchemy),
+                ContentLoader.await(cooking),
+                ContentLoader.await(leatherworking),
+                ContentLoader.await(jewelcrafting),
+                ContentLoader.await(tailoring),
+                ContentLoader.await(resourceNodes),
+                ContentLoader.await(newbieKit),
+                ContentLoader.await(salvageTiers),
+                ContentLoader.await(factions),
+                ContentLoader.await(itemSets));
         }
     }
 
-    private static EffectRepository createEffectRepository() {
+    /** The mob template repository together with the templates it read at start-up. */
+    private record MobContent(JsonMobTemplateRepository repository, List<MobTemplate> templates) {
+    }
+
+    private static RecipeRepository loadRecipes(String subdirectory) throws RecipeRepositoryException {
+        return ContentLoader.warmed(new JsonRecipeRepository(Path.of("data"), subdirectory), RecipeRepository::findAll);
+    }
+
+    private static JsonEffectRepository createEffectRepository(JsonDocumentSource documents) {
         try {
-            return new JsonEffectRepository();
+            return new JsonEffectRepository(Path.of("."), documents);
         } catch (EffectRepositoryException e) {
             throw new IllegalStateException("Failed to initialize effects: " + e.getMessage(), e);
         }
@@ -980,11 +1234,7 @@ public record GameContext(
 
     private static CombatEngine createCombatEngine(
         EffectRepository effectRepository,
-        RaceArmorBonusResolver armorBonusResolver,
-        RaceAttackBonusResolver attackBonusResolver,
-        ClassArmorBonusResolver classArmorBonusResolver,
-        EquipmentArmorResolver equipmentArmorResolver,
-        EquipmentResistanceResolver equipmentResistanceResolver,
+        DerivedStatsCache derivedStatsCache,
         ShieldBlockResolver shieldBlockResolver,
         CombatAttributeBonusResolver attributeBonusResolver,
         JsonAttackRepository attackRepository,
@@ -1000,8 +1250,7 @@ public record GameContext(
         if (!seeded) {
             CombatRandom threadLocalRandom = new ThreadLocalCombatRandom();
             return new CombatEngine(
-                attackRepository, resolver, armorBonusResolver, attackBonusResolver, classArmorBonusResolver,
-                equipmentArmorResolver, equipmentResistanceResolver, shieldBlockResolver, offhandAttackResolver,
+                attackRepository, resolver, derivedStatsCache, shieldBlockResolver, offhandAttackResolver,
                 attributeBonusResolver,
                 (tick, actorId) -> threadLocalRandom, () -> 0L, effectEngine, verbTable, parryResolver);
         }
@@ -1009,8 +1258,7 @@ public record GameContext(
         // world seed and logs the effective seed at INFO so any session can be reconstructed.
         SeededCombatRandomProvider provider = new SeededCombatRandomProvider(worldSeed);
         return new CombatEngine(
-            attackRepository, resolver, armorBonusResolver, attackBonusResolver, classArmorBonusResolver,
-            equipmentArmorResolver, equipmentResistanceResolver, shieldBlockResolver, offhandAttackResolver,
+            attackRepository, resolver, derivedStatsCache, shieldBlockResolver, offhandAttackResolver,
             attributeBonusResolver,
             provider, tickSupplier, effectEngine, verbTable, parryResolver);
     }
@@ -1023,21 +1271,17 @@ public record GameContext(
         }
     }
 
-    private static ItemRepository createItemRepository() {
+    private static ItemRepository createItemRepository(JsonDocumentSource documents) {
         try {
-            return new JsonItemRepository();
+            return new JsonItemRepository(Path.of("data"), documents);
         } catch (RepositoryException e) {
             throw new IllegalStateException("Failed to initialize item repository: " + e.getMessage(), e);
         }
     }
 
-    private static ItemSetRepository createItemSetRepository() {
-        return new JsonItemSetRepository();
-    }
-
-    private static NewbieKit createNewbieKit() {
+    private static NewbieKit createNewbieKit(NewbieKitRepository newbieKitRepository) {
         try {
-            return new JsonNewbieKitRepository().load();
+            return newbieKitRepository.load();
         } catch (NewbieKitException e) {
             throw new IllegalStateException("Failed to initialize newbie kit: " + e.getMessage(), e);
         }
@@ -1059,9 +1303,9 @@ public record GameContext(
         }
     }
 
-    private static JsonAttackRepository createAttackRepository() {
+    private static JsonAttackRepository createAttackRepository(JsonDocumentSource documents) {
         try {
-            return new JsonAttackRepository();
+            return new JsonAttackRepository(Path.of("data"), documents);
         } catch (RepositoryException e) {
             throw new IllegalStateException("Failed to initialize attack repository: " + e.getMessage(), e);
         }
@@ -1103,37 +1347,40 @@ public record GameContext(
         }
     }
 
-    private static CraftingService createCraftingService(ItemRepository itemRepository) {
+    private static CraftingService createCraftingService(
+        ItemRepository itemRepository, RecipeRepository recipeRepository) {
         try {
-            List<Recipe> recipes = new JsonRecipeRepository().findAll();
+            List<Recipe> recipes = recipeRepository.findAll();
             return new CraftingService(recipes, itemRepository);
         } catch (RecipeRepositoryException e) {
             throw new IllegalStateException("Failed to initialize crafting service: " + e.getMessage(), e);
         }
     }
 
-    private static CraftingService createAlchemyService(ItemRepository itemRepository) {
+    private static CraftingService createAlchemyService(
+        ItemRepository itemRepository, RecipeRepository recipeRepository) {
         try {
-            List<Recipe> recipes = new JsonRecipeRepository(Path.of("data"), "recipes/alchemy").findAll();
+            List<Recipe> recipes = recipeRepository.findAll();
             return new CraftingService(recipes, itemRepository, CrafterProfile.alchemist());
         } catch (RecipeRepositoryException e) {
             throw new IllegalStateException("Failed to initialize alchemy service: " + e.getMessage(), e);
         }
     }
 
-    private static CraftingService createCookingService(ItemRepository itemRepository) {
+    private static CraftingService createCookingService(
+        ItemRepository itemRepository, RecipeRepository recipeRepository) {
         try {
-            List<Recipe> recipes = new JsonRecipeRepository(Path.of("data"), "recipes/cooking").findAll();
+            List<Recipe> recipes = recipeRepository.findAll();
             return new CraftingService(recipes, itemRepository, CrafterProfile.cook());
         } catch (RecipeRepositoryException e) {
             throw new IllegalStateException("Failed to initialize cooking service: " + e.getMessage(), e);
         }
     }
 
-    private static CraftingService createLeatherworkingService(ItemRepository itemRepository) {
+    private static CraftingService createLeatherworkingService(
+        ItemRepository itemRepository, RecipeRepository recipeRepository) {
         try {
-            List<Recipe> recipes =
-                new JsonRecipeRepository(Path.of("data"), "recipes/leatherworking").findAll();
+            List<Recipe> recipes = recipeRepository.findAll();
             return new CraftingService(recipes, itemRepository, CrafterProfile.leatherworker());
         } catch (RecipeRepositoryException e) {
             throw new IllegalStateException(
@@ -1141,10 +1388,10 @@ public record GameContext(
         }
     }
 
-    private static CraftingService createJewelerService(ItemRepository itemRepository) {
+    private static CraftingService createJewelerService(
+        ItemRepository itemRepository, RecipeRepository recipeRepository) {
         try {
-            List<Recipe> recipes =
-                new JsonRecipeRepository(Path.of("data"), "recipes/jewelcrafting").findAll();
+            List<Recipe> recipes = recipeRepository.findAll();
             return new CraftingService(recipes, itemRepository, CrafterProfile.jeweler());
         } catch (RecipeRepositoryException e) {
             throw new IllegalStateException(
@@ -1152,10 +1399,10 @@ public record GameContext(
         }
     }
 
-    private static CraftingService createTailorService(ItemRepository itemRepository) {
+    private static CraftingService createTailorService(
+        ItemRepository itemRepository, RecipeRepository recipeRepository) {
         try {
-            List<Recipe> recipes =
-                new JsonRecipeRepository(Path.of("data"), "recipes/tailoring").findAll();
+            List<Recipe> recipes = recipeRepository.findAll();
             return new CraftingService(recipes, itemRepository, CrafterProfile.tailor());
         } catch (RecipeRepositoryException e) {
             throw new IllegalStateException(
@@ -1163,9 +1410,10 @@ public record GameContext(
         }
     }
 
-    private static SalvageService createSalvageService(ItemRepository itemRepository) {
+    private static SalvageService createSalvageService(
+        ItemRepository itemRepository, SalvageTierRepository salvageTierRepository) {
         try {
-            List<SalvageTier> tiers = new JsonSalvageTierRepository().findAll();
+            List<SalvageTier> tiers = salvageTierRepository.findAll();
             return new SalvageService(tiers, itemRepository);
         } catch (SalvageTierRepositoryException e) {
             throw new IllegalStateException("Failed to initialize salvage service: " + e.getMessage(), e);
@@ -1185,9 +1433,10 @@ public record GameContext(
         }
     }
 
-    private static ResourceGatheringService createResourceGatheringService(ItemRepository itemRepository) {
+    private static ResourceGatheringService createResourceGatheringService(
+        ItemRepository itemRepository, ResourceNodeRepository resourceNodeRepository) {
         try {
-            List<ResourceNode> nodes = new JsonResourceNodeRepository().findAll();
+            List<ResourceNode> nodes = resourceNodeRepository.findAll();
             return new ResourceGatheringService(nodes, itemRepository);
         } catch (RepositoryException e) {
             throw new IllegalStateException(
@@ -1195,18 +1444,14 @@ public record GameContext(
         }
     }
 
-    private static ShopService createShopService(ItemRepository itemRepository, ReputationService reputationService) {
-        try {
-            ShopRepository shopRepository = new JsonShopRepository();
-            return new ShopService(shopRepository, itemRepository, reputationService);
-        } catch (ShopRepositoryException e) {
-            throw new IllegalStateException("Failed to initialize shop service: " + e.getMessage(), e);
-        }
+    private static ShopService createShopService(
+        ItemRepository itemRepository, ReputationService reputationService, ShopRepository shopRepository) {
+        return new ShopService(shopRepository, itemRepository, reputationService);
     }
 
-    private static ReputationService createReputationService() {
+    private static ReputationService createReputationService(FactionRepository factionRepository) {
         try {
-            return new ReputationService(new JsonFactionRepository());
+            return new ReputationService(factionRepository);
         } catch (FactionRepositoryException e) {
             throw new IllegalStateException("Failed to initialize reputation service: " + e.getMessage(), e);
         }
@@ -1232,26 +1477,13 @@ public record GameContext(
     private static AuctionService createAuctionService() {
         try {
             AuctionHouseRepository houseRepository = new JsonAuctionHouseRepository();
-            AuctionRepository listingRepository = new JsonAuctionRepository();
+            AuctionRepository listingRepository = new JournaledAuctionRepository();
             return new AuctionService(houseRepository, listingRepository);
         } catch (AuctionRepositoryException e) {
             throw new IllegalStateException("Failed to initialize auction service: " + e.getMessage(), e);
         }
     }
 
-    /**
-     * Resolves a seller's current {@link Player} state for the Auction House expiry ticker, preferring
-     * a live in-session player and falling back to the persisted player file for offline sellers.
-     */
-    private static Optional<Player> resolveAuctionSeller(
-        Username seller, PlayerSessionRegistry sessions, PlayerRepository playerRepository) {
-        PlayerSession session = sessions.lookup(seller).orElse(null);
-        if (session != null && session.getPlayer() != null) {
-            return Optional.of(session.getPlayer());
-        }
-        return playerRepository.loadPlayer(seller);
-    }
-
     /**
      * Persists an updated seller after an Auction House expiry return, replacing the live session when
      * the seller is online and otherwise enqueuing a write-behind save for the offline player.
@@ -1298,14 +1530,6 @@ public record GameContext(
         }
     }
 
-    private static QuestRepository createQuestRepository() {
-        try {
-            return new JsonQuestRepository();
-        } catch (QuestRepositoryException e) {
-            throw new IllegalStateException("Failed to initialize quest repository: " + e.getMessage(), e);
-        }
-    }
-
     private static DailyQuestService createDailyQuestService(
             QuestItemRewardService itemRewardService,
             QuestReputationRewardService reputationRewardService) {
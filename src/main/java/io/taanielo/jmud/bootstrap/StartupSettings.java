@@ -0,0 +1,52 @@
+package io.taanielo.jmud.bootstrap;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import io.taanielo.jmud.core.config.GameConfig;
+
+/**
+ * Configuration for server start-up and {@code --validate-data}, read from {@code jmud.properties}.
+ *
+ * <p>Values are read once from {@link GameConfig} following the same static-settings pattern as
+ * {@link io.taanielo.jmud.core.persistence.PersistenceSettings}.
+ */
+public final class StartupSettings {
+
+    /** Default loader thread count; {@code 0} means one per available processor. */
+    public static final int DEFAULT_LOADER_THREADS = 0;
+
+    /** Default content pack, written by {@code --compile-content} and read at start-up. */
+    public static final String DEFAULT_CONTENT_PACK = "content.pack";
+
+    private static final GameConfig CONFIG = GameConfig.load();
+
+    private StartupSettings() {
+    }
+
+    /**
+     * Returns how many threads parse data files in parallel while the game content is loaded at
+     * start-up and while {@code --validate-data} checks every file.
+     *
+     * @return a positive thread count; one per available processor when configured as {@code 0}
+     * @throws IllegalArgumentException if the configured value is negative
+     */
+    public static int loaderThreads() {
+        int threads = CONFIG.getInt("jmud.startup.loader_threads", DEFAULT_LOADER_THREADS);
+        if (threads < 0) {
+            throw new IllegalArgumentException("Startup loader threads must be >= 0");
+        }
+        return threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+    }
+
+    /**
+     * Returns the compiled content pack the server loads its static content from while the pack is
+     * newer than the JSON data files, and {@code --compile-content} writes.
+     *
+     * @return the pack file, or empty when packs are disabled by configuring a blank path
+     */
+    public static Optional<Path> contentPack() {
+        String path = CONFIG.getString("jmud.startup.content_pack", DEFAULT_CONTENT_PACK).strip();
+        return path.isEmpty() ? Optional.empty() : Optional.of(Path.of(path));
+    }
+}
@@ -0,0 +1,67 @@
+package io.taanielo.jmud.bootstrap;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Times the phases of {@link GameContext#create} so a slow cold start points at the phase to blame.
+ * Each phase is logged at INFO and recorded as the {@code jmud.startup.phase} timer tagged with its
+ * name; {@link #finish()} records the whole start-up as the {@code total} phase.
+ */
+@Slf4j
+final class StartupTimings {
+
+    private final MeterRegistry registry;
+    private final long startedNanos;
+
+    StartupTimings(MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry, "Registry is required");
+        this.startedNanos = System.nanoTime();
+    }
+
+    /**
+     * Runs one phase and records how long it took.
+     *
+     * @param phase the phase name, used as the timer tag
+     * @param step  the work of the phase
+     * @return whatever {@code step} returned
+     */
+    <T> T time(String phase, Supplier<T> step) {
+        long started = System.nanoTime();
+        T result = step.get();
+        record(phase, System.nanoTime() - started);
+        return result;
+    }
+
+    /**
+     * Runs one phase that returns nothing and records how long it took.
+     *
+     * @param phase the phase name, used as the timer tag
+     * @param step  the work of the phase
+     */
+    void time(String phase, Runnable step) {
+        long started = System.nanoTime();
+        step.run();
+        record(phase, System.nanoTime() - started);
+    }
+
+    /** Records the time since this instance was created as the {@code total} phase. */
+    void finish() {
+        record("total", System.nanoTime() - startedNanos);
+    }
+
+    private void record(String phase, long nanos) {
+        Timer.builder("jmud.startup.phase")
+            .description("Wall-clock time of one server start-up phase")
+            .tag("phase", phase)
+            .register(registry)
+            .record(Duration.ofNanos(nanos));
+        log.info("Startup phase {} took {} ms", phase, Duration.ofNanos(nanos).toMillis());
+    }
+}
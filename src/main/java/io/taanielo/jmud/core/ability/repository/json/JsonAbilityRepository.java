@@ -11,6 +11,7 @@ import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
 
 import io.taanielo.jmud.core.ability.Ability;
 import io.taanielo.jmud.core.ability.AbilityId;
@@ -19,6 +20,7 @@ import io.taanielo.jmud.core.ability.dto.AbilityMapper;
 import io.taanielo.jmud.core.ability.dto.SchemaVersions;
 import io.taanielo.jmud.core.ability.repository.AbilityRepository;
 import io.taanielo.jmud.core.ability.repository.AbilityRepositoryException;
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 
 public class JsonAbilityRepository implements AbilityRepository {
 
@@ -27,13 +29,26 @@ public class JsonAbilityRepository implements AbilityRepository {
     private final ObjectMapper objectMapper;
     private final AbilityMapper abilityMapper;
     private final Path skillsDirPath;
+    private final JsonDocumentSource documents;
     private final Map<AbilityId, Ability> cache;
+    /** Every ability, read once on the first {@link #findAll()} and shared by later callers. */
+    @Nullable
+    private volatile List<Ability> all;
 
     public JsonAbilityRepository() throws AbilityRepositoryException {
         this(Path.of("data"));
     }
 
     public JsonAbilityRepository(Path dataRoot) throws AbilityRepositoryException {
+        this(dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/skills} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonAbilityRepository(Path dataRoot, JsonDocumentSource documents) throws AbilityRepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.abilityMapper = new AbilityMapper();
         this.cache = new ConcurrentHashMap<>();
@@ -68,24 +83,31 @@ public class JsonAbilityRepository implements AbilityRepository {
 
     @Override
     public List<Ability> findAll() throws AbilityRepositoryException {
+        List<Ability> loaded = all;
+        if (loaded == null) {
+            loaded = load();
+            all = loaded;
+        }
+        return loaded;
+    }
+
+    private List<Ability> load() throws AbilityRepositoryException {
         List<Ability> abilities = new ArrayList<>();
         try {
             if (!Files.exists(skillsDirPath)) {
                 return List.of();
             }
-            try (var stream = Files.list(skillsDirPath)) {
-                for (Path path : stream.filter(path -> path.toString().endsWith(".json")).toList()) {
-                    AbilityDto dto = readAbilityDto(path);
-                    validateSchema(dto, path);
-                    Ability ability;
-                    try {
-                        ability = abilityMapper.toDomain(dto);
-                    } catch (IllegalArgumentException e) {
-                        throw new AbilityRepositoryException("Invalid ability data in " + path + ": " + e.getMessage(), e);
-                    }
-                    abilities.add(ability);
-                    cache.put(ability.id(), ability);
+            for (Path path : documents.list(skillsDirPath)) {
+                AbilityDto dto = readAbilityDto(path);
+                validateSchema(dto, path);
+                Ability ability;
+                try {
+                    ability = abilityMapper.toDomain(dto);
+                } catch (IllegalArgumentException e) {
+                    throw new AbilityRepositoryException("Invalid ability data in " + path + ": " + e.getMessage(), e);
                 }
+                abilities.add(ability);
+                cache.put(ability.id(), ability);
             }
         } catch (IOException e) {
             throw new AbilityRepositoryException("Failed to read abilities from " + skillsDirPath + ": " + e.getMessage(), e);
@@ -107,7 +129,7 @@ public class JsonAbilityRepository implements AbilityRepository {
 
     private AbilityDto readAbilityDto(Path path) throws AbilityRepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), AbilityDto.class);
+            return documents.read(path, objectMapper, AbilityDto.class);
         } catch (IOException e) {
             throw new AbilityRepositoryException("Failed to read ability data from " + path + ": " + e.getMessage(), e);
         }
@@ -0,0 +1,162 @@
+package io.taanielo.jmud.core.auction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jspecify.annotations.Nullable;
+
+import io.taanielo.jmud.core.authentication.Username;
+
+/**
+ * In-memory set of active {@link AuctionListing}s keyed by a ledger id, with secondary indexes by
+ * seller and expiry tick, so finding a listing to remove and the expiry sweep touch only the listings
+ * involved instead of the whole set.
+ *
+ * <p>Ids increase monotonically and are never reused; iteration order is insertion order, which is
+ * the order {@code AUCTION LIST} numbers listings in. Not thread-safe: owned by the tick thread.
+ */
+public final class AuctionListingBook {
+
+    private final Map<Long, AuctionListing> byId = new LinkedHashMap<>();
+    private final Map<Username, Set<Long>> bySeller = new HashMap<>();
+    private final NavigableMap<Long, Set<Long>> byExpiryTick = new TreeMap<>();
+    private long nextId = 1;
+
+    /**
+     * Adds a listing under the next free id.
+     *
+     * @param listing the listing to add
+     * @return the id assigned to the listing
+     */
+    public long add(AuctionListing listing) {
+        long id = nextId;
+        put(id, listing);
+        return id;
+    }
+
+    /**
+     * Adds the listing with the given id, as when replaying a journal, or replaces it in place when
+     * the id is already present. Later {@link #add} calls assign ids above every id seen here.
+     *
+     * @param id      the ledger id; must be positive
+     * @param listing the listing
+     */
+    public void put(long id, AuctionListing listing) {
+        Objects.requireNonNull(listing, "listing is required");
+        if (id < 1) {
+            throw new IllegalArgumentException("Listing id must be positive");
+        }
+        AuctionListing previous = byId.put(id, listing);
+        if (previous != null) {
+            unindex(bySeller, previous.seller(), id);
+            unindex(byExpiryTick, previous.expiryTick(), id);
+        }
+        bySeller.computeIfAbsent(listing.seller(), _ -> new LinkedHashSet<>()).add(id);
+        byExpiryTick.computeIfAbsent(listing.expiryTick(), _ -> new LinkedHashSet<>()).add(id);
+        nextId = Math.max(nextId, id + 1);
+    }
+
+    /**
+     * Removes the listing with the given id.
+     *
+     * @param id the ledger id
+     * @return the removed listing, or {@code null} when no listing has that id
+     */
+    public @Nullable AuctionListing remove(long id) {
+        AuctionListing listing = byId.remove(id);
+        if (listing == null) {
+            return null;
+        }
+        unindex(bySeller, listing.seller(), id);
+        unindex(byExpiryTick, listing.expiryTick(), id);
+        return listing;
+    }
+
+    /** Removes every listing. Ids already handed out are still never reused. */
+    public void clear() {
+        byId.clear();
+        bySeller.clear();
+        byExpiryTick.clear();
+    }
+
+    /**
+     * Returns the id of the oldest listing equal to {@code listing}, looking only at its seller's
+     * listings.
+     *
+     * @param listing the listing to look for
+     * @return its id, or empty when the book holds no equal listing
+     */
+    public OptionalLong idOf(AuctionListing listing) {
+        for (long id : bySeller.getOrDefault(listing.seller(), Set.of())) {
+            if (listing.equals(byId.get(id))) {
+                return OptionalLong.of(id);
+            }
+        }
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Returns the listing with the given id.
+     *
+     * @param id the ledger id
+     * @return the listing, or {@code null} when no listing has that id
+     */
+    public @Nullable AuctionListing get(long id) {
+        return byId.get(id);
+    }
+
+    /** Returns every listing in insertion order. */
+    public List<AuctionListing> all() {
+        return List.copyOf(byId.values());
+    }
+
+    /** Returns every listing keyed by id, in insertion order. */
+    public Map<Long, AuctionListing> entries() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(byId));
+    }
+
+    /**
+     * Returns the ids of listings that have expired as of {@code currentTick}, soonest expiry first.
+     *
+     * @param currentTick the current game tick
+     * @return the expired ids, possibly empty
+     */
+    public List<Long> expiredIds(long currentTick) {
+        List<Long> expired = new ArrayList<>();
+        for (Set<Long> ids : byExpiryTick.headMap(currentTick, true).values()) {
+            expired.addAll(ids);
+        }
+        return expired;
+    }
+
+    /** Returns the number of listings. */
+    public int size() {
+        return byId.size();
+    }
+
+    /** Returns the id the next {@link #add} will assign. */
+    public long nextId() {
+        return nextId;
+    }
+
+    private static <K> void unindex(Map<K, Set<Long>> index, K key, long id) {
+        Set<Long> ids = index.get(key);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            index.remove(key);
+        }
+    }
+}
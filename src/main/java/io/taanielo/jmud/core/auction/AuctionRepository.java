@@ -1,13 +1,17 @@
 package io.taanielo.jmud.core.auction;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Data-access contract for the dynamic set of active {@link AuctionListing}s.
  *
- * <p>The whole set is read and rewritten atomically: {@link AuctionService} computes the new list
- * (adding, removing, or expiring listings) and hands it to {@link #save(List)}. This avoids any
- * ambiguity around removing a specific listing by value equality.
+ * <p>{@link AuctionService} changes the set one listing at a time through {@link #add},
+ * {@link #remove} and {@link #removeExpired}. Their defaults read the whole set and hand the new list
+ * to {@link #save(List)}, which suits a store that rewrites everything on each change; an
+ * incremental store overrides them to record only the change. Removal is by value equality, first
+ * match in insertion order.
  */
 public interface AuctionRepository {
 
@@ -25,4 +29,70 @@ public interface AuctionRepository {
      * @throws AuctionRepositoryException when data cannot be written
      */
     void save(List<AuctionListing> listings) throws AuctionRepositoryException;
+
+    /**
+     * Appends a new listing.
+     *
+     * @param listing the listing to add
+     * @throws AuctionRepositoryException when data cannot be read or written
+     */
+    default void add(AuctionListing listing) throws AuctionRepositoryException {
+        List<AuctionListing> all = new ArrayList<>(findAll());
+        all.add(listing);
+        save(all);
+    }
+
+    /**
+     * Removes the first listing equal to {@code listing}; a listing that is not present is ignored.
+     *
+     * @param listing the listing to remove
+     * @throws AuctionRepositoryException when data cannot be read or written
+     */
+    default void remove(AuctionListing listing) throws AuctionRepositoryException {
+        List<AuctionListing> all = new ArrayList<>(findAll());
+        all.remove(listing);
+        save(all);
+    }
+
+    /**
+     * Removes every listing that has expired as of {@code currentTick}.
+     *
+     * @param currentTick the current game tick
+     * @return the removed listings, oldest first (may be empty)
+     * @throws AuctionRepositoryException when data cannot be read or written; nothing is removed
+     */
+    default List<AuctionListing> removeExpired(long currentTick) throws AuctionRepositoryException {
+        List<AuctionListing> remaining = new ArrayList<>();
+        List<AuctionListing> expired = new ArrayList<>();
+        for (AuctionListing listing : findAll()) {
+            if (listing.isExpired(currentTick)) {
+                expired.add(listing);
+            } else {
+                remaining.add(listing);
+            }
+        }
+        if (expired.isEmpty()) {
+            return List.of();
+        }
+        save(remaining);
+        return List.copyOf(expired);
+    }
+
+    /**
+     * Blocks (up to {@code timeout}) until changes recorded so far are durable. Stores that write
+     * synchronously can rely on the default no-op.
+     *
+     * @param timeout the maximum time to wait
+     * @return true if every change was written before the timeout elapsed
+     */
+    default boolean flush(Duration timeout) {
+        return true;
+    }
+
+    /**
+     * Releases any resources (file handles, worker threads) held by this repository. Safe to call
+     * multiple times.
+     */
+    default void close() {
+    }
 }
@@ -1,5 +1,6 @@
 package io.taanielo.jmud.core.auction;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
@@ -25,7 +26,7 @@ import io.taanielo.jmud.core.world.RoomId;
  *
  * <p>All operations are pure with respect to the invoking {@link Player}: the player passed in is
  * never mutated in place; callers receive an updated {@link Player} in the returned
- * {@link AuctionTransactionResult}. The persistent set of listings is read and rewritten through the
+ * {@link AuctionTransactionResult}. Listings are added and removed one at a time through the
  * injected {@link AuctionRepository}. Crediting an offline seller's gold and delivering mail is left
  * to the caller via {@link #applySaleCredit} / {@link #applyExpiredReturn}, so the same cross-player
  * update path used by {@code MAIL} can persist those changes.
@@ -156,18 +157,12 @@ public class AuctionService {
             return AuctionTransactionResult.failure("You aren't carrying that.");
         }
 
-        List<AuctionListing> all;
-        try {
-            all = new ArrayList<>(listingRepository.findAll());
-        } catch (AuctionRepositoryException e) {
-            log.warn("Failed to read auction listings for sell: {}", e.getMessage());
-            return AuctionTransactionResult.failure("The Auction House ledger is unavailable right now.");
-        }
-
         AuctionListing listing = new AuctionListing(
             seller.getUsername(), item, price, roomId, createdTick, expiryTick);
-        all.add(listing);
-        if (!trySave(all)) {
+        try {
+            listingRepository.add(listing);
+        } catch (AuctionRepositoryException e) {
+            log.warn("Failed to add auction listing: {}", e.getMessage());
             return AuctionTransactionResult.failure("The Auction House ledger is unavailable right now.");
         }
 
@@ -247,24 +242,26 @@ public class AuctionService {
      * @return the listings that expired on or before this tick (may be empty)
      */
     public List<AuctionListing> expireListings(long currentTick) {
-        List<AuctionListing> all = safeFindAll();
-        List<AuctionListing> remaining = new ArrayList<>();
-        List<AuctionListing> expired = new ArrayList<>();
-        for (AuctionListing listing : all) {
-            if (listing.isExpired(currentTick)) {
-                expired.add(listing);
-            } else {
-                remaining.add(listing);
-            }
-        }
-        if (expired.isEmpty()) {
-            return List.of();
-        }
-        if (!trySave(remaining)) {
+        try {
+            return listingRepository.removeExpired(currentTick);
+        } catch (AuctionRepositoryException e) {
             // Persistence failed; do not report expiries so items are not lost — retry next tick.
+            log.warn("Failed to expire auction listings: {}", e.getMessage());
             return List.of();
         }
-        return List.copyOf(expired);
+    }
+
+    /**
+     * Waits (up to {@code timeout}) for listing changes to reach storage, then releases the listing
+     * store. Called once during orderly shutdown, after the tick scheduler has stopped.
+     *
+     * @param timeout the maximum time to wait for pending changes
+     */
+    public void shutdown(Duration timeout) {
+        if (!listingRepository.flush(timeout)) {
+            log.warn("Auction listing changes did not reach storage within {} before shutdown", timeout);
+        }
+        listingRepository.close();
     }
 
     /**
@@ -319,9 +316,13 @@ public class AuctionService {
     }
 
     private boolean removeListing(AuctionListing listing) {
-        List<AuctionListing> all = new ArrayList<>(safeFindAll());
-        all.remove(listing);
-        return trySave(all);
+        try {
+            listingRepository.remove(listing);
+            return true;
+        } catch (AuctionRepositoryException e) {
+            log.warn("Failed to remove auction listing: {}", e.getMessage());
+            return false;
+        }
     }
 
     private List<AuctionListing> safeFindAll() {
@@ -333,16 +334,6 @@ public class AuctionService {
         }
     }
 
-    private boolean trySave(List<AuctionListing> listings) {
-        try {
-            listingRepository.save(listings);
-            return true;
-        } catch (AuctionRepositoryException e) {
-            log.warn("Failed to save auction listings: {}", e.getMessage());
-            return false;
-        }
-    }
-
     private static Player removeFromInventory(Player player, Item item) {
         PlayerEquipment equipment = player.getEquipment();
         if (equipment.isEquipped(item.getId())) {
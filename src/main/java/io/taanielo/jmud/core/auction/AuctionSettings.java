@@ -13,6 +13,9 @@ public final class AuctionSettings {
     /** Default number of ticks a listing remains active before it expires and is returned. */
     public static final int DEFAULT_LISTING_TICKS = 2000;
 
+    /** Default number of journaled listing changes between ledger compactions. */
+    public static final int DEFAULT_JOURNAL_COMPACT_OPS = 1000;
+
     private static final GameConfig CONFIG = GameConfig.load();
 
     private AuctionSettings() {
@@ -30,4 +33,18 @@ public final class AuctionSettings {
         }
         return ticks;
     }
+
+    /**
+     * Returns how many listing changes the auction journal accumulates before it is compacted into
+     * the {@code listings.json} snapshot.
+     *
+     * @return the configured compaction threshold; must be positive
+     */
+    public static int journalCompactOps() {
+        int ops = CONFIG.getInt("jmud.auction.journal.compact_ops", DEFAULT_JOURNAL_COMPACT_OPS);
+        if (ops <= 0) {
+            throw new IllegalArgumentException("Auction journal compact ops must be positive");
+        }
+        return ops;
+    }
 }
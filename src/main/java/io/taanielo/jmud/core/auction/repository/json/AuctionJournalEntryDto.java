@@ -0,0 +1,19 @@
+package io.taanielo.jmud.core.auction.repository.json;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * JSON transfer object for one line of {@code data/auctions/listings.journal.jsonl}.
+ *
+ * @param op      {@code add}, {@code remove} or {@code clear}
+ * @param id      the ledger id the entry applies to; 0 for {@code clear}
+ * @param listing the added listing; present only for {@code add}
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record AuctionJournalEntryDto(
+    String op,
+    long id,
+    @Nullable AuctionListingDto listing
+) {
+}
@@ -1,16 +1,25 @@
 package io.taanielo.jmud.core.auction.repository.json;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import org.jspecify.annotations.Nullable;
+
 import io.taanielo.jmud.core.world.dto.ItemDto;
 
 /**
  * JSON transfer object for a single persisted auction listing.
+ *
+ * <p>{@code id} is the ledger id assigned by {@link JournaledAuctionRepository}, which its journal
+ * entries refer to. It is absent from files written by {@link JsonAuctionRepository}; such listings
+ * are numbered in file order when loaded.
  */
+@JsonInclude(JsonInclude.Include.NON_NULL)
 record AuctionListingDto(
     String seller,
     ItemDto item,
     int price,
     String roomId,
     long createdTick,
-    long expiryTick
+    long expiryTick,
+    @Nullable Long id
 ) {
 }
@@ -0,0 +1,501 @@
+package io.taanielo.jmud.core.auction.repository.json;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.auction.AuctionListing;
+import io.taanielo.jmud.core.auction.AuctionListingBook;
+import io.taanielo.jmud.core.auction.AuctionRepository;
+import io.taanielo.jmud.core.auction.AuctionRepositoryException;
+import io.taanielo.jmud.core.auction.AuctionSettings;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.world.Item;
+import io.taanielo.jmud.core.world.RoomId;
+import io.taanielo.jmud.core.world.dto.ItemMapper;
+
+/**
+ * Incremental {@link AuctionRepository}: active listings live in an in-memory
+ * {@link AuctionListingBook}, and every change is appended to
+ * {@code data/auctions/listings.journal.jsonl} by a background writer, so LIST/BUY/CANCEL and the
+ * expiry sweep cost no disk I/O on the tick thread and no longer scale with the size of the house.
+ *
+ * <p>The writer appends each drained batch of changes as one buffer and one fsync. If an append fails
+ * part-way, the journal is truncated back to the end of the last complete batch before the retry,
+ * so a torn batch is never followed by later entries. After
+ * {@link AuctionSettings#journalCompactOps()} changes it compacts: it writes the full set to the
+ * {@code listings.json} snapshot (same schema as {@link JsonAuctionRepository}, plus ledger ids) via
+ * an atomic rename and truncates the journal. On startup the snapshot is loaded, the journal is
+ * replayed on top of it and, if the journal was not empty, the result is compacted straight away,
+ * which also discards a torn final journal line left by a crash. Replay is idempotent, so a crash
+ * between the snapshot rename and the journal truncation loses nothing.
+ *
+ * <p>Mutators must be called from the tick thread only (AGENTS.md §5); {@link #flush(Duration)} and
+ * {@link #close()} are for shutdown.
+ */
+@Slf4j
+public class JournaledAuctionRepository implements AuctionRepository {
+
+    private static final int SCHEMA_VERSION = 1;
+    private static final String AUCTIONS_DIR = "auctions";
+    private static final String SNAPSHOT_FILE = "listings.json";
+    private static final String JOURNAL_FILE = "listings.journal.jsonl";
+    private static final String OP_ADD = "add";
+    private static final String OP_REMOVE = "remove";
+    private static final String OP_CLEAR = "clear";
+    private static final long IDLE_POLL_MILLIS = 250;
+    private static final Duration RETRY_BACKOFF = Duration.ofSeconds(1);
+
+    private final ObjectMapper snapshotMapper;
+    private final ObjectWriter journalWriter;
+    private final ItemMapper itemMapper;
+    private final Path snapshotPath;
+    private final Path journalPath;
+    private final int compactAfterOps;
+    private final AuctionListingBook book = new AuctionListingBook();
+    private final BlockingQueue<JournalOp> queue = new LinkedBlockingQueue<>();
+    /** Changes recorded on the tick thread but not yet durable in the journal. */
+    private final AtomicLong pendingOps = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    // Writer-thread state.
+    private final Map<Long, AuctionListingDto> durable = new LinkedHashMap<>();
+    private @Nullable FileChannel journal;
+    /** Journal length after the last complete batch; anything beyond it is a torn append. */
+    private long journalSize;
+    private int opsSinceSnapshot;
+
+    public JournaledAuctionRepository() throws AuctionRepositoryException {
+        this(Path.of("data"), AuctionSettings.journalCompactOps());
+    }
+
+    /**
+     * Loads the ledger under {@code dataRoot/auctions}, compacts it, and starts the journal writer.
+     *
+     * @param dataRoot        the data directory
+     * @param compactAfterOps number of journaled changes after which the writer compacts
+     * @throws AuctionRepositoryException when the snapshot or journal cannot be read, or the
+     *                                    compacted snapshot cannot be written
+     */
+    public JournaledAuctionRepository(Path dataRoot, int compactAfterOps) throws AuctionRepositoryException {
+        if (compactAfterOps < 1) {
+            throw new IllegalArgumentException("Compact-after ops must be >= 1");
+        }
+        this.snapshotMapper = JsonAuctionDataMapper.create();
+        this.journalWriter = snapshotMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.itemMapper = new ItemMapper();
+        this.compactAfterOps = compactAfterOps;
+        Path auctionsDir = Objects.requireNonNull(dataRoot, "Data root is required").resolve(AUCTIONS_DIR);
+        try {
+            Files.createDirectories(auctionsDir);
+        } catch (IOException e) {
+            throw new AuctionRepositoryException("Failed to create auctions directory " + auctionsDir, e);
+        }
+        this.snapshotPath = auctionsDir.resolve(SNAPSHOT_FILE);
+        this.journalPath = auctionsDir.resolve(JOURNAL_FILE);
+
+        loadSnapshot();
+        int replayed = replayJournal();
+        for (Map.Entry<Long, AuctionListing> entry : book.entries().entrySet()) {
+            durable.put(entry.getKey(), toDto(entry.getKey(), entry.getValue()));
+        }
+        if (journalHasContent()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                closeJournal();
+                throw new AuctionRepositoryException("Failed to compact auction ledger " + snapshotPath, e);
+            }
+        }
+        log.info("Auction ledger loaded: {} listings ({} journal entries replayed)", book.size(), replayed);
+        this.worker = Thread.ofVirtual().name("auction-journal-writer").start(this::runWorker);
+    }
+
+    @Override
+    public List<AuctionListing> findAll() {
+        return book.all();
+    }
+
+    @Override
+    public void save(List<AuctionListing> listings) {
+        Objects.requireNonNull(listings, "listings is required");
+        book.clear();
+        record(new JournalOp(OP_CLEAR, 0, null));
+        for (AuctionListing listing : listings) {
+            add(listing);
+        }
+    }
+
+    @Override
+    public void add(AuctionListing listing) {
+        Objects.requireNonNull(listing, "listing is required");
+        long id = book.add(listing);
+        record(new JournalOp(OP_ADD, id, listing));
+    }
+
+    @Override
+    public void remove(AuctionListing listing) {
+        Objects.requireNonNull(listing, "listing is required");
+        OptionalLong id = book.idOf(listing);
+        if (id.isEmpty()) {
+            return;
+        }
+        book.remove(id.getAsLong());
+        record(new JournalOp(OP_REMOVE, id.getAsLong(), null));
+    }
+
+    @Override
+    public List<AuctionListing> removeExpired(long currentTick) {
+        List<Long> ids = book.expiredIds(currentTick);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // Ids follow insertion order, so sorting reports the oldest listing first.
+        List<Long> sorted = new ArrayList<>(ids);
+        sorted.sort(null);
+        List<AuctionListing> expired = new ArrayList<>(sorted.size());
+        for (long id : sorted) {
+            expired.add(Objects.requireNonNull(book.remove(id)));
+            record(new JournalOp(OP_REMOVE, id, null));
+        }
+        return List.copyOf(expired);
+    }
+
+    /**
+     * Returns the in-memory listing book, for id lookups and the expiry index.
+     * Tick thread only.
+     *
+     * @return the live book
+     */
+    public AuctionListingBook book() {
+        return book;
+    }
+
+    /**
+     * Blocks (up to {@code timeout}) until every change recorded so far has been appended and
+     * synced to the journal.
+     *
+     * @param timeout the maximum time to wait
+     * @return true if the journal caught up before the timeout elapsed
+     */
+    @Override
+    public boolean flush(Duration timeout) {
+        Objects.requireNonNull(timeout, "Timeout is required");
+        long deadlineNanos = System.nanoTime() + timeout.toNanos();
+        while (pendingOps.get() > 0) {
+            if (System.nanoTime() >= deadlineNanos) {
+                log.warn("Auction journal flush timed out with {} changes pending", pendingOps.get());
+                return false;
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return pendingOps.get() == 0;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stops the journal writer, letting it append whatever is already queued, and closes the
+     * journal. Call {@link #flush(Duration)} first to bound the wait. Safe to call multiple times.
+     *
+     * <p>The writer is not interrupted: an interrupt would close its {@link FileChannel} mid-write.
+     * It notices the stop within one idle poll.
+     */
+    @Override
+    public void close() {
+        running = false;
+        try {
+            worker.join(Duration.ofSeconds(5).toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void record(JournalOp op) {
+        pendingOps.incrementAndGet();
+        queue.add(op);
+    }
+
+    // ── writer thread ─────────────────────────────────────────────────
+
+    private void runWorker() {
+        List<JournalOp> batch = new ArrayList<>();
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            if (batch.isEmpty()) {
+                try {
+                    JournalOp first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    log.warn("Auction journal writer interrupted with {} changes pending", pendingOps.get());
+                    return;
+                }
+            }
+            queue.drainTo(batch);
+            try {
+                append(batch);
+            } catch (IOException | RuntimeException e) {
+                log.warn("Failed to append {} auction journal entries; retrying", batch.size(), e);
+                closeJournal();
+                if (!running) {
+                    log.error("Auction journal writer stopping with {} unwritten changes", batch.size());
+                    return;
+                }
+                sleepQuietly(RETRY_BACKOFF);
+                continue;
+            }
+            pendingOps.addAndGet(-batch.size());
+            batch.clear();
+            if (opsSinceSnapshot >= compactAfterOps) {
+                try {
+                    compact();
+                } catch (IOException e) {
+                    log.warn("Failed to compact auction ledger; will retry after the next batch", e);
+                    closeJournal();
+                }
+            }
+        }
+        closeJournal();
+    }
+
+    private void append(List<JournalOp> batch) throws IOException {
+        StringBuilder lines = new StringBuilder(batch.size() * 512);
+        List<AuctionJournalEntryDto> entries = new ArrayList<>(batch.size());
+        for (JournalOp op : batch) {
+            AuctionListing listing = op.listing();
+            AuctionJournalEntryDto entry = new AuctionJournalEntryDto(
+                op.op(), op.id(), listing == null ? null : toDto(op.id(), listing));
+            entries.add(entry);
+            lines.append(journalWriter.writeValueAsString(entry)).append('\n');
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(CharBuffer.wrap(lines));
+        FileChannel channel = openJournal();
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+        journalSize = channel.position();
+        for (AuctionJournalEntryDto entry : entries) {
+            apply(entry);
+        }
+        opsSinceSnapshot += batch.size();
+    }
+
+    /** Applies a journal entry to the writer's copy of the durable state. */
+    private void apply(AuctionJournalEntryDto entry) {
+        switch (entry.op()) {
+            case OP_ADD -> durable.put(entry.id(), Objects.requireNonNull(entry.listing()));
+            case OP_REMOVE -> durable.remove(entry.id());
+            case OP_CLEAR -> durable.clear();
+            default -> throw new IllegalStateException("Unknown auction journal op " + entry.op());
+        }
+    }
+
+    /** Writes the durable state as the snapshot, then truncates the journal. */
+    private void compact() throws IOException {
+        AuctionListingsFileDto file = new AuctionListingsFileDto(SCHEMA_VERSION, List.copyOf(durable.values()));
+        Path temp = snapshotPath.resolveSibling(SNAPSHOT_FILE + ".tmp");
+        snapshotMapper.writeValue(temp.toFile(), file);
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, snapshotPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // The snapshot now holds every journaled change, so an empty journal is the known-good state.
+        journalSize = 0;
+        closeJournal();
+        try (FileChannel channel = FileChannel.open(journalPath,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.force(true);
+        }
+        opsSinceSnapshot = 0;
+    }
+
+    /**
+     * Returns the open journal, opening it positioned at the end of the last complete batch. Bytes
+     * beyond that point were left by a failed append and are cut off, so the retry does not land
+     * behind a torn line.
+     */
+    private FileChannel openJournal() throws IOException {
+        FileChannel channel = journal;
+        if (channel != null) {
+            return channel;
+        }
+        channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            long size = channel.size();
+            if (size > journalSize) {
+                log.warn("Truncating {} bytes of a failed append from auction journal {}",
+                    size - journalSize, journalPath);
+                channel.truncate(journalSize);
+                channel.force(false);
+            }
+            channel.position(channel.size());
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+        journalSize = channel.position();
+        journal = channel;
+        return channel;
+    }
+
+    private void closeJournal() {
+        FileChannel channel = journal;
+        journal = null;
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("Failed to close auction journal {}", journalPath, e);
+        }
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ── startup ───────────────────────────────────────────────────────
+
+    private void loadSnapshot() throws AuctionRepositoryException {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        AuctionListingsFileDto file;
+        try {
+            file = snapshotMapper.readValue(snapshotPath.toFile(), AuctionListingsFileDto.class);
+        } catch (IOException e) {
+            throw new AuctionRepositoryException(
+                "Failed to read auction listings from " + snapshotPath + ": " + e.getMessage(), e);
+        }
+        if (file.schemaVersion() != SCHEMA_VERSION) {
+            throw new AuctionRepositoryException(
+                "Unsupported auction listings schema version " + file.schemaVersion() + " in " + snapshotPath);
+        }
+        List<AuctionListingDto> dtos = file.listings() == null ? List.of() : file.listings();
+        for (AuctionListingDto dto : dtos) {
+            Long id = dto.id();
+            book.put(id == null ? book.nextId() : id, toDomain(dto, snapshotPath));
+        }
+    }
+
+    private boolean journalHasContent() throws AuctionRepositoryException {
+        try {
+            return Files.exists(journalPath) && Files.size(journalPath) > 0;
+        } catch (IOException e) {
+            throw new AuctionRepositoryException("Failed to inspect auction journal " + journalPath, e);
+        }
+    }
+
+    private int replayJournal() throws AuctionRepositoryException {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new AuctionRepositoryException(
+                "Failed to read auction journal " + journalPath + ": " + e.getMessage(), e);
+        }
+        int replayed = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+            AuctionJournalEntryDto entry;
+            try {
+                entry = snapshotMapper.readValue(line, AuctionJournalEntryDto.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    // A crash mid-append leaves at most the final line torn; the change it held was
+                    // never acknowledged as durable.
+                    log.warn("Ignoring torn final line {} of auction journal {}", i + 1, journalPath);
+                    break;
+                }
+                throw new AuctionRepositoryException(
+                    "Corrupt auction journal " + journalPath + " at line " + (i + 1) + ": " + e.getMessage(), e);
+            }
+            switch (entry.op()) {
+                case OP_ADD -> book.put(entry.id(), toDomain(
+                    Objects.requireNonNull(entry.listing(), "add entry without listing"), journalPath));
+                case OP_REMOVE -> book.remove(entry.id());
+                case OP_CLEAR -> book.clear();
+                default -> throw new AuctionRepositoryException(
+                    "Unknown auction journal op '" + entry.op() + "' in " + journalPath + " at line " + (i + 1));
+            }
+            replayed++;
+        }
+        return replayed;
+    }
+
+    // ── mapping ───────────────────────────────────────────────────────
+
+    private AuctionListingDto toDto(long id, AuctionListing listing) {
+        return new AuctionListingDto(
+            listing.seller().getValue(),
+            itemMapper.toDto(listing.item()),
+            listing.price(),
+            listing.roomId().getValue(),
+            listing.createdTick(),
+            listing.expiryTick(),
+            id);
+    }
+
+    private AuctionListing toDomain(AuctionListingDto dto, Path source) throws AuctionRepositoryException {
+        try {
+            Item item = itemMapper.toDomain(dto.item());
+            return new AuctionListing(
+                Username.of(dto.seller()),
+                item,
+                dto.price(),
+                RoomId.of(dto.roomId()),
+                dto.createdTick(),
+                dto.expiryTick());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new AuctionRepositoryException(
+                "Invalid auction listing data in " + source + ": " + e.getMessage(), e);
+        }
+    }
+
+    /** One change recorded on the tick thread, waiting for the journal writer. */
+    private record JournalOp(String op, long id, @Nullable AuctionListing listing) {
+    }
+}
@@ -102,7 +102,8 @@ public class JsonAuctionRepository implements AuctionRepository {
             listing.price(),
             listing.roomId().getValue(),
             listing.createdTick(),
-            listing.expiryTick());
+            listing.expiryTick(),
+            null);
     }
 
     private AuctionListing toDomain(AuctionListingDto dto) throws AuctionRepositoryException {
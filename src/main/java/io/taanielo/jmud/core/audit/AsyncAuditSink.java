@@ -1,27 +1,97 @@
 package io.taanielo.jmud.core.audit;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Hands audit entries to a delegate sink on a background writer thread through a bounded queue,
+ * dropping entries when the queue is full.
+ *
+ * <p>In group-commit mode the writer drains up to {@code maxBatch} queued entries at a time (after
+ * waiting up to {@code linger} for the batch to fill) and passes them to
+ * {@link AuditSink#writeBatch(List)}, so a burst of commands costs one write and one flush rather
+ * than one per entry. With a {@code maxBatch} of 1 every entry is written on its own, as before.
+ */
 @Slf4j
 public class AsyncAuditSink implements AuditSink {
+    private static final long POLL_MILLIS = 250;
+
     private final AuditSink delegate;
     private final BlockingQueue<AuditEntry> queue;
+    private final int maxBatch;
+    private final long lingerNanos;
     private final AtomicBoolean running = new AtomicBoolean(true);
+    /**
+     * Entries accepted into the queue, and entries the writer has finished with (committed, or
+     * dropped by a failed commit). {@link #flush(Duration)} waits for the second to reach the first,
+     * so a batch already taken off the queue but not yet committed still counts as pending.
+     */
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong finished = new AtomicLong();
+    private final Counter droppedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer flushTimer;
     private final Thread worker;
 
     public AsyncAuditSink(AuditSink delegate, int capacity) {
+        this(delegate, capacity, 1, Duration.ZERO, new CompositeMeterRegistry());
+    }
+
+    /**
+     * Creates the sink and starts its writer thread.
+     *
+     * @param delegate      the sink that performs the actual writes
+     * @param capacity      queue bound; entries offered to a full queue are dropped
+     * @param maxBatch      most entries handed to the delegate per group commit; 1 disables batching
+     * @param linger        how long to wait after the first entry for more to arrive; zero commits
+     *                      whatever is already queued
+     * @param meterRegistry registry for the batch-size, flush-latency and dropped-entry meters
+     */
+    public AsyncAuditSink(
+        AuditSink delegate,
+        int capacity,
+        int maxBatch,
+        Duration linger,
+        MeterRegistry meterRegistry
+    ) {
         this.delegate = Objects.requireNonNull(delegate, "Delegate sink is required");
         if (capacity < 1) {
             throw new IllegalArgumentException("Queue capacity must be >= 1");
         }
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("Max batch must be >= 1");
+        }
+        Objects.requireNonNull(linger, "Linger is required");
+        if (linger.isNegative()) {
+            throw new IllegalArgumentException("Linger must be >= 0");
+        }
+        Objects.requireNonNull(meterRegistry, "Meter registry is required");
         this.queue = new LinkedBlockingQueue<>(capacity);
+        this.maxBatch = maxBatch;
+        this.lingerNanos = linger.toNanos();
+        this.droppedCounter = Counter.builder("jmud.audit.dropped")
+            .description("Audit entries dropped because the writer queue was full")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("jmud.audit.batch.size")
+            .description("Audit entries written per group commit")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("jmud.audit.flush.latency")
+            .description("Time to write, flush and (per fsync policy) sync one audit batch")
+            .register(meterRegistry);
         this.worker = new Thread(this::drainQueue, "audit-writer");
         this.worker.setDaemon(true);
         this.worker.start();
@@ -32,8 +102,10 @@ public class AsyncAuditSink implements AuditSink {
         if (entry == null) {
             return;
         }
-        boolean accepted = queue.offer(entry);
-        if (!accepted) {
+        if (queue.offer(entry)) {
+            accepted.incrementAndGet();
+        } else {
+            droppedCounter.increment();
             log.warn("Audit queue full, dropping entry");
         }
     }
@@ -47,29 +119,31 @@ public class AsyncAuditSink implements AuditSink {
 
     /**
      * Blocks (up to {@code timeout}) while the background worker drains the
-     * queue, without stopping the worker. Call {@link #close()} afterward to
-     * stop the worker thread and release the delegate sink.
+     * queue, without stopping the worker, then asks the delegate to flush. Call
+     * {@link #close()} afterward to stop the worker thread and release the
+     * delegate sink.
      *
      * @param timeout the maximum time to wait for the queue to drain
-     * @return true if the queue was empty before the timeout elapsed
+     * @return true if every entry written before the call was committed before the timeout elapsed
      */
     @Override
     public boolean flush(Duration timeout) {
         Objects.requireNonNull(timeout, "Timeout is required");
         long deadlineNanos = System.nanoTime() + timeout.toNanos();
-        while (!queue.isEmpty()) {
+        long target = accepted.get();
+        while (finished.get() < target) {
             if (System.nanoTime() >= deadlineNanos) {
-                log.warn("Audit queue flush timed out with {} entries remaining", queue.size());
+                log.warn("Audit queue flush timed out with {} entries remaining", target - finished.get());
                 return false;
             }
             try {
                 Thread.sleep(20);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
-                return queue.isEmpty();
+                return finished.get() >= target;
             }
         }
-        return true;
+        return delegate.flush(Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime())));
     }
 
     /**
@@ -88,18 +162,69 @@ public class AsyncAuditSink implements AuditSink {
     }
 
     private void drainQueue() {
+        List<AuditEntry> batch = new ArrayList<>(maxBatch);
         while (running.get() || !queue.isEmpty()) {
             try {
-                AuditEntry entry = queue.poll(250, TimeUnit.MILLISECONDS);
-                if (entry == null) {
+                AuditEntry first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    idleFlush();
                     continue;
                 }
-                delegate.write(entry);
+                batch.add(first);
+                fillBatch(batch);
+                commit(batch);
             } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            } catch (Exception e) {
-                log.warn("Failed to flush audit entry", e);
+                // stop() interrupts to cut the poll short; the running flag ends the loop once the
+                // queue is empty. Commit what was already taken off the queue and keep draining.
+                commit(batch);
+            } finally {
+                finished.addAndGet(batch.size());
+                batch.clear();
             }
         }
     }
+
+    /** Lets an interval-fsync sink sync the tail of its last batch while the queue is idle. */
+    private void idleFlush() {
+        try {
+            delegate.flush(Duration.ZERO);
+        } catch (RuntimeException e) {
+            log.warn("Idle flush of the audit sink failed", e);
+        }
+    }
+
+    private void fillBatch(List<AuditEntry> batch) throws InterruptedException {
+        if (maxBatch == 1) {
+            return;
+        }
+        queue.drainTo(batch, maxBatch - batch.size());
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < maxBatch && running.get()) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            AuditEntry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatch - batch.size());
+        }
+    }
+
+    private void commit(List<AuditEntry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            delegate.writeBatch(List.copyOf(batch));
+        } catch (RuntimeException e) {
+            log.warn("Failed to flush {} audit entries", batch.size(), e);
+            return;
+        }
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        batchSizeSummary.record(batch.size());
+    }
 }
@@ -0,0 +1,28 @@
+package io.taanielo.jmud.core.audit;
+
+import java.util.Locale;
+
+/**
+ * When {@link JsonlFileAuditSink} forces written audit lines to stable storage with
+ * {@code fsync}. Every policy flushes the write buffer to the OS once per batch; they differ only in
+ * how much a power loss (not a process crash) can lose.
+ */
+public enum AuditFsyncPolicy {
+    /** Never fsync; the OS writes the page cache back on its own schedule. */
+    NONE,
+    /** Fsync at the end of a batch when at least the configured interval has passed since the last one. */
+    INTERVAL,
+    /** Fsync at the end of every batch. */
+    EACH_BATCH;
+
+    /**
+     * Parses a policy name case-insensitively, accepting {@code each-batch} for {@link #EACH_BATCH}.
+     *
+     * @param raw the configured value
+     * @return the policy
+     * @throws IllegalArgumentException if {@code raw} names no policy
+     */
+    public static AuditFsyncPolicy parse(String raw) {
+        return valueOf(raw.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
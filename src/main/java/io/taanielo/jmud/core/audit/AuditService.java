@@ -10,6 +10,8 @@ import java.util.UUID;
 import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -22,12 +24,32 @@ public class AuditService {
     private final Supplier<String> correlationSupplier;
 
     public static AuditService create(LongSupplier tickSupplier) {
+        return create(tickSupplier, new CompositeMeterRegistry());
+    }
+
+    /**
+     * Creates the configured audit service: a no-op when auditing is disabled, otherwise a
+     * daily-rotating JSONL file behind the asynchronous writer, group-committed and fsynced per
+     * {@link AuditSettings}.
+     *
+     * @param tickSupplier  supplies the current tick stamped on each entry
+     * @param meterRegistry registry for the writer's batch, flush-latency and dropped-entry meters
+     * @return the audit service
+     */
+    public static AuditService create(LongSupplier tickSupplier, MeterRegistry meterRegistry) {
         Clock clock = Clock.systemUTC();
         if (!AuditSettings.enabled()) {
             return new AuditService(new NoOpAuditSink(), clock, tickSupplier, AuditService::generateCorrelationId);
         }
-        AuditSink fileSink = new JsonlFileAuditSink(Path.of(AuditSettings.path()), clock);
-        AuditSink asyncSink = new AsyncAuditSink(fileSink, AuditSettings.queueSize());
+        AuditSink fileSink = new JsonlFileAuditSink(
+            Path.of(AuditSettings.path()), clock, AuditSettings.fsyncPolicy(), AuditSettings.fsyncInterval());
+        boolean groupCommit = AuditSettings.groupCommitEnabled();
+        AuditSink asyncSink = new AsyncAuditSink(
+            fileSink,
+            AuditSettings.queueSize(),
+            groupCommit ? AuditSettings.groupCommitMaxBatch() : 1,
+            groupCommit ? AuditSettings.groupCommitLinger() : Duration.ZERO,
+            meterRegistry);
         return new AuditService(asyncSink, clock, tickSupplier, AuditService::generateCorrelationId);
     }
 
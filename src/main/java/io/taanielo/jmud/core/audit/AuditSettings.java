@@ -1,11 +1,18 @@
 package io.taanielo.jmud.core.audit;
 
+import java.time.Duration;
+
 import io.taanielo.jmud.core.config.GameConfig;
 
 public final class AuditSettings {
     public static final boolean DEFAULT_ENABLED = true;
     public static final String DEFAULT_PATH = "logs/audit.jsonl";
     public static final int DEFAULT_QUEUE_SIZE = 2048;
+    public static final boolean DEFAULT_GROUP_COMMIT_ENABLED = true;
+    public static final int DEFAULT_GROUP_COMMIT_MAX_BATCH = 256;
+    public static final long DEFAULT_GROUP_COMMIT_LINGER_MS = 0;
+    public static final AuditFsyncPolicy DEFAULT_FSYNC_POLICY = AuditFsyncPolicy.INTERVAL;
+    public static final long DEFAULT_FSYNC_INTERVAL_MS = 1000;
 
     private static final GameConfig CONFIG = GameConfig.load();
 
@@ -27,4 +34,50 @@ public final class AuditSettings {
         }
         return size;
     }
+
+    /**
+     * Whether the audit writer drains its queue in batches, writing each batch with one buffered
+     * write and one flush, instead of flushing after every entry.
+     */
+    public static boolean groupCommitEnabled() {
+        return CONFIG.getBoolean("jmud.audit.group_commit.enabled", DEFAULT_GROUP_COMMIT_ENABLED);
+    }
+
+    /**
+     * Upper bound on entries written per group commit.
+     */
+    public static int groupCommitMaxBatch() {
+        int size = CONFIG.getInt("jmud.audit.group_commit.max_batch", DEFAULT_GROUP_COMMIT_MAX_BATCH);
+        if (size < 1) {
+            throw new IllegalArgumentException("Audit group-commit max batch must be >= 1");
+        }
+        return size;
+    }
+
+    /**
+     * How long the writer waits after the first entry of a batch for more entries to arrive before
+     * committing; 0 commits whatever is queued immediately.
+     */
+    public static Duration groupCommitLinger() {
+        long millis = CONFIG.getLong("jmud.audit.group_commit.linger_ms", DEFAULT_GROUP_COMMIT_LINGER_MS);
+        if (millis < 0) {
+            throw new IllegalArgumentException("Audit group-commit linger must be >= 0");
+        }
+        return Duration.ofMillis(millis);
+    }
+
+    public static AuditFsyncPolicy fsyncPolicy() {
+        return AuditFsyncPolicy.parse(CONFIG.getString("jmud.audit.fsync", DEFAULT_FSYNC_POLICY.name()));
+    }
+
+    /**
+     * Minimum time between fsyncs under {@link AuditFsyncPolicy#INTERVAL}.
+     */
+    public static Duration fsyncInterval() {
+        long millis = CONFIG.getLong("jmud.audit.fsync.interval_ms", DEFAULT_FSYNC_INTERVAL_MS);
+        if (millis < 1) {
+            throw new IllegalArgumentException("Audit fsync interval must be >= 1 ms");
+        }
+        return Duration.ofMillis(millis);
+    }
 }
@@ -1,10 +1,23 @@
 package io.taanielo.jmud.core.audit;
 
 import java.time.Duration;
+import java.util.List;
 
 public interface AuditSink {
     void write(AuditEntry entry);
 
+    /**
+     * Writes {@code entries} in order as one group commit. Sinks that pay a per-write cost (a flush,
+     * a syscall) override this to pay it once per batch; the default writes each entry in turn.
+     *
+     * @param entries the entries to write, oldest first
+     */
+    default void writeBatch(List<AuditEntry> entries) {
+        for (AuditEntry entry : entries) {
+            write(entry);
+        }
+    }
+
     /**
      * Blocks (up to {@code timeout}) until any buffered entries have been handed
      * off to the underlying storage. Sinks with no internal buffering can rely on
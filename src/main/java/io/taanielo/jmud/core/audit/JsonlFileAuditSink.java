@@ -2,47 +2,125 @@ package io.taanielo.jmud.core.audit;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Appends audit entries as JSON lines to a daily-rotating file.
+ *
+ * <p>Each {@link #writeBatch(List)} serializes the whole batch, hands it to the writer in one buffered
+ * write and flushes once, then applies the {@link AuditFsyncPolicy}. {@link #write(AuditEntry)} is a
+ * batch of one. Under {@link AuditFsyncPolicy#INTERVAL} a batch written inside the interval stays
+ * unsynced until the next batch, an idle {@link #flush(Duration)}, or {@link #close()}.
+ */
 @Slf4j
 public class JsonlFileAuditSink implements AuditSink {
     private final Path basePath;
     private final Clock clock;
-    private final ObjectMapper mapper;
+    private final ObjectWriter jsonWriter;
+    private final AuditFsyncPolicy fsyncPolicy;
+    private final long fsyncIntervalNanos;
     private LocalDate currentDate;
+    private FileChannel channel;
     private BufferedWriter writer;
+    private boolean unsynced;
+    private long lastFsyncNanos;
 
     public JsonlFileAuditSink(Path basePath, Clock clock) {
+        this(basePath, clock, AuditFsyncPolicy.NONE, Duration.ofSeconds(1));
+    }
+
+    /**
+     * @param basePath      the file name prefix; the date is inserted before the extension
+     * @param clock         clock that decides which day's file an entry goes to
+     * @param fsyncPolicy   when written lines are forced to stable storage
+     * @param fsyncInterval minimum time between fsyncs under {@link AuditFsyncPolicy#INTERVAL}
+     */
+    public JsonlFileAuditSink(Path basePath, Clock clock, AuditFsyncPolicy fsyncPolicy, Duration fsyncInterval) {
         this.basePath = Objects.requireNonNull(basePath, "Base path is required");
         this.clock = Objects.requireNonNull(clock, "Clock is required");
-        this.mapper = new ObjectMapper()
-            .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        this.fsyncPolicy = Objects.requireNonNull(fsyncPolicy, "Fsync policy is required");
+        this.fsyncIntervalNanos = Objects.requireNonNull(fsyncInterval, "Fsync interval is required").toNanos();
+        this.jsonWriter = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .writer();
+        this.lastFsyncNanos = System.nanoTime();
     }
 
     @Override
-    public synchronized void write(AuditEntry entry) {
+    public void write(AuditEntry entry) {
         Objects.requireNonNull(entry, "Audit entry is required");
+        writeBatch(List.of(entry));
+    }
+
+    @Override
+    public synchronized void writeBatch(List<AuditEntry> entries) {
+        Objects.requireNonNull(entries, "Audit entries are required");
+        if (entries.isEmpty()) {
+            return;
+        }
         LocalDate now = LocalDate.now(clock);
+        StringBuilder lines = new StringBuilder(entries.size() * 256);
+        for (AuditEntry entry : entries) {
+            try {
+                lines.append(jsonWriter.writeValueAsString(entry)).append(System.lineSeparator());
+            } catch (IOException e) {
+                log.warn("Failed to serialize audit entry {}", entry.eventType(), e);
+            }
+        }
         try {
             ensureWriter(now);
-            String line = mapper.writeValueAsString(entry);
-            writer.write(line);
-            writer.newLine();
+            writer.append(lines);
             writer.flush();
+            unsynced = true;
+            if (fsyncPolicy == AuditFsyncPolicy.EACH_BATCH
+                || (fsyncPolicy == AuditFsyncPolicy.INTERVAL
+                    && System.nanoTime() - lastFsyncNanos >= fsyncIntervalNanos)) {
+                fsync();
+            }
+        } catch (IOException e) {
+            log.warn("Failed to write {} audit entries", entries.size(), e);
+        }
+    }
+
+    /**
+     * Forces any lines written since the last fsync to stable storage, unless the policy is
+     * {@link AuditFsyncPolicy#NONE}. Returns immediately; the timeout is not needed.
+     */
+    @Override
+    public synchronized boolean flush(Duration timeout) {
+        if (fsyncPolicy == AuditFsyncPolicy.NONE || !unsynced || channel == null) {
+            return true;
+        }
+        try {
+            fsync();
+            return true;
         } catch (IOException e) {
-            log.warn("Failed to write audit entry", e);
+            log.warn("Failed to fsync audit log", e);
+            return false;
         }
     }
 
+    private void fsync() throws IOException {
+        channel.force(false);
+        unsynced = false;
+        lastFsyncNanos = System.nanoTime();
+    }
+
     private void ensureWriter(LocalDate date) throws IOException {
         if (writer != null && date.equals(currentDate)) {
             return;
@@ -54,11 +132,13 @@ public class JsonlFileAuditSink implements AuditSink {
         if (parent != null) {
             Files.createDirectories(parent);
         }
-        writer = Files.newBufferedWriter(
+        channel = FileChannel.open(
             resolved,
             StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
             StandardOpenOption.APPEND
         );
+        writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
     }
 
     private Path resolvePathForDate(LocalDate date) {
@@ -84,11 +164,17 @@ public class JsonlFileAuditSink implements AuditSink {
             return;
         }
         try {
+            writer.flush();
+            if (unsynced && fsyncPolicy != AuditFsyncPolicy.NONE) {
+                fsync();
+            }
             writer.close();
         } catch (IOException e) {
             log.warn("Failed to close audit log writer", e);
         } finally {
             writer = null;
+            channel = null;
+            unsynced = false;
         }
     }
 }
@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.bounty;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -22,6 +23,7 @@ import io.taanielo.jmud.core.mob.MobTemplateRepository;
 import io.taanielo.jmud.core.player.MailResult;
 import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.player.PlayerMailService;
+import io.taanielo.jmud.core.tick.TimingWheel;
 import io.taanielo.jmud.core.world.repository.RepositoryException;
 
 /**
@@ -47,12 +49,21 @@ import io.taanielo.jmud.core.world.repository.RepositoryException;
 public class BountyService {
 
     private static final String NOTIFIER = "Bounty Board";
+    /** A gap between expiry sweeps beyond which re-seeding the wheel beats stepping it. */
+    private static final long RESEED_GAP_TICKS = 4096;
 
     private final BountyRepository bountyRepository;
     private final MobTemplateRepository mobTemplateRepository;
     private final MessageBroadcaster messageBroadcaster;
     private final PlayerMailService mailService;
     private final int maxOpenPerPlayer;
+    /**
+     * Open bounties keyed on their posted tick, positioned at the newest posted tick that has expired;
+     * created by the first {@link #expireBounties} call. Claimed and cancelled bounties stay filed and
+     * are skipped when they come due.
+     */
+    private @Nullable TimingWheel<Bounty> expiryWheel;
+    private long expiryWheelTicks;
 
     /**
      * Creates a bounty service.
@@ -134,8 +145,10 @@ public class BountyService {
                 "You already have the maximum of " + maxOpenPerPlayer
                     + " open bounties. Use BOUNTY CANCEL <target> to free one up first.");
         }
-        all.add(Bounty.onMob(poster.getUsername(), templateId, template.name(), gold, currentTick));
+        Bounty bounty = Bounty.onMob(poster.getUsername(), templateId, template.name(), gold, currentTick);
+        all.add(bounty);
         bountyRepository.save(all);
+        fileForExpiry(bounty);
         Player updated = poster.addGold(-gold);
         return BountyResult.success(
             "You post a bounty of " + gold + " gold on the " + template.name() + ".", updated);
@@ -186,8 +199,10 @@ public class BountyService {
                 "You already have the maximum of " + maxOpenPerPlayer
                     + " open bounties. Use BOUNTY CANCEL <target> to free one up first.");
         }
-        all.add(Bounty.onPlayer(poster.getUsername(), target, gold, currentTick));
+        Bounty bounty = Bounty.onPlayer(poster.getUsername(), target, gold, currentTick);
+        all.add(bounty);
         bountyRepository.save(all);
+        fileForExpiry(bounty);
         Player updated = poster.addGold(-gold);
         return BountyResult.success(
             "You post a bounty of " + gold + " gold on " + target.getValue() + "'s head.", updated);
@@ -279,6 +294,11 @@ public class BountyService {
      * remainder fails the whole batch is reported as not-yet-expired so no escrow is lost, and it retries
      * next tick.
      *
+     * <p>Bounties sit on a {@link TimingWheel} keyed on their posted tick, so a sweep touches only the
+     * bounties coming due rather than the whole book; a bounty expires on exactly the tick
+     * {@link Bounty#isExpired} first holds. The wheel is seeded from the book on the first call, and
+     * again whenever the lifespan changes or the sweeps fall far behind.
+     *
      * @param currentTick the current game tick
      * @param expiryTicks the configured bounty lifespan in ticks; must be positive
      * @return the bounties that expired on or before this tick (may be empty)
@@ -287,11 +307,26 @@ public class BountyService {
         if (expiryTicks <= 0) {
             throw new IllegalArgumentException("expiryTicks must be positive");
         }
+        long newestExpiredPost = currentTick - expiryTicks;
+        TimingWheel<Bounty> wheel = expiryWheel;
+        if (wheel == null || expiryWheelTicks != expiryTicks || newestExpiredPost - wheel.now() > RESEED_GAP_TICKS) {
+            wheel = new TimingWheel<>(newestExpiredPost - 1);
+            for (Bounty bounty : bountyRepository.findAll()) {
+                wheel.scheduleAt(bounty.postedTick(), bounty);
+            }
+            expiryWheel = wheel;
+            expiryWheelTicks = expiryTicks;
+        }
+        Set<Bounty> due = new HashSet<>();
+        wheel.advanceTo(newestExpiredPost, due::add);
+        if (due.isEmpty()) {
+            return List.of();
+        }
         List<Bounty> all = bountyRepository.findAll();
         List<Bounty> remaining = new ArrayList<>(all.size());
         List<Bounty> expired = new ArrayList<>();
         for (Bounty bounty : all) {
-            if (bounty.isExpired(currentTick, expiryTicks)) {
+            if (due.contains(bounty)) {
                 expired.add(bounty);
             } else {
                 remaining.add(bounty);
@@ -300,7 +335,14 @@ public class BountyService {
         if (expired.isEmpty()) {
             return List.of();
         }
-        bountyRepository.save(remaining);
+        try {
+            bountyRepository.save(remaining);
+        } catch (RuntimeException e) {
+            for (Bounty bounty : expired) {
+                wheel.scheduleAt(bounty.postedTick(), bounty);
+            }
+            throw e;
+        }
         return List.copyOf(expired);
     }
 
@@ -404,6 +446,13 @@ public class BountyService {
 
     // ── internals ─────────────────────────────────────────────────────
 
+    private void fileForExpiry(Bounty bounty) {
+        TimingWheel<Bounty> wheel = expiryWheel;
+        if (wheel != null) {
+            wheel.scheduleAt(bounty.postedTick(), bounty);
+        }
+    }
+
     private Optional<MobTemplate> resolveTemplate(String input) {
         List<MobTemplate> templates;
         try {
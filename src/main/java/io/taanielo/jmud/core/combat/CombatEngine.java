@@ -32,11 +32,7 @@ import io.taanielo.jmud.core.world.repository.RepositoryException;
 public class CombatEngine {
     private final AttackRepository attackRepository;
     private final CombatModifierResolver modifierResolver;
-    private final RaceArmorBonusResolver armorBonusResolver;
-    private final RaceAttackBonusResolver attackBonusResolver;
-    private final ClassArmorBonusResolver classArmorBonusResolver;
-    private final EquipmentArmorResolver equipmentArmorResolver;
-    private final EquipmentResistanceResolver equipmentResistanceResolver;
+    private final DerivedStatsCache derivedStatsCache;
     private final ShieldBlockResolver shieldBlockResolver;
     private final ParryResolver parryResolver;
     private final OffhandAttackResolver offhandAttackResolver;
@@ -521,16 +517,61 @@ public class CombatEngine {
         EffectEngine effectEngine,
         DamageVerbTable verbTable,
         ParryResolver parryResolver
+    ) {
+        this(
+            attackRepository,
+            modifierResolver,
+            new DerivedStatsCache(
+                equipmentArmorResolver,
+                armorBonusResolver,
+                classArmorBonusResolver,
+                attackBonusResolver,
+                equipmentResistanceResolver),
+            shieldBlockResolver,
+            offhandAttackResolver,
+            attributeBonusResolver,
+            randomProvider,
+            tickSupplier,
+            effectEngine,
+            verbTable,
+            parryResolver
+        );
+    }
+
+    /**
+     * Fully-wired constructor used by the composition root. The target's armour and resistances and
+     * the attacker's racial attack bonus are read from a shared {@link DerivedStatsCache}, recomputed
+     * only when a player's equipment, level, race or class changes rather than on every hit.
+     *
+     * @param attackRepository       source of attack definitions
+     * @param modifierResolver       resolves combat modifier chains from player effects
+     * @param derivedStatsCache      per-player armour, racial attack and resistance snapshots
+     * @param shieldBlockResolver    resolves the target's off-hand shield block chance/reduction
+     * @param offhandAttackResolver  resolves the attacker's off-hand dual-wield weapon, if any
+     * @param attributeBonusResolver resolves strength/agility combat bonuses from core attributes
+     * @param randomProvider         produces a fresh {@link CombatRandom} per encounter
+     * @param tickSupplier           supplies the current world tick number
+     * @param effectEngine           applies {@link AttackDefinition#effectOnHit()} to targets;
+     *                               {@code null} disables on-hit effect application
+     * @param verbTable              resolves worded-damage verbs; {@code null} disables verb rendering
+     * @param parryResolver          resolves the defender's mainhand parry chance and riposte weapon
+     */
+    public CombatEngine(
+        AttackRepository attackRepository,
+        CombatModifierResolver modifierResolver,
+        DerivedStatsCache derivedStatsCache,
+        ShieldBlockResolver shieldBlockResolver,
+        OffhandAttackResolver offhandAttackResolver,
+        CombatAttributeBonusResolver attributeBonusResolver,
+        CombatRandomProvider randomProvider,
+        LongSupplier tickSupplier,
+        EffectEngine effectEngine,
+        DamageVerbTable verbTable,
+        ParryResolver parryResolver
     ) {
         this.attackRepository = Objects.requireNonNull(attackRepository, "Attack repository is required");
         this.modifierResolver = Objects.requireNonNull(modifierResolver, "Modifier resolver is required");
-        this.armorBonusResolver = Objects.requireNonNull(armorBonusResolver, "Armor bonus resolver is required");
-        this.attackBonusResolver = Objects.requireNonNull(attackBonusResolver, "Attack bonus resolver is required");
-        this.classArmorBonusResolver =
-            Objects.requireNonNull(classArmorBonusResolver, "Class armor bonus resolver is required");
-        this.equipmentArmorResolver = Objects.requireNonNull(equipmentArmorResolver, "Equipment armor resolver is required");
-        this.equipmentResistanceResolver =
-            Objects.requireNonNull(equipmentResistanceResolver, "Equipment resistance resolver is required");
+        this.derivedStatsCache = Objects.requireNonNull(derivedStatsCache, "Derived stats cache is required");
         this.shieldBlockResolver = Objects.requireNonNull(shieldBlockResolver, "Shield block resolver is required");
         this.parryResolver = Objects.requireNonNull(parryResolver, "Parry resolver is required");
         this.offhandAttackResolver =
@@ -578,10 +619,8 @@ public class CombatEngine {
             .orElseThrow(() -> new RepositoryException("Unknown attack id " + attackId.getValue()));
         CombatModifiers attackerMods = modifierResolver.resolve(attacker.effects());
         CombatModifiers targetMods = modifierResolver.resolve(target.effects());
-        int targetArmorBonus = armorBonusResolver.armorBonus(target)
-            + classArmorBonusResolver.armorBonus(target)
-            + equipmentArmorResolver.totalAc(target);
-        int attackerRaceAttackBonus = attackBonusResolver.attackBonus(attacker);
+        int targetArmorBonus = derivedStatsCache.get(target).armorClass();
+        int attackerRaceAttackBonus = derivedStatsCache.get(attacker).raceAttackBonus();
 
         // Main-hand attack: resolves exactly as before. The off-hand roll (below) only runs when the
         // attacker dual-wields a weapon, so equipment without an off-hand weapon leaves the RNG
@@ -736,7 +775,7 @@ public class CombatEngine {
                 // at CombatSettings.maxResistancePercent() so resistance can never fully negate a blow.
                 if (attack.damageType().isResistible()) {
                     int resistPercent = clamp(
-                        equipmentResistanceResolver.totalResistance(target, attack.damageType()),
+                        derivedStatsCache.get(target).resistance(attack.damageType()),
                         0, CombatSettings.maxResistancePercent());
                     if (resistPercent > 0) {
                         adjusted = (int) Math.round(adjusted * ((100 - resistPercent) / 100.0));
@@ -922,7 +961,7 @@ public class CombatEngine {
         int adjusted = baseDamage + riposteAttack.damageBonus() + strengthDamageBonus;
         if (riposteAttack.damageType().isResistible()) {
             int resistPercent = clamp(
-                equipmentResistanceResolver.totalResistance(victim, riposteAttack.damageType()),
+                derivedStatsCache.get(victim).resistance(riposteAttack.damageType()),
                 0, CombatSettings.maxResistancePercent());
             if (resistPercent > 0) {
                 adjusted = (int) Math.round(adjusted * ((100 - resistPercent) / 100.0));
@@ -0,0 +1,51 @@
+package io.taanielo.jmud.core.combat;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the combat numbers a player's gear, race and class contribute, computed once
+ * by {@link DerivedStatsCache} and read on every hit instead of re-summing equipment through the
+ * item repository.
+ *
+ * <p>Effect-driven modifiers are not part of the snapshot: they change tick by tick and are resolved
+ * separately by {@link CombatModifierResolver}.
+ *
+ * @param equipmentAc     AC from equipped items plus worn item-set bonuses
+ *                        ({@link EquipmentArmorResolver#totalAc})
+ * @param raceAc          racial AC bonus ({@link RaceArmorBonusResolver#armorBonus})
+ * @param classAc         class AC bonus ({@link ClassArmorBonusResolver#armorBonus})
+ * @param raceAttackBonus racial hit-chance bonus ({@link RaceAttackBonusResolver#attackBonus})
+ * @param resistances     uncapped equipment resistance percentage per resistible damage type
+ *                        ({@link EquipmentResistanceResolver#totalResistance}); absent types are 0
+ */
+public record DerivedStats(
+    int equipmentAc,
+    int raceAc,
+    int classAc,
+    int raceAttackBonus,
+    Map<DamageType, Integer> resistances
+) {
+
+    public DerivedStats {
+        Objects.requireNonNull(resistances, "Resistances are required");
+        resistances = Map.copyOf(resistances);
+    }
+
+    /**
+     * Returns the total defensive AC: equipment, race and class bonuses combined.
+     */
+    public int armorClass() {
+        return equipmentAc + raceAc + classAc;
+    }
+
+    /**
+     * Returns the uncapped resistance percentage against the given damage type.
+     *
+     * @param damageType the incoming damage type
+     * @return the summed equipment resistance, {@code 0} for non-resistible types
+     */
+    public int resistance(DamageType damageType) {
+        return resistances.getOrDefault(damageType, 0);
+    }
+}
@@ -0,0 +1,154 @@
+package io.taanielo.jmud.core.combat;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.character.ClassId;
+import io.taanielo.jmud.core.character.RaceId;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerEquipment;
+
+/**
+ * Per-player cache of {@link DerivedStats}, so combat reads a player's armour, racial attack bonus
+ * and resistances in O(1) instead of asking every resolver (and the item repository behind them)
+ * on each hit.
+ *
+ * <p>An entry is recomputed only when the player's equipment, level, race or class differ from the
+ * values it was computed for. Equipment is compared by value, so a player loaded afresh from the
+ * repository (as mob combat does on every swing) still hits, while any equip or unequip is a miss.
+ * Item, race and class definitions can change under a wizard {@code RELOAD}, after which the
+ * composition root calls {@link #invalidateAll()}. A player's entry is dropped through
+ * {@link #invalidate(Username)} when they leave the world, so the cache never outgrows the online
+ * population.
+ *
+ * <p>Active effects are deliberately not part of the key. None of the resolvers behind a snapshot
+ * read them; effect modifiers to armour, hit chance and damage are applied per hit by
+ * {@link CombatModifierResolver}, so a buff landing or expiring cannot make a snapshot stale.
+ *
+ * <p>Safe to call from any thread; combat runs on the tick thread (AGENTS.md §5).
+ */
+public class DerivedStatsCache {
+
+    private final EquipmentArmorResolver equipmentArmorResolver;
+    private final RaceArmorBonusResolver raceArmorBonusResolver;
+    private final ClassArmorBonusResolver classArmorBonusResolver;
+    private final RaceAttackBonusResolver raceAttackBonusResolver;
+    private final EquipmentResistanceResolver equipmentResistanceResolver;
+    private final Map<Username, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache that computes snapshots through the given resolvers.
+     *
+     * @param equipmentArmorResolver      resolves item and item-set AC
+     * @param raceArmorBonusResolver      resolves racial AC bonuses
+     * @param classArmorBonusResolver     resolves class AC bonuses
+     * @param raceAttackBonusResolver     resolves racial hit-chance bonuses
+     * @param equipmentResistanceResolver resolves equipment resistance per damage type
+     */
+    public DerivedStatsCache(
+        EquipmentArmorResolver equipmentArmorResolver,
+        RaceArmorBonusResolver raceArmorBonusResolver,
+        ClassArmorBonusResolver classArmorBonusResolver,
+        RaceAttackBonusResolver raceAttackBonusResolver,
+        EquipmentResistanceResolver equipmentResistanceResolver
+    ) {
+        this.equipmentArmorResolver =
+            Objects.requireNonNull(equipmentArmorResolver, "Equipment armor resolver is required");
+        this.raceArmorBonusResolver =
+            Objects.requireNonNull(raceArmorBonusResolver, "Race armor bonus resolver is required");
+        this.classArmorBonusResolver =
+            Objects.requireNonNull(classArmorBonusResolver, "Class armor bonus resolver is required");
+        this.raceAttackBonusResolver =
+            Objects.requireNonNull(raceAttackBonusResolver, "Race attack bonus resolver is required");
+        this.equipmentResistanceResolver =
+            Objects.requireNonNull(equipmentResistanceResolver, "Equipment resistance resolver is required");
+    }
+
+    /**
+     * Returns the player's derived stats, computing them only if the player's equipment, level, race
+     * or class changed since the last call.
+     *
+     * @param player the player
+     * @return the current snapshot
+     */
+    public DerivedStats get(Player player) {
+        Objects.requireNonNull(player, "Player is required");
+        Entry entry = entries.get(player.getUsername());
+        if (entry != null && entry.matches(player)) {
+            return entry.stats();
+        }
+        DerivedStats stats = compute(player);
+        entries.put(player.getUsername(), new Entry(
+            player.getEquipment(), player.getLevel(), player.getRace(), player.getClassId(), stats));
+        return stats;
+    }
+
+    /**
+     * Computes a fresh snapshot through the resolvers, bypassing the cache.
+     *
+     * @param player the player
+     * @return the player's derived stats
+     */
+    public DerivedStats compute(Player player) {
+        Map<DamageType, Integer> resistances = new EnumMap<>(DamageType.class);
+        for (DamageType type : DamageType.values()) {
+            if (type.isResistible()) {
+                int resistance = equipmentResistanceResolver.totalResistance(player, type);
+                if (resistance != 0) {
+                    resistances.put(type, resistance);
+                }
+            }
+        }
+        return new DerivedStats(
+            equipmentArmorResolver.totalAc(player),
+            raceArmorBonusResolver.armorBonus(player),
+            classArmorBonusResolver.armorBonus(player),
+            raceAttackBonusResolver.attackBonus(player),
+            resistances);
+    }
+
+    /**
+     * Drops the cached snapshot for one player. Called when the player leaves the world.
+     *
+     * @param username the player's username
+     */
+    public void invalidate(Username username) {
+        entries.remove(username);
+    }
+
+    /**
+     * Drops every cached snapshot. Called after item, race or class definitions are reloaded.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of players with a cached snapshot.
+     *
+     * @return the entry count
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private record Entry(
+        PlayerEquipment equipment,
+        int level,
+        @Nullable RaceId race,
+        @Nullable ClassId classId,
+        DerivedStats stats
+    ) {
+        boolean matches(Player player) {
+            return equipment.equals(player.getEquipment())
+                && level == player.getLevel()
+                && Objects.equals(race, player.getRace())
+                && Objects.equals(classId, player.getClassId());
+        }
+    }
+}
@@ -3,32 +3,57 @@ package io.taanielo.jmud.core.combat.repository.json;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.jspecify.annotations.Nullable;
+
 import io.taanielo.jmud.core.combat.AttackDefinition;
 import io.taanielo.jmud.core.combat.AttackId;
 import io.taanielo.jmud.core.combat.dto.AttackDto;
 import io.taanielo.jmud.core.combat.dto.AttackMapper;
 import io.taanielo.jmud.core.combat.repository.AttackRepository;
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
+import io.taanielo.jmud.core.reload.DefinitionContentReloader;
+import io.taanielo.jmud.core.reload.PreparedReload;
 import io.taanielo.jmud.core.world.repository.RepositoryException;
 
-public class JsonAttackRepository implements AttackRepository {
+/**
+ * Attack definitions read from {@code data/attacks/*.json}.
+ *
+ * <p>Until a full snapshot is committed through {@link #prepareDefinitions()} a miss reads the
+ * attack's file on demand; afterwards every lookup is answered from the immutable snapshot, so
+ * combat never touches disk on the tick thread.
+ */
+public class JsonAttackRepository implements AttackRepository, DefinitionContentReloader {
     private static final String ATTACKS_DIR = "attacks";
 
     private final ObjectMapper objectMapper;
     private final AttackMapper mapper;
     private final Path attacksDirPath;
+    private final JsonDocumentSource documents;
     private final ConcurrentHashMap<AttackId, AttackDefinition> cache = new ConcurrentHashMap<>();
+    private volatile @Nullable Map<AttackId, AttackDefinition> snapshot;
 
     public JsonAttackRepository() throws RepositoryException {
         this(Path.of("data"));
     }
 
     public JsonAttackRepository(Path dataRoot) throws RepositoryException {
+        this(dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/attacks} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonAttackRepository(Path dataRoot, JsonDocumentSource documents) throws RepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.mapper = new AttackMapper();
         this.attacksDirPath = Objects.requireNonNull(dataRoot, "Data root is required").resolve(ATTACKS_DIR);
@@ -38,6 +63,10 @@ public class JsonAttackRepository implements AttackRepository {
     @Override
     public Optional<AttackDefinition> findById(AttackId id) throws RepositoryException {
         Objects.requireNonNull(id, "Attack id is required");
+        Map<AttackId, AttackDefinition> loaded = snapshot;
+        if (loaded != null) {
+            return Optional.ofNullable(loaded.get(id));
+        }
         AttackDefinition cached = cache.get(id);
         if (cached != null) {
             return Optional.of(cached);
@@ -46,15 +75,37 @@ public class JsonAttackRepository implements AttackRepository {
         if (!Files.exists(attackFilePath)) {
             return Optional.empty();
         }
-        AttackDto dto = readDto(attackFilePath);
-        AttackDefinition definition;
+        AttackDefinition definition = readDefinition(attackFilePath);
+        cache.put(id, definition);
+        return Optional.of(definition);
+    }
+
+    /**
+     * Reads and validates every attack file into an immutable snapshot. Committing it replaces the
+     * lazily filled cache and stops on-demand reads; it must run on the tick thread (AGENTS.md §5).
+     */
+    @Override
+    public PreparedReload prepareDefinitions() throws RepositoryException {
+        Map<AttackId, AttackDefinition> loaded = new HashMap<>();
+        try {
+            for (Path path : documents.list(attacksDirPath)) {
+                AttackDefinition definition = readDefinition(path);
+                loaded.put(definition.id(), definition);
+            }
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to list attack data files: " + e.getMessage(), e);
+        }
+        Map<AttackId, AttackDefinition> prepared = Map.copyOf(loaded);
+        return PreparedReload.of("attacks", prepared.size(), () -> snapshot = prepared);
+    }
+
+    private AttackDefinition readDefinition(Path path) throws RepositoryException {
+        AttackDto dto = readDto(path);
         try {
-            definition = mapper.toDomain(dto);
+            return mapper.toDomain(dto);
         } catch (IllegalArgumentException e) {
-            throw new RepositoryException("Invalid attack data in " + attackFilePath + ": " + e.getMessage(), e);
+            throw new RepositoryException("Invalid attack data in " + path + ": " + e.getMessage(), e);
         }
-        cache.put(id, definition);
-        return Optional.of(definition);
     }
 
     private void ensureDirectory(Path path) throws RepositoryException {
@@ -71,7 +122,7 @@ public class JsonAttackRepository implements AttackRepository {
 
     private AttackDto readDto(Path path) throws RepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), AttackDto.class);
+            return documents.read(path, objectMapper, AttackDto.class);
         } catch (IOException e) {
             throw new RepositoryException("Failed to read attack data from " + path + ": " + e.getMessage(), e);
         }
@@ -0,0 +1,491 @@
+package io.taanielo.jmud.core.content.repository.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A compiled content pack: the JSON documents of a set of data directories packed into one
+ * read-only file, written by {@link #compile} ({@code --compile-content}) and memory-mapped by
+ * {@link #open}.
+ *
+ * <p>The file opens with a {@value #HEADER_SIZE}-byte header (big-endian): the magic
+ * {@code JMUDPACK}, {@code int} format version, {@code int} CRC-32 of the body, {@code long}
+ * modification time of the newest source file and {@code int} body length. The body holds:
+ *
+ * <ol>
+ *   <li>a string table — every object key and string value once, as {@code int} length + UTF-8 —
+ *       decoded when the pack is opened, so an id repeated across the world (an item referenced by
+ *       fifty rooms) is one shared {@link String} rather than fifty;</li>
+ *   <li>the index — per directory, its string-table entry and, per document, the file name's entry
+ *       and the document's offset and length — from which a directory lookup is a hash probe;</li>
+ *   <li>the documents, each a pre-parsed JSON tree: a tag byte per value, numbers as fixed-width
+ *       binary, strings and keys as string-table indexes and arrays and objects prefixed with their
+ *       size.</li>
+ * </ol>
+ *
+ * <p>Documents are decoded back into the tree the JSON parser would have produced, and the
+ * repositories bind it through the same DTOs, schema checks and mappers as a file they read, so the
+ * pack changes how fast content loads, never what loads. A pack whose checksum, magic or version
+ * does not match is refused. An open pack is immutable and safe to read from any thread.
+ */
+public final class ContentPack {
+
+    /** Current format version; a pack written by another version is refused. */
+    public static final int VERSION = 1;
+    static final int HEADER_SIZE = 28;
+
+    private static final byte[] MAGIC = "JMUDPACK".getBytes(StandardCharsets.US_ASCII);
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_STRING = 6;
+    private static final byte TAG_ARRAY = 7;
+    private static final byte TAG_OBJECT = 8;
+
+    private final Path path;
+    private final long sourcesModifiedMillis;
+    private final ByteBuffer documents;
+    private final String[] strings;
+    private final TextNode[] texts;
+    /** Document locations by directory key, then file name, in compile order. */
+    private final Map<String, Map<String, Location>> directories;
+    private final int documentCount;
+
+    /**
+     * Where one document's encoded tree lies in the document area.
+     *
+     * @param offset the tree's first byte
+     * @param length the tree's length in bytes
+     */
+    private record Location(int offset, int length) {
+    }
+
+    /**
+     * What {@link #compile} wrote.
+     *
+     * @param documents the number of documents packed
+     * @param strings   the number of distinct strings in the string table
+     * @param bytes     the size of the pack file
+     */
+    public record Compiled(int documents, int strings, long bytes) {
+    }
+
+    private ContentPack(
+        Path path,
+        long sourcesModifiedMillis,
+        ByteBuffer documents,
+        String[] strings,
+        Map<String, Map<String, Location>> directories
+    ) {
+        this.path = path;
+        this.sourcesModifiedMillis = sourcesModifiedMillis;
+        this.documents = documents;
+        this.strings = strings;
+        this.texts = new TextNode[strings.length];
+        for (int i = 0; i < strings.length; i++) {
+            texts[i] = TextNode.valueOf(strings[i]);
+        }
+        this.directories = directories;
+        this.documentCount = directories.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * Memory-maps a pack and verifies its header and checksum.
+     *
+     * @param path the pack file
+     * @return the open pack
+     * @throws IOException if the file cannot be read or is not an intact pack of this version
+     */
+    public static ContentPack open(Path path) throws IOException {
+        Objects.requireNonNull(path, "Path is required");
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw corrupt(path, "unexpected size " + size);
+            }
+            // The mapping outlives the channel and is released when the pack is garbage collected.
+            file = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        file.get(0, magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw corrupt(path, "not a content pack");
+        }
+        int version = file.getInt(8);
+        if (version != VERSION) {
+            throw corrupt(path, "format version " + version + ", expected " + VERSION);
+        }
+        int checksum = file.getInt(12);
+        long sourcesModifiedMillis = file.getLong(16);
+        int bodyLength = file.getInt(24);
+        if (bodyLength != file.capacity() - HEADER_SIZE) {
+            throw corrupt(path, "truncated body");
+        }
+        ByteBuffer body = file.slice(HEADER_SIZE, bodyLength);
+        CRC32 crc = new CRC32();
+        crc.update(body.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw corrupt(path, "checksum mismatch");
+        }
+        try {
+            String[] strings = new String[body.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                byte[] bytes = new byte[body.getInt()];
+                body.get(bytes);
+                strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            }
+            int directoryCount = body.getInt();
+            Map<String, Map<String, Location>> directories = new HashMap<>();
+            for (int i = 0; i < directoryCount; i++) {
+                String directory = strings[body.getInt()];
+                int count = body.getInt();
+                Map<String, Location> locations = new LinkedHashMap<>();
+                for (int j = 0; j < count; j++) {
+                    locations.put(strings[body.getInt()], new Location(body.getInt(), body.getInt()));
+                }
+                directories.put(directory, Collections.unmodifiableMap(locations));
+            }
+            return new ContentPack(path, sourcesModifiedMillis, body.slice(), strings, directories);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw corrupt(path, "malformed index");
+        }
+    }
+
+    /**
+     * Parses every {@code .json} file directly inside each directory and writes them as a pack. The
+     * pack is written to a sibling file and atomically renamed over {@code target}, so a running
+     * server never maps a half-written pack.
+     *
+     * @param directories the data directories to pack; a missing directory is packed as empty
+     * @param target      the pack file to write
+     * @return what was written
+     * @throws IOException if a file cannot be read or parsed, or the pack cannot be written
+     */
+    public static Compiled compile(List<Path> directories, Path target) throws IOException {
+        Objects.requireNonNull(directories, "Directories are required");
+        Objects.requireNonNull(target, "Target is required");
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        ByteArrayOutputStream documentBytes = new ByteArrayOutputStream();
+        DataOutputStream documentOut = new DataOutputStream(documentBytes);
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream indexOut = new DataOutputStream(indexBytes);
+        long newest = 0;
+        int documentCount = 0;
+        indexOut.writeInt(directories.size());
+        for (Path directory : directories) {
+            List<Path> files = listSources(directory);
+            indexOut.writeInt(intern(strings, key(directory)));
+            indexOut.writeInt(files.size());
+            for (Path file : files) {
+                // Before parsing: a file saved while it is read must count as newer than the pack.
+                newest = Math.max(newest, Files.getLastModifiedTime(file).toMillis());
+                JsonNode tree = mapper.readTree(file.toFile());
+                int offset = documentOut.size();
+                encode(tree, documentOut, strings, file);
+                indexOut.writeInt(intern(strings, file.getFileName().toString()));
+                indexOut.writeInt(offset);
+                indexOut.writeInt(documentOut.size() - offset);
+                documentCount++;
+            }
+        }
+
+        ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(
+            documentBytes.size() + indexBytes.size() + strings.size() * 16);
+        DataOutputStream bodyOut = new DataOutputStream(bodyBytes);
+        bodyOut.writeInt(strings.size());
+        for (String string : strings.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            bodyOut.writeInt(bytes.length);
+            bodyOut.write(bytes);
+        }
+        indexBytes.writeTo(bodyOut);
+        documentBytes.writeTo(bodyOut);
+        bodyOut.flush();
+        byte[] body = bodyBytes.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+
+        Path absolute = target.toAbsolutePath();
+        Path parent = absolute.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp);
+                 DataOutputStream header = new DataOutputStream(out)) {
+                header.write(MAGIC);
+                header.writeInt(VERSION);
+                header.writeInt((int) crc.getValue());
+                header.writeLong(newest);
+                header.writeInt(body.length);
+                header.write(body);
+            }
+            Files.move(temp, absolute, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        return new Compiled(documentCount, strings.size(), HEADER_SIZE + (long) body.length);
+    }
+
+    /**
+     * Returns the file this pack was opened from.
+     *
+     * @return the pack file
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * Returns the modification time of the newest file packed, against which the current files are
+     * compared to tell whether the pack is stale.
+     *
+     * @return epoch milliseconds
+     */
+    public long sourcesModifiedMillis() {
+        return sourcesModifiedMillis;
+    }
+
+    /**
+     * Returns how many documents the pack holds.
+     *
+     * @return the document count
+     */
+    public int documentCount() {
+        return documentCount;
+    }
+
+    /**
+     * Returns how many distinct strings the string table holds.
+     *
+     * @return the string count
+     */
+    public int stringCount() {
+        return strings.length;
+    }
+
+    /**
+     * Returns the packed directories.
+     *
+     * @return the directory keys, e.g. {@code data/items}
+     */
+    public List<String> directories() {
+        return List.copyOf(directories.keySet());
+    }
+
+    /**
+     * Tells whether a directory was packed.
+     *
+     * @param directory the data directory
+     * @return {@code true} if its documents are in the pack
+     */
+    public boolean contains(Path directory) {
+        return directories.containsKey(key(directory));
+    }
+
+    /**
+     * Returns the file names packed from a directory, in the order they were compiled.
+     *
+     * @param directory the data directory
+     * @return the file names; empty if the directory was not packed
+     */
+    public List<String> names(Path directory) {
+        Map<String, Location> locations = directories.get(key(directory));
+        return locations == null ? List.of() : List.copyOf(locations.keySet());
+    }
+
+    /**
+     * Decodes one document.
+     *
+     * @param document the document's file path
+     * @return its JSON tree, or {@code null} if the pack does not hold it
+     * @throws IOException if the encoded tree is malformed
+     */
+    public @Nullable JsonNode read(Path document) throws IOException {
+        Path directory = document.getParent();
+        Path name = document.getFileName();
+        if (directory == null || name == null) {
+            return null;
+        }
+        Map<String, Location> locations = directories.get(key(directory));
+        Location location = locations == null ? null : locations.get(name.toString());
+        if (location == null) {
+            return null;
+        }
+        Cursor cursor = new Cursor(location.offset());
+        try {
+            JsonNode tree = decode(cursor);
+            if (cursor.position != location.offset() + location.length()) {
+                throw corrupt(path, "bad length for " + document);
+            }
+            return tree;
+        } catch (IndexOutOfBoundsException e) {
+            throw corrupt(path, "malformed document " + document);
+        }
+    }
+
+    /**
+     * Returns the lookup key of a data directory: its normalised path with {@code /} separators, as
+     * the repositories resolve it, e.g. {@code data/items} or {@code effects}.
+     */
+    static String key(Path directory) {
+        return directory.normalize().toString().replace(File.separatorChar, '/');
+    }
+
+    private static List<Path> listSources(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.toString().endsWith(".json")).sorted().toList();
+        } catch (NoSuchFileException e) {
+            return List.of();
+        }
+    }
+
+    private static int intern(Map<String, Integer> strings, String value) {
+        return strings.computeIfAbsent(value, ignored -> strings.size());
+    }
+
+    private static void encode(JsonNode node, DataOutputStream out, Map<String, Integer> strings, Path file)
+        throws IOException {
+        switch (node.getNodeType()) {
+            case NULL -> out.writeByte(TAG_NULL);
+            case BOOLEAN -> out.writeByte(node.booleanValue() ? TAG_TRUE : TAG_FALSE);
+            case NUMBER -> {
+                if (node.isInt()) {
+                    out.writeByte(TAG_INT);
+                    out.writeInt(node.intValue());
+                } else if (node.isLong()) {
+                    out.writeByte(TAG_LONG);
+                    out.writeLong(node.longValue());
+                } else if (node.isDouble()) {
+                    out.writeByte(TAG_DOUBLE);
+                    out.writeDouble(node.doubleValue());
+                } else {
+                    throw new IOException("Unsupported number " + node + " in " + file);
+                }
+            }
+            case STRING -> {
+                out.writeByte(TAG_STRING);
+                out.writeInt(intern(strings, node.textValue()));
+            }
+            case ARRAY -> {
+                out.writeByte(TAG_ARRAY);
+                out.writeInt(node.size());
+                for (JsonNode element : node) {
+                    encode(element, out, strings, file);
+                }
+            }
+            case OBJECT -> {
+                out.writeByte(TAG_OBJECT);
+                out.writeInt(node.size());
+                for (Map.Entry<String, JsonNode> property : node.properties()) {
+                    out.writeInt(intern(strings, property.getKey()));
+                    encode(property.getValue(), out, strings, file);
+                }
+            }
+            default -> throw new IOException("Unsupported JSON value " + node.getNodeType() + " in " + file);
+        }
+    }
+
+    private JsonNode decode(Cursor cursor) throws IOException {
+        JsonNodeFactory factory = JsonNodeFactory.instance;
+        byte tag = cursor.nextByte();
+        return switch (tag) {
+            case TAG_NULL -> factory.nullNode();
+            case TAG_TRUE -> factory.booleanNode(true);
+            case TAG_FALSE -> factory.booleanNode(false);
+            case TAG_INT -> factory.numberNode(cursor.nextInt());
+            case TAG_LONG -> factory.numberNode(cursor.nextLong());
+            case TAG_DOUBLE -> factory.numberNode(cursor.nextDouble());
+            case TAG_STRING -> texts[cursor.nextInt()];
+            case TAG_ARRAY -> {
+                int size = cursor.nextInt();
+                ArrayNode array = factory.arrayNode(size);
+                for (int i = 0; i < size; i++) {
+                    array.add(decode(cursor));
+                }
+                yield array;
+            }
+            case TAG_OBJECT -> {
+                int size = cursor.nextInt();
+                ObjectNode object = factory.objectNode();
+                for (int i = 0; i < size; i++) {
+                    String name = strings[cursor.nextInt()];
+                    object.set(name, decode(cursor));
+                }
+                yield object;
+            }
+            default -> throw corrupt(path, "unknown value tag " + tag);
+        };
+    }
+
+    private static IOException corrupt(Path path, String reason) {
+        return new IOException("Corrupt content pack " + path + ": " + reason);
+    }
+
+    /** A read position in the document area; absolute reads keep the shared buffer untouched. */
+    private final class Cursor {
+        private int position;
+
+        private Cursor(int position) {
+            this.position = position;
+        }
+
+        private byte nextByte() {
+            return documents.get(position++);
+        }
+
+        private int nextInt() {
+            int value = documents.getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        private long nextLong() {
+            long value = documents.getLong(position);
+            position += Long.BYTES;
+            return value;
+        }
+
+        private double nextDouble() {
+            double value = documents.getDouble(position);
+            position += Double.BYTES;
+            return value;
+        }
+    }
+}
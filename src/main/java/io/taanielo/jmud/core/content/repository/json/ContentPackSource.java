@@ -0,0 +1,131 @@
+package io.taanielo.jmud.core.content.repository.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves the content repositories from a compiled {@link ContentPack} while it is current, and from
+ * the JSON files otherwise.
+ *
+ * <p>{@link #select()} decides which: the pack is used only if it opens intact, packs every one of
+ * the source directories, holds exactly the files each of them holds now and none of those files
+ * has been modified since it was compiled. Anything else — no pack, a damaged pack, a file edited
+ * or added after {@code --compile-content} — falls back to reading the files, so a stale pack can
+ * never hide a content change. A directory the pack does not cover is always read from the files.
+ *
+ * <p>Selection runs once at start-up and again before every RELOAD prepare, off the tick thread, so
+ * a freshly compiled pack is picked up by the next reload without a restart. Reads may come from any
+ * thread.
+ */
+@Slf4j
+public final class ContentPackSource implements JsonDocumentSource {
+
+    private final Path packPath;
+    private final List<Path> directories;
+    private volatile @Nullable ContentPack pack;
+
+    /**
+     * Creates a source that reads the files until {@link #select()} finds a current pack.
+     *
+     * @param packPath    the pack file, which need not exist
+     * @param directories the source directories the pack must cover and be newer than
+     */
+    public ContentPackSource(Path packPath, List<Path> directories) {
+        this.packPath = Objects.requireNonNull(packPath, "Pack path is required");
+        this.directories = List.copyOf(Objects.requireNonNull(directories, "Directories are required"));
+    }
+
+    /**
+     * Maps the pack file if it is current, or falls back to the JSON files if it is not. Never
+     * throws: a pack that cannot be used is logged and ignored.
+     *
+     * @return {@code true} if reads are now served from the pack
+     */
+    public synchronized boolean select() {
+        ContentPack current = pack;
+        if (!Files.exists(packPath)) {
+            if (current != null) {
+                log.info("Content pack {} was removed; reading the JSON data files", packPath);
+            }
+            pack = null;
+            return false;
+        }
+        try {
+            ContentPack candidate = ContentPack.open(packPath);
+            String stale = staleness(candidate);
+            if (stale != null) {
+                log.info("Content pack {} is stale ({}); reading the JSON data files", packPath, stale);
+                pack = null;
+                return false;
+            }
+            log.info("Reading content from pack {} ({} documents, {} strings)",
+                packPath, candidate.documentCount(), candidate.stringCount());
+            pack = candidate;
+            return true;
+        } catch (IOException e) {
+            log.warn("Ignoring content pack {}: {}; reading the JSON data files", packPath, e.getMessage());
+            pack = null;
+            return false;
+        }
+    }
+
+    /**
+     * Returns the pack reads are served from.
+     *
+     * @return the selected pack, or {@code null} while reading the JSON files
+     */
+    public @Nullable ContentPack pack() {
+        return pack;
+    }
+
+    @Override
+    public List<Path> list(Path directory) throws IOException {
+        ContentPack current = pack;
+        if (current == null || !current.contains(directory)) {
+            return FILES.list(directory);
+        }
+        return current.names(directory).stream().map(directory::resolve).toList();
+    }
+
+    @Override
+    public <T> T read(Path document, ObjectMapper mapper, Class<T> type) throws IOException {
+        ContentPack current = pack;
+        JsonNode tree = current == null ? null : current.read(document);
+        if (tree == null) {
+            return FILES.read(document, mapper, type);
+        }
+        return mapper.treeToValue(tree, type);
+    }
+
+    /** Returns why {@code candidate} no longer matches the files, or {@code null} if it does. */
+    private @Nullable String staleness(ContentPack candidate) throws IOException {
+        for (Path directory : directories) {
+            if (!candidate.contains(directory)) {
+                return "it does not pack " + ContentPack.key(directory);
+            }
+            List<Path> files = Files.isDirectory(directory) ? FILES.list(directory) : List.of();
+            Set<String> names = new HashSet<>();
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() > candidate.sourcesModifiedMillis()) {
+                    return file + " changed after it was compiled";
+                }
+                names.add(file.getFileName().toString());
+            }
+            if (!names.equals(Set.copyOf(candidate.names(directory)))) {
+                return "files were added to or removed from " + ContentPack.key(directory);
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,53 @@
+package io.taanielo.jmud.core.content.repository.json;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Where a JSON content repository reads its data files from: the files themselves
+ * ({@link #FILES}), or a compiled {@link ContentPack} holding the same documents
+ * ({@link ContentPackSource}). Repositories keep addressing documents by their file path, so error
+ * messages name the source file whichever way it was read.
+ */
+public interface JsonDocumentSource {
+
+    /** Reads every document straight from the file system. */
+    JsonDocumentSource FILES = new JsonDocumentSource() {
+        @Override
+        public List<Path> list(Path directory) throws IOException {
+            try (Stream<Path> files = Files.list(directory)) {
+                return files.filter(path -> path.toString().endsWith(".json")).toList();
+            }
+        }
+
+        @Override
+        public <T> T read(Path document, ObjectMapper mapper, Class<T> type) throws IOException {
+            return mapper.readValue(document.toFile(), type);
+        }
+    };
+
+    /**
+     * Lists the {@code .json} documents directly inside a directory, not those in its subdirectories.
+     *
+     * @param directory the data directory, e.g. {@code data/items}
+     * @return the document paths
+     * @throws IOException if the directory cannot be listed
+     */
+    List<Path> list(Path directory) throws IOException;
+
+    /**
+     * Reads one document.
+     *
+     * @param document the document's file path
+     * @param mapper   the repository's mapper, which binds the document to {@code type}
+     * @param type     the DTO type
+     * @return the bound DTO
+     * @throws IOException if the document cannot be read or does not bind to {@code type}
+     */
+    <T> T read(Path document, ObjectMapper mapper, Class<T> type) throws IOException;
+}
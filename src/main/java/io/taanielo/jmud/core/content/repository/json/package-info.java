@@ -0,0 +1,11 @@
+/**
+ * The compiled content pack: every static JSON data file of the world packed into one versioned,
+ * checksummed binary file that the server memory-maps at start-up instead of opening and parsing
+ * hundreds of files, falling back to the files whenever the pack is missing, damaged or older than
+ * them. Jackson stays inside this {@code repository.json} layer (AGENTS.md §3.2). NullAway-checked
+ * ({@code @NullMarked}) since this is a new package.
+ */
+@NullMarked
+package io.taanielo.jmud.core.content.repository.json;
+
+import org.jspecify.annotations.NullMarked;
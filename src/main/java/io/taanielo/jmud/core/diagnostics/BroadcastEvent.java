@@ -0,0 +1,56 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flight Recorder event spanning one room or global broadcast: resolving recipients, encoding the
+ * message and handing it to each connection.
+ */
+@Name("jmud.Broadcast")
+@Label("Broadcast")
+@Category({"jmud", "Messaging"})
+@Description("One room or global message fan-out")
+@StackTrace(false)
+public final class BroadcastEvent extends Event {
+
+    @Label("Scope")
+    @Description("room or global")
+    String scope = "";
+
+    @Label("Room")
+    @Nullable String room;
+
+    @Label("Message Type")
+    String messageType = "";
+
+    @Label("Recipients")
+    int recipients;
+
+    /** Counts one connection the message was handed to. */
+    public void countRecipient() {
+        recipients++;
+    }
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param scope       {@code "room"} or {@code "global"}
+     * @param room        the room broadcast to, or {@code null} for a global broadcast
+     * @param messageType the message's simple class name
+     */
+    public void complete(String scope, @Nullable String room, String messageType) {
+        end();
+        if (shouldCommit()) {
+            this.scope = scope;
+            this.room = room;
+            this.messageType = messageType;
+            commit();
+        }
+    }
+}
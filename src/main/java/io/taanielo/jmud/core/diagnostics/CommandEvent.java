@@ -0,0 +1,51 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Flight Recorder event spanning the dispatch of one player command on the tick thread. The event's
+ * duration is the command's execution time; {@code queueWait} is how long it sat in the player's
+ * command queue first. The correlation id matches the command's log lines and audit events.
+ */
+@Name("jmud.Command")
+@Label("Command")
+@Category({"jmud", "Command"})
+@Description("One player command dispatched on the tick thread")
+@StackTrace(false)
+public final class CommandEvent extends Event {
+
+    @Label("Correlation Id")
+    @Nullable String correlationId;
+
+    @Label("Command")
+    @Description("Name of the resolved command handler; null when the input matched none or was refused")
+    @Nullable String command;
+
+    @Label("Queue Wait")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueWait;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param correlationId  the command's correlation id
+     * @param command        the resolved handler name, or {@code null} when none ran
+     * @param queueWaitNanos nanoseconds between enqueue and dispatch
+     */
+    public void complete(@Nullable String correlationId, @Nullable String command, long queueWaitNanos) {
+        end();
+        if (shouldCommit()) {
+            this.correlationId = correlationId;
+            this.command = command;
+            this.queueWait = queueWaitNanos;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import io.taanielo.jmud.core.config.GameConfig;
+
+/**
+ * Configuration for on-demand Flight Recorder recordings started with the wizard {@code PROFILE}
+ * command.
+ *
+ * <p>Values are read once from {@link GameConfig} following the same static-settings pattern as
+ * {@link io.taanielo.jmud.core.persistence.PersistenceSettings}.
+ */
+public final class DiagnosticsSettings {
+
+    /** Default directory recordings are written to. */
+    public static final String DEFAULT_RECORDING_DIR = "recordings";
+
+    /** Default cap on a recording's size, in megabytes. */
+    public static final int DEFAULT_RECORDING_MAX_MB = 64;
+
+    /** Default and longest recording length, in seconds. */
+    public static final int DEFAULT_RECORDING_MAX_SECONDS = 600;
+
+    private static final GameConfig CONFIG = GameConfig.load();
+
+    private DiagnosticsSettings() {
+    }
+
+    /**
+     * Returns the directory recordings are written to; created on the first recording.
+     *
+     * @return the recording directory
+     */
+    public static Path recordingDirectory() {
+        return Path.of(CONFIG.getString("jmud.diagnostics.recording_dir", DEFAULT_RECORDING_DIR));
+    }
+
+    /**
+     * Returns the most bytes a recording keeps; once reached the oldest data is dropped.
+     *
+     * @return a positive size in bytes
+     * @throws IllegalArgumentException if the configured value is not positive
+     */
+    public static long recordingMaxBytes() {
+        int megabytes = CONFIG.getInt("jmud.diagnostics.recording_max_mb", DEFAULT_RECORDING_MAX_MB);
+        if (megabytes < 1) {
+            throw new IllegalArgumentException("Recording max size must be >= 1 MB");
+        }
+        return megabytes * 1024L * 1024L;
+    }
+
+    /**
+     * Returns the longest a recording may run before it stops and writes its file on its own; also
+     * the length of a recording started without one.
+     *
+     * @return a positive duration
+     * @throws IllegalArgumentException if the configured value is not positive
+     */
+    public static Duration recordingMaxDuration() {
+        int seconds = CONFIG.getInt("jmud.diagnostics.recording_max_seconds", DEFAULT_RECORDING_MAX_SECONDS);
+        if (seconds < 1) {
+            throw new IllegalArgumentException("Recording max duration must be >= 1 second");
+        }
+        return Duration.ofSeconds(seconds);
+    }
+}
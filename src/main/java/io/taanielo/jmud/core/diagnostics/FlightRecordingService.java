@@ -0,0 +1,177 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts and stops bounded JDK Flight Recorder recordings of the running server.
+ *
+ * <p>A recording uses the JDK's {@code default} settings (low-overhead CPU sampling, GC, locks and
+ * I/O) plus every {@code jmud.*} event, is capped in size and length, and is written to a
+ * timestamped {@code .jfr} file in the recording directory when it is stopped or reaches its length.
+ * Open the file in JDK Mission Control or with {@code jfr print --events jmud.Tick}. At most one
+ * recording runs at a time.
+ *
+ * <p>Thread-safe. Starting touches the filesystem and stopping writes the whole recording, so
+ * callers run both off the tick thread (AGENTS.md §5).
+ */
+@Slf4j
+public class FlightRecordingService {
+
+    /** The events this service enables in every recording. */
+    static final List<Class<? extends Event>> EVENTS = List.of(
+        TickEvent.class, TickableEvent.class, CommandEvent.class, PlayerSaveEvent.class, BroadcastEvent.class);
+
+    private static final DateTimeFormatter FILE_STAMP =
+        DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final Duration maxDuration;
+    private final Clock clock;
+    private @Nullable Recording recording;
+    private @Nullable Path destination;
+
+    /**
+     * Creates a service using the limits from {@link DiagnosticsSettings}.
+     */
+    public FlightRecordingService() {
+        this(DiagnosticsSettings.recordingDirectory(), DiagnosticsSettings.recordingMaxBytes(),
+            DiagnosticsSettings.recordingMaxDuration(), Clock.systemUTC());
+    }
+
+    /**
+     * Creates a service with explicit limits.
+     *
+     * @param directory   where recordings are written; created on first use
+     * @param maxBytes    the most bytes a recording keeps; must be positive
+     * @param maxDuration the longest a recording runs; must be positive
+     * @param clock       stamps recording file names
+     */
+    public FlightRecordingService(Path directory, long maxBytes, Duration maxDuration, Clock clock) {
+        this.directory = Objects.requireNonNull(directory, "Directory is required");
+        this.maxDuration = Objects.requireNonNull(maxDuration, "Max duration is required");
+        this.clock = Objects.requireNonNull(clock, "Clock is required");
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("Max bytes must be positive");
+        }
+        if (maxDuration.isNegative() || maxDuration.isZero()) {
+            throw new IllegalArgumentException("Max duration must be positive");
+        }
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Returns the longest a recording may run.
+     *
+     * @return the duration cap
+     */
+    public Duration maxDuration() {
+        return maxDuration;
+    }
+
+    /**
+     * Starts a recording that stops on its own after {@code duration}, capped at
+     * {@link #maxDuration()}.
+     *
+     * @param duration how long to record
+     * @return the file the recording will be written to
+     * @throws IllegalStateException if a recording is already running
+     * @throws IOException           if the directory cannot be created or the JDK settings cannot be read
+     */
+    public synchronized Path start(Duration duration) throws IOException {
+        Objects.requireNonNull(duration, "Duration is required");
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        Path running = activeDestination().orElse(null);
+        if (running != null) {
+            throw new IllegalStateException("A recording is already running into " + running);
+        }
+        Recording finished = recording;
+        if (finished != null) {
+            // Reached its length and wrote its file without being stopped; release it.
+            finished.close();
+            recording = null;
+            destination = null;
+        }
+        Configuration settings;
+        try {
+            settings = Configuration.getConfiguration("default");
+        } catch (ParseException e) {
+            throw new IOException("Failed to read the JDK default recording settings", e);
+        }
+        Files.createDirectories(directory);
+        Path file = directory.resolve("jmud-" + FILE_STAMP.format(clock.instant()) + ".jfr");
+        Recording started = new Recording(settings);
+        for (Class<? extends Event> event : EVENTS) {
+            started.enable(event).withoutThreshold();
+        }
+        started.setName("jmud");
+        started.setToDisk(true);
+        started.setMaxSize(maxBytes);
+        started.setDuration(duration.compareTo(maxDuration) > 0 ? maxDuration : duration);
+        started.setDestination(file);
+        started.start();
+        recording = started;
+        destination = file;
+        log.info("Flight recording started into {} for {}", file, started.getDuration());
+        return file;
+    }
+
+    /**
+     * Stops the current recording and writes it to its file. A recording that already reached its
+     * length has written its file; this only releases it.
+     *
+     * @return the recording's file, or empty when no recording was started
+     * @throws IOException if the recording cannot be written
+     */
+    public synchronized Optional<Path> stop() throws IOException {
+        Recording current = recording;
+        Path file = destination;
+        if (current == null || file == null) {
+            return Optional.empty();
+        }
+        recording = null;
+        destination = null;
+        try {
+            if (current.getState() == RecordingState.RUNNING) {
+                current.stop();
+            }
+        } finally {
+            current.close();
+        }
+        log.info("Flight recording written to {}", file);
+        return Optional.of(file);
+    }
+
+    /**
+     * Returns the file of the recording still running, if any.
+     *
+     * @return the running recording's file, or empty when none is running
+     */
+    public synchronized Optional<Path> activeDestination() {
+        Recording current = recording;
+        if (current == null || current.getState() != RecordingState.RUNNING) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(destination);
+    }
+}
@@ -0,0 +1,48 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight Recorder event spanning one write-behind player save, retry included. {@code queueAge} is
+ * how long the player's oldest unsaved change waited for a writer lane.
+ */
+@Name("jmud.PlayerSave")
+@Label("Player Save")
+@Category({"jmud", "Persistence"})
+@Description("One write-behind player save")
+@StackTrace(false)
+public final class PlayerSaveEvent extends Event {
+
+    @Label("Username")
+    String username = "";
+
+    @Label("Queue Age")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueAge;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param username      the saved player
+     * @param queueAgeNanos nanoseconds the save waited in the queue
+     * @param succeeded     whether the save (or its retry) was written
+     */
+    public void complete(String username, long queueAgeNanos, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.username = username;
+            this.queueAge = queueAgeNanos;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one game tick. The event's duration is the tick's wall-clock
+ * duration; the nested {@link TickableEvent}s show where it went.
+ *
+ * <p>Usage: construct and {@link #begin()} before the first tickable, then {@link #complete} after
+ * the last. When no recording has the event enabled, {@link #complete} does nothing beyond
+ * {@link #end()}.
+ */
+@Name("jmud.Tick")
+@Label("Tick")
+@Category({"jmud", "Tick"})
+@Description("One run of the single-writer game loop")
+@StackTrace(false)
+public final class TickEvent extends Event {
+
+    @Label("Tick Number")
+    long tickNumber;
+
+    @Label("Tickable Count")
+    int tickableCount;
+
+    @Label("Overran")
+    @Description("Whether the tick took longer than the tick interval")
+    boolean overran;
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param tickNumber    the tick's number
+     * @param tickableCount how many tickables ran
+     * @param overran       whether the tick exceeded its budget
+     */
+    public void complete(long tickNumber, int tickableCount, boolean overran) {
+        end();
+        if (shouldCommit()) {
+            this.tickNumber = tickNumber;
+            this.tickableCount = tickableCount;
+            this.overran = overran;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event spanning one {@code Tickable.tick()} call (or a tick phase listener's end
+ * of tick), so an overrunning tick can be traced to the system that caused it.
+ */
+@Name("jmud.Tickable")
+@Label("Tickable")
+@Category({"jmud", "Tick"})
+@Description("One tickable's share of a game tick")
+@StackTrace(false)
+public final class TickableEvent extends Event {
+
+    @Label("Tick Number")
+    long tickNumber;
+
+    @Label("Tickable")
+    @Description("Simple class name of the tickable")
+    String tickable = "";
+
+    /**
+     * Ends the event and commits it if a recording wants it.
+     *
+     * @param tickNumber the tick the tickable ran in
+     * @param tickable   the tickable's simple class name
+     */
+    public void complete(long tickNumber, String tickable) {
+        end();
+        if (shouldCommit()) {
+            this.tickNumber = tickNumber;
+            this.tickable = tickable;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+/**
+ * Diagnostics: JDK Flight Recorder events emitted by the tick loop, command dispatch, player saves
+ * and broadcasts, and the service that records them to a file on demand. NullAway-checked ({@code
+ * @NullMarked}).
+ */
+@NullMarked
+package io.taanielo.jmud.core.diagnostics;
+
+import org.jspecify.annotations.NullMarked;
@@ -3,6 +3,7 @@ package io.taanielo.jmud.core.effects.repository.json;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -10,28 +11,52 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.jspecify.annotations.Nullable;
+
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 import io.taanielo.jmud.core.effects.EffectDefinition;
 import io.taanielo.jmud.core.effects.EffectId;
 import io.taanielo.jmud.core.effects.EffectRepository;
 import io.taanielo.jmud.core.effects.EffectRepositoryException;
 import io.taanielo.jmud.core.effects.dto.EffectDefinitionDto;
 import io.taanielo.jmud.core.effects.dto.EffectDefinitionMapper;
+import io.taanielo.jmud.core.reload.DefinitionContentReloader;
+import io.taanielo.jmud.core.reload.PreparedReload;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
 import io.taanielo.jmud.core.world.repository.json.JsonDataMapper;
 
-public class JsonEffectRepository implements EffectRepository {
+/**
+ * Effect definitions read from {@code effects/*.json}.
+ *
+ * <p>Until a full snapshot is committed through {@link #prepareDefinitions()} a miss reads the
+ * effect's file on demand; afterwards every lookup is answered from the immutable snapshot and an
+ * unknown id is simply absent, so {@code EffectEngine} never touches disk on the tick thread.
+ */
+public class JsonEffectRepository implements EffectRepository, DefinitionContentReloader {
 
     private static final String EFFECTS_DIR = "effects";
 
     private final ObjectMapper objectMapper;
     private final EffectDefinitionMapper mapper;
     private final Path effectsDirPath;
+    private final JsonDocumentSource documents;
     private final Map<EffectId, EffectDefinition> cache;
+    private volatile @Nullable Map<EffectId, EffectDefinition> snapshot;
 
     public JsonEffectRepository() throws EffectRepositoryException {
         this(Path.of("."));
     }
 
     public JsonEffectRepository(Path dataRoot) throws EffectRepositoryException {
+        this(dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/effects} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonEffectRepository(Path dataRoot, JsonDocumentSource documents) throws EffectRepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.mapper = new EffectDefinitionMapper();
         this.cache = new ConcurrentHashMap<>();
@@ -42,6 +67,10 @@ public class JsonEffectRepository implements EffectRepository {
     @Override
     public Optional<EffectDefinition> findById(EffectId id) throws EffectRepositoryException {
         Objects.requireNonNull(id, "Effect id is required");
+        Map<EffectId, EffectDefinition> loaded = snapshot;
+        if (loaded != null) {
+            return Optional.ofNullable(loaded.get(id));
+        }
         EffectDefinition cached = cache.get(id);
         if (cached != null) {
             return Optional.of(cached);
@@ -50,15 +79,39 @@ public class JsonEffectRepository implements EffectRepository {
         if (!Files.exists(effectFilePath)) {
             return Optional.empty();
         }
-        EffectDefinitionDto dto = readDto(effectFilePath);
-        EffectDefinition definition;
+        EffectDefinition definition = readDefinition(effectFilePath);
+        cache.put(id, definition);
+        return Optional.of(definition);
+    }
+
+    /**
+     * Reads and validates every effect file into an immutable snapshot. Committing it replaces the
+     * lazily filled cache and stops on-demand reads; it must run on the tick thread (AGENTS.md §5).
+     */
+    @Override
+    public PreparedReload prepareDefinitions() throws RepositoryException {
+        Map<EffectId, EffectDefinition> loaded = new HashMap<>();
+        try {
+            for (Path path : documents.list(effectsDirPath)) {
+                EffectDefinition definition = readDefinition(path);
+                loaded.put(definition.id(), definition);
+            }
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to list effect data files: " + e.getMessage(), e);
+        } catch (EffectRepositoryException e) {
+            throw new RepositoryException(e.getMessage(), e);
+        }
+        Map<EffectId, EffectDefinition> prepared = Map.copyOf(loaded);
+        return PreparedReload.of("effects", prepared.size(), () -> snapshot = prepared);
+    }
+
+    private EffectDefinition readDefinition(Path path) throws EffectRepositoryException {
+        EffectDefinitionDto dto = readDto(path);
         try {
-            definition = mapper.toDomain(dto);
+            return mapper.toDomain(dto);
         } catch (IllegalArgumentException e) {
-            throw new EffectRepositoryException("Invalid effect data in " + effectFilePath + ": " + e.getMessage(), e);
+            throw new EffectRepositoryException("Invalid effect data in " + path + ": " + e.getMessage(), e);
         }
-        cache.put(id, definition);
-        return Optional.of(definition);
     }
 
     private void ensureDirectory(Path path) throws EffectRepositoryException {
@@ -75,7 +128,7 @@ public class JsonEffectRepository implements EffectRepository {
 
     private EffectDefinitionDto readDto(Path path) throws EffectRepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), EffectDefinitionDto.class);
+            return documents.read(path, objectMapper, EffectDefinitionDto.class);
         } catch (IOException e) {
             throw new EffectRepositoryException("Failed to read effect data from " + path + ": " + e.getMessage(), e);
         }
@@ -6,7 +6,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.world.Item;
@@ -33,6 +35,7 @@ import io.taanielo.jmud.core.world.repository.RepositoryException;
 public class ResourceGatheringService {
 
     private final Map<RoomId, List<ResourceNode>> nodesByRoom;
+    private final Map<ResourceNodeId, RoomId> roomByNode;
     private final ItemRepository itemRepository;
     private final ConcurrentHashMap<ResourceNodeId, Integer> respawnCountdown = new ConcurrentHashMap<>();
 
@@ -46,9 +49,12 @@ public class ResourceGatheringService {
         Objects.requireNonNull(nodes, "Nodes are required");
         this.itemRepository = Objects.requireNonNull(itemRepository, "Item repository is required");
         Map<RoomId, List<ResourceNode>> byRoom = new HashMap<>();
+        Map<ResourceNodeId, RoomId> byNode = new HashMap<>();
         for (ResourceNode node : nodes) {
             byRoom.computeIfAbsent(node.roomId(), id -> new ArrayList<>()).add(node);
+            byNode.put(node.id(), node.roomId());
         }
+        this.roomByNode = Map.copyOf(byNode);
         Map<RoomId, List<ResourceNode>> immutable = new HashMap<>();
         byRoom.forEach((room, list) -> immutable.put(room, List.copyOf(list)));
         this.nodesByRoom = Map.copyOf(immutable);
@@ -128,12 +134,53 @@ public class ResourceGatheringService {
      * their countdown elapses. Invoked once per tick by {@link ResourceNodeRespawnTicker}.
      */
     public void tickRespawns() {
+        tickRespawns(_ -> true);
+    }
+
+    /**
+     * Advances the respawn countdown of every depleted node whose room passes {@code simulated} by one
+     * tick; the other countdowns stay paused. Used with area dormancy so only nodes near a player
+     * count down.
+     *
+     * @param simulated whether a node in the given room should count down this tick
+     */
+    public void tickRespawns(Predicate<RoomId> simulated) {
+        Objects.requireNonNull(simulated, "Simulated predicate is required");
         for (ResourceNodeId id : List.copyOf(respawnCountdown.keySet())) {
-            respawnCountdown.compute(id, (key, remaining) ->
-                remaining == null || remaining <= 1 ? null : remaining - 1);
+            RoomId roomId = roomByNode.get(id);
+            if (roomId != null && !simulated.test(roomId)) {
+                continue;
+            }
+            advance(id, 1);
         }
     }
 
+    /**
+     * Advances the respawn countdown of every depleted node in {@code roomIds} by {@code ticks} in one
+     * step, as if {@link #tickRespawns()} had run that many times for them. Used when a dormant area
+     * wakes.
+     *
+     * @param roomIds the rooms whose nodes were paused
+     * @param ticks   how many ticks to skip
+     */
+    public void advanceRespawns(Set<RoomId> roomIds, long ticks) {
+        Objects.requireNonNull(roomIds, "Room ids are required");
+        if (ticks <= 0) {
+            return;
+        }
+        for (ResourceNodeId id : List.copyOf(respawnCountdown.keySet())) {
+            RoomId roomId = roomByNode.get(id);
+            if (roomId != null && roomIds.contains(roomId)) {
+                advance(id, ticks);
+            }
+        }
+    }
+
+    private void advance(ResourceNodeId id, long ticks) {
+        respawnCountdown.compute(id, (key, remaining) ->
+            remaining == null || remaining <= ticks ? null : (int) (remaining - ticks));
+    }
+
     /**
      * Returns whether the node with the given id is currently depleted (harvested and awaiting
      * respawn). Package-private; primarily exposed for tests.
@@ -2,7 +2,10 @@ package io.taanielo.jmud.core.gathering;
 
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
+
 import io.taanielo.jmud.core.tick.Tickable;
+import io.taanielo.jmud.core.world.area.AreaDormancyService;
 
 /**
  * Per-tick service that advances resource-node respawn countdowns.
@@ -11,10 +14,14 @@ import io.taanielo.jmud.core.tick.Tickable;
  * remaining respawn ticks, making harvested nodes available again once their delay elapses. Respawn
  * timing is driven entirely by tick counts (no wall-clock timers), mirroring {@code CorpseDecayTicker}
  * and the mob respawn cycle (AGENTS.md §5).
+ *
+ * <p>With an {@link AreaDormancyService}, nodes in dormant areas stop counting down and are
+ * fast-forwarded by the slept ticks when their area wakes.
  */
 public class ResourceNodeRespawnTicker implements Tickable {
 
     private final ResourceGatheringService gatheringService;
+    private final @Nullable AreaDormancyService areaDormancy;
 
     /**
      * Creates a respawn ticker over the given gathering service.
@@ -22,7 +29,25 @@ public class ResourceNodeRespawnTicker implements Tickable {
      * @param gatheringService the service whose depletion countdowns are advanced each tick
      */
     public ResourceNodeRespawnTicker(ResourceGatheringService gatheringService) {
+        this(gatheringService, null);
+    }
+
+    /**
+     * Creates a respawn ticker that pauses countdowns in dormant areas.
+     *
+     * @param gatheringService the service whose depletion countdowns are advanced each tick
+     * @param areaDormancy     the dormancy service; may be null to count down every node every tick
+     */
+    public ResourceNodeRespawnTicker(
+        ResourceGatheringService gatheringService,
+        @Nullable AreaDormancyService areaDormancy
+    ) {
         this.gatheringService = Objects.requireNonNull(gatheringService, "Gathering service is required");
+        this.areaDormancy = areaDormancy;
+        if (areaDormancy != null) {
+            areaDormancy.addWakeListener((_, roomIds, sleptTicks) ->
+                gatheringService.advanceRespawns(roomIds, sleptTicks));
+        }
     }
 
     /**
@@ -30,6 +55,10 @@ public class ResourceNodeRespawnTicker implements Tickable {
      */
     @Override
     public void tick() {
-        gatheringService.tickRespawns();
+        if (areaDormancy == null) {
+            gatheringService.tickRespawns();
+        } else {
+            gatheringService.tickRespawns(areaDormancy::isAwake);
+        }
     }
 }
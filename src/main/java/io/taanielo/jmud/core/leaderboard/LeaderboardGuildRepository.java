@@ -0,0 +1,48 @@
+package io.taanielo.jmud.core.leaderboard;
+
+import java.util.List;
+import java.util.Objects;
+
+import io.taanielo.jmud.core.guild.Guild;
+import io.taanielo.jmud.core.guild.GuildId;
+import io.taanielo.jmud.core.guild.GuildRepository;
+import io.taanielo.jmud.core.guild.GuildRepositoryException;
+
+/**
+ * {@link GuildRepository} decorator that keeps the guild leaderboard current: every guild the
+ * {@link io.taanielo.jmud.core.guild.GuildService} saves or deletes is passed to the
+ * {@link LeaderboardService} as well as the wrapped repository.
+ */
+public class LeaderboardGuildRepository implements GuildRepository {
+
+    private final GuildRepository delegate;
+    private final LeaderboardService leaderboards;
+
+    /**
+     * Wraps a guild repository.
+     *
+     * @param delegate     the repository that persists guilds
+     * @param leaderboards the leaderboards to update on every save and delete
+     */
+    public LeaderboardGuildRepository(GuildRepository delegate, LeaderboardService leaderboards) {
+        this.delegate = Objects.requireNonNull(delegate, "Guild repository is required");
+        this.leaderboards = Objects.requireNonNull(leaderboards, "Leaderboard service is required");
+    }
+
+    @Override
+    public List<Guild> loadAll() throws GuildRepositoryException {
+        return delegate.loadAll();
+    }
+
+    @Override
+    public void save(Guild guild) {
+        delegate.save(guild);
+        leaderboards.recordGuild(guild);
+    }
+
+    @Override
+    public void delete(GuildId guildId) {
+        delegate.delete(guildId);
+        leaderboards.removeGuild(guildId);
+    }
+}
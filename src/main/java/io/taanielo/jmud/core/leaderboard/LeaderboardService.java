@@ -0,0 +1,183 @@
+package io.taanielo.jmud.core.leaderboard;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.guild.Guild;
+import io.taanielo.jmud.core.guild.GuildId;
+import io.taanielo.jmud.core.guild.GuildMember;
+import io.taanielo.jmud.core.player.Player;
+
+/**
+ * Materialized leaderboards for the {@code RANK} command: players by kills, by duel record and by
+ * level, and guilds by standing.
+ *
+ * <p>Seeded once at startup from every persisted player and guild, then updated incrementally as
+ * players and guilds are saved (see {@link #recordPlayer(Player)} and {@link #recordGuild(Guild)}),
+ * so ranking no longer re-reads every player file. Each update is O(log n) per board; the boards are
+ * individually synchronized, so they may be updated from the tick thread and read from any other.
+ */
+@Slf4j
+public class LeaderboardService {
+
+    /**
+     * Highest guild level first, then lifetime deposited gold, then guild-war wins, ties by name.
+     */
+    public static final Comparator<Guild> GUILD_ORDER =
+        Comparator.comparingInt((Guild guild) -> guild.level().rank()).reversed()
+            .thenComparing(Comparator.comparingInt(Guild::lifetimeDepositedGold).reversed())
+            .thenComparing(Comparator.comparingInt(Guild::warWins).reversed())
+            .thenComparing(Guild::name)
+            .thenComparing(guild -> guild.id().value());
+
+    private final RankedBoard<Username, PlayerStanding> kills =
+        new RankedBoard<>(PlayerStanding.BY_KILLS, PlayerStanding::username);
+    private final RankedBoard<Username, PlayerStanding> duels =
+        new RankedBoard<>(PlayerStanding.BY_DUELS, PlayerStanding::username);
+    private final RankedBoard<Username, PlayerStanding> levels =
+        new RankedBoard<>(PlayerStanding.BY_LEVEL, PlayerStanding::username);
+    private final RankedBoard<GuildId, Guild> guilds = new RankedBoard<>(GUILD_ORDER, Guild::id);
+    /** member username → guild id, so a player's own guild standing is one lookup away. */
+    private final Map<Username, GuildId> guildIdByMember = new ConcurrentHashMap<>();
+
+    /**
+     * Replaces every board with the given players and guilds. Called once at startup.
+     *
+     * @param players every persisted player
+     * @param guilds  every persisted guild
+     */
+    public void seed(Collection<Player> players, Collection<Guild> guilds) {
+        Objects.requireNonNull(players, "Players are required");
+        Objects.requireNonNull(guilds, "Guilds are required");
+        kills.clear();
+        duels.clear();
+        levels.clear();
+        synchronized (guildIdByMember) {
+            this.guilds.clear();
+            guildIdByMember.clear();
+        }
+        for (Player player : players) {
+            recordPlayer(player);
+        }
+        for (Guild guild : guilds) {
+            recordGuild(guild);
+        }
+        log.info("Seeded leaderboards with {} player(s) and {} guild(s)", kills.size(), this.guilds.size());
+    }
+
+    /**
+     * Updates the player boards from a saved player snapshot.
+     *
+     * @param player the player as just saved
+     */
+    public void recordPlayer(Player player) {
+        PlayerStanding standing = PlayerStanding.of(player);
+        kills.put(standing);
+        levels.put(standing);
+        if (standing.hasDuels()) {
+            duels.put(standing);
+        } else {
+            duels.remove(standing.username());
+        }
+    }
+
+    /**
+     * Drops a player from every board, when their record is deleted.
+     *
+     * @param username the deleted player
+     */
+    public void removePlayer(Username username) {
+        Objects.requireNonNull(username, "Username is required");
+        kills.remove(username);
+        duels.remove(username);
+        levels.remove(username);
+    }
+
+    /**
+     * Updates the guild board from a saved guild.
+     *
+     * @param guild the guild as just saved
+     */
+    public void recordGuild(Guild guild) {
+        Objects.requireNonNull(guild, "Guild is required");
+        synchronized (guildIdByMember) {
+            guilds.get(guild.id()).ifPresent(this::unindexMembers);
+            guilds.put(guild);
+            for (GuildMember member : guild.members()) {
+                guildIdByMember.put(member.username(), guild.id());
+            }
+        }
+    }
+
+    /**
+     * Drops a disbanded guild from the guild board.
+     *
+     * @param guildId the deleted guild
+     */
+    public void removeGuild(GuildId guildId) {
+        Objects.requireNonNull(guildId, "Guild id is required");
+        synchronized (guildIdByMember) {
+            guilds.get(guildId).ifPresent(this::unindexMembers);
+            guilds.remove(guildId);
+        }
+    }
+
+    /**
+     * Returns players ranked by lifetime kills.
+     *
+     * @return the kill board
+     */
+    public RankedBoard<Username, PlayerStanding> kills() {
+        return kills;
+    }
+
+    /**
+     * Returns players with at least one duel, ranked by duel record.
+     *
+     * @return the duel board
+     */
+    public RankedBoard<Username, PlayerStanding> duels() {
+        return duels;
+    }
+
+    /**
+     * Returns players ranked by level and experience.
+     *
+     * @return the level board
+     */
+    public RankedBoard<Username, PlayerStanding> levels() {
+        return levels;
+    }
+
+    /**
+     * Returns guilds ranked by {@link #GUILD_ORDER}.
+     *
+     * @return the guild board
+     */
+    public RankedBoard<GuildId, Guild> guilds() {
+        return guilds;
+    }
+
+    /**
+     * Returns the guild a player belongs to, as of the last guild save.
+     *
+     * @param username the player
+     * @return the player's guild id, or empty when they are in no guild
+     */
+    public Optional<GuildId> guildOf(Username username) {
+        return Optional.ofNullable(guildIdByMember.get(username));
+    }
+
+    private void unindexMembers(Guild guild) {
+        for (GuildMember member : guild.members()) {
+            guildIdByMember.remove(member.username(), guild.id());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package io.taanielo.jmud.core.leaderboard;
+
+import java.util.Comparator;
+import java.util.Objects;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.player.Player;
+
+/**
+ * The handful of {@link Player} fields the player leaderboards rank on, so a board keeps a few
+ * numbers per player instead of a whole player snapshot.
+ *
+ * @param username    the player's username
+ * @param totalKills  lifetime mob kills
+ * @param duelWins    duels won
+ * @param duelLosses  duels lost
+ * @param level       character level
+ * @param experience  experience points, breaking ties within a level
+ */
+public record PlayerStanding(
+    Username username,
+    long totalKills,
+    int duelWins,
+    int duelLosses,
+    int level,
+    long experience
+) {
+
+    private static final Comparator<PlayerStanding> BY_NAME =
+        Comparator.comparing(standing -> standing.username().getValue(), String.CASE_INSENSITIVE_ORDER);
+
+    /** Most kills first, ties by username. */
+    public static final Comparator<PlayerStanding> BY_KILLS =
+        Comparator.comparingLong(PlayerStanding::totalKills).reversed().thenComparing(BY_NAME);
+
+    /** Most duel wins first, then fewest losses, ties by username. */
+    public static final Comparator<PlayerStanding> BY_DUELS =
+        Comparator.comparingInt(PlayerStanding::duelWins).reversed()
+            .thenComparingInt(PlayerStanding::duelLosses)
+            .thenComparing(BY_NAME);
+
+    /** Highest level first, then most experience, ties by username. */
+    public static final Comparator<PlayerStanding> BY_LEVEL =
+        Comparator.comparingInt(PlayerStanding::level).reversed()
+            .thenComparing(Comparator.comparingLong(PlayerStanding::experience).reversed())
+            .thenComparing(BY_NAME);
+
+    public PlayerStanding {
+        Objects.requireNonNull(username, "Username is required");
+    }
+
+    /**
+     * Captures a player's ranked fields.
+     *
+     * @param player the player
+     * @return the player's standing
+     */
+    public static PlayerStanding of(Player player) {
+        Objects.requireNonNull(player, "Player is required");
+        return new PlayerStanding(
+            player.getUsername(),
+            player.getTotalKills(),
+            player.getDuelWins(),
+            player.getDuelLosses(),
+            player.getLevel(),
+            player.getExperience());
+    }
+
+    /**
+     * Returns whether the player has fought at least one duel; only they appear on the duel board.
+     *
+     * @return {@code true} with at least one duel win or loss
+     */
+    public boolean hasDuels() {
+        return duelWins > 0 || duelLosses > 0;
+    }
+}
@@ -0,0 +1,247 @@
+package io.taanielo.jmud.core.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Function;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * One leaderboard: every ranked entry kept sorted in a size-augmented AVL tree, so a top-N listing
+ * costs O(log n + N) and a single entry's rank O(log n), however many entries the board holds.
+ *
+ * <p>Each entry is keyed (a player's username, a guild's id); putting a new value for a key replaces
+ * the old one. The order must be total over distinct keys, so it has to end in a tie-break on the
+ * key itself. Reads are public; only {@link LeaderboardService} mutates a board. Every method is
+ * {@code synchronized}: saves update the board from the tick thread while {@code RANK} reads it.
+ *
+ * @param <K> the entry key
+ * @param <V> the ranked value
+ */
+public final class RankedBoard<K, V> {
+
+    private final Comparator<? super V> order;
+    private final Function<? super V, ? extends K> keyOf;
+    private final Map<K, V> entries = new HashMap<>();
+    private @Nullable Node<V> root;
+
+    /**
+     * Creates an empty board.
+     *
+     * @param order ranks values best-first; must be total over distinct keys
+     * @param keyOf extracts a value's key
+     */
+    RankedBoard(Comparator<? super V> order, Function<? super V, ? extends K> keyOf) {
+        this.order = Objects.requireNonNull(order, "Order is required");
+        this.keyOf = Objects.requireNonNull(keyOf, "Key function is required");
+    }
+
+    /**
+     * Returns the number of ranked entries.
+     *
+     * @return the board size
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the current value for a key.
+     *
+     * @param key the entry key
+     * @return the ranked value, or empty when the key is not on the board
+     */
+    public synchronized Optional<V> get(K key) {
+        return Optional.ofNullable(entries.get(key));
+    }
+
+    /**
+     * Returns the 1-based rank of a key's entry.
+     *
+     * @param key the entry key
+     * @return the rank, or empty when the key is not on the board
+     */
+    public synchronized OptionalInt rankOf(K key) {
+        V value = entries.get(key);
+        if (value == null) {
+            return OptionalInt.empty();
+        }
+        int below = 0;
+        Node<V> node = root;
+        while (node != null) {
+            int cmp = order.compare(value, node.value);
+            if (cmp < 0) {
+                node = node.left;
+            } else if (cmp > 0) {
+                below += size(node.left) + 1;
+                node = node.right;
+            } else {
+                below += size(node.left);
+                break;
+            }
+        }
+        return OptionalInt.of(below + 1);
+    }
+
+    /**
+     * Returns the best {@code limit} entries, best first.
+     *
+     * @param limit the maximum number of entries to return
+     * @return an immutable list of at most {@code limit} values
+     */
+    public synchronized List<V> top(int limit) {
+        int wanted = Math.min(Math.max(0, limit), entries.size());
+        List<V> top = new ArrayList<>(wanted);
+        Deque<Node<V>> path = new ArrayDeque<>();
+        Node<V> node = root;
+        while (top.size() < wanted && (node != null || !path.isEmpty())) {
+            while (node != null) {
+                path.push(node);
+                node = node.left;
+            }
+            Node<V> next = path.pop();
+            top.add(next.value);
+            node = next.right;
+        }
+        return List.copyOf(top);
+    }
+
+    /**
+     * Adds a value, replacing any previous value for the same key.
+     *
+     * @param value the value to rank
+     */
+    synchronized void put(V value) {
+        Objects.requireNonNull(value, "Value is required");
+        V previous = entries.put(keyOf.apply(value), value);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+        root = insert(root, value);
+    }
+
+    /**
+     * Removes a key's entry, if present.
+     *
+     * @param key the entry key
+     */
+    synchronized void remove(K key) {
+        V previous = entries.remove(key);
+        if (previous != null) {
+            root = delete(root, previous);
+        }
+    }
+
+    /** Removes every entry. */
+    synchronized void clear() {
+        entries.clear();
+        root = null;
+    }
+
+    private Node<V> insert(@Nullable Node<V> node, V value) {
+        if (node == null) {
+            return new Node<>(value);
+        }
+        if (order.compare(value, node.value) < 0) {
+            node.left = insert(node.left, value);
+        } else {
+            node.right = insert(node.right, value);
+        }
+        return rebalance(node);
+    }
+
+    private @Nullable Node<V> delete(@Nullable Node<V> node, V value) {
+        if (node == null) {
+            return null;
+        }
+        int cmp = order.compare(value, node.value);
+        if (cmp < 0) {
+            node.left = delete(node.left, value);
+        } else if (cmp > 0) {
+            node.right = delete(node.right, value);
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<V> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.value = successor.value;
+            node.right = delete(node.right, successor.value);
+        }
+        return rebalance(node);
+    }
+
+    private static <V> Node<V> rebalance(Node<V> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            Node<V> left = Objects.requireNonNull(node.left);
+            if (height(left.left) < height(left.right)) {
+                node.left = rotateLeft(left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            Node<V> right = Objects.requireNonNull(node.right);
+            if (height(right.right) < height(right.left)) {
+                node.right = rotateRight(right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <V> Node<V> rotateRight(Node<V> node) {
+        Node<V> pivot = Objects.requireNonNull(node.left);
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static <V> Node<V> rotateLeft(Node<V> node) {
+        Node<V> pivot = Objects.requireNonNull(node.right);
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(@Nullable Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static final class Node<V> {
+        V value;
+        @Nullable Node<V> left;
+        @Nullable Node<V> right;
+        int height = 1;
+        int size = 1;
+
+        Node(V value) {
+            this.value = value;
+        }
+
+        void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            size = size(left) + size(right) + 1;
+        }
+    }
+}
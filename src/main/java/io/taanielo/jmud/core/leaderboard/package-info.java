@@ -0,0 +1,14 @@
+/**
+ * In-memory leaderboards behind the {@code RANK} command: kills, duels, level and guild standing.
+ *
+ * <p>{@link io.taanielo.jmud.core.leaderboard.LeaderboardService} is seeded once at startup from
+ * every persisted player and guild, then kept current from the save paths (each player snapshot the
+ * {@link io.taanielo.jmud.core.persistence.PersistenceQueue} accepts and each guild write), so a
+ * {@code RANK} never reads a player file. Each board is a
+ * {@link io.taanielo.jmud.core.leaderboard.RankedBoard}, which serves top-N and single-entry rank
+ * queries in logarithmic time.
+ */
+@NullMarked
+package io.taanielo.jmud.core.leaderboard;
+
+import org.jspecify.annotations.NullMarked;
@@ -0,0 +1,93 @@
+package io.taanielo.jmud.core.messaging;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Message} rendered at most once and encoded at most once per {@link MessageEncoding}, so a
+ * broadcast fanned out to many connections costs one render and one encode per wire format instead
+ * of one per recipient.
+ *
+ * <p>Broadcast messages carry no per-recipient state (styling is applied when the message is
+ * built), so the rendered text is the same for everyone; only transport framing differs. The
+ * returned payloads are shared across every recipient's outbound queue, which holds them by
+ * reference and never mutates them.
+ *
+ * <p>Safe to share across threads: the text and payloads are computed on first use, and a race
+ * at worst renders the same immutable result twice.
+ */
+public final class EncodedMessage implements Message {
+
+    private final Message source;
+    private final Map<MessageEncoding, byte[]> payloads = new ConcurrentHashMap<>(2);
+    private volatile @Nullable String text;
+
+    private EncodedMessage(Message source) {
+        this.source = Objects.requireNonNull(source, "Message is required");
+    }
+
+    /**
+     * Wraps a message for encode-once delivery; an already-wrapped message is returned as is.
+     *
+     * @param message the message to share across recipients
+     * @return the shared message
+     */
+    public static EncodedMessage of(Message message) {
+        return message instanceof EncodedMessage encoded ? encoded : new EncodedMessage(message);
+    }
+
+    /**
+     * Returns the wrapped message.
+     *
+     * @return the original message
+     */
+    public Message source() {
+        return source;
+    }
+
+    /**
+     * Returns the text the wrapped message writes, rendering it on first use.
+     *
+     * @return the rendered text
+     */
+    public String text() {
+        String rendered = text;
+        if (rendered == null) {
+            rendered = StringMessageWriter.render(source);
+            text = rendered;
+        }
+        return rendered;
+    }
+
+    /**
+     * Returns the rendered text in the given wire encoding, encoding it on first use.
+     *
+     * @param encoding the transport's encoding
+     * @return the shared payload; must not be mutated
+     */
+    public byte[] encoded(MessageEncoding encoding) {
+        Objects.requireNonNull(encoding, "Encoding is required");
+        byte[] payload = payloads.get(encoding);
+        if (payload == null) {
+            payload = payloads.computeIfAbsent(encoding, ignored -> encoding.encode(text()));
+        }
+        return payload;
+    }
+
+    @Override
+    public void send(MessageWriter messageWriter) throws IOException {
+        String rendered = text();
+        if (!rendered.isEmpty()) {
+            messageWriter.write(rendered);
+        }
+    }
+
+    @Override
+    public boolean isDiscardable() {
+        return source.isDiscardable();
+    }
+}
@@ -5,4 +5,15 @@ import java.io.IOException;
 public interface Message {
     // TODO tanka 2022-06-20 separation interface
     void send(MessageWriter messageWriter) throws IOException;
+
+    /**
+     * Whether this message is atmospheric filler (ambient room flavour, spam) that a connection may
+     * shed under backpressure instead of disconnecting a slow client. Game-state output (combat,
+     * movement, tells, prompts) must never be discardable.
+     *
+     * @return {@code true} if the message may be dropped when the recipient's outbound queue is full
+     */
+    default boolean isDiscardable() {
+        return false;
+    }
 }
@@ -2,12 +2,10 @@ package io.taanielo.jmud.core.messaging;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.Set;
 
 import io.taanielo.jmud.core.authentication.Username;
-import io.taanielo.jmud.core.player.Player;
-import io.taanielo.jmud.core.server.Client;
+import io.taanielo.jmud.core.diagnostics.BroadcastEvent;
 import io.taanielo.jmud.core.server.ClientPool;
 import io.taanielo.jmud.core.world.RoomId;
 import io.taanielo.jmud.core.world.RoomService;
@@ -17,10 +15,15 @@ import io.taanielo.jmud.core.world.RoomService;
  * connected-clients snapshot) and {@link RoomService} (for room occupancy), and never depends on
  * any concrete transport type. Constructed only by the composition root (AGENTS.md §3.3).
  *
- * <p>Safe to call from both reader threads (e.g. during login) and the tick thread: the backing
- * {@link ClientPool#inWorld()} snapshot is an immutable {@link java.util.List} copy, so no locking
- * is required here (AGENTS.md §5). Connections that have not entered the world (login prompt,
- * mid character-creation) are excluded by pool membership, not by per-call filtering (issue #514).
+ * <p>Safe to call from both reader threads (e.g. during login) and the tick thread: recipients are
+ * resolved through the pool's lock-free lookups ({@link ClientPool#findInWorld} by username and
+ * {@link ClientPool#forEachInWorld} in world-entry order), so no locking or per-recipient snapshot
+ * is required here (AGENTS.md §5). Connections that have not entered the world (login prompt, mid
+ * character-creation) are excluded by pool membership, not by per-call filtering (issue #514).
+ *
+ * <p>Room and global broadcasts hand every recipient the same {@link EncodedMessage}, so the message
+ * is rendered once and encoded once per transport format however many players receive it. Each
+ * fan-out is a {@code jmud.Broadcast} Flight Recorder event carrying its recipient count.
  */
 public class MessageBroadcasterImpl implements MessageBroadcaster {
 
@@ -42,40 +45,43 @@ public class MessageBroadcasterImpl implements MessageBroadcaster {
     public void sendToPlayer(Username target, Message message) {
         Objects.requireNonNull(target, "Target username is required");
         Objects.requireNonNull(message, "Message is required");
-        findClient(target).ifPresent(client -> client.sendMessage(message));
+        clientPool.findInWorld(target).ifPresent(client -> client.sendMessage(message));
     }
 
     @Override
     public void broadcastToRoom(RoomId room, Message message, Set<Username> exclude) {
         Objects.requireNonNull(room, "Room id is required");
         Objects.requireNonNull(message, "Message is required");
+        BroadcastEvent event = new BroadcastEvent();
+        event.begin();
         Set<Username> excluded = exclude == null ? Set.of() : exclude;
         List<Username> occupants = roomService.getPlayersInRoom(room);
+        EncodedMessage shared = EncodedMessage.of(message);
         for (Username occupant : occupants) {
             if (excluded.contains(occupant)) {
                 continue;
             }
-            findClient(occupant).ifPresent(client -> client.sendMessage(message));
+            clientPool.findInWorld(occupant).ifPresent(client -> {
+                client.sendMessage(shared);
+                event.countRecipient();
+            });
         }
+        event.complete("room", room.getValue(), message.getClass().getSimpleName());
     }
 
     @Override
     public void broadcastGlobal(Message message, Set<Username> exclude) {
         Objects.requireNonNull(message, "Message is required");
+        BroadcastEvent event = new BroadcastEvent();
+        event.begin();
         Set<Username> excluded = exclude == null ? Set.of() : exclude;
-        for (Client client : clientPool.inWorld()) {
-            client.currentPlayer()
-                .map(Player::getUsername)
-                .filter(username -> !excluded.contains(username))
-                .ifPresent(ignored -> client.sendMessage(message));
-        }
-    }
-
-    private Optional<Client> findClient(Username username) {
-        return clientPool.inWorld().stream()
-            .filter(client -> client.currentPlayer()
-                .map(player -> player.getUsername().equals(username))
-                .orElse(false))
-            .findFirst();
+        EncodedMessage shared = EncodedMessage.of(message);
+        clientPool.forEachInWorld((username, client) -> {
+            if (!excluded.contains(username)) {
+                client.sendMessage(shared);
+                event.countRecipient();
+            }
+        });
+        event.complete("global", null, message.getClass().getSimpleName());
     }
 }
@@ -0,0 +1,22 @@
+package io.taanielo.jmud.core.messaging;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turns rendered message text into the bytes one transport puts on the wire. Implementations are
+ * shared constants, so {@link EncodedMessage} can cache one payload per encoding.
+ */
+@FunctionalInterface
+public interface MessageEncoding {
+
+    /** Plain UTF-8, as written by the telnet and SSH transports. */
+    MessageEncoding UTF_8 = text -> text.getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Encodes rendered message text.
+     *
+     * @param text the rendered text
+     * @return the wire bytes; callers must not mutate them
+     */
+    byte[] encode(String text);
+}
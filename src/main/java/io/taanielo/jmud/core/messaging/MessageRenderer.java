@@ -1,6 +1,8 @@
 package io.taanielo.jmud.core.messaging;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Substitutes placeholders in a {@link MessageSpec} template against a {@link MessageContext}.
@@ -9,32 +11,35 @@ import java.util.Objects;
  * channel: the {@code TARGET} channel (the victim's own line) uses the second-person / base form,
  * while {@code SELF} and {@code ROOM} use the third-person-singular form. When no verb is present in
  * the context, {@code {verb}} renders as an empty string.
+ *
+ * <p>Spec texts are compiled once into a {@link MessageTemplate} and cached by text, shared by every
+ * renderer instance; rendering appends into a per-thread reusable {@link StringBuilder}, so the only
+ * allocation per message is the returned string.
  */
 public class MessageRenderer {
 
+    /** Spec texts come from content files, so the cache stays small; the cap guards against misuse. */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    private static final Map<String, MessageTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
     public String render(MessageSpec spec, MessageContext context) {
         Objects.requireNonNull(spec, "Message spec is required");
         Objects.requireNonNull(context, "Message context is required");
-        String verb = spec.channel() == MessageChannel.TARGET
-            ? context.verbSecondPerson()
-            : context.verbThirdPerson();
-        String text = spec.text();
-        return text
-            .replace("{source}", value(context.sourceName()))
-            .replace("{target}", value(context.targetName()))
-            .replace("{name}", value(context.targetName()))
-            .replace("{item}", value(context.itemName()))
-            .replace("{effect}", value(context.effectName()))
-            .replace("{ability}", value(context.abilityName()))
-            .replace("{verb}", value(verb))
-            .replace("{damage}", value(context.damage()));
-    }
-
-    private String value(String value) {
-        return value == null ? "" : value;
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+        template(spec.text()).renderTo(out, spec.channel(), context);
+        return out.toString();
     }
 
-    private String value(Integer value) {
-        return value == null ? "" : String.valueOf(value);
+    private static MessageTemplate template(String text) {
+        MessageTemplate template = TEMPLATES.get(text);
+        if (template == null) {
+            template = MessageTemplate.compile(text);
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+                TEMPLATES.putIfAbsent(text, template);
+            }
+        }
+        return template;
     }
 }
@@ -0,0 +1,102 @@
+package io.taanielo.jmud.core.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link MessageSpec} text compiled once into alternating literal and placeholder segments, so
+ * {@link MessageRenderer} renders it in a single append pass instead of one {@link String#replace}
+ * scan and copy per placeholder.
+ *
+ * <p>Placeholders are matched left to right in one pass and substituted values are never scanned
+ * again. A {@code {...}} sequence that is not a known placeholder stays literal text.
+ */
+final class MessageTemplate {
+
+    private enum Placeholder { SOURCE, TARGET, ITEM, EFFECT, ABILITY, VERB, DAMAGE }
+
+    private static final Map<String, Placeholder> PLACEHOLDERS = Map.of(
+        "{source}", Placeholder.SOURCE,
+        "{target}", Placeholder.TARGET,
+        "{name}", Placeholder.TARGET,
+        "{item}", Placeholder.ITEM,
+        "{effect}", Placeholder.EFFECT,
+        "{ability}", Placeholder.ABILITY,
+        "{verb}", Placeholder.VERB,
+        "{damage}", Placeholder.DAMAGE
+    );
+
+    /** {@code literals[i]} precedes {@code placeholders[i]}; the last literal trails the text. */
+    private final String[] literals;
+    private final Placeholder[] placeholders;
+
+    private MessageTemplate(String[] literals, Placeholder[] placeholders) {
+        this.literals = literals;
+        this.placeholders = placeholders;
+    }
+
+    /**
+     * Compiles a spec text.
+     *
+     * @param text the template text
+     * @return the compiled template
+     */
+    static MessageTemplate compile(String text) {
+        List<String> literals = new ArrayList<>();
+        List<Placeholder> placeholders = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            char current = text.charAt(i);
+            int close = current == '{' ? text.indexOf('}', i) : -1;
+            Placeholder placeholder = close < 0 ? null : PLACEHOLDERS.get(text.substring(i, close + 1));
+            if (placeholder == null) {
+                literal.append(current);
+                i++;
+                continue;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            placeholders.add(placeholder);
+            i = close + 1;
+        }
+        literals.add(literal.toString());
+        return new MessageTemplate(literals.toArray(String[]::new), placeholders.toArray(Placeholder[]::new));
+    }
+
+    /**
+     * Appends the rendered text to {@code out}.
+     *
+     * @param out     the buffer to append to
+     * @param channel the audience channel, which picks the {@code {verb}} conjugation
+     * @param context the substitution values
+     */
+    void renderTo(StringBuilder out, MessageChannel channel, MessageContext context) {
+        for (int i = 0; i < placeholders.length; i++) {
+            out.append(literals[i]);
+            switch (placeholders[i]) {
+                case SOURCE -> append(out, context.sourceName());
+                case TARGET -> append(out, context.targetName());
+                case ITEM -> append(out, context.itemName());
+                case EFFECT -> append(out, context.effectName());
+                case ABILITY -> append(out, context.abilityName());
+                case VERB -> append(out, channel == MessageChannel.TARGET
+                    ? context.verbSecondPerson()
+                    : context.verbThirdPerson());
+                case DAMAGE -> {
+                    if (context.damage() != null) {
+                        out.append(context.damage().intValue());
+                    }
+                }
+            }
+        }
+        out.append(literals[placeholders.length]);
+    }
+
+    private static void append(StringBuilder out, String value) {
+        if (value != null) {
+            out.append(value);
+        }
+    }
+}
@@ -8,15 +8,37 @@ import java.util.Objects;
  * {@link MessageBroadcaster}. Unlike {@link SystemNoticeMessage}, it does not
  * prepend a blank line, so it matches the plain {@code writeLine} behaviour
  * previously hand-rolled by socket adapters for say/tell/gossip/emote.
+ *
+ * <p>Ambient room flavour is built with {@link #ambient(String)}, which marks the line
+ * {@linkplain Message#isDiscardable() discardable} so a backed-up connection sheds it first.
  */
-public record PlainTextMessage(String text) implements Message {
+public record PlainTextMessage(String text, boolean discardable) implements Message {
 
     public PlainTextMessage {
         Objects.requireNonNull(text, "Text is required");
     }
 
+    public PlainTextMessage(String text) {
+        this(text, false);
+    }
+
+    /**
+     * Creates an atmospheric line that may be dropped under outbound backpressure.
+     *
+     * @param text the ambient line
+     * @return a discardable plain-text message
+     */
+    public static PlainTextMessage ambient(String text) {
+        return new PlainTextMessage(text, true);
+    }
+
     @Override
     public void send(MessageWriter messageWriter) throws IOException {
         messageWriter.writeLine(text);
     }
+
+    @Override
+    public boolean isDiscardable() {
+        return discardable;
+    }
 }
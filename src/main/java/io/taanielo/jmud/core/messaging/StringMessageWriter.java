@@ -0,0 +1,38 @@
+package io.taanielo.jmud.core.messaging;
+
+import java.io.IOException;
+
+/**
+ * {@link MessageWriter} that collects everything written into a single string, so a {@link Message}
+ * can be rendered once and handed to a transport as one unit.
+ */
+public final class StringMessageWriter implements MessageWriter {
+
+    private final StringBuilder buffer = new StringBuilder();
+
+    /**
+     * Renders a message to the text it would write to a connection.
+     *
+     * @param message the message to render
+     * @return the concatenated output of {@link Message#send(MessageWriter)}
+     */
+    public static String render(Message message) {
+        StringMessageWriter writer = new StringMessageWriter();
+        try {
+            message.send(writer);
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory message rendering cannot fail", e);
+        }
+        return writer.toString();
+    }
+
+    @Override
+    public void write(String message) {
+        buffer.append(message);
+    }
+
+    @Override
+    public String toString() {
+        return buffer.toString();
+    }
+}
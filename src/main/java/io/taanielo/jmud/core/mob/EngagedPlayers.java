@@ -0,0 +1,110 @@
+package io.taanielo.jmud.core.mob;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import io.taanielo.jmud.core.authentication.Username;
+
+/**
+ * The players one {@link MobInstance} is fighting: a small copy-on-write array set.
+ *
+ * <p>A mob rarely fights more than a handful of players, so membership is a linear scan, and an idle
+ * mob holds only the shared empty array. Engaging or disengaging copies the array, which keeps
+ * iteration a stable snapshot: callers may change the engagement while iterating, as they could with
+ * the concurrent set this replaces. The {@link java.util.Set} methods are read-only; only the owning
+ * instance changes the set, through the package-private methods, on the tick thread.
+ */
+final class EngagedPlayers extends AbstractSet<Username> {
+
+    private static final Username[] NONE = new Username[0];
+
+    private Username[] players = NONE;
+
+    /**
+     * Adds a player.
+     *
+     * @param player the player to add
+     * @return {@code true} if the player was not already engaged
+     */
+    boolean engage(Username player) {
+        if (contains(player)) {
+            return false;
+        }
+        Username[] grown = Arrays.copyOf(players, players.length + 1);
+        grown[players.length] = player;
+        players = grown;
+        return true;
+    }
+
+    /**
+     * Removes a player.
+     *
+     * @param player the player to remove
+     * @return {@code true} if the player was engaged
+     */
+    boolean disengage(Username player) {
+        Username[] current = players;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].equals(player)) {
+                if (current.length == 1) {
+                    players = NONE;
+                } else {
+                    Username[] shrunk = new Username[current.length - 1];
+                    System.arraycopy(current, 0, shrunk, 0, i);
+                    System.arraycopy(current, i + 1, shrunk, i, current.length - i - 1);
+                    players = shrunk;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Removes every player. */
+    void disengageAll() {
+        players = NONE;
+    }
+
+    @Override
+    public boolean contains(Object player) {
+        for (Username engaged : players) {
+            if (engaged.equals(player)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return players.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return players.length == 0;
+    }
+
+    @Override
+    public Iterator<Username> iterator() {
+        Username[] snapshot = players;
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < snapshot.length;
+            }
+
+            @Override
+            public Username next() {
+                if (next >= snapshot.length) {
+                    throw new NoSuchElementException();
+                }
+                return snapshot[next++];
+            }
+        };
+    }
+}
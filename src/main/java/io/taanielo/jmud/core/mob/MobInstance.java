@@ -1,13 +1,8 @@
 package io.taanielo.jmud.core.mob;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.jspecify.annotations.Nullable;
 
@@ -20,9 +15,13 @@ import io.taanielo.jmud.core.world.TimeOfDay;
 /**
  * A live mob instance in the world.
  *
- * <p>HP is tracked via {@link AtomicInteger} so that player-thread attacks
- * (command queue) and tick-thread AI reads are both safe. All other state
- * mutations are confined to the tick thread.
+ * <p>All state is mutated only on the tick thread: player commands reach a mob
+ * through the command queue, which the tick thread drains (AGENTS.md §5). The
+ * instance is laid out for worlds with tens of thousands of spawns: counters and
+ * flags are primitive fields rather than atomics, the id is a small {@code int},
+ * the template is a shared reference, and the engaged players live in a
+ * copy-on-write array that idle mobs share. HP, the room and the companion names
+ * stay {@code volatile} so reads from other threads still see current values.
  *
  * <p>{@code currentRoomId} tracks the mob's live position (it starts at
  * {@code template.spawnRoomId()} and is updated when the mob wanders or
@@ -30,9 +29,12 @@ import io.taanielo.jmud.core.world.TimeOfDay;
  */
 public class MobInstance {
 
-    private final UUID instanceId = UUID.randomUUID();
+    /** Source of {@link #instanceId}s; ids are never reused within a process. */
+    private static final AtomicInteger NEXT_INSTANCE_ID = new AtomicInteger();
+
+    private final int instanceId = NEXT_INSTANCE_ID.incrementAndGet();
     private final MobTemplate template;
-    private final AtomicInteger hp;
+    private volatile int hp;
     /**
      * The effective max HP this instance was spawned with. For ordinary world mobs this equals
      * {@link MobTemplate#maxHp()}; for {@link #isPet() companions} it is the template max HP scaled up
@@ -47,14 +49,13 @@ public class MobInstance {
      */
     @Nullable
     private final CompanionScaling companionScaling;
-    private final AtomicInteger respawnTicksRemaining = new AtomicInteger(0);
-    private final Set<Username> engagedPlayers = ConcurrentHashMap.newKeySet();
+    private final EngagedPlayers engagedPlayers = new EngagedPlayers();
     /**
      * Whether this mob has already used its {@link MobTemplate#specialAttackId()} in the
      * current combat encounter. Reset whenever the encounter ends (see {@link #disengage(Username)}
      * and {@link #respawn()}).
      */
-    private final AtomicBoolean specialAbilityUsed = new AtomicBoolean(false);
+    private boolean specialAbilityUsed;
     /**
      * The player currently forcing this mob's aggro via the Warrior TAUNT skill, or {@code null}
      * when no taunt is active. Paired with {@link #tauntTicksRemaining}: the taunt is only honoured
@@ -62,13 +63,14 @@ public class MobInstance {
      * thread; cleared when the taunter disengages ({@link #disengage(Username)}) or on
      * {@link #respawn()}, mirroring {@link #specialAbilityUsed}.
      */
-    private final AtomicReference<Username> taunter = new AtomicReference<>();
+    @Nullable
+    private Username taunter;
     /**
      * Remaining number of AI decisions for which {@link #taunter} holds this mob's aggro. Decremented
      * on the tick thread via {@link #consumeTauntTick()}; when it reaches zero the taunt expires and
      * the mob resumes normal random targeting.
      */
-    private final AtomicInteger tauntTicksRemaining = new AtomicInteger(0);
+    private int tauntTicksRemaining;
     /**
      * Remaining AI ticks before a telegraphed special attack lands, or {@code 0} when no telegraph is
      * pending (see {@link io.taanielo.jmud.core.combat.AttackDefinition#telegraphTicks()}). Set on the
@@ -77,19 +79,21 @@ public class MobInstance {
      * the target leaves the fight (mirroring {@link #specialAbilityUsed}). Transient, server-only
      * state that never touches player saves.
      */
-    private final AtomicInteger telegraphTicksRemaining = new AtomicInteger(0);
+    private int telegraphTicksRemaining;
     /**
      * The special attack a pending telegraph will resolve when its window elapses, or {@code null}
      * when no telegraph is pending. Paired with {@link #telegraphTicksRemaining} and
      * {@link #telegraphTarget}.
      */
-    private final AtomicReference<AttackId> telegraphAttackId = new AtomicReference<>();
+    @Nullable
+    private AttackId telegraphAttackId;
     /**
      * The player a pending telegraph is aimed at, or {@code null} when no telegraph is pending. The
      * telegraph is cancelled if this player is no longer a live, engaged occupant of the mob's room
      * when the window elapses.
      */
-    private final AtomicReference<Username> telegraphTarget = new AtomicReference<>();
+    @Nullable
+    private Username telegraphTarget;
     /**
      * Number of committed AI attack decisions this mob has taken in the current combat encounter,
      * used to drive the per-encounter enrage clock (issue #745). Advanced once per committed attack
@@ -98,7 +102,7 @@ public class MobInstance {
      * {@link #respawn()}), so a fresh pull always starts the clock over. Transient, server-only state
      * that never touches player saves.
      */
-    private final AtomicInteger enrageDecisions = new AtomicInteger(0);
+    private int enrageDecisions;
     /**
      * Whether this mob has crossed its {@link MobTemplate#enrageTicks()} threshold and enraged in the
      * current combat encounter (issue #745). Once set, its outgoing damage is boosted by
@@ -106,7 +110,7 @@ public class MobInstance {
      * of the fight. Reset alongside {@link #enrageDecisions} when the encounter ends, mirroring
      * {@link #specialAbilityUsed}.
      */
-    private final AtomicBoolean enraged = new AtomicBoolean(false);
+    private boolean enraged;
     /**
      * Whether this mob has already summoned its reinforcement wave in the current combat encounter
      * (issue #809). Set exactly once, on the first committed AI decision on which its live HP has
@@ -115,7 +119,7 @@ public class MobInstance {
      * mirroring {@link #specialAbilityUsed}, so a fresh pull never starts pre-triggered and repeated
      * pulls never stack infinite adds. Transient, server-only state that never touches player saves.
      */
-    private final AtomicBoolean reinforcementTriggered = new AtomicBoolean(false);
+    private boolean reinforcementTriggered;
     /**
      * The crowd-control lockout a player has landed on this mob this encounter (issue #763), or
      * {@code null} when the mob is uncontrolled. Paired with {@link #controlTicksRemaining}: the
@@ -128,13 +132,14 @@ public class MobInstance {
      * {@link #tickControl()}; cleared on disengage/respawn like the other transient encounter fields.
      * Transient, server-only state that never touches player saves.
      */
-    private final AtomicReference<ControlType> control = new AtomicReference<>();
+    @Nullable
+    private ControlType control;
     /**
      * Remaining AI decisions the active {@link #control} lockout holds, or {@code 0} when the mob is
      * uncontrolled. Decremented on the tick thread via {@link #tickControl()}; when it reaches zero the
      * lockout expires and the mob resumes normal behaviour.
      */
-    private final AtomicInteger controlTicksRemaining = new AtomicInteger(0);
+    private int controlTicksRemaining;
     /** Mutable live location; confined to tick thread for writes, safe to read from any thread. */
     private volatile RoomId currentRoomId;
     /**
@@ -147,7 +152,7 @@ public class MobInstance {
      * Remaining lifetime, in ticks, of a summoned pet before it auto-dismisses. Only meaningful when
      * {@link #summoner} is non-null; decremented on the tick thread via {@link #tickSummonLifetime()}.
      */
-    private final AtomicInteger summonTicksRemaining = new AtomicInteger(0);
+    private int summonTicksRemaining;
     /**
      * The player who permanently tamed this mob (see the TAME command), or {@code null} for
      * ordinary world mobs and temporary summons. Unlike {@link #summoner}, a tamed pet has no
@@ -173,12 +178,19 @@ public class MobInstance {
      */
     @Nullable
     private volatile String customDescription;
+    /**
+     * The registry's spatial index while this instance is registered, or {@code null} otherwise.
+     * Moves, deaths, revivals, and engagements are reported to it so room-local queries and the
+     * active set stay in step with every path that changes this mob (see {@link MobRoomIndex}).
+     */
+    @Nullable
+    private volatile MobRoomIndex roomIndex;
 
     public MobInstance(MobTemplate template) {
         this.template = template;
         this.maxHp = template.maxHp();
         this.companionScaling = null;
-        this.hp = new AtomicInteger(maxHp);
+        this.hp = maxHp;
         this.currentRoomId = template.spawnRoomId();
         this.summoner = null;
         this.owner = null;
@@ -189,21 +201,21 @@ public class MobInstance {
         this.template = Objects.requireNonNull(template, "Template is required");
         this.companionScaling = CompanionScaling.forOwnerLevel(ownerLevel);
         this.maxHp = companionScaling.scaleMaxHp(template.maxHp());
-        this.hp = new AtomicInteger(maxHp);
+        this.hp = maxHp;
         this.currentRoomId = Objects.requireNonNull(spawnRoom, "Spawn room is required");
         this.summoner = Objects.requireNonNull(summoner, "Summoner is required");
         this.owner = null;
         if (durationTicks <= 0) {
             throw new IllegalArgumentException("Summon duration must be positive");
         }
-        this.summonTicksRemaining.set(durationTicks);
+        this.summonTicksRemaining = durationTicks;
     }
 
     private MobInstance(MobTemplate template, RoomId spawnRoom, Username owner, int ownerLevel) {
         this.template = Objects.requireNonNull(template, "Template is required");
         this.companionScaling = CompanionScaling.forOwnerLevel(ownerLevel);
         this.maxHp = companionScaling.scaleMaxHp(template.maxHp());
-        this.hp = new AtomicInteger(maxHp);
+        this.hp = maxHp;
         this.currentRoomId = Objects.requireNonNull(spawnRoom, "Spawn room is required");
         this.summoner = null;
         this.owner = Objects.requireNonNull(owner, "Owner is required");
@@ -304,7 +316,12 @@ public class MobInstance {
         return instance;
     }
 
-    public UUID instanceId() {
+    /**
+     * Returns this instance's id: a small integer unique among all instances created by this process.
+     *
+     * @return the instance id
+     */
+    public int instanceId() {
         return instanceId;
     }
 
@@ -324,20 +341,29 @@ public class MobInstance {
      * @param roomId the destination room
      */
     public void moveTo(RoomId roomId) {
-        this.currentRoomId = Objects.requireNonNull(roomId, "Room id is required");
+        Objects.requireNonNull(roomId, "Room id is required");
+        RoomId previous = currentRoomId;
+        this.currentRoomId = roomId;
+        reindex(previous);
     }
 
     public boolean isAlive() {
-        return hp.get() > 0;
+        return hp > 0;
     }
 
     public int currentHp() {
-        return hp.get();
+        return hp;
     }
 
     /** Applies damage and returns remaining HP (clamped to 0). */
     public int takeDamage(int amount) {
-        return hp.updateAndGet(current -> Math.max(0, current - amount));
+        int before = hp;
+        int after = Math.max(0, before - amount);
+        hp = after;
+        if (before > 0 && after == 0) {
+            reindex(null);
+        }
+        return after;
     }
 
     /**
@@ -352,39 +378,44 @@ public class MobInstance {
         if (amount < 0) {
             throw new IllegalArgumentException("Heal amount must be non-negative, got " + amount);
         }
-        return hp.updateAndGet(current -> Math.min(maxHp, current + amount));
+        int before = hp;
+        int after = Math.min(maxHp, before + amount);
+        hp = after;
+        if (before == 0 && after > 0) {
+            reindex(null);
+        }
+        return after;
     }
 
     /**
      * Called once when the mob dies — starts the respawn countdown, using the day or night
      * respawn delay from {@link MobTemplate#respawnTicks(TimeOfDay)} as appropriate.
      *
+     * <p>The countdown is a timer on the registry's respawn wheel (see {@link MobRoomIndex}), which
+     * replaces the one-tick default every dead mob starts with. Does nothing for a mob that is alive
+     * or not in a registry.
+     *
      * @param timeOfDay the current time of day, used to pick the respawn delay
      */
     public void scheduleRespawn(TimeOfDay timeOfDay) {
-        respawnTicksRemaining.set(template.respawnTicks(timeOfDay));
-    }
-
-    /**
-     * Decrements the respawn countdown.
-     *
-     * @return true when the countdown reaches zero and the mob should respawn
-     */
-    public boolean tickRespawn() {
-        return respawnTicksRemaining.decrementAndGet() <= 0;
+        MobRoomIndex index = roomIndex;
+        if (index != null) {
+            index.scheduleRespawn(this, template.respawnTicks(timeOfDay));
+        }
     }
 
     public void engage(Username player) {
-        engagedPlayers.add(player);
+        engagedPlayers.engage(Objects.requireNonNull(player, "Player is required"));
+        markActive();
     }
 
     public void disengage(Username player) {
-        engagedPlayers.remove(player);
-        if (player.equals(taunter.get())) {
+        engagedPlayers.disengage(player);
+        if (player.equals(taunter)) {
             clearTaunt();
         }
         if (engagedPlayers.isEmpty()) {
-            specialAbilityUsed.set(false);
+            specialAbilityUsed = false;
             clearTaunt();
             clearTelegraph();
             clearEnrage();
@@ -393,8 +424,14 @@ public class MobInstance {
         }
     }
 
+    /**
+     * Returns the players this mob is fighting, as a read-only live view. Iteration works on a
+     * snapshot, so callers may engage or disengage players while iterating.
+     *
+     * @return the engaged players
+     */
     public Set<Username> engagedPlayers() {
-        return Collections.unmodifiableSet(engagedPlayers);
+        return engagedPlayers;
     }
 
     /**
@@ -404,7 +441,7 @@ public class MobInstance {
      * @return {@code true} if the special ability has already been used since the encounter began
      */
     public boolean specialAbilityUsed() {
-        return specialAbilityUsed.get();
+        return specialAbilityUsed;
     }
 
     /**
@@ -412,7 +449,7 @@ public class MobInstance {
      * Must only be called from the tick thread.
      */
     public void markSpecialAbilityUsed() {
-        specialAbilityUsed.set(true);
+        specialAbilityUsed = true;
     }
 
     /**
@@ -428,9 +465,10 @@ public class MobInstance {
         if (ticks <= 0) {
             throw new IllegalArgumentException("Telegraph ticks must be positive");
         }
-        this.telegraphAttackId.set(Objects.requireNonNull(attackId, "Telegraph attack id is required"));
-        this.telegraphTarget.set(Objects.requireNonNull(target, "Telegraph target is required"));
-        this.telegraphTicksRemaining.set(ticks);
+        this.telegraphAttackId = Objects.requireNonNull(attackId, "Telegraph attack id is required");
+        this.telegraphTarget = Objects.requireNonNull(target, "Telegraph target is required");
+        this.telegraphTicksRemaining = ticks;
+        markActive();
     }
 
     /**
@@ -439,7 +477,7 @@ public class MobInstance {
      * @return {@code true} while a telegraph is pending resolution
      */
     public boolean hasPendingTelegraph() {
-        return telegraphTicksRemaining.get() > 0;
+        return telegraphTicksRemaining > 0;
     }
 
     /**
@@ -449,7 +487,7 @@ public class MobInstance {
      */
     @Nullable
     public AttackId telegraphAttackId() {
-        return telegraphAttackId.get();
+        return telegraphAttackId;
     }
 
     /**
@@ -459,7 +497,7 @@ public class MobInstance {
      */
     @Nullable
     public Username telegraphTarget() {
-        return telegraphTarget.get();
+        return telegraphTarget;
     }
 
     /**
@@ -470,10 +508,10 @@ public class MobInstance {
      *         resolve (the pending state is cleared in that case); {@code false} while it keeps winding up
      */
     public boolean tickTelegraph() {
-        if (telegraphTicksRemaining.get() <= 0) {
+        if (telegraphTicksRemaining <= 0) {
             return false;
         }
-        if (telegraphTicksRemaining.decrementAndGet() <= 0) {
+        if (--telegraphTicksRemaining <= 0) {
             clearTelegraph();
             return true;
         }
@@ -485,9 +523,9 @@ public class MobInstance {
      * from the tick thread.
      */
     public void clearTelegraph() {
-        telegraphTicksRemaining.set(0);
-        telegraphAttackId.set(null);
-        telegraphTarget.set(null);
+        telegraphTicksRemaining = 0;
+        telegraphAttackId = null;
+        telegraphTarget = null;
     }
 
     /**
@@ -503,8 +541,8 @@ public class MobInstance {
         if (durationTicks <= 0) {
             throw new IllegalArgumentException("Taunt duration must be positive");
         }
-        this.taunter.set(Objects.requireNonNull(taunter, "Taunter is required"));
-        this.tauntTicksRemaining.set(durationTicks);
+        this.taunter = Objects.requireNonNull(taunter, "Taunter is required");
+        this.tauntTicksRemaining = durationTicks;
     }
 
     /**
@@ -515,7 +553,7 @@ public class MobInstance {
      */
     @Nullable
     public Username activeTaunter() {
-        return tauntTicksRemaining.get() > 0 ? taunter.get() : null;
+        return tauntTicksRemaining > 0 ? taunter : null;
     }
 
     /**
@@ -524,14 +562,14 @@ public class MobInstance {
      * thread.
      */
     public void consumeTauntTick() {
-        if (tauntTicksRemaining.get() > 0 && tauntTicksRemaining.decrementAndGet() <= 0) {
+        if (tauntTicksRemaining > 0 && --tauntTicksRemaining <= 0) {
             clearTaunt();
         }
     }
 
     private void clearTaunt() {
-        taunter.set(null);
-        tauntTicksRemaining.set(0);
+        taunter = null;
+        tauntTicksRemaining = 0;
     }
 
     /**
@@ -547,11 +585,11 @@ public class MobInstance {
      */
     public boolean advanceEnrage() {
         Integer threshold = template.enrageTicks();
-        if (threshold == null || enraged.get()) {
+        if (threshold == null || enraged) {
             return false;
         }
-        if (enrageDecisions.incrementAndGet() >= threshold) {
-            enraged.set(true);
+        if (++enrageDecisions >= threshold) {
+            enraged = true;
             return true;
         }
         return false;
@@ -563,7 +601,7 @@ public class MobInstance {
      * @return {@code true} once the enrage threshold has been crossed this encounter
      */
     public boolean isEnraged() {
-        return enraged.get();
+        return enraged;
     }
 
     /**
@@ -575,15 +613,15 @@ public class MobInstance {
      * @return the damage to actually apply after any enrage boost
      */
     public int applyEnrageMultiplier(int rawDamage) {
-        if (!enraged.get()) {
+        if (!enraged) {
             return rawDamage;
         }
         return Math.max(1, (int) Math.round(rawDamage * template.enrageDamageMultiplier()));
     }
 
     private void clearEnrage() {
-        enrageDecisions.set(0);
-        enraged.set(false);
+        enrageDecisions = 0;
+        enraged = false;
     }
 
     /**
@@ -600,12 +638,12 @@ public class MobInstance {
      */
     public boolean tryTriggerReinforcement() {
         Integer thresholdPercent = template.reinforcementHpPercent();
-        if (thresholdPercent == null || reinforcementTriggered.get()) {
+        if (thresholdPercent == null || reinforcementTriggered) {
             return false;
         }
         // Integer HP comparison: currentHp/maxHp <= percent/100 ⟺ currentHp*100 <= maxHp*percent.
-        if ((long) hp.get() * 100 <= (long) maxHp * thresholdPercent) {
-            reinforcementTriggered.set(true);
+        if ((long) hp * 100 <= (long) maxHp * thresholdPercent) {
+            reinforcementTriggered = true;
             return true;
         }
         return false;
@@ -618,11 +656,11 @@ public class MobInstance {
      * @return {@code true} once the reinforcement threshold has been crossed this encounter
      */
     public boolean hasSummonedReinforcements() {
-        return reinforcementTriggered.get();
+        return reinforcementTriggered;
     }
 
     private void clearReinforcement() {
-        reinforcementTriggered.set(false);
+        reinforcementTriggered = false;
     }
 
     /**
@@ -640,20 +678,20 @@ public class MobInstance {
         if (durationTicks <= 0) {
             throw new IllegalArgumentException("Control duration must be positive");
         }
-        this.control.set(type);
-        this.controlTicksRemaining.set(durationTicks);
+        this.control = type;
+        this.controlTicksRemaining = durationTicks;
+        markActive();
     }
 
     /**
      * Returns the crowd-control lockout currently in force on this mob, or {@code null} when it is
-     * uncontrolled (never applied, expired, or cleared on disengage/respawn). Safe to read from any
-     * thread.
+     * uncontrolled (never applied, expired, or cleared on disengage/respawn).
      *
      * @return the active control type, or {@code null}
      */
     @Nullable
     public ControlType activeControl() {
-        return controlTicksRemaining.get() > 0 ? control.get() : null;
+        return controlTicksRemaining > 0 ? control : null;
     }
 
     /**
@@ -689,14 +727,14 @@ public class MobInstance {
      * called from the tick thread, once per AI decision.
      */
     public void tickControl() {
-        if (controlTicksRemaining.get() > 0 && controlTicksRemaining.decrementAndGet() <= 0) {
+        if (controlTicksRemaining > 0 && --controlTicksRemaining <= 0) {
             clearControl();
         }
     }
 
     private void clearControl() {
-        control.set(null);
-        controlTicksRemaining.set(0);
+        control = null;
+        controlTicksRemaining = 0;
     }
 
     /**
@@ -819,7 +857,7 @@ public class MobInstance {
 
     /** Returns the pet's remaining lifetime in ticks (zero for non-summoned mobs). */
     public int summonTicksRemaining() {
-        return summonTicksRemaining.get();
+        return summonTicksRemaining;
     }
 
     /**
@@ -829,7 +867,7 @@ public class MobInstance {
      * @return {@code true} when the lifetime has elapsed and the pet should be dismissed
      */
     public boolean tickSummonLifetime() {
-        return summonTicksRemaining.decrementAndGet() <= 0;
+        return --summonTicksRemaining <= 0;
     }
 
     /**
@@ -857,15 +895,39 @@ public class MobInstance {
 
     /** Resets the mob to full HP and returns it to its spawn room, ready to act again. */
     public void respawn() {
-        hp.set(maxHp);
-        respawnTicksRemaining.set(0);
-        engagedPlayers.clear();
-        specialAbilityUsed.set(false);
+        hp = maxHp;
+        engagedPlayers.disengageAll();
+        specialAbilityUsed = false;
         clearTaunt();
         clearTelegraph();
         clearEnrage();
         clearReinforcement();
         clearControl();
+        RoomId previous = currentRoomId;
         currentRoomId = template.spawnRoomId();
+        reindex(previous);
+    }
+
+    /**
+     * Binds this instance to (or, with {@code null}, detaches it from) the registry's spatial index.
+     *
+     * @param index the index to report to, or {@code null} when the instance leaves the registry
+     */
+    void attachIndex(@Nullable MobRoomIndex index) {
+        this.roomIndex = index;
+    }
+
+    private void reindex(@Nullable RoomId previousRoom) {
+        MobRoomIndex index = roomIndex;
+        if (index != null) {
+            index.resync(this, previousRoom);
+        }
+    }
+
+    private void markActive() {
+        MobRoomIndex index = roomIndex;
+        if (index != null) {
+            index.markActive(this);
+        }
     }
 }
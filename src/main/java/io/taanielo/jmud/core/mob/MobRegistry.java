@@ -5,13 +5,13 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.IntSupplier;
 
@@ -45,10 +45,12 @@ import io.taanielo.jmud.core.combat.CombatAttributeBonusResolver;
 import io.taanielo.jmud.core.combat.CombatRandom;
 import io.taanielo.jmud.core.combat.CombatSettings;
 import io.taanielo.jmud.core.combat.DamageType;
+import io.taanielo.jmud.core.combat.DerivedStatsCache;
 import io.taanielo.jmud.core.combat.EquipmentArmorResolver;
 import io.taanielo.jmud.core.combat.EquipmentResistanceResolver;
 import io.taanielo.jmud.core.combat.ParryResolver;
 import io.taanielo.jmud.core.combat.RaceArmorBonusResolver;
+import io.taanielo.jmud.core.combat.RaceAttackBonusResolver;
 import io.taanielo.jmud.core.combat.RangeType;
 import io.taanielo.jmud.core.combat.ShieldBlockResolver;
 import io.taanielo.jmud.core.combat.flavor.DamageVerb;
@@ -96,6 +98,8 @@ import io.taanielo.jmud.core.world.RoomId;
 import io.taanielo.jmud.core.world.RoomService;
 import io.taanielo.jmud.core.world.TimeOfDay;
 import io.taanielo.jmud.core.world.WorldClock;
+import io.taanielo.jmud.core.world.area.AreaDormancyService;
+import io.taanielo.jmud.core.world.area.AreaId;
 import io.taanielo.jmud.core.world.repository.ItemRepository;
 import io.taanielo.jmud.core.world.repository.RepositoryException;
 
@@ -140,6 +144,8 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     private EffectEngine effectEngine;
     /** Optional world clock used to pick day/night respawn delays; may be null when disabled. */
     private WorldClock worldClock;
+    /** Optional area dormancy used to pause wandering and respawns in empty areas; may be null. */
+    private AreaDormancyService areaDormancy;
     /** Optional durability service used to wear down equipped gear on hit; may be null when disabled. */
     private ItemDurabilityService itemDurabilityService;
     /** Optional reputation service governing faction-based aggression and kill standing; may be null. */
@@ -178,6 +184,13 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      * resolver.
      */
     private RaceArmorBonusResolver raceArmorBonusResolver = RaceArmorBonusResolver.noOp();
+    /**
+     * Per-player snapshot of the defender's armour and resistances, so a mob's swing reads them in
+     * O(1) instead of summing equipment through the item repository on every hit. Either injected
+     * (shared with the PvP {@link io.taanielo.jmud.core.combat.CombatEngine}) or built lazily from the
+     * four resolvers above; setting any of those resolvers drops a lazily built cache.
+     */
+    private @Nullable DerivedStatsCache derivedStatsCache;
     /**
      * Resolves a shield-equipped defending player's block chance/reduction from their off-hand item,
      * so a mob's landing hit can be blocked for reduced damage exactly as in a PvP duel. Defaults to
@@ -239,8 +252,14 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      */
     private static final String PACK_TAG = "pack";
 
-    private final ConcurrentHashMap<UUID, MobInstance> instances = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<Username, UUID> playerCombatTargets = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, MobInstance> instances = new ConcurrentHashMap<>();
+    /**
+     * Room-keyed view of {@link #instances} with live/dead partitions and the active set, so
+     * room-local queries and the per-tick AI pass never scan the whole world. Kept in step by
+     * {@link #track}/{@link #untrack} and by each instance reporting its own moves and deaths.
+     */
+    private final MobRoomIndex mobIndex = new MobRoomIndex();
+    private final ConcurrentHashMap<Username, Integer> playerCombatTargets = new ConcurrentHashMap<>();
     /**
      * Pet templates (see {@link MobTemplate#isPetTemplate()}) cached at {@link #init()} so the
      * on-demand SUMMON path never touches the JSON repository from the tick thread (AGENTS.md §5).
@@ -259,6 +278,11 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      * thread (AGENTS.md §5).
      */
     private final ConcurrentHashMap<String, MobTemplate> templatesById = new ConcurrentHashMap<>();
+    /**
+     * Every loaded template in load order, replaced whole by {@link #init(List)} and each committed
+     * reload, so {@link #templates()} hands other threads a consistent list without a disk read.
+     */
+    private volatile List<MobTemplate> templates = List.of();
 
     public MobRegistry(
         MobTemplateRepository templateRepository,
@@ -359,6 +383,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     public void setEquipmentResistanceResolver(EquipmentResistanceResolver resistanceResolver) {
         this.resistanceResolver =
             Objects.requireNonNull(resistanceResolver, "Equipment resistance resolver is required");
+        this.derivedStatsCache = null;
     }
 
     /**
@@ -370,6 +395,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      */
     public void setEquipmentArmorResolver(EquipmentArmorResolver armorResolver) {
         this.armorResolver = Objects.requireNonNull(armorResolver, "Equipment armor resolver is required");
+        this.derivedStatsCache = null;
     }
 
     /**
@@ -382,6 +408,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     public void setClassArmorBonusResolver(ClassArmorBonusResolver classArmorBonusResolver) {
         this.classArmorBonusResolver =
             Objects.requireNonNull(classArmorBonusResolver, "Class armor bonus resolver is required");
+        this.derivedStatsCache = null;
     }
 
     /**
@@ -394,6 +421,18 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     public void setRaceArmorBonusResolver(RaceArmorBonusResolver raceArmorBonusResolver) {
         this.raceArmorBonusResolver =
             Objects.requireNonNull(raceArmorBonusResolver, "Race armor bonus resolver is required");
+        this.derivedStatsCache = null;
+    }
+
+    /**
+     * Registers a shared {@link DerivedStatsCache} for the defending player's armour and resistances,
+     * taking the place of the individual armour and resistance resolvers so PvE and PvP read the
+     * same snapshot. Call after any of those resolver setters, which would otherwise drop it.
+     *
+     * @param derivedStatsCache the shared cache; must not be null
+     */
+    public void setDerivedStatsCache(DerivedStatsCache derivedStatsCache) {
+        this.derivedStatsCache = Objects.requireNonNull(derivedStatsCache, "Derived stats cache is required");
     }
 
     /**
@@ -716,9 +755,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      * @return the resolved hit/block/damage outcome
      */
     private MobAttackOutcome resolveMobAttack(AttackDefinition attack, Player target, MobInstance mob) {
-        int defenderAc = armorResolver.totalAc(target)
-            + classArmorBonusResolver.armorBonus(target)
-            + raceArmorBonusResolver.armorBonus(target);
+        int defenderAc = derivedStats().get(target).armorClass();
         int hitChance = clamp(
             CombatSettings.baseHitChance() + attack.hitBonus() - defenderAc,
             CombatSettings.MIN_HIT_CHANCE, CombatSettings.MAX_HIT_CHANCE);
@@ -926,6 +963,20 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         this.worldClock = worldClock;
     }
 
+    /**
+     * Registers the area dormancy service. While an area is dormant its mobs do not wander and mobs
+     * whose respawn timer ends there wait; when it wakes, those mobs respawn at once (see
+     * {@link #onAreaWake}).
+     *
+     * @param areaDormancy the dormancy service; may be null to simulate every area every tick
+     */
+    public void setAreaDormancy(AreaDormancyService areaDormancy) {
+        this.areaDormancy = areaDormancy;
+        if (areaDormancy != null) {
+            areaDormancy.addWakeListener(this::onAreaWake);
+        }
+    }
+
     /**
      * Registers the durability service that wears down a player's equipped gear each time a mob
      * hits them (see {@link ItemDurabilityService#degradeEquipped}).
@@ -974,13 +1025,25 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      * Spawns initial mob instances from all templates. Call once on server start.
      */
     public void init() {
-        List<MobTemplate> templates;
+        List<MobTemplate> loaded;
         try {
-            templates = templateRepository.findAll();
+            loaded = templateRepository.findAll();
         } catch (RepositoryException e) {
             log.error("Failed to load mob templates: {}", e.getMessage(), e);
             return;
         }
+        init(loaded);
+    }
+
+    /**
+     * Spawns initial mob instances from templates the caller has already loaded, so start-up parses
+     * the mob directory once and shares the result. Call once on server start, instead of
+     * {@link #init()}.
+     *
+     * @param templates every mob template
+     */
+    public void init(List<MobTemplate> templates) {
+        this.templates = List.copyOf(templates);
         for (MobTemplate template : templates) {
             templatesById.put(template.id().getValue(), template);
             // Pet templates are never spawned into the world at start-up; an instance exists only
@@ -996,7 +1059,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
             }
             for (int i = 0; i < template.maxCount(); i++) {
                 MobInstance mob = new MobInstance(template);
-                instances.put(mob.instanceId(), mob);
+                track(mob);
                 announceWorldBossSpawn(mob);
             }
         }
@@ -1018,7 +1081,18 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         return PreparedReload.of("mobs", templates.size(), () -> applyTemplates(templates));
     }
 
+    /**
+     * Returns the templates currently in use: those spawned at start-up, or the last committed
+     * reload. Safe to call from any thread; never reads from disk.
+     *
+     * @return every mob template, in load order
+     */
+    public List<MobTemplate> templates() {
+        return templates;
+    }
+
     private void applyTemplates(List<MobTemplate> templates) {
+        this.templates = List.copyOf(templates);
         templatesById.clear();
         petTemplates.clear();
         worldEventTemplates.clear();
@@ -1050,19 +1124,13 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         runPetFollow();
         runPetCombat();
         runWanderPhase();
-        for (MobInstance mob : instances.values()) {
+        // Snapshot the AI candidates before respawning so a mob revived this tick first acts on the
+        // next one, as it always has.
+        List<MobInstance> candidates = aiCandidates();
+        runRespawnPhase();
+        for (MobInstance mob : candidates) {
             // Pets (summoned or tamed) are driven by runPetCombat and never respawn or attack players.
-            if (mob.isPet()) {
-                continue;
-            }
-            if (!mob.isAlive()) {
-                // World-event mobs never auto-respawn; the WorldEventScheduler purges the slain
-                // instance and opens the next event on its own randomized timer.
-                if (!mob.template().worldEvent() && mob.tickRespawn()) {
-                    mob.respawn();
-                    log.debug("Mob {} respawned in {}", mob.template().name(), mob.roomId());
-                    announceWorldBossSpawn(mob);
-                }
+            if (mob.isPet() || !mob.isAlive()) {
                 continue;
             }
             if (mob.template().attackId() == null) {
@@ -1082,12 +1150,66 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         }
     }
 
+    /**
+     * Returns the mobs that could take an AI decision this tick: the active set (engaged,
+     * crowd-controlled, or telegraphing) plus every live mob sharing a room with a player. Any other
+     * mob has no one to target and nothing to count down, so skipping it changes nothing, and idle
+     * mobs in empty zones cost the tick nothing at all.
+     */
+    private List<MobInstance> aiCandidates() {
+        Set<MobInstance> candidates = new LinkedHashSet<>(mobIndex.activeMobs());
+        for (RoomId roomId : roomService.occupiedRooms()) {
+            candidates.addAll(mobIndex.liveIn(roomId));
+        }
+        return List.copyOf(candidates);
+    }
+
+    /**
+     * Respawn phase: advances the respawn wheel one tick and returns the dead, non-pet mobs whose
+     * timer ended to their spawn room at full HP. Only those mobs are visited. A mob whose spawn room
+     * lies in a dormant area is parked until the area wakes.
+     */
+    private void runRespawnPhase() {
+        for (MobInstance mob : mobIndex.advanceRespawns()) {
+            // World-event mobs never auto-respawn; the WorldEventScheduler purges the slain
+            // instance and opens the next event on its own randomized timer.
+            if (mob.isPet() || mob.template().worldEvent()) {
+                continue;
+            }
+            if (areaDormancy != null && !areaDormancy.isAwake(mob.template().spawnRoomId())) {
+                mobIndex.parkRespawn(mob);
+                continue;
+            }
+            completeRespawn(mob);
+        }
+    }
+
+    /**
+     * Wake handler for {@link AreaDormancyService}: respawns every mob spawning in the woken area
+     * whose timer ended while it slept. Respawn timers keep running during dormancy, so the area
+     * looks as if it had been simulated all along.
+     */
+    private void onAreaWake(AreaId areaId, Set<RoomId> roomIds, long sleptTicks) {
+        for (MobInstance mob : mobIndex.takeParkedRespawns(roomIds)) {
+            if (!mob.isAlive()) {
+                completeRespawn(mob);
+            }
+        }
+        log.debug("Caught up mob respawns in area {} after {} dormant tick(s)", areaId.getValue(), sleptTicks);
+    }
+
+    private void completeRespawn(MobInstance mob) {
+        mob.respawn();
+        log.debug("Mob {} respawned in {}", mob.template().name(), mob.roomId());
+        announceWorldBossSpawn(mob);
+    }
+
     /**
      * Wander phase: for each alive, non-NPC, non-combat, wandering mob, with 30% probability
      * move it through a randomly chosen exit and notify nearby players.
      */
     private void runWanderPhase() {
-        for (MobInstance mob : instances.values()) {
+        for (MobInstance mob : mobIndex.liveWanderers()) {
             if (!mob.isAlive()) {
                 continue;
             }
@@ -1104,6 +1226,10 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
             if (!mob.engagedPlayers().isEmpty()) {
                 continue;
             }
+            // Nobody is near enough to see it move; dormant areas hold still.
+            if (areaDormancy != null && !areaDormancy.isAwake(mob.roomId())) {
+                continue;
+            }
             // ~30 % chance to wander this tick
             if (random.nextDouble() >= 0.30) {
                 continue;
@@ -1142,13 +1268,11 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     }
 
     /**
-     * Returns all live mobs currently in the given room.
+     * Returns all live mobs currently in the given room, read from the room index in O(mobs in room).
      */
     public List<MobInstance> getMobsInRoom(RoomId roomId) {
         Objects.requireNonNull(roomId, "Room id is required");
-        return instances.values().stream()
-            .filter(m -> m.isAlive() && m.roomId().equals(roomId))
-            .toList();
+        return mobIndex.liveIn(roomId);
     }
 
     /**
@@ -1173,7 +1297,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         }
         MobInstance mob = new MobInstance(template);
         mob.moveTo(roomId);
-        instances.put(mob.instanceId(), mob);
+        track(mob);
         log.debug("Spawned mob {} into {} via admin command", template.name(), roomId);
         return Optional.of(mob);
     }
@@ -1215,10 +1339,22 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     @Override
     public void purgeInstance(MobInstance mob) {
         Objects.requireNonNull(mob, "Mob is required");
-        instances.remove(mob.instanceId());
+        untrack(mob);
         endCombatForMob(mob);
     }
 
+    /** Registers {@code mob} in the instance map and the room index together. */
+    private void track(MobInstance mob) {
+        instances.put(mob.instanceId(), mob);
+        mobIndex.add(mob);
+    }
+
+    /** Removes {@code mob} from the instance map and the room index together. */
+    private void untrack(MobInstance mob) {
+        instances.remove(mob.instanceId());
+        mobIndex.remove(mob);
+    }
+
     /**
      * Processes a player's attack against a mob in their current room.
      *
@@ -1373,7 +1509,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         if (target.equals(assister.getUsername())) {
             return GameActionResult.error("You cannot assist yourself.");
         }
-        UUID mobId = playerCombatTargets.get(target);
+        Integer mobId = playerCombatTargets.get(target);
         MobInstance mob = mobId == null ? null : instances.get(mobId);
         if (mob == null || !mob.isAlive() || !mob.roomId().equals(roomId)) {
             return GameActionResult.error(target.getValue() + " is not fighting anyone.");
@@ -2369,7 +2505,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
                     + " across the room!"))));
         }
 
-        UUID firstSurvivor = null;
+        Integer firstSurvivor = null;
         for (MobInstance mob : targets) {
             String mobName = mob.template().name();
             // Each target rolls hit and crit independently (issue #595): the spell can miss some
@@ -2915,7 +3051,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         MobInstance pet = MobInstance.summoned(
             petTemplate, roomId, caster.getUsername(), caster.getLevel(),
             petTemplate.summonDurationTicks());
-        instances.put(pet.instanceId(), pet);
+        track(pet);
 
         Player updated = caster.withVitals(caster.getVitals().consumeMana(manaCost));
         List<GameMessage> messages = new ArrayList<>();
@@ -2942,7 +3078,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         if (pet == null) {
             return GameActionResult.error("You have no summoned pet to dismiss.");
         }
-        instances.remove(pet.instanceId());
+        untrack(pet);
         broadcastToRoomExcept(pet.roomId(), caster.getUsername(),
             "The " + pet.template().name() + " fades back into the ether.");
         return new GameActionResult(null, null, List.of(GameMessage.toSource(
@@ -3021,7 +3157,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         endCombatForMob(mob);
 
         MobInstance pet = MobInstance.tamed(mob.template(), roomId, tamer.getUsername(), tamer.getLevel());
-        instances.put(pet.instanceId(), pet);
+        track(pet);
 
         Player updated = tamer.withTamedPets(tamer.pets().tame(mob.template().id().getValue()));
         saveOrLog(updated);
@@ -3287,7 +3423,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
             MobInstance pet = MobInstance.tamed(
                 template, roomId, username, owner.getLevel(), entry.customName(),
                 entry.customDescription());
-            instances.put(pet.instanceId(), pet);
+            track(pet);
         }
     }
 
@@ -3386,7 +3522,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      * @param roomMsg  the message shown to other players in the pet's room
      */
     private void removePet(MobInstance pet, String ownerMsg, String roomMsg) {
-        instances.remove(pet.instanceId());
+        untrack(pet);
         Username owner = pet.petOwner();
         if (owner != null) {
             playerEventBus.publish(owner,
@@ -3461,7 +3597,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
                 messages.add(GameMessage.toSource(foeRetaliationMessage(
                     foeName, petName, retaliation, petRemaining, foeOutcome.crit())));
                 if (!pet.isAlive()) {
-                    instances.remove(pet.instanceId());
+                    untrack(pet);
                     if (pet.isTamed()) {
                         releasePersistedPet(pet);
                         messages.add(GameMessage.toSource("Your " + petName + " has been slain!"));
@@ -3524,11 +3660,8 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      */
     private MobInstance findPetTarget(MobInstance pet) {
         Username owner = pet.petOwner();
-        List<MobInstance> foes = instances.values().stream()
-            .filter(m -> m.isAlive()
-                && !m.isPet()
-                && m.roomId().equals(pet.roomId())
-                && !m.template().hasTag("npc"))
+        List<MobInstance> foes = mobIndex.liveIn(pet.roomId()).stream()
+            .filter(m -> !m.isPet() && !m.template().hasTag("npc"))
             .toList();
         if (owner != null) {
             for (MobInstance foe : foes) {
@@ -3706,7 +3839,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      * different alive, non-pet mob in that same room. These are the only players a {@code pack} mob
      * may join against: a pack mob reinforces a fight already started (by the player attacking any
      * mob, or by an aggressive/faction room-mate), it never starts a fresh one. Runs on the tick
-     * thread over the live instance map (AGENTS.md §5).
+     * thread over the room's live mobs from the spatial index (AGENTS.md §5).
      *
      * @param mob the pack mob looking for a fight to join
      * @return the in-room players engaged with a room-mate mob, or an empty list when none
@@ -3714,11 +3847,8 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     private List<Username> playersEngagedWithRoommates(MobInstance mob) {
         RoomId roomId = mob.roomId();
         Set<Username> engagedByRoommates = new HashSet<>();
-        for (MobInstance other : instances.values()) {
-            if (other.instanceId().equals(mob.instanceId()) || other.isPet() || !other.isAlive()) {
-                continue;
-            }
-            if (!other.roomId().equals(roomId)) {
+        for (MobInstance other : mobIndex.liveIn(roomId)) {
+            if (other.instanceId() == mob.instanceId() || other.isPet()) {
                 continue;
             }
             engagedByRoommates.addAll(other.engagedPlayers());
@@ -3973,7 +4103,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     private MobInstance selectHealTarget(MobInstance healer, HealerProfile profile) {
         MobInstance best = null;
         for (MobInstance ally : getMobsInRoom(healer.roomId())) {
-            if (ally.instanceId().equals(healer.instanceId()) || ally.isPet()) {
+            if (ally.instanceId() == healer.instanceId() || ally.isPet()) {
                 continue;
             }
             int max = ally.maxHp();
@@ -4008,7 +4138,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         if (candidate.currentHp() != incumbent.currentHp()) {
             return candidate.currentHp() < incumbent.currentHp();
         }
-        return candidate.instanceId().compareTo(incumbent.instanceId()) < 0;
+        return candidate.instanceId() < incumbent.instanceId();
     }
 
     /**
@@ -4409,7 +4539,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
     private void runPlayerCombat() {
         for (var entry : playerCombatTargets.entrySet()) {
             Username username = entry.getKey();
-            UUID mobId = entry.getValue();
+            Integer mobId = entry.getValue();
 
             MobInstance mob = instances.get(mobId);
             if (mob == null || !mob.isAlive()) {
@@ -4692,6 +4822,17 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
         return Math.max(1, base + attack.damageBonus());
     }
 
+    private DerivedStatsCache derivedStats() {
+        DerivedStatsCache cache = derivedStatsCache;
+        if (cache == null) {
+            cache = new DerivedStatsCache(
+                armorResolver, raceArmorBonusResolver, classArmorBonusResolver,
+                RaceAttackBonusResolver.noOp(), resistanceResolver);
+            derivedStatsCache = cache;
+        }
+        return cache;
+    }
+
     /**
      * Reduces a mob's rolled damage by the defending player's equipped elemental resistance for the
      * attack's {@link DamageType}. Physical (and untyped) attacks are never reduced. The summed
@@ -4708,7 +4849,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
             return rawDamage;
         }
         int resistPercent = Math.max(0, Math.min(
-            resistanceResolver.totalResistance(defender, damageType),
+            derivedStats().get(defender).resistance(damageType),
             CombatSettings.maxResistancePercent()));
         if (resistPercent <= 0) {
             return rawDamage;
@@ -4742,7 +4883,7 @@ public class MobRegistry implements Tickable, NpcStealPort, MobContentReloader,
      */
     public void fleeCombat(Username username) {
         Objects.requireNonNull(username, "Username is required");
-        UUID mobId = playerCombatTargets.remove(username);
+        Integer mobId = playerCombatTargets.remove(username);
         if (mobId != null) {
             MobInstance mob = instances.get(mobId);
             if (mob != null) {
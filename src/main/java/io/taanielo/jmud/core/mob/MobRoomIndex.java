@@ -0,0 +1,228 @@
+package io.taanielo.jmud.core.mob;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import io.taanielo.jmud.core.tick.TimingWheel;
+import io.taanielo.jmud.core.world.RoomId;
+
+/**
+ * Spatial index over the {@link MobRegistry}'s instances, so room-local queries (LOOK, attack
+ * targeting, PURGE, pack reinforcement, AoE spells) cost O(mobs in room) rather than a scan of every
+ * mob in the world.
+ *
+ * <p>Registered instances are partitioned into live mobs, bucketed by their current room, and dead
+ * mobs awaiting respawn, which are not visible in any room. Two derived sets let the tick skip idle
+ * mobs entirely: the live wanderers, and the <em>active</em> mobs that are engaged, under crowd
+ * control, or winding up a telegraph. The active set is pruned lazily by {@link #activeMobs()}.
+ *
+ * <p>Dead mobs also hold a respawn timer on a {@link TimingWheel} advanced once per registry tick by
+ * {@link #advanceRespawns()}, so the respawn phase visits only the mobs whose countdown ends on that
+ * tick. A mob starts its timer at one tick when it dies, {@link MobInstance#scheduleRespawn} replaces
+ * it with the template's delay, and reviving or removing the mob cancels it. A mob whose timer ends
+ * while its area is dormant is parked until the area wakes.
+ *
+ * <p>A {@link MobInstance} reports its own moves, deaths, revivals, and engagements here while
+ * registered, so every path that changes a mob's room or life state keeps the index in step without
+ * the caller having to remember to. Writers are serialised on this index; readers see concurrent sets
+ * and never block. All writes happen on the tick thread (AGENTS.md §5).
+ */
+final class MobRoomIndex {
+
+    private final ConcurrentHashMap<RoomId, Set<MobInstance>> liveByRoom = new ConcurrentHashMap<>();
+    private final Set<MobInstance> dead = ConcurrentHashMap.newKeySet();
+    private final Set<MobInstance> liveWanderers = ConcurrentHashMap.newKeySet();
+    private final Set<MobInstance> active = ConcurrentHashMap.newKeySet();
+    private final TimingWheel<MobInstance> respawns = new TimingWheel<>(0);
+    private final Map<MobInstance, TimingWheel.Timer<MobInstance>> respawnTimers = new HashMap<>();
+    private final Set<MobInstance> parkedRespawns = new LinkedHashSet<>();
+
+    /**
+     * Starts tracking {@code mob} in its current room and life state.
+     *
+     * @param mob the instance just added to the registry
+     */
+    synchronized void add(MobInstance mob) {
+        Objects.requireNonNull(mob, "Mob is required");
+        mob.attachIndex(this);
+        resync(mob, null);
+        if (isActive(mob)) {
+            active.add(mob);
+        }
+    }
+
+    /**
+     * Stops tracking {@code mob}; it no longer appears in any room or derived set.
+     *
+     * @param mob the instance just removed from the registry
+     */
+    synchronized void remove(MobInstance mob) {
+        Objects.requireNonNull(mob, "Mob is required");
+        mob.attachIndex(null);
+        leave(mob.roomId(), mob);
+        dead.remove(mob);
+        liveWanderers.remove(mob);
+        active.remove(mob);
+        cancelRespawn(mob);
+    }
+
+    /**
+     * Re-files {@code mob} after a move or a change in its life state.
+     *
+     * <p>Idempotent: the mob is taken out of {@code previousRoom} (when given) and re-placed from its
+     * current room and HP, so a racing move and death always converge on the mob's real state.
+     *
+     * @param mob          the instance that changed
+     * @param previousRoom the room it was in before a move, or {@code null} when it did not move
+     */
+    synchronized void resync(MobInstance mob, @Nullable RoomId previousRoom) {
+        if (previousRoom != null) {
+            leave(previousRoom, mob);
+        }
+        RoomId room = mob.roomId();
+        if (mob.isAlive()) {
+            dead.remove(mob);
+            cancelRespawn(mob);
+            liveByRoom.computeIfAbsent(room, _ -> ConcurrentHashMap.newKeySet()).add(mob);
+            if (wanders(mob)) {
+                liveWanderers.add(mob);
+            }
+        } else {
+            leave(room, mob);
+            if (dead.add(mob)) {
+                respawnTimers.put(mob, respawns.schedule(1, mob));
+            }
+            liveWanderers.remove(mob);
+            active.remove(mob);
+        }
+    }
+
+    /**
+     * Restarts a dead mob's respawn countdown.
+     *
+     * @param mob   the dead mob
+     * @param ticks ticks until it respawns; values below 1 respawn it on the next tick
+     */
+    synchronized void scheduleRespawn(MobInstance mob, int ticks) {
+        if (!dead.contains(mob)) {
+            return;
+        }
+        cancelRespawn(mob);
+        respawnTimers.put(mob, respawns.schedule(ticks, mob));
+    }
+
+    /**
+     * Advances the respawn wheel one tick.
+     *
+     * @return the dead mobs whose respawn countdown ended on this tick
+     */
+    synchronized List<MobInstance> advanceRespawns() {
+        List<MobInstance> due = new ArrayList<>();
+        respawns.advance(mob -> {
+            respawnTimers.remove(mob);
+            due.add(mob);
+        });
+        return due;
+    }
+
+    /**
+     * Holds a dead mob whose countdown ended while its area was dormant, until the area wakes.
+     *
+     * @param mob the mob due to respawn
+     */
+    synchronized void parkRespawn(MobInstance mob) {
+        if (dead.contains(mob)) {
+            parkedRespawns.add(mob);
+        }
+    }
+
+    /**
+     * Removes and returns the parked mobs that spawn in any of the given rooms.
+     *
+     * @param spawnRooms the rooms of the area that just woke
+     * @return the parked mobs now free to respawn
+     */
+    synchronized List<MobInstance> takeParkedRespawns(Set<RoomId> spawnRooms) {
+        List<MobInstance> woken = new ArrayList<>();
+        parkedRespawns.removeIf(mob -> {
+            if (spawnRooms.contains(mob.template().spawnRoomId())) {
+                woken.add(mob);
+                return true;
+            }
+            return false;
+        });
+        return woken;
+    }
+
+    /**
+     * Adds {@code mob} to the active set after it engages, is crowd-controlled, or starts a telegraph.
+     *
+     * @param mob the instance that now needs an AI decision every tick
+     */
+    void markActive(MobInstance mob) {
+        active.add(mob);
+    }
+
+    /**
+     * Returns the live mobs in {@code roomId}.
+     *
+     * @param roomId the room to query
+     * @return an immutable snapshot of the room's live mobs (never null, may be empty)
+     */
+    List<MobInstance> liveIn(RoomId roomId) {
+        Set<MobInstance> mobs = liveByRoom.get(roomId);
+        return mobs == null ? List.of() : List.copyOf(mobs);
+    }
+
+    /**
+     * Returns the live mobs whose template lets them wander on their own.
+     *
+     * @return an immutable snapshot of live wandering mobs
+     */
+    List<MobInstance> liveWanderers() {
+        return List.copyOf(liveWanderers);
+    }
+
+    /**
+     * Returns the mobs still engaged, crowd-controlled, or telegraphing, first dropping any that
+     * have since gone idle.
+     *
+     * @return an immutable snapshot of the active set
+     */
+    synchronized List<MobInstance> activeMobs() {
+        active.removeIf(mob -> !isActive(mob));
+        return List.copyOf(active);
+    }
+
+    private void cancelRespawn(MobInstance mob) {
+        TimingWheel.Timer<MobInstance> timer = respawnTimers.remove(mob);
+        if (timer != null) {
+            timer.cancel();
+        }
+        parkedRespawns.remove(mob);
+    }
+
+    private void leave(RoomId roomId, MobInstance mob) {
+        liveByRoom.computeIfPresent(roomId, (_, mobs) -> {
+            mobs.remove(mob);
+            return mobs.isEmpty() ? null : mobs;
+        });
+    }
+
+    private static boolean wanders(MobInstance mob) {
+        return !mob.isPet() && mob.template().wanders() && !mob.template().hasTag("npc");
+    }
+
+    private static boolean isActive(MobInstance mob) {
+        return mob.isAlive()
+            && (!mob.engagedPlayers().isEmpty() || mob.activeControl() != null || mob.hasPendingTelegraph());
+    }
+}
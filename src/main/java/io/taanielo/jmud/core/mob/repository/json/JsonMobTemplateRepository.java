@@ -9,6 +9,7 @@ import java.util.Objects;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 import io.taanielo.jmud.core.mob.MobTemplate;
 import io.taanielo.jmud.core.mob.MobTemplateRepository;
 import io.taanielo.jmud.core.mob.dto.MobTemplateDto;
@@ -23,12 +24,22 @@ public class JsonMobTemplateRepository implements MobTemplateRepository {
     private final ObjectMapper objectMapper;
     private final MobTemplateDtoMapper mapper;
     private final Path mobsDirPath;
+    private final JsonDocumentSource documents;
 
     public JsonMobTemplateRepository() throws RepositoryException {
         this(Path.of("data"));
     }
 
     public JsonMobTemplateRepository(Path dataRoot) throws RepositoryException {
+        this(dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/mobs} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonMobTemplateRepository(Path dataRoot, JsonDocumentSource documents) throws RepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.mapper = new MobTemplateDtoMapper();
         this.mobsDirPath = Objects.requireNonNull(dataRoot, "Data root is required").resolve(MOBS_DIR);
@@ -38,8 +49,8 @@ public class JsonMobTemplateRepository implements MobTemplateRepository {
     @Override
     public List<MobTemplate> findAll() throws RepositoryException {
         List<MobTemplate> templates = new ArrayList<>();
-        try (var stream = Files.list(mobsDirPath)) {
-            for (Path path : stream.filter(p -> p.toString().endsWith(".json")).toList()) {
+        try {
+            for (Path path : documents.list(mobsDirPath)) {
                 MobTemplateDto dto = readDto(path);
                 if (dto.schemaVersion() != SCHEMA_VERSION) {
                     throw new RepositoryException(
@@ -59,7 +70,7 @@ public class JsonMobTemplateRepository implements MobTemplateRepository {
 
     private MobTemplateDto readDto(Path path) throws RepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), MobTemplateDto.class);
+            return documents.read(path, objectMapper, MobTemplateDto.class);
         } catch (IOException e) {
             throw new RepositoryException("Failed to read mob data from " + path + ": " + e.getMessage(), e);
         }
@@ -1,18 +1,23 @@
 package io.taanielo.jmud.core.persistence;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
 import org.jspecify.annotations.Nullable;
 
@@ -22,6 +27,7 @@ import io.taanielo.jmud.core.audit.AuditEvent;
 import io.taanielo.jmud.core.audit.AuditService;
 import io.taanielo.jmud.core.audit.AuditSubject;
 import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.diagnostics.PlayerSaveEvent;
 import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.player.PlayerRepository;
 import io.taanielo.jmud.core.world.repository.RepositoryException;
@@ -30,14 +36,29 @@ import io.taanielo.jmud.core.world.repository.RepositoryException;
  * Moves {@link Player} persistence off the tick thread with a write-behind queue.
  *
  * <p>Game code calls {@link #enqueueSave(Player)} to hand off an immutable snapshot;
- * a single dedicated virtual thread performs the actual (blocking) file write, so the
+ * dedicated virtual writer threads perform the actual (blocking) file writes, so the
  * tick thread that drains player command queues never touches disk (AGENTS.md §5).
  *
+ * <p>Players are striped across a fixed number of writer lanes by username hash. A
+ * player always maps to the same lane, so their saves are written in order, while a
+ * slow write or a retry back-off stalls only that lane rather than every dirty player.
+ * Each lane takes up to a batch of usernames at a time and, when the repository
+ * {@linkplain PlayerRepository#sync() syncs}, makes the whole batch durable with one
+ * sync instead of one per save.
+ *
  * <p>Saves are coalesced per username: only the latest enqueued snapshot for a given
  * player is kept, so a burst of saves for the same player (e.g. repeated XP gains in
  * a single combat) collapses into at most a couple of actual writes. {@link #flush}
  * provides a synchronous drain for call sites (QUIT, shutdown) that must guarantee
  * pending writes have completed before proceeding.
+ *
+ * <p>Meters registered:
+ * <ul>
+ *   <li>{@code jmud.persistence.saves} (tag {@code result}) — saves that succeeded or failed after retry</li>
+ *   <li>{@code jmud.persistence.save.latency} — time to write one player, retry included</li>
+ *   <li>{@code jmud.persistence.queue.age} — how long a player's oldest unsaved change waited to be written</li>
+ * </ul>
+ * Each write is also a {@code jmud.PlayerSave} Flight Recorder event.
  */
 @Slf4j
 public class PersistenceQueue implements AutoCloseable {
@@ -47,23 +68,28 @@ public class PersistenceQueue implements AutoCloseable {
 
     private final PlayerRepository playerRepository;
     private final AuditService auditService;
+    private final int maxBatch;
 
     /** Latest snapshot pending write for each dirty username. */
-    private final ConcurrentHashMap<Username, Player> pending = new ConcurrentHashMap<>();
-    /** Usernames currently queued for the worker to pick up; guards against duplicate queue entries. */
+    private final ConcurrentHashMap<Username, Pending> pending = new ConcurrentHashMap<>();
+    /** Snapshot a writer has taken off {@link #pending} and is writing now. */
+    private final ConcurrentHashMap<Username, Player> writing = new ConcurrentHashMap<>();
+    /** Usernames currently queued for a lane to pick up; guards against duplicate queue entries. */
     private final Set<Username> queued = ConcurrentHashMap.newKeySet();
-    private final BlockingQueue<Username> dirtyUsernames = new LinkedBlockingQueue<>();
+    private final Lane[] lanes;
 
     private final AtomicLong failureCount = new AtomicLong();
     private final Counter saveSuccessCounter;
     private final Counter saveFailureCounter;
+    private final Timer saveLatency;
+    private final Timer queueAge;
     /** Number of usernames currently being processed (dequeued but not yet saved/retried). */
     private final AtomicLong inFlight = new AtomicLong();
-    private final AtomicReference<@Nullable Thread> workerThread = new AtomicReference<>();
+    private final List<Consumer<Player>> saveListeners = new CopyOnWriteArrayList<>();
     private volatile boolean running = true;
 
     /**
-     * Creates a persistence queue backed by the given repository, starting its worker thread.
+     * Creates a persistence queue backed by the given repository, starting its writer threads.
      * Metrics are disabled (no-op registry).
      *
      * @param playerRepository the repository used to perform the actual writes
@@ -74,19 +100,47 @@ public class PersistenceQueue implements AutoCloseable {
     }
 
     /**
-     * Creates a persistence queue backed by the given repository, starting its worker thread,
-     * and registers save success/failure counters into the supplied {@link MeterRegistry}.
+     * Creates a persistence queue backed by the given repository, with the default lane count and
+     * batch size, and registers its meters into the supplied {@link MeterRegistry}.
      *
      * @param playerRepository the repository used to perform the actual writes
      * @param auditService     audit sink used to record save failures
-     * @param meterRegistry    the Micrometer registry to record save-outcome counters into;
+     * @param meterRegistry    the Micrometer registry to record save meters into;
      *                         must not be null (pass an empty {@link CompositeMeterRegistry}
      *                         for no-op behaviour)
      */
     public PersistenceQueue(PlayerRepository playerRepository, AuditService auditService, MeterRegistry meterRegistry) {
+        this(playerRepository, auditService, meterRegistry,
+            PersistenceSettings.DEFAULT_WRITERS, PersistenceSettings.DEFAULT_MAX_BATCH);
+    }
+
+    /**
+     * Creates a persistence queue backed by the given repository, starting one writer thread per
+     * lane, and registers its meters into the supplied {@link MeterRegistry}.
+     *
+     * @param playerRepository the repository used to perform the actual writes
+     * @param auditService     audit sink used to record save failures
+     * @param meterRegistry    the Micrometer registry to record save meters into
+     * @param writers          number of writer lanes players are striped across; at least 1
+     * @param maxBatch         most saves a lane writes before syncing the repository; at least 1
+     */
+    public PersistenceQueue(
+        PlayerRepository playerRepository,
+        AuditService auditService,
+        MeterRegistry meterRegistry,
+        int writers,
+        int maxBatch
+    ) {
         this.playerRepository = Objects.requireNonNull(playerRepository, "Player repository is required");
         this.auditService = Objects.requireNonNull(auditService, "Audit service is required");
         Objects.requireNonNull(meterRegistry, "Meter registry is required");
+        if (writers < 1) {
+            throw new IllegalArgumentException("Writer count must be >= 1");
+        }
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("Max batch must be >= 1");
+        }
+        this.maxBatch = maxBatch;
         this.saveSuccessCounter = Counter.builder("jmud.persistence.saves")
             .tag("result", "success")
             .description("Number of player saves that completed successfully")
@@ -95,8 +149,49 @@ public class PersistenceQueue implements AutoCloseable {
             .tag("result", "failure")
             .description("Number of player saves that ultimately failed (after retry)")
             .register(meterRegistry);
-        Thread thread = Thread.ofVirtual().name("persistence-queue-writer").start(this::runWorker);
-        workerThread.set(thread);
+        this.saveLatency = Timer.builder("jmud.persistence.save.latency")
+            .description("Time to write one player snapshot, including a retry")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.queueAge = Timer.builder("jmud.persistence.queue.age")
+            .description("Time from a player's oldest unsaved change being enqueued to its write starting")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.lanes = new Lane[writers];
+        for (int i = 0; i < writers; i++) {
+            lanes[i] = new Lane();
+        }
+        for (int i = 0; i < writers; i++) {
+            Lane lane = lanes[i];
+            lane.thread = Thread.ofVirtual().name("persistence-queue-writer-" + i).start(() -> runWorker(lane));
+        }
+    }
+
+    /**
+     * Adds a listener told about every snapshot accepted by {@link #enqueueSave(Player)}, on the
+     * enqueuing thread and before the write happens. Used to keep the leaderboards and the offline
+     * player cache current without reading back what was written.
+     *
+     * @param saveListener the listener to add
+     */
+    public void addSaveListener(Consumer<Player> saveListener) {
+        saveListeners.add(Objects.requireNonNull(saveListener, "Save listener is required"));
+    }
+
+    /**
+     * Returns the newest snapshot of a player that is queued or being written but may not be on
+     * disk yet. A reader that falls back to the repository must check here first, or it can load a
+     * copy older than the last save.
+     *
+     * @param username the player to look up
+     * @return the unwritten snapshot, or empty when the repository is current for this player
+     */
+    public Optional<Player> pendingSnapshot(Username username) {
+        Pending queuedSave = pending.get(username);
+        if (queuedSave != null) {
+            return Optional.of(queuedSave.snapshot());
+        }
+        return Optional.ofNullable(writing.get(username));
     }
 
     /**
@@ -105,7 +200,8 @@ public class PersistenceQueue implements AutoCloseable {
      * <p>The player is defensively snapshotted via {@link Player#snapshotForPersistence()}
      * so later tick-thread mutation of the caller's {@code player} instance cannot be
      * observed by the writer thread. If a save for the same username is already
-     * pending, it is replaced by this newer snapshot (coalescing).
+     * pending, it is replaced by this newer snapshot (coalescing), keeping the time the
+     * older one was enqueued.
      *
      * @param player the player to save; must not be {@code null}
      */
@@ -113,9 +209,17 @@ public class PersistenceQueue implements AutoCloseable {
         Objects.requireNonNull(player, "Player is required");
         Username username = player.getUsername();
         Player snapshot = player.snapshotForPersistence();
-        pending.put(username, snapshot);
+        pending.merge(username, new Pending(snapshot, System.nanoTime()),
+            (older, newer) -> new Pending(newer.snapshot(), older.enqueuedNanos()));
         if (queued.add(username)) {
-            dirtyUsernames.add(username);
+            laneFor(username).dirtyUsernames.add(username);
+        }
+        for (Consumer<Player> listener : saveListeners) {
+            try {
+                listener.accept(snapshot);
+            } catch (RuntimeException e) {
+                log.error("Save listener failed for player {}", username, e);
+            }
         }
     }
 
@@ -156,32 +260,54 @@ public class PersistenceQueue implements AutoCloseable {
     }
 
     /**
-     * Stops the worker thread. Callers that need pending saves to be durable first
+     * Stops the writer threads. Callers that need pending saves to be durable first
      * must call {@link #flush(Duration)} before closing.
      */
     @Override
     public void close() {
         running = false;
-        Thread thread = workerThread.get();
-        if (thread != null) {
-            thread.interrupt();
+        for (Lane lane : lanes) {
+            Thread thread = lane.thread;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+        for (Lane lane : lanes) {
+            Thread thread = lane.thread;
+            if (thread == null) {
+                continue;
+            }
             try {
                 thread.join(Duration.ofSeconds(5).toMillis());
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
+                return;
             }
         }
     }
 
+    private Lane laneFor(Username username) {
+        return lanes[Math.floorMod(username.hashCode(), lanes.length)];
+    }
+
     private boolean isIdle() {
-        return pending.isEmpty() && dirtyUsernames.isEmpty() && inFlight.get() == 0;
+        if (!pending.isEmpty() || inFlight.get() != 0) {
+            return false;
+        }
+        for (Lane lane : lanes) {
+            if (!lane.dirtyUsernames.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    private void runWorker() {
+    private void runWorker(Lane lane) {
+        List<Username> batch = new ArrayList<>(maxBatch);
         while (running) {
-            Username username;
+            Username first;
             try {
-                username = dirtyUsernames.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                first = lane.dirtyUsernames.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 if (!running) {
@@ -189,30 +315,71 @@ public class PersistenceQueue implements AutoCloseable {
                 }
                 continue;
             }
-            if (username == null) {
+            if (first == null) {
                 continue;
             }
-            // Mark this username as "in flight" before touching pending/queued so a
-            // concurrent flush() cannot observe a false "idle" window between the
-            // blocking-queue take (above) and the save (including its retry) completing.
-            inFlight.incrementAndGet();
+            batch.add(first);
+            lane.dirtyUsernames.drainTo(batch, maxBatch - 1);
+            // Mark the batch as "in flight" before touching pending/queued so a concurrent
+            // flush() cannot observe a false "idle" window between taking the usernames off
+            // the lane and their saves (including retries and the sync) completing.
+            inFlight.addAndGet(batch.size());
             try {
-                queued.remove(username);
-                Player snapshot = pending.remove(username);
-                if (snapshot != null) {
-                    saveWithRetry(snapshot);
-                }
+                writeBatch(batch);
+            } finally {
+                inFlight.addAndGet(-batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<Username> batch) {
+        int written = 0;
+        for (Username username : batch) {
+            queued.remove(username);
+            Pending next = pending.get(username);
+            if (next == null) {
+                continue;
+            }
+            // Publish to writing before leaving pending, so pendingSnapshot never has a gap in which
+            // a reader falls through to the repository's older copy.
+            writing.put(username, next.snapshot());
+            while (!pending.remove(username, next)) {
+                // A newer snapshot was merged in meanwhile; write that one. Only this lane's writer
+                // removes entries for this username, so it is still there.
+                next = Objects.requireNonNull(pending.get(username));
+                writing.put(username, next.snapshot());
+            }
+            PlayerSaveEvent event = new PlayerSaveEvent();
+            event.begin();
+            long start = System.nanoTime();
+            long age = start - next.enqueuedNanos();
+            queueAge.record(age, TimeUnit.NANOSECONDS);
+            boolean saved;
+            try {
+                saved = saveWithRetry(next.snapshot());
             } finally {
-                inFlight.decrementAndGet();
+                writing.remove(username, next.snapshot());
             }
+            saveLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.complete(username.getValue(), age, saved);
+            written++;
+        }
+        if (written == 0) {
+            return;
+        }
+        try {
+            playerRepository.sync();
+        } catch (RepositoryException e) {
+            log.warn("Failed to sync {} player save(s) to stable storage", written, e);
         }
     }
 
-    private void saveWithRetry(Player snapshot) {
+    private boolean saveWithRetry(Player snapshot) {
         try {
             playerRepository.savePlayer(snapshot);
             saveSuccessCounter.increment();
-            return;
+            return true;
         } catch (RepositoryException e) {
             log.warn("Failed to save player {} (write-behind); retrying once", snapshot.getUsername(), e);
         }
@@ -224,6 +391,7 @@ public class PersistenceQueue implements AutoCloseable {
         try {
             playerRepository.savePlayer(snapshot);
             saveSuccessCounter.increment();
+            return true;
         } catch (RepositoryException e) {
             failureCount.incrementAndGet();
             saveFailureCounter.increment();
@@ -237,6 +405,17 @@ public class PersistenceQueue implements AutoCloseable {
                 auditService.newCorrelationId(),
                 Map.of()
             ));
+            return false;
         }
     }
+
+    /** A snapshot waiting to be written, with when its oldest unsaved change was enqueued. */
+    private record Pending(Player snapshot, long enqueuedNanos) {
+    }
+
+    /** One writer lane: the usernames striped to it and the thread that writes them. */
+    private static final class Lane {
+        final BlockingQueue<Username> dirtyUsernames = new LinkedBlockingQueue<>();
+        volatile @Nullable Thread thread;
+    }
 }
@@ -0,0 +1,113 @@
+package io.taanielo.jmud.core.persistence;
+
+import java.nio.file.Path;
+
+import io.taanielo.jmud.core.config.GameConfig;
+
+/**
+ * Configuration for the write-behind {@link PersistenceQueue} and the player files it writes.
+ *
+ * <p>Values are read once from {@link GameConfig} following the same static-settings pattern as
+ * {@link io.taanielo.jmud.core.audit.AuditSettings}.
+ */
+public final class PersistenceSettings {
+
+    /** Default number of writer lanes players are striped across. */
+    public static final int DEFAULT_WRITERS = 4;
+
+    /** Default most saves one lane writes before syncing the players directory. */
+    public static final int DEFAULT_MAX_BATCH = 64;
+
+    /** Default for forcing player files and the players directory to stable storage. */
+    public static final boolean DEFAULT_FSYNC = false;
+
+    /** Default player save backend. */
+    public static final PlayerStoreBackend DEFAULT_PLAYER_STORE = PlayerStoreBackend.JSON;
+
+    /** Default path of the single-file player store. */
+    public static final String DEFAULT_PLAYER_STORE_PATH = "players.store";
+
+    /** Default number of offline players the player directory keeps cached. */
+    public static final int DEFAULT_OFFLINE_CACHE_SIZE = 256;
+
+    private static final GameConfig CONFIG = GameConfig.load();
+
+    private PersistenceSettings() {
+    }
+
+    /**
+     * Returns how many writer lanes players are striped across by username; one player's saves
+     * always go through the same lane, so they are written in order.
+     *
+     * @return a positive lane count
+     * @throws IllegalArgumentException if the configured value is not positive
+     */
+    public static int writers() {
+        int writers = CONFIG.getInt("jmud.persistence.writers", DEFAULT_WRITERS);
+        if (writers < 1) {
+            throw new IllegalArgumentException("Persistence writer count must be >= 1");
+        }
+        return writers;
+    }
+
+    /**
+     * Returns the most saves a lane takes in one batch; with fsync enabled the players directory is
+     * synced once per batch rather than once per save.
+     *
+     * @return a positive batch size
+     * @throws IllegalArgumentException if the configured value is not positive
+     */
+    public static int maxBatch() {
+        int size = CONFIG.getInt("jmud.persistence.max_batch", DEFAULT_MAX_BATCH);
+        if (size < 1) {
+            throw new IllegalArgumentException("Persistence max batch must be >= 1");
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether each player file is forced to stable storage before it replaces the old one,
+     * and the players directory after each batch, so a save survives a power loss and not just a
+     * process crash.
+     *
+     * @return {@code true} to fsync player saves
+     */
+    public static boolean fsync() {
+        return CONFIG.getBoolean("jmud.persistence.fsync", DEFAULT_FSYNC);
+    }
+
+    /**
+     * Returns which backend player saves go to.
+     *
+     * @return the configured backend
+     * @throws IllegalArgumentException if the configured value names no backend
+     */
+    public static PlayerStoreBackend playerStore() {
+        return PlayerStoreBackend.parse(CONFIG.getString("jmud.persistence.player_store", DEFAULT_PLAYER_STORE.name()));
+    }
+
+    /**
+     * Returns the file the {@link PlayerStoreBackend#SINGLE_FILE} backend keeps players in, and the
+     * target of {@code --migrate-players}.
+     *
+     * @return the store path
+     */
+    public static Path playerStorePath() {
+        return Path.of(CONFIG.getString("jmud.persistence.player_store_path", DEFAULT_PLAYER_STORE_PATH));
+    }
+
+    /**
+     * Returns how many offline players the player directory keeps in memory, so party, mail and
+     * marriage lookups of the same offline players do not read their files again.
+     *
+     * @return a non-negative cache size; {@code 0} disables the cache
+     * @throws IllegalArgumentException if the configured value is negative
+     */
+    public static int offlineCacheSize() {
+        int size = CONFIG.getInt("jmud.persistence.offline_cache_size", DEFAULT_OFFLINE_CACHE_SIZE);
+        if (size < 0) {
+            throw new IllegalArgumentException("Offline player cache size must be >= 0");
+        }
+        return size;
+    }
+}
@@ -0,0 +1,24 @@
+package io.taanielo.jmud.core.persistence;
+
+import java.util.Locale;
+
+/**
+ * Where player saves are kept.
+ */
+public enum PlayerStoreBackend {
+    /** One JSON file per player under {@code players/}. */
+    JSON,
+    /** Every player in one append-only store file. */
+    SINGLE_FILE;
+
+    /**
+     * Parses a backend name case-insensitively, accepting {@code single-file} for {@link #SINGLE_FILE}.
+     *
+     * @param raw the configured value
+     * @return the backend
+     * @throws IllegalArgumentException if {@code raw} names no backend
+     */
+    public static PlayerStoreBackend parse(String raw) {
+        return valueOf(raw.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,13 +1,18 @@
 package io.taanielo.jmud.core.player;
 
 import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -21,14 +26,31 @@ import io.taanielo.jmud.core.world.repository.RepositoryException;
 public class JsonPlayerRepository implements PlayerRepository {
 
     private static final String PLAYERS_DIR = "players";
+    /** Most player files {@link #findAll()} reads at once. */
+    private static final int MAX_PARALLEL_READS = 16;
+
     private final ObjectMapper objectMapper;
     private final Path playersDirPath;
+    private final boolean fsync;
 
     public JsonPlayerRepository() {
         this(Path.of("."));
     }
 
     public JsonPlayerRepository(Path dataRoot) {
+        this(dataRoot, false);
+    }
+
+    /**
+     * Creates a repository storing one JSON file per player under {@code dataRoot/players}.
+     *
+     * @param dataRoot the data directory
+     * @param fsync    whether each player file is forced to stable storage before it replaces the
+     *                 old one, and {@link #sync()} forces the players directory so the replacements
+     *                 themselves survive a power loss
+     */
+    public JsonPlayerRepository(Path dataRoot, boolean fsync) {
+        this.fsync = fsync;
         this.objectMapper = new ObjectMapper();
         this.objectMapper.findAndRegisterModules();
         // Tolerate unknown properties on read so that legacy saves — including ones written before
@@ -54,6 +76,11 @@ public class JsonPlayerRepository implements PlayerRepository {
         try {
             // Write to a temporary file first for atomic write
             objectMapper.writeValue(tempFilePath.toFile(), player);
+            if (fsync) {
+                try (FileChannel channel = FileChannel.open(tempFilePath, StandardOpenOption.WRITE)) {
+                    channel.force(true);
+                }
+            }
             // Replace the original file with the temporary file
             Files.move(tempFilePath, playerFilePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
             log.info("Player {} saved successfully to {}", player.getUsername(), playerFilePath);
@@ -63,6 +90,22 @@ public class JsonPlayerRepository implements PlayerRepository {
         }
     }
 
+    /**
+     * Forces the players directory to stable storage, making every rename since the last sync
+     * durable. Does nothing unless the repository was created with fsync enabled.
+     */
+    @Override
+    public void sync() throws RepositoryException {
+        if (!fsync) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(playersDirPath, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to sync players directory " + playersDirPath, e);
+        }
+    }
+
     @Override
     public Optional<Player> loadPlayer(Username username) {
         Path playerFilePath = getPlayerFilePath(username);
@@ -82,23 +125,59 @@ public class JsonPlayerRepository implements PlayerRepository {
     }
 
     @Override
-    public List<Player> findAll() {
+    public List<Player> findAll() throws RepositoryException {
+        return scan(true);
+    }
+
+    @Override
+    public List<Player> findAllReadable() throws RepositoryException {
+        return scan(false);
+    }
+
+    /**
+     * Reads every player file. An unreadable file is always logged; when {@code strict} it also
+     * fails the scan, otherwise it is left out of the result.
+     */
+    private List<Player> scan(boolean strict) throws RepositoryException {
         if (!Files.exists(playersDirPath)) {
             return List.of();
         }
-        List<Player> players = new ArrayList<>();
+        List<Path> paths;
         try (var stream = Files.list(playersDirPath)) {
-            for (Path path : stream.filter(p -> p.toString().endsWith(".json")).toList()) {
-                try {
-                    Player player = objectMapper.readValue(path.toFile(), Player.class);
-                    players.add(player);
-                } catch (IOException e) {
-                    log.error("Failed to load player from {}", path, e);
-                }
-            }
+            paths = stream.filter(p -> p.toString().endsWith(".json")).toList();
         } catch (IOException e) {
-            log.error("Failed to list players directory {}", playersDirPath, e);
-            return List.of();
+            throw new RepositoryException("Failed to list players directory " + playersDirPath, e);
+        }
+        // Parse the files in parallel: a full scan is dominated by per-file read and parse latency. The
+        // pool is bounded so a large directory cannot open more files at once than the process may.
+        List<Future<Player>> loads = new ArrayList<>(paths.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+            MAX_PARALLEL_READS, Thread.ofVirtual().name("player-scan-", 0).factory())) {
+            for (Path path : paths) {
+                loads.add(executor.submit(() -> objectMapper.readValue(path.toFile(), Player.class)));
+            }
+        }
+        List<Player> players = new ArrayList<>(loads.size());
+        RepositoryException failure = null;
+        for (int i = 0; i < loads.size(); i++) {
+            Future<Player> load = loads.get(i);
+            if (load.state() == Future.State.SUCCESS) {
+                players.add(load.resultNow());
+                continue;
+            }
+            Throwable cause = load.exceptionNow();
+            log.error("Failed to load player from {}", paths.get(i), cause);
+            if (!strict) {
+                continue;
+            }
+            if (failure == null) {
+                failure = new RepositoryException("Failed to load player from " + paths.get(i), cause);
+            } else {
+                failure.addSuppressed(cause);
+            }
+        }
+        if (failure != null) {
+            throw failure;
         }
         return List.copyOf(players);
     }
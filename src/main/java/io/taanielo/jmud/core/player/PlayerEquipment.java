@@ -68,4 +68,20 @@ public class PlayerEquipment {
         }
         return null;
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof PlayerEquipment that)) {
+            return false;
+        }
+        return slots.equals(that.slots);
+    }
+
+    @Override
+    public int hashCode() {
+        return slots.hashCode();
+    }
 }
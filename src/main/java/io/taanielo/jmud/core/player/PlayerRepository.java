@@ -23,6 +23,18 @@ public interface PlayerRepository {
 
     Optional<Player> loadPlayer(Username username);
 
+    /**
+     * Forces every player saved so far to stable storage.
+     *
+     * <p>The write-behind queue calls this once after each batch of saves, so an implementation
+     * that syncs can make a whole batch durable at once. The default implementation does nothing,
+     * for stores that are durable on save or do not sync.
+     *
+     * @throws RepositoryException if the saves could not be synced
+     */
+    default void sync() throws RepositoryException {
+    }
+
     /**
      * Loads every persisted player, including those not currently online.
      *
@@ -35,11 +47,31 @@ public interface PlayerRepository {
      * do not need to be updated.
      *
      * @return an immutable snapshot of all persisted players
+     * @throws RepositoryException if storage cannot be scanned or any player record cannot be read;
+     *                             no partial list is returned, so a caller never mistakes a damaged
+     *                             record for a missing player
      */
-    default List<Player> findAll() {
+    default List<Player> findAll() throws RepositoryException {
         return List.of();
     }
 
+    /**
+     * Loads every persisted player that can be read, logging and skipping damaged records.
+     *
+     * <p>For callers such as leaderboard seeding, where one damaged save must not stop the server.
+     * Callers that copy or rewrite every record use {@link #findAll()}, which fails instead. The
+     * same blocking-I/O rules apply.
+     *
+     * <p>The default implementation delegates to {@link #findAll()}, which suits stores whose
+     * records cannot be individually damaged, such as in-memory test doubles.
+     *
+     * @return an immutable snapshot of every readable persisted player
+     * @throws RepositoryException if storage cannot be scanned at all
+     */
+    default List<Player> findAllReadable() throws RepositoryException {
+        return findAll();
+    }
+
     /**
      * Deletes the persisted record for the given player.
      *
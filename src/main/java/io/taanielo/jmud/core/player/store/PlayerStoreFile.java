@@ -0,0 +1,463 @@
+package io.taanielo.jmud.core.player.store;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * The on-disk format of the single-file player store: an append-only log of player records packed
+ * into fixed-size pages.
+ *
+ * <p>The file opens with a {@value #HEADER_SIZE}-byte header (magic and format version). Every save
+ * appends a put record and every delete a tombstone; the newest record for a username wins. A record
+ * that fits in a page never straddles a page boundary — the rest of the page is zero-filled instead —
+ * and a larger record starts on a page boundary, so a torn write damages at most the records at the
+ * tail. Each record carries a CRC-32. Opening the file skips a record that is incomplete or fails its
+ * checksum to the next page boundary — the next place a whole record can start — so damage mid-file
+ * loses only that page's records, and truncates whatever follows the last good record.
+ *
+ * <p>Superseded records stay in the file until {@link #compact()} rewrites the live ones into a
+ * sibling file and atomically renames it over the original, so a crash mid-compaction leaves the old
+ * file intact.
+ *
+ * <p>Record layout (big-endian): {@code int length} (whole record; 0 marks page padding),
+ * {@code int crc32} (of everything after it), {@code byte kind}, {@code short} + UTF-8 username,
+ * then the JSON payload (empty for a tombstone). Not thread-safe; {@link StorePlayerRepository}
+ * guards every call.
+ */
+@Slf4j
+final class PlayerStoreFile implements AutoCloseable {
+
+    /** Page size in bytes. */
+    static final int PAGE_SIZE = 4096;
+    static final int HEADER_SIZE = 16;
+
+    private static final byte[] MAGIC = "JMUDPLYR".getBytes(StandardCharsets.US_ASCII);
+    private static final int VERSION = 2;
+    private static final byte KIND_PUT = 1;
+    private static final byte KIND_DELETE = 2;
+    /** length, crc, kind, username length. */
+    private static final int FIXED_RECORD_BYTES = 4 + 4 + 1 + 2;
+
+    private final Path path;
+    private FileChannel channel;
+    private long end;
+    private long liveBytes;
+    /** Newest put record per player, keyed case-insensitively like {@code Username}. */
+    private final Map<String, Entry> live = new HashMap<>();
+
+    /**
+     * The location of a live record.
+     *
+     * @param username the stored username
+     * @param offset   the record's position in the file
+     * @param length   the record's length in bytes
+     */
+    record Entry(String username, long offset, int length) {
+    }
+
+    private PlayerStoreFile(Path path, FileChannel channel) {
+        this.path = path;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens (creating if needed) a store file and recovers its live records.
+     *
+     * @param path the store file
+     * @return the open store
+     * @throws IOException if the file cannot be read or is not a player store
+     */
+    static PlayerStoreFile open(Path path) throws IOException {
+        Objects.requireNonNull(path, "Path is required");
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        // A leftover compaction file means a compaction never reached its rename; the original is whole.
+        Files.deleteIfExists(compactionPath(path));
+        FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        PlayerStoreFile store = new PlayerStoreFile(path, channel);
+        try {
+            store.recover();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * Returns the live records' entries.
+     *
+     * @return a snapshot of every live entry
+     */
+    List<Entry> entries() {
+        return List.copyOf(live.values());
+    }
+
+    /**
+     * Returns every live entry ordered by file position, for a sequential full read.
+     *
+     * @return the live entries in file order
+     */
+    List<Entry> entriesInFileOrder() {
+        List<Entry> entries = new ArrayList<>(live.values());
+        entries.sort(Comparator.comparingLong(Entry::offset));
+        return entries;
+    }
+
+    /**
+     * Returns the live entry for a stored username.
+     *
+     * @param username the username, in any case
+     * @return the entry, or {@code null} when the player has no live record
+     */
+    @Nullable Entry entry(String username) {
+        return live.get(key(username));
+    }
+
+    /**
+     * Reads a live record's JSON payload.
+     *
+     * @param entry the record
+     * @return the payload bytes
+     * @throws IOException if the record cannot be read or no longer matches its checksum
+     */
+    byte[] read(Entry entry) throws IOException {
+        ByteBuffer record = readFully(entry.offset(), entry.length());
+        Decoded decoded = decode(record);
+        if (decoded == null) {
+            throw new IOException("Corrupt player record for " + entry.username() + " at offset " + entry.offset());
+        }
+        return decoded.payload();
+    }
+
+    /**
+     * Appends a put record for a player.
+     *
+     * @param username the player's username
+     * @param payload  the player's JSON
+     * @throws IOException if the record cannot be written
+     */
+    void put(String username, byte[] payload) throws IOException {
+        ByteBuffer record = encode(KIND_PUT, username, payload);
+        int length = record.remaining();
+        long offset = append(record);
+        Entry previous = live.put(key(username), new Entry(username, offset, length));
+        if (previous != null) {
+            liveBytes -= previous.length();
+        }
+        liveBytes += length;
+    }
+
+    /**
+     * Appends a tombstone for a player.
+     *
+     * @param username the player's username
+     * @return whether the player had a live record
+     * @throws IOException if the tombstone cannot be written
+     */
+    boolean delete(String username) throws IOException {
+        Entry previous = live.remove(key(username));
+        if (previous == null) {
+            return false;
+        }
+        liveBytes -= previous.length();
+        append(encode(KIND_DELETE, username, new byte[0]));
+        return true;
+    }
+
+    /**
+     * Forces every appended record to stable storage.
+     *
+     * @throws IOException if the sync fails
+     */
+    void force() throws IOException {
+        channel.force(false);
+    }
+
+    /**
+     * Returns the file size in bytes.
+     *
+     * @return the end of the last record
+     */
+    long size() {
+        return end;
+    }
+
+    /**
+     * Returns how many bytes of the file are superseded records, tombstones and page padding.
+     *
+     * @return the reclaimable bytes
+     */
+    long deadBytes() {
+        return end - HEADER_SIZE - liveBytes;
+    }
+
+    /**
+     * Rewrites the live records into a fresh file and atomically replaces this one with it.
+     *
+     * @throws IOException if compaction fails; the existing file stays in use
+     */
+    void compact() throws IOException {
+        Path target = compactionPath(path);
+        Map<String, Entry> moved = new HashMap<>();
+        long compactedEnd;
+        try (FileChannel out = FileChannel.open(
+            target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            writeFully(out, header(), 0);
+            long position = HEADER_SIZE;
+            for (Entry entry : live.values()) {
+                ByteBuffer record = readFully(entry.offset(), entry.length());
+                position = alignFor(out, position, entry.length());
+                writeFully(out, record, position);
+                moved.put(key(entry.username()), new Entry(entry.username(), position, entry.length()));
+                position += entry.length();
+            }
+            out.force(true);
+            compactedEnd = position;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        // Open the compacted file before the rename and keep the current channel until it succeeds, so a
+        // failure at any step leaves this store working on the original file.
+        FileChannel compacted;
+        try {
+            compacted = FileChannel.open(target, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        try {
+            Files.move(target, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            compacted.close();
+            Files.deleteIfExists(target);
+            throw e;
+        }
+        FileChannel replaced = channel;
+        channel = compacted;
+        try {
+            replaced.close();
+        } catch (IOException e) {
+            log.warn("Failed to close the pre-compaction channel of {}", path, e);
+        }
+        syncDirectory(path);
+        long before = end;
+        end = compactedEnd;
+        live.clear();
+        live.putAll(moved);
+        log.info("Compacted player store {} from {} to {} bytes", path, before, end);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void recover() throws IOException {
+        long fileSize = channel.size();
+        if (fileSize == 0) {
+            writeFully(channel, header(), 0);
+            channel.force(true);
+            end = HEADER_SIZE;
+            return;
+        }
+        ByteBuffer header = readFully(0, (int) Math.min(HEADER_SIZE, fileSize));
+        if (header.remaining() < HEADER_SIZE || !Arrays.equals(bytes(header, MAGIC.length), MAGIC)) {
+            throw new IOException(path + " is not a player store");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported player store version " + version + " in " + path);
+        }
+        long position = HEADER_SIZE;
+        long validEnd = HEADER_SIZE;
+        long corruptFrom = -1;
+        while (position < fileSize) {
+            long pageLeft = PAGE_SIZE - position % PAGE_SIZE;
+            if (pageLeft < 4) {
+                position += pageLeft;
+                continue;
+            }
+            if (position + 4 > fileSize) {
+                // A length field torn off at the tail.
+                break;
+            }
+            int length = readFully(position, 4).getInt();
+            if (length == 0) {
+                position += pageLeft;
+                continue;
+            }
+            Decoded decoded = length < FIXED_RECORD_BYTES || position + length > fileSize
+                ? null
+                : decode(readFully(position, length));
+            if (decoded == null) {
+                if (corruptFrom < 0) {
+                    corruptFrom = position;
+                }
+                position += pageLeft;
+                continue;
+            }
+            if (corruptFrom >= 0) {
+                log.error("Skipped {} byte(s) of corrupt player records at offset {} of {}; "
+                    + "the records in them are lost", position - corruptFrom, corruptFrom, path);
+                corruptFrom = -1;
+            }
+            apply(decoded, position, length);
+            position += length;
+            validEnd = position;
+        }
+        end = validEnd;
+        if (end < fileSize) {
+            log.warn("Discarding {} byte(s) of incomplete or corrupt records at the end of {}", fileSize - end, path);
+            channel.truncate(end);
+            channel.force(true);
+        }
+    }
+
+    private void apply(Decoded record, long offset, int length) {
+        Entry previous = record.kind() == KIND_PUT
+            ? live.put(key(record.username()), new Entry(record.username(), offset, length))
+            : live.remove(key(record.username()));
+        if (previous != null) {
+            liveBytes -= previous.length();
+        }
+        if (record.kind() == KIND_PUT) {
+            liveBytes += length;
+        }
+    }
+
+    private long append(ByteBuffer record) throws IOException {
+        long offset = alignFor(channel, end, record.remaining());
+        writeFully(channel, record, offset);
+        end = offset + record.limit();
+        return offset;
+    }
+
+    /**
+     * Returns where a record of the given length goes, zero-filling the rest of the current page if
+     * the record would otherwise cross into the next one.
+     */
+    private static long alignFor(FileChannel out, long position, int length) throws IOException {
+        long pageLeft = PAGE_SIZE - position % PAGE_SIZE;
+        if (pageLeft == PAGE_SIZE || length <= pageLeft) {
+            return position;
+        }
+        writeFully(out, ByteBuffer.allocate((int) pageLeft), position);
+        return position + pageLeft;
+    }
+
+    private static ByteBuffer encode(byte kind, String username, byte[] payload) {
+        byte[] name = username.getBytes(StandardCharsets.UTF_8);
+        if (name.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Username too long for the player store");
+        }
+        int length = FIXED_RECORD_BYTES + name.length + payload.length;
+        ByteBuffer record = ByteBuffer.allocate(length);
+        record.putInt(length);
+        record.putInt(0);
+        record.put(kind);
+        record.putShort((short) name.length).put(name);
+        record.put(payload);
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 8, length - 8);
+        record.putInt(4, (int) crc.getValue());
+        return record.flip();
+    }
+
+    private static @Nullable Decoded decode(ByteBuffer record) {
+        int length = record.remaining();
+        if (length < FIXED_RECORD_BYTES || record.getInt(0) != length) {
+            return null;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), record.arrayOffset() + 8, length - 8);
+        if (record.getInt(4) != (int) crc.getValue()) {
+            return null;
+        }
+        record.position(8);
+        byte kind = record.get();
+        if (kind != KIND_PUT && kind != KIND_DELETE) {
+            return null;
+        }
+        String username = new String(bytes(record, record.getShort()), StandardCharsets.UTF_8);
+        byte[] payload = bytes(record, record.remaining());
+        return new Decoded(kind, username, payload);
+    }
+
+    private static byte[] bytes(ByteBuffer buffer, int count) {
+        byte[] bytes = new byte[count];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.put(MAGIC).putInt(VERSION);
+        return header.flip();
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                break;
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel out, ByteBuffer buffer, long position) throws IOException {
+        long at = position;
+        while (buffer.hasRemaining()) {
+            at += out.write(buffer, at);
+        }
+    }
+
+    private static String key(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private static Path compactionPath(Path path) {
+        return path.resolveSibling(path.getFileName() + ".compact");
+    }
+
+    private static void syncDirectory(Path path) {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent == null) {
+            return;
+        }
+        try (FileChannel directory = FileChannel.open(parent, StandardOpenOption.READ)) {
+            directory.force(true);
+        } catch (IOException e) {
+            log.debug("Could not sync directory {}", parent, e);
+        }
+    }
+
+    /** One record as read back from the file; private and never shared, so the payload is not copied. */
+    @SuppressWarnings("ArrayRecordComponent")
+    private record Decoded(byte kind, String username, byte[] payload) {
+    }
+}
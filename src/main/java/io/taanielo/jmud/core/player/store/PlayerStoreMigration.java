@@ -0,0 +1,46 @@
+package io.taanielo.jmud.core.player.store;
+
+import java.util.List;
+import java.util.Objects;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+/**
+ * Copies every player from one repository into another; the {@code --migrate-players} startup mode
+ * uses it to move the JSON players directory into a single-file store.
+ *
+ * <p>Re-running a migration is safe: each copied player overwrites the target's record for the same
+ * username, and players only present in the target are left alone. The server must be stopped while
+ * it runs.
+ */
+@Slf4j
+public final class PlayerStoreMigration {
+
+    private PlayerStoreMigration() {
+    }
+
+    /**
+     * Copies every player in {@code source} into {@code target}, then syncs the target.
+     *
+     * @param source the repository to read from
+     * @param target the repository to write to
+     * @return the number of players copied
+     * @throws RepositoryException if a player cannot be read or written, or the target cannot be synced;
+     *                             nothing is copied when a source player cannot be read
+     */
+    public static int migrate(PlayerRepository source, PlayerRepository target) throws RepositoryException {
+        Objects.requireNonNull(source, "Source repository is required");
+        Objects.requireNonNull(target, "Target repository is required");
+        List<Player> players = source.findAll();
+        for (Player player : players) {
+            target.savePlayer(player);
+        }
+        target.sync();
+        log.info("Migrated {} player(s)", players.size());
+        return players.size();
+    }
+}
@@ -0,0 +1,260 @@
+package io.taanielo.jmud.core.player.store;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+/**
+ * A {@link PlayerRepository} that keeps every player in a single append-only store file (see
+ * {@link PlayerStoreFile}) instead of one JSON file per player.
+ *
+ * <p>A save appends one record, so the write-behind queue's batch sync becomes a single
+ * {@code fsync} of one file. Player payloads are the same JSON the directory repository writes, so
+ * either backend can read what the other exported.
+ *
+ * <p>Once superseded records outweigh live ones and exceed {@value #COMPACT_MIN_DEAD_BYTES} bytes,
+ * the next save compacts the file. Reads run concurrently; saves, deletes and compaction take an
+ * exclusive lock.
+ */
+@Slf4j
+public class StorePlayerRepository implements PlayerRepository, AutoCloseable {
+
+    /** Dead bytes a store must hold before a save triggers compaction. */
+    public static final long COMPACT_MIN_DEAD_BYTES = 1L << 20;
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+    private final boolean fsync;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PlayerStoreFile file;
+
+    /**
+     * Opens (creating if needed) a player store without fsync.
+     *
+     * @param path the store file
+     * @throws RepositoryException if the file cannot be opened or is not a player store
+     */
+    public StorePlayerRepository(Path path) throws RepositoryException {
+        this(path, false);
+    }
+
+    /**
+     * Opens (creating if needed) a player store.
+     *
+     * @param path  the store file
+     * @param fsync whether {@link #sync()} forces the file to stable storage
+     * @throws RepositoryException if the file cannot be opened or is not a player store
+     */
+    public StorePlayerRepository(Path path, boolean fsync) throws RepositoryException {
+        this.path = Objects.requireNonNull(path, "Path is required");
+        this.fsync = fsync;
+        this.objectMapper = new ObjectMapper();
+        this.objectMapper.findAndRegisterModules();
+        this.objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        try {
+            this.file = PlayerStoreFile.open(path);
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to open player store " + path, e);
+        }
+        log.info("Opened player store {} with {} player(s)", path, file.entries().size());
+    }
+
+    @Override
+    public void savePlayer(Player player) throws RepositoryException {
+        Objects.requireNonNull(player, "Player is required");
+        String username = player.getUsername().getValue();
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(player);
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to serialize player " + username, e);
+        }
+        lock.writeLock().lock();
+        try {
+            try {
+                file.put(username, payload);
+            } catch (IOException e) {
+                log.error("Failed to save player {}", username, e);
+                throw new RepositoryException("Failed to save player " + username, e);
+            }
+            compactIfMostlyDead();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Player {} saved to {}", username, path);
+    }
+
+    /**
+     * Compacts once dead records outweigh live ones. The save that triggered it is already written,
+     * so a failure is only logged: reporting it would make the caller retry and append a duplicate.
+     * The next save tries again.
+     */
+    private void compactIfMostlyDead() {
+        if (file.deadBytes() <= COMPACT_MIN_DEAD_BYTES || file.deadBytes() <= file.size() / 2) {
+            return;
+        }
+        try {
+            file.compact();
+        } catch (IOException e) {
+            log.warn("Failed to compact player store {}; will retry after a later save", path, e);
+        }
+    }
+
+    /**
+     * Forces every saved record to stable storage. Does nothing unless the store was opened with
+     * fsync enabled.
+     */
+    @Override
+    public void sync() throws RepositoryException {
+        if (!fsync) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            file.force();
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to sync player store " + path, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Player> loadPlayer(Username username) {
+        Objects.requireNonNull(username, "Username is required");
+        byte[] payload;
+        lock.readLock().lock();
+        try {
+            PlayerStoreFile.Entry entry = file.entry(username.getValue());
+            if (entry == null) {
+                log.debug("Player record not found for {}", username);
+                return Optional.empty();
+            }
+            payload = file.read(entry);
+        } catch (IOException e) {
+            log.error("Failed to load player {}", username, e);
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(payload, Player.class));
+        } catch (IOException e) {
+            log.error("Failed to parse player {}", username, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Loads every stored player with one sequential pass over the file.
+     */
+    @Override
+    public List<Player> findAll() throws RepositoryException {
+        return scan(true);
+    }
+
+    @Override
+    public List<Player> findAllReadable() throws RepositoryException {
+        return scan(false);
+    }
+
+    /**
+     * Reads every stored record. An unreadable record is always logged; when {@code strict} it also
+     * fails the scan, otherwise it is left out of the result.
+     */
+    private List<Player> scan(boolean strict) throws RepositoryException {
+        List<PlayerStoreFile.Entry> entries = new ArrayList<>();
+        List<byte[]> payloads = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (PlayerStoreFile.Entry entry : file.entriesInFileOrder()) {
+                try {
+                    payloads.add(file.read(entry));
+                    entries.add(entry);
+                } catch (IOException e) {
+                    log.error("Failed to read player {} from {}", entry.username(), path, e);
+                    if (strict) {
+                        throw new RepositoryException(
+                            "Failed to read player " + entry.username() + " from " + path, e);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Player> players = new ArrayList<>(payloads.size());
+        for (int i = 0; i < payloads.size(); i++) {
+            try {
+                players.add(objectMapper.readValue(payloads.get(i), Player.class));
+            } catch (IOException e) {
+                String username = entries.get(i).username();
+                log.error("Failed to parse player {} from {}", username, path, e);
+                if (strict) {
+                    throw new RepositoryException("Failed to parse player " + username + " from " + path, e);
+                }
+            }
+        }
+        return List.copyOf(players);
+    }
+
+    @Override
+    public boolean deletePlayer(Username username) {
+        Objects.requireNonNull(username, "Username is required");
+        lock.writeLock().lock();
+        try {
+            boolean deleted = file.delete(username.getValue());
+            if (deleted) {
+                log.info("Player {} record deleted from {}", username, path);
+            }
+            return deleted;
+        } catch (IOException e) {
+            log.error("Failed to delete player {} from {}", username, path, e);
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Rewrites the store with only its live records.
+     *
+     * @throws RepositoryException if compaction fails; the existing file stays in use
+     */
+    public void compact() throws RepositoryException {
+        lock.writeLock().lock();
+        try {
+            file.compact();
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to compact player store " + path, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws RepositoryException {
+        lock.writeLock().lock();
+        try {
+            file.close();
+        } catch (IOException e) {
+            throw new RepositoryException("Failed to close player store " + path, e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * An alternative {@link io.taanielo.jmud.core.player.PlayerRepository} that keeps every player in one
+ * local, page-structured, append-only file instead of one JSON file per player.
+ *
+ * <p>{@link io.taanielo.jmud.core.player.store.StorePlayerRepository} recovers the file on open,
+ * compacts it when superseded records outweigh live ones.
+ * {@link io.taanielo.jmud.core.player.store.PlayerStoreMigration} copies an existing JSON players
+ * directory into a store. The backend is chosen with
+ * {@code jmud.persistence.player_store}.
+ */
+@NullMarked
+package io.taanielo.jmud.core.player.store;
+
+import org.jspecify.annotations.NullMarked;
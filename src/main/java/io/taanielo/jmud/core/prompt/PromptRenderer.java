@@ -1,7 +1,9 @@
 package io.taanielo.jmud.core.prompt;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 import io.taanielo.jmud.core.player.Player;
-import io.taanielo.jmud.core.player.PlayerVitals;
 
 /**
  * Renders the player prompt string by substituting named tokens.
@@ -31,15 +33,16 @@ import io.taanielo.jmud.core.player.PlayerVitals;
  * <p>When colorization is requested the substituted numeric values are wrapped in ANSI color codes,
  * with a distinct color per prompt section (health, mana, movement, experience, level). Literal
  * text in the format is left uncolored.
+ *
+ * <p>Each format is compiled once into a {@link PromptTemplate} and cached by format string, shared
+ * by every renderer instance; rendering appends into a per-thread reusable {@link StringBuilder}.
  */
 public class PromptRenderer {
 
-    private static final String RESET = "[0m";
-    private static final String HEALTH_COLOR = "[31m";
-    private static final String MANA_COLOR = "[36m";
-    private static final String MOVE_COLOR = "[32m";
-    private static final String EXP_COLOR = "[33m";
-    private static final String LEVEL_COLOR = "[35m";
+    /** Formats are per player and short; the cap only guards against unbounded custom formats. */
+    private static final int MAX_CACHED_TEMPLATES = 4096;
+    private static final Map<String, PromptTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(128));
 
     /**
      * Renders the prompt format for the given player.
@@ -77,53 +80,23 @@ public class PromptRenderer {
      * @return the rendered prompt
      */
     public String render(String format, Player player, String partyHp, boolean colorize) {
-        PlayerVitals vitals = player.getVitals();
-        String rendered = format;
-        rendered = rendered.replace("{hp}", value(vitals.hp(), HEALTH_COLOR, colorize));
-        rendered = rendered.replace("{maxHp}", value(vitals.maxHp(), HEALTH_COLOR, colorize));
-        rendered = rendered.replace("{mana}", value(vitals.mana(), MANA_COLOR, colorize));
-        rendered = rendered.replace("{maxMana}", value(vitals.maxMana(), MANA_COLOR, colorize));
-        rendered = rendered.replace("{move}", value(vitals.move(), MOVE_COLOR, colorize));
-        rendered = rendered.replace("{maxMove}", value(vitals.maxMove(), MOVE_COLOR, colorize));
-        rendered = rendered.replace("{exp}", value(player.getExperience(), EXP_COLOR, colorize));
-        rendered = rendered.replace("{partyHp}", partyHp != null ? partyHp : "");
-        rendered = applyPercentTokens(rendered, player, vitals, colorize);
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
         if (player.isResting()) {
-            rendered = "[REST] " + rendered;
+            out.append("[REST] ");
         }
-        return rendered;
+        template(format).renderTo(out, player, partyHp, colorize);
+        return out.toString();
     }
 
-    private String applyPercentTokens(String input, Player player, PlayerVitals vitals, boolean colorize) {
-        StringBuilder result = new StringBuilder(input.length());
-        for (int i = 0; i < input.length(); i++) {
-            char current = input.charAt(i);
-            if (current == '%' && i + 1 < input.length()) {
-                char token = input.charAt(i + 1);
-                String replacement = switch (token) {
-                    case 'h' -> value(vitals.hp(), HEALTH_COLOR, colorize);
-                    case 'H' -> value(vitals.maxHp(), HEALTH_COLOR, colorize);
-                    case 'm' -> value(vitals.mana(), MANA_COLOR, colorize);
-                    case 'M' -> value(vitals.maxMana(), MANA_COLOR, colorize);
-                    case 'v' -> value(vitals.move(), MOVE_COLOR, colorize);
-                    case 'x' -> value(player.getExperience(), EXP_COLOR, colorize);
-                    case 'l' -> value(player.getLevel(), LEVEL_COLOR, colorize);
-                    case '%' -> "%";
-                    default -> null;
-                };
-                if (replacement != null) {
-                    result.append(replacement);
-                    i++;
-                    continue;
-                }
+    private static PromptTemplate template(String format) {
+        PromptTemplate template = TEMPLATES.get(format);
+        if (template == null) {
+            template = PromptTemplate.compile(format);
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) {
+                TEMPLATES.putIfAbsent(format, template);
             }
-            result.append(current);
         }
-        return result.toString();
-    }
-
-    private String value(long amount, String color, boolean colorize) {
-        String text = String.valueOf(amount);
-        return colorize ? color + text + RESET : text;
+        return template;
     }
 }
@@ -0,0 +1,146 @@
+package io.taanielo.jmud.core.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerVitals;
+
+/**
+ * A prompt format compiled once into alternating literal and token segments, so
+ * {@link PromptRenderer} renders a prompt in one append pass instead of re-parsing the format (eight
+ * {@link String#replace} scans plus a percent-token scan) for every prompt it sends.
+ *
+ * <p>Brace and percent tokens are recognised in the same left-to-right pass and substituted values
+ * are never scanned again, so a party member's {@code "80%"} followed by literal text can no longer
+ * be mistaken for a percent token.
+ */
+final class PromptTemplate {
+
+    private enum Token { HP, MAX_HP, MANA, MAX_MANA, MOVE, MAX_MOVE, EXP, LEVEL, PARTY_HP }
+
+    private static final Map<String, Token> BRACE_TOKENS = Map.of(
+        "{hp}", Token.HP,
+        "{maxHp}", Token.MAX_HP,
+        "{mana}", Token.MANA,
+        "{maxMana}", Token.MAX_MANA,
+        "{move}", Token.MOVE,
+        "{maxMove}", Token.MAX_MOVE,
+        "{exp}", Token.EXP,
+        "{partyHp}", Token.PARTY_HP
+    );
+
+    private static final String RESET = "\u001B[0m";
+    private static final String HEALTH_COLOR = "\u001B[31m";
+    private static final String MANA_COLOR = "\u001B[36m";
+    private static final String MOVE_COLOR = "\u001B[32m";
+    private static final String EXP_COLOR = "\u001B[33m";
+    private static final String LEVEL_COLOR = "\u001B[35m";
+
+    /** {@code literals[i]} precedes {@code tokens[i]}; the last literal trails the format. */
+    private final String[] literals;
+    private final Token[] tokens;
+
+    private PromptTemplate(String[] literals, Token[] tokens) {
+        this.literals = literals;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Compiles a prompt format.
+     *
+     * @param format the prompt format string
+     * @return the compiled template
+     */
+    static PromptTemplate compile(String format) {
+        List<String> literals = new ArrayList<>();
+        List<Token> tokens = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        int i = 0;
+        while (i < format.length()) {
+            char current = format.charAt(i);
+            Token token = null;
+            int next = i + 1;
+            if (current == '{') {
+                int close = format.indexOf('}', i);
+                if (close >= 0) {
+                    token = BRACE_TOKENS.get(format.substring(i, close + 1));
+                    next = close + 1;
+                }
+            } else if (current == '%' && i + 1 < format.length()) {
+                char code = format.charAt(i + 1);
+                token = percentToken(code);
+                next = i + 2;
+                if (code == '%') {
+                    literal.append('%');
+                    i = next;
+                    continue;
+                }
+            }
+            if (token == null) {
+                literal.append(current);
+                i++;
+                continue;
+            }
+            literals.add(literal.toString());
+            literal.setLength(0);
+            tokens.add(token);
+            i = next;
+        }
+        literals.add(literal.toString());
+        return new PromptTemplate(literals.toArray(String[]::new), tokens.toArray(Token[]::new));
+    }
+
+    /**
+     * Appends the rendered prompt to {@code out}.
+     *
+     * @param out      the buffer to append to
+     * @param player   the current player
+     * @param partyHp  pre-computed party HP string
+     * @param colorize whether to wrap each value in its section's ANSI colour
+     */
+    void renderTo(StringBuilder out, Player player, String partyHp, boolean colorize) {
+        PlayerVitals vitals = player.getVitals();
+        for (int i = 0; i < tokens.length; i++) {
+            out.append(literals[i]);
+            switch (tokens[i]) {
+                case HP -> value(out, vitals.hp(), HEALTH_COLOR, colorize);
+                case MAX_HP -> value(out, vitals.maxHp(), HEALTH_COLOR, colorize);
+                case MANA -> value(out, vitals.mana(), MANA_COLOR, colorize);
+                case MAX_MANA -> value(out, vitals.maxMana(), MANA_COLOR, colorize);
+                case MOVE -> value(out, vitals.move(), MOVE_COLOR, colorize);
+                case MAX_MOVE -> value(out, vitals.maxMove(), MOVE_COLOR, colorize);
+                case EXP -> value(out, player.getExperience(), EXP_COLOR, colorize);
+                case LEVEL -> value(out, player.getLevel(), LEVEL_COLOR, colorize);
+                case PARTY_HP -> {
+                    if (partyHp != null) {
+                        out.append(partyHp);
+                    }
+                }
+            }
+        }
+        out.append(literals[tokens.length]);
+    }
+
+    private static Token percentToken(char code) {
+        return switch (code) {
+            case 'h' -> Token.HP;
+            case 'H' -> Token.MAX_HP;
+            case 'm' -> Token.MANA;
+            case 'M' -> Token.MAX_MANA;
+            case 'v' -> Token.MOVE;
+            case 'x' -> Token.EXP;
+            case 'l' -> Token.LEVEL;
+            default -> null;
+        };
+    }
+
+    private static void value(StringBuilder out, long amount, String color, boolean colorize) {
+        if (colorize) {
+            out.append(color).append(amount).append(RESET);
+        } else {
+            out.append(amount);
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 import io.taanielo.jmud.core.quest.QuestId;
 import io.taanielo.jmud.core.quest.QuestRepository;
 import io.taanielo.jmud.core.quest.QuestRepositoryException;
@@ -33,6 +34,7 @@ public class JsonQuestRepository implements QuestRepository {
 
     private final ObjectMapper objectMapper;
     private final Path questsDirPath;
+    private final JsonDocumentSource documents;
     private List<QuestTemplate> cache;
 
     public JsonQuestRepository() throws QuestRepositoryException {
@@ -40,6 +42,15 @@ public class JsonQuestRepository implements QuestRepository {
     }
 
     public JsonQuestRepository(Path dataRoot) throws QuestRepositoryException {
+        this(dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/quests} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonQuestRepository(Path dataRoot, JsonDocumentSource documents) throws QuestRepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.questsDirPath = Objects.requireNonNull(dataRoot, "Data root is required").resolve(QUESTS_DIR);
         ensureDirectory(questsDirPath);
@@ -65,8 +76,8 @@ public class JsonQuestRepository implements QuestRepository {
 
     private List<QuestTemplate> load() throws QuestRepositoryException {
         List<QuestTemplate> quests = new ArrayList<>();
-        try (var stream = Files.list(questsDirPath)) {
-            for (Path path : stream.filter(p -> p.toString().endsWith(".json")).toList()) {
+        try {
+            for (Path path : documents.list(questsDirPath)) {
                 QuestDto dto = readDto(path);
                 if (dto.schemaVersion() != SCHEMA_VERSION_KILL
                         && dto.schemaVersion() != SCHEMA_VERSION_DELIVERY
@@ -125,7 +136,7 @@ public class JsonQuestRepository implements QuestRepository {
 
     private QuestDto readDto(Path path) throws QuestRepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), QuestDto.class);
+            return documents.read(path, objectMapper, QuestDto.class);
         } catch (IOException e) {
             throw new QuestRepositoryException(
                 "Failed to read quest data from " + path + ": " + e.getMessage(), e);
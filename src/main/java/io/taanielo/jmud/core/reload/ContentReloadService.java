@@ -1,7 +1,14 @@
 package io.taanielo.jmud.core.reload;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jspecify.annotations.Nullable;
 
@@ -9,14 +16,16 @@ import io.taanielo.jmud.core.world.Item;
 import io.taanielo.jmud.core.world.repository.RepositoryException;
 
 /**
- * Orchestrates a transactional hot reload of game content (items, rooms, mob templates) from JSON
- * for the wizard {@code RELOAD} command (issue #349).
+ * Orchestrates a transactional load of game content (items, rooms, mob templates and any
+ * {@link DefinitionContentReloader definition sets} such as effects and attacks) from JSON, both
+ * eagerly at startup and for the wizard {@code RELOAD} command (issue #349).
  *
  * <p>The reload is split into two phases to honour the single-writer tick loop (AGENTS.md §5):
  *
  * <ol>
  *   <li>{@link #prepare()} — runs off the tick thread. It reads and validates every backing file
- *       into an in-memory snapshot, resolving room item references against the freshly prepared
+ *       into an in-memory snapshot, preparing items, mobs and definition sets in parallel on
+ *       virtual threads and then rooms, whose item references resolve against the freshly prepared
  *       items first (falling back to the live item repository). If any file fails to parse or
  *       validate it throws, having touched no live state.</li>
  *   <li>{@link PreparedContentReload#commit()} — runs on the tick thread. It atomically swaps every
@@ -32,6 +41,9 @@ public final class ContentReloadService {
     private final RoomContentReloader roomReloader;
     private final @Nullable MobContentReloader mobReloader;
     private final ItemLookup liveItemLookup;
+    private final List<DefinitionContentReloader> definitionReloaders;
+    private final List<Runnable> commitListeners = new CopyOnWriteArrayList<>();
+    private final List<Runnable> prepareListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates the reload service.
@@ -48,11 +60,55 @@ public final class ContentReloadService {
         RoomContentReloader roomReloader,
         @Nullable MobContentReloader mobReloader,
         ItemLookup liveItemLookup
+    ) {
+        this(itemReloader, roomReloader, mobReloader, liveItemLookup, List.of());
+    }
+
+    /**
+     * Creates the reload service with additional self-contained definition sets.
+     *
+     * @param itemReloader        reads and validates item content off the tick thread
+     * @param roomReloader        reads and validates room content off the tick thread
+     * @param mobReloader         reads and validates mob-template content; {@code null} when the mob
+     *                            subsystem failed to load
+     * @param liveItemLookup      resolves item references against the currently live item
+     *                            repository, used as a fallback when a room references an unchanged
+     *                            item
+     * @param definitionReloaders further definition sets (effects, attacks) prepared alongside items
+     */
+    public ContentReloadService(
+        ItemContentReloader itemReloader,
+        RoomContentReloader roomReloader,
+        @Nullable MobContentReloader mobReloader,
+        ItemLookup liveItemLookup,
+        List<DefinitionContentReloader> definitionReloaders
     ) {
         this.itemReloader = Objects.requireNonNull(itemReloader, "Item reloader is required");
         this.roomReloader = Objects.requireNonNull(roomReloader, "Room reloader is required");
         this.mobReloader = mobReloader;
         this.liveItemLookup = Objects.requireNonNull(liveItemLookup, "Live item lookup is required");
+        this.definitionReloaders =
+            List.copyOf(Objects.requireNonNull(definitionReloaders, "Definition reloaders are required"));
+    }
+
+    /**
+     * Registers a callback run on the tick thread after every successful commit, for caches derived
+     * from the reloaded content (e.g. per-player combat stats computed from item definitions).
+     *
+     * @param listener the callback; must not be null
+     */
+    public void addCommitListener(Runnable listener) {
+        commitListeners.add(Objects.requireNonNull(listener, "Commit listener is required"));
+    }
+
+    /**
+     * Registers a callback run off the tick thread at the start of every {@link #prepare()}, before
+     * any content is read — e.g. to switch to a content pack compiled since the last load.
+     *
+     * @param listener the callback; must not be null
+     */
+    public void addPrepareListener(Runnable listener) {
+        prepareListeners.add(Objects.requireNonNull(listener, "Prepare listener is required"));
     }
 
     /**
@@ -66,13 +122,53 @@ public final class ContentReloadService {
      *     mutated
      */
     public PreparedContentReload prepare() throws RepositoryException {
-        PreparedItemReload preparedItems = itemReloader.prepareItems();
-        ItemLookup combinedLookup = id -> {
-            Optional<Item> fresh = preparedItems.find(id);
-            return fresh.isPresent() ? fresh : liveItemLookup.find(id);
-        };
-        PreparedReload preparedRooms = roomReloader.prepareRooms(combinedLookup);
-        PreparedReload preparedMobs = mobReloader == null ? null : mobReloader.prepareMobs();
-        return new PreparedContentReload(preparedItems, preparedRooms, preparedMobs);
+        for (Runnable listener : prepareListeners) {
+            listener.run();
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<PreparedItemReload> itemsFuture = executor.submit(itemReloader::prepareItems);
+            MobContentReloader mobs = mobReloader;
+            Future<PreparedReload> mobsFuture = mobs == null ? null : executor.submit(mobs::prepareMobs);
+            List<Future<PreparedReload>> definitionFutures = new ArrayList<>(definitionReloaders.size());
+            for (DefinitionContentReloader reloader : definitionReloaders) {
+                definitionFutures.add(executor.submit(reloader::prepareDefinitions));
+            }
+
+            PreparedItemReload preparedItems = await(itemsFuture);
+            ItemLookup combinedLookup = id -> {
+                Optional<Item> fresh = preparedItems.find(id);
+                return fresh.isPresent() ? fresh : liveItemLookup.find(id);
+            };
+            PreparedReload preparedRooms = roomReloader.prepareRooms(combinedLookup);
+            PreparedReload preparedMobs = mobsFuture == null ? null : await(mobsFuture);
+            List<PreparedReload> preparedDefinitions = new ArrayList<>(definitionFutures.size());
+            for (Future<PreparedReload> future : definitionFutures) {
+                preparedDefinitions.add(await(future));
+            }
+            return new PreparedContentReload(
+                preparedItems, preparedRooms, preparedMobs, preparedDefinitions, List.copyOf(commitListeners));
+        }
+    }
+
+    /**
+     * Waits for one parallel prepare task, rethrowing its {@link RepositoryException} as-is so a
+     * parse error reads the same as it did when prepare ran sequentially.
+     */
+    private static <T> T await(Future<T> future) throws RepositoryException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RepositoryException("Interrupted while loading content", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RepositoryException repositoryException) {
+                throw repositoryException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RepositoryException("Failed to load content: " + cause, cause);
+        }
     }
 }
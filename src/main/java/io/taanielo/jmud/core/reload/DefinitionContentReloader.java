@@ -0,0 +1,26 @@
+package io.taanielo.jmud.core.reload;
+
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+/**
+ * Reads and validates a self-contained set of content definitions (effects, attacks) off the tick
+ * thread, for the startup load and for a hot reload.
+ *
+ * <p>Unlike rooms, these definitions reference no other reloadable content, so
+ * {@link ContentReloadService} prepares every one of them in parallel with the items. Committing
+ * the returned {@link PreparedReload} installs the complete snapshot, after which the repository
+ * answers every lookup from memory and never falls back to disk on the tick thread.
+ */
+@FunctionalInterface
+public interface DefinitionContentReloader {
+
+    /**
+     * Reads and validates every definition file into an in-memory snapshot without mutating live
+     * state.
+     *
+     * @return a prepared reload ready to be committed on the tick thread
+     * @throws RepositoryException if any file fails to parse or validate; live definitions are left
+     *     unchanged
+     */
+    PreparedReload prepareDefinitions() throws RepositoryException;
+}
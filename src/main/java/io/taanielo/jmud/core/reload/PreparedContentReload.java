@@ -1,5 +1,8 @@
 package io.taanielo.jmud.core.reload;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.jspecify.annotations.Nullable;
@@ -17,11 +20,21 @@ public final class PreparedContentReload {
     private final PreparedReload items;
     private final PreparedReload rooms;
     private final @Nullable PreparedReload mobs;
+    private final List<PreparedReload> definitions;
+    private final List<Runnable> commitListeners;
 
-    PreparedContentReload(PreparedReload items, PreparedReload rooms, @Nullable PreparedReload mobs) {
+    PreparedContentReload(
+        PreparedReload items,
+        PreparedReload rooms,
+        @Nullable PreparedReload mobs,
+        List<PreparedReload> definitions,
+        List<Runnable> commitListeners
+    ) {
         this.items = Objects.requireNonNull(items, "Prepared item reload is required");
         this.rooms = Objects.requireNonNull(rooms, "Prepared room reload is required");
         this.mobs = mobs;
+        this.definitions = List.copyOf(definitions);
+        this.commitListeners = List.copyOf(commitListeners);
     }
 
     /**
@@ -29,7 +42,8 @@ public final class PreparedContentReload {
      *
      * <p>Must be called on the tick thread. Items are committed before rooms so that already
      * resolved room state stays consistent with the item cache; each commit is an in-memory swap
-     * that cannot fail (AGENTS.md §5).
+     * that cannot fail (AGENTS.md §5). Listeners registered through
+     * {@link ContentReloadService#addCommitListener(Runnable)} run after every swap.
      *
      * @return the report describing how many entries of each type were reloaded
      */
@@ -41,6 +55,14 @@ public final class PreparedContentReload {
             mobs.commit();
             mobCount = mobs.count();
         }
-        return new ReloadReport(rooms.count(), items.count(), mobCount);
+        Map<String, Integer> definitionCounts = new LinkedHashMap<>();
+        for (PreparedReload definition : definitions) {
+            definition.commit();
+            definitionCounts.merge(definition.contentType(), definition.count(), Integer::sum);
+        }
+        for (Runnable listener : commitListeners) {
+            listener.run();
+        }
+        return new ReloadReport(rooms.count(), items.count(), mobCount, definitionCounts);
     }
 }
@@ -1,14 +1,21 @@
 package io.taanielo.jmud.core.reload;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
 /**
  * Immutable summary of a completed content reload: how many entries of each type were reloaded
  * (issue #349).
  *
- * @param rooms the number of rooms reloaded
- * @param items the number of items reloaded
- * @param mobs  the number of mob templates reloaded ({@code 0} when the mob subsystem is absent)
+ * @param rooms       the number of rooms reloaded
+ * @param items       the number of items reloaded
+ * @param mobs        the number of mob templates reloaded ({@code 0} when the mob subsystem is absent)
+ * @param definitions entries reloaded per additional definition set, keyed by its plural content
+ *                    type label (e.g. {@code "effects"}), in commit order
  */
-public record ReloadReport(int rooms, int items, int mobs) {
+public record ReloadReport(int rooms, int items, int mobs, Map<String, Integer> definitions) {
 
     /**
      * Creates a report, rejecting negative counts.
@@ -17,17 +24,39 @@ public record ReloadReport(int rooms, int items, int mobs) {
         if (rooms < 0 || items < 0 || mobs < 0) {
             throw new IllegalArgumentException("Reload counts must not be negative");
         }
+        Objects.requireNonNull(definitions, "Definition counts are required");
+        for (int count : definitions.values()) {
+            if (count < 0) {
+                throw new IllegalArgumentException("Reload counts must not be negative");
+            }
+        }
+        definitions = Collections.unmodifiableMap(new LinkedHashMap<>(definitions));
+    }
+
+    /**
+     * Creates a report for rooms, items and mobs only.
+     */
+    public ReloadReport(int rooms, int items, int mobs) {
+        this(rooms, items, mobs, Map.of());
     }
 
     /**
      * Renders the human-readable confirmation line shown to the wizard.
      *
-     * @return e.g. {@code "Reloaded 42 rooms, 156 items, 8 mobs."}
+     * @return e.g. {@code "Reloaded 42 rooms, 156 items, 8 mobs, 30 effects."}
      */
     public String summary() {
-        return "Reloaded " + rooms + " " + plural(rooms, "room")
-            + ", " + items + " " + plural(items, "item")
-            + ", " + mobs + " " + plural(mobs, "mob") + ".";
+        StringBuilder summary = new StringBuilder("Reloaded ")
+            .append(rooms).append(' ').append(plural(rooms, "room"))
+            .append(", ").append(items).append(' ').append(plural(items, "item"))
+            .append(", ").append(mobs).append(' ').append(plural(mobs, "mob"));
+        for (Map.Entry<String, Integer> entry : definitions.entrySet()) {
+            String label = entry.getKey();
+            int count = entry.getValue();
+            String noun = count == 1 && label.endsWith("s") ? label.substring(0, label.length() - 1) : label;
+            summary.append(", ").append(count).append(' ').append(noun);
+        }
+        return summary.append('.').toString();
     }
 
     private static String plural(int count, String noun) {
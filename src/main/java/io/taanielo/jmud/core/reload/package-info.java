@@ -1,6 +1,6 @@
 /**
- * Hot-reload of JSON game content (rooms, items, mob templates) for the wizard {@code RELOAD}
- * command (issue #349).
+ * Eager loading and hot-reload of JSON game content (rooms, items, mob templates, effects, attacks)
+ * at startup and for the wizard {@code RELOAD} command (issue #349).
  *
  * <p>The design separates a tick-thread-free <em>prepare</em> phase — reading and validating every
  * backing JSON file into an in-memory snapshot without touching live game state — from an atomic
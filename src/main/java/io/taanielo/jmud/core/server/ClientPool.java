@@ -1,6 +1,11 @@
 package io.taanielo.jmud.core.server;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.player.Player;
 
 /**
  * Registry of connected clients with two membership views: every accepted connection, and the
@@ -9,6 +14,10 @@ import java.util.List;
  * <p>In-world membership replaces the old per-call {@code Client.isInWorld()} filtering: consumers
  * choose the view that matches their intent, so a connection still at the login prompt or the
  * race/class creation prompts can never leak into world-facing enumeration by omission.
+ *
+ * <p>Message delivery resolves recipients by username through {@link #findInWorld(Username)} and
+ * {@link #forEachInWorld(BiConsumer)}. The defaults scan {@link #inWorld()}; {@code DefaultClientPool}
+ * overrides them with a username directory so delivery neither copies nor scans the pool.
  */
 public interface ClientPool {
 
@@ -42,4 +51,33 @@ public interface ClientPool {
      * targeted message delivery, arena drafting.
      */
     List<Client> inWorld();
+
+    /**
+     * Resolves the in-world client whose player has the given username. During a linkdead
+     * reattach this is the reconnected client as soon as it is promoted.
+     *
+     * @param username the player's username
+     * @return the client, or empty when the player is not in the world
+     */
+    default Optional<Client> findInWorld(Username username) {
+        for (Client client : inWorld()) {
+            if (client.currentPlayer().map(player -> player.getUsername().equals(username)).orElse(false)) {
+                return Optional.of(client);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Calls {@code action} with the username and client of every in-world player, in the order they
+     * entered the world, without taking a snapshot. A client promoted or removed concurrently may or
+     * may not be visited.
+     *
+     * @param action receives each in-world player's username and client
+     */
+    default void forEachInWorld(BiConsumer<Username, Client> action) {
+        for (Client client : inWorld()) {
+            client.currentPlayer().map(Player::getUsername).ifPresent(username -> action.accept(username, client));
+        }
+    }
 }
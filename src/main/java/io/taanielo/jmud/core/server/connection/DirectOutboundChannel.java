@@ -0,0 +1,43 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Synchronous {@link OutboundChannel}: every unit is written and flushed on the caller's thread, the
+ * pre-queue behaviour of the socket writers.
+ */
+final class DirectOutboundChannel implements OutboundChannel {
+
+    private final Object transportLock;
+    private volatile @Nullable OutputStream output;
+
+    DirectOutboundChannel(Object transportLock) {
+        this.transportLock = Objects.requireNonNull(transportLock, "Transport lock is required");
+    }
+
+    @Override
+    public void attach(OutputStream output) {
+        this.output = Objects.requireNonNull(output, "Output stream is required");
+    }
+
+    @Override
+    public void enqueue(byte[] payload, boolean discardable) throws IOException {
+        OutputStream out = output;
+        if (out == null) {
+            throw new IOException("Connection is not open");
+        }
+        synchronized (transportLock) {
+            out.write(payload);
+            out.flush();
+        }
+    }
+
+    @Override
+    public void shutdown(Runnable transportCloser) {
+        transportCloser.run();
+    }
+}
@@ -0,0 +1,64 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Destination for a connection's already-encoded output bytes.
+ *
+ * <p>Transports (telnet, SSH, WebSocket) encode text into wire bytes and hand each unit to the
+ * channel with {@link #enqueue(byte[], boolean)}. The production implementation is an
+ * {@link OutboundQueue}, which returns immediately and writes on the connection's own virtual thread
+ * so a slow client can never stall the tick thread; {@link #direct(Object)} writes synchronously and
+ * is kept for tools and tests that expect output on the wire as soon as a write returns.
+ */
+public interface OutboundChannel {
+
+    /**
+     * Binds the channel to the transport's output stream. Bytes enqueued before this call are held and
+     * written, in order, once the stream is attached.
+     *
+     * @param output the stream to write to
+     */
+    void attach(OutputStream output);
+
+    /**
+     * Hands one encoded unit (a line, a frame, a telnet command) to the channel. A unit is written
+     * atomically with respect to other units.
+     *
+     * @param payload     the bytes to write; must not be mutated afterwards
+     * @param discardable whether the unit may be shed under backpressure (see
+     *                    {@link io.taanielo.jmud.core.messaging.Message#isDiscardable()})
+     * @throws IOException if a synchronous channel fails to write
+     */
+    void enqueue(byte[] payload, boolean discardable) throws IOException;
+
+    /**
+     * Stops accepting output, lets already-enqueued bytes drain (bounded by the channel's drain
+     * timeout), then runs {@code transportCloser} exactly once. Never blocks the caller on the client.
+     *
+     * @param transportCloser closes the underlying socket/streams
+     */
+    void shutdown(Runnable transportCloser);
+
+    /**
+     * Returns an {@link OutputStream} view that buffers raw writes and enqueues them as one
+     * non-discardable unit on every {@link OutputStream#flush()}, for byte-level protocol output such
+     * as telnet echo negotiation that must stay ordered with the text around it.
+     *
+     * @return a flush-delimited stream over this channel
+     */
+    default OutputStream asOutputStream() {
+        return new OutboundChannelOutputStream(this);
+    }
+
+    /**
+     * Creates a channel that writes and flushes each unit synchronously on the calling thread.
+     *
+     * @param transportLock lock shared with any other raw writer of the same stream
+     * @return a synchronous channel
+     */
+    static OutboundChannel direct(Object transportLock) {
+        return new DirectOutboundChannel(transportLock);
+    }
+}
@@ -0,0 +1,40 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Objects;
+
+/**
+ * {@link OutputStream} adapter that collects raw bytes and enqueues them on an
+ * {@link OutboundChannel} as a single non-discardable unit per {@link #flush()}.
+ */
+final class OutboundChannelOutputStream extends OutputStream {
+
+    private final OutboundChannel channel;
+    private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    OutboundChannelOutputStream(OutboundChannel channel) {
+        this.channel = Objects.requireNonNull(channel, "Channel is required");
+    }
+
+    @Override
+    public synchronized void write(int value) {
+        buffer.write(value);
+    }
+
+    @Override
+    public synchronized void write(byte[] bytes, int offset, int length) {
+        buffer.write(bytes, offset, length);
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        if (buffer.size() == 0) {
+            return;
+        }
+        byte[] payload = buffer.toByteArray();
+        buffer.reset();
+        channel.enqueue(payload, false);
+    }
+}
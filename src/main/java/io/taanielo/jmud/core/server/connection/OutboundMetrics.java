@@ -0,0 +1,103 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Aggregate Micrometer instrumentation for every live {@link OutboundQueue}.
+ *
+ * <p>Meters registered:
+ * <ul>
+ *   <li>{@code jmud.outbound.queue.depth} — units waiting across all connections</li>
+ *   <li>{@code jmud.outbound.queue.bytes} — bytes waiting across all connections</li>
+ *   <li>{@code jmud.outbound.queue.bytes.max} — bytes waiting on the most backed-up connection</li>
+ *   <li>{@code jmud.outbound.dropped.bytes} — bytes shed or abandoned by the slow-consumer policy</li>
+ *   <li>{@code jmud.outbound.slow_consumer.disconnects} — connections closed for falling behind</li>
+ * </ul>
+ */
+public final class OutboundMetrics {
+
+    private final Set<OutboundQueue> queues = ConcurrentHashMap.newKeySet();
+    private final Counter droppedBytes;
+    private final Counter slowConsumerDisconnects;
+
+    /**
+     * Registers the outbound meters into the given registry.
+     *
+     * @param meterRegistry the registry to record into; pass an empty {@link CompositeMeterRegistry}
+     *                      for no-op behaviour
+     */
+    public OutboundMetrics(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "Meter registry is required");
+        Gauge.builder("jmud.outbound.queue.depth", queues,
+                all -> all.stream().mapToInt(OutboundQueue::pendingCount).sum())
+            .description("Output units waiting to be written across all connections")
+            .register(meterRegistry);
+        Gauge.builder("jmud.outbound.queue.bytes", queues,
+                all -> all.stream().mapToLong(OutboundQueue::pendingBytes).sum())
+            .description("Output bytes waiting to be written across all connections")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("jmud.outbound.queue.bytes.max", queues,
+                all -> all.stream().mapToLong(OutboundQueue::pendingBytes).max().orElse(0))
+            .description("Output bytes waiting on the most backed-up connection")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.droppedBytes = Counter.builder("jmud.outbound.dropped.bytes")
+            .description("Output bytes dropped by the slow-consumer policy")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("jmud.outbound.slow_consumer.disconnects")
+            .description("Connections closed because their outbound queue stayed over the high-water mark")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Creates metrics backed by an empty registry, for tests and tools that do not export metrics.
+     *
+     * @return no-op outbound metrics
+     */
+    public static OutboundMetrics noOp() {
+        return new OutboundMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Returns the cumulative number of bytes dropped so far.
+     *
+     * @return dropped bytes
+     */
+    public double droppedBytes() {
+        return droppedBytes.count();
+    }
+
+    /**
+     * Returns the cumulative number of slow-consumer disconnects so far.
+     *
+     * @return disconnect count
+     */
+    public double slowConsumerDisconnects() {
+        return slowConsumerDisconnects.count();
+    }
+
+    void register(OutboundQueue queue) {
+        queues.add(queue);
+    }
+
+    void unregister(OutboundQueue queue) {
+        queues.remove(queue);
+    }
+
+    void recordDropped(long bytes) {
+        droppedBytes.increment((double) bytes);
+    }
+
+    void recordSlowConsumer() {
+        slowConsumerDisconnects.increment();
+    }
+}
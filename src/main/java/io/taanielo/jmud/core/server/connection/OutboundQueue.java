@@ -0,0 +1,307 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded per-connection outbound queue drained by the connection's own virtual writer thread.
+ *
+ * <p>Every line a transport emits — from the tick thread's broadcasts and prompts as much as from
+ * the connection's reader thread — is appended here and returns immediately; the writer thread takes
+ * everything pending, writes it, and flushes once per batch. A player on a saturated link therefore
+ * only ever delays their own output, never the tick (AGENTS.md §5).
+ *
+ * <p>Slow-consumer policy: once the bytes waiting exceed the high-water mark, the oldest
+ * {@linkplain io.taanielo.jmud.core.messaging.Message#isDiscardable() discardable} units (ambient
+ * flavour) are shed first. If the queue is still over the mark after that, the client cannot keep up
+ * with game-state output: all pending output is dropped and {@code onSlowConsumer} closes the
+ * transport, which ends the reader loop and drops the player into the usual linkdead grace period
+ * (issue #343) rather than growing the heap without bound.
+ *
+ * <p>A queue built with a {@link TickOutputCoalescer} holds what the tick thread enqueues during a
+ * tick and only wakes its writer when the coalescer releases it after the tick, so a session gets one
+ * write and one flush per tick however many lines the tick sent it.
+ */
+@Slf4j
+public final class OutboundQueue implements OutboundChannel {
+
+    private enum State { OPEN, DRAINING, CLOSED }
+
+    /** One unit of output; held by reference, never copied, so not a record. */
+    private static final class Chunk {
+        private final byte[] bytes;
+        private final boolean discardable;
+
+        private Chunk(byte[] bytes, boolean discardable) {
+            this.bytes = bytes;
+            this.discardable = discardable;
+        }
+
+        private byte[] bytes() {
+            return bytes;
+        }
+
+        private boolean discardable() {
+            return discardable;
+        }
+    }
+
+    private final String name;
+    private final Object transportLock;
+    private final long highWaterBytes;
+    private final Duration drainTimeout;
+    private final OutboundMetrics metrics;
+    private final Runnable onSlowConsumer;
+    private final @Nullable TickOutputCoalescer coalescer;
+    private final AtomicBoolean transportClosed = new AtomicBoolean();
+
+    /** Units waiting for the writer thread; guarded by {@code this}. */
+    private final ArrayDeque<Chunk> pending = new ArrayDeque<>();
+    /** Total bytes in {@link #pending}; guarded by {@code this}. */
+    private long pendingBytes;
+    /** Guarded by {@code this}. */
+    private State state = State.OPEN;
+    /** Set once by {@link #attach(OutputStream)}; guarded by {@code this}. */
+    private @Nullable Thread writer;
+    /** Whether the writer must wait for {@link #release()}; guarded by {@code this}. */
+    private boolean held;
+    /** Bytes enqueued by the tick thread since the queue was held; guarded by {@code this}. */
+    private long heldBytes;
+
+    /**
+     * Creates an unattached queue. Output enqueued before {@link #attach(OutputStream)} is held until
+     * the stream is attached.
+     *
+     * @param name           connection label used for the writer thread and log lines
+     * @param transportLock  lock shared with any other raw writer of the same stream (e.g. SSH echo)
+     * @param highWaterBytes pending-byte threshold at which the slow-consumer policy applies
+     * @param drainTimeout   how long {@link #shutdown(Runnable)} lets pending output drain
+     * @param metrics        aggregate queue depth/drop metrics
+     * @param onSlowConsumer closes the transport when the client cannot keep up
+     */
+    public OutboundQueue(
+        String name,
+        Object transportLock,
+        long highWaterBytes,
+        Duration drainTimeout,
+        OutboundMetrics metrics,
+        Runnable onSlowConsumer
+    ) {
+        this(name, transportLock, highWaterBytes, drainTimeout, metrics, onSlowConsumer, null);
+    }
+
+    /**
+     * Creates an unattached queue whose tick-thread output is held until the end of each tick.
+     *
+     * @param name           connection label used for the writer thread and log lines
+     * @param transportLock  lock shared with any other raw writer of the same stream (e.g. SSH echo)
+     * @param highWaterBytes pending-byte threshold at which the slow-consumer policy applies
+     * @param drainTimeout   how long {@link #shutdown(Runnable)} lets pending output drain
+     * @param metrics        aggregate queue depth/drop metrics
+     * @param onSlowConsumer closes the transport when the client cannot keep up
+     * @param coalescer      end-of-tick coalescer, or {@code null} to write tick output immediately
+     */
+    public OutboundQueue(
+        String name,
+        Object transportLock,
+        long highWaterBytes,
+        Duration drainTimeout,
+        OutboundMetrics metrics,
+        Runnable onSlowConsumer,
+        @Nullable TickOutputCoalescer coalescer
+    ) {
+        this.name = Objects.requireNonNull(name, "Name is required");
+        this.transportLock = Objects.requireNonNull(transportLock, "Transport lock is required");
+        if (highWaterBytes <= 0) {
+            throw new IllegalArgumentException("High-water mark must be positive");
+        }
+        this.highWaterBytes = highWaterBytes;
+        this.drainTimeout = Objects.requireNonNull(drainTimeout, "Drain timeout is required");
+        this.metrics = Objects.requireNonNull(metrics, "Metrics are required");
+        this.onSlowConsumer = Objects.requireNonNull(onSlowConsumer, "Slow-consumer handler is required");
+        this.coalescer = coalescer;
+        metrics.register(this);
+    }
+
+    @Override
+    public void attach(OutputStream output) {
+        Objects.requireNonNull(output, "Output stream is required");
+        synchronized (this) {
+            if (writer != null) {
+                throw new IllegalStateException("Outbound queue is already attached");
+            }
+            writer = Thread.ofVirtual().name("outbound-" + name).start(() -> drain(output));
+        }
+    }
+
+    @Override
+    public void enqueue(byte[] payload, boolean discardable) {
+        Objects.requireNonNull(payload, "Payload is required");
+        if (payload.length == 0) {
+            return;
+        }
+        long shed = 0;
+        long abandoned = 0;
+        synchronized (this) {
+            if (state != State.OPEN) {
+                return;
+            }
+            if (coalescer != null && coalescer.hold(this)) {
+                held = true;
+                heldBytes += payload.length;
+            }
+            pending.addLast(new Chunk(payload, discardable));
+            pendingBytes += payload.length;
+            if (pendingBytes > highWaterBytes) {
+                shed = shedDiscardable();
+            }
+            if (pendingBytes > highWaterBytes) {
+                abandoned = pendingBytes;
+                pending.clear();
+                pendingBytes = 0;
+                state = State.CLOSED;
+            }
+            notifyAll();
+        }
+        if (shed > 0) {
+            metrics.recordDropped(shed);
+        }
+        if (abandoned > 0) {
+            metrics.recordDropped(abandoned);
+            metrics.recordSlowConsumer();
+            log.warn("Outbound queue for {} exceeded {} bytes; disconnecting slow client", name, highWaterBytes);
+            onSlowConsumer.run();
+        }
+    }
+
+    @Override
+    public void shutdown(Runnable transportCloser) {
+        Objects.requireNonNull(transportCloser, "Transport closer is required");
+        Thread current;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                state = State.DRAINING;
+            }
+            current = writer;
+            notifyAll();
+        }
+        if (current == null) {
+            metrics.unregister(this);
+            closeTransport(transportCloser);
+            return;
+        }
+        // Wait for the drain on a throwaway virtual thread so the caller (possibly the tick thread) is
+        // never held up by the client; a writer stuck in a blocking write is released by the close.
+        Thread.ofVirtual().name("outbound-close-" + name).start(() -> {
+            try {
+                current.join(drainTimeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            closeTransport(transportCloser);
+        });
+    }
+
+    /**
+     * Returns the number of bytes waiting to be written.
+     *
+     * @return pending bytes, excluding the batch currently being written
+     */
+    public synchronized long pendingBytes() {
+        return pendingBytes;
+    }
+
+    /**
+     * Returns the number of units waiting to be written.
+     *
+     * @return pending unit count, excluding the batch currently being written
+     */
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Lets the writer take everything held since the tick started. Called by the
+     * {@link TickOutputCoalescer} on the tick thread after the tick.
+     *
+     * @return the bytes the tick thread enqueued while the queue was held
+     */
+    long release() {
+        synchronized (this) {
+            long bytes = heldBytes;
+            held = false;
+            heldBytes = 0;
+            notifyAll();
+            return bytes;
+        }
+    }
+
+    /** Drops discardable units oldest-first until back under the mark; returns the bytes shed. */
+    private long shedDiscardable() {
+        long shed = 0;
+        Iterator<Chunk> it = pending.iterator();
+        while (it.hasNext() && pendingBytes > highWaterBytes) {
+            Chunk chunk = it.next();
+            if (chunk.discardable()) {
+                it.remove();
+                pendingBytes -= chunk.bytes().length;
+                shed += chunk.bytes().length;
+            }
+        }
+        return shed;
+    }
+
+    private void drain(OutputStream output) {
+        List<Chunk> batch = new ArrayList<>();
+        try {
+            while (true) {
+                synchronized (this) {
+                    while ((pending.isEmpty() || held) && state == State.OPEN) {
+                        wait();
+                    }
+                    if (pending.isEmpty()) {
+                        return;
+                    }
+                    batch.addAll(pending);
+                    pending.clear();
+                    pendingBytes = 0;
+                }
+                synchronized (transportLock) {
+                    for (Chunk chunk : batch) {
+                        output.write(chunk.bytes());
+                    }
+                    output.flush();
+                }
+                batch.clear();
+            }
+        } catch (IOException e) {
+            log.debug("Outbound writer for {} stopped: {}", name, e.getMessage());
+            synchronized (this) {
+                pending.clear();
+                pendingBytes = 0;
+                state = State.CLOSED;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            metrics.unregister(this);
+        }
+    }
+
+    private void closeTransport(Runnable transportCloser) {
+        if (transportClosed.compareAndSet(false, true)) {
+            transportCloser.run();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.time.Duration;
+import java.util.Objects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Builds {@link OutboundQueue}s with the server-wide high-water mark, drain timeout and shared
+ * metrics. Constructed once by the composition root and handed to every transport server.
+ */
+public final class OutboundQueueFactory {
+
+    private final long highWaterBytes;
+    private final Duration drainTimeout;
+    private final OutboundMetrics metrics;
+    private final @Nullable TickOutputCoalescer coalescer;
+
+    public OutboundQueueFactory(long highWaterBytes, Duration drainTimeout, OutboundMetrics metrics) {
+        this(highWaterBytes, drainTimeout, metrics, null);
+    }
+
+    public OutboundQueueFactory(
+        long highWaterBytes,
+        Duration drainTimeout,
+        OutboundMetrics metrics,
+        @Nullable TickOutputCoalescer coalescer
+    ) {
+        this.highWaterBytes = highWaterBytes;
+        this.drainTimeout = Objects.requireNonNull(drainTimeout, "Drain timeout is required");
+        this.metrics = Objects.requireNonNull(metrics, "Metrics are required");
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * Creates a factory configured from {@link OutboundSettings}, recording into the given registry.
+     *
+     * @param meterRegistry the application meter registry
+     * @return a configured factory
+     */
+    public static OutboundQueueFactory fromSettings(MeterRegistry meterRegistry) {
+        return fromSettings(meterRegistry, null);
+    }
+
+    /**
+     * Creates a factory configured from {@link OutboundSettings} whose queues hold tick output for
+     * the given coalescer.
+     *
+     * @param meterRegistry the application meter registry
+     * @param coalescer     end-of-tick coalescer, or {@code null} to write tick output immediately
+     * @return a configured factory
+     */
+    public static OutboundQueueFactory fromSettings(MeterRegistry meterRegistry, @Nullable TickOutputCoalescer coalescer) {
+        return new OutboundQueueFactory(
+            OutboundSettings.highWaterBytes(),
+            Duration.ofMillis(OutboundSettings.drainTimeoutMillis()),
+            new OutboundMetrics(meterRegistry),
+            coalescer);
+    }
+
+    /**
+     * Creates an unattached queue for one connection.
+     *
+     * @param name           connection label for the writer thread and logs
+     * @param transportLock  lock shared with any other raw writer of the same stream
+     * @param onSlowConsumer closes the transport when the client falls too far behind
+     * @return a new queue
+     */
+    public OutboundQueue create(String name, Object transportLock, Runnable onSlowConsumer) {
+        return new OutboundQueue(
+            name, transportLock, highWaterBytes, drainTimeout, metrics, onSlowConsumer, coalescer);
+    }
+}
@@ -0,0 +1,64 @@
+package io.taanielo.jmud.core.server.connection;
+
+import io.taanielo.jmud.core.config.GameConfig;
+
+/**
+ * Configuration for per-connection outbound queues ({@link OutboundQueue}).
+ *
+ * <p>Values are read once from {@link GameConfig} following the same static-settings pattern as
+ * {@link io.taanielo.jmud.core.server.socket.LinkdeadSettings}.
+ */
+public final class OutboundSettings {
+
+    /** Default bytes a connection may have waiting before the slow-consumer policy applies. */
+    public static final int DEFAULT_HIGH_WATER_BYTES = 512 * 1024;
+
+    /** Default time a closing connection is given to drain its pending output. */
+    public static final int DEFAULT_DRAIN_TIMEOUT_MS = 2000;
+
+    /** Default for holding each session's tick output until the end of the tick. */
+    public static final boolean DEFAULT_COALESCE_TICK_OUTPUT = true;
+
+    private static final GameConfig CONFIG = GameConfig.load();
+
+    private OutboundSettings() {
+    }
+
+    /**
+     * Returns the per-connection high-water mark in bytes.
+     *
+     * @return a positive byte count
+     * @throws IllegalArgumentException if the configured value is not positive
+     */
+    public static int highWaterBytes() {
+        int bytes = CONFIG.getInt("jmud.outbound.high_water_bytes", DEFAULT_HIGH_WATER_BYTES);
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("Outbound high-water mark must be positive");
+        }
+        return bytes;
+    }
+
+    /**
+     * Returns how long, in milliseconds, a closing connection may spend draining pending output.
+     *
+     * @return a non-negative millisecond count
+     * @throws IllegalArgumentException if the configured value is negative
+     */
+    public static int drainTimeoutMillis() {
+        int millis = CONFIG.getInt("jmud.outbound.drain_timeout_ms", DEFAULT_DRAIN_TIMEOUT_MS);
+        if (millis < 0) {
+            throw new IllegalArgumentException("Outbound drain timeout must not be negative");
+        }
+        return millis;
+    }
+
+    /**
+     * Returns whether output the tick thread writes is held until the end of the tick and flushed
+     * once per session with a single prompt ({@link TickOutputCoalescer}).
+     *
+     * @return {@code true} to coalesce tick output
+     */
+    public static boolean coalesceTickOutput() {
+        return CONFIG.getBoolean("jmud.outbound.coalesce_tick_output", DEFAULT_COALESCE_TICK_OUTPUT);
+    }
+}
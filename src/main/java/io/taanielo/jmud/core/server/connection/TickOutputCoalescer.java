@@ -0,0 +1,150 @@
+package io.taanielo.jmud.core.server.connection;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.tick.TickPhaseListener;
+
+/**
+ * Holds every session's output for the length of a tick and releases it in one flush, with at most
+ * one prompt, once the last tickable has run.
+ *
+ * <p>Without it each broadcast a player receives during a tick wakes their writer thread and is
+ * followed by its own prompt, so a busy room costs a player several socket writes and a screen of
+ * repeated prompts per tick. While a tick runs, an {@link OutboundQueue} built with this coalescer
+ * keeps whatever the tick thread enqueues instead of waking its writer, and
+ * {@link #deferPrompt(Object, Runnable)} collapses a session's prompt requests into one. After the
+ * tick the deferred prompts are rendered (against the tick's final state) into the held output and
+ * every held queue is released.
+ *
+ * <p>Output enqueued from any other thread, or outside a tick, is never held. All state apart from
+ * the tick-thread marker is touched by the tick thread only (AGENTS.md §5).
+ *
+ * <p>Meters registered:
+ * <ul>
+ *   <li>{@code jmud.output.tick.bytes} — bytes released per session per tick</li>
+ *   <li>{@code jmud.output.tick.flushes} — held queues released (one per session written to per tick)</li>
+ *   <li>{@code jmud.output.prompts.coalesced} — prompt requests folded into an already-deferred prompt</li>
+ * </ul>
+ */
+@Slf4j
+public final class TickOutputCoalescer implements TickPhaseListener {
+
+    private final DistributionSummary tickBytes;
+    private final Counter flushes;
+    private final Counter promptsCoalesced;
+
+    /** Queues the tick thread wrote to this tick, in first-write order. */
+    private final Set<OutboundQueue> held = new LinkedHashSet<>();
+    /** One prompt writer per session that asked for a prompt this tick. */
+    private final Map<Object, Runnable> prompts = new LinkedHashMap<>();
+    /** The thread running the current tick, or {@code null} between ticks. */
+    private volatile @Nullable Thread tickThread;
+    private boolean writingPrompts;
+
+    /**
+     * Registers the coalescing meters into the given registry.
+     *
+     * @param meterRegistry the registry to record into; pass an empty {@link CompositeMeterRegistry}
+     *                      for no-op behaviour
+     */
+    public TickOutputCoalescer(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "Meter registry is required");
+        this.tickBytes = DistributionSummary.builder("jmud.output.tick.bytes")
+            .description("Output bytes released to one session at the end of a tick")
+            .baseUnit("bytes")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.flushes = Counter.builder("jmud.output.tick.flushes")
+            .description("Per-session output flushes at the end of a tick")
+            .register(meterRegistry);
+        this.promptsCoalesced = Counter.builder("jmud.output.prompts.coalesced")
+            .description("Prompt requests folded into the single end-of-tick prompt")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void beforeTick() {
+        tickThread = Thread.currentThread();
+    }
+
+    @Override
+    public void afterTick() {
+        // Prompts are written while the queues are still held so each lands in the same flush as
+        // the output it follows.
+        writingPrompts = true;
+        try {
+            List<Runnable> writers = new ArrayList<>(prompts.values());
+            prompts.clear();
+            for (Runnable writer : writers) {
+                try {
+                    writer.run();
+                } catch (RuntimeException e) {
+                    log.error("Deferred prompt failed", e);
+                }
+            }
+        } finally {
+            writingPrompts = false;
+            tickThread = null;
+        }
+        for (OutboundQueue queue : held) {
+            tickBytes.record((double) queue.release());
+            flushes.increment();
+        }
+        held.clear();
+    }
+
+    /**
+     * Defers a session's prompt to the end of the current tick. Further requests from the same owner
+     * during the tick are folded into the one already deferred.
+     *
+     * @param owner  identifies the session; compared by identity
+     * @param writer renders and writes the prompt
+     * @return {@code true} if the prompt was deferred; {@code false} if the caller is not the tick
+     *     thread inside a tick and should write the prompt now
+     */
+    public boolean deferPrompt(Object owner, Runnable writer) {
+        Objects.requireNonNull(owner, "Owner is required");
+        Objects.requireNonNull(writer, "Prompt writer is required");
+        if (writingPrompts || !onTickThread()) {
+            return false;
+        }
+        if (prompts.putIfAbsent(owner, writer) != null) {
+            promptsCoalesced.increment();
+        }
+        return true;
+    }
+
+    /**
+     * Called by a queue when output is enqueued; holds the queue until the end of the tick when the
+     * caller is the tick thread inside a tick.
+     *
+     * @param queue the queue being written to
+     * @return whether the queue should hold its output
+     */
+    boolean hold(OutboundQueue queue) {
+        if (!onTickThread()) {
+            return false;
+        }
+        held.add(queue);
+        return true;
+    }
+
+    @SuppressWarnings("ReferenceEquality")
+    private boolean onTickThread() {
+        return Thread.currentThread() == tickThread;
+    }
+}
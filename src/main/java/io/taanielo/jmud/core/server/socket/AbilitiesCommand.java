@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code ABILITIES} / {@code AB} command, which lists every ability
@@ -24,6 +25,11 @@ public class AbilitiesCommand extends RegistrableCommand {
         return "abilities";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ABILITIES", "AB");
+    }
+
     @Override
     public String shortDescription() {
         return "List all abilities you have learned, with type, cost, and cooldown. Aliases: AB";
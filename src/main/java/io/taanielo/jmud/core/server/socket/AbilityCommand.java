@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code USE} command, which activates any learned ability regardless of type
@@ -24,6 +25,11 @@ public class AbilityCommand extends RegistrableCommand {
         return "use";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("USE");
+    }
+
     @Override
     public String shortDescription() {
         return "Activate a learned ability (skill or spell). Usage: USE <ability> [target]";
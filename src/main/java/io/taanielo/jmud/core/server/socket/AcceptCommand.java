@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code ACCEPT} command, which engages a pending consensual duel challenge.
@@ -16,6 +17,11 @@ public class AcceptCommand extends RegistrableCommand {
         return "accept";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ACCEPT");
+    }
+
     @Override
     public String shortDescription() {
         return "Accept a pending duel challenge.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code ACHIEVEMENTS} command, showing the player which milestone achievements they
@@ -18,6 +19,11 @@ public class AchievementsCommand extends RegistrableCommand {
         return "achievements";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ACHIEVEMENTS");
+    }
+
     @Override
     public String shortDescription() {
         return "Show your unlocked achievements and progress toward locked ones.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code AFK} command, which toggles the caller's "away from keyboard" status.
@@ -34,6 +35,11 @@ public class AfkCommand extends RegistrableCommand {
         return "afk";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("AFK");
+    }
+
     @Override
     public String shortDescription() {
         return "Toggle your away-from-keyboard status.";
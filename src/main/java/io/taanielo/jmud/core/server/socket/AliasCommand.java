@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code ALIAS} command, which lets a player bind a short custom string to a
@@ -29,6 +30,11 @@ public class AliasCommand extends RegistrableCommand {
         return "alias";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ALIAS");
+    }
+
     @Override
     public String shortDescription() {
         return "Define, list, or remove custom command aliases.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles ANSI toggle commands.
@@ -15,6 +16,11 @@ public class AnsiCommand extends RegistrableCommand {
         return "ansi";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ANSI");
+    }
+
     @Override
     public Optional<SocketCommandMatch> match(String input) {
         String[] parts = SocketCommandParsing.splitInput(input);
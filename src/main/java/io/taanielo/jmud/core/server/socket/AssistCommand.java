@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code ASSIST} command: joins the fight against the mob another player in the same
@@ -16,6 +17,11 @@ public class AssistCommand extends RegistrableCommand {
         return "assist";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ASSIST");
+    }
+
     @Override
     public String shortDescription() {
         return "Join the fight against the mob a party member is fighting.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles attack commands.
@@ -15,6 +16,11 @@ public class AttackCommand extends RegistrableCommand {
         return "attack";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ATTACK");
+    }
+
     @Override
     public Optional<SocketCommandMatch> match(String input) {
         String[] parts = SocketCommandParsing.splitInput(input);
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code AUCTION} command, the entry point to the player-to-player Auction House.
@@ -41,6 +42,11 @@ public class AuctionCommand extends RegistrableCommand {
         return "auction";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("AUCTION", "AH");
+    }
+
     @Override
     public String shortDescription() {
         return "Buy and sell items via the Auction House. Aliases: AH";
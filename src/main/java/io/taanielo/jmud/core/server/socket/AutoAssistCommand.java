@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles AUTOASSIST toggle commands ({@code AUTOASSIST ON|OFF|TOGGLE|STATUS}).
@@ -21,6 +22,11 @@ public class AutoAssistCommand extends RegistrableCommand {
         return "autoassist";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("AUTOASSIST");
+    }
+
     @Override
     public String shortDescription() {
         return "Toggle automatically joining a party-mate's fight.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles AUTOLOOT toggle commands ({@code AUTOLOOT ON|OFF|TOGGLE|STATUS}).
@@ -19,6 +20,11 @@ public class AutoLootCommand extends RegistrableCommand {
         return "autoloot";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("AUTOLOOT");
+    }
+
     @Override
     public String shortDescription() {
         return "Toggle automatically looting items from your solo kills.";
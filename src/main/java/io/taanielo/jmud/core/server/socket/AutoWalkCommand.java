@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code AUTOWALK} command, automatically walking the player one room per tick toward a
@@ -23,6 +24,11 @@ public class AutoWalkCommand extends RegistrableCommand {
         return "autowalk";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("AUTOWALK");
+    }
+
     @Override
     public String shortDescription() {
         return "Automatically travel to an area you've visited, one step per tick. AUTOWALK STOP cancels.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code BIND} command, letting a player anchor their personal recall/respawn point to
@@ -22,6 +23,11 @@ public class BindCommand extends RegistrableCommand {
         return "bind";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("BIND");
+    }
+
     @Override
     public String shortDescription() {
         return "Anchor your recall/respawn point to a zone's waypoint. BIND reports it; BIND HERE sets it.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code BOARD} command, listing every note pinned to the player's current room.
@@ -25,6 +26,11 @@ public class BoardCommand extends RegistrableCommand {
         return "board";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("BOARD");
+    }
+
     @Override
     public String shortDescription() {
         return "Read the bulletin board of notes posted in your current room. Post with NOTE.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code BOUNTY} command, the entry point to player-funded bounties on mob <em>types</em>
@@ -42,6 +43,11 @@ public class BountyCommand extends RegistrableCommand {
         return "bounty";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("BOUNTY");
+    }
+
     @Override
     public String shortDescription() {
         return "Put gold on a mob type or a rival player, paid to whoever beats them next.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code BREW} command. With no arguments it lists the potion recipes an alchemist can
@@ -19,6 +20,11 @@ public class BrewCommand extends RegistrableCommand {
         return "brew";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("BREW");
+    }
+
     @Override
     public String shortDescription() {
         return "Brew potions from gathered herbs at an alchemist.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles BRIEF toggle commands ({@code BRIEF ON|OFF|TOGGLE|STATUS}).
@@ -19,6 +20,11 @@ public class BriefCommand extends RegistrableCommand {
         return "brief";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("BRIEF");
+    }
+
     @Override
     public String shortDescription() {
         return "Toggle skipping full room descriptions when you move.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code BUY <item>} command, purchasing an item from the shop in the current room.
@@ -16,6 +17,11 @@ public class BuyCommand extends RegistrableCommand {
         return "buy";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("BUY");
+    }
+
     @Override
     public String shortDescription() {
         return "Buy an item from the shop in the current room.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code CAST} command, which activates only spell-type abilities.
@@ -25,6 +26,11 @@ public class CastCommand extends RegistrableCommand {
         return "cast";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("CAST");
+    }
+
     @Override
     public String shortDescription() {
         return "Cast a learned spell. Usage: CAST <spell> [target]";
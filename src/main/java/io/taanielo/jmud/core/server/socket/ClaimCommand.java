@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code CLAIM <item name>} command, moving an item from the player's bank vault
@@ -17,6 +18,11 @@ public class ClaimCommand extends RegistrableCommand {
         return "claim";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("CLAIM");
+    }
+
     @Override
     public String shortDescription() {
         return "Claim an item back from your bank vault.";
@@ -0,0 +1,168 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Records how long each player command waited in its {@link PlayerCommandQueue} and how long it
+ * took to execute, per resolved command.
+ *
+ * <p>Telling the causes of "lag" apart needs both numbers: a long queue wait with a fast execution
+ * means the player's backlog (the per-tick command cap) or an overrunning tick held the command back,
+ * while a long execution points at the command handler itself.
+ *
+ * <p>Meters registered, each tagged {@code command} with the resolved {@link SocketCommandHandler}
+ * name ({@value #UNRESOLVED} for input that matched no single command):
+ * <ul>
+ *   <li>{@code jmud.command.queue.wait} — time from enqueue until the tick thread started the command</li>
+ *   <li>{@code jmud.command.execution} — time the tick thread spent dispatching the command</li>
+ * </ul>
+ * Both publish p50/p99 and a percentile histogram. The same timers are also kept in a private
+ * {@link SimpleMeterRegistry}, so {@link #snapshot()} can report percentiles whatever registry the
+ * server exports to (including the no-op one).
+ */
+public final class CommandLatencyMetrics {
+
+    /** Tag value used for input that did not resolve to exactly one command. */
+    public static final String UNRESOLVED = "unresolved";
+
+    private static final double[] PERCENTILES = {0.5, 0.99};
+
+    private final MeterRegistry exportRegistry;
+    private final SimpleMeterRegistry localRegistry = new SimpleMeterRegistry();
+    private final Map<String, CommandTimers> timers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates command latency metrics that are only kept locally, for tests and callers that do not
+     * export metrics.
+     */
+    public CommandLatencyMetrics() {
+        this(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Creates command latency metrics that also register into the given registry.
+     *
+     * @param meterRegistry the registry to export into; pass an empty {@link CompositeMeterRegistry}
+     *                      for no export
+     */
+    public CommandLatencyMetrics(MeterRegistry meterRegistry) {
+        this.exportRegistry = Objects.requireNonNull(meterRegistry, "Meter registry is required");
+    }
+
+    /**
+     * Records one dispatched command.
+     *
+     * @param command        the resolved command name, or {@code null} when none ran
+     * @param queueWaitNanos nanoseconds the command waited before the tick thread started it
+     * @param executionNanos nanoseconds spent dispatching it
+     */
+    public void record(@Nullable String command, long queueWaitNanos, long executionNanos) {
+        CommandTimers commandTimers = timers.computeIfAbsent(command == null ? UNRESOLVED : command, this::register);
+        commandTimers.record(Math.max(0L, queueWaitNanos), Math.max(0L, executionNanos));
+    }
+
+    /**
+     * Returns the recent latency percentiles of every command recorded so far, slowest p99
+     * execution first.
+     *
+     * @return one entry per command
+     */
+    public List<CommandLatency> snapshot() {
+        List<CommandLatency> latencies = new ArrayList<>(timers.size());
+        for (Map.Entry<String, CommandTimers> entry : timers.entrySet()) {
+            CommandTimers commandTimers = entry.getValue();
+            HistogramSnapshot wait = commandTimers.localWait().takeSnapshot();
+            HistogramSnapshot execution = commandTimers.localExecution().takeSnapshot();
+            latencies.add(new CommandLatency(
+                entry.getKey(),
+                execution.count(),
+                percentileNanos(wait, 0.5),
+                percentileNanos(wait, 0.99),
+                percentileNanos(execution, 0.5),
+                percentileNanos(execution, 0.99)
+            ));
+        }
+        latencies.sort(Comparator.comparingDouble(CommandLatency::executionP99Nanos).reversed()
+            .thenComparing(CommandLatency::command));
+        return List.copyOf(latencies);
+    }
+
+    private CommandTimers register(String command) {
+        return new CommandTimers(
+            waitTimer(command, localRegistry),
+            executionTimer(command, localRegistry),
+            waitTimer(command, exportRegistry),
+            executionTimer(command, exportRegistry)
+        );
+    }
+
+    private static Timer waitTimer(String command, MeterRegistry registry) {
+        return Timer.builder("jmud.command.queue.wait")
+            .description("Time a player command waited in its queue before the tick thread ran it")
+            .tag("command", command)
+            .publishPercentiles(PERCENTILES)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private static Timer executionTimer(String command, MeterRegistry registry) {
+        return Timer.builder("jmud.command.execution")
+            .description("Time the tick thread spent executing a player command")
+            .tag("command", command)
+            .publishPercentiles(PERCENTILES)
+            .publishPercentileHistogram()
+            .register(registry);
+    }
+
+    private static double percentileNanos(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.NANOSECONDS);
+            }
+        }
+        return 0.0;
+    }
+
+    private record CommandTimers(Timer localWait, Timer localExecution, Timer exportWait, Timer exportExecution) {
+        void record(long queueWaitNanos, long executionNanos) {
+            localWait.record(queueWaitNanos, TimeUnit.NANOSECONDS);
+            exportWait.record(queueWaitNanos, TimeUnit.NANOSECONDS);
+            localExecution.record(executionNanos, TimeUnit.NANOSECONDS);
+            exportExecution.record(executionNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Recent latency percentiles of one command.
+     *
+     * @param command          the command name, or {@value CommandLatencyMetrics#UNRESOLVED}
+     * @param count            commands recorded since startup
+     * @param queueWaitP50Nanos median queue wait
+     * @param queueWaitP99Nanos 99th percentile queue wait
+     * @param executionP50Nanos median execution time
+     * @param executionP99Nanos 99th percentile execution time
+     */
+    public record CommandLatency(
+        String command,
+        long count,
+        double queueWaitP50Nanos,
+        double queueWaitP99Nanos,
+        double executionP50Nanos,
+        double executionP99Nanos
+    ) {
+    }
+}
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code COMPANIONS} (alias {@code PETS}) command, which lists the player's active tamed
@@ -20,6 +21,11 @@ public class CompanionsCommand extends RegistrableCommand {
         return "companions";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("COMPANIONS", "PETS");
+    }
+
     @Override
     public String shortDescription() {
         return "List your active tamed companions (alias: PETS).";
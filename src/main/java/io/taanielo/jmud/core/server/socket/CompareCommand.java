@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the COMPARE command, showing a side-by-side stat diff between an item and whatever the
@@ -21,6 +22,11 @@ public class CompareCommand extends RegistrableCommand {
         return "compare";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("COMPARE", "CMP");
+    }
+
     @Override
     public String shortDescription() {
         return "Compare an item against your equipped gear in that slot. Aliases: CMP";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the CONSIDER command, letting players assess how dangerous a mob is
@@ -25,6 +26,11 @@ public class ConsiderCommand extends RegistrableCommand {
         return "consider";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("CONSIDER", "CON");
+    }
+
     @Override
     public String shortDescription() {
         return "Assess a mob's danger before attacking. Aliases: CON";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code COOK} command. With no arguments it lists the meal recipes a cook can make,
@@ -19,6 +20,11 @@ public class CookCommand extends RegistrableCommand {
         return "cook";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("COOK");
+    }
+
     @Override
     public String shortDescription() {
         return "Cook meals from raw ingredients at a cook.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code COOLDOWNS} / {@code CD} command, which lists every ability the
@@ -29,6 +30,11 @@ public class CooldownsCommand extends RegistrableCommand {
         return "cooldowns";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("COOLDOWNS", "CD");
+    }
+
     @Override
     public String shortDescription() {
         return "List your learned abilities with live cooldown status. Aliases: CD";
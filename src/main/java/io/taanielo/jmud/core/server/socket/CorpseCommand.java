@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code CORPSE} command, telling a fallen player where their remains lie and how to get
@@ -23,6 +24,11 @@ public class CorpseCommand extends RegistrableCommand {
         return "corpse";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("CORPSE");
+    }
+
     @Override
     public String shortDescription() {
         return "Locate your corpse and get turn-by-turn directions back to it before it decays.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code CRAFT} command. With no arguments it lists the recipes a blacksmith can make,
@@ -19,6 +20,11 @@ public class CraftCommand extends RegistrableCommand {
         return "craft";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("CRAFT");
+    }
+
     @Override
     public String shortDescription() {
         return "Craft gear from gathered materials at a blacksmith.";
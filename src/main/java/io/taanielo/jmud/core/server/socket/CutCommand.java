@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code CUT} command. With no arguments it lists the ring and necklace recipes a
@@ -19,6 +20,11 @@ public class CutCommand extends RegistrableCommand {
         return "cut";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("CUT");
+    }
+
     @Override
     public String shortDescription() {
         return "Cut rings and necklaces from raw gems at a jeweler.";
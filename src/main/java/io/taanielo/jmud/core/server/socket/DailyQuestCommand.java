@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code DAILY_QUEST} command, letting players interact with the rotating daily quest
@@ -30,6 +31,11 @@ public class DailyQuestCommand extends RegistrableCommand {
         return "daily_quest";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DAILY_QUEST");
+    }
+
     @Override
     public String shortDescription() {
         return "View and accept the rotating daily quests. Use DAILY_QUEST to see today's quests.";
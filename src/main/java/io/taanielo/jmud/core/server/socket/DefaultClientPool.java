@@ -1,9 +1,15 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
 
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.server.Client;
 import io.taanielo.jmud.core.server.ClientPool;
 
@@ -12,12 +18,25 @@ import io.taanielo.jmud.core.server.ClientPool;
  * iterated as immutable snapshots from the tick thread (AGENTS.md §5). The in-world view is a
  * subset of the connection list, maintained in promotion order; {@link #remove} demotes before it
  * removes so no snapshot can ever show a client as in-world but not connected.
+ *
+ * <p>In-world clients are also indexed by their player's username, so message delivery resolves a
+ * recipient in O(1) instead of copying and scanning the in-world list per recipient. The index is
+ * written on promotion and cleared on removal under the pool's lock; reads never lock. On a linkdead
+ * reattach the reconnecting client's promotion replaces the dropped client's entry, and the dropped
+ * client's later removal only clears the entry if it still points at that client.
+ *
+ * <p>{@link #forEachInWorld} walks the in-world list rather than the directory, so global
+ * broadcasts reach players in the order they entered the world; iterating a copy-on-write list
+ * takes no copy.
  */
 public class DefaultClientPool implements ClientPool {
 
     private final List<Client> clients = new CopyOnWriteArrayList<>();
     private final CopyOnWriteArrayList<Client> inWorld = new CopyOnWriteArrayList<>();
     private final AtomicInteger nextId = new AtomicInteger();
+    private final Map<Username, Client> directory = new ConcurrentHashMap<>();
+    /** The username each in-world client was indexed under; guarded by {@code this} for writes. */
+    private final Map<Client, Username> directoryKeys = new ConcurrentHashMap<>();
 
     @Override
     public void add(Client client) {
@@ -29,17 +48,25 @@ public class DefaultClientPool implements ClientPool {
     }
 
     @Override
-    public void remove(Client client) {
+    public synchronized void remove(Client client) {
+        Username username = directoryKeys.remove(client);
+        if (username != null) {
+            directory.remove(username, client);
+        }
         inWorld.remove(client);
         clients.remove(client);
     }
 
     @Override
-    public void promoteToWorld(Client client) {
+    public synchronized void promoteToWorld(Client client) {
         if (!clients.contains(client)) {
             return;
         }
         inWorld.addIfAbsent(client);
+        client.currentPlayer().map(Player::getUsername).ifPresent(username -> {
+            directory.put(username, client);
+            directoryKeys.put(client, username);
+        });
     }
 
     @Override
@@ -56,4 +83,22 @@ public class DefaultClientPool implements ClientPool {
     public List<Client> inWorld() {
         return List.copyOf(inWorld);
     }
+
+    @Override
+    public Optional<Client> findInWorld(Username username) {
+        return Optional.ofNullable(directory.get(username));
+    }
+
+    // Identity check: a dropped client that a reattach has superseded keeps its key until removal,
+    // and must not be visited alongside the client that now owns the username.
+    @SuppressWarnings("ReferenceEquality")
+    @Override
+    public void forEachInWorld(BiConsumer<Username, Client> action) {
+        for (Client client : inWorld) {
+            Username username = directoryKeys.get(client);
+            if (username != null && directory.get(username) == client) {
+                action.accept(username, client);
+            }
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code DEPOSIT <amount>} command, moving gold from carried balance to the bank.
@@ -16,6 +17,11 @@ public class DepositCommand extends RegistrableCommand {
         return "deposit";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DEPOSIT");
+    }
+
     @Override
     public String shortDescription() {
         return "Deposit gold into the bank for safe keeping.";
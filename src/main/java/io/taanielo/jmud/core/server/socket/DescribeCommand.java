@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code DESCRIBE} command (alias {@code DESC}), letting a player set a custom roleplay
@@ -38,6 +39,11 @@ public class DescribeCommand extends RegistrableCommand {
         return "describe";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DESCRIBE", "DESC");
+    }
+
     @Override
     public String shortDescription() {
         return "Set the custom description others see when they LOOK at you.";
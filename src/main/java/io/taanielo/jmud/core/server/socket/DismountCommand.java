@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code DISMOUNT} command, climbing the player down from their current mount and
@@ -20,6 +21,11 @@ public class DismountCommand extends RegistrableCommand {
         return "dismount";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DISMOUNT");
+    }
+
     @Override
     public String shortDescription() {
         return "Climb down from your mount.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code DRINK} command, allowing players to consume drink items from their
@@ -18,6 +19,11 @@ public class DrinkCommand extends RegistrableCommand {
         return "drink";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DRINK", "DR");
+    }
+
     @Override
     public String shortDescription() {
         return "Drink a beverage from your inventory to quench thirst.";
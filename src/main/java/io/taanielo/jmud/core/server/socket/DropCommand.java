@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles drop commands.
@@ -15,6 +16,11 @@ public class DropCommand extends RegistrableCommand {
         return "drop";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DROP");
+    }
+
     @Override
     public String shortDescription() {
         return "Drop an item from your inventory onto the room floor.";
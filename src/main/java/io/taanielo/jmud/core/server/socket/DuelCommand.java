@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code DUEL} command, challenging another player in the same room to a consensual
@@ -18,6 +19,11 @@ public class DuelCommand extends RegistrableCommand {
         return "duel";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("DUEL");
+    }
+
     @Override
     public String shortDescription() {
         return "Challenge another player in the room to a consensual duel.";
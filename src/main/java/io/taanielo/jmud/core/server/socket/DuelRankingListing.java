@@ -1,10 +1,10 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
+import io.taanielo.jmud.core.leaderboard.PlayerStanding;
 import io.taanielo.jmud.core.player.Player;
 
 /**
@@ -15,7 +15,8 @@ import io.taanielo.jmud.core.player.Player;
  * unit tested in isolation. Only players with at least one recorded duel (a win
  * or a loss) are listed. Players are sorted by {@link Player#getDuelWins()}
  * descending, with ties broken by fewer losses and then by username for a
- * stable, deterministic order.
+ * stable, deterministic order ({@link PlayerStanding#BY_DUELS}, the order the duel
+ * leaderboard keeps).
  */
 public final class DuelRankingListing {
 
@@ -46,34 +47,39 @@ public final class DuelRankingListing {
      */
     public static List<String> format(List<Player> players, int limit) {
         Objects.requireNonNull(players, "Players are required");
-        List<Player> ranked = new ArrayList<>();
-        for (Player player : players) {
-            if (player.getDuelWins() > 0 || player.getDuelLosses() > 0) {
-                ranked.add(player);
-            }
-        }
-        ranked.sort(
-            Comparator.comparingInt(Player::getDuelWins).reversed()
-                .thenComparingInt(Player::getDuelLosses)
-                .thenComparing(p -> p.getUsername().getValue()));
+        List<PlayerStanding> ranked = players.stream()
+            .map(PlayerStanding::of)
+            .filter(PlayerStanding::hasDuels)
+            .sorted(PlayerStanding.BY_DUELS)
+            .toList();
+        return formatRanked(ranked.subList(0, Math.min(ranked.size(), Math.max(0, limit))), ranked.size());
+    }
 
+    /**
+     * Formats the leading entries of an already-ranked duel board.
+     *
+     * @param top   the best duelists, best first
+     * @param total the number of duelists on the whole board
+     * @return the lines to render, never empty
+     */
+    public static List<String> formatRanked(List<PlayerStanding> top, int total) {
+        Objects.requireNonNull(top, "Ranked players are required");
         List<String> lines = new ArrayList<>();
         lines.add(HEADER);
-        int shown = Math.min(ranked.size(), Math.max(0, limit));
-        for (int i = 0; i < shown; i++) {
-            Player player = ranked.get(i);
+        for (int i = 0; i < top.size(); i++) {
+            PlayerStanding player = top.get(i);
             lines.add(String.format(
                 "  %2d. %-15s %dW / %dL (%d%% win)",
                 i + 1,
-                player.getUsername().getValue(),
-                player.getDuelWins(),
-                player.getDuelLosses(),
-                winPercent(player.getDuelWins(), player.getDuelLosses())));
+                player.username().getValue(),
+                player.duelWins(),
+                player.duelLosses(),
+                winPercent(player.duelWins(), player.duelLosses())));
         }
-        if (ranked.size() > shown) {
-            lines.add("  ... and " + (ranked.size() - shown) + " more.");
+        if (total > top.size()) {
+            lines.add("  ... and " + (total - top.size()) + " more.");
         }
-        lines.add(footer(ranked.size()));
+        lines.add(footer(total));
         return List.copyOf(lines);
     }
 
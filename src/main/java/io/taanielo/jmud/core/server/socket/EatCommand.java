@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code EAT} command, allowing players to consume food items from their
@@ -18,6 +19,11 @@ public class EatCommand extends RegistrableCommand {
         return "eat";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("EAT");
+    }
+
     @Override
     public String shortDescription() {
         return "Eat food from your inventory to satisfy hunger.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code EFFECTS} / {@code AFFECTS} command, which lists the player's active status
@@ -25,6 +26,11 @@ public class EffectsCommand extends RegistrableCommand {
         return "effects";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("EFFECTS", "AFFECTS");
+    }
+
     @Override
     public String shortDescription() {
         return "List your active buffs, debuffs, and DoTs with remaining duration. Aliases: AFFECTS";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.player.Player;
 
@@ -35,6 +36,11 @@ public class EmoteCommand extends RegistrableCommand {
         return "emote";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("EMOTE", "ME");
+    }
+
     @Override
     public String shortDescription() {
         return "Express a free-form action visible to everyone in the room. Aliases: ME";
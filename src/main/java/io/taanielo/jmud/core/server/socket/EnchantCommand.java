@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code ENCHANT} command. With no arguments it lists the enchantments an Enchanter can
@@ -20,6 +21,11 @@ public class EnchantCommand extends RegistrableCommand {
         return "enchant";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("ENCHANT");
+    }
+
     @Override
     public String shortDescription() {
         return "Imbue carried gear with a permanent affix at an enchanter.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles equip commands.
@@ -15,6 +16,11 @@ public class EquipCommand extends RegistrableCommand {
         return "equip";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("EQUIP", "WIELD", "WEAR", "HOLD");
+    }
+
     @Override
     public String shortDescription() {
         return "Equip an item from your inventory. Aliases: WIELD, WEAR, HOLD";
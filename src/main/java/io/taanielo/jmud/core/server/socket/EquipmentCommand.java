@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code equipment} / {@code eq} command, displaying the items a
@@ -17,6 +18,11 @@ public class EquipmentCommand extends RegistrableCommand {
         return "equipment";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("EQUIPMENT", "EQ");
+    }
+
     @Override
     public String shortDescription() {
         return "Show the items you have worn in each slot, and item-set progress. Alias: EQ";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the EXAMINE command, letting players read an item's full description,
@@ -21,6 +22,11 @@ public class ExamineCommand extends RegistrableCommand {
         return "examine";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("EXAMINE", "EX", "EXAM");
+    }
+
     @Override
     public String shortDescription() {
         return "Read the description of an item in your inventory or room. Aliases: EX, EXAM";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code FLEE} command, allowing a player to escape from active combat
@@ -17,6 +18,11 @@ public class FleeCommand extends RegistrableCommand {
         return "flee";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("FLEE", "FL");
+    }
+
     @Override
     public String shortDescription() {
         return "Escape from combat by fleeing to a random exit. Aliases: FL";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code FOLLOW} command, letting a party member auto-follow another member's moves.
@@ -34,6 +35,11 @@ public class FollowCommand extends RegistrableCommand {
         return "follow";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("UNFOLLOW", "FOLLOW");
+    }
+
     @Override
     public String shortDescription() {
         return "Auto-follow a party member's movements. Use FOLLOW <name> or FOLLOW OFF.";
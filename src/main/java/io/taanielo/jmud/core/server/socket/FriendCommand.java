@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code FRIEND} command, which lets a player maintain a persistent buddy list that is
@@ -36,6 +37,11 @@ public class FriendCommand extends RegistrableCommand {
         return "friend";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("FRIEND");
+    }
+
     @Override
     public String shortDescription() {
         return "Maintain a persistent friends list, highlighted in WHO.";
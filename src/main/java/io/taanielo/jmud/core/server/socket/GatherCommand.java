@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code GATHER} command, the non-combat activity for harvesting a raw crafting material
@@ -21,6 +22,11 @@ public class GatherCommand extends RegistrableCommand {
         return "gather";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GATHER");
+    }
+
     @Override
     public String shortDescription() {
         return "Harvest raw crafting materials from a resource node in the room.";
@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles get commands.
@@ -16,6 +17,11 @@ public class GetCommand extends RegistrableCommand {
         return "get";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GET");
+    }
+
     @Override
     public String shortDescription() {
         return "Pick up an item from the room floor.";
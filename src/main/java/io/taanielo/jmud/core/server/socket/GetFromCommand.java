@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code GET <item> FROM <container>} form of the {@code GET} command, which retrieves
@@ -27,6 +28,11 @@ public class GetFromCommand extends RegistrableCommand {
         return "get from";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GET");
+    }
+
     @Override
     public String shortDescription() {
         return "Get an item out of a container you are carrying.";
@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.authentication.Username;
 import io.taanielo.jmud.core.player.Player;
@@ -40,6 +41,11 @@ public class GiveCommand extends RegistrableCommand {
         return "give";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GIVE");
+    }
+
     @Override
     public String shortDescription() {
         return "Give an item from your inventory to a player in your room.";
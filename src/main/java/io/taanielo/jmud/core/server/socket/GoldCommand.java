@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.player.Player;
 
@@ -18,6 +19,11 @@ public class GoldCommand extends RegistrableCommand {
         return "gold";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GOLD");
+    }
+
     @Override
     public String shortDescription() {
         return "Display your current gold balance.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.player.Player;
 
@@ -31,6 +32,11 @@ public class GossipCommand extends RegistrableCommand {
         return "gossip";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GOSSIP", "GOS", "G");
+    }
+
     @Override
     public String shortDescription() {
         return "Broadcast a message to all online players. Aliases: GOS, G";
@@ -58,6 +58,11 @@ public class GotoCommand extends RegistrableCommand {
         return "goto";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GOTO");
+    }
+
     @Override
     public String shortDescription() {
         return "Teleport to a room by id (wizard only).";
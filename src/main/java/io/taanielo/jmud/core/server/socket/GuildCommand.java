@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code GUILD} command family, letting players found and manage a persistent guild and
@@ -47,6 +48,11 @@ public class GuildCommand extends RegistrableCommand {
         return "guild";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GC", "GUILD");
+    }
+
     @Override
     public String shortDescription() {
         return "Found and manage a persistent guild. Use GUILD CREATE <name> to begin. Alias: GC (chat).";
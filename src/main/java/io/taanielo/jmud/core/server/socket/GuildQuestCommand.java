@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code GUILD QUEST} family: shows the caller's guild its current cooperative guild
@@ -31,6 +32,11 @@ public class GuildQuestCommand extends RegistrableCommand {
         return "guild_quest";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("GUILD_QUEST", "GQUEST");
+    }
+
     @Override
     public String shortDescription() {
         return "Show your guild's cooperative guild quest and shared progress. Alias: GQUEST.";
@@ -1,11 +1,11 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
 import io.taanielo.jmud.core.guild.Guild;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
 
 /**
  * Pure, network-free helper that formats a server-wide guild ranking for the
@@ -16,7 +16,7 @@ import io.taanielo.jmud.core.guild.Guild;
  * (highest tier first), with ties broken by {@link Guild#lifetimeDepositedGold()}
  * lifetime deposited gold descending, then by {@link Guild#warWins() guild-war
  * wins} descending (the PvP-earned axis, issue #731), and finally by guild name
- * for a stable, deterministic order. Each line shows the guild's rank, name,
+ * for a stable, deterministic order ({@link LeaderboardService#GUILD_ORDER}). Each line shows the guild's rank, name,
  * level, member count, war wins, and leader's username.
  */
 public final class GuildRankingListing {
@@ -50,21 +50,27 @@ public final class GuildRankingListing {
      */
     public static List<String> format(List<Guild> guilds, int limit) {
         Objects.requireNonNull(guilds, "Guilds are required");
-        if (guilds.isEmpty()) {
+        List<Guild> ranked = guilds.stream().sorted(LeaderboardService.GUILD_ORDER).toList();
+        return formatRanked(ranked.subList(0, Math.min(ranked.size(), Math.max(0, limit))), ranked.size());
+    }
+
+    /**
+     * Formats the leading entries of an already-ranked guild board. When the board
+     * is empty a single friendly message is returned instead of an empty table.
+     *
+     * @param top   the best guilds, best first
+     * @param total the number of guilds on the whole board
+     * @return the lines to render, never empty
+     */
+    public static List<String> formatRanked(List<Guild> top, int total) {
+        Objects.requireNonNull(top, "Ranked guilds are required");
+        if (total == 0) {
             return List.of(EMPTY);
         }
-        List<Guild> ranked = new ArrayList<>(guilds);
-        ranked.sort(
-            Comparator.comparingInt((Guild g) -> g.level().rank()).reversed()
-                .thenComparing(Comparator.comparingInt(Guild::lifetimeDepositedGold).reversed())
-                .thenComparing(Comparator.comparingInt(Guild::warWins).reversed())
-                .thenComparing(Guild::name));
-
         List<String> lines = new ArrayList<>();
         lines.add(HEADER);
-        int shown = Math.min(ranked.size(), Math.max(0, limit));
-        for (int i = 0; i < shown; i++) {
-            Guild guild = ranked.get(i);
+        for (int i = 0; i < top.size(); i++) {
+            Guild guild = top.get(i);
             lines.add(String.format(
                 "  %2d. %-24s L%d  %d members  %d war wins  led by %s",
                 i + 1,
@@ -74,10 +80,10 @@ public final class GuildRankingListing {
                 guild.warWins(),
                 guild.leaderId().getValue()));
         }
-        if (ranked.size() > shown) {
-            lines.add("  ... and " + (ranked.size() - shown) + " more.");
+        if (total > top.size()) {
+            lines.add("  ... and " + (total - top.size()) + " more.");
         }
-        lines.add(footer(ranked.size()));
+        lines.add(footer(total));
         return List.copyOf(lines);
     }
 
@@ -6,6 +6,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import io.taanielo.jmud.core.ability.Ability;
@@ -324,6 +325,11 @@ public class HelpCommand extends RegistrableCommand {
         return "help";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("HELP", "H");
+    }
+
     @Override
     public String shortDescription() {
         return "List available commands, describe a command, or view a class. Aliases: H";
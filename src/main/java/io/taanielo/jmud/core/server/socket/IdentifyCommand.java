@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code IDENTIFY <item>} command, revealing a carried item's true rarity tier and stat
@@ -20,6 +21,11 @@ public class IdentifyCommand extends RegistrableCommand {
         return "identify";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("IDENTIFY", "IDENT");
+    }
+
     @Override
     public String shortDescription() {
         return "Reveal the true nature of an unidentified item you carry.";
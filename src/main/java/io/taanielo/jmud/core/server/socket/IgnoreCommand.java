@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code IGNORE} command, which lets a player mute TELL and SAY messages from
@@ -35,6 +36,11 @@ public class IgnoreCommand extends RegistrableCommand {
         return "ignore";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("IGNORE");
+    }
+
     @Override
     public String shortDescription() {
         return "Mute TELL and SAY messages from specific players.";
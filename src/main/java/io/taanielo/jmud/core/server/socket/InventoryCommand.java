@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code inventory} / {@code inv} / {@code i} command, displaying
@@ -18,6 +19,11 @@ public class InventoryCommand extends RegistrableCommand {
         return "inventory";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("INVENTORY", "INV", "I");
+    }
+
     @Override
     public Optional<SocketCommandMatch> match(String input) {
         String token = SocketCommandParsing.firstToken(input);
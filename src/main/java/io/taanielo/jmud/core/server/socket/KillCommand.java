@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles kill commands targeting mobs in the same room.
@@ -15,6 +16,11 @@ public class KillCommand extends RegistrableCommand {
         return "kill";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("KILL", "K");
+    }
+
     @Override
     public String shortDescription() {
         return "Attack a mob in the same room. Aliases: K";
@@ -1,10 +1,10 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
+import io.taanielo.jmud.core.leaderboard.PlayerStanding;
 import io.taanielo.jmud.core.player.Player;
 
 /**
@@ -13,7 +13,8 @@ import io.taanielo.jmud.core.player.Player;
  *
  * <p>Kept free of any I/O so the ranking, ordering, and pagination logic can be
  * unit tested in isolation. Players are sorted by {@link Player#getTotalKills()}
- * descending, with ties broken by username for a stable, deterministic order.
+ * descending, with ties broken by username for a stable, deterministic order
+ * ({@link PlayerStanding#BY_KILLS}, the order the kill leaderboard keeps).
  */
 public final class KillRankingListing {
 
@@ -44,22 +45,32 @@ public final class KillRankingListing {
      */
     public static List<String> format(List<Player> players, int limit) {
         Objects.requireNonNull(players, "Players are required");
-        List<Player> ranked = new ArrayList<>(players);
-        ranked.sort(
-            Comparator.comparingLong(Player::getTotalKills).reversed()
-                .thenComparing(p -> p.getUsername().getValue()));
+        List<PlayerStanding> ranked = players.stream()
+            .map(PlayerStanding::of)
+            .sorted(PlayerStanding.BY_KILLS)
+            .toList();
+        return formatRanked(ranked.subList(0, Math.min(ranked.size(), Math.max(0, limit))), ranked.size());
+    }
 
+    /**
+     * Formats the leading entries of an already-ranked kill board.
+     *
+     * @param top   the best entries, best first
+     * @param total the number of players on the whole board
+     * @return the lines to render, never empty
+     */
+    public static List<String> formatRanked(List<PlayerStanding> top, int total) {
+        Objects.requireNonNull(top, "Ranked players are required");
         List<String> lines = new ArrayList<>();
         lines.add(HEADER);
-        int shown = Math.min(ranked.size(), Math.max(0, limit));
-        for (int i = 0; i < shown; i++) {
-            Player player = ranked.get(i);
-            lines.add(String.format("  %2d. %-15s %d kills", i + 1, player.getUsername().getValue(), player.getTotalKills()));
+        for (int i = 0; i < top.size(); i++) {
+            PlayerStanding player = top.get(i);
+            lines.add(String.format("  %2d. %-15s %d kills", i + 1, player.username().getValue(), player.totalKills()));
         }
-        if (ranked.size() > shown) {
-            lines.add("  ... and " + (ranked.size() - shown) + " more.");
+        if (total > top.size()) {
+            lines.add("  ... and " + (total - top.size()) + " more.");
         }
-        lines.add(footer(ranked.size()));
+        lines.add(footer(total));
         return List.copyOf(lines);
     }
 
@@ -0,0 +1,65 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import io.taanielo.jmud.core.leaderboard.PlayerStanding;
+import io.taanielo.jmud.core.player.Player;
+
+/**
+ * Pure, network-free helper that formats a global level ranking for the
+ * {@code RANK LEVELS} command.
+ *
+ * <p>Kept free of any I/O so the ranking and pagination logic can be unit tested
+ * in isolation. Players are sorted by {@link Player#getLevel()} descending, then by
+ * experience descending, with ties broken by username
+ * ({@link PlayerStanding#BY_LEVEL}, the order the level leaderboard keeps).
+ */
+public final class LevelRankingListing {
+
+    private static final String HEADER = "Level ranking:";
+    private static final int DEFAULT_LIMIT = 20;
+
+    private LevelRankingListing() {
+    }
+
+    /**
+     * Formats the given players into a descending level ranking, capped at
+     * {@value #DEFAULT_LIMIT} entries.
+     *
+     * @param players the persisted players to rank, in any order
+     * @return the lines to render, never empty
+     */
+    public static List<String> format(List<Player> players) {
+        Objects.requireNonNull(players, "Players are required");
+        List<PlayerStanding> ranked = players.stream()
+            .map(PlayerStanding::of)
+            .sorted(PlayerStanding.BY_LEVEL)
+            .toList();
+        return formatRanked(ranked.subList(0, Math.min(ranked.size(), DEFAULT_LIMIT)), ranked.size());
+    }
+
+    /**
+     * Formats the leading entries of an already-ranked level board.
+     *
+     * @param top   the best entries, best first
+     * @param total the number of players on the whole board
+     * @return the lines to render, never empty
+     */
+    public static List<String> formatRanked(List<PlayerStanding> top, int total) {
+        Objects.requireNonNull(top, "Ranked players are required");
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        for (int i = 0; i < top.size(); i++) {
+            PlayerStanding player = top.get(i);
+            lines.add(String.format(
+                "  %2d. %-15s level %d (%d xp)", i + 1, player.username().getValue(), player.level(), player.experience()));
+        }
+        if (total > top.size()) {
+            lines.add("  ... and " + (total - top.size()) + " more.");
+        }
+        lines.add(KillRankingListing.footer(total));
+        return List.copyOf(lines);
+    }
+}
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code LFG} command, which toggles the caller's "looking for group" status (issue
@@ -36,6 +37,11 @@ public class LfgCommand extends RegistrableCommand {
         return "lfg";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("LFG");
+    }
+
     @Override
     public String shortDescription() {
         return "Toggle your looking-for-group status.";
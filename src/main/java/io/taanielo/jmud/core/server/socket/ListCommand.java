@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code LIST} command, showing the shop's inventory in the current room.
@@ -18,6 +19,11 @@ public class ListCommand extends RegistrableCommand {
         return "list";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("LIST");
+    }
+
     @Override
     public String shortDescription() {
         return "List a nearby shop's inventory and prices.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.world.Direction;
 
@@ -21,6 +22,11 @@ public class LockCommand extends RegistrableCommand {
         return "lock";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("LOCK");
+    }
+
     @Override
     public String shortDescription() {
         return "Lock a door in the given direction.";
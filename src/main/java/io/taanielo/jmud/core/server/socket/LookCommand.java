@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles look commands.
@@ -15,6 +16,11 @@ public class LookCommand extends RegistrableCommand {
         return "look";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("LOOK", "L");
+    }
+
     @Override
     public String shortDescription() {
         return "Examine your surroundings or a target. Aliases: L";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code MAIL} command, giving every player a persistent, offline mailbox.
@@ -42,6 +43,11 @@ public class MailCommand extends RegistrableCommand {
         return "mail";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("MAIL");
+    }
+
     @Override
     public String shortDescription() {
         return "Leave an offline message for a player, or read/list/delete your own mail.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code MARRY} command, a purely-opt-in roleplay bond between two players.
@@ -35,6 +36,11 @@ public class MarryCommand extends RegistrableCommand {
         return "marry";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("MARRY");
+    }
+
     @Override
     public String shortDescription() {
         return "Propose marriage, or manage your marriage bond.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code MENTOR} command family: an opt-in bond in which a veteran player boosts a
@@ -34,6 +35,11 @@ public class MentorCommand extends RegistrableCommand {
         return "mentor";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("MENTOR");
+    }
+
     @Override
     public String shortDescription() {
         return "Bond with a newcomer to boost their XP, or manage your mentor bond.";
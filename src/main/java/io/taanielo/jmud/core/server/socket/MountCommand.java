@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code MOUNT <name>} command, saddling the player up on a rideable mount they own.
@@ -21,6 +22,11 @@ public class MountCommand extends RegistrableCommand {
         return "mount";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("MOUNT");
+    }
+
     @Override
     public String shortDescription() {
         return "Ride a mount you own to travel faster.";
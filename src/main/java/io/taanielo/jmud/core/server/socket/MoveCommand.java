@@ -1,6 +1,9 @@
 package io.taanielo.jmud.core.server.socket;
 
+import java.util.HashSet;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.world.Direction;
 
@@ -8,6 +11,8 @@ import io.taanielo.jmud.core.world.Direction;
  * Handles movement commands and directional aliases.
  */
 public class MoveCommand extends RegistrableCommand {
+    private static final Set<String> FIRST_TOKENS = directionTokens();
+
     public MoveCommand(SocketCommandRegistry registry) {
         super(registry);
     }
@@ -17,6 +22,11 @@ public class MoveCommand extends RegistrableCommand {
         return "move";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return FIRST_TOKENS;
+    }
+
     @Override
     public Optional<SocketCommandMatch> match(String input) {
         String[] parts = SocketCommandParsing.splitInput(input);
@@ -33,4 +43,13 @@ public class MoveCommand extends RegistrableCommand {
         }
         return Optional.empty();
     }
+
+    private static Set<String> directionTokens() {
+        Set<String> tokens = new HashSet<>(Set.of("MOVE", "GO", "WALK"));
+        for (Direction direction : Direction.values()) {
+            tokens.add(direction.label().toUpperCase(Locale.ROOT));
+            tokens.add(direction.shortLabel().toUpperCase(Locale.ROOT));
+        }
+        return Set.copyOf(tokens);
+    }
 }
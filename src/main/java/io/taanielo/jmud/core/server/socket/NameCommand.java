@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code NAME <companion> <new name>} command, which gives one of the player's own tamed
@@ -23,6 +24,11 @@ public class NameCommand extends RegistrableCommand {
         return "name";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("NAME");
+    }
+
     @Override
     public String shortDescription() {
         return "Give one of your tamed companions a custom name.";
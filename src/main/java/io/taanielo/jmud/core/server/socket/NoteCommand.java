@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code NOTE} command, letting players post and delete notes on the bulletin board of
@@ -31,6 +32,11 @@ public class NoteCommand extends RegistrableCommand {
         return "note";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("NOTE");
+    }
+
     @Override
     public String shortDescription() {
         return "Post or delete a note on your current room's bulletin board. Read with BOARD.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code PARTY} command, letting players form and manage groups.
@@ -35,6 +36,11 @@ public class PartyCommand extends RegistrableCommand {
         return "party";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("PTELL", "PARTY");
+    }
+
     @Override
     public String shortDescription() {
         return "Form and manage a player party for shared XP. Use PARTY FORM to begin. Alias: PTELL (chat).";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code PICK <container>} command, the rogue-only skill for unlocking a locked
@@ -21,6 +22,11 @@ public class PickCommand extends RegistrableCommand {
         return "pick";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("PICK");
+    }
+
     @Override
     public String shortDescription() {
         return "Attempt to unlock a locked container (rogue skill only).";
@@ -18,6 +18,10 @@ import io.taanielo.jmud.core.tick.Tickable;
  *
  * <p>Each tick drains at most {@code maxCommandsPerTick} commands so a full queue
  * cannot monopolize a tick; the remainder carries over to the next tick.
+ *
+ * <p>Every command is stamped with {@link System#nanoTime()} when it is enqueued. A
+ * {@link TimedCommand} is told how long it waited when the tick thread runs it, so
+ * per-player backlog can be told apart from a slow tick or a slow command.
  */
 @Slf4j
 public class PlayerCommandQueue implements Tickable {
@@ -27,7 +31,7 @@ public class PlayerCommandQueue implements Tickable {
     /** Default maximum number of commands executed per tick. */
     public static final int DEFAULT_MAX_COMMANDS_PER_TICK = 5;
 
-    private final LinkedBlockingQueue<Runnable> queue;
+    private final LinkedBlockingQueue<Entry> queue;
     private final int maxCommandsPerTick;
 
     /**
@@ -62,7 +66,21 @@ public class PlayerCommandQueue implements Tickable {
      *     full and the command was dropped
      */
     public boolean enqueue(Runnable command) {
-        boolean accepted = queue.offer(Objects.requireNonNull(command, "Command is required"));
+        Objects.requireNonNull(command, "Command is required");
+        return enqueue(queueWaitNanos -> command.run());
+    }
+
+    /**
+     * Attempts to enqueue a command that wants to know how long it waited. Safe to call
+     * from reader threads.
+     *
+     * @param command the command to run on the tick thread
+     * @return {@code true} if the command was accepted; {@code false} if the queue is
+     *     full and the command was dropped
+     */
+    public boolean enqueue(TimedCommand command) {
+        Objects.requireNonNull(command, "Command is required");
+        boolean accepted = queue.offer(new Entry(command, System.nanoTime()));
         if (!accepted) {
             log.debug("Player command queue full ({} pending); dropping command", queue.size());
         }
@@ -72,11 +90,11 @@ public class PlayerCommandQueue implements Tickable {
     @Override
     public void tick() {
         int executed = 0;
-        Runnable task;
+        Entry task;
         while (executed < maxCommandsPerTick && (task = queue.poll()) != null) {
             executed++;
             try {
-                task.run();
+                task.command().run(System.nanoTime() - task.enqueuedNanos());
             } catch (Exception e) {
                 log.error("Player command failed", e);
             }
@@ -91,4 +109,21 @@ public class PlayerCommandQueue implements Tickable {
     public int size() {
         return queue.size();
     }
+
+    /**
+     * A queued command that receives the time it spent waiting in the queue.
+     */
+    @FunctionalInterface
+    public interface TimedCommand {
+
+        /**
+         * Runs the command on the tick thread.
+         *
+         * @param queueWaitNanos nanoseconds between enqueue and this call
+         */
+        void run(long queueWaitNanos);
+    }
+
+    private record Entry(TimedCommand command, long enqueuedNanos) {
+    }
 }
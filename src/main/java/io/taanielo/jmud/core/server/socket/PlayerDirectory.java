@@ -0,0 +1,313 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.persistence.PersistenceQueue;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.tick.TickThreadDispatcher;
+
+/**
+ * Answers "the current {@link Player} for this username" for cross-player lookups — party HP in the
+ * prompt, mail, friends, marriage, mentoring, bounties and auction returns — without scanning every
+ * connection or reading a player file on the tick thread.
+ *
+ * <p>Online players, linkdead ones included, come straight from the {@link PlayerSessionRegistry}.
+ * Offline players come from a bounded, least-recently-used cache of snapshots that is kept coherent
+ * with writes: every snapshot the {@link PersistenceQueue} accepts replaces the cached copy (see
+ * {@link #recordSave(Player)}), and a purged player is remembered as absent. Absent players are
+ * cached as well, so repeated lookups of a mistyped name do not touch the disk.
+ *
+ * <p><strong>Threading (AGENTS.md §5).</strong> A miss is loaded on a background {@link Executor} (a
+ * virtual thread in production) — from the queue's unwritten snapshot when there is one, otherwise
+ * from the repository — and the result is handed back on the tick thread through
+ * {@link TickThreadDispatcher#runOnNextTick(Runnable)}. Lookups of the same player that miss while a
+ * load is running share that load. The cache is guarded by this instance's monitor, because saves
+ * are recorded on whichever thread enqueued them.
+ */
+@Slf4j
+public final class PlayerDirectory {
+
+    private final PlayerSessionRegistry sessions;
+    private final PlayerRepository playerRepository;
+    private final PersistenceQueue persistenceQueue;
+    private final Executor loadExecutor;
+    private final Executor tickExecutor;
+    /** Offline players by username, least recently used first; empty for a player that does not exist. */
+    private final Map<Username, Optional<Player>> offline;
+    /** Callbacks waiting on each running load. */
+    private final Map<Username, List<Consumer<Optional<Player>>>> loading = new HashMap<>();
+
+    /**
+     * Creates a directory that loads misses on virtual threads and delivers them on the next tick.
+     *
+     * @param sessions           registry of live (and linkdead) sessions
+     * @param playerRepository   repository offline players are loaded from
+     * @param persistenceQueue   write-behind queue whose unwritten snapshots take precedence over the repository
+     * @param tickDispatcher     dispatcher that runs load results on the tick thread
+     * @param capacity           most offline players kept cached; {@code 0} disables the cache
+     */
+    public PlayerDirectory(
+        PlayerSessionRegistry sessions,
+        PlayerRepository playerRepository,
+        PersistenceQueue persistenceQueue,
+        TickThreadDispatcher tickDispatcher,
+        int capacity
+    ) {
+        this(sessions, playerRepository, persistenceQueue,
+            command -> Thread.ofVirtual().name("player-directory-load").start(command),
+            Objects.requireNonNull(tickDispatcher, "Tick dispatcher is required")::runOnNextTick,
+            capacity);
+    }
+
+    /**
+     * Creates a directory with explicit executors. Package-private so tests can run loads and ticks
+     * by hand.
+     *
+     * @param sessions         registry of live (and linkdead) sessions
+     * @param playerRepository repository offline players are loaded from
+     * @param persistenceQueue write-behind queue whose unwritten snapshots take precedence over the repository
+     * @param loadExecutor     executor misses are loaded on (never the tick thread)
+     * @param tickExecutor     executor that runs load results on the tick thread
+     * @param capacity         most offline players kept cached; {@code 0} disables the cache
+     */
+    PlayerDirectory(
+        PlayerSessionRegistry sessions,
+        PlayerRepository playerRepository,
+        PersistenceQueue persistenceQueue,
+        Executor loadExecutor,
+        Executor tickExecutor,
+        int capacity
+    ) {
+        this.sessions = Objects.requireNonNull(sessions, "Session registry is required");
+        this.playerRepository = Objects.requireNonNull(playerRepository, "Player repository is required");
+        this.persistenceQueue = Objects.requireNonNull(persistenceQueue, "Persistence queue is required");
+        this.loadExecutor = Objects.requireNonNull(loadExecutor, "Load executor is required");
+        this.tickExecutor = Objects.requireNonNull(tickExecutor, "Tick executor is required");
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Offline player cache capacity must be >= 0");
+        }
+        this.offline = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Username, Optional<Player>> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the live player for a username that is in the world, connected or linkdead.
+     *
+     * @param username the player to look up
+     * @return the in-session player, or {@code null} if the player is not in the world
+     */
+    public @Nullable Player online(Username username) {
+        PlayerSession session = sessions.lookup(username).orElse(null);
+        if (session == null || !session.isAuthenticated()) {
+            return null;
+        }
+        return session.getPlayer();
+    }
+
+    /**
+     * Returns the player if the answer is already in memory, never blocking. Empty means either that
+     * the player does not exist or that they are offline and not cached; {@link #prefetch(Username)}
+     * tells the two apart for a later call.
+     *
+     * @param username the player to look up
+     * @return the online or cached offline player, or empty
+     */
+    public Optional<Player> cached(Username username) {
+        Player player = online(username);
+        if (player != null) {
+            return Optional.of(player);
+        }
+        synchronized (this) {
+            return offline.getOrDefault(username, Optional.empty());
+        }
+    }
+
+    /**
+     * Resolves a player, online or offline, and passes the result to {@code callback}. The callback
+     * runs immediately when the answer is in memory, and otherwise on the tick thread once the player
+     * has been loaded; a player who logged in meanwhile is then reported with their live state.
+     *
+     * @param username the player to resolve
+     * @param callback receives the player, or empty if no such player exists
+     */
+    public void resolve(Username username, Consumer<Optional<Player>> callback) {
+        Objects.requireNonNull(callback, "Callback is required");
+        Player player = online(username);
+        if (player != null) {
+            callback.accept(Optional.of(player));
+            return;
+        }
+        Optional<Player> hit;
+        boolean startLoad;
+        synchronized (this) {
+            hit = offline.get(username);
+            startLoad = hit == null && addWaiter(username, callback);
+        }
+        if (hit != null) {
+            callback.accept(hit);
+        } else if (startLoad) {
+            loadExecutor.execute(() -> load(username));
+        }
+    }
+
+    /**
+     * Starts loading an offline player that is not cached yet, so a later {@link #cached(Username)}
+     * finds them. Does nothing when the player is online, cached or already loading.
+     *
+     * @param username the player to load
+     */
+    public void prefetch(Username username) {
+        if (online(username) != null) {
+            return;
+        }
+        boolean startLoad;
+        synchronized (this) {
+            startLoad = !offline.containsKey(username) && addWaiter(username, null);
+        }
+        if (startLoad) {
+            loadExecutor.execute(() -> load(username));
+        }
+    }
+
+    /**
+     * Resolves a player on the calling thread, reading them from storage on a miss. Only for callers
+     * that must answer within the current tick; everything else should use
+     * {@link #resolve(Username, Consumer)}.
+     *
+     * @param username the player to resolve
+     * @return the player, or empty if no such player exists
+     */
+    public Optional<Player> resolveNow(Username username) {
+        Player player = online(username);
+        if (player != null) {
+            return Optional.of(player);
+        }
+        synchronized (this) {
+            Optional<Player> hit = offline.get(username);
+            if (hit != null) {
+                return hit;
+            }
+        }
+        Optional<Player> loaded = read(username);
+        synchronized (this) {
+            Optional<Player> newer = offline.putIfAbsent(username, loaded);
+            return newer == null ? loaded : newer;
+        }
+    }
+
+    /**
+     * Records a snapshot accepted by the {@link PersistenceQueue}, so the cache never serves a copy
+     * older than the last save. Online players are only updated if already cached, so a busy server's
+     * autosaves do not push offline players out.
+     *
+     * @param snapshot the saved player
+     */
+    public void recordSave(Player snapshot) {
+        Username username = snapshot.getUsername();
+        synchronized (this) {
+            if (offline.containsKey(username) || online(username) == null) {
+                offline.put(username, Optional.of(snapshot));
+            }
+        }
+    }
+
+    /**
+     * Records that a player's save was deleted.
+     *
+     * @param username the deleted player
+     */
+    public synchronized void recordDeletion(Username username) {
+        offline.put(username, Optional.empty());
+    }
+
+    /** Adds a waiter for a load; returns whether the caller must start the load. Holds the monitor. */
+    private boolean addWaiter(Username username, @Nullable Consumer<Optional<Player>> callback) {
+        List<Consumer<Optional<Player>>> waiters = loading.get(username);
+        boolean first = waiters == null;
+        if (waiters == null) {
+            waiters = new ArrayList<>();
+            loading.put(username, waiters);
+        }
+        if (callback != null) {
+            waiters.add(callback);
+        }
+        return first;
+    }
+
+    private Optional<Player> read(Username username) {
+        Optional<Player> pending = persistenceQueue.pendingSnapshot(username);
+        return pending.isPresent() ? pending : playerRepository.loadPlayer(username);
+    }
+
+    private void load(Username username) {
+        Optional<Player> loaded;
+        boolean succeeded;
+        try {
+            loaded = read(username);
+            succeeded = true;
+        } catch (RuntimeException e) {
+            log.warn("Failed to load player {} for a cross-player lookup", username, e);
+            loaded = Optional.empty();
+            succeeded = false;
+        }
+        Optional<Player> result = loaded;
+        boolean cache = succeeded;
+        tickExecutor.execute(() -> deliver(username, result, cache));
+    }
+
+    private void deliver(Username username, Optional<Player> loaded, boolean cache) {
+        List<Consumer<Optional<Player>>> waiters;
+        synchronized (this) {
+            waiters = loading.remove(username);
+            if (cache) {
+                // A save recorded while the load ran is newer than what was read, so it stays.
+                offline.putIfAbsent(username, loaded);
+            }
+        }
+        if (waiters == null) {
+            return;
+        }
+        for (Consumer<Optional<Player>> waiter : waiters) {
+            try {
+                // Re-read per waiter: an earlier waiter may have changed and saved the player.
+                waiter.accept(latest(username, loaded));
+            } catch (RuntimeException e) {
+                log.error("Player lookup callback failed for {}", username, e);
+            }
+        }
+    }
+
+    /** Returns the newest known state of a player: live, cached, unwritten, or else {@code fallback}. */
+    private Optional<Player> latest(Username username, Optional<Player> fallback) {
+        Player player = online(username);
+        if (player != null) {
+            return Optional.of(player);
+        }
+        synchronized (this) {
+            Optional<Player> hit = offline.get(username);
+            if (hit != null) {
+                return hit;
+            }
+        }
+        Optional<Player> pending = persistenceQueue.pendingSnapshot(username);
+        return pending.isPresent() ? pending : fallback;
+    }
+}
@@ -483,6 +483,18 @@ public class PlayerSession {
         return commandQueue.enqueue(command);
     }
 
+    /**
+     * Attempts to enqueue a command that is told how long it waited in the queue.
+     *
+     * @param command the command to run on the tick thread
+     * @return {@code true} if the command was accepted; {@code false} if the bounded
+     *     queue is full and the command was dropped
+     * @see #enqueueCommand(Runnable)
+     */
+    public boolean enqueueCommand(PlayerCommandQueue.TimedCommand command) {
+        return commandQueue.enqueue(command);
+    }
+
     /**
      * Registers a hook invoked whenever a player save fails, after the failure has
      * already been logged. Used by the transport layer to warn the player and emit
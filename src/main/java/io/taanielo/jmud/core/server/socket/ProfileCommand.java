@@ -0,0 +1,193 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.diagnostics.FlightRecordingService;
+import io.taanielo.jmud.core.messaging.MessageBroadcaster;
+import io.taanielo.jmud.core.messaging.SystemNoticeMessage;
+import io.taanielo.jmud.core.player.Player;
+
+/**
+ * Handles the wizard-only {@code PROFILE} command, which starts and stops a bounded JDK Flight
+ * Recorder recording of the live server (see {@link FlightRecordingService}).
+ *
+ * <p>A recording captures the JDK's low-overhead default events plus the {@code jmud.Tick},
+ * {@code jmud.Tickable}, {@code jmud.Command}, {@code jmud.PlayerSave} and {@code jmud.Broadcast}
+ * events, so an overrunning tick can be traced to the command, mob phase or save that caused it.
+ *
+ * <p><strong>Threading (AGENTS.md §5).</strong> Starting a recording creates its directory and
+ * stopping one writes the whole file, so both run on a background {@link Executor} (a virtual
+ * thread in production) and report back through {@link MessageBroadcaster}, as {@code RELOAD} does.
+ * Access is gated by {@link WizardPolicy}.
+ */
+public class ProfileCommand extends RegistrableCommand {
+
+    private final WizardPolicy wizardPolicy;
+    private final FlightRecordingService recordingService;
+    private final MessageBroadcaster messageBroadcaster;
+    private final Executor recordingExecutor;
+
+    /**
+     * Creates the PROFILE command with a virtual-thread-per-task executor for the recording I/O.
+     *
+     * @param registry           the command registry to register with
+     * @param wizardPolicy       policy deciding which players may record
+     * @param recordingService   service that starts and stops recordings
+     * @param messageBroadcaster scoped delivery service used to report the outcome
+     */
+    public ProfileCommand(
+        SocketCommandRegistry registry,
+        WizardPolicy wizardPolicy,
+        FlightRecordingService recordingService,
+        MessageBroadcaster messageBroadcaster
+    ) {
+        this(registry, wizardPolicy, recordingService, messageBroadcaster,
+            command -> Thread.ofVirtual().name("wizard-profile").start(command));
+    }
+
+    /**
+     * Creates the PROFILE command with an explicit executor. Package-private so tests can supply a
+     * synchronous executor for deterministic assertions.
+     *
+     * @param registry           the command registry to register with
+     * @param wizardPolicy       policy deciding which players may record
+     * @param recordingService   service that starts and stops recordings
+     * @param messageBroadcaster scoped delivery service used to report the outcome
+     * @param recordingExecutor  executor on which recordings are started and stopped (never the tick thread)
+     */
+    ProfileCommand(
+        SocketCommandRegistry registry,
+        WizardPolicy wizardPolicy,
+        FlightRecordingService recordingService,
+        MessageBroadcaster messageBroadcaster,
+        Executor recordingExecutor
+    ) {
+        super(registry);
+        this.wizardPolicy = Objects.requireNonNull(wizardPolicy, "Wizard policy is required");
+        this.recordingService = Objects.requireNonNull(recordingService, "Recording service is required");
+        this.messageBroadcaster = Objects.requireNonNull(messageBroadcaster, "Message broadcaster is required");
+        this.recordingExecutor = Objects.requireNonNull(recordingExecutor, "Recording executor is required");
+    }
+
+    @Override
+    public String name() {
+        return "profile";
+    }
+
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("PROFILE");
+    }
+
+    @Override
+    public String shortDescription() {
+        return "Record a Flight Recorder profile of the server (wizard only).";
+    }
+
+    @Override
+    public String longDescription() {
+        return """
+               Usage: PROFILE
+                      PROFILE START [seconds]
+                      PROFILE STOP
+                 Starts a JDK Flight Recorder recording of ticks, commands, saves and broadcasts,
+                 written to a .jfr file in the recording directory when stopped or after the given
+                 number of seconds (capped by the server's limit). PROFILE alone shows whether a
+                 recording is running. Restricted to wizards.\
+               """;
+    }
+
+    @Override
+    public Optional<SocketCommandMatch> match(String input) {
+        String[] parts = SocketCommandParsing.splitInput(input);
+        if (!"PROFILE".equals(parts[0])) {
+            return Optional.empty();
+        }
+        String args = parts[1];
+        return Optional.of(new SocketCommandMatch(this, context -> handleProfile(context, args)));
+    }
+
+    private void handleProfile(SocketCommandContext context, String args) {
+        if (!context.isAuthenticated() || context.getPlayer() == null) {
+            context.writeLineWithPrompt("You must be logged in to use PROFILE.");
+            return;
+        }
+        Player player = context.getPlayer();
+        if (!wizardPolicy.isWizard(player)) {
+            context.writeLineWithPrompt("Denied. The PROFILE command is restricted to wizards.");
+            return;
+        }
+        String[] words = args.isEmpty() ? new String[0] : args.split("\\s+", -1);
+        String action = words.length == 0 ? "" : words[0].toUpperCase(Locale.ROOT);
+        Username admin = player.getUsername();
+        switch (action) {
+            case "" -> context.writeLineWithPrompt(recordingService.activeDestination()
+                .map(file -> "Recording into " + file + ".")
+                .orElse("No recording is running."));
+            case "START" -> {
+                Duration duration = recordingService.maxDuration();
+                if (words.length > 1) {
+                    Duration requested = parseSeconds(words[1]);
+                    if (requested == null) {
+                        context.writeLineWithPrompt("Usage: PROFILE START [seconds]");
+                        return;
+                    }
+                    duration = requested;
+                }
+                Duration length = duration;
+                context.writeLineWithPrompt("Starting a flight recording...");
+                recordingExecutor.execute(() -> start(admin, length));
+            }
+            case "STOP" -> {
+                context.writeLineWithPrompt("Stopping the flight recording...");
+                recordingExecutor.execute(() -> stop(admin));
+            }
+            default -> context.writeLineWithPrompt("Usage: PROFILE [START [seconds] | STOP]");
+        }
+    }
+
+    private void start(Username admin, Duration duration) {
+        String result;
+        try {
+            Path file = recordingService.start(duration);
+            Duration length = duration.compareTo(recordingService.maxDuration()) > 0
+                ? recordingService.maxDuration()
+                : duration;
+            result = "Recording for " + length.toSeconds() + "s into " + file + ".";
+        } catch (IllegalStateException e) {
+            result = e.getMessage() + ".";
+        } catch (IOException e) {
+            result = "Could not start a recording: " + e.getMessage();
+        }
+        messageBroadcaster.sendToPlayer(admin, new SystemNoticeMessage(result));
+    }
+
+    private void stop(Username admin) {
+        String result;
+        try {
+            result = recordingService.stop()
+                .map(file -> "Recording written to " + file + ".")
+                .orElse("No recording is running.");
+        } catch (IOException e) {
+            result = "Could not write the recording: " + e.getMessage();
+        }
+        messageBroadcaster.sendToPlayer(admin, new SystemNoticeMessage(result));
+    }
+
+    private static Duration parseSeconds(String raw) {
+        try {
+            int seconds = Integer.parseInt(raw);
+            return seconds > 0 ? Duration.ofSeconds(seconds) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
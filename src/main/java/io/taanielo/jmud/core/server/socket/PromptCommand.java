@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code PROMPT} command, letting players customize and colorize their in-game prompt.
@@ -33,6 +34,11 @@ public class PromptCommand extends RegistrableCommand {
         return "prompt";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("PROMPT");
+    }
+
     @Override
     public String shortDescription() {
         return "Customize your in-game prompt. Use PROMPT SET <format> or PROMPT COLOR on.";
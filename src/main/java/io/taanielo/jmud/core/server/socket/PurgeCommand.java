@@ -7,6 +7,7 @@ import java.util.Set;
 import org.jspecify.annotations.Nullable;
 
 import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
 import io.taanielo.jmud.core.messaging.MessageBroadcaster;
 import io.taanielo.jmud.core.messaging.PlainTextMessage;
 import io.taanielo.jmud.core.mob.MobRegistry;
@@ -21,7 +22,8 @@ import io.taanielo.jmud.core.world.RoomService;
  * <p>Resolution order: a live mob matching the argument in the admin's current room is removed
  * first (via {@link MobRegistry#purgeMob}); otherwise the argument is treated as a player name and,
  * provided that player is not currently online, their persisted record is deleted via
- * {@link PlayerRepository#deletePlayer}. Mob removal notices are fanned out to the room through
+ * {@link PlayerRepository#deletePlayer} and they are dropped from the {@link LeaderboardService} and the
+ * {@link PlayerDirectory}'s offline cache. Mob removal notices are fanned out to the room through
  * {@link MessageBroadcaster} (AGENTS.md §3.3). It runs on the tick thread via the player command
  * queue (AGENTS.md §5). Access is gated by {@link WizardPolicy}.
  */
@@ -31,6 +33,8 @@ public class PurgeCommand extends RegistrableCommand {
     private final @Nullable MobRegistry mobRegistry;
     private final RoomService roomService;
     private final PlayerRepository playerRepository;
+    private final LeaderboardService leaderboards;
+    private final PlayerDirectory playerDirectory;
     private final MessageBroadcaster messageBroadcaster;
 
     /**
@@ -42,6 +46,8 @@ public class PurgeCommand extends RegistrableCommand {
      *                           {@code null} when the mob subsystem failed to load
      * @param roomService        service used to resolve the admin's current room
      * @param playerRepository   repository used to delete an offline player's persisted record
+     * @param leaderboards       leaderboards a purged player is removed from
+     * @param playerDirectory    directory whose offline cache must forget a purged player
      * @param messageBroadcaster scoped delivery service used to notify the room of a purge
      */
     public PurgeCommand(
@@ -50,6 +56,8 @@ public class PurgeCommand extends RegistrableCommand {
         @Nullable MobRegistry mobRegistry,
         RoomService roomService,
         PlayerRepository playerRepository,
+        LeaderboardService leaderboards,
+        PlayerDirectory playerDirectory,
         MessageBroadcaster messageBroadcaster
     ) {
         super(registry);
@@ -57,6 +65,8 @@ public class PurgeCommand extends RegistrableCommand {
         this.mobRegistry = mobRegistry;
         this.roomService = Objects.requireNonNull(roomService, "Room service is required");
         this.playerRepository = Objects.requireNonNull(playerRepository, "Player repository is required");
+        this.leaderboards = Objects.requireNonNull(leaderboards, "Leaderboard service is required");
+        this.playerDirectory = Objects.requireNonNull(playerDirectory, "Player directory is required");
         this.messageBroadcaster = Objects.requireNonNull(messageBroadcaster, "Message broadcaster is required");
     }
 
@@ -65,6 +75,11 @@ public class PurgeCommand extends RegistrableCommand {
         return "purge";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("PURGE");
+    }
+
     @Override
     public String shortDescription() {
         return "Remove a mob or offline player (wizard only).";
@@ -125,6 +140,8 @@ public class PurgeCommand extends RegistrableCommand {
             return;
         }
         if (playerRepository.deletePlayer(targetUser)) {
+            leaderboards.removePlayer(targetUser);
+            playerDirectory.recordDeletion(targetUser);
             context.writeLineWithPrompt("Purged offline player " + targetUser.getValue() + ".");
             return;
         }
@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code PUT} command, which places an item from the player's inventory into a
@@ -24,6 +25,11 @@ public class PutCommand extends RegistrableCommand {
         return "put";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("PUT");
+    }
+
     @Override
     public String shortDescription() {
         return "Put an item from your inventory into a container.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles quaff commands, allowing players to consume potions and other drinkable items.
@@ -17,6 +18,11 @@ public class QuaffCommand extends RegistrableCommand {
         return "quaff";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("QUAFF", "QU");
+    }
+
     @Override
     public String shortDescription() {
         return "Drink a potion from your inventory.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code QUEST} command, letting players interact with available
@@ -33,6 +34,11 @@ public class QuestCommand extends RegistrableCommand {
         return "quest";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("QUEST");
+    }
+
     @Override
     public String shortDescription() {
         return "Interact with quest contracts from the Guild Clerk. Use QUEST LIST to begin.";
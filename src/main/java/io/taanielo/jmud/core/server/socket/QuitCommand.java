@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles quit commands.
@@ -15,6 +16,11 @@ public class QuitCommand extends RegistrableCommand {
         return "quit";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("QUIT");
+    }
+
     @Override
     public Optional<SocketCommandMatch> match(String input) {
         String token = SocketCommandParsing.firstToken(input);
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SHOOT} command: firing a ranged weapon at a mob in an adjacent room.
@@ -19,6 +20,11 @@ public class RangedAttackCommand extends RegistrableCommand {
         return "shoot";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SHOOT");
+    }
+
     @Override
     public String shortDescription() {
         return "Fire a ranged weapon at a mob in an adjacent room.";
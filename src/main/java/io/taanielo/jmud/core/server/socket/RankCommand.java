@@ -1,49 +1,51 @@
 package io.taanielo.jmud.core.server.socket;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 
-import io.taanielo.jmud.core.guild.Guild;
-import io.taanielo.jmud.core.guild.GuildRepository;
-import io.taanielo.jmud.core.guild.GuildRepositoryException;
-import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
+import io.taanielo.jmud.core.leaderboard.PlayerStanding;
+import io.taanielo.jmud.core.leaderboard.RankedBoard;
+import io.taanielo.jmud.core.player.Player;
 
 /**
  * Handles the {@code RANK} command, listing every persisted player or guild server-wide.
  *
  * <p>With no argument it ranks players by total kill count (PvE) highest-to-lowest.
  * The {@code RANK DUELS} subcommand instead ranks players by their persistent duel
- * record (PvP), listing only those with at least one recorded duel. The
- * {@code RANK GUILDS} subcommand ranks every persisted guild by level (highest tier
- * first), tiebroken by lifetime deposited gold and then guild-war wins, and shows
- * each guild's lifetime guild-war win count.
+ * record (PvP), listing only those with at least one recorded duel. {@code RANK LEVELS}
+ * ranks players by level and experience. The {@code RANK GUILDS} subcommand ranks
+ * every persisted guild by level (highest tier first), tiebroken by lifetime
+ * deposited gold and then guild-war wins, and shows each guild's lifetime guild-war
+ * win count. Every listing ends with the caller's own standing on that board.
  *
  * <p>Unlike {@code WHO}, which only lists players currently online, this
- * command reads every persisted player via {@link PlayerRepository#findAll()}
- * (and every guild via {@link GuildRepository#loadAll()}) so offline players and
- * guilds are included too. Reading every record is a blocking I/O operation, so
- * this command must only ever run on a reader thread (never on the tick thread) —
- * it is read-only and performs no game-state mutation.
+ * command includes offline players and guilds too. It reads the materialized boards
+ * of the {@link LeaderboardService} — seeded at startup and kept current from the
+ * save paths — so a ranking costs O(log n + 20) in memory rather than a read of every
+ * persisted record. It is read-only and performs no game-state mutation.
  */
 public class RankCommand extends RegistrableCommand {
 
-    private final PlayerRepository playerRepository;
-    private final GuildRepository guildRepository;
+    private static final int LIMIT = 20;
+
+    private final LeaderboardService leaderboards;
 
     /**
-     * Creates a {@code RankCommand} backed by the given repositories.
+     * Creates a {@code RankCommand} backed by the given leaderboards.
      *
-     * @param registry         the command registry to register with
-     * @param playerRepository the repository used to enumerate all persisted players
-     * @param guildRepository  the repository used to enumerate all persisted guilds
+     * @param registry     the command registry to register with
+     * @param leaderboards the materialized player and guild leaderboards
      */
-    public RankCommand(
-        SocketCommandRegistry registry, PlayerRepository playerRepository, GuildRepository guildRepository) {
+    public RankCommand(SocketCommandRegistry registry, LeaderboardService leaderboards) {
         super(registry);
-        this.playerRepository = Objects.requireNonNull(playerRepository, "PlayerRepository is required");
-        this.guildRepository = Objects.requireNonNull(guildRepository, "GuildRepository is required");
+        this.leaderboards = Objects.requireNonNull(leaderboards, "Leaderboard service is required");
     }
 
     @Override
@@ -51,22 +53,29 @@ public class RankCommand extends RegistrableCommand {
         return "rank";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("RANK");
+    }
+
     @Override
     public String shortDescription() {
-        return "List all players (or guilds) server-wide ranked by kills, duels, or guild level.";
+        return "List all players (or guilds) server-wide ranked by kills, duels, level, or guild level.";
     }
 
     @Override
     public String longDescription() {
         return """
-               Usage: RANK [DUELS|GUILDS]
+               Usage: RANK [DUELS|LEVELS|GUILDS]
                  RANK         Displays every saved player's total kill count, ranked highest to
                               lowest, including players who are not currently online.
                  RANK DUELS   Displays every saved player's duel record (wins/losses/win rate),
                               ranked by wins; only players with at least one duel are listed.
+                 RANK LEVELS  Displays every saved player ranked by level, then experience.
                  RANK GUILDS  Displays every guild server-wide, ranked by guild level (highest
                               first), tiebroken by lifetime deposited gold then guild-war wins;
-                              shows each guild's level, member count, war wins, and leader.\
+                              shows each guild's level, member count, war wins, and leader.
+               Each listing ends with your own rank on that board.\
                """;
     }
 
@@ -81,15 +90,24 @@ public class RankCommand extends RegistrableCommand {
     }
 
     private void handleRank(SocketCommandContext context, String argument) {
-        if (!context.isAuthenticated() || context.getPlayer() == null) {
+        Player player = context.getPlayer();
+        if (!context.isAuthenticated() || player == null) {
             context.writeLineWithPrompt("You must be logged in to view the ranking.");
             return;
         }
+        Username username = player.getUsername();
         String mode = argument.toUpperCase(Locale.ROOT);
         List<String> lines = switch (mode) {
-            case "DUELS" -> DuelRankingListing.format(playerRepository.findAll());
-            case "GUILDS" -> GuildRankingListing.format(loadGuilds());
-            default -> KillRankingListing.format(playerRepository.findAll());
+            case "DUELS" -> withOwnRank(
+                DuelRankingListing.formatRanked(leaderboards.duels().top(LIMIT), leaderboards.duels().size()),
+                leaderboards.duels(), username, "You have no recorded duels.");
+            case "LEVELS" -> withOwnRank(
+                LevelRankingListing.formatRanked(leaderboards.levels().top(LIMIT), leaderboards.levels().size()),
+                leaderboards.levels(), username, "You are not ranked yet.");
+            case "GUILDS" -> guildRanking(username);
+            default -> withOwnRank(
+                KillRankingListing.formatRanked(leaderboards.kills().top(LIMIT), leaderboards.kills().size()),
+                leaderboards.kills(), username, "You are not ranked yet.");
         };
         for (String line : lines) {
             context.writeLineSafe(line);
@@ -97,11 +115,30 @@ public class RankCommand extends RegistrableCommand {
         context.sendPrompt();
     }
 
-    private List<Guild> loadGuilds() {
-        try {
-            return guildRepository.loadAll();
-        } catch (GuildRepositoryException e) {
-            return List.of();
+    private List<String> guildRanking(Username username) {
+        List<String> lines = GuildRankingListing.formatRanked(
+            leaderboards.guilds().top(LIMIT), leaderboards.guilds().size());
+        OptionalInt rank = leaderboards.guildOf(username)
+            .map(guildId -> leaderboards.guilds().rankOf(guildId))
+            .orElse(OptionalInt.empty());
+        if (rank.isEmpty()) {
+            return lines;
         }
+        return append(lines, "Your guild ranks #" + rank.getAsInt() + " of " + leaderboards.guilds().size() + ".");
+    }
+
+    private static List<String> withOwnRank(
+        List<String> lines, RankedBoard<Username, PlayerStanding> board, Username username, String unranked) {
+        OptionalInt rank = board.rankOf(username);
+        String own = rank.isPresent()
+            ? "Your rank: #" + rank.getAsInt() + " of " + board.size() + "."
+            : unranked;
+        return append(lines, own);
+    }
+
+    private static List<String> append(List<String> lines, String line) {
+        List<String> all = new ArrayList<>(lines);
+        all.add(line);
+        return all;
     }
 }
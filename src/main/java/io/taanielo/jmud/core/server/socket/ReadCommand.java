@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles read commands, allowing players to read scrolls from their inventory to permanently
@@ -18,6 +19,11 @@ public class ReadCommand extends RegistrableCommand {
         return "read";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("READ", "REA");
+    }
+
     @Override
     public String shortDescription() {
         return "Read a scroll from your inventory to learn its ability.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code RECALL} command, teleporting the player back to the starting/town room.
@@ -19,6 +20,11 @@ public class RecallCommand extends RegistrableCommand {
         return "recall";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("RECALL");
+    }
+
     @Override
     public String shortDescription() {
         return "Teleport back to your bind point. No target, out-of-combat only, has a cooldown.";
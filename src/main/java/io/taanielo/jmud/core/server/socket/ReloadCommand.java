@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.Executor;
 
 import io.taanielo.jmud.core.authentication.Username;
@@ -93,6 +94,11 @@ public class ReloadCommand extends RegistrableCommand {
         return "reload";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("RELOAD");
+    }
+
     @Override
     public String shortDescription() {
         return "Hot-reload rooms/items/mobs from JSON (wizard only).";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code REPAIR <item>} command, restoring a damaged piece of gear to full durability
@@ -17,6 +18,11 @@ public class RepairCommand extends RegistrableCommand {
         return "repair";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("REPAIR");
+    }
+
     @Override
     public String shortDescription() {
         return "Have a blacksmith repair a damaged item.";
@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.authentication.Username;
 import io.taanielo.jmud.core.messaging.TellService;
@@ -43,6 +44,11 @@ public class ReplyCommand extends RegistrableCommand {
         return "reply";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("REPLY", "R");
+    }
+
     @Override
     public String shortDescription() {
         return "Reply privately to the last player who messaged you. Aliases: R";
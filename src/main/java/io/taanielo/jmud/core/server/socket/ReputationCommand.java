@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.faction.ReputationService;
 import io.taanielo.jmud.core.player.Player;
@@ -36,6 +37,11 @@ public class ReputationCommand extends RegistrableCommand {
         return "reputation";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("REPUTATION", "REP");
+    }
+
     @Override
     public String shortDescription() {
         return "Show your standing with every faction you have dealt with.";
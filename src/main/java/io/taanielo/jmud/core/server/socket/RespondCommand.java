@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code RESPOND <number>} command, which selects a numbered reply in the conversation
@@ -20,6 +21,11 @@ public class RespondCommand extends RegistrableCommand {
         return "respond";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("RESPOND");
+    }
+
     @Override
     public String shortDescription() {
         return "Choose a numbered reply in an NPC conversation.";
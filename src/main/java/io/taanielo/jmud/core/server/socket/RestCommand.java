@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code REST} (or {@code SLEEP}) command, putting the player into
@@ -20,6 +21,11 @@ public class RestCommand extends RegistrableCommand {
         return "rest";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("REST", "SLEEP");
+    }
+
     @Override
     public String shortDescription() {
         return "Sit down and rest to regenerate HP, mana, and move. Aliases: SLEEP";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SALVAGE} command. With no arguments it lists the carried, unequipped weapon and
@@ -20,6 +21,11 @@ public class SalvageCommand extends RegistrableCommand {
         return "salvage";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SALVAGE");
+    }
+
     @Override
     public String shortDescription() {
         return "Break unwanted gear down into crafting materials at a blacksmith.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.player.Player;
 
@@ -17,6 +18,11 @@ public class SayCommand extends RegistrableCommand {
         return "say";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SAY");
+    }
+
     @Override
     public Optional<SocketCommandMatch> match(String input) {
         String[] parts = SocketCommandParsing.splitInput(input);
@@ -3,6 +3,7 @@ package io.taanielo.jmud.core.server.socket;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -94,6 +95,11 @@ public class ScoreCommand extends RegistrableCommand {
         return "score";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SCORE", "SC");
+    }
+
     @Override
     public String shortDescription() {
         return "Display your level, XP, and current vitals. Aliases: SC";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SEARCH} command, which hunts the current room for secret exits.
@@ -22,6 +23,11 @@ public class SearchCommand extends RegistrableCommand {
         return "search";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SEARCH");
+    }
+
     @Override
     public String shortDescription() {
         return "Search the room for hidden exits.";
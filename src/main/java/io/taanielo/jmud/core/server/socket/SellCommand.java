@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SELL <item>} command, selling an item from the player's
@@ -17,6 +18,11 @@ public class SellCommand extends RegistrableCommand {
         return "sell";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SELL");
+    }
+
     @Override
     public String shortDescription() {
         return "Sell an item from your inventory to the shop in the current room.";
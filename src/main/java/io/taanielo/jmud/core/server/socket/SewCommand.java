@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SEW} command. With no arguments it lists the cloth armor recipes a tailor can
@@ -19,6 +20,11 @@ public class SewCommand extends RegistrableCommand {
         return "sew";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SEW");
+    }
+
     @Override
     public String shortDescription() {
         return "Sew cloth caster armor from silk and linen at a tailor.";
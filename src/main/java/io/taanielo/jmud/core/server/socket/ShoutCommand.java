@@ -49,6 +49,11 @@ public class ShoutCommand extends RegistrableCommand {
         return "shout";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SHOUT");
+    }
+
     @Override
     public String shortDescription() {
         return "Speak to your room and every adjacent room.";
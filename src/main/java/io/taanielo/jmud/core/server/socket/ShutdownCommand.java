@@ -81,6 +81,11 @@ public class ShutdownCommand extends RegistrableCommand {
         return "shutdown";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SHUTDOWN");
+    }
+
     @Override
     public String shortDescription() {
         return "Gracefully shut the server down (wizard only).";
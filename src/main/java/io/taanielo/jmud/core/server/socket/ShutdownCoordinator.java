@@ -1,7 +1,9 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import lombok.extern.slf4j.Slf4j;
@@ -19,7 +21,8 @@ import io.taanielo.jmud.core.tick.TickRegistry;
 /**
  * Executes the server's orderly shutdown sequence: stop accepting new
  * connections, notify connected clients, stop the tick scheduler, save every
- * online player, flush and close the audit sink, and clear tick registrations.
+ * online player, drain write-behind stores, flush and close the audit sink,
+ * and clear tick registrations.
  *
  * <p>The whole sequence runs synchronously on the calling thread (the JVM
  * shutdown-hook thread) and is bounded, so a {@code SIGTERM} does not force a
@@ -40,6 +43,7 @@ public class ShutdownCoordinator {
     private final PersistenceQueue persistenceQueue;
     private final AuditService auditService;
     private final Duration auditFlushTimeout;
+    private final List<Map.Entry<String, Runnable>> storeSteps = new ArrayList<>();
 
     public ShutdownCoordinator(
         List<Server> servers,
@@ -70,9 +74,25 @@ public class ShutdownCoordinator {
         this.auditFlushTimeout = Objects.requireNonNull(auditFlushTimeout, "Audit flush timeout is required");
     }
 
+    /**
+     * Adds a step that drains and closes a write-behind store (for example the
+     * auction ledger). Store steps run after online players are saved and
+     * before the audit sink is flushed, in the order they were added. Must be
+     * called before {@link #shutdown()}.
+     *
+     * @param description the step name used in the shutdown log
+     * @param step        the drain-and-close action
+     */
+    public void addStoreStep(String description, Runnable step) {
+        storeSteps.add(Map.entry(
+            Objects.requireNonNull(description, "Description is required"),
+            Objects.requireNonNull(step, "Step is required")));
+    }
+
     /**
      * Runs the shutdown sequence in order: stop accepting, notify clients,
-     * stop ticks, save online players, flush audit, clear tick registrations.
+     * stop ticks, save online players, drain stores, flush audit, clear tick
+     * registrations.
      * A failure for one step or one player must not prevent the remaining
      * steps/players from being processed.
      */
@@ -82,6 +102,9 @@ public class ShutdownCoordinator {
         notifyClientsOfShutdown();
         runStep("stop tick scheduler", this::stopTickScheduler);
         runStep("save online players", this::saveOnlinePlayers);
+        for (Map.Entry<String, Runnable> storeStep : storeSteps) {
+            runStep(storeStep.getKey(), storeStep.getValue());
+        }
         runStep("flush audit", this::flushAudit);
         runStep("clear tick registrations", tickRegistry::clear);
         log.info("Shutdown sequence complete");
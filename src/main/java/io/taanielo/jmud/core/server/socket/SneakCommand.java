@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SNEAK} command and its {@code HIDE} alias, the rogue-only stealth toggle.
@@ -20,6 +21,11 @@ public class SneakCommand extends RegistrableCommand {
         return "sneak";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SNEAK", "HIDE");
+    }
+
     @Override
     public String shortDescription() {
         return "Slip into (or out of) the shadows (rogue skill only).";
@@ -1,12 +1,15 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.Socket;
 import java.time.Duration;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 
+import org.jspecify.annotations.Nullable;
+
 import lombok.extern.slf4j.Slf4j;
 
 import io.taanielo.jmud.core.authentication.AuthenticationLimiter;
@@ -28,6 +31,7 @@ import io.taanielo.jmud.core.messaging.MessageWriter;
 public class SocketAuthenticationService implements AuthenticationService {
 
     private final Socket clientSocket;
+    private final @Nullable OutputStream controlOutput;
     private final UserRegistry userRegistry;
     private final MessageWriter messageWriter;
     private final AuthenticationPolicy policy;
@@ -44,8 +48,25 @@ public class SocketAuthenticationService implements AuthenticationService {
         MessageWriter messageWriter,
         AuthenticationPolicy policy,
         AuthenticationLimiter limiter
+    ) {
+        this(clientSocket, null, userRegistry, messageWriter, policy, limiter);
+    }
+
+    /**
+     * Creates an authentication service whose echo-negotiation bytes go to {@code controlOutput}
+     * (the connection's outbound channel) so they stay ordered with the prompts around them.
+     * A {@code null} stream writes them straight to the socket.
+     */
+    public SocketAuthenticationService(
+        Socket clientSocket,
+        @Nullable OutputStream controlOutput,
+        UserRegistry userRegistry,
+        MessageWriter messageWriter,
+        AuthenticationPolicy policy,
+        AuthenticationLimiter limiter
     ) {
         this.clientSocket = Objects.requireNonNull(clientSocket, "Socket is required");
+        this.controlOutput = controlOutput;
         this.userRegistry = Objects.requireNonNull(userRegistry, "User registry is required");
         this.messageWriter = Objects.requireNonNull(messageWriter, "Message writer is required");
         this.policy = Objects.requireNonNull(policy, "Authentication policy is required");
@@ -80,7 +101,7 @@ public class SocketAuthenticationService implements AuthenticationService {
             log.debug("Login successful");
             messageWriter.writeLine();
             messageWriter.writeLine("Login successful!");
-            SocketCommand.enableEcho(clientSocket.getOutputStream());
+            SocketCommand.enableEcho(controlOutput());
             limiter.recordSuccess(attemptKey(username.getValue()));
             successHandler.handle(authenticationUser);
         } else {
@@ -91,7 +112,7 @@ public class SocketAuthenticationService implements AuthenticationService {
             messageWriter.writeLine();
             messageWriter.writeLine("Incorrect password!");
             messageWriter.write("Enter username: ");
-            SocketCommand.enableEcho(clientSocket.getOutputStream());
+            SocketCommand.enableEcho(controlOutput());
         }
     }
 
@@ -104,7 +125,7 @@ public class SocketAuthenticationService implements AuthenticationService {
             authenticationUser = existingUser.get();
             creatingUser = false;
             log.debug("User exists: {}", authenticationUser.getUsername().getValue());
-            SocketCommand.disableEcho(clientSocket.getOutputStream());
+            SocketCommand.disableEcho(controlOutput());
             messageWriter.write("Enter password: ");
         } else {
             log.debug("User not found");
@@ -117,7 +138,7 @@ public class SocketAuthenticationService implements AuthenticationService {
             }
             creatingUser = true;
             messageWriter.writeLine("User not found. Creating new user.");
-            SocketCommand.disableEcho(clientSocket.getOutputStream());
+            SocketCommand.disableEcho(controlOutput());
             messageWriter.write("Enter password: ");
         }
     }
@@ -130,7 +151,7 @@ public class SocketAuthenticationService implements AuthenticationService {
         creatingUser = false;
         messageWriter.writeLine();
         messageWriter.writeLine("Login successful!");
-        SocketCommand.enableEcho(clientSocket.getOutputStream());
+        SocketCommand.enableEcho(controlOutput());
         limiter.recordSuccess(attemptKey(username.getValue()));
         successHandler.handle(authenticationUser);
     }
@@ -145,7 +166,7 @@ public class SocketAuthenticationService implements AuthenticationService {
         messageWriter.writeLine();
         messageWriter.writeLine("Too many login attempts. Try again in " + seconds + "s.");
         messageWriter.write("Enter username: ");
-        SocketCommand.enableEcho(clientSocket.getOutputStream());
+        SocketCommand.enableEcho(controlOutput());
         username = null;
         creatingUser = false;
         return true;
@@ -155,4 +176,8 @@ public class SocketAuthenticationService implements AuthenticationService {
         String trimmed = name == null ? "" : name.trim().toLowerCase(Locale.ROOT);
         return remoteAddress + ":" + trimmed;
     }
+
+    private OutputStream controlOutput() throws IOException {
+        return controlOutput != null ? controlOutput : clientSocket.getOutputStream();
+    }
 }
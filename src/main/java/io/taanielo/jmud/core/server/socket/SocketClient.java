@@ -92,7 +92,8 @@ public class SocketClient implements Client {
             context.effectEngine(), context.effectRepository(),
             context.healingEngine(), context.healingBaseResolver()
         );
-        this.commandDispatcher = new SocketCommandDispatcher(context.commandRegistry(), auditService);
+        this.commandDispatcher = new SocketCommandDispatcher(
+            context.commandRegistry(), auditService, context.commandLatencyMetrics());
         this.commandContext = new SocketCommandContextImpl(
             this, connection, session, context, clientPool, commandDispatcher
         );
@@ -253,6 +254,11 @@ public class SocketClient implements Client {
         if (context.playerEventBus() != null && session.getPlayer() != null) {
             context.playerEventBus().unregister(session.getPlayer().getUsername());
         }
+        if (session.getPlayer() != null) {
+            // The player left the world (quit, disconnect, linkdead timeout): drop their combat
+            // stats snapshot so the cache only ever holds players who are still around.
+            context.derivedStatsCache().invalidate(session.getPlayer().getUsername());
+        }
         if (context.duelService() != null && session.getPlayer() != null) {
             // Clear any pending/active duel so a disconnect never leaves the opponent stuck.
             context.duelService().clearFor(session.getPlayer().getUsername());
@@ -460,12 +466,14 @@ public class SocketClient implements Client {
         NewPlayerHints hints = context.newPlayerHints();
         sendMessage(NewPlayerHintMessage.of(session.getTextStyler(), hints.title(), hints.lines()));
         String cid = auditService.newCorrelationId();
-        session.enqueueCommand(() -> commandDispatcher.dispatch(commandContext, "look", cid));
+        session.enqueueCommand(
+            (long queueWaitNanos) -> commandDispatcher.dispatch(commandContext, "look", cid, queueWaitNanos));
     }
 
     private void handleCommand(String clientInput) {
         String cid = auditService.newCorrelationId();
-        boolean accepted = session.enqueueCommand(() -> commandDispatcher.dispatch(commandContext, clientInput, cid));
+        boolean accepted = session.enqueueCommand(
+            (long queueWaitNanos) -> commandDispatcher.dispatch(commandContext, clientInput, cid, queueWaitNanos));
         if (!accepted) {
             connection.writeLine("You are entering commands too quickly.");
         }
@@ -479,11 +487,6 @@ public class SocketClient implements Client {
         return session.isAuthenticated() && session.getPlayer() != null
             && session.getPlayer().getUsername().equals(username);
     }
-    void applyExternalPlayerUpdate(Player updated) {
-        if (isAuthenticatedUser(updated.getUsername())) {
-            session.replacePlayer(updated);
-        }
-    }
 
     /**
      * Walks this client one step behind an auto-followed party leader. Pure delegation to the
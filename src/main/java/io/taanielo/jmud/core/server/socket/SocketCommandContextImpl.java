@@ -15,6 +15,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalInt;
 import java.util.Set;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
 import org.jspecify.annotations.Nullable;
@@ -206,6 +207,7 @@ class SocketCommandContextImpl implements SocketCommandContext {
     private final LightingService lightingService;
     private final @Nullable NotesService notesService;
     private final TradeExecutionService tradeExecutionService = new TradeExecutionService();
+    private final Runnable promptWriter = this::writePrompt;
 
     /**
      * Creates a command context by extracting all game-logic dependencies from the provided
@@ -453,14 +455,9 @@ class SocketCommandContextImpl implements SocketCommandContext {
 
     private void updateTarget(Player updatedTarget) {
         saveOrWarn(updatedTarget);
-        for (Client c : clientPool.allConnections()) {
-            if (c instanceof SocketClient socketClient) {
-                if (socketClient.isAuthenticatedUser(updatedTarget.getUsername())) {
-                    socketClient.applyExternalPlayerUpdate(updatedTarget);
-                    return;
-                }
-            }
-        }
+        context.playerSessionRegistry().lookup(updatedTarget.getUsername())
+            .filter(PlayerSession::isAuthenticated)
+            .ifPresent(target -> target.replacePlayer(updatedTarget));
     }
 
     // ── ANSI command ───────────────────────────────────────────────────
@@ -774,8 +771,19 @@ class SocketCommandContextImpl implements SocketCommandContext {
         sendPrompt();
     }
 
+    /**
+     * Writes the prompt, or during a tick defers it so the session gets one prompt after all of the
+     * tick's output ({@link io.taanielo.jmud.core.server.connection.TickOutputCoalescer}).
+     */
     @Override
     public void sendPrompt() {
+        if (context.tickOutputCoalescer().deferPrompt(this, promptWriter)) {
+            return;
+        }
+        writePrompt();
+    }
+
+    private void writePrompt() {
         Player player = session.getPlayer();
         if (!session.isAuthenticated() || player == null) {
             return;
@@ -792,8 +800,8 @@ class SocketCommandContextImpl implements SocketCommandContext {
     /**
      * Builds the {@code {partyHp}} token value for the given player.
      *
-     * <p>Iterates the party members, looks up current HP from connected sessions
-     * (falling back to the repository), and returns a space-separated
+     * <p>Iterates the party members, looks up current HP through the {@link PlayerDirectory},
+     * and returns a space-separated
      * {@code Name:hp/maxHp} string. Returns an empty string when the player
      * is not in a party.
      *
@@ -823,24 +831,22 @@ class SocketCommandContextImpl implements SocketCommandContext {
     }
 
     /**
-     * Returns the current HP string for a party member by consulting connected sessions
-     * first, then falling back to the player repository.
+     * Returns the current HP string for a party member from the {@link PlayerDirectory}. An offline
+     * member who is not cached shows as {@code "?/?"} while their save is loaded off the tick thread,
+     * and with their HP from the next prompt on.
      *
      * @param username the member to look up
-     * @return {@code "hp/maxHp"} string
+     * @return {@code "hp/maxHp"} string, or {@code "?/?"} when not known yet
      */
     private String findMemberCurrentHp(Username username) {
-        for (Client c : clientPool.allConnections()) {
-            if (c instanceof SocketClient sc && sc.isAuthenticatedUser(username)) {
-                Player p = sc.session().getPlayer();
-                if (p != null) {
-                    return p.getVitals().hp() + "/" + p.getVitals().maxHp();
-                }
-            }
+        PlayerDirectory directory = context.playerDirectory();
+        Optional<Player> member = directory.cached(username);
+        if (member.isEmpty()) {
+            directory.prefetch(username);
+            return "?/?";
         }
-        return context.playerRepository().loadPlayer(username)
-            .map(p -> p.getVitals().hp() + "/" + p.getVitals().maxHp())
-            .orElse("?/?");
+        Player p = member.get();
+        return p.getVitals().hp() + "/" + p.getVitals().maxHp();
     }
 
     @Override
@@ -2106,15 +2112,21 @@ class SocketCommandContextImpl implements SocketCommandContext {
         if (player.isMarried()) {
             // Self-heal a dangling bond: a spouse who was purged (or whose file no longer exists) and
             // is not online effectively divorces this player (issue #649). Reflect single status.
-            String spouse = player.spouse();
-            if (spouse != null && findOnlinePlayer(Username.of(spouse)) == null
-                && context.playerRepository().loadPlayer(Username.of(spouse)).isEmpty()) {
-                session.replacePlayer(player.withSpouse(null));
-                writeLineWithPrompt("Your former spouse " + spouse
-                    + " is no longer among us; you are single once more.");
-                return;
-            }
-            writeLineWithPrompt("You are married to " + spouse + ".");
+            String spouse = Objects.requireNonNull(player.spouse(), "A married player has a spouse");
+            resolvePlayer(Username.of(spouse), (current, found) -> {
+                if (!spouse.equals(current.spouse())) {
+                    // The marriage changed while the spouse's save loaded; report the current state.
+                    showMarriageStatus(current);
+                    return;
+                }
+                if (found.isEmpty()) {
+                    session.replacePlayer(current.withSpouse(null));
+                    writeLineWithPrompt("Your former spouse " + spouse
+                        + " is no longer among us; you are single once more.");
+                    return;
+                }
+                writeLineWithPrompt("You are married to " + spouse + ".");
+            });
             return;
         }
         Optional<Username> proposer = marriageService.pendingProposer(player.getUsername());
@@ -2243,16 +2255,19 @@ class SocketCommandContextImpl implements SocketCommandContext {
      * at the divorcing player, there is nothing to clear.
      */
     private void notifyOfflineSpouseOfDivorce(Username spouseUsername, Username initiator) {
-        Player offlineSpouse = context.playerRepository().loadPlayer(spouseUsername).orElse(null);
-        if (offlineSpouse == null || !bondPointsAt(offlineSpouse, initiator)) {
-            return;
-        }
-        String initiatorName = initiator.getValue();
-        Player cleared = offlineSpouse.withSpouse(null);
-        long currentTick = context.tickClock().currentTick();
-        MailResult mail = playerMailService.send(cleared, initiatorName, currentTick,
-            initiatorName + " has divorced you. You are single once more.");
-        saveOrWarn(mail.success() && mail.updatedPlayer() != null ? mail.updatedPlayer() : cleared);
+        context.playerDirectory().resolve(spouseUsername, found -> {
+            Player offlineSpouse = found.orElse(null);
+            if (offlineSpouse == null || !bondPointsAt(offlineSpouse, initiator)) {
+                return;
+            }
+            String initiatorName = initiator.getValue();
+            Player cleared = offlineSpouse.withSpouse(null);
+            long currentTick = context.tickClock().currentTick();
+            MailResult mail = playerMailService.send(cleared, initiatorName, currentTick,
+                initiatorName + " has divorced you. You are single once more.");
+            // updateTarget also covers a spouse who logged in while their save was loading.
+            updateTarget(mail.success() && mail.updatedPlayer() != null ? mail.updatedPlayer() : cleared);
+        });
     }
 
     @Override
@@ -2331,20 +2346,26 @@ class SocketCommandContextImpl implements SocketCommandContext {
             Username partnerName = Username.of(partner);
             // Self-heal a dangling bond: a partner who was purged and is not online effectively ends
             // the bond for this player (mirrors the marriage self-heal, issue #751/#649).
-            if (findOnlinePlayer(partnerName) == null
-                && context.playerRepository().loadPlayer(partnerName).isEmpty()) {
-                session.replacePlayer(player.withoutMentorBond());
-                writeLineWithPrompt("Your former " + (isMentee ? "mentor " : "mentee ") + partner
-                    + " is no longer among us; your mentor bond has ended.");
-                return;
-            }
-            String role = isMentee ? "mentee" : "mentor";
-            String bondLine = "You are the " + role + " in a mentor bond with " + partner + ". The mentee"
-                + " earns +" + MentorService.MENTEE_XP_BONUS_PERCENT
-                + "% bonus XP while grouped together. Bonded since "
-                + formatBondSince(player.mentorBondSince()) + ".";
-            // Show the guild standing to mentors (their perk applies) and to anyone with standing.
-            emitWithGuildLine(player, bondLine, !isMentee || player.menteesGraduated() > 0);
+            resolvePlayer(partnerName, (current, found) -> {
+                if (!partner.equals(isMentee ? current.mentor() : current.mentee())) {
+                    // The bond changed while the partner's save loaded; report the current one.
+                    showMentorStatus(current);
+                    return;
+                }
+                if (found.isEmpty()) {
+                    session.replacePlayer(current.withoutMentorBond());
+                    writeLineWithPrompt("Your former " + (isMentee ? "mentor " : "mentee ") + partner
+                        + " is no longer among us; your mentor bond has ended.");
+                    return;
+                }
+                String role = isMentee ? "mentee" : "mentor";
+                String bondLine = "You are the " + role + " in a mentor bond with " + partner + ". The mentee"
+                    + " earns +" + MentorService.MENTEE_XP_BONUS_PERCENT
+                    + "% bonus XP while grouped together. Bonded since "
+                    + formatBondSince(current.mentorBondSince()) + ".";
+                // Show the guild standing to mentors (their perk applies) and to anyone with standing.
+                emitWithGuildLine(current, bondLine, !isMentee || current.menteesGraduated() > 0);
+            });
             return;
         }
         Optional<Username> proposer = mentorService().pendingProposer(player.getUsername());
@@ -2534,15 +2555,18 @@ class SocketCommandContextImpl implements SocketCommandContext {
      * initiator, there is nothing to clear.
      */
     private void notifyOfflinePartnerOfBondEnd(Username partnerUsername, Username initiator) {
-        Player offlinePartner = context.playerRepository().loadPlayer(partnerUsername).orElse(null);
-        if (offlinePartner == null || !mentorBondPointsAt(offlinePartner, initiator)) {
-            return;
-        }
-        Player cleared = offlinePartner.withoutMentorBond();
-        long currentTick = context.tickClock().currentTick();
-        MailResult mail = playerMailService.send(cleared, initiator.getValue(), currentTick,
-            initiator.getValue() + " has ended your mentor bond.");
-        saveOrWarn(mail.success() && mail.updatedPlayer() != null ? mail.updatedPlayer() : cleared);
+        context.playerDirectory().resolve(partnerUsername, found -> {
+            Player offlinePartner = found.orElse(null);
+            if (offlinePartner == null || !mentorBondPointsAt(offlinePartner, initiator)) {
+                return;
+            }
+            Player cleared = offlinePartner.withoutMentorBond();
+            long currentTick = context.tickClock().currentTick();
+            MailResult mail = playerMailService.send(cleared, initiator.getValue(), currentTick,
+                initiator.getValue() + " has ended your mentor bond.");
+            // updateTarget also covers a partner who logged in while their save was loading.
+            updateTarget(mail.success() && mail.updatedPlayer() != null ? mail.updatedPlayer() : cleared);
+        });
     }
 
     /** Formats a mentor-bond timestamp (epoch millis) for MENTOR STATUS, or "unknown" when unset. */
@@ -6488,14 +6512,20 @@ class SocketCommandContextImpl implements SocketCommandContext {
             writeLineWithPrompt(target + " is already on your friends list.");
             return;
         }
-        if (resolvePlayerByUsername(Username.of(target)) == null) {
-            writeLineWithPrompt("There is no player named " + target + ".");
-            return;
-        }
-        Player updated = player.withFriendList(player.friendList().with(target));
-        session.replacePlayer(updated);
-        saveOrWarn(updated);
-        writeLineWithPrompt(target + " has been added to your friends list.");
+        resolvePlayer(Username.of(target), (current, found) -> {
+            if (found.isEmpty()) {
+                writeLineWithPrompt("There is no player named " + target + ".");
+                return;
+            }
+            if (current.friendList().has(target)) {
+                writeLineWithPrompt(target + " is already on your friends list.");
+                return;
+            }
+            Player updated = current.withFriendList(current.friendList().with(target));
+            session.replacePlayer(updated);
+            saveOrWarn(updated);
+            writeLineWithPrompt(target + " has been added to your friends list.");
+        });
     }
 
     private void friendRemove(Player player, String target) {
@@ -6627,22 +6657,15 @@ class SocketCommandContextImpl implements SocketCommandContext {
             writeLineWithPrompt("You cannot mail yourself.");
             return;
         }
-        Player recipient = resolvePlayerByUsername(targetUsername);
-        if (recipient == null) {
-            writeLineWithPrompt("No such player: " + targetName);
-            return;
-        }
-        MailResult result = playerMailService.sendGold(sender, recipient, currentTick, message, amount);
-        if (result.success()) {
-            if (result.updatedPlayer() != null) {
-                updateTarget(result.updatedPlayer());
-            }
-            if (result.updatedSender() != null) {
-                session.replacePlayer(result.updatedSender());
-                saveOrWarn(result.updatedSender());
+        resolvePlayer(targetUsername, (current, found) -> {
+            Player recipient = found.orElse(null);
+            if (recipient == null) {
+                writeLineWithPrompt("No such player: " + targetName);
+                return;
             }
-        }
-        writeLineWithPrompt(result.message());
+            MailResult result = playerMailService.sendGold(current, recipient, currentTick, message, amount);
+            applyMailDelivery(result);
+        });
     }
 
     private void handleSendItemMail(Player sender, String rest, long currentTick) {
@@ -6659,28 +6682,26 @@ class SocketCommandContextImpl implements SocketCommandContext {
             writeLineWithPrompt("You cannot mail yourself.");
             return;
         }
-        Item item = matchItemByName(sender.getInventory(), itemName);
-        if (item == null) {
+        if (matchItemByName(sender.getInventory(), itemName) == null) {
             writeLineWithPrompt("You aren't carrying that.");
             return;
         }
-        Player recipient = resolvePlayerByUsername(targetUsername);
-        if (recipient == null) {
-            writeLineWithPrompt("No such player: " + targetName);
-            return;
-        }
-        cancelRestIfActive();
-        MailResult result = playerMailService.sendItem(sender, recipient, currentTick, message, item);
-        if (result.success()) {
-            if (result.updatedPlayer() != null) {
-                updateTarget(result.updatedPlayer());
+        resolvePlayer(targetUsername, (current, found) -> {
+            Player recipient = found.orElse(null);
+            if (recipient == null) {
+                writeLineWithPrompt("No such player: " + targetName);
+                return;
             }
-            if (result.updatedSender() != null) {
-                session.replacePlayer(result.updatedSender());
-                saveOrWarn(result.updatedSender());
+            // Matched again: the sender's inventory may have changed while an offline recipient loaded.
+            Item item = matchItemByName(current.getInventory(), itemName);
+            if (item == null) {
+                writeLineWithPrompt("You aren't carrying that.");
+                return;
             }
-        }
-        writeLineWithPrompt(result.message());
+            cancelRestIfActive();
+            MailResult result = playerMailService.sendItem(current, recipient, currentTick, message, item);
+            applyMailDelivery(result);
+        });
     }
 
     private void handleSendMail(Player sender, String[] parts, long currentTick) {
@@ -6695,14 +6716,27 @@ class SocketCommandContextImpl implements SocketCommandContext {
             writeLineWithPrompt("You cannot mail yourself.");
             return;
         }
-        Player recipient = resolvePlayerByUsername(targetUsername);
-        if (recipient == null) {
-            writeLineWithPrompt("No such player: " + targetName);
-            return;
-        }
-        MailResult result = playerMailService.send(recipient, sender.getUsername().getValue(), currentTick, message);
-        if (result.success() && result.updatedPlayer() != null) {
-            updateTarget(result.updatedPlayer());
+        resolvePlayer(targetUsername, (current, found) -> {
+            Player recipient = found.orElse(null);
+            if (recipient == null) {
+                writeLineWithPrompt("No such player: " + targetName);
+                return;
+            }
+            MailResult result = playerMailService.send(recipient, current.getUsername().getValue(), currentTick, message);
+            applyMailDelivery(result);
+        });
+    }
+
+    /** Applies a successful {@link MailResult} to the recipient and, for gold or items, the sender. */
+    private void applyMailDelivery(MailResult result) {
+        if (result.success()) {
+            if (result.updatedPlayer() != null) {
+                updateTarget(result.updatedPlayer());
+            }
+            if (result.updatedSender() != null) {
+                session.replacePlayer(result.updatedSender());
+                saveOrWarn(result.updatedSender());
+            }
         }
         writeLineWithPrompt(result.message());
     }
@@ -6718,22 +6752,22 @@ class SocketCommandContextImpl implements SocketCommandContext {
     }
 
     /**
-     * Resolves a player by username, preferring the live in-session state of a currently
-     * connected client and falling back to the player repository for offline players. Returns
-     * {@code null} when no such player exists, online or persisted.
+     * Resolves a player by username through the {@link PlayerDirectory} — live in-session state for a
+     * player in the world, the cached or loaded save otherwise — then runs {@code action} with the
+     * invoking player as they are by then. The action runs immediately when the answer is in memory,
+     * and on a later tick once an offline player has been loaded off the tick thread; it is skipped if
+     * the invoking player has left in the meantime.
      *
      * @param username the username to resolve
+     * @param action   receives the invoking player and the resolved player, or empty if none exists
      */
-    private @Nullable Player resolvePlayerByUsername(Username username) {
-        for (Client c : clientPool.allConnections()) {
-            if (c instanceof SocketClient sc && sc.isAuthenticatedUser(username)) {
-                Player p = sc.session().getPlayer();
-                if (p != null) {
-                    return p;
-                }
+    private void resolvePlayer(Username username, BiConsumer<Player, Optional<Player>> action) {
+        context.playerDirectory().resolve(username, found -> {
+            Player current = session.getPlayer();
+            if (session.isAuthenticated() && current != null) {
+                action.accept(current, found);
             }
-        }
-        return context.playerRepository().loadPlayer(username).orElse(null);
+        });
     }
 
     /** Applies a {@link MailResult} that affects only the invoking player's own mailbox. */
@@ -6849,7 +6883,16 @@ class SocketCommandContextImpl implements SocketCommandContext {
         // Tiebreak: a target that resolves to a known player (online or persisted) is a player-target
         // bounty; otherwise it falls back to mob-type resolution. So a name shared by a mob and a player
         // is treated as the player.
-        Username targetPlayer = resolveKnownPlayerName(targetInput);
+        if (targetInput.isBlank()) {
+            postBounty(bountyService, player, targetInput, null, gold, currentTick);
+            return;
+        }
+        resolvePlayer(Username.of(targetInput), (current, found) -> postBounty(
+            bountyService, current, targetInput, found.map(Player::getUsername).orElse(null), gold, currentTick));
+    }
+
+    private void postBounty(BountyService bountyService, Player player, String targetInput,
+                            @Nullable Username targetPlayer, int gold, long currentTick) {
         BountyResult result = targetPlayer != null
             ? bountyService.postOnPlayer(player, targetPlayer, gold, currentTick)
             : bountyService.post(player, targetInput, gold, currentTick);
@@ -6859,14 +6902,6 @@ class SocketCommandContextImpl implements SocketCommandContext {
         writeLineWithPrompt(result.message());
     }
 
-    private @Nullable Username resolveKnownPlayerName(String name) {
-        if (name.isBlank()) {
-            return null;
-        }
-        Player resolved = resolvePlayerByUsername(Username.of(name));
-        return resolved != null ? resolved.getUsername() : null;
-    }
-
     private void bountyList(BountyService bountyService, long currentTick) {
         List<BountyListing> listings = bountyService.listings(currentTick, BountySettings.expiryTicks());
         if (listings.isEmpty()) {
@@ -7053,14 +7088,16 @@ class SocketCommandContextImpl implements SocketCommandContext {
     }
 
     private void creditAuctionSeller(AuctionService auctionService, AuctionListing listing, long currentTick) {
-        Player seller = resolvePlayerByUsername(listing.seller());
-        if (seller == null) {
-            log.warn("Auction sale of {} completed but seller {} could not be found to credit",
-                listing.item().getName(), listing.seller().getValue());
-            return;
-        }
-        Player credited = auctionService.applySaleCredit(seller, listing, currentTick);
-        updateTarget(credited);
+        // Not tied to the buyer's session: the seller is credited even if the buyer leaves meanwhile.
+        context.playerDirectory().resolve(listing.seller(), found -> {
+            Player seller = found.orElse(null);
+            if (seller == null) {
+                log.warn("Auction sale of {} completed but seller {} could not be found to credit",
+                    listing.item().getName(), listing.seller().getValue());
+                return;
+            }
+            updateTarget(auctionService.applySaleCredit(seller, listing, currentTick));
+        });
     }
 
     private void auctionCancel(AuctionService auctionService, Player player, String rest, long currentTick) {
@@ -7943,7 +7980,8 @@ class SocketCommandContextImpl implements SocketCommandContext {
         // Notify of any unread mail waiting in the player's mailbox.
         sendMailNotice();
         String correlationId = auditService.newCorrelationId();
-        session.enqueueCommand(() -> dispatcher.dispatch(this, "look", correlationId));
+        session.enqueueCommand(
+            (long queueWaitNanos) -> dispatcher.dispatch(this, "look", correlationId, queueWaitNanos));
     }
 
     /**
@@ -8045,14 +8083,13 @@ class SocketCommandContextImpl implements SocketCommandContext {
         if (spouse == null) {
             return;
         }
-        Username spouseUsername = Username.of(spouse);
-        boolean spouseExists = findOnlinePlayer(spouseUsername) != null
-            || context.playerRepository().loadPlayer(spouseUsername).isPresent();
-        if (!spouseExists) {
-            session.replacePlayer(player.withSpouse(null));
-            connection.writeLine("Your former spouse " + spouse
-                + " is no longer among us; you are single once more.");
-        }
+        resolvePlayer(Username.of(spouse), (current, found) -> {
+            if (found.isEmpty() && spouse.equals(current.spouse())) {
+                session.replacePlayer(current.withSpouse(null));
+                connection.writeLine("Your former spouse " + spouse
+                    + " is no longer among us; you are single once more.");
+            }
+        });
     }
 
     /**
@@ -7,10 +7,12 @@ import java.util.Objects;
 import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.ThreadContext;
+import org.jspecify.annotations.Nullable;
 
 import io.taanielo.jmud.core.audit.AuditEvent;
 import io.taanielo.jmud.core.audit.AuditService;
 import io.taanielo.jmud.core.audit.AuditSubject;
+import io.taanielo.jmud.core.diagnostics.CommandEvent;
 import io.taanielo.jmud.core.player.Player;
 
 /**
@@ -22,13 +24,28 @@ public class SocketCommandDispatcher {
 
     private final SocketCommandRegistry registry;
     private final AuditService auditService;
+    private final CommandLatencyMetrics latencyMetrics;
 
     /**
-     * Creates a dispatcher that reads commands from the provided registry.
+     * Creates a dispatcher that reads commands from the provided registry and keeps its command
+     * latencies to itself.
      */
     public SocketCommandDispatcher(SocketCommandRegistry registry, AuditService auditService) {
+        this(registry, auditService, new CommandLatencyMetrics());
+    }
+
+    /**
+     * Creates a dispatcher that reads commands from the provided registry and records each
+     * command's queue wait and execution time into {@code latencyMetrics}.
+     */
+    public SocketCommandDispatcher(
+        SocketCommandRegistry registry,
+        AuditService auditService,
+        CommandLatencyMetrics latencyMetrics
+    ) {
         this.registry = Objects.requireNonNull(registry, "Command registry is required");
         this.auditService = Objects.requireNonNull(auditService, "Audit service is required");
+        this.latencyMetrics = Objects.requireNonNull(latencyMetrics, "Command latency metrics are required");
     }
 
     /**
@@ -43,6 +60,17 @@ public class SocketCommandDispatcher {
         return ThreadContext.get(MDC_CORRELATION_ID);
     }
 
+    /**
+     * Parses the incoming line and executes the appropriate command, as if it had not waited in a
+     * queue. Only for callers that run the command directly; anything that went through a
+     * {@link PlayerCommandQueue} must pass its real wait to the four-argument overload.
+     *
+     * @see #dispatch(SocketCommandContext, String, String, long)
+     */
+    public void dispatch(SocketCommandContext context, String clientInput, String correlationId) {
+        dispatch(context, clientInput, correlationId, 0L);
+    }
+
     /**
      * Parses the incoming line and executes the appropriate command.
      *
@@ -50,33 +78,52 @@ public class SocketCommandDispatcher {
      * the key {@value #MDC_CORRELATION_ID} before dispatch and removed in a
      * {@code finally} block, so server log lines emitted during execution carry the
      * id and the tick thread is never left with a stale value.
+     *
+     * <p>The dispatch is a {@code jmud.Command} Flight Recorder event carrying the correlation id,
+     * the resolved command's name and how long the command waited in the player's queue. The queue
+     * wait and execution time are also recorded in {@link CommandLatencyMetrics} under the resolved
+     * command's name.
+     *
+     * @param queueWaitNanos how long the command waited in the player's {@link PlayerCommandQueue}
      */
-    public void dispatch(SocketCommandContext context, String clientInput, String correlationId) {
+    public void dispatch(SocketCommandContext context, String clientInput, String correlationId, long queueWaitNanos) {
         Objects.requireNonNull(context, "Command context is required");
         if (clientInput == null) {
             return;
         }
+        CommandEvent event = new CommandEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
+        @Nullable String command = null;
         ThreadContext.put(MDC_CORRELATION_ID, correlationId);
         try {
-            dispatchInternal(context, clientInput, correlationId);
+            command = dispatchInternal(context, clientInput, correlationId);
         } finally {
             ThreadContext.remove(MDC_CORRELATION_ID);
+            event.complete(correlationId, command, queueWaitNanos);
+            latencyMetrics.record(command, queueWaitNanos, System.nanoTime() - startNanos);
         }
     }
 
-    private void dispatchInternal(SocketCommandContext context, String clientInput, String correlationId) {
+    /**
+     * Runs one command line.
+     *
+     * @return the name of the command that ran, or {@code null} when none did
+     */
+    private @Nullable String dispatchInternal(SocketCommandContext context, String clientInput, String correlationId) {
         String trimmed = clientInput.trim();
         if (trimmed.isEmpty()) {
             context.sendPrompt();
-            return;
+            return null;
         }
         trimmed = expandAlias(context, trimmed);
+        String firstToken = SocketCommandParsing.firstToken(trimmed);
         // Any typed input other than AUTOWALK itself immediately cancels an in-progress auto-walk, so a
         // manual direction (or any command, even an unknown one) always overrides autopilot and no queued
         // autopilot step lands after it (issue #767). AUTOWALK is skipped because it owns its own
         // start/replace/STOP semantics. Checked on the raw first token so it fires before command
         // resolution, covering unknown/ambiguous input too.
-        if (!"AUTOWALK".equals(SocketCommandParsing.firstToken(trimmed))) {
+        if (!"AUTOWALK".equals(firstToken)) {
             context.cancelAutoWalkIfActive();
         }
         AuditSubject actor = resolveActor(context);
@@ -89,8 +136,10 @@ public class SocketCommandDispatcher {
             correlationId,
             Map.of("input", trimmed)
         ));
+        // Only the commands that can accept this first word are asked (see SocketCommandIndex); the
+        // outcome is the same as asking every registered command.
         List<SocketCommandMatch> matches = new ArrayList<>();
-        for (SocketCommandHandler command : registry.commands()) {
+        for (SocketCommandHandler command : registry.index().candidates(firstToken)) {
             command.match(trimmed).ifPresent(matches::add);
         }
         if (matches.isEmpty()) {
@@ -104,7 +153,7 @@ public class SocketCommandDispatcher {
                 Map.of("input", trimmed)
             ));
             context.writeLineWithPrompt("Unknown command");
-            return;
+            return null;
         }
         if (matches.size() > 1) {
             String options = matches.stream()
@@ -121,7 +170,7 @@ public class SocketCommandDispatcher {
                 Map.of("input", trimmed, "options", options)
             ));
             context.writeLineWithPrompt("Ambiguous command. Specify: " + options);
-            return;
+            return null;
         }
         SocketCommandMatch match = matches.getFirst();
         // Any command other than AFK itself clears an active away status and prints a short
@@ -141,7 +190,7 @@ public class SocketCommandDispatcher {
                     Map.of("command", match.command().name())
                 ));
                 context.writeLineWithPrompt("You cannot act while dead.");
-                return;
+                return null;
             }
         }
         auditService.emit(new AuditEvent(
@@ -154,6 +203,7 @@ public class SocketCommandDispatcher {
             Map.of("command", match.command().name())
         ));
         match.execute(context);
+        return match.command().name();
     }
 
     /**
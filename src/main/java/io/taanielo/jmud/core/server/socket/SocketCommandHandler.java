@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Represents a socket command that can match input and execute against a context.
@@ -33,6 +34,18 @@ public interface SocketCommandHandler {
         return shortDescription();
     }
 
+    /**
+     * Returns the upper-cased first tokens this command can match, used by {@link SocketCommandIndex}
+     * to look candidate commands up by the first word of the input instead of asking every command.
+     *
+     * <p>Must include every first token for which {@link #match(String)} can succeed; {@code match}
+     * still makes the final decision. The default empty set opts out of indexing, so the command is
+     * offered every input, exactly as before.
+     */
+    default Set<String> firstTokens() {
+        return Set.of();
+    }
+
     /**
      * Attempts to match the raw input and produce an executable match.
      */
@@ -0,0 +1,77 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Precompiled first-token lookup over a {@link SocketCommandRegistry}'s commands, so the dispatcher
+ * asks only the handful of commands that can match the first word of the input instead of every
+ * registered command.
+ *
+ * <p>Commands declare their first tokens via {@link SocketCommandHandler#firstTokens()}; a command
+ * declaring none is offered every input. {@link #candidates(String)} preserves registration order, so
+ * the dispatcher's "unknown" / "ambiguous" outcomes and the ambiguity option order are identical to
+ * scanning the whole registry. Immutable once built; safe to share across threads.
+ */
+final class SocketCommandIndex {
+
+    private final Map<String, List<SocketCommandHandler>> candidatesByToken;
+    private final List<SocketCommandHandler> unindexed;
+
+    /**
+     * Builds the index over {@code commands}, in registration order.
+     *
+     * @param commands the registered commands
+     * @throws IllegalArgumentException if a command declares a first token that is not upper-case
+     */
+    SocketCommandIndex(List<SocketCommandHandler> commands) {
+        Objects.requireNonNull(commands, "Commands are required");
+        List<Set<String>> tokensByCommand = new ArrayList<>(commands.size());
+        Set<String> allTokens = new LinkedHashSet<>();
+        List<SocketCommandHandler> fallback = new ArrayList<>();
+        for (SocketCommandHandler command : commands) {
+            Set<String> tokens = Set.copyOf(command.firstTokens());
+            for (String token : tokens) {
+                if (token.isBlank() || !token.equals(token.toUpperCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException(
+                        "Command " + command.name() + " declares a non upper-case first token: " + token);
+                }
+            }
+            tokensByCommand.add(tokens);
+            allTokens.addAll(tokens);
+            if (tokens.isEmpty()) {
+                fallback.add(command);
+            }
+        }
+        Map<String, List<SocketCommandHandler>> byToken = new HashMap<>();
+        for (String token : allTokens) {
+            List<SocketCommandHandler> candidates = new ArrayList<>();
+            for (int i = 0; i < commands.size(); i++) {
+                Set<String> tokens = tokensByCommand.get(i);
+                if (tokens.isEmpty() || tokens.contains(token)) {
+                    candidates.add(commands.get(i));
+                }
+            }
+            byToken.put(token, List.copyOf(candidates));
+        }
+        this.candidatesByToken = Map.copyOf(byToken);
+        this.unindexed = List.copyOf(fallback);
+    }
+
+    /**
+     * Returns the commands that could match input starting with {@code firstToken}, in registration
+     * order.
+     *
+     * @param firstToken the upper-cased first word of the input (see {@link SocketCommandParsing})
+     * @return the candidate commands; never null, empty when nothing can match
+     */
+    List<SocketCommandHandler> candidates(String firstToken) {
+        return candidatesByToken.getOrDefault(firstToken, unindexed);
+    }
+}
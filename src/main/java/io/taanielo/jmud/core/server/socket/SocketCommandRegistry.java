@@ -13,8 +13,9 @@ import io.taanielo.jmud.core.combat.ClassArmorBonusResolver;
 import io.taanielo.jmud.core.combat.EquipmentArmorResolver;
 import io.taanielo.jmud.core.combat.RaceArmorBonusResolver;
 import io.taanielo.jmud.core.combat.SetBonusResolver;
+import io.taanielo.jmud.core.diagnostics.FlightRecordingService;
 import io.taanielo.jmud.core.faction.ReputationService;
-import io.taanielo.jmud.core.guild.GuildRepository;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
 import io.taanielo.jmud.core.messaging.MessageBroadcaster;
 import io.taanielo.jmud.core.messaging.TellService;
 import io.taanielo.jmud.core.mob.MobRegistry;
@@ -31,6 +32,8 @@ import io.taanielo.jmud.core.world.RoomService;
  */
 public class SocketCommandRegistry {
     private final List<SocketCommandHandler> commands = new ArrayList<>();
+    /** First-token lookup built lazily from {@link #commands}; dropped whenever a command registers. */
+    private volatile @Nullable SocketCommandIndex index;
 
     /**
      * Creates a registry with the default socket command set.
@@ -45,8 +48,8 @@ public class SocketCommandRegistry {
      * @param setBonusResolver        resolver for item-set threshold bonuses shown by {@code SCORE}
      * @param classRepository         repository used by {@code HELP <class>} to render a class reference sheet
      * @param abilityRegistry         registry used by {@code HELP <class>} to resolve ability ids to display names
-     * @param playerRepository        repository used to enumerate all persisted players for {@code RANK}
-     * @param guildRepository         repository used to enumerate all persisted guilds for {@code RANK GUILDS}
+     * @param playerRepository        repository used by the wizard {@code PURGE} command to delete offline players
+     * @param leaderboards            materialized player and guild leaderboards read by {@code RANK}
      * @param roomService             service used to resolve room exits/occupancy for {@code SHOUT}/{@code WHISPER}
      * @param tellService             in-memory tracker of the last private-message sender per player,
      *                                backing the {@code REPLY} command
@@ -56,6 +59,7 @@ public class SocketCommandRegistry {
      * @param weatherEngine           weather source used to show a visibility line in {@code WHO}/{@code SCORE};
      *                                {@code null} disables the weather line
      * @param tickMetricsService      tick-loop metrics service queried by the wizard {@code STATS} command
+     * @param commandLatencyMetrics   per-command latency percentiles shown by the wizard {@code STATS} command
      * @param wizardPolicy            policy deciding which players may run wizard commands
      * @param playerLocationService   service used by the wizard {@code GOTO} command to relocate the admin
      * @param mobRegistry             live mob registry used by the wizard {@code SPAWN}/{@code PURGE}
@@ -65,6 +69,8 @@ public class SocketCommandRegistry {
      *                                rooms/items/mobs from JSON
      * @param tickThreadDispatcher    bridge used by the wizard {@code RELOAD} command to apply the
      *                                reload atomically on the tick thread
+     * @param flightRecordingService  service used by the wizard {@code PROFILE} command to record the server
+     * @param playerDirectory         directory the wizard {@code PURGE} command drops deleted players from
      */
     public static SocketCommandRegistry createDefault(
         EquipmentArmorResolver equipmentArmorResolver,
@@ -75,19 +81,22 @@ public class SocketCommandRegistry {
         ClassRepository classRepository,
         AbilityRegistry abilityRegistry,
         PlayerRepository playerRepository,
-        GuildRepository guildRepository,
+        LeaderboardService leaderboards,
         RoomService roomService,
         TellService tellService,
         MessageBroadcaster messageBroadcaster,
         ReputationService reputationService,
         @Nullable WeatherEngine weatherEngine,
         TickMetricsService tickMetricsService,
+        CommandLatencyMetrics commandLatencyMetrics,
         WizardPolicy wizardPolicy,
         PlayerLocationService playerLocationService,
         @Nullable MobRegistry mobRegistry,
         ShutdownHandle shutdownHandle,
         ContentReloadService contentReloadService,
-        TickThreadDispatcher tickThreadDispatcher
+        TickThreadDispatcher tickThreadDispatcher,
+        FlightRecordingService flightRecordingService,
+        PlayerDirectory playerDirectory
     ) {
         Objects.requireNonNull(equipmentArmorResolver, "Equipment armor resolver is required");
         Objects.requireNonNull(setBonusResolver, "Set bonus resolver is required");
@@ -97,17 +106,20 @@ public class SocketCommandRegistry {
         Objects.requireNonNull(classRepository, "Class repository is required");
         Objects.requireNonNull(abilityRegistry, "Ability registry is required");
         Objects.requireNonNull(playerRepository, "Player repository is required");
-        Objects.requireNonNull(guildRepository, "Guild repository is required");
+        Objects.requireNonNull(leaderboards, "Leaderboard service is required");
         Objects.requireNonNull(roomService, "Room service is required");
         Objects.requireNonNull(tellService, "Tell service is required");
         Objects.requireNonNull(messageBroadcaster, "Message broadcaster is required");
         Objects.requireNonNull(reputationService, "Reputation service is required");
         Objects.requireNonNull(tickMetricsService, "Tick metrics service is required");
+        Objects.requireNonNull(commandLatencyMetrics, "Command latency metrics are required");
         Objects.requireNonNull(wizardPolicy, "Wizard policy is required");
         Objects.requireNonNull(playerLocationService, "Player location service is required");
         Objects.requireNonNull(shutdownHandle, "Shutdown handle is required");
         Objects.requireNonNull(contentReloadService, "Content reload service is required");
         Objects.requireNonNull(tickThreadDispatcher, "Tick thread dispatcher is required");
+        Objects.requireNonNull(flightRecordingService, "Flight recording service is required");
+        Objects.requireNonNull(playerDirectory, "Player directory is required");
         SocketCommandRegistry registry = new SocketCommandRegistry();
         new LookCommand(registry);
         new ExamineCommand(registry);
@@ -136,7 +148,7 @@ public class SocketCommandRegistry {
         new ShoutCommand(registry, roomService, messageBroadcaster);
         new GossipCommand(registry);
         new WhoCommand(registry, roomService, weatherEngine);
-        new RankCommand(registry, playerRepository, guildRepository);
+        new RankCommand(registry, leaderboards);
         new ReputationCommand(registry, reputationService);
         new ScoreCommand(registry, equipmentArmorResolver, raceArmorBonusResolver, classArmorBonusResolver,
             characterAttributesResolver, setBonusResolver, roomService, weatherEngine);
@@ -226,12 +238,15 @@ public class SocketCommandRegistry {
         new MailCommand(registry);
         new BoardCommand(registry);
         new NoteCommand(registry);
-        new StatsCommand(registry, tickMetricsService, wizardPolicy);
+        new StatsCommand(registry, tickMetricsService, commandLatencyMetrics, wizardPolicy);
         new GotoCommand(registry, wizardPolicy, playerLocationService, roomService, messageBroadcaster);
         new SpawnCommand(registry, wizardPolicy, mobRegistry, roomService, messageBroadcaster);
-        new PurgeCommand(registry, wizardPolicy, mobRegistry, roomService, playerRepository, messageBroadcaster);
+        new PurgeCommand(
+            registry, wizardPolicy, mobRegistry, roomService, playerRepository, leaderboards, playerDirectory,
+            messageBroadcaster);
         new ShutdownCommand(registry, wizardPolicy, shutdownHandle, messageBroadcaster);
         new ReloadCommand(registry, wizardPolicy, contentReloadService, messageBroadcaster, tickThreadDispatcher);
+        new ProfileCommand(registry, wizardPolicy, flightRecordingService, messageBroadcaster);
         return registry;
     }
 
@@ -240,6 +255,7 @@ public class SocketCommandRegistry {
      */
     public void register(SocketCommandHandler command) {
         commands.add(Objects.requireNonNull(command, "Command is required"));
+        index = null;
     }
 
     /**
@@ -248,4 +264,18 @@ public class SocketCommandRegistry {
     public List<SocketCommandHandler> commands() {
         return List.copyOf(commands);
     }
+
+    /**
+     * Returns the first-token index over the registered commands, building it on first use after
+     * the last registration. Commands register themselves from their constructors, so the index is
+     * built lazily rather than on each {@link #register} call.
+     */
+    SocketCommandIndex index() {
+        SocketCommandIndex current = index;
+        if (current == null) {
+            current = new SocketCommandIndex(commands());
+            index = current;
+        }
+        return current;
+    }
 }
@@ -1,31 +1,35 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.net.Socket;
 import java.nio.charset.StandardCharsets;
+import java.util.Objects;
 
 import lombok.extern.slf4j.Slf4j;
 
 import io.taanielo.jmud.core.messaging.MessageWriter;
+import io.taanielo.jmud.core.server.connection.OutboundChannel;
 
 /**
- * Socket messages end with newline and must be flushed
+ * Socket messages end with newline; each write is encoded as UTF-8 and handed to the connection's
+ * {@link OutboundChannel}, which owns flushing.
  */
 @Slf4j
 public class SocketMessageWriter implements MessageWriter {
 
     private final Socket clientSocket;
+    private final OutboundChannel outbound;
 
-    public SocketMessageWriter(Socket clientSocket) {this.clientSocket = clientSocket;}
+    public SocketMessageWriter(Socket clientSocket, OutboundChannel outbound) {
+        this.clientSocket = Objects.requireNonNull(clientSocket, "Socket is required");
+        this.outbound = Objects.requireNonNull(outbound, "Outbound channel is required");
+    }
 
     @Override
     public void write(String message) throws IOException {
         if (clientSocket.isOutputShutdown()) {
             return;
         }
-        OutputStream output = clientSocket.getOutputStream();
-        output.write(message.getBytes(StandardCharsets.UTF_8));
-        output.flush();
+        outbound.enqueue(message.getBytes(StandardCharsets.UTF_8), false);
     }
 }
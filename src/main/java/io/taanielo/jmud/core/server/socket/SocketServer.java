@@ -41,11 +41,13 @@ public class SocketServer implements Server {
             //noinspection InfiniteLoopStatement
             while (true) {
                 Socket clientSocket = server.accept();
-                TelnetClientConnection connection = new TelnetClientConnection(clientSocket);
+                TelnetClientConnection connection = new TelnetClientConnection(
+                    clientSocket, context.outboundQueueFactory(), context.telnetCompressionMetrics());
                 SocketClient client = new SocketClient(
                     connection,
                     new SocketAuthenticationService(
                         clientSocket,
+                        connection.controlOutput(),
                         context.userRegistry(),
                         connection.messageWriter(),
                         context.authenticationPolicy(),
@@ -63,6 +63,11 @@ public class SpawnCommand extends RegistrableCommand {
         return "spawn";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SPAWN");
+    }
+
     @Override
     public String shortDescription() {
         return "Spawn a mob by template id (wizard only).";
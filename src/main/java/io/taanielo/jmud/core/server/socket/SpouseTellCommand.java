@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SPOUSETELL} / {@code ST} command, which sends a private message to the player's
@@ -28,6 +29,11 @@ public class SpouseTellCommand extends RegistrableCommand {
         return "spousetell";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SPOUSETELL", "ST");
+    }
+
     @Override
     public String shortDescription() {
         return "Send a private message to your spouse, anywhere. Aliases: ST";
@@ -5,8 +5,10 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.server.socket.CommandLatencyMetrics.CommandLatency;
 import io.taanielo.jmud.core.tick.TickMetricsService;
 import io.taanielo.jmud.core.tick.TickStatsSummary;
 
@@ -14,13 +16,18 @@ import io.taanielo.jmud.core.tick.TickStatsSummary;
  * Handles the wizard-only {@code STATS} command, which reports tick-loop health.
  *
  * <p>The command reads aggregated metrics from {@link TickMetricsService} (a domain service) and
- * renders them as a small table. It executes on the tick thread via the player command queue, the
+ * renders them as a small table, followed by the queue-wait and execution percentiles of the slowest
+ * commands from {@link CommandLatencyMetrics}. It executes on the tick thread via the player command queue, the
  * same thread that records the metrics, so no synchronisation is needed (AGENTS.md §5). Access is
  * gated by {@link WizardPolicy}; non-wizards receive a denial message.
  */
 public class StatsCommand extends RegistrableCommand {
 
+    /** Commands listed in the latency table, slowest p99 execution first. */
+    static final int MAX_LATENCY_ROWS = 10;
+
     private final TickMetricsService metricsService;
+    private final CommandLatencyMetrics latencyMetrics;
     private final WizardPolicy wizardPolicy;
 
     /**
@@ -28,11 +35,18 @@ public class StatsCommand extends RegistrableCommand {
      *
      * @param registry       the command registry to register with
      * @param metricsService the tick metrics aggregation service to query
+     * @param latencyMetrics the per-command queue-wait and execution percentiles to show
      * @param wizardPolicy   the policy deciding which players may view stats
      */
-    public StatsCommand(SocketCommandRegistry registry, TickMetricsService metricsService, WizardPolicy wizardPolicy) {
+    public StatsCommand(
+        SocketCommandRegistry registry,
+        TickMetricsService metricsService,
+        CommandLatencyMetrics latencyMetrics,
+        WizardPolicy wizardPolicy
+    ) {
         super(registry);
         this.metricsService = Objects.requireNonNull(metricsService, "Metrics service is required");
+        this.latencyMetrics = Objects.requireNonNull(latencyMetrics, "Command latency metrics are required");
         this.wizardPolicy = Objects.requireNonNull(wizardPolicy, "Wizard policy is required");
     }
 
@@ -41,6 +55,11 @@ public class StatsCommand extends RegistrableCommand {
         return "stats";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("STATS");
+    }
+
     @Override
     public String shortDescription() {
         return "Show tick-loop health metrics (wizard only).";
@@ -51,7 +70,8 @@ public class StatsCommand extends RegistrableCommand {
         return """
                Usage: STATS
                  Displays aggregated tick-loop performance: average and maximum tick duration,
-                 the slowest Tickable by aggregate cost, tick overruns and total uptime ticks.
+                 the slowest Tickable by aggregate cost, tick overruns and total uptime ticks,
+                 then the p50/p99 queue wait and execution time of the slowest commands.
                  Restricted to wizards.\
                """;
     }
@@ -78,6 +98,9 @@ public class StatsCommand extends RegistrableCommand {
         for (String line : format(metricsService.getSummary())) {
             context.writeLineSafe(line);
         }
+        for (String line : formatCommandLatency(latencyMetrics.snapshot())) {
+            context.writeLineSafe(line);
+        }
         context.sendPrompt();
     }
 
@@ -115,6 +138,36 @@ public class StatsCommand extends RegistrableCommand {
         return lines;
     }
 
+    /**
+     * Renders per-command latency percentiles as tabular lines, keeping the
+     * {@value #MAX_LATENCY_ROWS} slowest commands. A long queue wait beside a short execution means
+     * the command was held back by the player's backlog or a slow tick rather than by its handler.
+     *
+     * @param latencies per-command percentiles, slowest p99 execution first
+     * @return the formatted lines, one per output row
+     */
+    static List<String> formatCommandLatency(List<CommandLatency> latencies) {
+        List<String> lines = new ArrayList<>();
+        lines.add("=== Command Latency (ms) ===");
+        if (latencies.isEmpty()) {
+            lines.add("(no commands recorded)");
+            return lines;
+        }
+        lines.add(String.format(Locale.ROOT, "%-16s %8s %9s %9s %9s %9s",
+            "Command", "Count", "Wait p50", "Wait p99", "Exec p50", "Exec p99"));
+        for (CommandLatency latency : latencies.subList(0, Math.min(MAX_LATENCY_ROWS, latencies.size()))) {
+            lines.add(String.format(Locale.ROOT, "%-16s %8d %9s %9s %9s %9s",
+                latency.command(),
+                latency.count(),
+                millis(latency.queueWaitP50Nanos()),
+                millis(latency.queueWaitP99Nanos()),
+                millis(latency.executionP50Nanos()),
+                millis(latency.executionP99Nanos())
+            ));
+        }
+        return lines;
+    }
+
     private static String millis(double nanos) {
         return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
     }
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code STEAL <npc>} command, the rogue-only skill for pickpocketing gold from a
@@ -21,6 +22,11 @@ public class StealCommand extends RegistrableCommand {
         return "steal";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("STEAL");
+    }
+
     @Override
     public String shortDescription() {
         return "Attempt to pickpocket gold from an NPC (rogue skill only).";
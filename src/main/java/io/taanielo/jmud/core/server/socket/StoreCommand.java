@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code STORE <item name>} command, moving an item from carried inventory
@@ -17,6 +18,11 @@ public class StoreCommand extends RegistrableCommand {
         return "store";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("STORE");
+    }
+
     @Override
     public String shortDescription() {
         return "Store an item in your bank vault for safe keeping.";
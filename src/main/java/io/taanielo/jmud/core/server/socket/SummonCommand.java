@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code SUMMON} command, the necromancer-style spell that conjures a temporary pet mob
@@ -23,6 +24,11 @@ public class SummonCommand extends RegistrableCommand {
         return "summon";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("SUMMON");
+    }
+
     @Override
     public String shortDescription() {
         return "Summon a temporary pet to fight for you, or SUMMON DISMISS to release it.";
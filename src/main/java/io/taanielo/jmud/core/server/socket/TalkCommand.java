@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TALK <npc name>} command, which starts a conversation with a dialogue-capable
@@ -21,6 +22,11 @@ public class TalkCommand extends RegistrableCommand {
         return "talk";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TALK");
+    }
+
     @Override
     public String shortDescription() {
         return "Talk to an NPC in the room to begin a dialogue.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TAME <mob>} command, which permanently captures a charmable mob in the current
@@ -22,6 +23,11 @@ public class TameCommand extends RegistrableCommand {
         return "tame";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TAME");
+    }
+
     @Override
     public String shortDescription() {
         return "Permanently tame a charmable mob as a companion that follows and fights for you.";
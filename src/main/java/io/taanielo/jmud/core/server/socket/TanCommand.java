@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TAN} command. With no arguments it lists the leather armor recipes a
@@ -19,6 +20,11 @@ public class TanCommand extends RegistrableCommand {
         return "tan";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TAN");
+    }
+
     @Override
     public String shortDescription() {
         return "Tan leather armor from beast pelts at a leatherworker.";
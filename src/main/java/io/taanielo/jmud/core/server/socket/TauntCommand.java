@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TAUNT} command: the Warrior-only skill that forces a mob already in combat in
@@ -18,6 +19,11 @@ public class TauntCommand extends RegistrableCommand {
         return "taunt";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TAUNT");
+    }
+
     @Override
     public String shortDescription() {
         return "Force a mob to attack you instead of your allies.";
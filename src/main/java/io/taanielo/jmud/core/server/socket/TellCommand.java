@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.authentication.Username;
 import io.taanielo.jmud.core.messaging.TellService;
@@ -39,6 +40,11 @@ public class TellCommand extends RegistrableCommand {
         return "tell";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TELL", "T");
+    }
+
     @Override
     public String shortDescription() {
         return "Send a private message to an online player. Aliases: T";
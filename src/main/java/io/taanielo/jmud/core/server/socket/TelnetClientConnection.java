@@ -1,11 +1,13 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Objects;
 
 import io.taanielo.jmud.core.messaging.MessageWriter;
 import io.taanielo.jmud.core.server.connection.ClientConnection;
+import io.taanielo.jmud.core.server.connection.OutboundQueueFactory;
 
 /**
  * Telnet-backed connection implementation.
@@ -19,10 +21,28 @@ public class TelnetClientConnection implements ClientConnection {
         this.connection = new TelnetConnection(Objects.requireNonNull(socket, "Socket is required"));
     }
 
+    public TelnetClientConnection(java.net.Socket socket, OutboundQueueFactory outboundQueues) {
+        this.connection = new TelnetConnection(
+            Objects.requireNonNull(socket, "Socket is required"),
+            Objects.requireNonNull(outboundQueues, "Outbound queue factory is required"));
+    }
+
+    /**
+     * Creates a queued telnet connection that offers MCCP2 output compression to the client.
+     */
+    public TelnetClientConnection(
+        java.net.Socket socket, OutboundQueueFactory outboundQueues, TelnetCompressionMetrics compressionMetrics
+    ) {
+        this.connection = new TelnetConnection(
+            Objects.requireNonNull(socket, "Socket is required"),
+            Objects.requireNonNull(outboundQueues, "Outbound queue factory is required"),
+            Objects.requireNonNull(compressionMetrics, "Compression metrics are required"));
+    }
+
     @Override
     public void open() throws IOException {
         connection.open();
-        this.lineReader = new TelnetLineReader(connection.input());
+        this.lineReader = new TelnetLineReader(connection.input(), connection::negotiate);
     }
 
     @Override
@@ -42,6 +62,13 @@ public class TelnetClientConnection implements ClientConnection {
         }
     }
 
+    /**
+     * Returns the stream for raw telnet negotiation bytes, ordered with the rest of the output.
+     */
+    public OutputStream controlOutput() {
+        return connection.controlOutput();
+    }
+
     @Override
     public MessageWriter messageWriter() {
         return connection.messageWriter();
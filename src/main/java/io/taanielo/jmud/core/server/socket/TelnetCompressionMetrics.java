@@ -0,0 +1,143 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+/**
+ * Micrometer instrumentation for MCCP2 output compression on telnet connections
+ * ({@link TelnetCompressionStream}): how often clients take it, what it saves and what it costs.
+ *
+ * <p>Meters registered:
+ * <ul>
+ *   <li>{@code jmud.telnet.mccp.negotiations} (tag {@code outcome}: {@code accepted}/{@code refused})
+ *       — clients that answered the {@code IAC WILL COMPRESS2} offer</li>
+ *   <li>{@code jmud.telnet.mccp.bytes} (tag {@code stage}: {@code raw}/{@code compressed}) — output
+ *       of compressed sessions before and after deflating</li>
+ *   <li>{@code jmud.telnet.mccp.deflate} — time spent deflating one flushed output batch</li>
+ *   <li>{@code jmud.telnet.mccp.session.ratio} — raw bytes per compressed byte over one whole
+ *       session, recorded when it closes</li>
+ *   <li>{@code jmud.telnet.mccp.session.deflate} — total time one session spent deflating,
+ *       recorded when it closes</li>
+ * </ul>
+ * The two session meters are the per-session trade-off: bandwidth saved against CPU spent.
+ */
+public final class TelnetCompressionMetrics {
+
+    private final Counter accepted;
+    private final Counter refused;
+    private final Counter rawBytes;
+    private final Counter compressedBytes;
+    private final Timer batchDeflate;
+    private final DistributionSummary sessionRatio;
+    private final Timer sessionDeflate;
+
+    /**
+     * Registers the compression meters into the given registry.
+     *
+     * @param meterRegistry the registry to record into; pass an empty {@link CompositeMeterRegistry}
+     *                      for no-op behaviour
+     */
+    public TelnetCompressionMetrics(MeterRegistry meterRegistry) {
+        Objects.requireNonNull(meterRegistry, "Meter registry is required");
+        this.accepted = negotiations("accepted", meterRegistry);
+        this.refused = negotiations("refused", meterRegistry);
+        this.rawBytes = bytes("raw", meterRegistry);
+        this.compressedBytes = bytes("compressed", meterRegistry);
+        this.batchDeflate = Timer.builder("jmud.telnet.mccp.deflate")
+            .description("Time spent deflating one flushed batch of compressed telnet output")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.sessionRatio = DistributionSummary.builder("jmud.telnet.mccp.session.ratio")
+            .description("Raw output bytes per compressed byte over one MCCP2 session")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.sessionDeflate = Timer.builder("jmud.telnet.mccp.session.deflate")
+            .description("Total time one MCCP2 session spent deflating its output")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Creates metrics backed by an empty registry, for tests and tools that do not export metrics.
+     *
+     * @return no-op compression metrics
+     */
+    public static TelnetCompressionMetrics noOp() {
+        return new TelnetCompressionMetrics(new CompositeMeterRegistry());
+    }
+
+    /**
+     * Records a client's answer to the compression offer.
+     *
+     * @param accepted {@code true} for {@code DO COMPRESS2}, {@code false} for {@code DONT COMPRESS2}
+     */
+    public void negotiated(boolean accepted) {
+        (accepted ? this.accepted : refused).increment();
+    }
+
+    /**
+     * Records one flushed batch of compressed output.
+     *
+     * @param raw          bytes written before compression
+     * @param compressed   bytes the deflater produced for them
+     * @param deflateNanos nanoseconds spent deflating
+     */
+    public void recordBatch(long raw, long compressed, long deflateNanos) {
+        rawBytes.increment((double) raw);
+        compressedBytes.increment((double) compressed);
+        batchDeflate.record(deflateNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Records the totals of a compressed session as it closes.
+     *
+     * @param raw          bytes the session wrote before compression
+     * @param compressed   bytes sent for them
+     * @param deflateNanos nanoseconds the session spent deflating
+     */
+    public void recordSession(long raw, long compressed, long deflateNanos) {
+        if (compressed > 0) {
+            sessionRatio.record((double) raw / compressed);
+        }
+        sessionDeflate.record(deflateNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the cumulative number of accepted offers so far.
+     *
+     * @return accepted negotiations
+     */
+    public double acceptedCount() {
+        return accepted.count();
+    }
+
+    /**
+     * Returns the cumulative number of refused offers so far.
+     *
+     * @return refused negotiations
+     */
+    public double refusedCount() {
+        return refused.count();
+    }
+
+    private static Counter negotiations(String outcome, MeterRegistry registry) {
+        return Counter.builder("jmud.telnet.mccp.negotiations")
+            .description("Telnet clients that answered the MCCP2 compression offer")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static Counter bytes(String stage, MeterRegistry registry) {
+        return Counter.builder("jmud.telnet.mccp.bytes")
+            .description("Output bytes of MCCP2 sessions before and after compression")
+            .tag("stage", stage)
+            .baseUnit("bytes")
+            .register(registry);
+    }
+}
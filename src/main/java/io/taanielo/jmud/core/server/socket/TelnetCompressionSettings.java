@@ -0,0 +1,47 @@
+package io.taanielo.jmud.core.server.socket;
+
+import io.taanielo.jmud.core.config.GameConfig;
+
+/**
+ * Configuration for MCCP2 output compression on telnet connections ({@link TelnetCompressionStream}).
+ *
+ * <p>Values are read once from {@link GameConfig} following the same static-settings pattern as
+ * {@link LinkdeadSettings}.
+ */
+public final class TelnetCompressionSettings {
+
+    /** Default for offering MCCP2 to every telnet client. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default zlib compression level: the usual balance of ratio against CPU. */
+    public static final int DEFAULT_LEVEL = 6;
+
+    private static final GameConfig CONFIG = GameConfig.load();
+
+    private TelnetCompressionSettings() {
+    }
+
+    /**
+     * Returns whether new telnet connections are offered MCCP2 ({@code IAC WILL COMPRESS2}). When
+     * disabled, output is never compressed, whatever the client supports.
+     *
+     * @return {@code true} to offer compression
+     */
+    public static boolean enabled() {
+        return CONFIG.getBoolean("jmud.telnet.mccp2.enabled", DEFAULT_ENABLED);
+    }
+
+    /**
+     * Returns the zlib level compressed sessions deflate at: 1 is fastest, 9 compresses best.
+     *
+     * @return a level from 1 to 9
+     * @throws IllegalArgumentException if the configured value is outside 1..9
+     */
+    public static int level() {
+        int level = CONFIG.getInt("jmud.telnet.mccp2.level", DEFAULT_LEVEL);
+        if (level < 1 || level > 9) {
+            throw new IllegalArgumentException("MCCP2 compression level must be between 1 and 9");
+        }
+        return level;
+    }
+}
@@ -0,0 +1,263 @@
+package io.taanielo.jmud.core.server.socket;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.zip.Deflater;
+
+import org.jspecify.annotations.Nullable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Telnet output stream that switches to MCCP2 (telnet option 86, {@code COMPRESS2}) compression once
+ * the client has agreed to it.
+ *
+ * <p>Bytes pass through untouched until the connection {@linkplain #arm() arms} the stream on the
+ * client's {@code DO COMPRESS2} and then writes {@link #START} as one unit through the outbound
+ * channel. Everything after that unit is one zlib stream: each write is deflated without flushing,
+ * and each {@link #flush()} — which the outbound writer issues once at the end of every batch — ends
+ * with a sync flush, so the client can inflate everything sent so far without the server paying a
+ * flush per line. Because the switch happens when the writer reaches the start unit, output queued
+ * before it still goes out uncompressed, as the protocol requires. UTF-8 text never contains
+ * {@code 0xFF}, so no text unit can be mistaken for the start sequence.
+ *
+ * <p>A client that later sends {@code DONT COMPRESS2} gets the zlib stream finished at the next
+ * write or flush ({@link #requestEnd()}) and plain output after it; one that sends it before the
+ * start unit went out gets an empty zlib stream finished right after that unit. A client that refuses or never
+ * answers the offer is never armed, so this stream stays a pass-through.
+ *
+ * <p>The deflate time recorded is the time spent inside {@link Deflater#deflate}, measured with
+ * {@link System#nanoTime()}. The outbound writers are virtual threads, for which per-thread CPU time
+ * is not available; deflating never blocks, so the elapsed time is a close stand-in for its CPU cost.
+ *
+ * <p>Writes and flushes come from the connection's outbound writer; {@link #close()} may come from
+ * another thread and first closes the socket stream, so a writer blocked on a stalled client is
+ * released before the deflater is freed.
+ */
+@Slf4j
+final class TelnetCompressionStream extends OutputStream {
+
+    /** Telnet option code for MCCP version 2. */
+    static final int COMPRESS2 = 86;
+
+    /** {@code IAC WILL COMPRESS2}: the server's offer. */
+    static final byte[] OFFER = {(byte) 255, (byte) 251, COMPRESS2};
+
+    /** {@code IAC SB COMPRESS2 IAC SE}: everything after it is compressed. */
+    static final byte[] START = {(byte) 255, (byte) 250, COMPRESS2, (byte) 255, (byte) 240};
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final OutputStream out;
+    private final String name;
+    private final int level;
+    private final TelnetCompressionMetrics metrics;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private @Nullable Deflater deflater;
+    private boolean armed;
+    private boolean endRequested;
+    private boolean compressed;
+    private boolean closed;
+
+    private long batchRaw;
+    private long batchCompressed;
+    private long batchNanos;
+    private long sessionRaw;
+    private long sessionCompressed;
+    private long sessionNanos;
+
+    /**
+     * Wraps a socket output stream.
+     *
+     * @param out     the socket output stream
+     * @param name    the connection name used in the session summary log line
+     * @param level   the zlib compression level, 1 to 9
+     * @param metrics where batch and session totals are recorded
+     */
+    TelnetCompressionStream(OutputStream out, String name, int level, TelnetCompressionMetrics metrics) {
+        this.out = Objects.requireNonNull(out, "Output stream is required");
+        this.name = Objects.requireNonNull(name, "Name is required");
+        this.level = level;
+        this.metrics = Objects.requireNonNull(metrics, "Compression metrics are required");
+    }
+
+    /**
+     * Starts compressing after the next {@link #START} unit written. Called when the client answers
+     * {@code DO COMPRESS2}, before the start unit is enqueued.
+     */
+    synchronized void arm() {
+        armed = true;
+    }
+
+    /**
+     * Ends compression at the next write or flush. Called when the client answers
+     * {@code DONT COMPRESS2}.
+     *
+     * <p>If the stream is armed but the start unit has not been written yet, that unit is already
+     * queued and will still reach the client, which then expects a zlib stream. The stream stays
+     * armed, so compression starts at the start unit and the zlib stream is finished straight away.
+     */
+    synchronized void requestEnd() {
+        endRequested = deflater != null || armed;
+    }
+
+    /**
+     * Returns whether output after the start sequence is being compressed.
+     *
+     * @return {@code true} while the zlib stream is open
+     */
+    synchronized boolean compressing() {
+        return deflater != null;
+    }
+
+    /**
+     * Returns what this session has written so far and what compressing it cost.
+     *
+     * @return the running totals, including output not yet flushed
+     */
+    synchronized Stats stats() {
+        return new Stats(sessionRaw + batchRaw, sessionCompressed + batchCompressed, sessionNanos + batchNanos);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] {(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        Objects.checkFromIndexSize(off, len, b.length);
+        ensureOpen();
+        endIfRequested();
+        Deflater current = deflater;
+        if (current == null) {
+            out.write(b, off, len);
+            if (armed && Arrays.equals(b, off, off + len, START, 0, START.length)) {
+                armed = false;
+                deflater = new Deflater(level);
+                compressed = true;
+                endIfRequested();
+            }
+            return;
+        }
+        batchRaw += len;
+        current.setInput(b, off, len);
+        while (!current.needsInput()) {
+            deflate(current, Deflater.NO_FLUSH);
+        }
+    }
+
+    @Override
+    public synchronized void flush() throws IOException {
+        ensureOpen();
+        endIfRequested();
+        Deflater current = deflater;
+        if (current != null) {
+            // A full buffer means the deflater may hold more; keep flushing until it comes up short.
+            int produced;
+            do {
+                produced = deflate(current, Deflater.SYNC_FLUSH);
+            } while (produced == buffer.length);
+        }
+        out.flush();
+        recordBatch();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+        } finally {
+            endSession();
+        }
+    }
+
+    private void endIfRequested() throws IOException {
+        Deflater current = deflater;
+        if (!endRequested || current == null) {
+            return;
+        }
+        current.finish();
+        while (!current.finished()) {
+            deflate(current, Deflater.NO_FLUSH);
+        }
+        current.end();
+        deflater = null;
+        endRequested = false;
+        log.debug("MCCP2 compression for {} ended by the client", name);
+    }
+
+    /** Deflates into the buffer once and writes what was produced; returns the byte count. */
+    private int deflate(Deflater current, int flush) throws IOException {
+        long start = System.nanoTime();
+        int produced = current.deflate(buffer, 0, buffer.length, flush);
+        batchNanos += System.nanoTime() - start;
+        if (produced > 0) {
+            out.write(buffer, 0, produced);
+            batchCompressed += produced;
+        }
+        return produced;
+    }
+
+    private void recordBatch() {
+        if (batchRaw == 0 && batchCompressed == 0) {
+            return;
+        }
+        metrics.recordBatch(batchRaw, batchCompressed, batchNanos);
+        sessionRaw += batchRaw;
+        sessionCompressed += batchCompressed;
+        sessionNanos += batchNanos;
+        batchRaw = 0;
+        batchCompressed = 0;
+        batchNanos = 0;
+    }
+
+    private synchronized void endSession() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        Deflater current = deflater;
+        if (current != null) {
+            current.end();
+            deflater = null;
+        }
+        if (!compressed) {
+            return;
+        }
+        Stats session = stats();
+        metrics.recordSession(session.rawBytes(), session.compressedBytes(), session.deflateNanos());
+        log.info("MCCP2 session {} closed: {} bytes compressed to {} (ratio {}), {} ms deflating",
+            name, session.rawBytes(), session.compressedBytes(),
+            String.format(Locale.ROOT, "%.2f", session.ratio()), String.format(Locale.ROOT, "%.1f", session.deflateNanos() / 1_000_000.0));
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    /**
+     * Output totals of one session.
+     *
+     * @param rawBytes        bytes written to the stream after compression started
+     * @param compressedBytes bytes the deflater produced for them
+     * @param deflateNanos    nanoseconds spent deflating
+     */
+    record Stats(long rawBytes, long compressedBytes, long deflateNanos) {
+
+        /**
+         * Returns raw bytes per compressed byte.
+         *
+         * @return the compression ratio, or {@code 1.0} before anything was compressed
+         */
+        double ratio() {
+            return compressedBytes == 0 ? 1.0 : (double) rawBytes / compressedBytes;
+        }
+    }
+}
@@ -4,13 +4,21 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
+
 import lombok.extern.slf4j.Slf4j;
 
+import io.taanielo.jmud.core.messaging.EncodedMessage;
 import io.taanielo.jmud.core.messaging.Message;
+import io.taanielo.jmud.core.messaging.MessageEncoding;
 import io.taanielo.jmud.core.messaging.MessageWriter;
+import io.taanielo.jmud.core.messaging.StringMessageWriter;
+import io.taanielo.jmud.core.server.connection.OutboundChannel;
+import io.taanielo.jmud.core.server.connection.OutboundQueueFactory;
 
 /**
  * Raw telnet I/O layer wrapping a socket connection.
@@ -18,22 +26,71 @@ import io.taanielo.jmud.core.messaging.MessageWriter;
  * <p>Handles byte-level reading, IAC detection, and thread-safe writing.
  * All write methods synchronize on an internal lock so callers from
  * different threads (command thread, tick thread) do not interleave output.
+ * Encoded output goes to an {@link OutboundChannel}; when built with an
+ * {@link OutboundQueueFactory} that is a per-connection queue drained by its
+ * own virtual thread, so a slow client never blocks the caller.
+ *
+ * <p>When built with {@link TelnetCompressionMetrics} and
+ * {@linkplain TelnetCompressionSettings#enabled() compression is enabled}, the connection offers
+ * MCCP2 on open and turns compression on if the client answers {@code DO COMPRESS2}
+ * ({@link TelnetCompressionStream}). A client that refuses or ignores the offer keeps plain output.
  */
 @Slf4j
 public class TelnetConnection {
 
+    /** Telnet {@code DO}: the client asks the server to enable an option. */
+    private static final int DO = 253;
+    /** Telnet {@code DONT}: the client asks the server to disable an option. */
+    private static final int DONT = 254;
+
     private final Socket socket;
     private final MessageWriter messageWriter;
+    private final OutboundChannel outbound;
     private final Object writeLock = new Object();
+    private final String name;
+    private final @Nullable TelnetCompressionMetrics compressionMetrics;
     private InputStream input;
     private OutputStream output;
+    private @Nullable TelnetCompressionStream compression;
+    /** Set once the client has answered the compression offer; read and written by the reader. */
+    private boolean compressionAnswered;
 
     /**
-     * Creates a telnet connection wrapping the given socket.
+     * Creates a telnet connection wrapping the given socket that writes synchronously.
      */
     public TelnetConnection(Socket socket) {
         this.socket = Objects.requireNonNull(socket, "Socket is required");
-        this.messageWriter = new SocketMessageWriter(socket);
+        this.name = "telnet-" + socket.getPort();
+        this.compressionMetrics = null;
+        this.outbound = OutboundChannel.direct(new Object());
+        this.messageWriter = new SocketMessageWriter(socket, outbound);
+    }
+
+    /**
+     * Creates a telnet connection wrapping the given socket whose output is written by a
+     * per-connection {@link io.taanielo.jmud.core.server.connection.OutboundQueue}.
+     */
+    public TelnetConnection(Socket socket, OutboundQueueFactory outboundQueues) {
+        this(socket, outboundQueues, null);
+    }
+
+    /**
+     * Creates a queued telnet connection that offers MCCP2 compression when it is
+     * {@linkplain TelnetCompressionSettings#enabled() enabled}.
+     *
+     * @param compressionMetrics where negotiation outcomes and compression cost are recorded, or
+     *                           {@code null} to never offer compression
+     */
+    public TelnetConnection(
+        Socket socket, OutboundQueueFactory outboundQueues, @Nullable TelnetCompressionMetrics compressionMetrics
+    ) {
+        this.socket = Objects.requireNonNull(socket, "Socket is required");
+        this.name = "telnet-" + socket.getPort();
+        this.compressionMetrics = compressionMetrics != null && TelnetCompressionSettings.enabled()
+            ? compressionMetrics
+            : null;
+        this.outbound = outboundQueues.create(name, new Object(), this::closeTransport);
+        this.messageWriter = new SocketMessageWriter(socket, outbound);
     }
 
     /**
@@ -44,6 +101,46 @@ public class TelnetConnection {
     public void open() throws IOException {
         this.output = socket.getOutputStream();
         this.input = socket.getInputStream();
+        if (compressionMetrics != null) {
+            this.compression = new TelnetCompressionStream(
+                output, name, TelnetCompressionSettings.level(), compressionMetrics);
+            this.output = compression;
+        }
+        outbound.attach(output);
+        if (compression != null) {
+            sendControl(TelnetCompressionStream.OFFER);
+        }
+    }
+
+    /**
+     * Acts on an option negotiation from the client; the {@link TelnetLineReader.OptionListener} of
+     * this connection, called on the thread reading input.
+     *
+     * <p>Only the answer to the MCCP2 offer matters: the first {@code DO COMPRESS2} starts
+     * compression after everything already queued, the first {@code DONT COMPRESS2} is a refusal and
+     * leaves output plain, and a later {@code DONT} ends compression that had started.
+     */
+    void negotiate(int command, int option) {
+        TelnetCompressionStream stream = compression;
+        if (stream == null || compressionMetrics == null || option != TelnetCompressionStream.COMPRESS2) {
+            return;
+        }
+        if (compressionAnswered) {
+            if (command == DONT) {
+                stream.requestEnd();
+            }
+            return;
+        }
+        if (command == DO) {
+            compressionAnswered = true;
+            compressionMetrics.negotiated(true);
+            stream.arm();
+            sendControl(TelnetCompressionStream.START);
+        } else if (command == DONT) {
+            compressionAnswered = true;
+            compressionMetrics.negotiated(false);
+            log.debug("Client {} refused MCCP2; output stays uncompressed", name);
+        }
     }
 
     /**
@@ -61,10 +158,33 @@ public class TelnetConnection {
     }
 
     /**
-     * Sends a structured message through the writer under the write lock.
+     * Returns a stream for raw telnet protocol bytes (IAC negotiation) that stays ordered with the
+     * text output; each flush is written as one unit.
+     */
+    public OutputStream controlOutput() {
+        return outbound.asOutputStream();
+    }
+
+    /**
+     * Sends a structured message through the writer under the write lock. A
+     * {@linkplain Message#isDiscardable() discardable} message is rendered and enqueued as a single
+     * unit so backpressure sheds it whole. An {@link EncodedMessage} broadcast enqueues its shared
+     * UTF-8 payload, encoded once for every recipient.
      */
     public void sendMessage(Message message) throws IOException {
         synchronized (writeLock) {
+            if (message instanceof EncodedMessage encoded) {
+                if (!socket.isOutputShutdown()) {
+                    outbound.enqueue(encoded.encoded(MessageEncoding.UTF_8), encoded.isDiscardable());
+                }
+                return;
+            }
+            if (message.isDiscardable()) {
+                if (!socket.isOutputShutdown()) {
+                    outbound.enqueue(StringMessageWriter.render(message).getBytes(StandardCharsets.UTF_8), true);
+                }
+                return;
+            }
             message.send(messageWriter);
         }
     }
@@ -105,9 +225,26 @@ public class TelnetConnection {
     }
 
     /**
-     * Closes the streams and socket.
+     * Closes the connection once pending output has drained; never blocks on the client.
      */
     public void close() {
+        outbound.shutdown(this::closeTransport);
+    }
+
+    private void sendControl(byte[] sequence) {
+        try {
+            OutputStream control = controlOutput();
+            control.write(sequence);
+            control.flush();
+        } catch (IOException e) {
+            log.debug("Cannot send telnet negotiation to {}: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the streams and socket.
+     */
+    private void closeTransport() {
         try {
             if (input != null) {
                 input.close();
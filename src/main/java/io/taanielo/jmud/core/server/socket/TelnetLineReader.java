@@ -17,7 +17,9 @@ import java.util.Objects;
  * that sends whole lines or several lines in a single packet.
  *
  * <p>Telnet IAC negotiation sequences (option negotiation and subnegotiation) are
- * recognized and stripped from the line content in-stream. An {@code IAC IP}
+ * recognized and stripped from the line content in-stream; each {@code WILL}/{@code WONT}/
+ * {@code DO}/{@code DONT} is reported to the {@link OptionListener}, if one was given, so the
+ * connection can act on the client's answer to an option it offered. An {@code IAC IP}
  * (Interrupt Process) sequence is treated the same as end of stream, matching the
  * previous behavior of disconnecting on Ctrl+C.
  *
@@ -55,6 +57,21 @@ public class TelnetLineReader {
         SUBNEGOTIATION_IAC_SEEN
     }
 
+    /**
+     * Receives the option negotiations the client sends, on the thread reading input.
+     */
+    @FunctionalInterface
+    public interface OptionListener {
+        /**
+         * Called once per {@code IAC <command> <option>} sequence.
+         *
+         * @param command the negotiation command: 251 ({@code WILL}), 252 ({@code WONT}),
+         *                253 ({@code DO}) or 254 ({@code DONT})
+         * @param option  the option code
+         */
+        void onOption(int command, int option);
+    }
+
     /**
      * Outcome of assembling telnet input: a complete line, end of stream (including
      * an Interrupt Process command), or an over-length line that was discarded.
@@ -72,10 +89,12 @@ public class TelnetLineReader {
 
     private final InputStream input;
     private final int maxLineLength;
+    private final OptionListener optionListener;
     private final byte[] scratch = new byte[SCRATCH_BUFFER_SIZE];
     private final ByteArrayOutputStream lineBuffer = new ByteArrayOutputStream();
 
     private State state = State.NORMAL;
+    private int negotiationCommand;
     private boolean oversized;
     private int scratchPosition;
     private int scratchLength;
@@ -87,10 +106,25 @@ public class TelnetLineReader {
         this(input, DEFAULT_MAX_LINE_LENGTH);
     }
 
+    /**
+     * Creates a reader with the default maximum line length that reports option negotiations.
+     */
+    public TelnetLineReader(InputStream input, OptionListener optionListener) {
+        this(input, DEFAULT_MAX_LINE_LENGTH, optionListener);
+    }
+
     /**
      * Creates a reader with an explicit maximum line length.
      */
     public TelnetLineReader(InputStream input, int maxLineLength) {
+        this(input, maxLineLength, (command, option) -> { });
+    }
+
+    /**
+     * Creates a reader with an explicit maximum line length that reports option negotiations.
+     */
+    public TelnetLineReader(InputStream input, int maxLineLength, OptionListener optionListener) {
+        this.optionListener = Objects.requireNonNull(optionListener, "Option listener is required");
         this.input = Objects.requireNonNull(input, "Input stream is required");
         if (maxLineLength <= 0) {
             throw new IllegalArgumentException("Max line length must be positive");
@@ -129,8 +163,9 @@ public class TelnetLineReader {
             case NORMAL -> consumeNormal(value);
             case IAC_SEEN -> consumeIacSeen(value);
             case NEGOTIATION_OPTION -> {
-                // Option byte of WILL/WONT/DO/DONT consumed; we do not reply.
+                // Option byte of WILL/WONT/DO/DONT; any reply is the listener's to send.
                 state = State.NORMAL;
+                optionListener.onOption(negotiationCommand, value);
                 yield null;
             }
             case SUBNEGOTIATION -> {
@@ -164,6 +199,7 @@ public class TelnetLineReader {
             return new Result.EndOfStream();
         }
         if (value == WILL || value == WONT || value == DO || value == DONT) {
+            negotiationCommand = value;
             state = State.NEGOTIATION_OPTION;
             return null;
         }
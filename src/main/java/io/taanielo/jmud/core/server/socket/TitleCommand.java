@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TITLE} command, letting a player choose which of their earned titles is
@@ -33,6 +34,11 @@ public class TitleCommand extends RegistrableCommand {
         return "title";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TITLE");
+    }
+
     @Override
     public String shortDescription() {
         return "Choose which earned title to display next to your name.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TRACK <mob_type>} command, the ranger-only skill for locating the nearest mob
@@ -21,6 +22,11 @@ public class TrackCommand extends RegistrableCommand {
         return "track";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TRACK");
+    }
+
     @Override
     public String shortDescription() {
         return "Sense the direction of the nearest mob of a type (ranger skill only).";
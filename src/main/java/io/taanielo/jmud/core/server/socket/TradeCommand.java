@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TRADE} command, a secure two-way item and gold exchange between two players in
@@ -38,6 +39,11 @@ public class TradeCommand extends RegistrableCommand {
         return "trade";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TRADE");
+    }
+
     @Override
     public String shortDescription() {
         return "Securely swap items and gold with a player in your room.";
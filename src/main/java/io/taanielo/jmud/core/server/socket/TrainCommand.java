@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code TRAIN} command, letting players spend practice points
@@ -26,6 +27,11 @@ public class TrainCommand extends RegistrableCommand {
         return "train";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("TRAIN");
+    }
+
     @Override
     public String shortDescription() {
         return "Spend practice points to learn abilities from the Master Trainer. Use TRAIN LIST to begin.";
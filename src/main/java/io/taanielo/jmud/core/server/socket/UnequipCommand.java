@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles unequip commands.
@@ -15,6 +16,11 @@ public class UnequipCommand extends RegistrableCommand {
         return "unequip";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("UNEQUIP", "REMOVE");
+    }
+
     @Override
     public String shortDescription() {
         return "Unequip a worn item back to your inventory. Alias: REMOVE";
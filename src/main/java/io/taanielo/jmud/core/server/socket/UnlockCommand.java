@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.world.Direction;
 
@@ -21,6 +22,11 @@ public class UnlockCommand extends RegistrableCommand {
         return "unlock";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("UNLOCK");
+    }
+
     @Override
     public String shortDescription() {
         return "Unlock a door in the given direction.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code VAULT} command family for a player's personal bank vault.
@@ -22,6 +23,11 @@ public class VaultCommand extends RegistrableCommand {
         return "vault";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("VAULT");
+    }
+
     @Override
     public String shortDescription() {
         return "List the items stored in your bank vault. Use VAULT UPGRADE to expand it.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code WAKE} (or {@code STAND}) command, cancelling an active
@@ -17,6 +18,11 @@ public class WakeCommand extends RegistrableCommand {
         return "wake";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("WAKE", "STAND");
+    }
+
     @Override
     public String shortDescription() {
         return "Stand up and stop resting. Aliases: STAND";
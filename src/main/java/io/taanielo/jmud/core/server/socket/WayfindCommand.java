@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code WAYFIND} command, printing live turn-by-turn compass directions from the
@@ -22,6 +23,11 @@ public class WayfindCommand extends RegistrableCommand {
         return "wayfind";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("WAYFIND");
+    }
+
     @Override
     public String shortDescription() {
         return "Get turn-by-turn directions to an area you've visited. WAYFIND lists nearby areas.";
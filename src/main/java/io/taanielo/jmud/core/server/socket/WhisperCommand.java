@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 import io.taanielo.jmud.core.authentication.Username;
 import io.taanielo.jmud.core.messaging.TellService;
@@ -45,6 +46,11 @@ public class WhisperCommand extends RegistrableCommand {
         return "whisper";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("WHISPER");
+    }
+
     @Override
     public String shortDescription() {
         return "Send a private message to a player in your room.";
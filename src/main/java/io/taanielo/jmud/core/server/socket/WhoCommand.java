@@ -2,6 +2,7 @@ package io.taanielo.jmud.core.server.socket;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jspecify.annotations.Nullable;
 
@@ -53,6 +54,11 @@ public class WhoCommand extends RegistrableCommand {
         return "who";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("WHO");
+    }
+
     @Override
     public String shortDescription() {
         return "List all players currently online.";
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles the {@code WITHDRAW <amount>} command, moving gold from the bank to carried balance.
@@ -16,6 +17,11 @@ public class WithdrawCommand extends RegistrableCommand {
         return "withdraw";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("WITHDRAW");
+    }
+
     @Override
     public String shortDescription() {
         return "Withdraw gold from the bank into your pocket.";
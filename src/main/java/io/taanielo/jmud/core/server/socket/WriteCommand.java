@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.server.socket;
 
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Handles write commands, allowing players to inscribe a scroll for an ability they already
@@ -18,6 +19,11 @@ public class WriteCommand extends RegistrableCommand {
         return "write";
     }
 
+    @Override
+    public Set<String> firstTokens() {
+        return Set.of("WRITE", "WRI");
+    }
+
     @Override
     public String shortDescription() {
         return "Inscribe a scroll for an ability you know.";
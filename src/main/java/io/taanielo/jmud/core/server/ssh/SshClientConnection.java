@@ -8,28 +8,58 @@ import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 
+import org.jspecify.annotations.Nullable;
+
+import io.taanielo.jmud.core.messaging.EncodedMessage;
+import io.taanielo.jmud.core.messaging.MessageEncoding;
 import io.taanielo.jmud.core.messaging.MessageWriter;
+import io.taanielo.jmud.core.messaging.StringMessageWriter;
 import io.taanielo.jmud.core.server.connection.ClientConnection;
+import io.taanielo.jmud.core.server.connection.OutboundChannel;
+import io.taanielo.jmud.core.server.connection.OutboundQueueFactory;
 
 /**
  * SSH-backed connection implementation.
+ *
+ * <p>Two locks are kept apart: {@code messageLock} groups the lines of one message on the producer
+ * side, while {@code writeLock} guards the raw stream shared by the outbound writer and the local
+ * input echo. Holding the producer lock never waits on the client.
  */
 public class SshClientConnection implements ClientConnection {
 
     private final InputStream input;
     private final OutputStream output;
     private final MessageWriter messageWriter;
+    private final OutboundChannel outbound;
     private final InputStreamReader reader;
     private final Object writeLock = new Object();
+    private final Object messageLock = new Object();
 
     public SshClientConnection(InputStream input, OutputStream output) {
         this(input, output, false);
     }
 
     public SshClientConnection(InputStream input, OutputStream output, boolean echoInput) {
+        this(input, output, echoInput, null);
+    }
+
+    /**
+     * Creates an SSH connection whose output is written by a per-connection outbound queue when
+     * {@code outboundQueues} is given, or synchronously when it is {@code null}.
+     */
+    public SshClientConnection(
+        InputStream input,
+        OutputStream output,
+        boolean echoInput,
+        @Nullable OutboundQueueFactory outboundQueues
+    ) {
         this.input = Objects.requireNonNull(input, "Input stream is required");
         this.output = Objects.requireNonNull(output, "Output stream is required");
-        this.messageWriter = new SshMessageWriter(output);
+        this.outbound = outboundQueues == null
+            ? OutboundChannel.direct(writeLock)
+            : outboundQueues.create("ssh", writeLock, this::closeStreams);
+        this.outbound.attach(output);
+        this.messageWriter = new SshMessageWriter(outbound);
         InputStream effectiveInput = echoInput ? new EchoingInputStream(input, output, writeLock) : input;
         this.reader = new InputStreamReader(effectiveInput, StandardCharsets.UTF_8);
     }
@@ -78,14 +108,22 @@ public class SshClientConnection implements ClientConnection {
 
     @Override
     public void sendMessage(io.taanielo.jmud.core.messaging.Message message) throws IOException {
-        synchronized (writeLock) {
+        synchronized (messageLock) {
+            if (message instanceof EncodedMessage encoded) {
+                outbound.enqueue(encoded.encoded(MessageEncoding.UTF_8), encoded.isDiscardable());
+                return;
+            }
+            if (message.isDiscardable()) {
+                outbound.enqueue(StringMessageWriter.render(message).getBytes(StandardCharsets.UTF_8), true);
+                return;
+            }
             message.send(messageWriter);
         }
     }
 
     @Override
     public void writeLine(String message) {
-        synchronized (writeLock) {
+        synchronized (messageLock) {
             try {
                 messageWriter.write(message + "\r\n");
             } catch (IOException e) {
@@ -103,7 +141,7 @@ public class SshClientConnection implements ClientConnection {
 
     @Override
     public void write(String text) {
-        synchronized (writeLock) {
+        synchronized (messageLock) {
             try {
                 messageWriter.write(text);
             } catch (IOException e) {
@@ -114,6 +152,10 @@ public class SshClientConnection implements ClientConnection {
 
     @Override
     public void close() {
+        outbound.shutdown(this::closeStreams);
+    }
+
+    private void closeStreams() {
         try {
             input.close();
         } catch (IOException e) {
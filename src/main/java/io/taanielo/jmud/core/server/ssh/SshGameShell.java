@@ -73,7 +73,8 @@ public class SshGameShell implements Command {
             exit(1);
             return;
         }
-        ClientConnection connection = new SshClientConnection(input, output, true);
+        ClientConnection connection =
+            new SshClientConnection(input, output, true, context.outboundQueueFactory());
         AuthenticationService authService = (input, handler) -> {
             throw new IllegalStateException("SSH sessions are pre-authenticated.");
         };
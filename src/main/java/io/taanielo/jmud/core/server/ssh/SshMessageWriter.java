@@ -1,26 +1,26 @@
 package io.taanielo.jmud.core.server.ssh;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
 import io.taanielo.jmud.core.messaging.MessageWriter;
+import io.taanielo.jmud.core.server.connection.OutboundChannel;
 
 /**
- * Message writer for SSH streams.
+ * Message writer for SSH streams; encodes each write as UTF-8 onto the connection's
+ * {@link OutboundChannel}.
  */
 public class SshMessageWriter implements MessageWriter {
 
-    private final OutputStream output;
+    private final OutboundChannel outbound;
 
-    public SshMessageWriter(OutputStream output) {
-        this.output = Objects.requireNonNull(output, "Output stream is required");
+    public SshMessageWriter(OutboundChannel outbound) {
+        this.outbound = Objects.requireNonNull(outbound, "Outbound channel is required");
     }
 
     @Override
     public void write(String message) throws IOException {
-        output.write(message.getBytes(StandardCharsets.UTF_8));
-        output.flush();
+        outbound.enqueue(message.getBytes(StandardCharsets.UTF_8), false);
     }
 }
@@ -8,6 +8,8 @@ import java.nio.charset.StandardCharsets;
 
 import org.jspecify.annotations.Nullable;
 
+import io.taanielo.jmud.core.messaging.MessageEncoding;
+
 /**
  * Minimal RFC 6455 frame reader/writer covering exactly what the game transport needs: inbound text
  * (possibly fragmented), ping, pong and close; outbound text, pong and close.
@@ -42,6 +44,12 @@ public record WebSocketFrame(int opcode, boolean fin, byte[] payload) {
     /** Pong control frame. */
     public static final int OPCODE_PONG = 0xA;
 
+    /**
+     * Encodes rendered message text as one unmasked text frame; a shared constant so an
+     * {@link io.taanielo.jmud.core.messaging.EncodedMessage} caches a single frame per broadcast.
+     */
+    public static final MessageEncoding TEXT_ENCODING = WebSocketFrame::encodeText;
+
     private static final int MAX_PAYLOAD_BYTES = 1 << 20; // 1 MiB safety cap per frame.
 
     /** Defensive copy so the record stays an immutable value object despite its array component. */
@@ -127,7 +127,8 @@ public class WebSocketServer implements Server {
     }
 
     private void startGameSession(Socket clientSocket, InputStream in, OutputStream out, WebSocketHandshake.Request request) {
-        WsClientConnection connection = new WsClientConnection(clientSocket, in, out, request, originPolicy);
+        WsClientConnection connection = new WsClientConnection(
+            clientSocket, in, out, request, originPolicy, context.outboundQueueFactory());
         SocketClient client = new SocketClient(
             connection,
             new WsAuthenticationService(
@@ -15,15 +15,21 @@ import org.jspecify.annotations.Nullable;
 
 import lombok.extern.slf4j.Slf4j;
 
+import io.taanielo.jmud.core.messaging.EncodedMessage;
 import io.taanielo.jmud.core.messaging.Message;
 import io.taanielo.jmud.core.messaging.MessageWriter;
+import io.taanielo.jmud.core.messaging.StringMessageWriter;
 import io.taanielo.jmud.core.server.connection.ClientConnection;
+import io.taanielo.jmud.core.server.connection.OutboundChannel;
+import io.taanielo.jmud.core.server.connection.OutboundQueueFactory;
 
 /**
  * WebSocket-backed {@link ClientConnection}. The RFC 6455 opening handshake runs in {@link #open()}
  * (on the per-connection virtual thread, AGENTS.md §5); thereafter each inbound text frame is one
  * line of player input (trailing newline stripped) and each outbound write is a text frame. No
- * telnet control bytes are emitted (issue #526 §3).
+ * telnet control bytes are emitted (issue #526 §3). Frames, including ping replies and the closing
+ * handshake, are handed to an {@link OutboundChannel} so they stay ordered and never block the caller
+ * when the connection was built with an {@link OutboundQueueFactory}.
  */
 @Slf4j
 public class WsClientConnection implements ClientConnection {
@@ -31,6 +37,7 @@ public class WsClientConnection implements ClientConnection {
     private final Socket socket;
     private final WsOriginPolicy originPolicy;
     private final Object writeLock = new Object();
+    private final OutboundChannel outbound;
     private final @Nullable InputStream preReadInput;
     private final @Nullable OutputStream preReadOutput;
     private final WebSocketHandshake.@Nullable Request preReadRequest;
@@ -42,6 +49,7 @@ public class WsClientConnection implements ClientConnection {
     public WsClientConnection(Socket socket, WsOriginPolicy originPolicy) {
         this.socket = Objects.requireNonNull(socket, "Socket is required");
         this.originPolicy = Objects.requireNonNull(originPolicy, "Origin policy is required");
+        this.outbound = OutboundChannel.direct(new Object());
         this.preReadInput = null;
         this.preReadOutput = null;
         this.preReadRequest = null;
@@ -59,9 +67,27 @@ public class WsClientConnection implements ClientConnection {
         OutputStream output,
         WebSocketHandshake.Request request,
         WsOriginPolicy originPolicy
+    ) {
+        this(socket, input, output, request, originPolicy, null);
+    }
+
+    /**
+     * Creates a connection over an already-read handshake (see above) whose frames are written by a
+     * per-connection outbound queue when {@code outboundQueues} is given, or synchronously otherwise.
+     */
+    public WsClientConnection(
+        Socket socket,
+        InputStream input,
+        OutputStream output,
+        WebSocketHandshake.Request request,
+        WsOriginPolicy originPolicy,
+        @Nullable OutboundQueueFactory outboundQueues
     ) {
         this.socket = Objects.requireNonNull(socket, "Socket is required");
         this.originPolicy = Objects.requireNonNull(originPolicy, "Origin policy is required");
+        this.outbound = outboundQueues == null
+            ? OutboundChannel.direct(new Object())
+            : outboundQueues.create("ws-" + socket.getPort(), new Object(), this::closeSocket);
         this.preReadInput = Objects.requireNonNull(input, "Input stream is required");
         this.preReadOutput = Objects.requireNonNull(output, "Output stream is required");
         this.preReadRequest = Objects.requireNonNull(request, "Request is required");
@@ -87,7 +113,8 @@ public class WsClientConnection implements ClientConnection {
         out.flush();
         this.input = in;
         this.output = out;
-        this.messageWriter = new WsMessageWriter(out, writeLock);
+        outbound.attach(out);
+        this.messageWriter = new WsMessageWriter(outbound);
     }
 
     private void reject(OutputStream out, int status, String reason, String logMessage) {
@@ -143,16 +170,13 @@ public class WsClientConnection implements ClientConnection {
     }
 
     private void writeControl(byte[] frame) {
-        OutputStream out = output;
-        if (out == null) {
+        if (output == null) {
             return;
         }
-        synchronized (writeLock) {
-            try {
-                WebSocketFrame.writeFrame(out, frame);
-            } catch (IOException e) {
-                log.debug("Failed to write WebSocket control frame", e);
-            }
+        try {
+            outbound.enqueue(frame, false);
+        } catch (IOException e) {
+            log.debug("Failed to write WebSocket control frame", e);
         }
     }
 
@@ -164,9 +188,18 @@ public class WsClientConnection implements ClientConnection {
     @Override
     public void sendMessage(Message message) throws IOException {
         MessageWriter writer = requireOpen();
-        // Hold the lock across the whole message so its lines cannot interleave with a concurrent
-        // broadcast/prompt frame; the writer re-acquires the same (reentrant) lock per frame.
+        // Hold the lock across the whole message so its frames are enqueued contiguously and cannot
+        // interleave with a concurrent broadcast/prompt frame.
         synchronized (writeLock) {
+            if (message instanceof EncodedMessage encoded) {
+                // A broadcast shares one text frame across every WebSocket recipient.
+                outbound.enqueue(encoded.encoded(WebSocketFrame.TEXT_ENCODING), encoded.isDiscardable());
+                return;
+            }
+            if (message.isDiscardable()) {
+                outbound.enqueue(WebSocketFrame.encodeText(StringMessageWriter.render(message)), true);
+                return;
+            }
             message.send(writer);
         }
     }
@@ -198,6 +231,10 @@ public class WsClientConnection implements ClientConnection {
 
     @Override
     public void close() {
+        outbound.shutdown(this::closeSocket);
+    }
+
+    private void closeSocket() {
         try {
             socket.close();
         } catch (IOException e) {
@@ -1,33 +1,29 @@
 package io.taanielo.jmud.core.server.websocket;
 
 import java.io.IOException;
-import java.io.OutputStream;
 import java.util.Objects;
 
 import io.taanielo.jmud.core.messaging.MessageWriter;
+import io.taanielo.jmud.core.server.connection.OutboundChannel;
 
 /**
  * Writes game output as RFC 6455 text frames. Mirrors {@link
  * io.taanielo.jmud.core.server.ssh.SshMessageWriter}'s plain-writer approach — it never emits telnet
  * IAC negotiation bytes, and ANSI escape sequences pass through unmodified for the browser to render
- * (issue #526 §3). Each {@link #write(String)} maps to exactly one text frame; a shared lock keeps
- * concurrent writes (tick-thread broadcasts and prompts) from interleaving frame bytes.
+ * (issue #526 §3). Each {@link #write(String)} maps to exactly one text frame, enqueued on the
+ * connection's {@link OutboundChannel} as one unit, so concurrent writes (tick-thread broadcasts and
+ * prompts) never interleave frame bytes.
  */
 public class WsMessageWriter implements MessageWriter {
 
-    private final OutputStream output;
-    private final Object writeLock;
+    private final OutboundChannel outbound;
 
-    public WsMessageWriter(OutputStream output, Object writeLock) {
-        this.output = Objects.requireNonNull(output, "Output stream is required");
-        this.writeLock = Objects.requireNonNull(writeLock, "Write lock is required");
+    public WsMessageWriter(OutboundChannel outbound) {
+        this.outbound = Objects.requireNonNull(outbound, "Outbound channel is required");
     }
 
     @Override
     public void write(String message) throws IOException {
-        byte[] frame = WebSocketFrame.encodeText(message);
-        synchronized (writeLock) {
-            WebSocketFrame.writeFrame(output, frame);
-        }
+        outbound.enqueue(WebSocketFrame.encodeText(message), false);
     }
 }
@@ -1,5 +1,6 @@
 package io.taanielo.jmud.core.tick;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,9 @@ import org.jspecify.annotations.Nullable;
 
 import lombok.extern.slf4j.Slf4j;
 
+import io.taanielo.jmud.core.diagnostics.TickEvent;
+import io.taanielo.jmud.core.diagnostics.TickableEvent;
+
 /**
  * Single-writer tick loop scheduler. Drains every registered {@link Tickable} at a fixed
  * interval on one dedicated thread; player command queues, mob AI, effects and other game
@@ -41,6 +45,14 @@ import lombok.extern.slf4j.Slf4j;
  * a {@link TickMetrics} snapshot (total duration, per-{@link Tickable} cost, overrun flag) is
  * recorded at the end of every tick for the wizard {@code STATS} command. Recording happens on the
  * tick thread only, so the service needs no synchronisation (AGENTS.md §5).
+ *
+ * <p>{@link TickPhaseListener}s added with {@link #addPhaseListener(TickPhaseListener)} run before the
+ * first and after the last tickable of every tick; their end-of-tick cost is counted in the tick's
+ * duration and reported per listener class alongside the tickables.
+ *
+ * <p>Each tick is also a {@code jmud.Tick} Flight Recorder event with a {@code jmud.Tickable} event
+ * per tickable and listener, so a recording (see the wizard {@code PROFILE} command) shows which
+ * system made a given tick overrun. Both cost next to nothing while no recording is running.
  */
 @Slf4j
 public class FixedRateTickScheduler {
@@ -55,6 +67,7 @@ public class FixedRateTickScheduler {
     private volatile long lastTickNanos;
     private volatile long maxTickNanos;
     private long tickNumber;
+    private final List<TickPhaseListener> phaseListeners = new ArrayList<>();
     private @Nullable TickMetricsService metricsService;
     private @Nullable ScheduledFuture<?> task;
 
@@ -140,6 +153,16 @@ public class FixedRateTickScheduler {
         this.metricsService = Objects.requireNonNull(metricsService, "Metrics service is required");
     }
 
+    /**
+     * Adds a listener run on the tick thread before and after every tick, in registration order.
+     * Must be called before {@link #start()}, like {@link #setMetricsService(TickMetricsService)}.
+     *
+     * @param listener the listener to add
+     */
+    public void addPhaseListener(TickPhaseListener listener) {
+        phaseListeners.add(Objects.requireNonNull(listener, "Tick phase listener is required"));
+    }
+
     /** Starts the fixed-rate tick loop. Calling this more than once is a no-op. */
     public void start() {
         if (!started.compareAndSet(false, true)) {
@@ -183,8 +206,19 @@ public class FixedRateTickScheduler {
         long tick = ++tickNumber;
         Map<String, Long> tickableCostNanos = new HashMap<>(snapshot.size() * 2);
 
+        TickEvent tickEvent = new TickEvent();
+        tickEvent.begin();
         long startNanos = System.nanoTime();
+        for (TickPhaseListener listener : phaseListeners) {
+            try {
+                listener.beforeTick();
+            } catch (Exception e) {
+                log.error("Tick phase listener failed before tick", e);
+            }
+        }
         for (Tickable tickable : snapshot) {
+            TickableEvent tickableEvent = new TickableEvent();
+            tickableEvent.begin();
             long tickableStart = System.nanoTime();
             try {
                 tickable.tick();
@@ -192,7 +226,23 @@ public class FixedRateTickScheduler {
                 log.error("Tickable failed during tick", e);
             }
             long tickableElapsed = System.nanoTime() - tickableStart;
-            tickableCostNanos.merge(tickable.getClass().getSimpleName(), tickableElapsed, Long::sum);
+            String name = tickable.getClass().getSimpleName();
+            tickableEvent.complete(tick, name);
+            tickableCostNanos.merge(name, tickableElapsed, Long::sum);
+        }
+        for (TickPhaseListener listener : phaseListeners) {
+            TickableEvent listenerEvent = new TickableEvent();
+            listenerEvent.begin();
+            long listenerStart = System.nanoTime();
+            try {
+                listener.afterTick();
+            } catch (Exception e) {
+                log.error("Tick phase listener failed after tick", e);
+            }
+            long listenerElapsed = System.nanoTime() - listenerStart;
+            String name = listener.getClass().getSimpleName();
+            listenerEvent.complete(tick, name);
+            tickableCostNanos.merge(name, listenerElapsed, Long::sum);
         }
         long elapsedNanos = System.nanoTime() - startNanos;
 
@@ -205,6 +255,7 @@ public class FixedRateTickScheduler {
 
         long elapsedMs = elapsedNanos / 1_000_000L;
         boolean overran = elapsedMs > intervalMillis;
+        tickEvent.complete(tick, snapshot.size(), overran);
         if (overran) {
             overrunCount.incrementAndGet();
             overrunMicrometerCounter.increment();
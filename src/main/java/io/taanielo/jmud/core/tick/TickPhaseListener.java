@@ -0,0 +1,19 @@
+package io.taanielo.jmud.core.tick;
+
+/**
+ * Callback run by {@link FixedRateTickScheduler} on the tick thread around each tick: before the
+ * first {@link Tickable} and after the last one.
+ *
+ * <p>Used for work that has to bracket the whole tick rather than take a turn in it, such as holding
+ * every session's output until the tick has finished writing to it.
+ */
+public interface TickPhaseListener {
+
+    /** Called on the tick thread before any tickable of the tick runs. */
+    default void beforeTick() {
+    }
+
+    /** Called on the tick thread after every tickable of the tick has run. */
+    default void afterTick() {
+    }
+}
@@ -0,0 +1,346 @@
+package io.taanielo.jmud.core.tick;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A hierarchical hashed timing wheel: schedules payloads to fire on a given tick number, so a
+ * countdown subsystem pays for the timers that expire on a tick rather than for every timer still
+ * pending.
+ *
+ * <p>The wheel has {@value #LEVELS} levels of {@value #SLOTS} slots. Level {@code n} slots are
+ * {@code SLOTS^n} ticks wide; a timer is filed at the coarsest level where its due tick differs from
+ * the current tick and is moved down a level each time the wheel reaches the start of its slot, so it
+ * is touched at most once per level before it fires. Timers beyond the top level's horizon (about 16.7
+ * million ticks) wait in an overflow list that is re-filed each time the top level wraps. Scheduling,
+ * cancelling and firing are O(1) per timer.
+ *
+ * <p>The wheel keeps its own tick number: the owner advances it once per game tick, from its own
+ * phase of the tick, so expiries happen exactly where the owner's old per-entry countdown ran. The
+ * wheel is not thread-safe; owners confine it to the tick thread or guard it themselves.
+ *
+ * @param <T> the payload handed back when a timer fires
+ */
+public final class TimingWheel<T> {
+
+    /** Slots per level. */
+    static final int SLOTS = 64;
+    /** Number of levels below the overflow list. */
+    static final int LEVELS = 4;
+
+    private static final int SLOT_BITS = Integer.numberOfTrailingZeros(SLOTS);
+    private static final long SLOT_MASK = SLOTS - 1;
+    private static final long HORIZON_MASK = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    /** Slot lists, level-major; created on first use. */
+    private final List<@Nullable Bucket<T>> buckets = new ArrayList<>(LEVELS * SLOTS);
+    private final Bucket<T> overflow = new Bucket<>();
+    /** Timers scheduled at or before the current tick; they fire on the next tick. */
+    private final Bucket<T> overdue = new Bucket<>();
+    private long now;
+    private int size;
+
+    /**
+     * Creates an empty wheel positioned at {@code startTick}.
+     *
+     * @param startTick the tick the wheel is currently on; the first {@link #advance} moves it to
+     *                  {@code startTick + 1}
+     */
+    public TimingWheel(long startTick) {
+        this.now = startTick;
+        for (int i = 0; i < LEVELS * SLOTS; i++) {
+            buckets.add(null);
+        }
+    }
+
+    /**
+     * Returns the tick the wheel is on: every timer due at or before it has fired.
+     *
+     * @return the current tick
+     */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the pending timer count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Schedules a payload to fire {@code delayTicks} ticks from now.
+     *
+     * @param delayTicks ticks until the timer fires; values below 1 fire on the next tick
+     * @param payload    handed to the expiry callback when the timer fires
+     * @return a handle that can cancel the timer
+     */
+    public Timer<T> schedule(long delayTicks, T payload) {
+        return scheduleAt(now + Math.max(1, delayTicks), payload);
+    }
+
+    /**
+     * Schedules a payload to fire on an absolute tick.
+     *
+     * @param dueTick the tick to fire on; a tick at or before {@link #now()} fires on the next tick
+     * @param payload handed to the expiry callback when the timer fires
+     * @return a handle that can cancel the timer
+     */
+    public Timer<T> scheduleAt(long dueTick, T payload) {
+        Timer<T> timer = new Timer<>(this, dueTick, Objects.requireNonNull(payload, "Payload is required"));
+        if (dueTick <= now) {
+            overdue.append(timer);
+        } else {
+            file(timer);
+        }
+        size++;
+        return timer;
+    }
+
+    /**
+     * Moves the wheel forward one tick and fires every timer due on it, in no particular order.
+     *
+     * @param onExpire receives each expired payload; may schedule or cancel timers on this wheel
+     */
+    public void advance(Consumer<? super T> onExpire) {
+        Objects.requireNonNull(onExpire, "Expiry callback is required");
+        now++;
+        cascade();
+        fire(overdue, onExpire);
+        Bucket<T> due = buckets.get(slotIndex(0, now));
+        if (due != null) {
+            fire(due, onExpire);
+        }
+    }
+
+    /**
+     * Moves the wheel forward one tick at a time until it reaches {@code tick}, firing timers as
+     * {@link #advance(Consumer)} does. Does nothing when {@code tick} is not ahead of the wheel; an
+     * empty wheel jumps straight there.
+     *
+     * @param tick     the tick to advance to
+     * @param onExpire receives each expired payload
+     */
+    public void advanceTo(long tick, Consumer<? super T> onExpire) {
+        Objects.requireNonNull(onExpire, "Expiry callback is required");
+        while (now < tick) {
+            if (size == 0) {
+                now = tick;
+                return;
+            }
+            advance(onExpire);
+        }
+    }
+
+    /** Cancels every pending timer. Must not be called from an expiry callback. */
+    public void clear() {
+        for (Bucket<T> bucket : buckets) {
+            if (bucket != null) {
+                bucket.detachAll();
+            }
+        }
+        overflow.detachAll();
+        overdue.detachAll();
+        size = 0;
+    }
+
+    /**
+     * Re-files the timers of every higher-level slot whose span starts on the new tick, coarsest
+     * first, so each lands in the finer slot it belongs to before level 0 fires.
+     */
+    private void cascade() {
+        if ((now & HORIZON_MASK) == 0) {
+            refile(overflow);
+        }
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            long span = (1L << (SLOT_BITS * level)) - 1;
+            if ((now & span) == 0) {
+                Bucket<T> bucket = buckets.get(slotIndex(level, now));
+                if (bucket != null) {
+                    refile(bucket);
+                }
+            }
+        }
+    }
+
+    private void refile(Bucket<T> bucket) {
+        for (Timer<T> timer : bucket.detachAll()) {
+            file(timer);
+        }
+    }
+
+    /**
+     * Fires the bucket's timers one at a time, so a callback that cancels a timer due on the same
+     * tick stops it firing; timers the callbacks add to the bucket wait for the next tick.
+     */
+    private void fire(Bucket<T> bucket, Consumer<? super T> onExpire) {
+        if (bucket.head == null) {
+            return;
+        }
+        Bucket<T> firing = new Bucket<>();
+        bucket.moveTo(firing);
+        Timer<T> timer;
+        while ((timer = firing.head) != null) {
+            firing.unlink(timer);
+            size--;
+            onExpire.accept(timer.payload);
+        }
+    }
+
+    /** Files a timer due after the current tick (or on it, during a cascade) into its slot. */
+    private void file(Timer<T> timer) {
+        long diff = timer.dueTick ^ now;
+        int level = diff == 0 ? 0 : (63 - Long.numberOfLeadingZeros(diff)) / SLOT_BITS;
+        if (level >= LEVELS) {
+            overflow.append(timer);
+            return;
+        }
+        int index = slotIndex(level, timer.dueTick);
+        Bucket<T> bucket = buckets.get(index);
+        if (bucket == null) {
+            bucket = new Bucket<>();
+            buckets.set(index, bucket);
+        }
+        bucket.append(timer);
+    }
+
+    private static int slotIndex(int level, long tick) {
+        return level * SLOTS + (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    /**
+     * A scheduled timer.
+     *
+     * @param <T> the payload type
+     */
+    public static final class Timer<T> {
+        private final TimingWheel<T> wheel;
+        private final long dueTick;
+        private final T payload;
+        private @Nullable Bucket<T> bucket;
+        private @Nullable Timer<T> previous;
+        private @Nullable Timer<T> next;
+
+        private Timer(TimingWheel<T> wheel, long dueTick, T payload) {
+            this.wheel = wheel;
+            this.dueTick = dueTick;
+            this.payload = payload;
+        }
+
+        /**
+         * Returns the tick this timer fires on.
+         *
+         * @return the due tick
+         */
+        public long dueTick() {
+            return dueTick;
+        }
+
+        /**
+         * Returns the payload this timer hands back.
+         *
+         * @return the payload
+         */
+        public T payload() {
+            return payload;
+        }
+
+        /**
+         * Returns whether the timer has neither fired nor been cancelled.
+         *
+         * @return {@code true} while pending
+         */
+        public boolean isPending() {
+            return bucket != null;
+        }
+
+        /**
+         * Cancels the timer so it never fires.
+         *
+         * @return {@code true} if the timer was pending
+         */
+        public boolean cancel() {
+            Bucket<T> owner = bucket;
+            if (owner == null) {
+                return false;
+            }
+            owner.unlink(this);
+            wheel.size--;
+            return true;
+        }
+    }
+
+    /** An intrusive doubly-linked list of timers, so a cancel unlinks in O(1). */
+    private static final class Bucket<T> {
+        private @Nullable Timer<T> head;
+        private @Nullable Timer<T> tail;
+
+        void append(Timer<T> timer) {
+            timer.bucket = this;
+            timer.previous = tail;
+            timer.next = null;
+            if (tail == null) {
+                head = timer;
+            } else {
+                tail.next = timer;
+            }
+            tail = timer;
+        }
+
+        void unlink(Timer<T> timer) {
+            Timer<T> previous = timer.previous;
+            Timer<T> next = timer.next;
+            if (previous == null) {
+                head = next;
+            } else {
+                previous.next = next;
+            }
+            if (next == null) {
+                tail = previous;
+            } else {
+                next.previous = previous;
+            }
+            timer.bucket = null;
+            timer.previous = null;
+            timer.next = null;
+        }
+
+        /** Moves every timer into {@code target}, which must be empty. */
+        void moveTo(Bucket<T> target) {
+            for (Timer<T> timer = head; timer != null; timer = timer.next) {
+                timer.bucket = target;
+            }
+            target.head = head;
+            target.tail = tail;
+            head = null;
+            tail = null;
+        }
+
+        /** Empties the bucket, returning its timers in insertion order, each detached. */
+        List<Timer<T>> detachAll() {
+            if (head == null) {
+                return List.of();
+            }
+            List<Timer<T>> timers = new ArrayList<>();
+            Timer<T> timer = head;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.bucket = null;
+                timer.previous = null;
+                timer.next = null;
+                timers.add(timer);
+                timer = next;
+            }
+            head = null;
+            tail = null;
+            return timers;
+        }
+    }
+}
@@ -1,44 +1,56 @@
 package io.taanielo.jmud.core.tick.system;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
 
 import io.taanielo.jmud.core.tick.Tickable;
-
+import io.taanielo.jmud.core.tick.TimingWheel;
+
+/**
+ * Per-player ability cooldowns, counted in ticks.
+ *
+ * <p>Each cooldown is a {@link TimingWheel} timer, so a tick costs only the cooldowns expiring on
+ * it. A cooldown registered for {@code n} ticks is over after exactly {@code n} calls to
+ * {@link #tick()}, as it was when every entry was decremented each tick. Calls are synchronized: the
+ * tick thread advances the wheel while other threads may read or clear a player's cooldowns.
+ */
 public class CooldownSystem implements Tickable {
 
-    private final Map<String, AtomicInteger> cooldowns = new ConcurrentHashMap<>();
+    private final TimingWheel<String> wheel = new TimingWheel<>(0);
+    private final Map<String, TimingWheel.Timer<String>> cooldowns = new HashMap<>();
 
-    public void register(String key, int ticks) {
+    public synchronized void register(String key, int ticks) {
         Objects.requireNonNull(key, "Cooldown key is required");
         if (key.isBlank()) {
             throw new IllegalArgumentException("Cooldown key must not be blank");
         }
+        TimingWheel.Timer<String> previous = cooldowns.remove(key);
+        if (previous != null) {
+            previous.cancel();
+        }
         if (ticks <= 0) {
-            cooldowns.remove(key);
             return;
         }
-        cooldowns.put(key, new AtomicInteger(ticks));
+        cooldowns.put(key, wheel.schedule(ticks, key));
     }
 
-    public boolean isOnCooldown(String key) {
-        AtomicInteger remaining = cooldowns.get(key);
-        return remaining != null && remaining.get() > 0;
+    public synchronized boolean isOnCooldown(String key) {
+        return cooldowns.containsKey(key);
     }
 
-    public int remainingTicks(String key) {
-        AtomicInteger remaining = cooldowns.get(key);
-        return remaining == null ? 0 : remaining.get();
+    public synchronized int remainingTicks(String key) {
+        TimingWheel.Timer<String> timer = cooldowns.get(key);
+        return timer == null ? 0 : (int) (timer.dueTick() - wheel.now());
     }
 
-    public void clear() {
+    public synchronized void clear() {
+        wheel.clear();
         cooldowns.clear();
     }
 
     @Override
-    public void tick() {
-        cooldowns.entrySet().removeIf(entry -> entry.getValue().decrementAndGet() <= 0);
+    public synchronized void tick() {
+        wheel.advance(cooldowns::remove);
     }
 }
@@ -127,7 +127,7 @@ public class AmbientMessageEngine implements Tickable {
     private void emit(Room room) {
         List<String> messages = room.getAmbientMessages();
         String message = messages.get(random.roll(0, messages.size() - 1));
-        messageBroadcaster.broadcastToRoom(room.getId(), new PlainTextMessage(message), Set.of());
+        messageBroadcaster.broadcastToRoom(room.getId(), PlainTextMessage.ambient(message), Set.of());
     }
 
     private int rollInterval() {
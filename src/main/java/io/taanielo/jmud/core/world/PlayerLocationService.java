@@ -30,6 +30,15 @@ public class PlayerLocationService {
     private final RoomRepository roomRepository;
     private final RoomId startingRoomId;
     private final ConcurrentHashMap<Username, RoomId> playerLocations = new ConcurrentHashMap<>();
+    /**
+     * Reverse of {@link #playerLocations}: maps each occupied room to the players in it, so occupant
+     * lookups cost O(occupants) instead of a scan over every tracked player. A room's entry is
+     * removed as soon as its last occupant leaves, so the key set is exactly the occupied rooms.
+     * Both maps are only written together under {@link #locationLock}; readers may observe a
+     * mover briefly in neither room, but never in two.
+     */
+    private final ConcurrentHashMap<RoomId, Set<Username>> roomOccupants = new ConcurrentHashMap<>();
+    private final Object locationLock = new Object();
     /**
      * Runtime locked-exit state: maps each room id to the set of directions that are currently
      * locked. Seeded lazily from each room's {@link Room#getLockedExits()} on first access.
@@ -92,10 +101,8 @@ public class PlayerLocationService {
      */
     public List<Username> getPlayersInRoom(RoomId roomId) {
         Objects.requireNonNull(roomId, "Room id is required");
-        return playerLocations.entrySet().stream()
-            .filter(e -> e.getValue().equals(roomId))
-            .map(Map.Entry::getKey)
-            .toList();
+        Set<Username> occupants = roomOccupants.get(roomId);
+        return occupants == null ? List.of() : List.copyOf(occupants);
     }
 
     /**
@@ -107,7 +114,7 @@ public class PlayerLocationService {
      * @return an unmodifiable set of occupied room ids (may be empty, never {@code null})
      */
     public Set<RoomId> occupiedRooms() {
-        return Set.copyOf(playerLocations.values());
+        return Set.copyOf(roomOccupants.keySet());
     }
 
     /**
@@ -118,7 +125,18 @@ public class PlayerLocationService {
      */
     public RoomId ensurePlayerLocation(Username username) {
         Objects.requireNonNull(username, "Username is required");
-        return playerLocations.computeIfAbsent(username, ignored -> startingRoomId);
+        RoomId current = playerLocations.get(username);
+        if (current != null) {
+            return current;
+        }
+        synchronized (locationLock) {
+            current = playerLocations.get(username);
+            if (current != null) {
+                return current;
+            }
+            placePlayer(username, startingRoomId);
+            return startingRoomId;
+        }
     }
 
     /**
@@ -139,7 +157,12 @@ public class PlayerLocationService {
      */
     public void clearPlayerLocation(Username username) {
         Objects.requireNonNull(username, "Username is required");
-        playerLocations.remove(username);
+        synchronized (locationLock) {
+            RoomId previous = playerLocations.remove(username);
+            if (previous != null) {
+                removeOccupant(previous, username);
+            }
+        }
     }
 
     /**
@@ -171,7 +194,7 @@ public class PlayerLocationService {
         if (preferredRoomId != null && findRoom(preferredRoomId).isPresent()) {
             destination = preferredRoomId;
         }
-        playerLocations.put(username, destination);
+        placePlayer(username, destination);
         return destination;
     }
 
@@ -188,7 +211,7 @@ public class PlayerLocationService {
     public void movePlayerTo(Username username, RoomId roomId) {
         Objects.requireNonNull(username, "Username is required");
         Objects.requireNonNull(roomId, "Room id is required");
-        playerLocations.put(username, roomId);
+        placePlayer(username, roomId);
     }
 
     /**
@@ -370,7 +393,7 @@ public class PlayerLocationService {
         if (destination == null) {
             return new MoveAttempt.Failed("The way " + direction.label() + " is blocked.", room);
         }
-        playerLocations.put(username, destinationId);
+        placePlayer(username, destinationId);
         return new MoveAttempt.Succeeded(destination);
     }
 
@@ -465,6 +488,27 @@ public class PlayerLocationService {
         return new DoorActionResult(true, playerMsg, roomMsg);
     }
 
+    /** Records the player in {@code roomId}, keeping the forward map and occupancy index in step. */
+    private void placePlayer(Username username, RoomId roomId) {
+        synchronized (locationLock) {
+            RoomId previous = playerLocations.put(username, roomId);
+            if (roomId.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                removeOccupant(previous, username);
+            }
+            roomOccupants.computeIfAbsent(roomId, _ -> ConcurrentHashMap.newKeySet()).add(username);
+        }
+    }
+
+    private void removeOccupant(RoomId roomId, Username username) {
+        roomOccupants.computeIfPresent(roomId, (_, occupants) -> {
+            occupants.remove(username);
+            return occupants.isEmpty() ? null : occupants;
+        });
+    }
+
     private Set<Direction> ensureLockedState(RoomId roomId) {
         return runtimeLockedExits.computeIfAbsent(roomId, id -> {
             Set<Direction> set = ConcurrentHashMap.newKeySet();
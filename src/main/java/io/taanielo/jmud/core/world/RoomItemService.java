@@ -102,20 +102,22 @@ public class RoomItemService {
     /**
      * Removes all tracked corpses that were spawned longer ago than {@code decayAfter}.
      *
-     * <p>Called by {@link CorpseDecayTicker} on each tick.
+     * <p>Called by {@link CorpseDecayTicker} on each tick. Corpses are tracked in spawn order and
+     * share one decay period, so they expire in that order too: the sweep drains expired corpses
+     * from the head of the queue and stops at the first one still fresh, costing only the corpses
+     * that decay rather than every corpse in the world.
      *
      * @param decayAfter the maximum age a corpse may be before it is removed
      */
     public void removeExpiredCorpses(Duration decayAfter) {
         Objects.requireNonNull(decayAfter, "Decay duration is required");
         Instant cutoff = Instant.now().minus(decayAfter);
-        trackedCorpses.removeIf(corpse -> {
-            if (!corpse.spawnedAt().isAfter(cutoff)) {
+        Corpse corpse;
+        while ((corpse = trackedCorpses.peek()) != null && !corpse.spawnedAt().isAfter(cutoff)) {
+            if (trackedCorpses.remove(corpse)) {
                 removeTransientItemById(corpse.roomId(), corpse.itemId());
-                return true;
             }
-            return false;
-        });
+        }
     }
 
     /**
@@ -124,6 +124,13 @@ public class RoomService {
         return locationService.getPlayersInRoom(roomId);
     }
 
+    /**
+     * Returns the rooms that currently contain at least one player.
+     */
+    public Set<RoomId> occupiedRooms() {
+        return locationService.occupiedRooms();
+    }
+
     /**
      * Ensures a player has a location, defaulting to the starting room if missing.
      */
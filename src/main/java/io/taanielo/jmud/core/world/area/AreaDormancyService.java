@@ -0,0 +1,297 @@
+package io.taanielo.jmud.core.world.area;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import io.taanielo.jmud.core.tick.Tickable;
+import io.taanielo.jmud.core.world.Direction;
+import io.taanielo.jmud.core.world.RoomId;
+
+/**
+ * Puts whole {@link Area}s to sleep while no player is anywhere near them, so per-tick world
+ * simulation (mob wandering, mob and resource-node respawn countdowns) only runs where someone could
+ * observe it.
+ *
+ * <p>Each tick the service walks up to {@code radiusRooms} exits out from every player-occupied room
+ * and marks every area it reaches as "near". An area that has not been near a player for
+ * {@code idleTicks} consecutive ticks goes dormant; the first tick a player comes back within range
+ * it wakes, and every registered {@link WakeListener} is told how many ticks it slept so countdowns
+ * can be fast-forwarded in one step instead of simulated tick by tick. Rooms that belong to no area
+ * are always awake.
+ *
+ * <p>The area map and the per-room radius walks are cached; {@link #reload(List)} rebuilds both after
+ * a content RELOAD, which is the only way rooms, exits and areas change while the server runs.
+ *
+ * <p>Register this ticker ahead of the systems that consult {@link #isAwake(RoomId)} so a wake is
+ * observed on the same tick. All state is written on the tick thread (AGENTS.md §5); gauges read it
+ * from the metrics exporter thread.
+ *
+ * <p>Meters registered:
+ * <ul>
+ *   <li>{@code jmud.area.awake} (tag {@code area}) — 1 while the area is simulated, 0 while dormant</li>
+ *   <li>{@code jmud.areas.awake} / {@code jmud.areas.asleep} — how many areas are in each state</li>
+ * </ul>
+ */
+@Slf4j
+public class AreaDormancyService implements Tickable {
+
+    /** Notified on the tick thread when a dormant area wakes. */
+    @FunctionalInterface
+    public interface WakeListener {
+
+        /**
+         * Called once when {@code areaId} wakes after sleeping for {@code sleptTicks} ticks.
+         *
+         * @param areaId     the area that woke
+         * @param roomIds    every room in that area
+         * @param sleptTicks how many ticks the area's simulation was skipped
+         */
+        void onAreaWake(AreaId areaId, Set<RoomId> roomIds, long sleptTicks);
+    }
+
+    /** Mutable per-area dormancy state; written on the tick thread only. */
+    private static final class AreaState {
+        private final AreaId id;
+        private final Gauge gauge;
+        private Set<RoomId> roomIds;
+        private volatile boolean awake = true;
+        private long lastNearTick;
+        private long asleepSinceTick;
+
+        private AreaState(AreaId id, Set<RoomId> roomIds, long tick, MeterRegistry meterRegistry) {
+            this.id = id;
+            this.roomIds = roomIds;
+            this.lastNearTick = tick;
+            this.gauge = Gauge.builder("jmud.area.awake", this, s -> s.awake ? 1 : 0)
+                .description("Whether the area is simulated (1) or dormant (0)")
+                .tag("area", id.getValue())
+                .register(meterRegistry);
+        }
+    }
+
+    private final MeterRegistry meterRegistry;
+    /** Replaced by {@link #reload(List)}; volatile for the gauges read off the tick thread. */
+    private volatile Map<AreaId, AreaState> states = Map.of();
+    private volatile Map<RoomId, AreaState> stateByRoom = Map.of();
+    private final Supplier<Set<RoomId>> occupiedRooms;
+    private final Function<RoomId, Map<Direction, RoomId>> exits;
+    private final int radiusRooms;
+    private final long idleTicks;
+    private final List<WakeListener> listeners = new CopyOnWriteArrayList<>();
+    /** Areas within {@link #radiusRooms} of each room, computed once per room on first use. */
+    private final ConcurrentHashMap<RoomId, Set<AreaState>> nearbyAreas = new ConcurrentHashMap<>();
+    private long tick;
+
+    /**
+     * Creates a dormancy service with no-op metrics.
+     *
+     * @param areas         every area in the world
+     * @param occupiedRooms the rooms currently holding at least one player
+     * @param exits         the exits out of a room, used to walk the wake radius
+     * @param radiusRooms   how many rooms out from a player an area still counts as near
+     * @param idleTicks     how many ticks an area must go without a nearby player before it sleeps
+     */
+    public AreaDormancyService(
+        List<Area> areas,
+        Supplier<Set<RoomId>> occupiedRooms,
+        Function<RoomId, Map<Direction, RoomId>> exits,
+        int radiusRooms,
+        long idleTicks
+    ) {
+        this(areas, occupiedRooms, exits, radiusRooms, idleTicks, new CompositeMeterRegistry());
+    }
+
+    /**
+     * Creates a dormancy service that exports per-area awake/asleep gauges.
+     *
+     * @param areas         every area in the world
+     * @param occupiedRooms the rooms currently holding at least one player
+     * @param exits         the exits out of a room, used to walk the wake radius
+     * @param radiusRooms   how many rooms out from a player an area still counts as near
+     * @param idleTicks     how many ticks an area must go without a nearby player before it sleeps
+     * @param meterRegistry the registry to record into
+     */
+    public AreaDormancyService(
+        List<Area> areas,
+        Supplier<Set<RoomId>> occupiedRooms,
+        Function<RoomId, Map<Direction, RoomId>> exits,
+        int radiusRooms,
+        long idleTicks,
+        MeterRegistry meterRegistry
+    ) {
+        Objects.requireNonNull(areas, "Areas are required");
+        this.occupiedRooms = Objects.requireNonNull(occupiedRooms, "Occupied rooms supplier is required");
+        this.exits = Objects.requireNonNull(exits, "Exit lookup is required");
+        this.meterRegistry = Objects.requireNonNull(meterRegistry, "Meter registry is required");
+        if (radiusRooms < 0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        if (idleTicks <= 0) {
+            throw new IllegalArgumentException("Idle ticks must be positive");
+        }
+        this.radiusRooms = radiusRooms;
+        this.idleTicks = idleTicks;
+        install(areas);
+        Gauge.builder("jmud.areas.awake", this, service -> service.countAreas(true))
+            .description("Areas currently simulated")
+            .register(meterRegistry);
+        Gauge.builder("jmud.areas.asleep", this, service -> service.countAreas(false))
+            .description("Areas currently dormant because no player is nearby")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Rebuilds the area map and forgets every cached radius walk, after a content RELOAD may have
+     * added rooms, rewired exits or changed which rooms an area holds. Areas that still exist keep
+     * their awake or dormant state; new areas start awake; removed areas drop their gauge. Must be
+     * called on the tick thread.
+     *
+     * @param areas every area in the world after the reload
+     */
+    public void reload(List<Area> areas) {
+        Objects.requireNonNull(areas, "Areas are required");
+        install(areas);
+        nearbyAreas.clear();
+        log.debug("Area dormancy map rebuilt for {} area(s)", areas.size());
+    }
+
+    /**
+     * Registers a listener told about every wake, so it can fast-forward timers it skipped.
+     *
+     * @param listener the listener to add
+     */
+    public void addWakeListener(WakeListener listener) {
+        listeners.add(Objects.requireNonNull(listener, "Listener is required"));
+    }
+
+    /**
+     * Returns whether the room's area is currently simulated. Rooms outside every area are always
+     * awake.
+     *
+     * @param roomId the room to check
+     * @return {@code false} only when the room's area is dormant
+     */
+    public boolean isAwake(RoomId roomId) {
+        AreaState state = stateByRoom.get(roomId);
+        return state == null || state.awake;
+    }
+
+    /**
+     * Returns whether the given area is currently simulated. Unknown areas count as awake.
+     *
+     * @param areaId the area to check
+     * @return {@code false} only when the area is dormant
+     */
+    public boolean isAwake(AreaId areaId) {
+        AreaState state = states.get(areaId);
+        return state == null || state.awake;
+    }
+
+    @Override
+    public void tick() {
+        tick++;
+        Set<AreaState> near = new HashSet<>();
+        for (RoomId roomId : occupiedRooms.get()) {
+            near.addAll(nearbyAreas.computeIfAbsent(roomId, this::areasWithinRadius));
+        }
+        for (AreaState state : states.values()) {
+            if (near.contains(state)) {
+                state.lastNearTick = tick;
+                if (!state.awake) {
+                    wake(state);
+                }
+            } else if (state.awake && tick - state.lastNearTick >= idleTicks) {
+                state.awake = false;
+                state.asleepSinceTick = tick;
+                log.debug("Area {} is now dormant", state.id.getValue());
+            }
+        }
+    }
+
+    private void install(List<Area> areas) {
+        Map<AreaId, AreaState> previous = states;
+        Map<AreaId, AreaState> byId = new LinkedHashMap<>();
+        Map<RoomId, AreaState> byRoom = new HashMap<>();
+        for (Area area : areas) {
+            AreaState state = previous.get(area.id());
+            if (state == null) {
+                state = new AreaState(area.id(), Set.copyOf(area.roomIds()), tick, meterRegistry);
+            } else {
+                state.roomIds = Set.copyOf(area.roomIds());
+            }
+            byId.put(area.id(), state);
+            for (RoomId roomId : area.roomIds()) {
+                byRoom.put(roomId, state);
+            }
+        }
+        for (AreaState removed : previous.values()) {
+            if (!byId.containsKey(removed.id)) {
+                meterRegistry.remove(removed.gauge);
+            }
+        }
+        this.states = Map.copyOf(byId);
+        this.stateByRoom = Map.copyOf(byRoom);
+    }
+
+    private void wake(AreaState state) {
+        long slept = tick - state.asleepSinceTick;
+        state.awake = true;
+        log.debug("Area {} woke after {} dormant tick(s)", state.id.getValue(), slept);
+        for (WakeListener listener : listeners) {
+            listener.onAreaWake(state.id, state.roomIds, slept);
+        }
+    }
+
+    /** Breadth-first walk of up to {@link #radiusRooms} exits, collecting every area touched. */
+    private Set<AreaState> areasWithinRadius(RoomId origin) {
+        Set<AreaState> found = new HashSet<>();
+        Set<RoomId> visited = new HashSet<>();
+        ArrayDeque<RoomId> frontier = new ArrayDeque<>();
+        visited.add(origin);
+        frontier.add(origin);
+        for (int depth = 0; depth <= radiusRooms && !frontier.isEmpty(); depth++) {
+            ArrayDeque<RoomId> next = new ArrayDeque<>();
+            for (RoomId roomId : frontier) {
+                AreaState state = stateByRoom.get(roomId);
+                if (state != null) {
+                    found.add(state);
+                }
+                if (depth == radiusRooms) {
+                    continue;
+                }
+                for (RoomId neighbour : exits.apply(roomId).values()) {
+                    if (visited.add(neighbour)) {
+                        next.add(neighbour);
+                    }
+                }
+            }
+            frontier = next;
+        }
+        return Set.copyOf(found);
+    }
+
+    private int countAreas(boolean awake) {
+        int count = 0;
+        for (AreaState state : states.values()) {
+            if (state.awake == awake) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
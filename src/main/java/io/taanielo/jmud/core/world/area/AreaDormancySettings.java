@@ -0,0 +1,56 @@
+package io.taanielo.jmud.core.world.area;
+
+import io.taanielo.jmud.core.config.GameConfig;
+
+/**
+ * Configuration for {@link AreaDormancyService}: whether idle areas may go dormant, how close (in
+ * rooms) a player must be to keep an area awake, and how many ticks an area must go unvisited
+ * before it sleeps. Follows the same config-key-with-default pattern as {@code AmbientMessageSettings}.
+ */
+public final class AreaDormancySettings {
+
+    /** Default for {@code jmud.area.dormancy.enabled}. */
+    public static final boolean DEFAULT_ENABLED = true;
+
+    /** Default number of rooms around each player whose areas are kept awake. */
+    public static final int DEFAULT_RADIUS_ROOMS = 3;
+
+    /** Default number of ticks an area stays awake after the last player leaves its radius. */
+    public static final int DEFAULT_IDLE_TICKS = 60;
+
+    private static final GameConfig CONFIG = GameConfig.load();
+
+    private AreaDormancySettings() {
+    }
+
+    /**
+     * Returns whether area dormancy is enabled, read from {@code jmud.area.dormancy.enabled}.
+     */
+    public static boolean enabled() {
+        return CONFIG.getBoolean("jmud.area.dormancy.enabled", DEFAULT_ENABLED);
+    }
+
+    /**
+     * Returns the wake radius in rooms, read from {@code jmud.area.dormancy.radius_rooms} (defaulting
+     * to {@link #DEFAULT_RADIUS_ROOMS}).
+     */
+    public static int radiusRooms() {
+        int radius = CONFIG.getInt("jmud.area.dormancy.radius_rooms", DEFAULT_RADIUS_ROOMS);
+        if (radius < 0) {
+            throw new IllegalArgumentException("Area dormancy radius must be non-negative");
+        }
+        return radius;
+    }
+
+    /**
+     * Returns the idle ticks before an area sleeps, read from {@code jmud.area.dormancy.idle_ticks}
+     * (defaulting to {@link #DEFAULT_IDLE_TICKS}).
+     */
+    public static int idleTicks() {
+        int ticks = CONFIG.getInt("jmud.area.dormancy.idle_ticks", DEFAULT_IDLE_TICKS);
+        if (ticks <= 0) {
+            throw new IllegalArgumentException("Area dormancy idle ticks must be positive");
+        }
+        return ticks;
+    }
+}
@@ -9,12 +9,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 import io.taanielo.jmud.core.reload.ItemContentReloader;
 import io.taanielo.jmud.core.reload.PreparedItemReload;
 import io.taanielo.jmud.core.world.Item;
@@ -34,13 +34,28 @@ public class JsonItemRepository implements ItemRepository, ItemCatalog, ItemCont
     private final ObjectMapper objectMapper;
     private final ItemMapper itemMapper;
     private final Path itemsDirPath;
+    private final JsonDocumentSource documents;
     private volatile Map<ItemId, Item> cache;
+    /**
+     * Set once a full snapshot has been committed: from then on a cache miss means the item does not
+     * exist, and lookups on the tick thread never fall back to reading a file (AGENTS.md §5).
+     */
+    private volatile boolean complete;
 
     public JsonItemRepository() throws RepositoryException {
         this(Path.of("data"));
     }
 
     public JsonItemRepository(Path dataRoot) throws RepositoryException {
+        this(dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/items} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonItemRepository(Path dataRoot, JsonDocumentSource documents) throws RepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.itemMapper = new ItemMapper();
         this.cache = new ConcurrentHashMap<>();
@@ -64,6 +79,9 @@ public class JsonItemRepository implements ItemRepository, ItemCatalog, ItemCont
         if (cached != null) {
             return Optional.of(cached);
         }
+        if (complete) {
+            return Optional.empty();
+        }
         Path itemFilePath = itemFilePath(id);
         if (!Files.exists(itemFilePath)) {
             return Optional.empty();
@@ -104,13 +122,16 @@ public class JsonItemRepository implements ItemRepository, ItemCatalog, ItemCont
         return PreparedItemReload.of(
             loaded.size(),
             id -> Optional.ofNullable(loaded.get(id)),
-            () -> cache = new ConcurrentHashMap<>(loaded));
+            () -> {
+                cache = new ConcurrentHashMap<>(loaded);
+                complete = true;
+            });
     }
 
     private Map<ItemId, Item> readAllItems() throws RepositoryException {
         Map<ItemId, Item> loaded = new ConcurrentHashMap<>();
-        try (Stream<Path> files = Files.list(itemsDirPath)) {
-            for (Path path : files.filter(p -> p.toString().endsWith(".json")).toList()) {
+        try {
+            for (Path path : documents.list(itemsDirPath)) {
                 ItemDto dto = readItemDto(path);
                 validateSchema(dto, path);
                 Item item;
@@ -141,7 +162,7 @@ public class JsonItemRepository implements ItemRepository, ItemCatalog, ItemCont
 
     private ItemDto readItemDto(Path path) throws RepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), ItemDto.class);
+            return documents.read(path, objectMapper, ItemDto.class);
         } catch (IOException e) {
             throw new RepositoryException("Failed to read item data from " + path + ": " + e.getMessage(), e);
         }
@@ -10,12 +10,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Stream;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
+import io.taanielo.jmud.core.content.repository.json.JsonDocumentSource;
 import io.taanielo.jmud.core.reload.ItemLookup;
 import io.taanielo.jmud.core.reload.PreparedReload;
 import io.taanielo.jmud.core.reload.RoomContentReloader;
@@ -40,13 +40,29 @@ public class JsonRoomRepository implements RoomRepository, RoomCatalog, RoomCont
     private final RoomMapper roomMapper;
     private final ItemRepository itemRepository;
     private final Path roomsDirPath;
+    private final JsonDocumentSource documents;
     private volatile Map<RoomId, Room> cache;
+    /**
+     * Set once a full snapshot has been committed: from then on a cache miss means the room does not
+     * exist, and lookups on the tick thread never fall back to reading a file (AGENTS.md §5).
+     */
+    private volatile boolean complete;
 
     public JsonRoomRepository(ItemRepository itemRepository) throws RepositoryException {
         this(itemRepository, Path.of("data"));
     }
 
     public JsonRoomRepository(ItemRepository itemRepository, Path dataRoot) throws RepositoryException {
+        this(itemRepository, dataRoot, JsonDocumentSource.FILES);
+    }
+
+    /**
+     * Creates a repository over {@code dataRoot/rooms} that reads its files through {@code documents},
+     * e.g. from a compiled content pack.
+     */
+    public JsonRoomRepository(ItemRepository itemRepository, Path dataRoot, JsonDocumentSource documents)
+        throws RepositoryException {
+        this.documents = Objects.requireNonNull(documents, "Document source is required");
         this.objectMapper = JsonDataMapper.create();
         this.roomMapper = new RoomMapper();
         this.cache = new ConcurrentHashMap<>();
@@ -71,6 +87,9 @@ public class JsonRoomRepository implements RoomRepository, RoomCatalog, RoomCont
         if (cached != null) {
             return Optional.of(cached);
         }
+        if (complete) {
+            return Optional.empty();
+        }
         Path roomFilePath = roomFilePath(id);
         if (!Files.exists(roomFilePath)) {
             return Optional.empty();
@@ -105,13 +124,16 @@ public class JsonRoomRepository implements RoomRepository, RoomCatalog, RoomCont
         Map<RoomId, Room> loaded = readAllRooms(itemLookup);
         // The commit lambda swaps the cache field from within this repository's own method so the
         // arch rule guarding Json*Repository access stays satisfied (AGENTS.md §3.3).
-        return PreparedReload.of("rooms", loaded.size(), () -> cache = new ConcurrentHashMap<>(loaded));
+        return PreparedReload.of("rooms", loaded.size(), () -> {
+            cache = new ConcurrentHashMap<>(loaded);
+            complete = true;
+        });
     }
 
     private Map<RoomId, Room> readAllRooms(ItemLookup itemLookup) throws RepositoryException {
         Map<RoomId, Room> loaded = new ConcurrentHashMap<>();
-        try (Stream<Path> files = Files.list(roomsDirPath)) {
-            for (Path path : files.filter(p -> p.toString().endsWith(".json")).toList()) {
+        try {
+            for (Path path : documents.list(roomsDirPath)) {
                 RoomDto dto = readRoomDto(path);
                 validateSchema(dto, path);
                 List<Item> items = resolveItems(dto, path, itemLookup);
@@ -143,7 +165,7 @@ public class JsonRoomRepository implements RoomRepository, RoomCatalog, RoomCont
 
     private RoomDto readRoomDto(Path path) throws RepositoryException {
         try {
-            return objectMapper.readValue(path.toFile(), RoomDto.class);
+            return documents.read(path, objectMapper, RoomDto.class);
         } catch (IOException e) {
             throw new RepositoryException("Failed to read room data from " + path + ": " + e.getMessage(), e);
         }
@@ -0,0 +1,87 @@
+package io.taanielo.jmud.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.ability.Ability;
+import io.taanielo.jmud.core.ability.repository.AbilityRepository;
+import io.taanielo.jmud.core.ability.repository.json.JsonAbilityRepository;
+import io.taanielo.jmud.core.salvage.SalvageTierRepository;
+import io.taanielo.jmud.core.salvage.repository.json.JsonSalvageTierRepository;
+
+/**
+ * Unit tests for {@link ContentLoader}: reads run concurrently on the pool, a warmed repository
+ * answers later reads from what it already parsed, and a failed read surfaces as an
+ * {@link IllegalStateException} naming the cause.
+ */
+class ContentLoaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsRunConcurrentlyOffTheCallingThread() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Thread caller = Thread.currentThread();
+        try (ContentLoader loader = new ContentLoader(2)) {
+            ContentLoader.Task<Thread> task = () -> {
+                bothStarted.countDown();
+                // Only returns if the other read is running at the same time.
+                assertTrue(bothStarted.await(10, TimeUnit.SECONDS), "reads did not overlap");
+                return Thread.currentThread();
+            };
+            Future<Thread> first = loader.submit(task);
+            Future<Thread> second = loader.submit(task);
+
+            assertNotSame(ContentLoader.await(first), ContentLoader.await(second));
+            assertNotSame(caller, ContentLoader.await(first));
+        }
+    }
+
+    @Test
+    void warmedRepositoryAnswersLaterReadsFromTheParsedCopy() throws Exception {
+        try (ContentLoader loader = new ContentLoader(1)) {
+            AbilityRepository repository = ContentLoader.await(loader.submit(() ->
+                ContentLoader.warmed(new JsonAbilityRepository(Path.of("data")), AbilityRepository::findAll)));
+
+            List<Ability> abilities = repository.findAll();
+
+            assertFalse(abilities.isEmpty());
+            assertSame(abilities, repository.findAll());
+        }
+    }
+
+    @Test
+    void failedReadIsReportedWithItsCause() {
+        try (ContentLoader loader = new ContentLoader(1)) {
+            // No salvage tier file exists under the empty data root.
+            Future<SalvageTierRepository> salvage = loader.submit(() ->
+                ContentLoader.warmed(new JsonSalvageTierRepository(tempDir), SalvageTierRepository::findAll));
+
+            IllegalStateException failure =
+                assertThrows(IllegalStateException.class, () -> ContentLoader.await(salvage));
+
+            assertTrue(failure.getMessage().startsWith("Failed to load content: Salvage tier file not found"),
+                failure.getMessage());
+        }
+    }
+
+    @Test
+    void rejectsNonPositiveThreadCount() {
+        assertEquals("Loader threads must be positive",
+            assertThrows(IllegalArgumentException.class, () -> new ContentLoader(0)).getMessage());
+    }
+}
@@ -103,6 +103,29 @@ class DataValidatorTest {
         assertEquals(2, mobs.errors().size());
     }
 
+    @Test
+    void parallelValidation_matchesSequentialReport() throws IOException {
+        Path dataRoot = tempDir.resolve("data");
+        Path playersRoot = tempDir.resolve("players");
+        Files.createDirectories(dataRoot.resolve("items"));
+        Files.createDirectories(dataRoot.resolve("mobs"));
+        Files.createDirectories(playersRoot);
+
+        for (int i = 0; i < 20; i++) {
+            String content = i % 3 == 0 ? "{ broken " + i : "{\"id\": " + i + "}";
+            Files.writeString(dataRoot.resolve("items/item" + i + ".json"), content);
+            Files.writeString(dataRoot.resolve("mobs/mob" + i + ".json"), content);
+        }
+        Files.writeString(playersRoot.resolve("hero.json"), "{ broken");
+
+        DataValidator.ValidationReport sequential = new DataValidator(1).validate(dataRoot, playersRoot);
+        DataValidator.ValidationReport parallel = new DataValidator(4).validate(dataRoot, playersRoot);
+
+        assertEquals(sequential, parallel);
+        assertEquals(15, parallel.totalErrors());
+        assertEquals(41, parallel.totalFiles());
+    }
+
     private static DataValidator.DomainResult domainResult(DataValidator.ValidationReport report, String domain) {
         return report.domains().stream()
             .filter(d -> d.domain().equals(domain))
@@ -0,0 +1,89 @@
+package io.taanielo.jmud.core.auction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.OptionalLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.world.Item;
+import io.taanielo.jmud.core.world.ItemAttributes;
+import io.taanielo.jmud.core.world.ItemId;
+import io.taanielo.jmud.core.world.RoomId;
+
+/**
+ * Unit tests for {@link AuctionListingBook}: insertion order, the seller and expiry indexes, and id
+ * handling when replaying a journal.
+ */
+class AuctionListingBookTest {
+
+    @Test
+    void indexesStayInStepWithAddsAndRemoves() {
+        AuctionListingBook book = new AuctionListingBook();
+        AuctionListing aliceSword = listing("alice", "Iron Sword", 100, 50);
+        AuctionListing bobSword = listing("bob", "Iron Sword", 120, 30);
+        AuctionListing aliceStaff = listing("alice", "Oak Staff", 80, 70);
+        long first = book.add(aliceSword);
+        long second = book.add(bobSword);
+        long third = book.add(aliceStaff);
+
+        assertEquals(List.of(aliceSword, bobSword, aliceStaff), book.all());
+        assertEquals(OptionalLong.of(third), book.idOf(aliceStaff));
+        assertEquals(OptionalLong.of(second), book.idOf(bobSword));
+        assertEquals(List.of(second, first), book.expiredIds(50), "soonest expiry first");
+
+        book.remove(first);
+
+        assertEquals(OptionalLong.of(third), book.idOf(aliceStaff));
+        assertEquals(List.of(second), book.expiredIds(50));
+        assertEquals(OptionalLong.empty(), book.idOf(aliceSword));
+        assertNull(book.remove(first));
+    }
+
+    @Test
+    void replayedIdsAreKeptAndNeverReused() {
+        AuctionListingBook book = new AuctionListingBook();
+        AuctionListing sword = listing("alice", "Iron Sword", 100, 50);
+        AuctionListing staff = listing("bob", "Oak Staff", 80, 70);
+        book.put(7, sword);
+        book.put(3, staff);
+        book.remove(7);
+
+        long next = book.add(sword);
+
+        assertEquals(8, next);
+        assertEquals(List.of(staff, sword), book.all());
+        assertEquals(OptionalLong.of(8), book.idOf(sword));
+    }
+
+    @Test
+    void puttingAnExistingIdReplacesItInPlace() {
+        AuctionListingBook book = new AuctionListingBook();
+        AuctionListing sword = listing("alice", "Iron Sword", 100, 50);
+        AuctionListing staff = listing("bob", "Oak Staff", 80, 70);
+        book.put(1, sword);
+        book.put(2, staff);
+
+        book.put(1, sword);
+
+        assertEquals(List.of(sword, staff), book.all());
+        assertEquals(2, book.size());
+        assertTrue(book.expiredIds(49).isEmpty());
+    }
+
+    private static AuctionListing listing(String seller, String itemName, int price, long expiryTick) {
+        Item item = Item.builder(
+                ItemId.of(itemName.toLowerCase(Locale.ROOT).replace(' ', '-')),
+                itemName,
+                "A " + itemName + ".",
+                ItemAttributes.empty())
+            .value(25)
+            .build();
+        return new AuctionListing(Username.of(seller), item, price, RoomId.of("auction-hall"), 0, expiryTick);
+    }
+}
@@ -0,0 +1,140 @@
+package io.taanielo.jmud.core.auction.repository.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.auction.AuctionListing;
+import io.taanielo.jmud.core.auction.AuctionRepositoryException;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.world.Item;
+import io.taanielo.jmud.core.world.ItemAttributes;
+import io.taanielo.jmud.core.world.ItemId;
+import io.taanielo.jmud.core.world.RoomId;
+
+/**
+ * Verifies {@link JournaledAuctionRepository} journals changes off the calling thread, replays them
+ * on reopen in listing order, compacts into the snapshot, and tolerates legacy snapshots, a torn
+ * final journal line and the leftovers of a failed append.
+ */
+class JournaledAuctionRepositoryTest {
+
+    @TempDir
+    Path dataRoot;
+
+    private final List<JournaledAuctionRepository> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeRepositories() {
+        opened.forEach(JournaledAuctionRepository::close);
+    }
+
+    @Test
+    void changesSurviveReopenInListingOrder() throws Exception {
+        AuctionListing sword = listing("alice", "iron-sword", 100, 50);
+        AuctionListing staff = listing("bob", "oak-staff", 80, 70);
+        AuctionListing mail = listing("carol", "plate-mail", 300, 90);
+        JournaledAuctionRepository repo = open(1000);
+        repo.add(sword);
+        repo.add(staff);
+        repo.add(mail);
+        repo.remove(staff);
+        assertTrue(repo.flush(Duration.ofSeconds(5)));
+        repo.close();
+        assertEquals(4, Files.readAllLines(journal()).size(), "one journal line per change");
+
+        JournaledAuctionRepository reopened = open(1000);
+
+        assertEquals(List.of(sword, mail), reopened.findAll());
+        assertEquals(0, Files.size(journal()), "startup folds the journal into the snapshot");
+        reopened.add(staff);
+        assertEquals(4, reopened.book().idOf(staff).orElseThrow(), "ids are never reused");
+    }
+
+    @Test
+    void compactsAfterTheConfiguredNumberOfChanges() throws Exception {
+        JournaledAuctionRepository repo = open(3);
+        for (int i = 1; i <= 3; i++) {
+            repo.add(listing("alice", "item-" + i, 10 * i, 100));
+            assertTrue(repo.flush(Duration.ofSeconds(5)));
+        }
+        repo.close();
+
+        assertEquals(0, Files.size(journal()));
+        String snapshot = Files.readString(dataRoot.resolve("auctions/listings.json"));
+        assertTrue(snapshot.contains("\"id\" : 3"), snapshot);
+        assertEquals(3, open(3).findAll().size());
+    }
+
+    @Test
+    void removeExpiredReturnsOldestFirstAndIsJournaled() throws Exception {
+        AuctionListing late = listing("alice", "iron-sword", 100, 40);
+        AuctionListing early = listing("bob", "oak-staff", 80, 20);
+        AuctionListing active = listing("carol", "plate-mail", 300, 90);
+        JournaledAuctionRepository repo = open(1000);
+        repo.add(late);
+        repo.add(early);
+        repo.add(active);
+
+        assertEquals(List.of(late, early), repo.removeExpired(40));
+        assertTrue(repo.flush(Duration.ofSeconds(5)));
+        repo.close();
+
+        assertEquals(List.of(active), open(1000).findAll());
+    }
+
+    @Test
+    void loadsLegacySnapshotAndIgnoresTornFinalJournalLine() throws Exception {
+        new JsonAuctionRepository(dataRoot).save(List.of(
+            listing("alice", "iron-sword", 100, 50), listing("bob", "oak-staff", 80, 70)));
+        Files.writeString(journal(), "{\"op\":\"remove\",\"id\":1}\n{\"op\":\"add\",\"id\":3,\"listi",
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+        JournaledAuctionRepository repo = open(1000);
+
+        assertEquals(List.of(listing("bob", "oak-staff", 80, 70)), repo.findAll());
+    }
+
+    @Test
+    void appendAfterAFailedWriteReplacesItsTornBytes() throws Exception {
+        AuctionListing sword = listing("alice", "iron-sword", 100, 50);
+        JournaledAuctionRepository repo = open(1000);
+        // What an append that failed part-way leaves behind before the writer retries.
+        Files.writeString(journal(), "{\"op\":\"add\",\"id\":1,\"listi",
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        repo.add(sword);
+        assertTrue(repo.flush(Duration.ofSeconds(5)));
+        repo.close();
+
+        assertEquals(1, Files.readAllLines(journal()).size(), "the torn bytes were cut off");
+        assertEquals(List.of(sword), open(1000).findAll());
+    }
+
+    private JournaledAuctionRepository open(int compactAfterOps) throws AuctionRepositoryException {
+        JournaledAuctionRepository repo = new JournaledAuctionRepository(dataRoot, compactAfterOps);
+        opened.add(repo);
+        return repo;
+    }
+
+    private Path journal() {
+        return dataRoot.resolve("auctions/listings.journal.jsonl");
+    }
+
+    private static AuctionListing listing(String seller, String itemId, int price, long expiryTick) {
+        Item item = Item.builder(ItemId.of(itemId), itemId, "A " + itemId + ".", ItemAttributes.empty())
+            .value(25)
+            .build();
+        return new AuctionListing(Username.of(seller), item, price, RoomId.of("auction-hall"), 0, expiryTick);
+    }
+}
@@ -1,19 +1,24 @@
 package io.taanielo.jmud.core.audit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 
 /**
  * Verifies {@link AsyncAuditSink#flush(Duration)} drains queued entries to the
  * delegate sink, and that {@link AsyncAuditSink#close()} stops the worker and
- * closes the delegate (issue #170).
+ * closes the delegate (issue #170), that group commit hands queued entries to the delegate in
+ * batches, and that the writer survives a failing idle flush.
  */
 class AsyncAuditSinkTest {
 
@@ -51,6 +56,77 @@ class AsyncAuditSinkTest {
         sink.close();
     }
 
+    @Test
+    void groupCommitWritesQueuedEntriesAsBatchesInOrder() throws InterruptedException {
+        GatedSink delegate = new GatedSink();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AsyncAuditSink sink = new AsyncAuditSink(delegate, 100, 16, Duration.ZERO, registry);
+
+        sink.write(entry(0));
+        assertTrue(delegate.firstBatchStarted.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i <= 40; i++) {
+            sink.write(entry(i));
+        }
+        delegate.gate.countDown();
+
+        assertTrue(sink.flush(Duration.ofSeconds(2)));
+        sink.close();
+
+        assertEquals(List.of(1, 16, 16, 8), delegate.batchSizes, "the backlog drains in max-size batches");
+        for (int i = 0; i <= 40; i++) {
+            assertEquals("corr-" + i, delegate.entries.get(i).correlationId());
+        }
+        assertEquals(4, registry.get("jmud.audit.batch.size").summary().count());
+        assertEquals(41.0, registry.get("jmud.audit.batch.size").summary().totalAmount());
+        assertEquals(4, registry.get("jmud.audit.flush.latency").timer().count());
+    }
+
+    @Test
+    void flushWaitsForABatchAlreadyTakenOffTheQueue() throws InterruptedException {
+        GatedSink delegate = new GatedSink();
+        AsyncAuditSink sink = new AsyncAuditSink(delegate, 100, 16, Duration.ZERO, new SimpleMeterRegistry());
+
+        sink.write(entry(0));
+        assertTrue(delegate.firstBatchStarted.await(2, TimeUnit.SECONDS));
+
+        assertFalse(sink.flush(Duration.ofMillis(100)), "the queue is empty but the batch is not committed");
+        delegate.gate.countDown();
+        assertTrue(sink.flush(Duration.ofSeconds(2)));
+        assertEquals(1, delegate.entries.size());
+        sink.close();
+    }
+
+    @Test
+    void writerSurvivesAFailingIdleFlush() throws InterruptedException {
+        FailingIdleFlushSink delegate = new FailingIdleFlushSink();
+        AsyncAuditSink sink = new AsyncAuditSink(delegate, 100);
+
+        assertTrue(delegate.idleFlushes.await(2, TimeUnit.SECONDS), "the writer keeps polling after a failure");
+        sink.write(entry(1));
+
+        assertTrue(sink.flush(Duration.ofSeconds(2)));
+        assertEquals(1, delegate.entries.size());
+        sink.close();
+    }
+
+    @Test
+    void droppedEntriesAreCounted() throws InterruptedException {
+        GatedSink delegate = new GatedSink();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AsyncAuditSink sink = new AsyncAuditSink(delegate, 2, 16, Duration.ZERO, registry);
+
+        sink.write(entry(0));
+        assertTrue(delegate.firstBatchStarted.await(2, TimeUnit.SECONDS));
+        for (int i = 1; i <= 5; i++) {
+            sink.write(entry(i));
+        }
+
+        assertEquals(3.0, registry.get("jmud.audit.dropped").counter().count(), "queue holds two, three dropped");
+
+        delegate.gate.countDown();
+        sink.close();
+    }
+
     private static AuditEntry entry(int i) {
         return new AuditEntry(1, System.currentTimeMillis(), "test.event", "corr-" + i, 0L, null, null, null, "success", null);
     }
@@ -70,6 +146,51 @@ class AsyncAuditSinkTest {
         }
     }
 
+    /** Holds the first batch until {@link #gate} opens, so a backlog builds up behind it. */
+    private static final class GatedSink implements AuditSink {
+        private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+        private final List<AuditEntry> entries = new CopyOnWriteArrayList<>();
+        private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void write(AuditEntry entry) {
+            writeBatch(List.of(entry));
+        }
+
+        @Override
+        public void writeBatch(List<AuditEntry> batch) {
+            firstBatchStarted.countDown();
+            try {
+                gate.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batchSizes.add(batch.size());
+            entries.addAll(batch);
+        }
+    }
+
+    /** Throws from every idle flush, as a sink whose interval fsync fails would. */
+    private static final class FailingIdleFlushSink implements AuditSink {
+        private final CountDownLatch idleFlushes = new CountDownLatch(2);
+        private final List<AuditEntry> entries = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void write(AuditEntry entry) {
+            entries.add(entry);
+        }
+
+        @Override
+        public boolean flush(Duration timeout) {
+            if (timeout.isZero()) {
+                idleFlushes.countDown();
+                throw new IllegalStateException("sync failed");
+            }
+            return true;
+        }
+    }
+
     private static final class SlowSink implements AuditSink {
         private final Duration delayPerEntry;
 
@@ -0,0 +1,75 @@
+package io.taanielo.jmud.core.audit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link JsonlFileAuditSink}: a batch lands as consecutive JSON lines in the dated
+ * file under every fsync policy, and single writes interleave with batches in order.
+ */
+class JsonlFileAuditSinkTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-07-04T12:00:00Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void batchIsWrittenAsConsecutiveLinesUnderEveryFsyncPolicy() throws IOException {
+        for (AuditFsyncPolicy policy : AuditFsyncPolicy.values()) {
+            Path base = dir.resolve(policy.name().toLowerCase(Locale.ROOT)).resolve("audit.jsonl");
+            JsonlFileAuditSink sink = new JsonlFileAuditSink(base, CLOCK, policy, Duration.ofMillis(1));
+
+            sink.writeBatch(List.of(entry("a"), entry("b"), entry("c")));
+            assertTrue(sink.flush(Duration.ZERO));
+            sink.close();
+
+            List<String> lines = Files.readAllLines(base.resolveSibling("audit-2026-07-04.jsonl"));
+            assertEquals(3, lines.size(), policy + " should write every entry");
+            assertTrue(lines.get(0).contains("\"correlationId\":\"a\""));
+            assertTrue(lines.get(2).contains("\"correlationId\":\"c\""));
+        }
+    }
+
+    @Test
+    void singleWritesAndBatchesAppendInOrder() throws IOException {
+        Path base = dir.resolve("audit.jsonl");
+        JsonlFileAuditSink sink =
+            new JsonlFileAuditSink(base, CLOCK, AuditFsyncPolicy.EACH_BATCH, Duration.ofSeconds(1));
+
+        sink.write(entry("first"));
+        sink.writeBatch(List.of(entry("second"), entry("third")));
+        sink.write(entry("fourth"));
+        sink.close();
+
+        List<String> lines = Files.readAllLines(dir.resolve("audit-2026-07-04.jsonl"));
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(1).contains("\"correlationId\":\"second\""));
+        assertTrue(lines.get(3).contains("\"correlationId\":\"fourth\""));
+    }
+
+    @Test
+    void parsesFsyncPolicyNames() {
+        assertEquals(AuditFsyncPolicy.EACH_BATCH, AuditFsyncPolicy.parse("each-batch"));
+        assertEquals(AuditFsyncPolicy.EACH_BATCH, AuditFsyncPolicy.parse("each_batch"));
+        assertEquals(AuditFsyncPolicy.INTERVAL, AuditFsyncPolicy.parse(" Interval "));
+        assertEquals(AuditFsyncPolicy.NONE, AuditFsyncPolicy.parse("none"));
+    }
+
+    private static AuditEntry entry(String correlationId) {
+        return new AuditEntry(1, CLOCK.millis(), "test.event", correlationId, 0L, null, null, null, "success", null);
+    }
+}
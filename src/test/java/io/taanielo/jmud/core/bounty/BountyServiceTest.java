@@ -169,6 +169,35 @@ class BountyServiceTest {
         assertFalse(refunded.mailbox().isEmpty(), "a refund note is mailed to the poster");
     }
 
+    @Test
+    void expireBounties_expiresEachBountyOnTheTickIsExpiredFirstHolds() {
+        BountyService service = service();
+        long expiry = 50;
+        Player alice = player("Alice", 500);
+        Player bob = player("Bob", 500);
+        service.postOnPlayer(alice, Username.of("Grimjaw"), 10, 3);
+        service.expireBounties(5, expiry);
+        service.postOnPlayer(bob, Username.of("Grimjaw"), 20, 7);
+        service.postOnPlayer(alice, Username.of("Skarn"), 30, 7);
+        service.claimPlayerBounty(Username.of("Skarn"), Username.of("Carol"));
+
+        List<Long> expiredAt = new ArrayList<>();
+        List<Long> expectedAt = new ArrayList<>();
+        for (long tick = 6; tick <= 200; tick++) {
+            long now = tick;
+            if (bountyRepo.findAll().stream().anyMatch(bounty -> bounty.isExpired(now, expiry))) {
+                expectedAt.add(tick);
+            }
+            if (!service.expireBounties(tick, expiry).isEmpty()) {
+                expiredAt.add(tick);
+            }
+        }
+
+        assertEquals(List.of(53L, 57L), expectedAt, "the claimed bounty never expires");
+        assertEquals(expectedAt, expiredAt);
+        assertTrue(bountyRepo.findAll().isEmpty());
+    }
+
     @Test
     void cancel_refundsPostersOwnStakeInFull() {
         BountyService service = service(combatMob(GOBLIN_ID, "Goblin"));
@@ -0,0 +1,199 @@
+package io.taanielo.jmud.core.combat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.authentication.Password;
+import io.taanielo.jmud.core.authentication.User;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.character.ClassId;
+import io.taanielo.jmud.core.character.RaceId;
+import io.taanielo.jmud.core.character.repository.json.JsonClassRepository;
+import io.taanielo.jmud.core.character.repository.json.JsonRaceRepository;
+import io.taanielo.jmud.core.effects.EffectId;
+import io.taanielo.jmud.core.effects.EffectInstance;
+import io.taanielo.jmud.core.player.JsonPlayerRepository;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerEquipment;
+import io.taanielo.jmud.core.player.PlayerVitals;
+import io.taanielo.jmud.core.world.Item;
+import io.taanielo.jmud.core.world.ItemId;
+import io.taanielo.jmud.core.world.ItemSet;
+import io.taanielo.jmud.core.world.repository.ItemRepository;
+import io.taanielo.jmud.core.world.repository.ItemSetRepository;
+import io.taanielo.jmud.core.world.repository.json.JsonItemRepository;
+import io.taanielo.jmud.core.world.repository.json.JsonItemSetRepository;
+
+/**
+ * Verifies that {@link DerivedStatsCache} snapshots match the per-hit resolver sums combat used to
+ * compute, for every item set shipped in {@code data/item-sets}, and that entries are recomputed
+ * only when equipment, level, race or class change.
+ */
+class DerivedStatsCacheTest {
+
+    private static final Path DATA = Path.of("data");
+
+    private static ItemRepository items;
+    private static ItemSetRepository itemSets;
+    private static EquipmentArmorResolver armorResolver;
+    private static EquipmentResistanceResolver resistanceResolver;
+    private static RaceArmorBonusResolver raceArmorResolver;
+    private static ClassArmorBonusResolver classArmorResolver;
+    private static RaceAttackBonusResolver raceAttackResolver;
+
+    @BeforeAll
+    static void loadContent() throws Exception {
+        items = new JsonItemRepository(DATA);
+        itemSets = new JsonItemSetRepository(DATA);
+        JsonRaceRepository races = new JsonRaceRepository(DATA);
+        armorResolver = new EquipmentArmorResolver(items, new SetBonusResolver(items, itemSets));
+        resistanceResolver = new EquipmentResistanceResolver(items);
+        raceArmorResolver = new RaceArmorBonusResolver(races);
+        classArmorResolver = new ClassArmorBonusResolver(new JsonClassRepository(DATA));
+        raceAttackResolver = new RaceAttackBonusResolver(races);
+    }
+
+    @Test
+    void snapshotMatchesPerHitResolversForEveryShippedItemSet() throws Exception {
+        List<ItemSet> sets = itemSets.findAll();
+        assertFalse(sets.isEmpty(), "data/item-sets should ship at least one set");
+        DerivedStatsCache cache = newCache();
+
+        for (ItemSet set : sets) {
+            // Equip the set one piece at a time so every threshold (and the partial states between
+            // them) is compared, for a race/class pair with and without armour bonuses.
+            PlayerEquipment equipment = PlayerEquipment.empty();
+            assertMatches(cache, player(equipment, RaceId.of("dwarf"), ClassId.of("warrior"), 1), set);
+            for (ItemId pieceId : set.pieceIds()) {
+                Item piece = items.findById(pieceId).orElseThrow();
+                equipment = equipment.equip(piece.getEquipSlot(), pieceId);
+                assertMatches(cache, player(equipment, RaceId.of("dwarf"), ClassId.of("warrior"), 1), set);
+                assertMatches(cache, player(equipment, RaceId.of("elf"), ClassId.of("mage"), 5), set);
+            }
+        }
+    }
+
+    @Test
+    void reusesSnapshotUntilEquipmentOrIdentityChanges() throws Exception {
+        DerivedStatsCache cache = newCache();
+        ItemSet set = itemSets.findAll().getFirst();
+        ItemId pieceId = set.pieceIds().getFirst();
+        PlayerEquipment equipment =
+            PlayerEquipment.empty().equip(items.findById(pieceId).orElseThrow().getEquipSlot(), pieceId);
+        Player player = player(equipment, RaceId.of("dwarf"), ClassId.of("warrior"), 1);
+
+        DerivedStats first = cache.get(player);
+        assertSame(first, cache.get(player.withVitals(player.getVitals())), "unrelated changes keep the entry");
+        assertNotSame(first, cache.get(player.withEquipment(PlayerEquipment.empty())), "equip change recomputes");
+        assertNotSame(first, cache.get(player(equipment, RaceId.of("elf"), ClassId.of("warrior"), 1)),
+            "race change recomputes");
+
+        DerivedStats beforeEffect = cache.get(player);
+        player.addEffect(new EffectInstance(EffectId.of("bless"), 8, 1));
+        assertSame(beforeEffect, cache.get(player), "effects are resolved per hit, not cached");
+        assertEquals(newCache().get(player), beforeEffect, "an effect never stales the snapshot");
+
+        DerivedStats beforeReload = cache.get(player);
+        cache.invalidateAll();
+        assertNotSame(beforeReload, cache.get(player), "invalidateAll drops every entry");
+    }
+
+    @Test
+    void reloadedPlayerWithUnchangedEquipmentHitsTheCache(@TempDir Path playerDir) throws Exception {
+        AtomicInteger armorLookups = new AtomicInteger();
+        SetBonusResolver setBonuses = new SetBonusResolver(items, itemSets);
+        EquipmentArmorResolver countingArmor = new EquipmentArmorResolver(items, setBonuses) {
+            @Override
+            public int totalAc(Player player) {
+                armorLookups.incrementAndGet();
+                return super.totalAc(player);
+            }
+        };
+        DerivedStatsCache cache = new DerivedStatsCache(
+            countingArmor, raceArmorResolver, classArmorResolver, raceAttackResolver, resistanceResolver);
+        ItemId pieceId = itemSets.findAll().getFirst().pieceIds().getFirst();
+        PlayerEquipment equipment =
+            PlayerEquipment.empty().equip(items.findById(pieceId).orElseThrow().getEquipSlot(), pieceId);
+        JsonPlayerRepository repository = new JsonPlayerRepository(playerDir);
+        repository.savePlayer(player(equipment, RaceId.of("dwarf"), ClassId.of("warrior"), 1));
+
+        // Mob combat loads the defender from the repository on every swing: a fresh Player and a
+        // fresh PlayerEquipment each time, with the same slots.
+        Player firstLoad = repository.loadPlayer(Username.of("hero")).orElseThrow();
+        Player secondLoad = repository.loadPlayer(Username.of("hero")).orElseThrow();
+        DerivedStats first = cache.get(firstLoad);
+        DerivedStats second = cache.get(secondLoad);
+
+        assertSame(first, second, "an unchanged reload reuses the snapshot");
+        assertEquals(1, armorLookups.get(), "the resolvers run once, for the first load only");
+    }
+
+    @Test
+    void invalidateDropsOnlyTheDepartedPlayersEntry() {
+        DerivedStatsCache cache = newCache();
+        Player departed = player(PlayerEquipment.empty(), RaceId.of("dwarf"), ClassId.of("warrior"), 1);
+        Player remaining = player(Username.of("sidekick"), PlayerEquipment.empty(),
+            RaceId.of("elf"), ClassId.of("mage"), 1);
+        cache.get(departed);
+        DerivedStats remainingStats = cache.get(remaining);
+        assertEquals(2, cache.size());
+
+        cache.invalidate(departed.getUsername());
+
+        assertEquals(1, cache.size(), "the departed player's entry is dropped");
+        assertSame(remainingStats, cache.get(remaining), "other players keep their entries");
+    }
+
+    private static void assertMatches(DerivedStatsCache cache, Player player, ItemSet set) {
+        DerivedStats cached = cache.get(player);
+        String label = set.id().getValue() + " with " + player.getEquipment().slots();
+        assertEquals(
+            raceArmorResolver.armorBonus(player)
+                + classArmorResolver.armorBonus(player)
+                + armorResolver.totalAc(player),
+            cached.armorClass(), label + ": AC");
+        assertEquals(raceAttackResolver.attackBonus(player), cached.raceAttackBonus(), label + ": attack bonus");
+        for (DamageType type : DamageType.values()) {
+            assertEquals(resistanceResolver.totalResistance(player, type), cached.resistance(type),
+                label + ": " + type + " resistance");
+        }
+    }
+
+    private static DerivedStatsCache newCache() {
+        return new DerivedStatsCache(
+            armorResolver, raceArmorResolver, classArmorResolver, raceAttackResolver, resistanceResolver);
+    }
+
+    private static Player player(PlayerEquipment equipment, RaceId race, ClassId classId, int level) {
+        return player(Username.of("hero"), equipment, race, classId, level);
+    }
+
+    private static Player player(
+        Username username, PlayerEquipment equipment, RaceId race, ClassId classId, int level
+    ) {
+        Player base = new Player(
+            User.of(username, Password.hash("pw", 1000)),
+            level,
+            0,
+            PlayerVitals.defaults(),
+            new ArrayList<>(),
+            "prompt",
+            false,
+            List.of(),
+            race,
+            classId
+        );
+        return base.withEquipment(equipment);
+    }
+}
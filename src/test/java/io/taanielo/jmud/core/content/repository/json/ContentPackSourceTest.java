@@ -0,0 +1,140 @@
+package io.taanielo.jmud.core.content.repository.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.HashSet;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.mob.repository.json.JsonMobTemplateRepository;
+import io.taanielo.jmud.core.world.repository.json.JsonItemRepository;
+
+/**
+ * Unit tests for {@link ContentPackSource}: a current pack serves the reads, anything that makes it
+ * stale or unreadable falls back to the files, and selecting again swaps in a recompiled pack.
+ */
+class ContentPackSourceTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @TempDir
+    Path tempDir;
+
+    private Path items;
+    private Path apple;
+    private Path packPath;
+    private ContentPackSource source;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        items = Files.createDirectories(tempDir.resolve("data").resolve("items"));
+        apple = items.resolve("apple.json");
+        Files.writeString(apple, "{\"name\":\"apple\"}");
+        Files.setLastModifiedTime(apple, FileTime.fromMillis(1_000_000L));
+        packPath = tempDir.resolve("content.pack");
+        source = new ContentPackSource(packPath, List.of(items));
+    }
+
+    @Test
+    void currentPackServesTheReads() throws Exception {
+        ContentPack.compile(List.of(items), packPath);
+        // Same names and an unchanged modification time: the pack still counts as current, so the
+        // read below proves it came from the pack rather than the edited file.
+        Files.writeString(apple, "{\"name\":\"edited\"}");
+        Files.setLastModifiedTime(apple, FileTime.fromMillis(1_000_000L));
+
+        assertTrue(source.select());
+
+        assertEquals("apple", name(apple));
+        assertEquals(List.of(apple), source.list(items));
+    }
+
+    @Test
+    void editedFileMakesThePackStale() throws Exception {
+        ContentPack.compile(List.of(items), packPath);
+        Files.writeString(apple, "{\"name\":\"edited\"}");
+        Files.setLastModifiedTime(apple, FileTime.fromMillis(2_000_000L));
+
+        assertFalse(source.select());
+
+        assertNull(source.pack());
+        assertEquals("edited", name(apple));
+    }
+
+    @Test
+    void addedFileMakesThePackStale() throws Exception {
+        ContentPack.compile(List.of(items), packPath);
+        Path berry = items.resolve("berry.json");
+        Files.writeString(berry, "{\"name\":\"berry\"}");
+        Files.setLastModifiedTime(berry, FileTime.fromMillis(1_000_000L));
+
+        assertFalse(source.select());
+
+        assertEquals(2, source.list(items).size());
+    }
+
+    @Test
+    void packMissingADirectoryIsStale() throws Exception {
+        ContentPack.compile(List.of(items), packPath);
+        ContentPackSource wider =
+            new ContentPackSource(packPath, List.of(items, tempDir.resolve("data").resolve("rooms")));
+
+        assertFalse(wider.select());
+    }
+
+    @Test
+    void missingOrDamagedPackFallsBackToTheFiles() throws Exception {
+        assertFalse(source.select());
+
+        Files.writeString(packPath, "not a pack");
+
+        assertFalse(source.select());
+        assertEquals("apple", name(apple));
+    }
+
+    @Test
+    void selectingAgainSwapsInARecompiledPack() throws Exception {
+        ContentPack.compile(List.of(items), packPath);
+        assertTrue(source.select());
+        ContentPack first = source.pack();
+
+        Files.writeString(apple, "{\"name\":\"green apple\"}");
+        Files.setLastModifiedTime(apple, FileTime.fromMillis(2_000_000L));
+        ContentPack.compile(List.of(items), packPath);
+
+        assertTrue(source.select());
+        assertNotSame(first, source.pack());
+        assertEquals("green apple", name(apple));
+    }
+
+    @Test
+    void repositoriesLoadTheSameWorldFromThePack() throws Exception {
+        List<Path> world = List.of(Path.of("data", "items"), Path.of("data", "mobs"));
+        ContentPack.compile(world, packPath);
+        ContentPackSource worldSource = new ContentPackSource(packPath, world);
+        assertTrue(worldSource.select());
+
+        assertEquals(
+            new HashSet<>(new JsonItemRepository(Path.of("data")).findAll()),
+            new HashSet<>(new JsonItemRepository(Path.of("data"), worldSource).findAll()));
+        assertEquals(
+            new JsonMobTemplateRepository(Path.of("data")).findAll().size(),
+            new JsonMobTemplateRepository(Path.of("data"), worldSource).findAll().size());
+    }
+
+    private String name(Path document) throws Exception {
+        return source.read(document, MAPPER, JsonNode.class).get("name").asText();
+    }
+}
@@ -0,0 +1,149 @@
+package io.taanielo.jmud.core.content.repository.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ContentPack}: every packed document decodes to exactly the tree the JSON
+ * parser produces, shared strings are stored once, a damaged or foreign file is refused, and a failed
+ * write leaves no temporary file behind.
+ */
+class ContentPackTest {
+
+    private static final List<Path> WORLD = List.of(
+        Path.of("data", "items"),
+        Path.of("data", "rooms"),
+        Path.of("data", "mobs"),
+        Path.of("data", "attacks"),
+        Path.of("data", "skills"),
+        Path.of("data", "quests"),
+        Path.of("effects"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void everyPackedDocumentDecodesToTheParsedTree() throws Exception {
+        Path packPath = tempDir.resolve("content.pack");
+        ContentPack.Compiled compiled = ContentPack.compile(WORLD, packPath);
+        ContentPack pack = ContentPack.open(packPath);
+        ObjectMapper mapper = new ObjectMapper();
+
+        int documents = 0;
+        for (Path directory : WORLD) {
+            List<Path> files = JsonDocumentSource.FILES.list(directory);
+            assertEquals(files.size(), pack.names(directory).size(), directory.toString());
+            for (Path file : files) {
+                assertEquals(mapper.readTree(file.toFile()), pack.read(file), file.toString());
+                documents++;
+            }
+        }
+        assertEquals(documents, compiled.documents());
+        assertEquals(documents, pack.documentCount());
+        assertEquals(Files.size(packPath), compiled.bytes());
+    }
+
+    @Test
+    void repeatedStringsAreStoredOnce() throws Exception {
+        Path items = Files.createDirectories(tempDir.resolve("data").resolve("items"));
+        Files.writeString(items.resolve("a.json"), "{\"id\":\"apple\",\"tags\":[\"food\",\"red\"]}");
+        Files.writeString(items.resolve("b.json"), "{\"id\":\"berry\",\"tags\":[\"food\",\"red\"]}");
+        Path packPath = tempDir.resolve("content.pack");
+
+        ContentPack.Compiled compiled = ContentPack.compile(List.of(items), packPath);
+        ContentPack pack = ContentPack.open(packPath);
+
+        // items dir, a.json, b.json, id, tags, apple, berry, food, red
+        assertEquals(9, compiled.strings());
+        JsonNode apple = pack.read(items.resolve("a.json"));
+        JsonNode berry = pack.read(items.resolve("b.json"));
+        assertNotNull(apple);
+        assertNotNull(berry);
+        assertSame(apple.get("tags").get(0), berry.get("tags").get(0));
+    }
+
+    @Test
+    void numbersKeepTheirParsedTypes() throws Exception {
+        Path items = Files.createDirectories(tempDir.resolve("items"));
+        Path file = items.resolve("n.json");
+        Files.writeString(file, "{\"i\":-7,\"l\":12345678901,\"d\":0.25,\"t\":true,\"f\":false,\"n\":null,\"e\":[],\"o\":{}}");
+        Path packPath = tempDir.resolve("content.pack");
+        ContentPack.compile(List.of(items), packPath);
+
+        JsonNode tree = ContentPack.open(packPath).read(file);
+
+        assertNotNull(tree);
+        assertEquals(new ObjectMapper().readTree(file.toFile()), tree);
+        assertTrue(tree.get("i").isInt());
+        assertTrue(tree.get("l").isLong());
+        assertTrue(tree.get("d").isDouble());
+    }
+
+    @Test
+    void documentsOutsideThePackAreAbsent() throws Exception {
+        Path items = Files.createDirectories(tempDir.resolve("items"));
+        Files.writeString(items.resolve("a.json"), "{}");
+        Path packPath = tempDir.resolve("content.pack");
+        ContentPack.compile(List.of(items, tempDir.resolve("missing")), packPath);
+
+        ContentPack pack = ContentPack.open(packPath);
+
+        assertNull(pack.read(items.resolve("b.json")));
+        assertNull(pack.read(tempDir.resolve("rooms").resolve("a.json")));
+        assertTrue(pack.contains(tempDir.resolve("missing")));
+        assertTrue(pack.names(tempDir.resolve("missing")).isEmpty());
+    }
+
+    @Test
+    void damagedPackFailsItsChecksum() throws Exception {
+        Path items = Files.createDirectories(tempDir.resolve("items"));
+        Files.writeString(items.resolve("a.json"), "{\"id\":\"apple\"}");
+        Path packPath = tempDir.resolve("content.pack");
+        ContentPack.compile(List.of(items), packPath);
+        byte[] bytes = Files.readAllBytes(packPath);
+        bytes[bytes.length - 1] ^= 0x5A;
+        Files.write(packPath, bytes);
+
+        Exception failure = assertThrows(IOException.class, () -> ContentPack.open(packPath));
+
+        assertTrue(failure.getMessage().endsWith("checksum mismatch"), failure.getMessage());
+    }
+
+    @Test
+    void failedRenameRemovesTheTemporaryFile() throws Exception {
+        Path items = Files.createDirectories(tempDir.resolve("items"));
+        Files.writeString(items.resolve("a.json"), "{}");
+        // A non-empty directory at the target cannot be replaced by the rename.
+        Path packPath = Files.createDirectories(tempDir.resolve("content.pack"));
+        Files.writeString(packPath.resolve("keep"), "x");
+
+        assertThrows(IOException.class, () -> ContentPack.compile(List.of(items), packPath));
+
+        assertFalse(Files.exists(tempDir.resolve("content.pack.tmp")));
+    }
+
+    @Test
+    void foreignFileIsRefused() throws Exception {
+        Path packPath = tempDir.resolve("content.pack");
+        Files.writeString(packPath, "{\"this\": \"is not a content pack at all\"}");
+
+        Exception failure = assertThrows(IOException.class, () -> ContentPack.open(packPath));
+
+        assertTrue(failure.getMessage().endsWith("not a content pack"), failure.getMessage());
+    }
+}
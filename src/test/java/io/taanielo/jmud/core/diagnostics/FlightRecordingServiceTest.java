@@ -0,0 +1,101 @@
+package io.taanielo.jmud.core.diagnostics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link FlightRecordingService} and the {@code jmud.*} events it records.
+ */
+class FlightRecordingServiceTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-03-04T05:06:07Z"), ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private FlightRecordingService service() {
+        return new FlightRecordingService(tempDir.resolve("recordings"), 8L * 1024 * 1024, Duration.ofMinutes(5), CLOCK);
+    }
+
+    @Test
+    void recordsJmudEventsIntoTimestampedFile() throws Exception {
+        FlightRecordingService service = service();
+
+        Path file = service.start(Duration.ofMinutes(1));
+        assertEquals(tempDir.resolve("recordings").resolve("jmud-20260304-050607.jfr"), file);
+        assertEquals(file, service.activeDestination().orElseThrow());
+
+        TickEvent tick = new TickEvent();
+        tick.begin();
+        TickableEvent tickable = new TickableEvent();
+        tickable.begin();
+        tickable.complete(42, "MobRegistry");
+        tick.complete(42, 1, true);
+        CommandEvent command = new CommandEvent();
+        command.begin();
+        command.complete("corr-1", "look", 1_500_000);
+
+        assertEquals(file, service.stop().orElseThrow());
+        assertTrue(service.activeDestination().isEmpty());
+        assertTrue(Files.size(file) > 0);
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        RecordedEvent recordedTick = only(events, "jmud.Tick");
+        assertEquals(42, recordedTick.getLong("tickNumber"));
+        assertTrue(recordedTick.getBoolean("overran"));
+        assertEquals("MobRegistry", only(events, "jmud.Tickable").getString("tickable"));
+        RecordedEvent recordedCommand = only(events, "jmud.Command");
+        assertEquals("corr-1", recordedCommand.getString("correlationId"));
+        assertEquals("look", recordedCommand.getString("command"));
+        assertEquals(Duration.ofNanos(1_500_000), recordedCommand.getDuration("queueWait"));
+    }
+
+    @Test
+    void refusesASecondRecordingWhileOneRuns() throws Exception {
+        FlightRecordingService service = service();
+        service.start(Duration.ofMinutes(1));
+        try {
+            assertThrows(IllegalStateException.class, () -> service.start(Duration.ofMinutes(1)));
+        } finally {
+            service.stop();
+        }
+    }
+
+    @Test
+    void stopWithoutRecordingIsEmpty() throws Exception {
+        assertTrue(service().stop().isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveLimits() {
+        Path dir = tempDir.resolve("recordings");
+        assertThrows(IllegalArgumentException.class,
+            () -> new FlightRecordingService(dir, 0, Duration.ofMinutes(1), CLOCK));
+        assertThrows(IllegalArgumentException.class,
+            () -> new FlightRecordingService(dir, 1024, Duration.ZERO, CLOCK));
+        assertFalse(Files.exists(dir), "the directory is only created by a recording");
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+        assertEquals(1, matching.size(), "expected one " + name + " event");
+        return matching.getFirst();
+    }
+}
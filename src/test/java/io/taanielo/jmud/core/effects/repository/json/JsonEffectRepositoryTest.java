@@ -0,0 +1,74 @@
+package io.taanielo.jmud.core.effects.repository.json;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.effects.EffectId;
+import io.taanielo.jmud.core.reload.PreparedReload;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+class JsonEffectRepositoryTest {
+
+    private static final Path SHIPPED_EFFECTS = Path.of("effects");
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsOnDemandUntilSnapshotIsCommittedThenNeverTouchesDisk() throws Exception {
+        Path effects = Files.createDirectories(tempDir.resolve("effects"));
+        copyShipped("aegis", effects);
+        JsonEffectRepository repository = new JsonEffectRepository(tempDir);
+
+        // Before the snapshot a miss falls back to the file.
+        copyShipped("anthem", effects);
+        assertTrue(repository.findById(EffectId.of("anthem")).isPresent());
+
+        PreparedReload prepared = repository.prepareDefinitions();
+        assertEquals("effects", prepared.contentType());
+        assertEquals(2, prepared.count());
+        prepared.commit();
+
+        copyShipped("avenging-wrath", effects);
+        assertTrue(repository.findById(EffectId.of("aegis")).isPresent());
+        assertTrue(repository.findById(EffectId.of("avenging-wrath")).isEmpty(), "no disk fallback after commit");
+
+        repository.prepareDefinitions().commit();
+        assertTrue(repository.findById(EffectId.of("avenging-wrath")).isPresent());
+    }
+
+    @Test
+    void loadsEveryShippedEffect() throws Exception {
+        long files;
+        try (Stream<Path> paths = Files.list(SHIPPED_EFFECTS)) {
+            files = paths.filter(path -> path.toString().endsWith(".json")).count();
+        }
+
+        assertEquals(files, new JsonEffectRepository(Path.of(".")).prepareDefinitions().count());
+    }
+
+    @Test
+    void brokenFileFailsPrepareAndKeepsLiveDefinitions() throws Exception {
+        Path effects = Files.createDirectories(tempDir.resolve("effects"));
+        copyShipped("aegis", effects);
+        JsonEffectRepository repository = new JsonEffectRepository(tempDir);
+        repository.prepareDefinitions().commit();
+
+        Files.writeString(effects.resolve("broken.json"), "{ not-valid-json");
+
+        assertThrows(RepositoryException.class, repository::prepareDefinitions);
+        assertTrue(repository.findById(EffectId.of("aegis")).isPresent());
+    }
+
+    private static void copyShipped(String id, Path effects) throws Exception {
+        Files.copy(SHIPPED_EFFECTS.resolve(id + ".json"), effects.resolve(id + ".json"));
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -114,6 +115,19 @@ class ResourceGatheringServiceTest {
         assertTrue(outcome.success());
     }
 
+    @Test
+    void dormantNodePausesAndIsFastForwardedOnWake() {
+        service.gather(player("miner"), VEIN_ROOM);
+
+        service.tickRespawns(room -> !room.equals(VEIN_ROOM));
+        service.tickRespawns(room -> !room.equals(VEIN_ROOM));
+        service.tickRespawns(room -> !room.equals(VEIN_ROOM));
+        assertTrue(service.isDepleted(VEIN_ID), "a dormant node's countdown is paused");
+
+        service.advanceRespawns(Set.of(VEIN_ROOM), 3);
+        assertFalse(service.isDepleted(VEIN_ID));
+    }
+
     @Test
     void twoPlayersSameTickOnlyFirstHarvestSucceeds() {
         // Commands run serially on the single tick thread, so the second harvest sees the depleted
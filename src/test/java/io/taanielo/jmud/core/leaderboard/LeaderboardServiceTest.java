@@ -0,0 +1,96 @@
+package io.taanielo.jmud.core.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.authentication.Password;
+import io.taanielo.jmud.core.authentication.User;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.guild.Guild;
+import io.taanielo.jmud.core.guild.GuildId;
+import io.taanielo.jmud.core.guild.GuildRepository;
+import io.taanielo.jmud.core.player.Player;
+
+class LeaderboardServiceTest {
+
+    private static final Username ALICE = Username.of("alice");
+    private static final Username BOB = Username.of("bob");
+
+    @Test
+    void playerLeavesTheDuelBoardWithoutARecordedDuel() {
+        LeaderboardService leaderboards = new LeaderboardService();
+        leaderboards.seed(List.of(player("alice").withDuelWins(2), player("bob")), List.of());
+
+        assertEquals(1, leaderboards.duels().size());
+        assertEquals(2, leaderboards.kills().size());
+
+        leaderboards.recordPlayer(player("alice"));
+
+        assertTrue(leaderboards.duels().rankOf(ALICE).isEmpty());
+    }
+
+    @Test
+    void removedPlayerLeavesEveryBoard() {
+        LeaderboardService leaderboards = new LeaderboardService();
+        leaderboards.seed(List.of(player("alice").withDuelLosses(1), player("bob")), List.of());
+
+        leaderboards.removePlayer(ALICE);
+
+        assertTrue(leaderboards.kills().rankOf(ALICE).isEmpty());
+        assertTrue(leaderboards.duels().rankOf(ALICE).isEmpty());
+        assertTrue(leaderboards.levels().rankOf(ALICE).isEmpty());
+        assertEquals(1, leaderboards.levels().rankOf(BOB).orElseThrow());
+    }
+
+    @Test
+    void guildRepositoryDecoratorTracksMembershipAndDisbanding() {
+        LeaderboardService leaderboards = new LeaderboardService();
+        RecordingGuildRepository delegate = new RecordingGuildRepository();
+        GuildRepository repository = new LeaderboardGuildRepository(delegate, leaderboards);
+        Guild founded = Guild.found(GuildId.newId(), "Titans", ALICE);
+
+        repository.save(founded);
+        repository.save(founded.withMember(BOB));
+
+        assertEquals(founded.id(), leaderboards.guildOf(BOB).orElseThrow());
+        assertEquals(1, leaderboards.guilds().size());
+
+        repository.save(founded);
+        assertTrue(leaderboards.guildOf(BOB).isEmpty());
+
+        repository.delete(founded.id());
+        assertEquals(0, leaderboards.guilds().size());
+        assertTrue(leaderboards.guildOf(ALICE).isEmpty());
+        assertEquals(3, delegate.saves.size());
+        assertEquals(List.of(founded.id()), delegate.deletes);
+    }
+
+    private static Player player(String username) {
+        return Player.of(User.of(Username.of(username), Password.hash("pw", 1)), "%hp> ");
+    }
+
+    private static final class RecordingGuildRepository implements GuildRepository {
+        final List<Guild> saves = new ArrayList<>();
+        final List<GuildId> deletes = new ArrayList<>();
+
+        @Override
+        public List<Guild> loadAll() {
+            return List.of();
+        }
+
+        @Override
+        public void save(Guild guild) {
+            saves.add(guild);
+        }
+
+        @Override
+        public void delete(GuildId guildId) {
+            deletes.add(guildId);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package io.taanielo.jmud.core.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RankedBoardTest {
+
+    private record Score(String name, int points) {
+    }
+
+    private static final Comparator<Score> ORDER =
+        Comparator.comparingInt(Score::points).reversed().thenComparing(Score::name);
+
+    @Test
+    void ranksAndListsBestFirst() {
+        RankedBoard<String, Score> board = new RankedBoard<>(ORDER, Score::name);
+        board.put(new Score("alice", 10));
+        board.put(new Score("bob", 30));
+        board.put(new Score("carol", 20));
+
+        assertEquals(List.of(new Score("bob", 30), new Score("carol", 20)), board.top(2));
+        assertEquals(3, board.rankOf("alice").orElseThrow());
+        assertEquals(1, board.rankOf("bob").orElseThrow());
+        assertTrue(board.rankOf("dave").isEmpty());
+    }
+
+    @Test
+    void putReplacesTheKeysPreviousValue() {
+        RankedBoard<String, Score> board = new RankedBoard<>(ORDER, Score::name);
+        board.put(new Score("alice", 10));
+        board.put(new Score("bob", 30));
+
+        board.put(new Score("alice", 50));
+
+        assertEquals(2, board.size());
+        assertEquals(1, board.rankOf("alice").orElseThrow());
+        assertEquals(List.of(new Score("alice", 50), new Score("bob", 30)), board.top(5));
+    }
+
+    @Test
+    void matchesAFullSortUnderRandomUpdates() {
+        RankedBoard<String, Score> board = new RankedBoard<>(ORDER, Score::name);
+        Map<String, Score> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 5_000; i++) {
+            String name = "p" + random.nextInt(300);
+            if (random.nextInt(5) == 0) {
+                board.remove(name);
+                expected.remove(name);
+            } else {
+                Score score = new Score(name, random.nextInt(50));
+                board.put(score);
+                expected.put(name, score);
+            }
+        }
+
+        List<Score> sorted = new ArrayList<>(expected.values());
+        sorted.sort(ORDER);
+        assertEquals(sorted, board.top(sorted.size()));
+        for (int i = 0; i < sorted.size(); i++) {
+            assertEquals(i + 1, board.rankOf(sorted.get(i).name()).orElseThrow());
+        }
+    }
+}
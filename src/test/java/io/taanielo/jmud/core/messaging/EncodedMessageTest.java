@@ -0,0 +1,52 @@
+package io.taanielo.jmud.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class EncodedMessageTest {
+
+    @Test
+    void rendersOnceAndEncodesOncePerEncoding() {
+        AtomicInteger renders = new AtomicInteger();
+        AtomicInteger frames = new AtomicInteger();
+        Message message = writer -> {
+            renders.incrementAndGet();
+            writer.writeLine("Bob gossips: hi");
+            writer.writeLine("(and more)");
+        };
+        MessageEncoding framed = text -> {
+            frames.incrementAndGet();
+            return ("[" + text + "]").getBytes(StandardCharsets.UTF_8);
+        };
+        EncodedMessage encoded = EncodedMessage.of(message);
+
+        byte[] utf8 = encoded.encoded(MessageEncoding.UTF_8);
+        for (int i = 0; i < 500; i++) {
+            assertSame(utf8, encoded.encoded(MessageEncoding.UTF_8));
+            encoded.encoded(framed);
+        }
+
+        assertArrayEquals("Bob gossips: hi\r\n(and more)\r\n".getBytes(StandardCharsets.UTF_8), utf8);
+        assertEquals(1, renders.get());
+        assertEquals(1, frames.get());
+    }
+
+    @Test
+    void sendWritesTheRenderedTextAndKeepsTheSourceFlags() throws Exception {
+        EncodedMessage encoded = EncodedMessage.of(PlainTextMessage.ambient("Wind howls."));
+        StringMessageWriter writer = new StringMessageWriter();
+
+        encoded.send(writer);
+
+        assertEquals("Wind howls.\r\n", writer.toString());
+        assertTrue(encoded.isDiscardable());
+        assertSame(encoded, EncodedMessage.of(encoded), "Wrapping twice returns the same message");
+    }
+}
@@ -1,6 +1,7 @@
 package io.taanielo.jmud.core.messaging;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
@@ -72,8 +73,8 @@ class MessageBroadcasterImplTest {
         Message message = new PlainTextMessage("Alice says hi");
         broadcaster.broadcastToRoom(ROOM_ONE, message, Set.of());
 
-        assertEquals(List.of(message), alice.received);
-        assertEquals(List.of(message), bob.received);
+        assertEquals(List.of(message), delivered(alice));
+        assertEquals(List.of(message), delivered(bob));
         assertTrue(carol.received.isEmpty(), "Occupant of a different room must not receive the message");
     }
 
@@ -90,7 +91,7 @@ class MessageBroadcasterImplTest {
         broadcaster.broadcastToRoom(ROOM_ONE, message, Set.of(Username.of("Alice")));
 
         assertTrue(alice.received.isEmpty(), "Excluded speaker must not receive the room broadcast");
-        assertEquals(List.of(message), bob.received);
+        assertEquals(List.of(message), delivered(bob));
     }
 
     @Test
@@ -104,8 +105,8 @@ class MessageBroadcasterImplTest {
         broadcaster.broadcastGlobal(message, Set.of(Username.of("Alice")));
 
         assertTrue(alice.received.isEmpty(), "Sender should be excluded from the global broadcast");
-        assertEquals(List.of(message), bob.received);
-        assertEquals(List.of(message), carol.received);
+        assertEquals(List.of(message), delivered(bob));
+        assertEquals(List.of(message), delivered(carol));
     }
 
     @Test
@@ -117,7 +118,7 @@ class MessageBroadcasterImplTest {
         Message message = new PlainTextMessage("gossip: hi everyone");
         broadcaster.broadcastGlobal(message, Set.of());
 
-        assertEquals(List.of(message), bob.received);
+        assertEquals(List.of(message), delivered(bob));
         assertTrue(dave.received.isEmpty(),
             "A connection still in character creation must not receive a GOSSIP broadcast");
     }
@@ -134,13 +135,34 @@ class MessageBroadcasterImplTest {
         Message message = new PlainTextMessage("Alice says hi");
         broadcaster.broadcastToRoom(ROOM_ONE, message, Set.of());
 
-        assertEquals(List.of(message), alice.received);
+        assertEquals(List.of(message), delivered(alice));
         assertTrue(dave.received.isEmpty(),
             "A connection still in character creation must not receive a room broadcast");
     }
 
+    @Test
+    void broadcastSharesOneEncodedMessageAcrossRecipients() {
+        FakeClient alice = fakeClient("Alice");
+        FakeClient bob = fakeClient("Bob");
+        MessageBroadcaster broadcaster = broadcaster(List.of(alice, bob), twoRoomService());
+
+        broadcaster.broadcastGlobal(new PlainTextMessage("The world boss stirs."), Set.of());
+
+        EncodedMessage first = (EncodedMessage) alice.received.getFirst();
+        assertSame(first, bob.received.getFirst(), "Every recipient gets the same pre-rendered message");
+        assertSame(first.encoded(MessageEncoding.UTF_8), ((EncodedMessage) bob.received.getFirst())
+            .encoded(MessageEncoding.UTF_8), "The wire bytes are encoded once and shared");
+    }
+
     // --- helpers ---
 
+    /** Unwraps the shared {@link EncodedMessage} a broadcast delivers back to the message sent. */
+    private static List<Message> delivered(FakeClient client) {
+        return client.received.stream()
+            .map(message -> message instanceof EncodedMessage encoded ? encoded.source() : message)
+            .toList();
+    }
+
     private static MessageBroadcaster broadcaster(List<Client> clients, RoomService roomService) {
         return broadcaster(clients, List.of(), roomService);
     }
@@ -0,0 +1,36 @@
+package io.taanielo.jmud.core.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verifies the compiled {@link MessageTemplate} path substitutes exactly what the former chained
+ * {@link String#replace} implementation did.
+ */
+class MessageRendererTest {
+
+    private final MessageRenderer renderer = new MessageRenderer();
+
+    private static MessageContext context() {
+        return new MessageContext(null, null, "Aria", "Brom", "iron sword", "poison", "bash", 12);
+    }
+
+    @Test
+    void substitutesEveryPlaceholderIncludingRepeatsAndTheNameAlias() {
+        MessageSpec spec = new MessageSpec(MessagePhase.ATTACK_HIT, MessageChannel.ROOM,
+            "{source} hits {target} ({name}) with {item}: {ability}, {effect}, {damage} damage. {source}!");
+
+        assertEquals("Aria hits Brom (Brom) with iron sword: bash, poison, 12 damage. Aria!",
+            renderer.render(spec, context()));
+    }
+
+    @Test
+    void missingValuesRenderEmptyAndUnknownBracesStayLiteral() {
+        MessageSpec spec = new MessageSpec(MessagePhase.ATTACK_HIT, MessageChannel.SELF,
+            "{{target}} {unknown} {verb}{damage} {");
+        MessageContext noDamage = new MessageContext(null, null, "Aria", "Brom", null, null, null, null);
+
+        assertEquals("{Brom} {unknown}  {", renderer.render(spec, noDamage));
+    }
+}
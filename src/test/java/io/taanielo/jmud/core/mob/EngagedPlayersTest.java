@@ -0,0 +1,84 @@
+package io.taanielo.jmud.core.mob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.combat.AttackId;
+import io.taanielo.jmud.core.world.RoomId;
+
+class EngagedPlayersTest {
+
+    private static final Username ALICE = Username.of("alice");
+    private static final Username BOB = Username.of("bob");
+    private static final Username CAROL = Username.of("carol");
+
+    @Test
+    void engagesEachPlayerOnce() {
+        EngagedPlayers engaged = new EngagedPlayers();
+
+        assertTrue(engaged.engage(ALICE));
+        assertFalse(engaged.engage(ALICE));
+        assertTrue(engaged.engage(BOB));
+
+        assertEquals(2, engaged.size());
+        assertEquals(Set.of(ALICE, BOB), engaged);
+        assertTrue(engaged.contains(Username.of("ALICE")), "usernames compare case-insensitively");
+    }
+
+    @Test
+    void disengagesFromAnyPosition() {
+        EngagedPlayers engaged = new EngagedPlayers();
+        engaged.engage(ALICE);
+        engaged.engage(BOB);
+        engaged.engage(CAROL);
+
+        assertTrue(engaged.disengage(BOB));
+        assertFalse(engaged.disengage(BOB));
+        assertEquals(List.of(ALICE, CAROL), List.copyOf(engaged));
+
+        engaged.disengage(ALICE);
+        engaged.disengage(CAROL);
+        assertTrue(engaged.isEmpty());
+    }
+
+    @Test
+    void iterationSeesASnapshot() {
+        EngagedPlayers engaged = new EngagedPlayers();
+        engaged.engage(ALICE);
+        engaged.engage(BOB);
+
+        List<Username> seen = new ArrayList<>();
+        for (Username player : engaged) {
+            seen.add(player);
+            engaged.disengage(player);
+            engaged.engage(CAROL);
+        }
+
+        assertEquals(List.of(ALICE, BOB), seen);
+        assertEquals(Set.of(CAROL), engaged);
+    }
+
+    @Test
+    void setViewIsReadOnly() {
+        MobInstance mob = new MobInstance(new MobTemplate(
+            MobId.of("mob.goblin"), "Goblin", 100, AttackId.of("attack.basic"), null, true,
+            List.of(), RoomId.of("spawn"), 1, 10, 5, null, List.of(), false));
+        mob.engage(ALICE);
+
+        Set<Username> view = mob.engagedPlayers();
+
+        assertThrows(UnsupportedOperationException.class, () -> view.add(BOB));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(ALICE));
+        assertThrows(UnsupportedOperationException.class, view::clear);
+        assertEquals(Set.of(ALICE), view);
+    }
+}
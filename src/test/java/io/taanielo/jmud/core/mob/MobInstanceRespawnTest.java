@@ -1,9 +1,10 @@
 package io.taanielo.jmud.core.mob;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -11,9 +12,10 @@ import io.taanielo.jmud.core.world.RoomId;
 import io.taanielo.jmud.core.world.TimeOfDay;
 
 /**
- * Unit tests for {@link MobInstance#scheduleRespawn(TimeOfDay)} and
- * {@link MobInstance#tickRespawn()}, verifying that the day or night respawn delay from
- * {@link MobTemplate} is honored depending on the current {@link TimeOfDay}.
+ * Unit tests for {@link MobInstance#scheduleRespawn(TimeOfDay)} and the respawn wheel in
+ * {@link MobRoomIndex}, verifying that the day or night respawn delay from {@link MobTemplate} is
+ * honored depending on the current {@link TimeOfDay} and that a mob comes due on exactly the tick its
+ * old per-tick countdown reached zero.
  */
 class MobInstanceRespawnTest {
 
@@ -39,24 +41,33 @@ class MobInstanceRespawnTest {
         );
     }
 
+    private static MobInstance killIn(MobRoomIndex index, MobTemplate template) {
+        MobInstance mob = new MobInstance(template);
+        index.add(mob);
+        mob.takeDamage(Integer.MAX_VALUE);
+        return mob;
+    }
+
     @Test
     void respawnsAfterDayRespawnTicksWhenScheduledDuringDay() {
-        MobInstance mob = new MobInstance(templateWithNightRespawn(5, 2));
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = killIn(index, templateWithNightRespawn(5, 2));
         mob.scheduleRespawn(TimeOfDay.DAY);
 
         for (int i = 0; i < 4; i++) {
-            assertFalse(mob.tickRespawn(), "Should not be ready to respawn before day's respawn ticks elapse");
+            assertTrue(index.advanceRespawns().isEmpty(), "Should not be ready to respawn before day's respawn ticks elapse");
         }
-        assertTrue(mob.tickRespawn(), "Should be ready to respawn once day's respawn ticks elapse");
+        assertEquals(List.of(mob), index.advanceRespawns(), "Should be ready to respawn once day's respawn ticks elapse");
     }
 
     @Test
     void respawnsAfterNightRespawnTicksWhenScheduledDuringNight() {
-        MobInstance mob = new MobInstance(templateWithNightRespawn(5, 2));
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = killIn(index, templateWithNightRespawn(5, 2));
         mob.scheduleRespawn(TimeOfDay.NIGHT);
 
-        assertFalse(mob.tickRespawn(), "Should not be ready to respawn before night's shorter respawn ticks elapse");
-        assertTrue(mob.tickRespawn(), "Should be ready to respawn once night's respawn ticks elapse");
+        assertTrue(index.advanceRespawns().isEmpty(), "Should not be ready to respawn before night's shorter respawn ticks elapse");
+        assertEquals(List.of(mob), index.advanceRespawns(), "Should be ready to respawn once night's respawn ticks elapse");
     }
 
     @Test
@@ -64,11 +75,46 @@ class MobInstanceRespawnTest {
         MobTemplate template = new MobTemplate(
             MobId.of("mob.rat"), "Rat", 20, null, null, false,
             List.of(), SPAWN_ROOM, 1, 3, 5, null, List.of(), false);
-        MobInstance mob = new MobInstance(template);
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = killIn(index, template);
         mob.scheduleRespawn(TimeOfDay.NIGHT);
 
-        assertFalse(mob.tickRespawn());
-        assertFalse(mob.tickRespawn());
-        assertTrue(mob.tickRespawn());
+        assertTrue(index.advanceRespawns().isEmpty());
+        assertTrue(index.advanceRespawns().isEmpty());
+        assertEquals(List.of(mob), index.advanceRespawns());
+    }
+
+    @Test
+    void deadMobWithoutScheduleIsDueOnTheNextTick() {
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = killIn(index, templateWithNightRespawn(5, 2));
+
+        assertEquals(List.of(mob), index.advanceRespawns());
+    }
+
+    @Test
+    void revivingOrRemovingAMobCancelsItsTimer() {
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance revived = killIn(index, templateWithNightRespawn(2, 2));
+        MobInstance removed = killIn(index, templateWithNightRespawn(2, 2));
+        revived.scheduleRespawn(TimeOfDay.DAY);
+        removed.scheduleRespawn(TimeOfDay.DAY);
+
+        revived.respawn();
+        index.remove(removed);
+
+        assertTrue(index.advanceRespawns().isEmpty());
+        assertTrue(index.advanceRespawns().isEmpty());
+    }
+
+    @Test
+    void parkedRespawnsAreReleasedOnlyForTheirSpawnRooms() {
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = killIn(index, templateWithNightRespawn(1, 1));
+        index.parkRespawn(index.advanceRespawns().getFirst());
+
+        assertTrue(index.takeParkedRespawns(Set.of(RoomId.of("elsewhere"))).isEmpty());
+        assertEquals(List.of(mob), index.takeParkedRespawns(Set.of(SPAWN_ROOM)));
+        assertTrue(index.takeParkedRespawns(Set.of(SPAWN_ROOM)).isEmpty());
     }
 }
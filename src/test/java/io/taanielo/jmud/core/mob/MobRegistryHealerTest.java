@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -22,6 +23,7 @@ import io.taanielo.jmud.core.combat.AttackDefinition;
 import io.taanielo.jmud.core.combat.AttackId;
 import io.taanielo.jmud.core.combat.CombatRandom;
 import io.taanielo.jmud.core.combat.repository.AttackRepository;
+import io.taanielo.jmud.core.persistence.PersistenceQueue;
 import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.player.PlayerRepository;
 import io.taanielo.jmud.core.world.Direction;
@@ -136,6 +138,7 @@ class MobRegistryHealerTest {
     private static final class Harness {
         private final MobRegistry registry;
         private final StubPlayerRepository playerRepo;
+        private final PersistenceQueue persistenceQueue;
         private final List<GameMessage> published = new ArrayList<>();
         private final Username playerName;
         private final int startingPlayerHp;
@@ -156,9 +159,10 @@ class MobRegistryHealerTest {
             this.playerRepo = new StubPlayerRepository(player);
             PlayerEventBus bus = new PlayerEventBus();
             bus.register(playerName, result -> published.addAll(result.messages()));
+            this.persistenceQueue = MobRegistryTestSupport.persistenceQueueFor(playerRepo);
             this.registry = new MobRegistry(
                 templateRepo, new StubItemRepository(), attackRepo, roomService, playerRepo,
-                MobRegistryTestSupport.persistenceQueueFor(playerRepo), bus, new FixedRandom(12));
+                persistenceQueue, bus, new FixedRandom(12));
             registry.init();
         }
 
@@ -186,6 +190,8 @@ class MobRegistryHealerTest {
         }
 
         int playerHp() {
+            // Damage reaches the repository through the write-behind queue; wait for it to land.
+            assertTrue(persistenceQueue.flush(Duration.ofSeconds(5)), "pending saves should drain");
             return playerRepo.loadPlayer(playerName).orElseThrow().getVitals().hp();
         }
 
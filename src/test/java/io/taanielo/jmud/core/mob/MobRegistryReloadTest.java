@@ -17,7 +17,7 @@ import io.taanielo.jmud.core.world.repository.InMemoryRoomRepository;
 /**
  * Verifies {@link MobRegistry#prepareMobs()} reads templates off the tick thread and that committing
  * the prepared reload swaps the registry's cached templates so newly added templates become
- * spawnable (issue #349).
+ * spawnable (issue #349), and that {@link MobRegistry#templates()} follows the committed set.
  */
 class MobRegistryReloadTest {
 
@@ -66,4 +66,21 @@ class MobRegistryReloadTest {
         assertTrue(registry.spawnInstance(MobId.of("orc"), ROOM).isPresent(),
             "committed reload should make the new template spawnable");
     }
+
+    @Test
+    void templatesFollowInitAndCommittedReloads() throws Exception {
+        RoomService roomService = new RoomService(new InMemoryRoomRepository(), ROOM);
+        List<MobTemplate> templates = new ArrayList<>();
+        templates.add(template("goblin", ROOM));
+        MobRegistry registry = MobRegistryTestFactory.create(roomService, templates);
+        assertEquals(List.of(template("goblin", ROOM)), registry.templates());
+
+        templates.add(template("orc", ROOM));
+        PreparedReload prepared = registry.prepareMobs();
+        assertEquals(1, registry.templates().size(), "prepare must not change the live templates");
+
+        prepared.commit();
+
+        assertEquals(List.copyOf(templates), registry.templates());
+    }
 }
@@ -0,0 +1,142 @@
+package io.taanielo.jmud.core.mob;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.effects.ControlType;
+import io.taanielo.jmud.core.world.Room;
+import io.taanielo.jmud.core.world.RoomId;
+import io.taanielo.jmud.core.world.RoomService;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+import io.taanielo.jmud.core.world.repository.RoomRepository;
+
+/**
+ * Unit tests for the room-keyed {@link MobRoomIndex} behind {@link MobRegistry#getMobsInRoom}: live/dead
+ * partitions, the active set, and that the index never drifts from the instances' own positions.
+ */
+class MobRoomIndexTest {
+
+    private static final RoomId SPAWN_ROOM = RoomId.of("spawn");
+    private static final RoomId OTHER_ROOM = RoomId.of("other");
+    private static final Username ALICE = Username.of("alice");
+
+    private MobTemplate goblin(int maxCount) {
+        return new MobTemplate(
+            MobId.of("goblin"), "Goblin", 20, null, null, false, List.of(),
+            SPAWN_ROOM, maxCount, 10, 5, null, List.of(), false);
+    }
+
+    private MobRegistry registry(int mobCount) {
+        Room spawn = new Room(SPAWN_ROOM, "Spawn", "A room.", Map.of(), List.of(), List.of());
+        Room other = new Room(OTHER_ROOM, "Other", "A room.", Map.of(), List.of(), List.of());
+        RoomRepository repo = new StubRoomRepository(Map.of(SPAWN_ROOM, spawn, OTHER_ROOM, other));
+        return MobRegistryTestFactory.create(new RoomService(repo, SPAWN_ROOM), List.of(goblin(mobCount)));
+    }
+
+    @Test
+    void movedMobIsListedOnlyInItsNewRoom() {
+        MobRegistry registry = registry(1);
+        MobInstance mob = registry.getMobsInRoom(SPAWN_ROOM).getFirst();
+
+        mob.moveTo(OTHER_ROOM);
+
+        assertEquals(List.of(), registry.getMobsInRoom(SPAWN_ROOM));
+        assertEquals(List.of(mob), registry.getMobsInRoom(OTHER_ROOM));
+    }
+
+    @Test
+    void deadMobLeavesItsRoomAndReturnsToSpawnOnRespawn() {
+        MobRegistry registry = registry(1);
+        MobInstance mob = registry.getMobsInRoom(SPAWN_ROOM).getFirst();
+        mob.moveTo(OTHER_ROOM);
+
+        mob.takeDamage(mob.currentHp());
+
+        assertEquals(List.of(), registry.getMobsInRoom(OTHER_ROOM));
+
+        mob.respawn();
+
+        assertEquals(List.of(mob), registry.getMobsInRoom(SPAWN_ROOM));
+        assertEquals(List.of(), registry.getMobsInRoom(OTHER_ROOM));
+    }
+
+    @Test
+    void activeSetDropsMobsOnceTheyGoIdle() {
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = new MobInstance(goblin(1));
+        index.add(mob);
+        assertEquals(List.of(), index.activeMobs());
+
+        mob.engage(ALICE);
+        assertEquals(List.of(mob), index.activeMobs());
+
+        mob.disengage(ALICE);
+        mob.applyControl(ControlType.ROOT, 2);
+        assertEquals(List.of(mob), index.activeMobs(), "a crowd-controlled mob still counts down");
+
+        mob.tickControl();
+        mob.tickControl();
+        assertEquals(List.of(), index.activeMobs());
+    }
+
+    @Test
+    void removedMobIsNoLongerTracked() {
+        MobRoomIndex index = new MobRoomIndex();
+        MobInstance mob = new MobInstance(goblin(1));
+        index.add(mob);
+
+        index.remove(mob);
+        mob.moveTo(OTHER_ROOM);
+        mob.engage(ALICE);
+
+        assertTrue(index.liveIn(SPAWN_ROOM).isEmpty());
+        assertTrue(index.liveIn(OTHER_ROOM).isEmpty());
+        assertTrue(index.activeMobs().isEmpty());
+    }
+
+    @Test
+    void indexNeverDriftsFromMobPositions() {
+        MobRegistry registry = registry(6);
+        List<MobInstance> mobs = List.copyOf(registry.allInstances());
+        List<RoomId> rooms = List.of(SPAWN_ROOM, OTHER_ROOM);
+        Random random = new Random(7);
+
+        for (int step = 0; step < 1_000; step++) {
+            MobInstance mob = mobs.get(random.nextInt(mobs.size()));
+            switch (random.nextInt(4)) {
+                case 0 -> mob.moveTo(rooms.get(random.nextInt(rooms.size())));
+                case 1 -> mob.takeDamage(random.nextInt(mob.maxHp() + 1));
+                case 2 -> mob.heal(random.nextInt(5));
+                default -> mob.respawn();
+            }
+            for (RoomId room : rooms) {
+                Set<MobInstance> expected = new HashSet<>();
+                for (MobInstance candidate : mobs) {
+                    if (candidate.isAlive() && candidate.roomId().equals(room)) {
+                        expected.add(candidate);
+                    }
+                }
+                assertEquals(expected, new HashSet<>(registry.getMobsInRoom(room)),
+                    "live mobs indexed under " + room.getValue() + " after step " + step);
+            }
+        }
+    }
+
+    private record StubRoomRepository(Map<RoomId, Room> rooms) implements RoomRepository {
+        @Override public void save(Room room) throws RepositoryException {}
+
+        @Override public Optional<Room> findById(RoomId id) throws RepositoryException {
+            return Optional.ofNullable(rooms.get(id));
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
@@ -30,7 +31,7 @@ import io.taanielo.jmud.core.world.repository.RepositoryException;
 /**
  * Verifies the write-behind behaviour of {@link PersistenceQueue}: coalescing of
  * bursty saves, synchronous draining via {@link PersistenceQueue#flush}, and the
- * retry-then-count-failure path (AGENTS.md §5, §10).
+ * retry-then-count-failure path, lane striping and per-batch syncs (AGENTS.md §5, §10).
  */
 class PersistenceQueueTest {
 
@@ -192,6 +193,173 @@ class PersistenceQueueTest {
         assertTrue(Set.of(2, 3).contains(saved.size()), "expected 2-3 writes, got " + saved.size());
     }
 
+    @Test
+    void saveListenerSeesEachSnapshotOnTheEnqueuingThread() {
+        PlayerRepository repository = new PlayerRepository() {
+            @Override
+            public void savePlayer(Player player) {
+            }
+
+            @Override
+            public Optional<Player> loadPlayer(Username username) {
+                return Optional.empty();
+            }
+        };
+        queue = new PersistenceQueue(repository, noOpAuditService());
+        List<Player> seen = new CopyOnWriteArrayList<>();
+        queue.addSaveListener(seen::add);
+
+        queue.enqueueSave(playerWithGold(7));
+        queue.enqueueSave(playerWithGold(9));
+
+        assertEquals(List.of(7, 9), seen.stream().map(Player::getGold).toList());
+    }
+
+    @Test
+    void failingSaveListenerDoesNotStopTheOthers() {
+        PlayerRepository repository = new PlayerRepository() {
+            @Override
+            public void savePlayer(Player player) {
+            }
+
+            @Override
+            public Optional<Player> loadPlayer(Username username) {
+                return Optional.empty();
+            }
+        };
+        queue = new PersistenceQueue(repository, noOpAuditService());
+        List<Player> seen = new CopyOnWriteArrayList<>();
+        queue.addSaveListener(player -> {
+            throw new IllegalStateException("boom");
+        });
+        queue.addSaveListener(seen::add);
+
+        queue.enqueueSave(playerWithGold(5));
+
+        assertEquals(1, seen.size());
+    }
+
+    @Test
+    void pendingSnapshotCoversQueuedAndInFlightSavesUntilWritten() throws InterruptedException {
+        CountDownLatch saveStarted = new CountDownLatch(1);
+        CountDownLatch releaseSave = new CountDownLatch(1);
+        PlayerRepository repository = new PlayerRepository() {
+            @Override
+            public void savePlayer(Player player) {
+                saveStarted.countDown();
+                await(releaseSave);
+            }
+
+            @Override
+            public Optional<Player> loadPlayer(Username username) {
+                return Optional.empty();
+            }
+        };
+        queue = new PersistenceQueue(repository, noOpAuditService());
+        Username sparky = Username.of("sparky");
+
+        queue.enqueueSave(playerWithGold(11));
+        assertEquals(11, queue.pendingSnapshot(sparky).orElseThrow().getGold());
+        assertTrue(saveStarted.await(5, TimeUnit.SECONDS));
+        assertEquals(11, queue.pendingSnapshot(sparky).orElseThrow().getGold(),
+            "a snapshot being written is not on disk yet");
+
+        releaseSave.countDown();
+        assertTrue(queue.flush(Duration.ofSeconds(5)));
+        assertTrue(queue.pendingSnapshot(sparky).isEmpty());
+    }
+
+    @Test
+    void slowSaveStallsOnlyItsOwnLane() throws InterruptedException {
+        Username slow = usernameInLane(0, 2);
+        Username fast = usernameInLane(1, 2);
+        CountDownLatch slowSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseSlowSave = new CountDownLatch(1);
+        CountDownLatch fastSaved = new CountDownLatch(1);
+        PlayerRepository repository = new PlayerRepository() {
+            @Override
+            public void savePlayer(Player player) {
+                if (player.getUsername().equals(slow)) {
+                    slowSaveStarted.countDown();
+                    await(releaseSlowSave);
+                } else {
+                    fastSaved.countDown();
+                }
+            }
+
+            @Override
+            public Optional<Player> loadPlayer(Username username) {
+                return Optional.empty();
+            }
+        };
+        queue = new PersistenceQueue(repository, noOpAuditService(), new SimpleMeterRegistry(), 2, 64);
+
+        queue.enqueueSave(player(slow));
+        assertTrue(slowSaveStarted.await(2, TimeUnit.SECONDS));
+        queue.enqueueSave(player(fast));
+
+        assertTrue(fastSaved.await(2, TimeUnit.SECONDS), "a player on another lane must not wait for the slow save");
+        releaseSlowSave.countDown();
+        assertTrue(queue.flush(Duration.ofSeconds(5)));
+    }
+
+    @Test
+    void syncsOncePerBatchAndRecordsSaveTimers() throws InterruptedException {
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirstSave = new CountDownLatch(1);
+        AtomicInteger saves = new AtomicInteger();
+        AtomicInteger syncs = new AtomicInteger();
+        PlayerRepository repository = new PlayerRepository() {
+            @Override
+            public void savePlayer(Player player) {
+                if (saves.incrementAndGet() == 1) {
+                    firstSaveStarted.countDown();
+                    await(releaseFirstSave);
+                }
+            }
+
+            @Override
+            public void sync() {
+                syncs.incrementAndGet();
+            }
+
+            @Override
+            public Optional<Player> loadPlayer(Username username) {
+                return Optional.empty();
+            }
+        };
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        queue = new PersistenceQueue(repository, noOpAuditService(), registry, 1, 64);
+
+        queue.enqueueSave(player(Username.of("first")));
+        assertTrue(firstSaveStarted.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            queue.enqueueSave(player(Username.of("waiting" + i)));
+        }
+        releaseFirstSave.countDown();
+
+        assertTrue(queue.flush(Duration.ofSeconds(5)));
+        assertEquals(6, saves.get());
+        assertEquals(2, syncs.get(), "the five players queued behind the first are one batch");
+        assertEquals(6, registry.get("jmud.persistence.save.latency").timer().count());
+        assertEquals(6, registry.get("jmud.persistence.queue.age").timer().count());
+    }
+
+    private static Player player(Username username) {
+        PlayerVitals vitals = new PlayerVitals(20, 20, 10, 10, 10, 10);
+        User user = User.of(username, Password.hash("pw", 1000));
+        return new Player(user, 1, 0, vitals, List.of(), "prompt", false, List.of(), null, null);
+    }
+
+    private static Username usernameInLane(int lane, int lanes) {
+        for (int i = 0; ; i++) {
+            Username username = Username.of("player" + i);
+            if (Math.floorMod(username.hashCode(), lanes) == lane) {
+                return username;
+            }
+        }
+    }
+
     private static void await(CountDownLatch latch) {
         try {
             latch.await();
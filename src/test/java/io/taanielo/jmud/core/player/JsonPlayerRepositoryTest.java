@@ -924,7 +924,35 @@ class JsonPlayerRepositoryTest {
     }
 
     @Test
-    void findAllReturnsEmptyListWhenNoPlayersDirectoryExists() {
+    void findAllReportsACorruptPlayerFileInsteadOfSkippingIt() throws Exception {
+        JsonPlayerRepository repository = new JsonPlayerRepository(tempDir);
+        for (int i = 0; i < 40; i++) {
+            repository.savePlayer(Player.of(User.of(Username.of("player" + i), Password.hash("pw", 1)), "%hp> "));
+        }
+        Path corrupt = tempDir.resolve("players").resolve("player7.json");
+        Files.writeString(corrupt, "{\"user\": {\"username\": ");
+
+        RepositoryException failure = assertThrows(RepositoryException.class, repository::findAll);
+
+        assertTrue(failure.getMessage().contains(corrupt.toString()), failure.getMessage());
+    }
+
+    @Test
+    void findAllReadableSkipsACorruptPlayerFile() throws Exception {
+        JsonPlayerRepository repository = new JsonPlayerRepository(tempDir);
+        for (int i = 0; i < 40; i++) {
+            repository.savePlayer(Player.of(User.of(Username.of("player" + i), Password.hash("pw", 1)), "%hp> "));
+        }
+        Files.writeString(tempDir.resolve("players").resolve("player7.json"), "{\"user\": {\"username\": ");
+
+        List<Player> players = repository.findAllReadable();
+
+        assertEquals(39, players.size());
+        assertTrue(players.stream().noneMatch(p -> p.getUsername().equals(Username.of("player7"))));
+    }
+
+    @Test
+    void findAllReturnsEmptyListWhenNoPlayersDirectoryExists() throws Exception {
         JsonPlayerRepository repository = new JsonPlayerRepository(tempDir.resolve("unused-root"));
         assertEquals(List.of(), repository.findAll());
     }
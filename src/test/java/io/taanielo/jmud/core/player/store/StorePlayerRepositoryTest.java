@@ -0,0 +1,296 @@
+package io.taanielo.jmud.core.player.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.authentication.Password;
+import io.taanielo.jmud.core.authentication.User;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.character.RaceId;
+import io.taanielo.jmud.core.player.JsonPlayerRepository;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerVitals;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+class StorePlayerRepositoryTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void savesAndLoadsPlayer() throws Exception {
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 7));
+
+            Player loaded = repository.loadPlayer(Username.of("sparky")).orElseThrow();
+            assertEquals("sparky", loaded.getUsername().getValue());
+            assertEquals(7, loaded.getLevel());
+            assertTrue(repository.loadPlayer(Username.of("nobody")).isEmpty());
+        }
+    }
+
+    @Test
+    void loadsCaseInsensitivelyLikeUsername() throws Exception {
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("Sparky", 2));
+
+            assertEquals("Sparky", repository.loadPlayer(Username.of("sparky")).orElseThrow().getUsername().getValue());
+        }
+    }
+
+    @Test
+    void newestSaveWinsAndSurvivesReopen() throws Exception {
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 1));
+            repository.savePlayer(player("sparky", 2));
+            repository.savePlayer(player("bolt", 5));
+        }
+
+        try (StorePlayerRepository reopened = open()) {
+            assertEquals(2, reopened.loadPlayer(Username.of("sparky")).orElseThrow().getLevel());
+            assertEquals(2, reopened.findAll().size());
+        }
+    }
+
+    @Test
+    void deleteWritesTombstoneThatSurvivesReopen() throws Exception {
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 1));
+            repository.savePlayer(player("bolt", 1));
+
+            assertTrue(repository.deletePlayer(Username.of("sparky")));
+            assertFalse(repository.deletePlayer(Username.of("sparky")));
+            assertTrue(repository.loadPlayer(Username.of("sparky")).isEmpty());
+        }
+
+        try (StorePlayerRepository reopened = open()) {
+            assertTrue(reopened.loadPlayer(Username.of("sparky")).isEmpty());
+            assertTrue(reopened.loadPlayer(Username.of("bolt")).isPresent());
+            assertEquals(1, reopened.findAll().size());
+        }
+    }
+
+    @Test
+    void truncatesTornTailOnOpen() throws Exception {
+        Path path = storePath();
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 1));
+            repository.savePlayer(player("bolt", 3));
+        }
+        long intact = Files.size(path);
+        // Simulate a crash part-way through a third append: a header promising more bytes than exist.
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0, 0, 1, 0, 7, 7, 7}));
+        }
+
+        try (StorePlayerRepository reopened = open()) {
+            assertEquals(2, reopened.findAll().size());
+            reopened.savePlayer(player("zap", 4));
+        }
+        assertTrue(Files.size(path) > intact);
+
+        try (StorePlayerRepository reopened = open()) {
+            assertEquals(3, reopened.findAll().size());
+            assertEquals(4, reopened.loadPlayer(Username.of("zap")).orElseThrow().getLevel());
+        }
+    }
+
+    @Test
+    void truncatesTornTailShorterThanALengthField() throws Exception {
+        Path path = storePath();
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 1));
+        }
+        long intact = Files.size(path);
+
+        for (int tail = 1; tail <= 3; tail++) {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap(new byte[tail]).put(0, (byte) 7));
+            }
+
+            try (StorePlayerRepository reopened = open()) {
+                assertEquals(1, reopened.findAll().size(), tail + "-byte tail");
+            }
+            assertEquals(intact, Files.size(path), tail + "-byte tail");
+        }
+    }
+
+    @Test
+    void skipsACorruptRecordMidFileToTheNextPage() throws Exception {
+        Path path = storePath();
+        try (StorePlayerRepository repository = open()) {
+            for (int i = 0; i < 40; i++) {
+                repository.savePlayer(player("player" + i, i + 1));
+            }
+        }
+        List<PlayerStoreFile.Entry> entries;
+        try (PlayerStoreFile file = PlayerStoreFile.open(path)) {
+            entries = file.entriesInFileOrder();
+        }
+        PlayerStoreFile.Entry damaged = entries.get(0);
+        assertTrue(entries.get(entries.size() - 1).offset() >= PlayerStoreFile.PAGE_SIZE, "records span pages");
+        long size = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), damaged.offset() + damaged.length() - 2);
+        }
+
+        try (StorePlayerRepository reopened = open()) {
+            assertTrue(reopened.loadPlayer(Username.of(damaged.username())).isEmpty());
+            for (PlayerStoreFile.Entry entry : entries) {
+                if (entry.offset() >= PlayerStoreFile.PAGE_SIZE) {
+                    int level = Integer.parseInt(entry.username().substring("player".length())) + 1;
+                    assertEquals(level, reopened.loadPlayer(Username.of(entry.username())).orElseThrow().getLevel(),
+                        entry.username() + " is on a later page");
+                }
+            }
+        }
+        assertEquals(size, Files.size(path), "only the tail is ever truncated");
+    }
+
+    @Test
+    void discardsRecordsFailingTheirChecksum() throws Exception {
+        Path path = storePath();
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 1));
+        }
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("bolt", 3));
+        }
+        long corruptedSize = Files.size(path);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {'X'}), Files.size(path) - 2);
+        }
+
+        try (StorePlayerRepository reopened = open()) {
+            assertTrue(reopened.loadPlayer(Username.of("bolt")).isEmpty());
+            assertTrue(reopened.loadPlayer(Username.of("sparky")).isPresent());
+        }
+        assertTrue(Files.size(path) < corruptedSize);
+    }
+
+    @Test
+    void compactionDropsSupersededRecordsAndSurvivesReopen() throws Exception {
+        Path path = storePath();
+        try (StorePlayerRepository repository = open()) {
+            for (int level = 1; level <= 20; level++) {
+                repository.savePlayer(player("sparky", level));
+            }
+            repository.savePlayer(player("bolt", 3));
+            repository.deletePlayer(Username.of("bolt"));
+            long before = Files.size(path);
+
+            repository.compact();
+
+            assertTrue(Files.size(path) < before);
+            assertEquals(20, repository.loadPlayer(Username.of("sparky")).orElseThrow().getLevel());
+            repository.savePlayer(player("zap", 2));
+        }
+        assertFalse(Files.exists(path.resolveSibling("players.store.compact")));
+
+        try (StorePlayerRepository reopened = open()) {
+            assertEquals(2, reopened.findAll().size());
+            assertEquals(20, reopened.loadPlayer(Username.of("sparky")).orElseThrow().getLevel());
+            assertTrue(reopened.loadPlayer(Username.of("bolt")).isEmpty());
+        }
+    }
+
+    @Test
+    void failedCompactionDoesNotFailTheSave() throws Exception {
+        Path path = storePath();
+        try (StorePlayerRepository repository = open()) {
+            // A non-empty directory where compaction writes its new file makes every attempt fail.
+            Path blocker = Files.createDirectory(path.resolveSibling("players.store.compact"));
+            Files.writeString(blocker.resolve("keep"), "x");
+            int saves = 0;
+            while (Files.size(path) < 2 * StorePlayerRepository.COMPACT_MIN_DEAD_BYTES + (1 << 16)) {
+                repository.savePlayer(player("sparky", 1 + saves++ % 50));
+            }
+            long uncompacted = Files.size(path);
+
+            Files.delete(blocker.resolve("keep"));
+            Files.delete(blocker);
+            repository.savePlayer(player("sparky", 7));
+
+            assertTrue(Files.size(path) < uncompacted, "the next save compacts once it can");
+            assertEquals(7, repository.loadPlayer(Username.of("sparky")).orElseThrow().getLevel());
+        }
+    }
+
+    @Test
+    void ignoresLeftoverCompactionFile() throws Exception {
+        try (StorePlayerRepository repository = open()) {
+            repository.savePlayer(player("sparky", 1));
+        }
+        Path leftover = storePath().resolveSibling("players.store.compact");
+        Files.writeString(leftover, "half-written");
+
+        try (StorePlayerRepository reopened = open()) {
+            assertTrue(reopened.loadPlayer(Username.of("sparky")).isPresent());
+        }
+        assertFalse(Files.exists(leftover));
+    }
+
+    @Test
+    void keepsRecordsWithinPages() throws Exception {
+        try (StorePlayerRepository repository = open()) {
+            for (int i = 0; i < 40; i++) {
+                repository.savePlayer(player("player" + i, i + 1));
+            }
+        }
+        try (PlayerStoreFile file = PlayerStoreFile.open(storePath())) {
+            for (PlayerStoreFile.Entry entry : file.entries()) {
+                long startPage = entry.offset() / PlayerStoreFile.PAGE_SIZE;
+                long endPage = (entry.offset() + entry.length() - 1) / PlayerStoreFile.PAGE_SIZE;
+                assertEquals(startPage, endPage, entry.username() + " straddles a page boundary");
+            }
+        }
+    }
+
+    @Test
+    void rejectsFileThatIsNotAStore() throws Exception {
+        Files.writeString(storePath(), "{\"not\": \"a store\"}");
+
+        assertThrows(RepositoryException.class, this::open);
+    }
+
+    @Test
+    void migratesJsonPlayersIntoStore() throws Exception {
+        JsonPlayerRepository json = new JsonPlayerRepository(tempDir);
+        json.savePlayer(player("sparky", 4));
+        json.savePlayer(player("bolt", 6));
+
+        try (StorePlayerRepository store = open()) {
+            assertEquals(2, PlayerStoreMigration.migrate(json, store));
+            assertEquals(2, PlayerStoreMigration.migrate(json, store));
+
+            assertEquals(4, store.loadPlayer(Username.of("sparky")).orElseThrow().getLevel());
+            assertEquals(2, store.findAll().size());
+        }
+    }
+
+    private StorePlayerRepository open() throws RepositoryException {
+        return new StorePlayerRepository(storePath(), false);
+    }
+
+    private Path storePath() {
+        return tempDir.resolve("players.store");
+    }
+
+    private static Player player(String name, int level) {
+        User user = User.of(Username.of(name), Password.hash("qwerty", 1000));
+        return new Player(user, level, 0, new PlayerVitals(20, 20, 10, 10, 10, 10), List.of(), "%hp> ", false,
+            List.of(), (RaceId) null, null);
+    }
+}
@@ -136,4 +136,16 @@ class PromptRendererTest {
         assertFalse(colored.indexOf(ESC) >= 0, "uncolored prompt should contain no ANSI escapes");
         assertEquals("[30/100hp 12/40mn]", colored);
     }
+
+    @Test
+    void render_restingPrefixesRestMarker() {
+        Player player = statsPlayer().withResting(true);
+
+        assertEquals("[REST] 30/100hp", renderer.render("%h/%Hhp", player));
+    }
+
+    @Test
+    void render_substitutedValuesAreNotRescannedForTokens() {
+        assertEquals("Bob 80%h 30", renderer.render("{partyHp}h %h", statsPlayer(), "Bob 80%"));
+    }
 }
@@ -46,6 +46,41 @@ class ContentReloadServiceTest {
         assertEquals(List.of("items", "rooms", "mobs"), committed);
     }
 
+    @Test
+    void commitsDefinitionSetsAfterMobsAndReportsTheirCounts() throws Exception {
+        List<String> committed = new ArrayList<>();
+        ContentReloadService service = new ContentReloadService(
+            () -> new FakePreparedItems(2, committed),
+            lookup -> new FakePrepared("rooms", 3, committed),
+            () -> new FakePrepared("mobs", 4, committed),
+            id -> Optional.empty(),
+            List.of(
+                () -> new FakePrepared("effects", 5, committed),
+                () -> new FakePrepared("attacks", 1, committed)));
+
+        ReloadReport report = service.prepare().commit();
+
+        assertEquals(List.of("items", "rooms", "mobs", "effects", "attacks"), committed);
+        assertEquals("Reloaded 3 rooms, 2 items, 4 mobs, 5 effects, 1 attack.", report.summary());
+    }
+
+    @Test
+    void definitionPrepareErrorPropagatesAndAppliesNoCommit() {
+        List<String> committed = new ArrayList<>();
+        ContentReloadService service = new ContentReloadService(
+            () -> new FakePreparedItems(2, committed),
+            lookup -> new FakePrepared("rooms", 3, committed),
+            null,
+            id -> Optional.empty(),
+            List.of(() -> {
+                throw new RepositoryException("broken effect file");
+            }));
+
+        RepositoryException error = assertThrows(RepositoryException.class, service::prepare);
+        assertTrue(error.getMessage().contains("broken effect file"));
+        assertTrue(committed.isEmpty());
+    }
+
     @Test
     void combinedLookupPrefersPreparedItemsThenFallsBackToLive() throws Exception {
         Item preparedApple = item("apple");
@@ -104,6 +139,25 @@ class ContentReloadServiceTest {
         assertTrue(committed.isEmpty(), "no content may be committed when prepare fails");
     }
 
+    @Test
+    void prepareListenersRunBeforeAnyContentIsRead() throws Exception {
+        List<String> events = new ArrayList<>();
+        ContentReloadService service = new ContentReloadService(
+            () -> {
+                events.add("items read");
+                return new FakePreparedItems(0, new ArrayList<>());
+            },
+            lookup -> new FakePrepared("rooms", 0, new ArrayList<>()),
+            null,
+            id -> Optional.empty());
+        service.addPrepareListener(() -> events.add("source selected"));
+
+        service.prepare();
+        service.prepare();
+
+        assertEquals(List.of("source selected", "items read", "source selected", "items read"), events);
+    }
+
     @Test
     void itemPrepareErrorPropagates() {
         ContentReloadService service = new ContentReloadService(
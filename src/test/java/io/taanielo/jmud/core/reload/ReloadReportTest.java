@@ -3,6 +3,8 @@ package io.taanielo.jmud.core.reload;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 
 class ReloadReportTest {
@@ -27,5 +29,6 @@ class ReloadReportTest {
         assertThrows(IllegalArgumentException.class, () -> new ReloadReport(-1, 0, 0));
         assertThrows(IllegalArgumentException.class, () -> new ReloadReport(0, -1, 0));
         assertThrows(IllegalArgumentException.class, () -> new ReloadReport(0, 0, -1));
+        assertThrows(IllegalArgumentException.class, () -> new ReloadReport(0, 0, 0, Map.of("effects", -1)));
     }
 }
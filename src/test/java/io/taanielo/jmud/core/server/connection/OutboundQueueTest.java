@@ -0,0 +1,172 @@
+package io.taanielo.jmud.core.server.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class OutboundQueueTest {
+
+    @Test
+    void writesUnitsInOrderOnItsOwnThread() throws InterruptedException {
+        GatedStream stream = new GatedStream();
+        stream.open.countDown();
+        OutboundQueue queue = newQueue(1024, () -> { });
+        queue.attach(stream);
+
+        queue.enqueue(bytes("one\r\n"), false);
+        queue.enqueue(bytes("two\r\n"), true);
+        queue.enqueue(bytes("three\r\n"), false);
+
+        assertTrue(stream.awaitContent("one\r\ntwo\r\nthree\r\n"));
+    }
+
+    @Test
+    void enqueueReturnsWhileTheClientIsStalled() throws InterruptedException {
+        GatedStream stream = new GatedStream();
+        OutboundQueue queue = newQueue(1024, () -> { });
+        queue.attach(stream);
+
+        queue.enqueue(bytes("first\r\n"), false);
+        assertTrue(stream.writing.await(5, TimeUnit.SECONDS), "writer thread should be blocked in write()");
+        queue.enqueue(bytes("second\r\n"), false);
+
+        assertEquals(8, queue.pendingBytes());
+        stream.open.countDown();
+        assertTrue(stream.awaitContent("first\r\nsecond\r\n"));
+    }
+
+    @Test
+    void shedsOldestDiscardableUnitsBeforeDisconnecting() throws InterruptedException {
+        GatedStream stream = new GatedStream();
+        AtomicBoolean disconnected = new AtomicBoolean();
+        OutboundMetrics metrics = new OutboundMetrics(new SimpleMeterRegistry());
+        OutboundQueue queue = new OutboundQueue(
+            "test", new Object(), 20, Duration.ofSeconds(1), metrics, () -> disconnected.set(true));
+        queue.attach(stream);
+        queue.enqueue(bytes("x"), false);
+        assertTrue(stream.writing.await(5, TimeUnit.SECONDS));
+
+        queue.enqueue(bytes("drip drip\r\n"), true);
+        queue.enqueue(bytes("a howl\r\n"), true);
+        queue.enqueue(bytes("You hit.\r\n"), false);
+
+        assertFalse(disconnected.get(), "shedding ambient lines should be enough");
+        assertEquals(18, queue.pendingBytes(), "only the oldest ambient line is dropped");
+        assertEquals(11, metrics.droppedBytes());
+        stream.open.countDown();
+        assertTrue(stream.awaitContent("xa howl\r\nYou hit.\r\n"));
+    }
+
+    @Test
+    void disconnectsWhenGameOutputAloneExceedsTheHighWaterMark() throws InterruptedException {
+        GatedStream stream = new GatedStream();
+        AtomicBoolean disconnected = new AtomicBoolean();
+        OutboundMetrics metrics = new OutboundMetrics(new SimpleMeterRegistry());
+        OutboundQueue queue = new OutboundQueue(
+            "test", new Object(), 16, Duration.ofSeconds(1), metrics, () -> disconnected.set(true));
+        queue.attach(stream);
+        queue.enqueue(bytes("x"), false);
+        assertTrue(stream.writing.await(5, TimeUnit.SECONDS));
+
+        queue.enqueue(bytes("You hit.\r\n"), false);
+        queue.enqueue(bytes("You miss.\r\n"), false);
+
+        assertTrue(disconnected.get());
+        assertEquals(0, queue.pendingBytes());
+        assertEquals(1, metrics.slowConsumerDisconnects());
+        queue.enqueue(bytes("late\r\n"), false);
+        assertEquals(0, queue.pendingBytes(), "a disconnected queue accepts no more output");
+        stream.open.countDown();
+    }
+
+    @Test
+    void shutdownDrainsPendingOutputBeforeClosingTheTransport() throws InterruptedException {
+        GatedStream stream = new GatedStream();
+        CountDownLatch closed = new CountDownLatch(1);
+        OutboundQueue queue = newQueue(1024, () -> { });
+        queue.attach(stream);
+        queue.enqueue(bytes("Goodbye.\r\n"), false);
+        assertTrue(stream.writing.await(5, TimeUnit.SECONDS));
+
+        queue.shutdown(closed::countDown);
+        queue.enqueue(bytes("ignored\r\n"), false);
+        stream.open.countDown();
+
+        assertTrue(closed.await(5, TimeUnit.SECONDS));
+        assertEquals("Goodbye.\r\n", stream.content());
+    }
+
+    @Test
+    void shutdownBeforeAttachClosesImmediately() {
+        AtomicBoolean closed = new AtomicBoolean();
+        OutboundQueue queue = newQueue(1024, () -> { });
+
+        queue.shutdown(() -> closed.set(true));
+
+        assertTrue(closed.get());
+    }
+
+    private static OutboundQueue newQueue(long highWater, Runnable onSlowConsumer) {
+        return new OutboundQueue(
+            "test", new Object(), highWater, Duration.ofSeconds(5), OutboundMetrics.noOp(), onSlowConsumer);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Output stream whose writes block until {@link #open} is released, simulating a stalled client. */
+    private static final class GatedStream extends OutputStream {
+        private final CountDownLatch open = new CountDownLatch(1);
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+
+        @Override
+        public void write(int value) throws IOException {
+            write(new byte[] {(byte) value}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            writing.countDown();
+            try {
+                open.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted", e);
+            }
+            synchronized (captured) {
+                captured.write(bytes, offset, length);
+            }
+        }
+
+        private String content() {
+            synchronized (captured) {
+                return captured.toString(StandardCharsets.UTF_8);
+            }
+        }
+
+        private boolean awaitContent(String expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                if (content().equals(expected)) {
+                    return true;
+                }
+                Thread.sleep(5);
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package io.taanielo.jmud.core.server.connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+class TickOutputCoalescerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TickOutputCoalescer coalescer = new TickOutputCoalescer(meterRegistry);
+
+    @Test
+    void holdsTickOutputAndFlushesOnceWithASinglePrompt() throws InterruptedException {
+        CountingStream stream = new CountingStream();
+        OutboundQueue queue = newQueue();
+        queue.attach(stream);
+        Object session = new Object();
+        Runnable prompt = () -> queue.enqueue(bytes("> "), false);
+
+        coalescer.beforeTick();
+        queue.enqueue(bytes("A rat bites you.\r\n"), false);
+        assertTrue(coalescer.deferPrompt(session, prompt));
+        queue.enqueue(bytes("You hit the rat.\r\n"), false);
+        assertTrue(coalescer.deferPrompt(session, prompt));
+        queue.enqueue(bytes("The rat dies.\r\n"), false);
+        assertTrue(coalescer.deferPrompt(session, prompt));
+
+        Thread.sleep(50);
+        assertEquals("", stream.content(), "nothing reaches the wire while the tick runs");
+
+        coalescer.afterTick();
+
+        assertTrue(stream.awaitContent("A rat bites you.\r\nYou hit the rat.\r\nThe rat dies.\r\n> "));
+        assertEquals(1, stream.flushes());
+        assertEquals(1.0, meterRegistry.get("jmud.output.tick.flushes").counter().count());
+        assertEquals(2.0, meterRegistry.get("jmud.output.prompts.coalesced").counter().count());
+        assertEquals(1L, meterRegistry.get("jmud.output.tick.bytes").summary().count());
+        assertEquals(53.0, meterRegistry.get("jmud.output.tick.bytes").summary().totalAmount());
+    }
+
+    @Test
+    void writesImmediatelyOutsideATick() throws InterruptedException {
+        CountingStream stream = new CountingStream();
+        OutboundQueue queue = newQueue();
+        queue.attach(stream);
+
+        assertFalse(coalescer.deferPrompt(new Object(), () -> { }));
+        queue.enqueue(bytes("Welcome.\r\n"), false);
+
+        assertTrue(stream.awaitContent("Welcome.\r\n"));
+        assertEquals(0.0, meterRegistry.get("jmud.output.tick.flushes").counter().count());
+    }
+
+    @Test
+    void doesNotHoldOutputFromOtherThreadsDuringATick() throws InterruptedException {
+        CountingStream stream = new CountingStream();
+        OutboundQueue queue = newQueue();
+        queue.attach(stream);
+
+        coalescer.beforeTick();
+        Thread reader = Thread.ofVirtual().start(() -> queue.enqueue(bytes("Password: "), false));
+        reader.join();
+
+        assertTrue(stream.awaitContent("Password: "));
+        coalescer.afterTick();
+    }
+
+    private OutboundQueue newQueue() {
+        return new OutboundQueue(
+            "test", new Object(), 1024, Duration.ofSeconds(5), OutboundMetrics.noOp(), () -> { }, coalescer);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Output stream that records what was written and how many times it was flushed. */
+    private static final class CountingStream extends OutputStream {
+        private final ByteArrayOutputStream captured = new ByteArrayOutputStream();
+        private int flushes;
+
+        @Override
+        public synchronized void write(int value) {
+            captured.write(value);
+        }
+
+        @Override
+        public synchronized void write(byte[] bytes, int offset, int length) {
+            captured.write(bytes, offset, length);
+        }
+
+        @Override
+        public synchronized void flush() {
+            flushes++;
+        }
+
+        private synchronized String content() {
+            return captured.toString(StandardCharsets.UTF_8);
+        }
+
+        private synchronized int flushes() {
+            return flushes;
+        }
+
+        private boolean awaitContent(String expected) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                if (content().equals(expected) && flushes() > 0) {
+                    return true;
+                }
+                Thread.sleep(5);
+            }
+            return false;
+        }
+    }
+}
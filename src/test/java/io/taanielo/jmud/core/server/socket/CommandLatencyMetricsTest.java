@@ -0,0 +1,52 @@
+package io.taanielo.jmud.core.server.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.server.socket.CommandLatencyMetrics.CommandLatency;
+
+class CommandLatencyMetricsTest {
+
+    @Test
+    void exportsTimersTaggedByCommand() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        CommandLatencyMetrics metrics = new CommandLatencyMetrics(registry);
+
+        metrics.record("kill", TimeUnit.MILLISECONDS.toNanos(3), TimeUnit.MILLISECONDS.toNanos(7));
+        metrics.record(null, 0L, TimeUnit.MILLISECONDS.toNanos(1));
+
+        Timer wait = registry.find("jmud.command.queue.wait").tag("command", "kill").timer();
+        Timer execution = registry.find("jmud.command.execution").tag("command", "kill").timer();
+        assertNotNull(wait);
+        assertNotNull(execution);
+        assertEquals(1L, wait.count());
+        assertEquals(7.0, execution.totalTime(TimeUnit.MILLISECONDS), 0.001);
+        assertNotNull(registry.find("jmud.command.execution").tag("command", CommandLatencyMetrics.UNRESOLVED).timer());
+    }
+
+    @Test
+    void snapshotReportsPercentilesSlowestFirstWithoutAnExportRegistry() {
+        CommandLatencyMetrics metrics = new CommandLatencyMetrics();
+        for (int i = 0; i < 100; i++) {
+            metrics.record("look", TimeUnit.MILLISECONDS.toNanos(1), TimeUnit.MILLISECONDS.toNanos(2));
+            metrics.record("cast", TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(20));
+        }
+
+        List<CommandLatency> snapshot = metrics.snapshot();
+
+        assertEquals(List.of("cast", "look"), snapshot.stream().map(CommandLatency::command).toList());
+        // Percentiles are approximated from a histogram, so allow a few percent of error.
+        CommandLatency cast = snapshot.getFirst();
+        assertEquals(100L, cast.count());
+        assertTrue(cast.executionP99Nanos() >= TimeUnit.MILLISECONDS.toNanos(18), "p99 was " + cast.executionP99Nanos());
+        assertTrue(cast.queueWaitP50Nanos() >= TimeUnit.MILLISECONDS.toNanos(45), "p50 was " + cast.queueWaitP50Nanos());
+    }
+}
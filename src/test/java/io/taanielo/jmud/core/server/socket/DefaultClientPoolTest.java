@@ -5,11 +5,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import io.taanielo.jmud.core.authentication.Password;
+import io.taanielo.jmud.core.authentication.User;
+import io.taanielo.jmud.core.authentication.Username;
 import io.taanielo.jmud.core.messaging.Message;
+import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.server.Client;
 
 /**
@@ -112,6 +120,114 @@ class DefaultClientPoolTest {
         assertFalse(pool.allConnections().contains(client));
     }
 
+    @Test
+    void directoryResolvesInWorldClientsByUsername() {
+        DefaultClientPool pool = new DefaultClientPool();
+        Client alice = new PlayerClient("alice");
+        Client bob = new PlayerClient("bob");
+        pool.add(alice);
+        pool.add(bob);
+        pool.promoteToWorld(alice);
+
+        assertEquals(Optional.of(alice), pool.findInWorld(Username.of("alice")));
+        assertEquals(Optional.empty(), pool.findInWorld(Username.of("bob")),
+            "A connection that has not entered the world must not be resolvable");
+
+        pool.remove(alice);
+
+        assertEquals(Optional.empty(), pool.findInWorld(Username.of("alice")));
+    }
+
+    @Test
+    void reattachedClientKeepsTheDirectoryEntryWhenTheDroppedClientIsRemoved() {
+        DefaultClientPool pool = new DefaultClientPool();
+        Client dropped = new PlayerClient("alice");
+        Client reconnected = new PlayerClient("alice");
+        pool.add(dropped);
+        pool.promoteToWorld(dropped);
+        pool.add(reconnected);
+
+        pool.promoteToWorld(reconnected);
+        pool.remove(dropped);
+
+        assertEquals(Optional.of(reconnected), pool.findInWorld(Username.of("alice")));
+    }
+
+    @Test
+    void forEachInWorldVisitsEveryInWorldPlayer() {
+        DefaultClientPool pool = new DefaultClientPool();
+        Client alice = new PlayerClient("alice");
+        Client bob = new PlayerClient("bob");
+        Client carol = new PlayerClient("carol");
+        pool.add(alice);
+        pool.add(bob);
+        pool.add(carol);
+        pool.promoteToWorld(alice);
+        pool.promoteToWorld(bob);
+
+        Map<Username, Client> visited = new HashMap<>();
+        pool.forEachInWorld(visited::put);
+
+        assertEquals(Map.of(Username.of("alice"), alice, Username.of("bob"), bob), visited);
+    }
+
+    @Test
+    void forEachInWorldVisitsPlayersInPromotionOrder() {
+        DefaultClientPool pool = new DefaultClientPool();
+        List<Client> clients = List.of(
+            new PlayerClient("mallory"), new PlayerClient("alice"), new PlayerClient("zed"),
+            new PlayerClient("bob"), new PlayerClient("carol"));
+        clients.forEach(pool::add);
+        clients.forEach(pool::promoteToWorld);
+
+        List<Client> visited = new ArrayList<>();
+        pool.forEachInWorld((username, client) -> visited.add(client));
+
+        assertEquals(clients, visited);
+    }
+
+    @Test
+    void forEachInWorldSkipsADroppedClientSupersededByReattach() {
+        DefaultClientPool pool = new DefaultClientPool();
+        Client dropped = new PlayerClient("alice");
+        Client reconnected = new PlayerClient("alice");
+        pool.add(dropped);
+        pool.promoteToWorld(dropped);
+        pool.add(reconnected);
+        pool.promoteToWorld(reconnected);
+
+        List<Client> visited = new ArrayList<>();
+        pool.forEachInWorld((username, client) -> visited.add(client));
+
+        assertEquals(List.of(reconnected), visited);
+    }
+
+    /** Client authenticated as a fixed player. */
+    private static final class PlayerClient implements Client {
+        private final Player player;
+
+        private PlayerClient(String username) {
+            this.player = Player.of(User.of(Username.of(username), Password.hash("secret")), "> ");
+        }
+
+        @Override
+        public void sendMessage(Message message) {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public Optional<Player> currentPlayer() {
+            return Optional.of(player);
+        }
+
+        @Override
+        public void run() {
+        }
+    }
+
     /** Minimal client whose reader thread (started by {@code add}) exits immediately. */
     private static final class IdleClient implements Client {
         @Override
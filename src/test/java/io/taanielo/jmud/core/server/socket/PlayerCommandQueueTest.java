@@ -108,6 +108,20 @@ class PlayerCommandQueueTest {
         assertEquals(capacity, queue.size());
     }
 
+    @Test
+    void timedCommandReceivesItsQueueWait() throws InterruptedException {
+        PlayerCommandQueue queue = new PlayerCommandQueue();
+        List<Long> waits = new ArrayList<>();
+
+        assertTrue(queue.enqueue((long queueWaitNanos) -> waits.add(queueWaitNanos)));
+        Thread.sleep(5);
+        queue.tick();
+
+        assertEquals(1, waits.size());
+        assertTrue(waits.getFirst() >= TimeUnit.MILLISECONDS.toNanos(5),
+            "Queue wait must cover the time between enqueue and tick, was " + waits.getFirst() + "ns");
+    }
+
     @Test
     void rejectsInvalidBounds() {
         assertThrows(IllegalArgumentException.class, () -> new PlayerCommandQueue(0, 5));
@@ -0,0 +1,236 @@
+package io.taanielo.jmud.core.server.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.audit.AuditEntry;
+import io.taanielo.jmud.core.audit.AuditService;
+import io.taanielo.jmud.core.audit.AuditSink;
+import io.taanielo.jmud.core.authentication.Password;
+import io.taanielo.jmud.core.authentication.User;
+import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.persistence.PersistenceQueue;
+import io.taanielo.jmud.core.player.Player;
+import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.player.PlayerVitals;
+
+/**
+ * Unit tests for {@link PlayerDirectory}: misses load off the calling thread and arrive on the next
+ * tick, hits and absent players are served from memory, concurrent misses share one load, saves keep
+ * the cache current — including while the write-behind queue is writing them — and the cache stays
+ * within its capacity.
+ */
+class PlayerDirectoryTest {
+
+    private static final Username ALICE = Username.of("alice");
+    private static final Username BOB = Username.of("bob");
+
+    private final CountingRepository repository = new CountingRepository();
+    private final Queue<Runnable> loads = new ArrayDeque<>();
+    private final Queue<Runnable> nextTick = new ArrayDeque<>();
+    private final PersistenceQueue persistenceQueue = new PersistenceQueue(repository, noOpAuditService());
+
+    @AfterEach
+    void tearDown() {
+        repository.blockSaves = false;
+        persistenceQueue.close();
+    }
+
+    @Test
+    void missLoadsOffThreadAndDeliversOnTheNextTick() {
+        repository.store(player(ALICE, 12));
+        PlayerDirectory directory = directory(8);
+        List<Optional<Player>> results = new ArrayList<>();
+
+        directory.resolve(ALICE, results::add);
+
+        assertTrue(results.isEmpty(), "a miss must not be answered on the calling thread");
+        assertEquals(0, repository.loads.get(), "the repository is read on the load executor");
+        runLoads();
+        assertTrue(results.isEmpty(), "the result waits for the tick thread");
+        runTick();
+        assertEquals(12, results.get(0).orElseThrow().getGold());
+    }
+
+    @Test
+    void hitAndAbsentPlayerAreAnsweredFromMemory() {
+        repository.store(player(ALICE, 12));
+        PlayerDirectory directory = directory(8);
+        directory.prefetch(ALICE);
+        directory.prefetch(BOB);
+        runLoads();
+        runTick();
+        List<Optional<Player>> results = new ArrayList<>();
+
+        directory.resolve(ALICE, results::add);
+        directory.resolve(BOB, results::add);
+
+        assertEquals(2, results.size(), "both answers come back immediately");
+        assertTrue(results.get(0).isPresent());
+        assertTrue(results.get(1).isEmpty(), "an unknown name is cached as absent");
+        assertEquals(2, repository.loads.get());
+        assertTrue(loads.isEmpty());
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() {
+        repository.store(player(ALICE, 12));
+        PlayerDirectory directory = directory(8);
+        List<Optional<Player>> results = new ArrayList<>();
+
+        directory.resolve(ALICE, results::add);
+        directory.resolve(ALICE, results::add);
+        directory.prefetch(ALICE);
+
+        assertEquals(1, loads.size());
+        runLoads();
+        runTick();
+        assertEquals(2, results.size());
+        assertEquals(1, repository.loads.get());
+    }
+
+    @Test
+    void saveRecordedDuringALoadWinsOverTheLoadedCopy() {
+        repository.store(player(ALICE, 12));
+        PlayerDirectory directory = directory(8);
+        List<Optional<Player>> results = new ArrayList<>();
+        directory.resolve(ALICE, results::add);
+        runLoads();
+
+        directory.recordSave(player(ALICE, 30));
+        runTick();
+
+        assertEquals(30, results.get(0).orElseThrow().getGold());
+        assertEquals(30, directory.cached(ALICE).orElseThrow().getGold());
+    }
+
+    @Test
+    void unwrittenSnapshotTakesPrecedenceOverTheRepository() {
+        repository.store(player(ALICE, 12));
+        repository.blockSaves = true;
+        persistenceQueue.enqueueSave(player(ALICE, 50));
+        PlayerDirectory directory = directory(8);
+
+        assertEquals(50, directory.resolveNow(ALICE).orElseThrow().getGold());
+        assertEquals(0, repository.loads.get());
+    }
+
+    @Test
+    void readDuringAHeldOpenWriteSeesTheSnapshotBeingWritten() {
+        repository.store(player(ALICE, 12));
+        repository.blockSaves = true;
+        persistenceQueue.enqueueSave(player(ALICE, 50));
+        while (repository.savesStarted.get() == 0) {
+            Thread.onSpinWait();
+        }
+        PlayerDirectory directory = directory(8);
+        List<Optional<Player>> results = new ArrayList<>();
+
+        directory.resolve(ALICE, results::add);
+        runLoads();
+        runTick();
+
+        assertEquals(50, results.get(0).orElseThrow().getGold());
+        assertEquals(50, directory.cached(ALICE).orElseThrow().getGold(), "the stale copy must not be cached");
+        assertEquals(0, repository.loads.get());
+    }
+
+    @Test
+    void deletedPlayerIsForgotten() {
+        PlayerDirectory directory = directory(8);
+        directory.recordSave(player(ALICE, 12));
+
+        directory.recordDeletion(ALICE);
+
+        assertTrue(directory.cached(ALICE).isEmpty());
+        assertTrue(directory.resolveNow(ALICE).isEmpty());
+        assertEquals(0, repository.loads.get());
+    }
+
+    @Test
+    void leastRecentlyUsedPlayerIsEvictedPastCapacity() {
+        PlayerDirectory directory = directory(2);
+        Username carol = Username.of("carol");
+        directory.recordSave(player(ALICE, 1));
+        directory.recordSave(player(BOB, 2));
+        assertTrue(directory.cached(ALICE).isPresent());
+
+        directory.recordSave(player(carol, 3));
+
+        assertTrue(directory.cached(ALICE).isPresent());
+        assertTrue(directory.cached(carol).isPresent());
+        assertFalse(directory.cached(BOB).isPresent(), "bob was used least recently");
+    }
+
+    private PlayerDirectory directory(int capacity) {
+        return new PlayerDirectory(new PlayerSessionRegistry(), repository, persistenceQueue,
+            loads::add, nextTick::add, capacity);
+    }
+
+    private void runLoads() {
+        while (!loads.isEmpty()) {
+            loads.poll().run();
+        }
+    }
+
+    private void runTick() {
+        while (!nextTick.isEmpty()) {
+            nextTick.poll().run();
+        }
+    }
+
+    private static Player player(Username username, int gold) {
+        PlayerVitals vitals = new PlayerVitals(20, 20, 10, 10, 10, 10);
+        User user = User.of(username, Password.hash("pw", 1000));
+        return new Player(user, 1, 0, vitals, List.of(), "prompt", false, List.of(), null, null)
+            .withGold(gold);
+    }
+
+    private static AuditService noOpAuditService() {
+        AuditSink sink = new AuditSink() {
+            @Override
+            public void write(AuditEntry entry) {
+            }
+        };
+        return new AuditService(sink, Clock.systemUTC(), () -> 0L, () -> "correlation");
+    }
+
+    private static final class CountingRepository implements PlayerRepository {
+        private final ConcurrentHashMap<Username, Player> players = new ConcurrentHashMap<>();
+        private final AtomicInteger loads = new AtomicInteger();
+        private final AtomicInteger savesStarted = new AtomicInteger();
+        private volatile boolean blockSaves;
+
+        void store(Player player) {
+            players.put(player.getUsername(), player);
+        }
+
+        @Override
+        public void savePlayer(Player player) {
+            savesStarted.incrementAndGet();
+            while (blockSaves) {
+                Thread.onSpinWait();
+            }
+            players.put(player.getUsername(), player);
+        }
+
+        @Override
+        public Optional<Player> loadPlayer(Username username) {
+            loads.incrementAndGet();
+            return Optional.ofNullable(players.get(username));
+        }
+    }
+}
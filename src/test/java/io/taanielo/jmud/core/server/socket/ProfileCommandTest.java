@@ -0,0 +1,94 @@
+package io.taanielo.jmud.core.server.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.taanielo.jmud.core.diagnostics.FlightRecordingService;
+import io.taanielo.jmud.core.server.socket.WizardCommandSupport.CapturingBroadcaster;
+import io.taanielo.jmud.core.server.socket.WizardCommandSupport.CapturingContext;
+
+/**
+ * Unit tests for {@link ProfileCommand}: token matching, wizard gating, and starting, reporting and
+ * stopping a recording. Uses a synchronous executor so the recording I/O runs inline.
+ */
+class ProfileCommandTest {
+
+    private static final Executor INLINE = Runnable::run;
+
+    @TempDir
+    Path tempDir;
+
+    private FlightRecordingService service() {
+        return new FlightRecordingService(tempDir, 8L * 1024 * 1024, Duration.ofMinutes(5), Clock.systemUTC());
+    }
+
+    private ProfileCommand command(FlightRecordingService service, CapturingBroadcaster broadcaster, String... wizards) {
+        return new ProfileCommand(new SocketCommandRegistry(), WizardCommandSupport.wizardPolicy(wizards),
+            service, broadcaster, INLINE);
+    }
+
+    @Test
+    void matchesProfileToken() {
+        ProfileCommand cmd = command(service(), new CapturingBroadcaster(), "Al");
+        assertTrue(cmd.match("PROFILE").isPresent());
+        assertTrue(cmd.match("profile start 30").isPresent());
+        assertFalse(cmd.match("PROMPT").isPresent());
+    }
+
+    @Test
+    void nonWizardIsDenied() {
+        FlightRecordingService service = service();
+        CapturingBroadcaster broadcaster = new CapturingBroadcaster();
+        CapturingContext context = new CapturingContext(WizardCommandSupport.player("Bob"));
+
+        command(service, broadcaster, "Alice").match("PROFILE START").get().execute(context);
+
+        assertTrue(context.promptMessage.toLowerCase(Locale.ROOT).contains("denied"));
+        assertTrue(service.activeDestination().isEmpty(), "a denied PROFILE must not start a recording");
+        assertTrue(broadcaster.playerDeliveries.isEmpty());
+    }
+
+    @Test
+    void wizardStartsReportsAndStopsARecording() throws Exception {
+        FlightRecordingService service = service();
+        CapturingBroadcaster broadcaster = new CapturingBroadcaster();
+        CapturingContext context = new CapturingContext(WizardCommandSupport.player("Alice"));
+        ProfileCommand cmd = command(service, broadcaster, "Alice");
+
+        cmd.match("PROFILE START 30").get().execute(context);
+        Path file = service.activeDestination().orElseThrow();
+        assertEquals("Recording for 30s into " + file + ".",
+            WizardCommandSupport.text(broadcaster.playerDeliveries.getFirst()));
+
+        cmd.match("PROFILE").get().execute(context);
+        assertEquals("Recording into " + file + ".", context.promptMessage);
+
+        cmd.match("PROFILE STOP").get().execute(context);
+        assertEquals("Recording written to " + file + ".",
+            WizardCommandSupport.text(broadcaster.playerDeliveries.getLast()));
+        assertTrue(Files.exists(file));
+        assertTrue(service.activeDestination().isEmpty());
+    }
+
+    @Test
+    void rejectsBadDuration() {
+        FlightRecordingService service = service();
+        CapturingContext context = new CapturingContext(WizardCommandSupport.player("Alice"));
+
+        command(service, new CapturingBroadcaster(), "Alice").match("PROFILE START soon").get().execute(context);
+
+        assertTrue(context.promptMessage.startsWith("Usage"));
+        assertTrue(service.activeDestination().isEmpty());
+    }
+}
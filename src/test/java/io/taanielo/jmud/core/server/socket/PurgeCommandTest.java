@@ -6,12 +6,15 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.util.List;
 import java.util.Locale;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
 import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
 import io.taanielo.jmud.core.mob.MobId;
 import io.taanielo.jmud.core.mob.MobRegistry;
 import io.taanielo.jmud.core.mob.MobTemplate;
+import io.taanielo.jmud.core.persistence.PersistenceQueue;
 import io.taanielo.jmud.core.player.Player;
 import io.taanielo.jmud.core.server.socket.WizardCommandSupport.CapturingBroadcaster;
 import io.taanielo.jmud.core.server.socket.WizardCommandSupport.CapturingContext;
@@ -21,7 +24,7 @@ import io.taanielo.jmud.core.world.RoomId;
 
 /**
  * Unit tests for {@link PurgeCommand}: token matching, wizard gating, mob removal, offline-player
- * deletion, online-player refusal, and room notifications.
+ * deletion (including the player directory's cache), online-player refusal, and room notifications.
  */
 class PurgeCommandTest {
 
@@ -37,10 +40,21 @@ class PurgeCommandTest {
         return WizardCommandSupport.world(START, WizardCommandSupport.room(START, "Start Room"));
     }
 
+    private final PersistenceQueue persistenceQueue =
+        new PersistenceQueue(new RecordingPlayerRepository(), WizardCommandSupport.noOpAuditService());
+    private PlayerDirectory directory;
+
+    @AfterEach
+    void tearDown() {
+        persistenceQueue.close();
+    }
+
     private PurgeCommand command(RoomWorld world, MobRegistry registry, RecordingPlayerRepository repo,
                                  CapturingBroadcaster broadcaster, String... wizards) {
+        directory = new PlayerDirectory(
+            new PlayerSessionRegistry(), repo, persistenceQueue, Runnable::run, Runnable::run, 8);
         return new PurgeCommand(new SocketCommandRegistry(), WizardCommandSupport.wizardPolicy(wizards),
-            registry, world.roomService(), repo, broadcaster);
+            registry, world.roomService(), repo, new LeaderboardService(), directory, broadcaster);
     }
 
     @Test
@@ -98,10 +112,13 @@ class PurgeCommandTest {
         world.roomService().ensurePlayerLocation(alice.getUsername());
         CapturingContext context = new CapturingContext(alice);
 
-        command(world, registry, repo, broadcaster, "Alice")
-            .match("PURGE Ghost").get().execute(context);
+        PurgeCommand cmd = command(world, registry, repo, broadcaster, "Alice");
+        assertTrue(directory.resolveNow(Username.of("Ghost")).isPresent());
+
+        cmd.match("PURGE Ghost").get().execute(context);
 
         assertTrue(repo.deleted.contains(Username.of("Ghost")), "offline player record should be deleted");
+        assertTrue(directory.cached(Username.of("Ghost")).isEmpty(), "the purged player must leave the cache");
         assertTrue(context.promptMessage.contains("Ghost"));
     }
 
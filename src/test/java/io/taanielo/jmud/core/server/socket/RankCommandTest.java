@@ -1,5 +1,6 @@
 package io.taanielo.jmud.core.server.socket;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -12,15 +13,15 @@ import org.junit.jupiter.api.Test;
 import io.taanielo.jmud.core.authentication.Password;
 import io.taanielo.jmud.core.authentication.User;
 import io.taanielo.jmud.core.authentication.Username;
+import io.taanielo.jmud.core.character.RaceId;
 import io.taanielo.jmud.core.guild.Guild;
 import io.taanielo.jmud.core.guild.GuildId;
-import io.taanielo.jmud.core.guild.GuildRepository;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
 import io.taanielo.jmud.core.messaging.Message;
 import io.taanielo.jmud.core.player.Player;
-import io.taanielo.jmud.core.player.PlayerRepository;
+import io.taanielo.jmud.core.player.PlayerVitals;
 import io.taanielo.jmud.core.server.Client;
 import io.taanielo.jmud.core.world.Direction;
-import io.taanielo.jmud.core.world.repository.RepositoryException;
 
 /**
  * Unit tests for {@link RankCommand}, covering matching and output via
@@ -30,16 +31,14 @@ class RankCommandTest {
 
     @Test
     void matchesRankToken() {
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of()), new StubGuildRepository(List.of()));
+        RankCommand cmd = command(List.of(), List.of());
         assertTrue(cmd.match("RANK").isPresent());
         assertTrue(cmd.match("rank").isPresent());
     }
 
     @Test
     void doesNotMatchOtherTokens() {
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of()), new StubGuildRepository(List.of()));
+        RankCommand cmd = command(List.of(), List.of());
         assertFalse(cmd.match("WHO").isPresent());
         assertFalse(cmd.match("").isPresent());
     }
@@ -48,9 +47,7 @@ class RankCommandTest {
     void listsAllPersistedPlayersSortedByKills() {
         Player alice = player("alice", 10);
         Player bob = player("bob", 25);
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of(alice, bob)),
-            new StubGuildRepository(List.of()));
+        RankCommand cmd = command(List.of(alice, bob), List.of());
         CapturingContext context = new CapturingContext(alice, true);
 
         cmd.match("RANK").orElseThrow().execute(context);
@@ -65,9 +62,7 @@ class RankCommandTest {
         Player alice = duelist("alice", 4, 1);
         Player bob = duelist("bob", 9, 2);
         Player pacifist = player("pacifist", 5);
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of(alice, bob, pacifist)),
-            new StubGuildRepository(List.of()));
+        RankCommand cmd = command(List.of(alice, bob, pacifist), List.of());
         CapturingContext context = new CapturingContext(alice, true);
 
         cmd.match("RANK DUELS").orElseThrow().execute(context);
@@ -85,9 +80,7 @@ class RankCommandTest {
         Guild small = guild("Fledglings", "alice", 0);
         Guild mighty = guild("Titans", "bob", 5_000);
         Guild rising = guild("Ascendants", "carol", 2_000);
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of(alice)),
-            new StubGuildRepository(List.of(small, mighty, rising)));
+        RankCommand cmd = command(List.of(alice), List.of(small, mighty, rising));
         CapturingContext context = new CapturingContext(alice, true);
 
         cmd.match("RANK GUILDS").orElseThrow().execute(context);
@@ -102,9 +95,7 @@ class RankCommandTest {
     @Test
     void rankGuildsWithNoGuildsShowsFriendlyMessage() {
         Player alice = player("alice", 0);
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of(alice)),
-            new StubGuildRepository(List.of()));
+        RankCommand cmd = command(List.of(alice), List.of());
         CapturingContext context = new CapturingContext(alice, true);
 
         cmd.match("RANK GUILDS").orElseThrow().execute(context);
@@ -115,8 +106,7 @@ class RankCommandTest {
 
     @Test
     void unauthenticatedPlayerGetsErrorMessage() {
-        RankCommand cmd = new RankCommand(
-            new SocketCommandRegistry(), new StubPlayerRepository(List.of()), new StubGuildRepository(List.of()));
+        RankCommand cmd = command(List.of(), List.of());
         CapturingContext context = new CapturingContext(null, false);
 
         cmd.match("RANK").orElseThrow().execute(context);
@@ -125,62 +115,95 @@ class RankCommandTest {
         assertTrue(context.promptMessage != null, "Prompt error message expected");
     }
 
-    private static Player player(String username, long totalKills) {
-        User user = User.of(Username.of(username), Password.hash("pw", 1));
-        return Player.of(user, "%hp> ").withTotalKills(totalKills);
+    @Test
+    void endsWithCallersOwnRank() {
+        Player alice = player("alice", 10);
+        RankCommand cmd = command(List.of(alice, player("bob", 25), player("carol", 5)), List.of());
+        CapturingContext context = new CapturingContext(alice, true);
+
+        cmd.match("RANK").orElseThrow().execute(context);
+
+        assertEquals("Your rank: #2 of 3.", context.lines.getLast());
     }
 
-    private static Player duelist(String username, int wins, int losses) {
-        User user = User.of(Username.of(username), Password.hash("pw", 1));
-        return Player.of(user, "%hp> ").withDuelWins(wins).withDuelLosses(losses);
+    @Test
+    void rankReflectsSavesRecordedAfterSeeding() {
+        Player alice = player("alice", 10);
+        LeaderboardService leaderboards = new LeaderboardService();
+        leaderboards.seed(List.of(alice, player("bob", 25)), List.of());
+        RankCommand cmd = new RankCommand(new SocketCommandRegistry(), leaderboards);
+
+        leaderboards.recordPlayer(alice.withTotalKills(40));
+        CapturingContext context = new CapturingContext(alice, true);
+        cmd.match("RANK").orElseThrow().execute(context);
+
+        assertTrue(context.lines.get(1).contains("alice"));
+        assertTrue(context.lines.get(1).contains("40 kills"));
+        assertEquals("Your rank: #1 of 2.", context.lines.getLast());
     }
 
-    private static Guild guild(String name, String leader, int lifetimeGold) {
-        Guild founded = Guild.found(GuildId.newId(), name, Username.of(leader));
-        return lifetimeGold > 0 ? founded.depositTreasury(lifetimeGold) : founded;
+    @Test
+    void rankDuelsTellsPlayerWithoutDuelsTheyAreUnranked() {
+        Player pacifist = player("pacifist", 0);
+        RankCommand cmd = command(List.of(pacifist, duelist("bob", 1, 0)), List.of());
+        CapturingContext context = new CapturingContext(pacifist, true);
+
+        cmd.match("RANK DUELS").orElseThrow().execute(context);
+
+        assertEquals("You have no recorded duels.", context.lines.getLast());
     }
 
-    private static class StubPlayerRepository implements PlayerRepository {
-        private final List<Player> players;
+    @Test
+    void rankLevelsListsPlayersByLevel() {
+        Player alice = player("alice", 0);
+        Player bob = leveled("bob", 7);
+        RankCommand cmd = command(List.of(alice, bob), List.of());
+        CapturingContext context = new CapturingContext(alice, true);
+
+        cmd.match("RANK LEVELS").orElseThrow().execute(context);
 
-        StubPlayerRepository(List<Player> players) {
-            this.players = players;
-        }
+        assertEquals("Level ranking:", context.lines.get(0));
+        assertTrue(context.lines.get(1).contains("bob"));
+        assertEquals("Your rank: #2 of 2.", context.lines.getLast());
+    }
 
-        @Override
-        public void savePlayer(Player player) throws RepositoryException {
-        }
+    @Test
+    void rankGuildsEndsWithCallersGuildRank() {
+        Player alice = player("alice", 0);
+        RankCommand cmd = command(
+            List.of(alice), List.of(guild("Fledglings", "alice", 0), guild("Titans", "bob", 5_000)));
+        CapturingContext context = new CapturingContext(alice, true);
 
-        @Override
-        public Optional<Player> loadPlayer(Username username) {
-            return Optional.empty();
-        }
+        cmd.match("RANK GUILDS").orElseThrow().execute(context);
 
-        @Override
-        public List<Player> findAll() {
-            return players;
-        }
+        assertEquals("Your guild ranks #2 of 2.", context.lines.getLast());
     }
 
-    private static class StubGuildRepository implements GuildRepository {
-        private final List<Guild> guilds;
+    private static RankCommand command(List<Player> players, List<Guild> guilds) {
+        LeaderboardService leaderboards = new LeaderboardService();
+        leaderboards.seed(players, guilds);
+        return new RankCommand(new SocketCommandRegistry(), leaderboards);
+    }
 
-        StubGuildRepository(List<Guild> guilds) {
-            this.guilds = guilds;
-        }
+    private static Player player(String username, long totalKills) {
+        User user = User.of(Username.of(username), Password.hash("pw", 1));
+        return Player.of(user, "%hp> ").withTotalKills(totalKills);
+    }
 
-        @Override
-        public List<Guild> loadAll() {
-            return guilds;
-        }
+    private static Player leveled(String username, int level) {
+        User user = User.of(Username.of(username), Password.hash("pw", 1));
+        return new Player(user, level, 0, new PlayerVitals(20, 20, 10, 10, 10, 10), List.of(), "%hp> ", false,
+            List.of(), (RaceId) null, null);
+    }
 
-        @Override
-        public void save(Guild guild) {
-        }
+    private static Player duelist(String username, int wins, int losses) {
+        User user = User.of(Username.of(username), Password.hash("pw", 1));
+        return Player.of(user, "%hp> ").withDuelWins(wins).withDuelLosses(losses);
+    }
 
-        @Override
-        public void delete(GuildId guildId) {
-        }
+    private static Guild guild(String name, String leader, int lifetimeGold) {
+        Guild founded = Guild.found(GuildId.newId(), name, Username.of(leader));
+        return lifetimeGold > 0 ? founded.depositTreasury(lifetimeGold) : founded;
     }
 
     private static class CapturingContext implements SocketCommandContext {
@@ -6,8 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.Clock;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -137,6 +141,27 @@ class SocketCommandDispatcherTest {
         assertFalse(context.cancelAutoWalkCalled, "AUTOWALK must not cancel itself via the dispatcher hook");
     }
 
+    @Test
+    void recordsLatencyUnderResolvedCommandName() {
+        AtomicBoolean executed = new AtomicBoolean(false);
+        SocketCommandRegistry registry = new SocketCommandRegistry();
+        registry.register(new TestCommand("look", executed));
+        AuditService auditService = new AuditService(new NoOpAuditSink(), Clock.systemUTC(), () -> 0L, () -> "test");
+        CommandLatencyMetrics latencyMetrics = new CommandLatencyMetrics();
+        SocketCommandDispatcher dispatcher = new SocketCommandDispatcher(registry, auditService, latencyMetrics);
+
+        TestContext context = new TestContext(livePlayer());
+        dispatcher.dispatch(context, "look", "corr-7", TimeUnit.MILLISECONDS.toNanos(40));
+        dispatcher.dispatch(context, "dance", "corr-8", 0L);
+
+        Map<String, CommandLatencyMetrics.CommandLatency> byCommand = latencyMetrics.snapshot().stream()
+            .collect(Collectors.toMap(CommandLatencyMetrics.CommandLatency::command, latency -> latency));
+        assertEquals(Set.of("look", CommandLatencyMetrics.UNRESOLVED), byCommand.keySet());
+        assertEquals(1L, byCommand.get("look").count());
+        assertTrue(byCommand.get("look").queueWaitP99Nanos() >= TimeUnit.MILLISECONDS.toNanos(36),
+            "Queue wait should be recorded, was " + byCommand.get("look").queueWaitP99Nanos());
+    }
+
     private static Player livePlayer() {
         return new Player(
             User.of(Username.of("sparky"), Password.hash("pw", 1000)),
@@ -0,0 +1,214 @@
+package io.taanielo.jmud.core.server.socket;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaModifier;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.ability.AbilityRegistry;
+import io.taanielo.jmud.core.character.CharacterAttributesResolver;
+import io.taanielo.jmud.core.character.repository.json.JsonClassRepository;
+import io.taanielo.jmud.core.combat.ClassArmorBonusResolver;
+import io.taanielo.jmud.core.combat.EquipmentArmorResolver;
+import io.taanielo.jmud.core.combat.RaceArmorBonusResolver;
+import io.taanielo.jmud.core.combat.SetBonusResolver;
+import io.taanielo.jmud.core.diagnostics.FlightRecordingService;
+import io.taanielo.jmud.core.faction.ReputationService;
+import io.taanielo.jmud.core.faction.repository.json.JsonFactionRepository;
+import io.taanielo.jmud.core.leaderboard.LeaderboardService;
+import io.taanielo.jmud.core.messaging.TellService;
+import io.taanielo.jmud.core.persistence.PersistenceQueue;
+import io.taanielo.jmud.core.reload.ContentReloadService;
+import io.taanielo.jmud.core.server.socket.WizardCommandSupport.CapturingBroadcaster;
+import io.taanielo.jmud.core.server.socket.WizardCommandSupport.RecordingPlayerRepository;
+import io.taanielo.jmud.core.server.socket.WizardCommandSupport.RoomWorld;
+import io.taanielo.jmud.core.tick.TickMetricsService;
+import io.taanielo.jmud.core.tick.TickRegistry;
+import io.taanielo.jmud.core.tick.TickThreadDispatcher;
+import io.taanielo.jmud.core.world.RoomId;
+import io.taanielo.jmud.core.world.repository.RepositoryException;
+
+/**
+ * Unit tests for {@link SocketCommandIndex}: candidate order, unindexed commands, and that the index
+ * resolves exactly the same commands as asking every registered command in turn.
+ *
+ * <p>Each command's {@link SocketCommandHandler#firstTokens()} is written by hand next to its
+ * {@code match}; {@link #indexResolvesTheSameCommandsAsAFullScan()} is what keeps the two in step. It
+ * builds the production command set and feeds it a corpus that goes beyond the declared tokens —
+ * every prefix of every token and command name, every one- and two-letter word, punctuation-led
+ * input — so a matcher that accepts a word its command does not declare fails here rather than
+ * silently becoming unreachable.
+ */
+class SocketCommandIndexTest {
+
+    private static final Path DATA = Path.of("data");
+    private static final RoomId START = RoomId.of("start");
+    private static final List<String> ARGUMENT_SHAPES =
+        List.of("", " rat", " 'magic missile' goblin", " sword from bag", " all", " north", " 2.rat 5");
+
+    private final PersistenceQueue persistenceQueue =
+        new PersistenceQueue(new RecordingPlayerRepository(), WizardCommandSupport.noOpAuditService());
+
+    @AfterEach
+    void tearDown() {
+        persistenceQueue.close();
+    }
+
+    @Test
+    void candidatesFollowRegistrationOrderAndIncludeUnindexedCommands() {
+        SocketCommandHandler get = command("get", Set.of("GET"));
+        SocketCommandHandler catchAll = command("catch-all", Set.of());
+        SocketCommandHandler getFrom = command("get from", Set.of("GET"));
+        SocketCommandHandler look = command("look", Set.of("LOOK", "L"));
+
+        SocketCommandIndex index = new SocketCommandIndex(List.of(get, catchAll, getFrom, look));
+
+        assertEquals(List.of(get, catchAll, getFrom), index.candidates("GET"));
+        assertEquals(List.of(catchAll, look), index.candidates("L"));
+        assertEquals(List.of(catchAll), index.candidates("XYZZY"));
+    }
+
+    @Test
+    void rejectsFirstTokensThatAreNotUpperCase() {
+        SocketCommandHandler look = command("look", Set.of("look"));
+
+        assertThrows(IllegalArgumentException.class, () -> new SocketCommandIndex(List.of(look)));
+    }
+
+    @Test
+    void registeringACommandRebuildsTheIndex() {
+        SocketCommandRegistry registry = new SocketCommandRegistry();
+        registry.register(command("look", Set.of("LOOK")));
+        assertEquals(List.of(), registry.index().candidates("KILL"));
+
+        SocketCommandHandler kill = command("kill", Set.of("KILL"));
+        registry.register(kill);
+
+        assertEquals(List.of(kill), registry.index().candidates("KILL"));
+    }
+
+    @Test
+    void indexResolvesTheSameCommandsAsAFullScan() throws Exception {
+        SocketCommandRegistry registry = defaultRegistry();
+        SocketCommandIndex index = registry.index();
+        Set<String> words = new LinkedHashSet<>(List.of("xyzzy", "go", "'hello", "\"hello", ":waves", ";waves",
+            ".", ",", "!", "?", "/", "@", "#", "*", "-", "=", "+"));
+        for (char first = 'A'; first <= 'Z'; first++) {
+            words.add(String.valueOf(first));
+            for (char second = 'A'; second <= 'Z'; second++) {
+                words.add("" + first + second);
+            }
+        }
+        for (SocketCommandHandler command : registry.commands()) {
+            assertFalse(command.firstTokens().isEmpty(), command.name() + " should declare its first tokens");
+            List<String> names = new ArrayList<>(command.firstTokens());
+            names.addAll(List.of(command.name().toUpperCase(Locale.ROOT).split("\\s+", -1)));
+            for (String name : names) {
+                for (int length = 1; length <= name.length(); length++) {
+                    words.add(name.substring(0, length));
+                }
+            }
+        }
+        Set<String> inputs = new LinkedHashSet<>(List.of("", "   "));
+        for (String word : words) {
+            for (String shape : ARGUMENT_SHAPES) {
+                inputs.add(word + shape);
+                inputs.add(word.toLowerCase(Locale.ROOT) + shape);
+            }
+        }
+
+        for (String input : inputs) {
+            List<String> scanned = new ArrayList<>();
+            for (SocketCommandHandler command : registry.commands()) {
+                command.match(input).ifPresent(match -> scanned.add(match.command().name()));
+            }
+            List<String> indexed = new ArrayList<>();
+            for (SocketCommandHandler command : index.candidates(SocketCommandParsing.firstToken(input))) {
+                command.match(input).ifPresent(match -> indexed.add(match.command().name()));
+            }
+            assertEquals(scanned, indexed, "commands matching '" + input + "'");
+        }
+    }
+
+    /**
+     * Builds the production command set through {@link SocketCommandRegistry#createDefault} and checks
+     * it covers every concrete command in the package. The index only ever calls {@code firstTokens}
+     * and {@code match}, so the collaborators are the plainest real ones the other command tests use.
+     */
+    private SocketCommandRegistry defaultRegistry() throws Exception {
+        RoomWorld world = WizardCommandSupport.world(START, WizardCommandSupport.room(START, "Start Room"));
+        RecordingPlayerRepository players = new RecordingPlayerRepository();
+        TickThreadDispatcher tickThreadDispatcher = new TickThreadDispatcher(new TickRegistry());
+        SocketCommandRegistry registry = SocketCommandRegistry.createDefault(
+            EquipmentArmorResolver.noOp(), RaceArmorBonusResolver.noOp(), ClassArmorBonusResolver.noOp(),
+            CharacterAttributesResolver.baselineOnly(), SetBonusResolver.noOp(), new JsonClassRepository(DATA),
+            new AbilityRegistry(List.of()), players, new LeaderboardService(), world.roomService(),
+            new TellService(), new CapturingBroadcaster(), new ReputationService(new JsonFactionRepository(DATA)),
+            null, new TickMetricsService(), new CommandLatencyMetrics(), WizardCommandSupport.wizardPolicy(),
+            world.location(), WizardCommandSupport.mobRegistry(world.roomService(), List.of()),
+            new ShutdownHandle(), reloadService(), tickThreadDispatcher, new FlightRecordingService(),
+            new PlayerDirectory(new PlayerSessionRegistry(), players, persistenceQueue, tickThreadDispatcher, 8));
+
+        Set<String> registered = new HashSet<>();
+        for (SocketCommandHandler command : registry.commands()) {
+            registered.add(command.getClass().getName());
+        }
+        assertEquals(registered.size(), registry.commands().size(), "every command should register once");
+        for (JavaClass javaClass : new ClassFileImporter()
+            .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+            .importPackages("io.taanielo.jmud.core.server.socket")) {
+            if (javaClass.isAssignableTo(RegistrableCommand.class)
+                && !javaClass.getModifiers().contains(JavaModifier.ABSTRACT)) {
+                assertTrue(registered.contains(javaClass.getName()), javaClass.getSimpleName() + " is not registered");
+            }
+        }
+        return registry;
+    }
+
+    private static ContentReloadService reloadService() {
+        return new ContentReloadService(
+            () -> {
+                throw new RepositoryException("not reloaded in this test");
+            },
+            lookup -> {
+                throw new RepositoryException("not reloaded in this test");
+            },
+            null,
+            id -> Optional.empty());
+    }
+
+    private static SocketCommandHandler command(String name, Set<String> firstTokens) {
+        return new SocketCommandHandler() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Set<String> firstTokens() {
+                return firstTokens;
+            }
+
+            @Override
+            public Optional<SocketCommandMatch> match(String input) {
+                return Optional.empty();
+            }
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package io.taanielo.jmud.core.server.socket;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -40,14 +41,16 @@ class StatsCommandTest {
 
     @Test
     void matchesStatsToken() {
-        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), new TickMetricsService(10), wizardPolicy("Al"));
+        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), new TickMetricsService(10), new CommandLatencyMetrics(),
+            wizardPolicy("Al"));
         assertTrue(cmd.match("STATS").isPresent());
         assertTrue(cmd.match("stats").isPresent());
     }
 
     @Test
     void doesNotMatchOtherTokens() {
-        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), new TickMetricsService(10), wizardPolicy("Al"));
+        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), new TickMetricsService(10), new CommandLatencyMetrics(),
+            wizardPolicy("Al"));
         assertFalse(cmd.match("SCORE").isPresent());
         assertFalse(cmd.match("").isPresent());
     }
@@ -55,7 +58,8 @@ class StatsCommandTest {
     @Test
     void nonWizardIsDenied() {
         CapturingContext context = new CapturingContext("Bob");
-        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), serviceWithOneTick(), wizardPolicy("Alice"));
+        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), serviceWithOneTick(), new CommandLatencyMetrics(),
+            wizardPolicy("Alice"));
 
         cmd.match("STATS").get().execute(context);
 
@@ -67,7 +71,8 @@ class StatsCommandTest {
     @Test
     void wizardSeesTickHealthTable() {
         CapturingContext context = new CapturingContext("Alice");
-        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), serviceWithOneTick(), wizardPolicy("Alice"));
+        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), serviceWithOneTick(), new CommandLatencyMetrics(),
+            wizardPolicy("Alice"));
 
         cmd.match("STATS").get().execute(context);
 
@@ -77,6 +82,50 @@ class StatsCommandTest {
             "wizard should see the slowest tickable line");
     }
 
+    @Test
+    void wizardSeesCommandLatencyTable() {
+        CapturingContext context = new CapturingContext("Alice");
+        CommandLatencyMetrics latency = new CommandLatencyMetrics();
+        latency.record("look", TimeUnit.MILLISECONDS.toNanos(120), TimeUnit.MILLISECONDS.toNanos(2));
+        StatsCommand cmd = new StatsCommand(new SocketCommandRegistry(), serviceWithOneTick(), latency,
+            wizardPolicy("Alice"));
+
+        cmd.match("STATS").get().execute(context);
+
+        assertTrue(context.lines.stream().anyMatch(l -> l.contains("Command Latency")),
+            "wizard should see the command latency header");
+        assertTrue(context.lines.stream().anyMatch(l -> l.startsWith("look ")),
+            "wizard should see a row for the recorded command");
+    }
+
+    @Test
+    void formatCommandLatencyRendersPercentilesInMillis() {
+        List<String> lines = StatsCommand.formatCommandLatency(List.of(
+            new CommandLatencyMetrics.CommandLatency("kill", 42L, 1_000_000.0, 200_000_000.0, 3_000_000.0,
+                12_500_000.0)));
+
+        assertTrue(lines.stream().anyMatch(l -> l.matches("kill\\s+42\\s+1\\.0\\s+200\\.0\\s+3\\.0\\s+12\\.5")),
+            () -> "unexpected latency row in " + lines);
+    }
+
+    @Test
+    void formatCommandLatencyKeepsSlowestRows() {
+        List<CommandLatencyMetrics.CommandLatency> latencies = new ArrayList<>();
+        for (int i = 0; i < StatsCommand.MAX_LATENCY_ROWS + 5; i++) {
+            latencies.add(new CommandLatencyMetrics.CommandLatency("cmd" + i, 1L, 0.0, 0.0, 0.0, 0.0));
+        }
+
+        List<String> lines = StatsCommand.formatCommandLatency(latencies);
+
+        assertEquals(StatsCommand.MAX_LATENCY_ROWS + 2, lines.size(), () -> "unexpected rows " + lines);
+        assertFalse(lines.stream().anyMatch(l -> l.startsWith("cmd" + StatsCommand.MAX_LATENCY_ROWS + " ")));
+    }
+
+    @Test
+    void formatCommandLatencyRendersEmptyTable() {
+        assertTrue(StatsCommand.formatCommandLatency(List.of()).contains("(no commands recorded)"));
+    }
+
     @Test
     void formatRendersEmptySummary() {
         List<String> lines = StatsCommand.format(TickStatsSummary.empty());
@@ -0,0 +1,96 @@
+package io.taanielo.jmud.core.server.socket;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.zip.InflaterInputStream;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import io.taanielo.jmud.core.server.connection.OutboundMetrics;
+import io.taanielo.jmud.core.server.connection.OutboundQueueFactory;
+
+/**
+ * Negotiates MCCP2 over a loopback socket: a client that answers {@code DO COMPRESS2} receives the
+ * start sequence and then compressed output, and one that answers {@code DONT} keeps plain text.
+ */
+@Timeout(10)
+class TelnetClientConnectionTest {
+
+    private static final byte[] DO_COMPRESS2 = {(byte) 255, (byte) 253, 86};
+    private static final byte[] DONT_COMPRESS2 = {(byte) 255, (byte) 254, 86};
+
+    private ServerSocket server;
+    private Socket client;
+    private TelnetClientConnection connection;
+    private TelnetCompressionMetrics metrics;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+        client = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+        metrics = new TelnetCompressionMetrics(new SimpleMeterRegistry());
+        connection = new TelnetClientConnection(
+            server.accept(),
+            new OutboundQueueFactory(1 << 20, Duration.ofSeconds(1), OutboundMetrics.noOp()),
+            metrics);
+        connection.open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connection.close();
+        client.close();
+        server.close();
+    }
+
+    @Test
+    void acceptingClientReceivesCompressedOutput() throws IOException {
+        InputStream fromServer = client.getInputStream();
+        assertArrayEquals(TelnetCompressionStream.OFFER, fromServer.readNBytes(3));
+
+        send(DO_COMPRESS2, "look\r\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("look", connection.readLine());
+        connection.writeLine("The Town Square");
+
+        assertArrayEquals(TelnetCompressionStream.START, fromServer.readNBytes(5));
+        byte[] expected = "The Town Square\r\n".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, new InflaterInputStream(fromServer).readNBytes(expected.length));
+        assertEquals(1.0, metrics.acceptedCount(), 0.0);
+    }
+
+    @Test
+    void refusingClientKeepsPlainOutput() throws IOException {
+        InputStream fromServer = client.getInputStream();
+        assertArrayEquals(TelnetCompressionStream.OFFER, fromServer.readNBytes(3));
+
+        send(DONT_COMPRESS2, "look\r\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals("look", connection.readLine());
+        connection.writeLine("The Town Square");
+
+        byte[] expected = "The Town Square\r\n".getBytes(StandardCharsets.UTF_8);
+        assertArrayEquals(expected, fromServer.readNBytes(expected.length));
+        assertEquals(1.0, metrics.refusedCount(), 0.0);
+        assertEquals(0.0, metrics.acceptedCount(), 0.0);
+    }
+
+    private void send(byte[]... parts) throws IOException {
+        OutputStream toServer = client.getOutputStream();
+        for (byte[] part : parts) {
+            toServer.write(part);
+        }
+        toServer.flush();
+    }
+}
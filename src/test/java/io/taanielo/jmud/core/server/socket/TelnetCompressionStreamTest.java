@@ -0,0 +1,190 @@
+package io.taanielo.jmud.core.server.socket;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link TelnetCompressionStream}: output is untouched until the armed start
+ * sequence, everything after it inflates back to what was written, every flush leaves a complete
+ * batch for the client, and the session totals reach the metrics.
+ */
+class TelnetCompressionStreamTest {
+
+    private static final String ROOM =
+        "The Town Square\r\nA fountain splashes in the middle of the square.\r\nExits: north south east west\r\n";
+
+    private ByteArrayOutputStream wire;
+    private SimpleMeterRegistry registry;
+    private TelnetCompressionStream stream;
+
+    @BeforeEach
+    void setUp() {
+        wire = new ByteArrayOutputStream();
+        registry = new SimpleMeterRegistry();
+        stream = new TelnetCompressionStream(wire, "telnet-test", 6, new TelnetCompressionMetrics(registry));
+    }
+
+    @Test
+    void unarmedStreamPassesEverythingThrough() throws IOException {
+        write("hello\r\n");
+        stream.write(TelnetCompressionStream.START);
+        write(ROOM);
+        stream.flush();
+
+        assertArrayEquals(
+            concat(bytes("hello\r\n"), TelnetCompressionStream.START, bytes(ROOM)), wire.toByteArray());
+        assertFalse(stream.compressing());
+    }
+
+    @Test
+    void outputAfterTheStartSequenceInflatesBackToTheText() throws Exception {
+        stream.arm();
+        write("before\r\n");
+        stream.write(TelnetCompressionStream.START);
+        for (int i = 0; i < 20; i++) {
+            write(ROOM);
+        }
+        stream.flush();
+
+        byte[] sent = wire.toByteArray();
+        byte[] prefix = concat(bytes("before\r\n"), TelnetCompressionStream.START);
+        assertArrayEquals(prefix, Arrays.copyOf(sent, prefix.length));
+        assertEquals(ROOM.repeat(20), inflate(new Inflater(), Arrays.copyOfRange(sent, prefix.length, sent.length)));
+        assertTrue(sent.length - prefix.length < ROOM.length() * 2, "repeated output should compress");
+    }
+
+    @Test
+    void eachFlushLeavesAnInflatableBatch() throws Exception {
+        stream.arm();
+        stream.write(TelnetCompressionStream.START);
+        int start = wire.size();
+        Inflater inflater = new Inflater();
+
+        write("first batch\r\n");
+        stream.flush();
+        byte[] first = Arrays.copyOfRange(wire.toByteArray(), start, wire.size());
+        write("second batch\r\n");
+        stream.flush();
+        byte[] second = Arrays.copyOfRange(wire.toByteArray(), start + first.length, wire.size());
+
+        assertEquals("first batch\r\n", inflate(inflater, first));
+        assertEquals("second batch\r\n", inflate(inflater, second));
+    }
+
+    @Test
+    void requestedEndFinishesTheZlibStreamAndReturnsToPlainOutput() throws Exception {
+        stream.arm();
+        stream.write(TelnetCompressionStream.START);
+        int start = wire.size();
+        write("compressed\r\n");
+        stream.flush();
+
+        stream.requestEnd();
+        write("plain\r\n");
+        stream.flush();
+
+        byte[] tail = Arrays.copyOfRange(wire.toByteArray(), start, wire.size());
+        Inflater inflater = new Inflater();
+        assertEquals("compressed\r\n", inflate(inflater, tail));
+        assertTrue(inflater.finished());
+        int plainFrom = tail.length - inflater.getRemaining();
+        assertEquals("plain\r\n", new String(tail, plainFrom, tail.length - plainFrom, StandardCharsets.UTF_8));
+        assertFalse(stream.compressing());
+    }
+
+    @Test
+    void endRequestedBeforeTheStartUnitFinishesAnEmptyZlibStreamAfterIt() throws Exception {
+        // DO COMPRESS2 queues the start unit; DONT arrives before the writer reaches it.
+        stream.arm();
+        stream.requestEnd();
+        stream.write(TelnetCompressionStream.START);
+        write("plain\r\n");
+        stream.flush();
+
+        byte[] sent = wire.toByteArray();
+        assertArrayEquals(TelnetCompressionStream.START, Arrays.copyOf(sent, TelnetCompressionStream.START.length));
+        byte[] tail = Arrays.copyOfRange(sent, TelnetCompressionStream.START.length, sent.length);
+        Inflater inflater = new Inflater();
+        assertEquals("", inflate(inflater, tail));
+        assertTrue(inflater.finished());
+        int plainFrom = tail.length - inflater.getRemaining();
+        assertEquals("plain\r\n", new String(tail, plainFrom, tail.length - plainFrom, StandardCharsets.UTF_8));
+        assertFalse(stream.compressing());
+    }
+
+    @Test
+    void closeRecordsTheSessionRatioAndDeflateTime() throws IOException {
+        stream.arm();
+        stream.write(TelnetCompressionStream.START);
+        for (int i = 0; i < 50; i++) {
+            write(ROOM);
+            stream.flush();
+        }
+        TelnetCompressionStream.Stats stats = stream.stats();
+
+        stream.close();
+
+        assertEquals(50L * ROOM.length(), stats.rawBytes());
+        assertTrue(stats.ratio() > 2.0, "ratio was " + stats.ratio());
+        assertEquals(50, registry.get("jmud.telnet.mccp.deflate").timer().count());
+        assertEquals((double) stats.rawBytes(),
+            registry.get("jmud.telnet.mccp.bytes").tag("stage", "raw").counter().count(), 0.0);
+        assertEquals((double) stats.compressedBytes(),
+            registry.get("jmud.telnet.mccp.bytes").tag("stage", "compressed").counter().count(), 0.0);
+        assertEquals(stats.ratio(), registry.get("jmud.telnet.mccp.session.ratio").summary().mean(), 1e-9);
+        assertEquals(1, registry.get("jmud.telnet.mccp.session.deflate").timer().count());
+        assertThrows(IOException.class, () -> write("late\r\n"));
+    }
+
+    @Test
+    void uncompressedSessionRecordsNothing() throws IOException {
+        write(ROOM);
+        stream.flush();
+
+        stream.close();
+
+        assertEquals(0, registry.get("jmud.telnet.mccp.deflate").timer().count());
+        assertEquals(0, registry.get("jmud.telnet.mccp.session.deflate").timer().count());
+    }
+
+    private void write(String text) throws IOException {
+        stream.write(bytes(text));
+    }
+
+    private static String inflate(Inflater inflater, byte[] data) throws DataFormatException {
+        inflater.setInput(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int n;
+        while ((n = inflater.inflate(buffer)) > 0) {
+            out.write(buffer, 0, n);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}
@@ -71,6 +71,23 @@ class TelnetLineReaderTest {
         assertLine("look", result);
     }
 
+    @Test
+    void optionNegotiationsAreReportedToTheListener() throws IOException {
+        // IAC DO COMPRESS2 (255, 253, 86) split across reads, then IAC DONT ECHO (255, 254, 1).
+        List<String> options = new ArrayList<>();
+        TelnetLineReader reader = new TelnetLineReader(
+            new ChunkedInputStream(List.of(
+                new byte[] {(byte) 255, (byte) 253},
+                concat(new byte[] {86}, "lo".getBytes(StandardCharsets.UTF_8)),
+                concat(new byte[] {(byte) 255, (byte) 254, 1}, "ok\n".getBytes(StandardCharsets.UTF_8)))),
+            (command, option) -> options.add(command + ":" + option));
+
+        TelnetLineReader.Result result = reader.readLine();
+
+        assertLine("look", result);
+        assertEquals(List.of("253:86", "254:1"), options);
+    }
+
     @Test
     void iacSubnegotiationIsSkipped() throws IOException {
         // IAC SB NAWS ... IAC SE spliced mid-line.
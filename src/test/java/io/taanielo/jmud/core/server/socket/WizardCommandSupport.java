@@ -8,6 +8,9 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
+import io.taanielo.jmud.core.audit.AuditEntry;
+import io.taanielo.jmud.core.audit.AuditService;
+import io.taanielo.jmud.core.audit.AuditSink;
 import io.taanielo.jmud.core.authentication.Password;
 import io.taanielo.jmud.core.authentication.User;
 import io.taanielo.jmud.core.authentication.Username;
@@ -46,6 +49,15 @@ final class WizardCommandSupport {
         return Player.of(user, "%h/%H hp>");
     }
 
+    static AuditService noOpAuditService() {
+        AuditSink sink = new AuditSink() {
+            @Override
+            public void write(AuditEntry entry) {
+            }
+        };
+        return new AuditService(sink, java.time.Clock.systemUTC(), () -> 0L, () -> "correlation");
+    }
+
     static WizardPolicy wizardPolicy(String... names) {
         Set<Username> wizards = java.util.Arrays.stream(names).map(Username::of)
             .collect(Collectors.toUnmodifiableSet());
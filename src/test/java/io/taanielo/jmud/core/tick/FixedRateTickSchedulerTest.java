@@ -3,6 +3,8 @@ package io.taanielo.jmud.core.tick;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.AbstractExecutorService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
@@ -107,6 +109,34 @@ class FixedRateTickSchedulerTest {
         assertEquals(0, scheduler.overrunCount());
     }
 
+    @Test
+    void runsPhaseListenersAroundEveryTickable() {
+        List<String> calls = new ArrayList<>();
+        TickRegistry registry = new TickRegistry();
+        registry.register(() -> calls.add("tick-a"));
+        registry.register(() -> calls.add("tick-b"));
+        FixedRateTickScheduler scheduler = new FixedRateTickScheduler(
+            registry,
+            1000,
+            new DirectScheduledExecutorService()
+        );
+        scheduler.addPhaseListener(new TickPhaseListener() {
+            @Override
+            public void beforeTick() {
+                calls.add("before");
+            }
+
+            @Override
+            public void afterTick() {
+                calls.add("after");
+            }
+        });
+
+        scheduler.runTickForTest();
+
+        assertEquals(List.of("before", "tick-a", "tick-b", "after"), calls);
+    }
+
     /** Named tickable so metrics assertions can reference a stable simple class name. */
     private static final class NamedTickable implements Tickable {
         @Override
@@ -0,0 +1,130 @@
+package io.taanielo.jmud.core.tick;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class TimingWheelTest {
+
+    @Test
+    void firesOnTheDueTickAtEveryLevel() {
+        long[] delays = {1, 2, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 262_145, 16_777_215,
+            16_777_216, 16_777_217, 20_000_003};
+        TimingWheel<Long> wheel = new TimingWheel<>(5);
+        for (long delay : delays) {
+            wheel.schedule(delay, 5 + delay);
+        }
+        List<Long> fired = new ArrayList<>();
+        Map<Long, Long> firedOn = new HashMap<>();
+        while (wheel.size() > 0) {
+            wheel.advance(due -> {
+                fired.add(due);
+                firedOn.put(due, wheel.now());
+            });
+        }
+
+        assertEquals(delays.length, fired.size());
+        firedOn.forEach((due, tick) -> assertEquals(due, tick, "timer due on " + due));
+    }
+
+    @Test
+    void matchesPerEntryCountdownForRandomSchedules() {
+        Random random = new Random(42);
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        Map<Integer, Integer> countdowns = new HashMap<>();
+        Map<Integer, TimingWheel.Timer<Integer>> timers = new HashMap<>();
+        int nextId = 0;
+        for (int tick = 1; tick <= 20_000; tick++) {
+            for (int i = random.nextInt(4); i > 0; i--) {
+                int delay = 1 + (random.nextBoolean() ? random.nextInt(100) : random.nextInt(10_000));
+                int id = nextId++;
+                countdowns.put(id, delay);
+                timers.put(id, wheel.schedule(delay, id));
+            }
+            if (!timers.isEmpty() && random.nextInt(10) == 0) {
+                Integer victim = timers.keySet().iterator().next();
+                assertTrue(timers.remove(victim).cancel());
+                countdowns.remove(victim);
+            }
+            List<Integer> expected = new ArrayList<>();
+            countdowns.entrySet().removeIf(entry -> {
+                entry.setValue(entry.getValue() - 1);
+                if (entry.getValue() <= 0) {
+                    expected.add(entry.getKey());
+                    return true;
+                }
+                return false;
+            });
+            List<Integer> actual = new ArrayList<>();
+            wheel.advance(actual::add);
+            actual.forEach(timers::remove);
+
+            expected.sort(null);
+            actual.sort(null);
+            assertEquals(expected, actual, "expiries on tick " + tick);
+        }
+        assertEquals(countdowns.size(), wheel.size());
+    }
+
+    @Test
+    void cancelledTimerNeverFires() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<String> timer = wheel.schedule(3, "a");
+
+        assertTrue(timer.cancel());
+        assertFalse(timer.cancel());
+        assertFalse(timer.isPending());
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(10, fired::add);
+
+        assertEquals(List.of(), fired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void callbackCanCancelATimerDueOnTheSameTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        List<TimingWheel.Timer<String>> timers = new ArrayList<>();
+        timers.add(wheel.schedule(2, "first"));
+        timers.add(wheel.schedule(2, "second"));
+        List<String> fired = new ArrayList<>();
+
+        wheel.advanceTo(2, payload -> {
+            fired.add(payload);
+            timers.forEach(TimingWheel.Timer::cancel);
+        });
+
+        assertEquals(1, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void overdueTimerFiresOnTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        wheel.scheduleAt(40, "late");
+        wheel.schedule(0, "now");
+        List<String> fired = new ArrayList<>();
+
+        wheel.advance(fired::add);
+
+        assertEquals(List.of("late", "now"), fired);
+        assertEquals(101, wheel.now());
+    }
+
+    @Test
+    void emptyWheelJumpsStraightToTheTarget() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+
+        wheel.advanceTo(1_000_000_000L, _ -> { });
+
+        assertEquals(1_000_000_000L, wheel.now());
+    }
+}
@@ -47,4 +47,31 @@ class CooldownSystemTest {
         assertFalse(system.isOnCooldown("ability"));
         assertEquals(0, system.remainingTicks("ability"));
     }
+
+    @Test
+    void reRegisteringRestartsTheCooldown() {
+        CooldownSystem system = new CooldownSystem();
+        system.register("ability", 2);
+        system.tick();
+
+        system.register("ability", 3);
+        system.tick();
+        system.tick();
+
+        assertTrue(system.isOnCooldown("ability"), "the first registration's expiry no longer applies");
+        assertEquals(1, system.remainingTicks("ability"));
+        system.tick();
+        assertFalse(system.isOnCooldown("ability"));
+    }
+
+    @Test
+    void registeringNonPositiveTicksEndsTheCooldown() {
+        CooldownSystem system = new CooldownSystem();
+        system.register("ability", 5);
+
+        system.register("ability", 0);
+        system.tick();
+
+        assertFalse(system.isOnCooldown("ability"));
+    }
 }
@@ -5,9 +5,11 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -155,6 +157,68 @@ class PlayerLocationServiceTest {
         assertTrue(occupants.contains(bob));
     }
 
+    @Test
+    void occupiedRoomsDropsRoomOnceItsLastOccupantLeaves() {
+        PlayerLocationService service = buildService(Map.of(
+            ROOM_A, basicRoom(ROOM_A, Map.of()),
+            ROOM_B, basicRoom(ROOM_B, Map.of())));
+        Username alice = Username.of("Alice");
+        service.ensurePlayerLocation(alice);
+
+        service.movePlayerTo(alice, ROOM_B);
+
+        assertEquals(Set.of(ROOM_B), service.occupiedRooms());
+        assertEquals(List.of(), service.getPlayersInRoom(ROOM_A));
+
+        service.clearPlayerLocation(alice);
+
+        assertEquals(Set.of(), service.occupiedRooms());
+        assertEquals(List.of(), service.getPlayersInRoom(ROOM_B));
+    }
+
+    @Test
+    void occupancyIndexNeverDriftsFromPlayerLocations() {
+        RoomId roomC = RoomId.of("c");
+        Map<RoomId, Room> rooms = Map.of(
+            ROOM_A, basicRoom(ROOM_A, Map.of(Direction.NORTH, ROOM_B)),
+            ROOM_B, basicRoom(ROOM_B, Map.of(Direction.SOUTH, ROOM_A, Direction.EAST, roomC)),
+            roomC, basicRoom(roomC, Map.of(Direction.WEST, ROOM_B)));
+        PlayerLocationService service = buildService(rooms);
+        List<Username> players = List.of(
+            Username.of("Alice"), Username.of("Bob"), Username.of("Carol"), Username.of("Dave"));
+        List<RoomId> roomIds = List.of(ROOM_A, ROOM_B, roomC);
+        Direction[] directions = Direction.values();
+        Random random = new Random(42);
+
+        for (int step = 0; step < 2_000; step++) {
+            Username player = players.get(random.nextInt(players.size()));
+            switch (random.nextInt(6)) {
+                case 0 -> service.ensurePlayerLocation(player);
+                case 1 -> service.clearPlayerLocation(player);
+                case 2 -> service.respawnPlayer(player);
+                case 3 -> service.respawnPlayer(player, roomIds.get(random.nextInt(roomIds.size())));
+                case 4 -> service.movePlayerTo(player, roomIds.get(random.nextInt(roomIds.size())));
+                default -> service.attemptMove(player, directions[random.nextInt(directions.length)]);
+            }
+            assertIndexMatchesLocations(service, players, roomIds);
+        }
+    }
+
+    private static void assertIndexMatchesLocations(
+            PlayerLocationService service, List<Username> players, List<RoomId> roomIds) {
+        Set<RoomId> expectedOccupied = new HashSet<>();
+        for (Username player : players) {
+            Optional<RoomId> location = service.findPlayerLocation(player);
+            location.ifPresent(expectedOccupied::add);
+            for (RoomId roomId : roomIds) {
+                boolean listed = service.getPlayersInRoom(roomId).contains(player);
+                assertEquals(location.equals(Optional.of(roomId)), listed,
+                    player.getValue() + " listed in " + roomId.getValue() + " must match its tracked location");
+            }
+        }
+        assertEquals(expectedOccupied, service.occupiedRooms());
+    }
+
     // ── Movement ──────────────────────────────────────────────────────
 
     @Test
@@ -0,0 +1,166 @@
+package io.taanielo.jmud.core.world.area;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import io.taanielo.jmud.core.world.Direction;
+import io.taanielo.jmud.core.world.RoomId;
+
+/**
+ * Unit tests for {@link AreaDormancyService}: areas sleep after the idle window, stay awake while a
+ * player is within the room radius (even across an area boundary), and report how long they slept.
+ */
+class AreaDormancyServiceTest {
+
+    private final Map<RoomId, Map<Direction, RoomId>> exits = new HashMap<>();
+    private final Set<RoomId> occupied = new HashSet<>();
+
+    private void corridor(String from, Direction direction, String to) {
+        exits.computeIfAbsent(RoomId.of(from), id -> new LinkedHashMap<>()).put(direction, RoomId.of(to));
+        exits.computeIfAbsent(RoomId.of(to), id -> new LinkedHashMap<>())
+            .put(direction.opposite(), RoomId.of(from));
+    }
+
+    private static Area area(String id, String... roomIds) {
+        return new Area(
+            AreaId.of(id),
+            id,
+            List.of(roomIds).stream().map(RoomId::of).toList(),
+            List.of(),
+            List.of(id + " ART"),
+            new LevelRange(1, 5));
+    }
+
+    /** town-square - town-gate - road - forest-edge - forest-deep, split across two areas. */
+    private AreaDormancyService service(int radius, long idleTicks, SimpleMeterRegistry registry) {
+        corridor("town-square", Direction.EAST, "town-gate");
+        corridor("town-gate", Direction.EAST, "road");
+        corridor("road", Direction.EAST, "forest-edge");
+        corridor("forest-edge", Direction.EAST, "forest-deep");
+        return new AreaDormancyService(
+            List.of(area("town", "town-square", "town-gate"), area("forest", "forest-edge", "forest-deep")),
+            () -> Set.copyOf(occupied),
+            roomId -> exits.getOrDefault(roomId, Map.of()),
+            radius,
+            idleTicks,
+            registry);
+    }
+
+    @Test
+    void areaSleepsOnlyAfterTheIdleWindow() {
+        AreaDormancyService service = service(1, 3, new SimpleMeterRegistry());
+
+        service.tick();
+        service.tick();
+        assertTrue(service.isAwake(AreaId.of("forest")));
+
+        service.tick();
+        assertFalse(service.isAwake(AreaId.of("forest")));
+        assertFalse(service.isAwake(RoomId.of("forest-deep")));
+        assertTrue(service.isAwake(RoomId.of("road")), "rooms outside every area never sleep");
+    }
+
+    @Test
+    void playerWithinRadiusKeepsNeighbouringAreaAwake() {
+        AreaDormancyService service = service(2, 1, new SimpleMeterRegistry());
+        occupied.add(RoomId.of("town-gate"));
+
+        service.tick();
+
+        assertTrue(service.isAwake(AreaId.of("town")));
+        assertTrue(service.isAwake(AreaId.of("forest")), "forest-edge is two exits from town-gate");
+
+        occupied.clear();
+        occupied.add(RoomId.of("town-square"));
+        service.tick();
+
+        assertFalse(service.isAwake(AreaId.of("forest")), "forest-edge is three exits from town-square");
+    }
+
+    @Test
+    void wakeReportsHowLongTheAreaSlept() {
+        AreaDormancyService service = service(0, 1, new SimpleMeterRegistry());
+        List<Long> slept = new ArrayList<>();
+        List<Set<RoomId>> rooms = new ArrayList<>();
+        service.addWakeListener((areaId, roomIds, sleptTicks) -> {
+            if (areaId.equals(AreaId.of("forest"))) {
+                slept.add(sleptTicks);
+                rooms.add(roomIds);
+            }
+        });
+
+        service.tick();
+        for (int i = 0; i < 4; i++) {
+            service.tick();
+        }
+        occupied.add(RoomId.of("forest-deep"));
+        service.tick();
+        service.tick();
+
+        assertEquals(List.of(5L), slept, "asleep for ticks 1-5, awake again on tick 6");
+        assertEquals(Set.of(RoomId.of("forest-edge"), RoomId.of("forest-deep")), rooms.getFirst());
+    }
+
+    @Test
+    void gaugesTrackAwakeAndAsleepAreas() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AreaDormancyService service = service(0, 1, registry);
+        occupied.add(RoomId.of("town-square"));
+
+        service.tick();
+
+        assertEquals(1.0, registry.get("jmud.areas.awake").gauge().value());
+        assertEquals(1.0, registry.get("jmud.areas.asleep").gauge().value());
+        assertEquals(1.0, registry.get("jmud.area.awake").tag("area", "town").gauge().value());
+        assertEquals(0.0, registry.get("jmud.area.awake").tag("area", "forest").gauge().value());
+    }
+
+    @Test
+    void reloadForgetsTheOldMap() {
+        AreaDormancyService service = service(1, 1, new SimpleMeterRegistry());
+        occupied.add(RoomId.of("road"));
+        service.tick();
+        assertTrue(service.isAwake(AreaId.of("forest")), "forest-edge is one exit from road");
+
+        // A RELOAD moves the forest behind a new room and adds a cave area next to the road.
+        exits.clear();
+        corridor("town-square", Direction.EAST, "town-gate");
+        corridor("town-gate", Direction.EAST, "road");
+        corridor("road", Direction.EAST, "clearing");
+        corridor("clearing", Direction.EAST, "forest-edge");
+        corridor("road", Direction.DOWN, "cave-mouth");
+        service.reload(List.of(
+            area("town", "town-square", "town-gate"),
+            area("forest", "forest-edge", "forest-deep"),
+            area("cave", "cave-mouth")));
+        service.tick();
+
+        assertFalse(service.isAwake(AreaId.of("forest")), "forest-edge is now two exits from road");
+        assertTrue(service.isAwake(AreaId.of("cave")));
+        assertTrue(service.isAwake(AreaId.of("town")));
+    }
+
+    @Test
+    void reloadDropsTheGaugeOfARemovedArea() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AreaDormancyService service = service(0, 1, registry);
+
+        service.reload(List.of(area("town", "town-square", "town-gate")));
+
+        assertNull(registry.find("jmud.area.awake").tag("area", "forest").gauge());
+        assertTrue(service.isAwake(RoomId.of("forest-deep")), "rooms outside every area never sleep");
+    }
+}
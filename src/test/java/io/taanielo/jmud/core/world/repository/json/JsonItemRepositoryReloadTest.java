@@ -78,4 +78,20 @@ class JsonItemRepositoryReloadTest {
         assertTrue(repository.findById(ItemId.of("sword")).isPresent());
         assertTrue(repository.findById(ItemId.of("shield")).isEmpty());
     }
+
+    @Test
+    void committedSnapshotAnswersMissesWithoutReadingDisk() throws Exception {
+        Path dataRoot = tempDir.resolve("data");
+        JsonItemRepository repository = new JsonItemRepository(dataRoot);
+        repository.save(sword(10));
+        repository.prepareItems().commit();
+
+        // A file that appears after the snapshot is only picked up by the next reload.
+        new JsonItemRepository(dataRoot).save(
+            Item.builder(ItemId.of("shield"), "Shield", "A shield.", ItemAttributes.empty()).weight(6).value(15).build());
+
+        assertTrue(repository.findById(ItemId.of("shield")).isEmpty());
+        repository.prepareItems().commit();
+        assertTrue(repository.findById(ItemId.of("shield")).isPresent());
+    }
 }